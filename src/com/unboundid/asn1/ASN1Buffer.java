@@ -41,7 +41,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -165,6 +167,28 @@ public final class ASN1Buffer
 
 
 
+  /**
+   * Creates a new instance of this ASN.1 buffer that will write its data into
+   * the provided byte string buffer, which may have been obtained from a
+   * {@link com.unboundid.util.ByteStringBufferPool}.  No maximum retained size
+   * will be enforced when this buffer is cleared, since it is expected that
+   * the caller will manage the size of the provided buffer.
+   *
+   * @param  buffer  The byte string buffer into which the data will be
+   *                 written.  It must not be {@code null}, it should be empty,
+   *                 and it must not be accessed by anything else while this
+   *                 ASN.1 buffer is in use.
+   */
+  public ASN1Buffer(@NotNull final ByteStringBuffer buffer)
+  {
+    this.buffer = buffer;
+
+    maxBufferSize     = 0;
+    zeroBufferOnClear = new AtomicBoolean(false);
+  }
+
+
+
   /**
    * Indicates whether the content of the buffer should be zeroed out the next
    * time it is cleared in order to wipe any sensitive information it may
@@ -1035,6 +1059,74 @@ public final class ASN1Buffer
 
 
 
+  /**
+   * Writes the contents of this buffer into the provided byte buffer, which
+   * may be either a heap buffer or a direct buffer.  The data will be written
+   * starting at the byte buffer's current position, and the position will be
+   * advanced past the end of the data that was written.  The byte buffer's
+   * limit will not be altered.
+   *
+   * @param  byteBuffer  The byte buffer to which the data should be written.
+   *                     It must not be {@code null}.
+   *
+   * @throws  BufferOverflowException  If the provided byte buffer does not
+   *                                   have enough space between its position
+   *                                   and its limit to hold the contents of
+   *                                   this buffer.  In that case, the byte
+   *                                   buffer will not have been altered.
+   */
+  public void writeTo(@NotNull final ByteBuffer byteBuffer)
+         throws BufferOverflowException
+  {
+    if (byteBuffer.remaining() < buffer.length())
+    {
+      throw new BufferOverflowException();
+    }
+
+    if (Debug.debugEnabled(DebugType.ASN1))
+    {
+      Debug.debugASN1Write(this);
+    }
+
+    byteBuffer.put(buffer.getBackingArray(), 0, buffer.length());
+  }
+
+
+
+  /**
+   * Writes the contents of this buffer to the provided channel.  This method
+   * will not return until all of the data has been written.
+   *
+   * @param  channel  The channel to which the data should be written.  It
+   *                  must not be {@code null}, and if it is a selectable
+   *                  channel, then it must be in blocking mode.
+   *
+   * @throws  IOException  If a problem occurs while writing to the provided
+   *                       channel.
+   *
+   * @throws  IllegalArgumentException  If the provided channel is a selectable
+   *                                    channel in non-blocking mode.
+   */
+  public void writeTo(@NotNull final WritableByteChannel channel)
+         throws IOException
+  {
+    ASN1Writer.ensureBlocking(channel);
+
+    if (Debug.debugEnabled(DebugType.ASN1))
+    {
+      Debug.debugASN1Write(this);
+    }
+
+    final ByteBuffer byteBuffer =
+         ByteBuffer.wrap(buffer.getBackingArray(), 0, buffer.length());
+    while (byteBuffer.hasRemaining())
+    {
+      channel.write(byteBuffer);
+    }
+  }
+
+
+
   /**
    * Retrieves a byte array containing the contents of this ASN.1 buffer.
    *
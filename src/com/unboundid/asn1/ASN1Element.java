@@ -41,6 +41,7 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.unboundid.util.ByteStringBuffer;
@@ -603,6 +604,77 @@ public class ASN1Element
 
 
 
+  /**
+   * Decodes a single ASN.1 element from the provided byte buffer, which may be
+   * either a heap buffer or a direct buffer.  The element will be read
+   * starting at the buffer's current position, and if the element is decoded
+   * successfully, then the position will be advanced past the end of it.  Any
+   * data after the end of the element will be left in the buffer.  If the
+   * element cannot be decoded, then the buffer's position will not be altered.
+   *
+   * @param  buffer  The buffer containing the data to decode.  It must not be
+   *                 {@code null}.
+   *
+   * @return  The decoded ASN.1 BER element.
+   *
+   * @throws  ASN1Exception  If the data at the buffer's current position does
+   *                         not represent a complete, valid ASN.1 element.
+   */
+  @NotNull()
+  public static ASN1Element decode(@NotNull final ByteBuffer buffer)
+         throws ASN1Exception
+  {
+    final int startPos = buffer.position();
+
+    try
+    {
+      final byte type = buffer.get();
+      int length = (buffer.get() & 0xFF);
+      if ((length & 0x80) != 0)
+      {
+        final int numLengthBytes = (length & 0x7F);
+        if ((numLengthBytes < 1) || (numLengthBytes > 4))
+        {
+          throw new ASN1Exception(
+               ERR_ELEMENT_BUFFER_INVALID_NUM_LENGTH_BYTES.get(
+                    numLengthBytes));
+        }
+
+        length = 0;
+        for (int i=0; i < numLengthBytes; i++)
+        {
+          length <<= 8;
+          length |= (buffer.get() & 0xFF);
+        }
+      }
+
+      if ((length < 0) || (length > buffer.remaining()))
+      {
+        throw new ASN1Exception(ERR_ELEMENT_BUFFER_LENGTH_EXCEEDS_AVAILABLE.get(
+             length, buffer.remaining()));
+      }
+
+      final byte[] value = new byte[length];
+      buffer.get(value);
+      return new ASN1Element(type, value);
+    }
+    catch (final ASN1Exception ae)
+    {
+      Debug.debugException(ae);
+      buffer.position(startPos);
+      throw ae;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      buffer.position(startPos);
+      throw new ASN1Exception(ERR_ELEMENT_BUFFER_DECODE_EXCEPTION.get(
+           StaticUtils.getExceptionMessage(e)), e);
+    }
+  }
+
+
+
   /**
    * Decodes this ASN.1 element as a bit string element.
    *
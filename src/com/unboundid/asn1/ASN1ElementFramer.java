@@ -0,0 +1,321 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.asn1.ASN1Messages.*;
+
+
+
+/**
+ * This class provides a mechanism for splitting data read from a non-blocking
+ * channel into complete BER elements.  Data is read into a buffer, and
+ * {@link #nextElement} is used to identify each complete element that it
+ * contains.  Any data left over at the end of the buffer (which will be the
+ * beginning of an element that has not yet been fully received) may be
+ * retained in this framer with the {@link #append} method, and the combined
+ * data may later be accessed with the {@link #getBufferedData} method.  This
+ * class is intended for use by the NIO-based components of the LDAP SDK, and
+ * must not be used outside of the LDAP SDK.
+ */
+@InternalUseOnly()
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+public final class ASN1ElementFramer
+{
+  /**
+   * The minimum size in bytes of the array used to hold buffered data.
+   */
+  private static final int MIN_BUFFER_SIZE = 512;
+
+
+
+  // Buffered data that does not yet comprise a complete element.
+  @Nullable private byte[] data;
+
+  // The number of bytes of data held in the buffer.
+  private int dataLength;
+
+  // The maximum size in bytes of an element value.
+  private final int maxElementSize;
+
+
+
+  /**
+   * Creates a new ASN.1 element framer with the provided maximum element size.
+   *
+   * @param  maxElementSize  The maximum size in bytes of the value of any
+   *                         element that may be framed.  A value less than or
+   *                         equal to zero will be interpreted as
+   *                         {@code Integer.MAX_VALUE}.
+   */
+  public ASN1ElementFramer(final int maxElementSize)
+  {
+    if (maxElementSize > 0)
+    {
+      this.maxElementSize = maxElementSize;
+    }
+    else
+    {
+      this.maxElementSize = Integer.MAX_VALUE;
+    }
+
+    data = null;
+    dataLength = 0;
+  }
+
+
+
+  /**
+   * Retrieves the number of bytes of data currently held in this framer.
+   *
+   * @return  The number of bytes of data currently held in this framer.
+   */
+  public int getBufferedLength()
+  {
+    return dataLength;
+  }
+
+
+
+  /**
+   * Appends the remaining contents of the provided buffer to the data held in
+   * this framer.  The buffer's position will be advanced to its limit.
+   *
+   * @param  buffer  The buffer containing the data to append.  It must not be
+   *                 {@code null}.
+   */
+  public void append(@NotNull final ByteBuffer buffer)
+  {
+    final int length = buffer.remaining();
+    if (length == 0)
+    {
+      return;
+    }
+
+    final int requiredSize = dataLength + length;
+    if (data == null)
+    {
+      data = new byte[Math.max(requiredSize, MIN_BUFFER_SIZE)];
+    }
+    else if (data.length < requiredSize)
+    {
+      data = Arrays.copyOf(data, Math.max(requiredSize, (data.length << 1)));
+    }
+
+    buffer.get(data, dataLength, length);
+    dataLength = requiredSize;
+  }
+
+
+
+  /**
+   * Retrieves a buffer that may be used to access the data held in this
+   * framer.  The buffer will be positioned at the start of the data, and its
+   * limit will be at the end of the data.  Once the caller has consumed as many
+   * complete elements from the buffer as it can, it must call the
+   * {@link #compact} method with the buffer's position to discard them.
+   *
+   * @return  A buffer that may be used to access the data held in this framer.
+   */
+  @NotNull()
+  public ByteBuffer getBufferedData()
+  {
+    if (data == null)
+    {
+      return ByteBuffer.allocate(0);
+    }
+
+    return ByteBuffer.wrap(data, 0, dataLength);
+  }
+
+
+
+  /**
+   * Discards the specified number of bytes from the beginning of the data held
+   * in this framer.  The buffer used to hold the data will be released if no
+   * data remains, so that idle connections do not hold on to it.
+   *
+   * @param  numBytes  The number of bytes to discard.
+   */
+  public void compact(final int numBytes)
+  {
+    if (numBytes >= dataLength)
+    {
+      clear();
+    }
+    else if (numBytes > 0)
+    {
+      dataLength -= numBytes;
+      data = Arrays.copyOfRange(data, numBytes,
+           numBytes + Math.max(dataLength, MIN_BUFFER_SIZE));
+    }
+  }
+
+
+
+  /**
+   * Discards all data held in this framer.
+   */
+  public void clear()
+  {
+    data = null;
+    dataLength = 0;
+  }
+
+
+
+  /**
+   * Retrieves the next complete element from the provided buffer, if one is
+   * available.  If so, then the buffer's position will be advanced past it.
+   * Otherwise, the buffer's position will not be altered.
+   *
+   * @param  buffer  The buffer containing the encoded data, starting at its
+   *                 current position.  It may be either a heap buffer or a
+   *                 direct buffer, and it must not be {@code null}.
+   *
+   * @return  A buffer containing the complete element, which shares its
+   *          content with the provided buffer, or {@code null} if the provided
+   *          buffer does not hold a complete element.
+   *
+   * @throws  ASN1Exception  If the element has an invalid or unsupported
+   *                         length, or if its value is larger than the maximum
+   *                         allowed element size.
+   */
+  @Nullable()
+  public ByteBuffer nextElement(@NotNull final ByteBuffer buffer)
+         throws ASN1Exception
+  {
+    final int length = getElementLength(buffer, maxElementSize);
+    if (length < 0)
+    {
+      return null;
+    }
+
+    final int pos = buffer.position();
+    final ByteBuffer element = buffer.duplicate();
+    element.limit(pos + length);
+    buffer.position(pos + length);
+    return element;
+  }
+
+
+
+  /**
+   * Determines the total length (including the type and length bytes) of the
+   * BER element that starts at the current position in the provided buffer.
+   * The buffer's position will not be altered.
+   *
+   * @param  buffer          The buffer containing the encoded element.
+   * @param  maxElementSize  The maximum size in bytes of the element value.
+   *
+   * @return  The total length of the element, or -1 if not enough data is
+   *          available to determine the length or to hold the complete
+   *          element.
+   *
+   * @throws  ASN1Exception  If the element has an invalid or unsupported
+   *                         length, or if its value is larger than the maximum
+   *                         allowed element size.
+   */
+  static int getElementLength(@NotNull final ByteBuffer buffer,
+                              final int maxElementSize)
+         throws ASN1Exception
+  {
+    final int offset = buffer.position();
+    final int length = buffer.remaining();
+    if (length < 2)
+    {
+      return -1;
+    }
+
+    final int firstLengthByte = (buffer.get(offset+1) & 0xFF);
+    final int headerLength;
+    final long valueLength;
+    if ((firstLengthByte & 0x80) == 0x00)
+    {
+      headerLength = 2;
+      valueLength = firstLengthByte;
+    }
+    else
+    {
+      final int numLengthBytes = (firstLengthByte & 0x7F);
+      if ((numLengthBytes < 1) || (numLengthBytes > 4))
+      {
+        throw new ASN1Exception(ERR_READ_LENGTH_TOO_LONG.get(numLengthBytes));
+      }
+
+      headerLength = 2 + numLengthBytes;
+      if (length < headerLength)
+      {
+        return -1;
+      }
+
+      long l = 0L;
+      for (int i=0; i < numLengthBytes; i++)
+      {
+        l = (l << 8) | (buffer.get(offset+2+i) & 0xFF);
+      }
+      valueLength = l;
+    }
+
+    final int maxValueLength =
+         Math.min(maxElementSize, (Integer.MAX_VALUE - headerLength));
+    if (valueLength > maxValueLength)
+    {
+      throw new ASN1Exception(
+           ERR_READ_LENGTH_EXCEEDS_MAX.get(valueLength, maxValueLength));
+    }
+
+    final int totalLength = (int) (headerLength + valueLength);
+    if (totalLength > length)
+    {
+      return -1;
+    }
+
+    return totalLength;
+  }
+}
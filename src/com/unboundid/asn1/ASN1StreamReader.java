@@ -44,10 +44,12 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.logging.Level;
 import javax.security.sasl.SaslClient;
 
+import com.unboundid.util.ByteBufferInputStream;
 import com.unboundid.util.Debug;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -118,6 +120,46 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * Creates a new ASN.1 stream reader that will read data from the provided
+   * byte buffer, which may be either a heap buffer or a direct buffer.  Data
+   * will be read starting at the buffer's current position, and the position
+   * will be advanced as elements are read, up to the buffer's limit.  It will
+   * use a maximum element size of {@code Integer.MAX_VALUE}.
+   *
+   * @param  buffer  The buffer from which data should be read.  It must not be
+   *                 {@code null}, and it must not be accessed by anything else
+   *                 while this reader is in use.
+   */
+  public ASN1StreamReader(@NotNull final ByteBuffer buffer)
+  {
+    this(buffer, Integer.MAX_VALUE);
+  }
+
+
+
+  /**
+   * Creates a new ASN.1 stream reader that will read data from the provided
+   * byte buffer, which may be either a heap buffer or a direct buffer.  Data
+   * will be read starting at the buffer's current position, and the position
+   * will be advanced as elements are read, up to the buffer's limit.
+   *
+   * @param  buffer          The buffer from which data should be read.  It
+   *                         must not be {@code null}, and it must not be
+   *                         accessed by anything else while this reader is in
+   *                         use.
+   * @param  maxElementSize  The maximum size in bytes of an ASN.1 element that
+   *                         may be read.  A value less than or equal to zero
+   *                         will be interpreted as {@code Integer.MAX_VALUE}.
+   */
+  public ASN1StreamReader(@NotNull final ByteBuffer buffer,
+                          final int maxElementSize)
+  {
+    this(new ByteBufferInputStream(buffer), maxElementSize);
+  }
+
+
+
   /**
    * Creates a new ASN.1 stream reader that will read data from the provided
    * input stream.  It will use a maximum element size of
@@ -41,13 +41,18 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 
 import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.ByteStringBufferPool;
 import com.unboundid.util.Debug;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
+import static com.unboundid.asn1.ASN1Messages.*;
+
 
 
 /**
@@ -58,17 +63,11 @@ import com.unboundid.util.ThreadSafetyLevel;
 public final class ASN1Writer
 {
   /**
-   * The thread-local buffers that will be used for encoding the elements.
+   * The pool from which to obtain the buffers that will be used for encoding
+   * the elements.
    */
-  @NotNull private static final ThreadLocal<ByteStringBuffer> BUFFERS =
-       new ThreadLocal<>();
-
-
-
-  /**
-   * The maximum amount of memory that will be used for a thread-local buffer.
-   */
-  private static final int MAX_BUFFER_LENGTH = 524_288;
+  @NotNull private static final ByteStringBufferPool BUFFERS =
+       ByteStringBufferPool.getDefaultInstance();
 
 
 
@@ -98,26 +97,81 @@ public final class ASN1Writer
   {
     Debug.debugASN1Write(element);
 
-    ByteStringBuffer buffer = BUFFERS.get();
-    if (buffer == null)
+    final ByteStringBuffer buffer = BUFFERS.acquire();
+    try
     {
-      buffer = new ByteStringBuffer();
-      BUFFERS.set(buffer);
+      element.encodeTo(buffer);
+      buffer.write(outputStream);
+    }
+    finally
+    {
+      BUFFERS.release(buffer);
     }
+  }
+
 
-    element.encodeTo(buffer);
 
+  /**
+   * Writes an encoded representation of the provided ASN.1 element to the
+   * given channel.  This method will not return until the entire encoded
+   * element has been written.
+   *
+   * @param  element  The ASN.1 element to be written.
+   * @param  channel  The channel to which the encoded representation of the
+   *                  element should be written.  If it is a selectable
+   *                  channel, then it must be in blocking mode.
+   *
+   * @throws  IOException  If a problem occurs while writing the element.
+   *
+   * @throws  IllegalArgumentException  If the provided channel is a selectable
+   *                                    channel in non-blocking mode.
+   */
+  public static void writeElement(@NotNull final ASN1Element element,
+                                  @NotNull final WritableByteChannel channel)
+         throws IOException
+  {
+    ensureBlocking(channel);
+    Debug.debugASN1Write(element);
+
+    final ByteStringBuffer buffer = BUFFERS.acquire();
     try
     {
-      buffer.write(outputStream);
+      element.encodeTo(buffer);
+
+      final ByteBuffer byteBuffer =
+           ByteBuffer.wrap(buffer.getBackingArray(), 0, buffer.length());
+      while (byteBuffer.hasRemaining())
+      {
+        channel.write(byteBuffer);
+      }
     }
     finally
     {
-      if (buffer.capacity() > MAX_BUFFER_LENGTH)
-      {
-        buffer.setCapacity(MAX_BUFFER_LENGTH);
-      }
-      buffer.clear();
+      BUFFERS.release(buffer);
+    }
+  }
+
+
+
+  /**
+   * Ensures that the provided channel is not a selectable channel configured
+   * in non-blocking mode.  Writing to such a channel could return without
+   * writing any data, and repeatedly attempting the write would consume CPU
+   * without making progress until the channel is able to accept more data.
+   *
+   * @param  channel  The channel to examine.
+   *
+   * @throws  IllegalArgumentException  If the provided channel is a selectable
+   *                                    channel in non-blocking mode.
+   */
+  static void ensureBlocking(@NotNull final WritableByteChannel channel)
+         throws IllegalArgumentException
+  {
+    if ((channel instanceof SelectableChannel) &&
+        (! ((SelectableChannel) channel).isBlocking()))
+    {
+      throw new IllegalArgumentException(
+           ERR_WRITER_CHANNEL_NOT_BLOCKING.get());
     }
   }
 
@@ -141,17 +195,10 @@ public final class ASN1Writer
   {
     Debug.debugASN1Write(element);
 
-    ByteStringBuffer b = BUFFERS.get();
-    if (b == null)
-    {
-      b = new ByteStringBuffer();
-      BUFFERS.set(b);
-    }
-
-    element.encodeTo(b);
-
+    final ByteStringBuffer b = BUFFERS.acquire();
     try
     {
+      element.encodeTo(b);
       if (buffer.remaining() < b.length())
       {
         throw new BufferOverflowException();
@@ -164,11 +211,7 @@ public final class ASN1Writer
     }
     finally
     {
-      if (b.capacity() > MAX_BUFFER_LENGTH)
-      {
-        b.setCapacity(MAX_BUFFER_LENGTH);
-      }
-      b.clear();
+      BUFFERS.release(b);
     }
   }
 }
@@ -1173,6 +1173,30 @@ public final class InMemoryDirectoryServer
 
 
 
+  /**
+   * Retrieves a message describing the reason that changes cannot currently be
+   * persisted, if the server is configured with a persistence directory and a
+   * problem has been encountered while writing to it.  While this is the case,
+   * all add, delete, modify, and modify DN operations will be rejected.  Each
+   * call to this method will make another attempt to persist the complete
+   * content of the server, so it may be used to determine whether the problem
+   * has been resolved.
+   * <BR><BR>
+   * This method may be used regardless of whether the server is listening for
+   * client connections.
+   *
+   * @return  A message describing the reason that changes cannot currently be
+   *          persisted, or {@code null} if the server does not use a
+   *          persistence directory or if all changes have been persisted.
+   */
+  @Nullable()
+  public String getPersistenceFailureMessage()
+  {
+    return inMemoryHandler.getPersistenceFailureMessage();
+  }
+
+
+
   /**
    * Retrieves the number of entries currently held in the server whose DN
    * matches or is subordinate to the provided base DN.
@@ -2636,7 +2660,7 @@ public final class InMemoryDirectoryServer
               searchRequest.getSizeLimit(), searchRequest.getTimeLimitSeconds(),
               searchRequest.typesOnly(), searchRequest.getFilter(),
               searchRequest.getAttributeList()),
-         requestControlList, entryList, referenceList);
+         requestControlList, entryList, referenceList, false);
 
 
     final List<SearchResultEntry> returnEntryList;
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class defines the API for a data structure that may be used to maintain
+ * an index for a specified attribute in the in-memory directory server.  All
+ * index implementations must be threadsafe.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+abstract class InMemoryDirectoryServerAttributeIndex
+{
+  // The attribute type with which this index is associated.
+  @NotNull private final AttributeTypeDefinition attributeType;
+
+  // The schema for the server.
+  @NotNull private final Schema schema;
+
+
+
+  /**
+   * Creates a new attribute index for the specified attribute type.
+   *
+   * @param  attributeType               The name or OID of the attribute type
+   *                                     with which this index is associated.
+   *                                     It must be defined in the schema.
+   * @param  schema                      The schema for the server.  It must
+   *                                     not be {@code null}.
+   * @param  noSchemaMessage             The message to use for the exception
+   *                                     thrown if no schema is available.
+   * @param  undefinedAttributeMessage   The message to use for the exception
+   *                                     thrown if the attribute type is not
+   *                                     defined in the schema.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerAttributeIndex(@NotNull final String attributeType,
+       @Nullable final Schema schema,
+       @NotNull final ListenerMessages noSchemaMessage,
+       @NotNull final ListenerMessages undefinedAttributeMessage)
+       throws LDAPException
+  {
+    if (schema == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           noSchemaMessage.get(attributeType));
+    }
+    this.schema = schema;
+
+    this.attributeType = schema.getAttributeType(attributeType);
+    if (this.attributeType == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           undefinedAttributeMessage.get(attributeType));
+    }
+  }
+
+
+
+  /**
+   * Retrieves the attribute type definition for this index.
+   *
+   * @return  The attribute type definition for this index.
+   */
+  @NotNull()
+  final AttributeTypeDefinition getAttributeType()
+  {
+    return attributeType;
+  }
+
+
+
+  /**
+   * Retrieves the schema for the server.
+   *
+   * @return  The schema for the server.
+   */
+  @NotNull()
+  final Schema getSchema()
+  {
+    return schema;
+  }
+
+
+
+  /**
+   * Retrieves the attribute from the provided entry that corresponds to the
+   * attribute type for this index.
+   *
+   * @param  entry  The entry from which to retrieve the attribute.
+   *
+   * @return  The attribute from the provided entry that corresponds to the
+   *          attribute type for this index, or {@code null} if the entry does
+   *          not have that attribute.
+   */
+  @Nullable()
+  final Attribute getAttribute(@NotNull final Entry entry)
+  {
+    return entry.getAttribute(attributeType.getNameOrOID(), schema);
+  }
+
+
+
+  /**
+   * Clears all index data for the associated attribute.
+   */
+  abstract void clear();
+
+
+
+  /**
+   * Performs the necessary processing for adding the given entry.
+   *
+   * @param  entry  The entry to be added.
+   *
+   * @throws  LDAPException  If a problem is encountered (e.g., the entry has
+   *                         one or more values that are not acceptable for the
+   *                         associated attribute type).
+   */
+  abstract void processAdd(@NotNull Entry entry)
+           throws LDAPException;
+
+
+
+  /**
+   * Performs the necessary processing for deleting the given entry.
+   *
+   * @param  entry  The entry to be deleted.
+   *
+   * @throws  LDAPException  If a problem is encountered (e.g., the entry has
+   *                         one or more values that are not acceptable for the
+   *                         associated attribute type).
+   */
+  abstract void processDelete(@NotNull Entry entry)
+           throws LDAPException;
+}
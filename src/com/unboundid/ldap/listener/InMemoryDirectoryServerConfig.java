@@ -37,6 +37,7 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -137,6 +138,13 @@ public class InMemoryDirectoryServerConfig
   // the requests.
   private boolean includeRequestProcessingInCodeLog;
 
+  // Indicates whether the server should create incremental snapshots that
+  // share data with the server rather than copying all of its entries.
+  private boolean useIncrementalSnapshots;
+
+  // The directory in which the server should persist its data, if any.
+  @Nullable private File persistenceDirectory;
+
   // The base DNs to use for the LDAP listener.
   @NotNull private DN[] baseDNs;
 
@@ -198,6 +206,16 @@ public class InMemoryDirectoryServerConfig
   // The names or OIDs of the attributes for which to maintain equality indexes.
   @NotNull private final List<String> equalityIndexAttributes;
 
+  // The names or OIDs of the attributes for which to maintain ordering indexes.
+  @NotNull private final List<String> orderingIndexAttributes;
+
+  // The names or OIDs of the attributes for which to maintain presence indexes.
+  @NotNull private final List<String> presenceIndexAttributes;
+
+  // The names or OIDs of the attributes for which to maintain substring
+  // indexes.
+  @NotNull private final List<String> substringIndexAttributes;
+
   // A set of additional credentials that can be used for binding without
   // requiring a corresponding entry in the data set.
   @NotNull private final Map<DN,byte[]> additionalBindCredentials;
@@ -284,11 +302,16 @@ public class InMemoryDirectoryServerConfig
     enforceSingleStructuralObjectClass   = true;
     generateOperationalAttributes        = true;
     maxChangeLogEntries                  = 0;
+    useIncrementalSnapshots              = false;
+    persistenceDirectory                 = null;
     maxConnections                       = 0;
     maxSizeLimit                         = 0;
     exceptionHandler                     = null;
     customRootDSEAttributes              = Collections.emptyList();
     equalityIndexAttributes              = new ArrayList<>(10);
+    orderingIndexAttributes              = new ArrayList<>(10);
+    presenceIndexAttributes              = new ArrayList<>(10);
+    substringIndexAttributes             = new ArrayList<>(10);
     rootDSEEntry                         = null;
     schema                               = Schema.getDefaultStandardSchema();
     allowedOperationTypes                = EnumSet.allOf(OperationType.class);
@@ -355,6 +378,9 @@ public class InMemoryDirectoryServerConfig
          cfg.authenticationRequiredOperationTypes);
 
     equalityIndexAttributes = new ArrayList<>(cfg.equalityIndexAttributes);
+    orderingIndexAttributes = new ArrayList<>(cfg.orderingIndexAttributes);
+    presenceIndexAttributes = new ArrayList<>(cfg.presenceIndexAttributes);
+    substringIndexAttributes = new ArrayList<>(cfg.substringIndexAttributes);
 
     enforceAttributeSyntaxCompliance   = cfg.enforceAttributeSyntaxCompliance;
     enforceSingleStructuralObjectClass = cfg.enforceSingleStructuralObjectClass;
@@ -363,6 +389,8 @@ public class InMemoryDirectoryServerConfig
     jsonAccessLogHandler               = cfg.jsonAccessLogHandler;
     ldapDebugLogHandler                = cfg.ldapDebugLogHandler;
     maxChangeLogEntries                = cfg.maxChangeLogEntries;
+    useIncrementalSnapshots            = cfg.useIncrementalSnapshots;
+    persistenceDirectory               = cfg.persistenceDirectory;
     maxConnections                     = cfg.maxConnections;
     maxSizeLimit                       = cfg.maxSizeLimit;
     exceptionHandler                   = cfg.exceptionHandler;
@@ -1183,6 +1211,89 @@ public class InMemoryDirectoryServerConfig
 
 
 
+  /**
+   * Indicates whether the server should create incremental snapshots.  An
+   * incremental snapshot does not copy the entries held in the server when it
+   * is created.  Instead, the server keeps track of the original versions of
+   * any entries that are changed after the snapshot was created, and restoring
+   * the snapshot only needs to revert those entries.  This can make creating
+   * and restoring snapshots much faster for servers with a large number of
+   * entries, at the cost of retaining the original versions of changed entries
+   * for as long as the snapshot is in use.
+   *
+   * @return  {@code true} if the server should create incremental snapshots,
+   *          or {@code false} if each snapshot should hold a complete copy of
+   *          the entries in the server.
+   */
+  public boolean useIncrementalSnapshots()
+  {
+    return useIncrementalSnapshots;
+  }
+
+
+
+  /**
+   * Specifies whether the server should create incremental snapshots.  An
+   * incremental snapshot does not copy the entries held in the server when it
+   * is created.  Instead, the server keeps track of the original versions of
+   * any entries that are changed after the snapshot was created, and restoring
+   * the snapshot only needs to revert those entries.
+   *
+   * @param  useIncrementalSnapshots  Indicates whether the server should create
+   *                                  incremental snapshots.
+   */
+  public void setUseIncrementalSnapshots(final boolean useIncrementalSnapshots)
+  {
+    this.useIncrementalSnapshots = useIncrementalSnapshots;
+  }
+
+
+
+  /**
+   * Retrieves the directory in which the server should persist its data, if
+   * any.  If a persistence directory is configured, then the server will
+   * record every change in an append-only log in that directory, and will
+   * periodically write a compact binary snapshot of its complete data set that
+   * allows the log to be discarded.  When a server is created with a
+   * persistence directory that already holds data, it will be initially
+   * populated from that data, which is much faster than importing the same
+   * content from LDIF because the entries do not need to be parsed or
+   * validated against the schema.
+   *
+   * @return  The directory in which the server should persist its data, or
+   *          {@code null} if the server should only hold its data in memory.
+   */
+  @Nullable()
+  public File getPersistenceDirectory()
+  {
+    return persistenceDirectory;
+  }
+
+
+
+  /**
+   * Specifies the directory in which the server should persist its data.  If
+   * the directory does not exist, then it will be created when the server is
+   * created.  A persistence directory must not be used by more than one server
+   * instance at the same time.
+   * <BR><BR>
+   * Changes are written to the log as they are processed, so they will survive
+   * the termination of the JVM, but the log is not explicitly synchronized to
+   * disk after each change and recently-processed changes could be lost in the
+   * event of an operating system crash or power failure.
+   *
+   * @param  persistenceDirectory  The directory in which the server should
+   *                               persist its data.  It may be {@code null} if
+   *                               the server should only hold its data in
+   *                               memory.
+   */
+  public void setPersistenceDirectory(@Nullable final File persistenceDirectory)
+  {
+    this.persistenceDirectory = persistenceDirectory;
+  }
+
+
+
   /**
    * Retrieves the maximum number of concurrent connections that the server will
    * allow.  If a client tries to establish a new connection while the server
@@ -1323,6 +1434,179 @@ public class InMemoryDirectoryServerConfig
 
 
 
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain an ordering index to improve the performance of
+   * greater-or-equal and less-or-equal searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain an ordering index, or an empty list if no
+   *          ordering indexes should be created.
+   */
+  @NotNull()
+  public List<String> getOrderingIndexAttributes()
+  {
+    return orderingIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * an ordering index to improve the performance of greater-or-equal and
+   * less-or-equal searches.
+   *
+   * @param  orderingIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain an ordering index.  It
+   *                                  may be {@code null} or empty to indicate
+   *                                  that no ordering indexes should be
+   *                                  maintained.
+   */
+  public void setOrderingIndexAttributes(
+                   @Nullable final String... orderingIndexAttributes)
+  {
+    setOrderingIndexAttributes(StaticUtils.toList(orderingIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * an ordering index to improve the performance of greater-or-equal and
+   * less-or-equal searches.
+   *
+   * @param  orderingIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain an ordering index.  It
+   *                                  may be {@code null} or empty to indicate
+   *                                  that no ordering indexes should be
+   *                                  maintained.
+   */
+  public void setOrderingIndexAttributes(
+                   @Nullable final Collection<String> orderingIndexAttributes)
+  {
+    this.orderingIndexAttributes.clear();
+    if (orderingIndexAttributes != null)
+    {
+      this.orderingIndexAttributes.addAll(orderingIndexAttributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain a substring index to improve the performance of
+   * substring searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain a substring index, or an empty list if no
+   *          substring indexes should be created.
+   */
+  @NotNull()
+  public List<String> getSubstringIndexAttributes()
+  {
+    return substringIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a substring index to improve the performance of substring searches.
+   *
+   * @param  substringIndexAttributes  The names or OIDs of the attributes for
+   *                                   which to maintain a substring index.  It
+   *                                   may be {@code null} or empty to indicate
+   *                                   that no substring indexes should be
+   *                                   maintained.
+   */
+  public void setSubstringIndexAttributes(
+                   @Nullable final String... substringIndexAttributes)
+  {
+    setSubstringIndexAttributes(StaticUtils.toList(substringIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a substring index to improve the performance of substring searches.
+   *
+   * @param  substringIndexAttributes  The names or OIDs of the attributes for
+   *                                   which to maintain a substring index.  It
+   *                                   may be {@code null} or empty to indicate
+   *                                   that no substring indexes should be
+   *                                   maintained.
+   */
+  public void setSubstringIndexAttributes(
+                   @Nullable final Collection<String> substringIndexAttributes)
+  {
+    this.substringIndexAttributes.clear();
+    if (substringIndexAttributes != null)
+    {
+      this.substringIndexAttributes.addAll(substringIndexAttributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain a presence index to improve the performance of
+   * presence searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain a presence index, or an empty list if no
+   *          presence indexes should be created.
+   */
+  @NotNull()
+  public List<String> getPresenceIndexAttributes()
+  {
+    return presenceIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a presence index to improve the performance of presence searches.
+   *
+   * @param  presenceIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain a presence index.  It
+   *                                  may be {@code null} or empty to indicate
+   *                                  that no presence indexes should be
+   *                                  maintained.
+   */
+  public void setPresenceIndexAttributes(
+                   @Nullable final String... presenceIndexAttributes)
+  {
+    setPresenceIndexAttributes(StaticUtils.toList(presenceIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a presence index to improve the performance of presence searches.
+   *
+   * @param  presenceIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain a presence index.  It
+   *                                  may be {@code null} or empty to indicate
+   *                                  that no presence indexes should be
+   *                                  maintained.
+   */
+  public void setPresenceIndexAttributes(
+                   @Nullable final Collection<String> presenceIndexAttributes)
+  {
+    this.presenceIndexAttributes.clear();
+    if (presenceIndexAttributes != null)
+    {
+      this.presenceIndexAttributes.addAll(presenceIndexAttributes);
+    }
+  }
+
+
+
   /**
    * Retrieves the names of the attributes for which referential integrity
    * should be maintained.  If referential integrity is to be provided and an
@@ -1908,6 +2192,60 @@ public class InMemoryDirectoryServerConfig
       buffer.append('}');
     }
 
+    if (! orderingIndexAttributes.isEmpty())
+    {
+      buffer.append(", orderingIndexAttributes={");
+
+      final Iterator<String> attrIterator = orderingIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
+    if (! substringIndexAttributes.isEmpty())
+    {
+      buffer.append(", substringIndexAttributes={");
+
+      final Iterator<String> attrIterator = substringIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
+    if (! presenceIndexAttributes.isEmpty())
+    {
+      buffer.append(", presenceIndexAttributes={");
+
+      final Iterator<String> attrIterator = presenceIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
     if (! referentialIntegrityAttributes.isEmpty())
     {
       buffer.append(", referentialIntegrityAttributes={");
@@ -1936,6 +2274,16 @@ public class InMemoryDirectoryServerConfig
       buffer.append(maxChangeLogEntries);
     }
 
+    buffer.append(", useIncrementalSnapshots=");
+    buffer.append(useIncrementalSnapshots);
+
+    if (persistenceDirectory != null)
+    {
+      buffer.append(", persistenceDirectory='");
+      buffer.append(persistenceDirectory.getAbsolutePath());
+      buffer.append('\'');
+    }
+
     buffer.append(", maxConnections=");
     buffer.append(maxConnections);
     buffer.append(", maxSizeLimit=");
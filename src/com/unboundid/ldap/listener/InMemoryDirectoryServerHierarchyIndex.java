@@ -0,0 +1,335 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that keeps track of the hierarchical
+ * relationships between the entries held in an in-memory directory server.
+ * It maps the DN of each parent entry to the DNs of its immediate children,
+ * which makes it possible to find the entries within the scope of a one-level
+ * or subtree search (or the entries affected by a subtree delete or modify DN
+ * operation) without examining every entry in the server.
+ * <BR><BR>
+ * Entries are not required to have a parent entry that exists in the server
+ * (for example, the entry at the top of a base DN will not typically have a
+ * parent).  Parent DNs that have children in the index but do not correspond
+ * to an entry are tracked separately so that the subordinates of an ancestor
+ * of such a DN can still be found.
+ * <BR><BR>
+ * This class does not provide any synchronization of its own.  Callers must
+ * ensure that it is not accessed by one thread while being updated by another.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemoryDirectoryServerHierarchyIndex
+      implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -5530273127954632917L;
+
+
+
+  // A map of the DNs of parent entries to the DNs of their immediate children.
+  @NotNull private final HashMap<DN,TreeSet<DN>> childDNs;
+
+  // The DNs that have children in the index but that do not themselves
+  // correspond to entries in the index.
+  @NotNull private final TreeSet<DN> missingParentDNs;
+
+
+
+  /**
+   * Creates a new, empty hierarchy index.
+   */
+  InMemoryDirectoryServerHierarchyIndex()
+  {
+    childDNs = new HashMap<>(StaticUtils.computeMapCapacity(100));
+    missingParentDNs = new TreeSet<>();
+  }
+
+
+
+  /**
+   * Removes all information from this index.
+   */
+  void clear()
+  {
+    childDNs.clear();
+    missingParentDNs.clear();
+  }
+
+
+
+  /**
+   * Updates this index to reflect the addition of an entry with the provided
+   * DN.  This method will have no effect if the DN is already present in the
+   * index.
+   *
+   * @param  dn  The DN of the entry that has been added.  It must not be
+   *             {@code null}.
+   */
+  void add(@NotNull final DN dn)
+  {
+    final DN parentDN = getParentDN(dn);
+    if (parentDN == null)
+    {
+      return;
+    }
+
+    TreeSet<DN> siblingDNs = childDNs.get(parentDN);
+    if (siblingDNs == null)
+    {
+      siblingDNs = new TreeSet<>();
+      childDNs.put(parentDN, siblingDNs);
+      if (! contains(parentDN))
+      {
+        missingParentDNs.add(parentDN);
+      }
+    }
+
+    if (siblingDNs.add(dn))
+    {
+      missingParentDNs.remove(dn);
+    }
+  }
+
+
+
+  /**
+   * Updates this index to reflect the removal of the entry with the provided
+   * DN.  This method will have no effect if the DN is not present in the index.
+   * If the entry has any subordinates, then they will remain in the index.
+   *
+   * @param  dn  The DN of the entry that has been removed.  It must not be
+   *             {@code null}.
+   */
+  void remove(@NotNull final DN dn)
+  {
+    final DN parentDN = getParentDN(dn);
+    if (parentDN == null)
+    {
+      return;
+    }
+
+    final TreeSet<DN> siblingDNs = childDNs.get(parentDN);
+    if ((siblingDNs == null) || (! siblingDNs.remove(dn)))
+    {
+      return;
+    }
+
+    if (siblingDNs.isEmpty())
+    {
+      childDNs.remove(parentDN);
+      missingParentDNs.remove(parentDN);
+    }
+
+    if (childDNs.containsKey(dn))
+    {
+      missingParentDNs.add(dn);
+    }
+  }
+
+
+
+  /**
+   * Indicates whether this index contains the provided DN.
+   *
+   * @param  dn  The DN for which to make the determination.  It must not be
+   *             {@code null}.
+   *
+   * @return  {@code true} if this index contains the provided DN, or
+   *          {@code false} if not.
+   */
+  boolean contains(@NotNull final DN dn)
+  {
+    final DN parentDN = getParentDN(dn);
+    if (parentDN == null)
+    {
+      return false;
+    }
+
+    final TreeSet<DN> siblingDNs = childDNs.get(parentDN);
+    return ((siblingDNs != null) && siblingDNs.contains(dn));
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the immediate children of the provided DN.
+   *
+   * @param  dn  The DN for which to retrieve the child DNs.  It must not be
+   *             {@code null}.
+   *
+   * @return  The DNs of the immediate children of the provided DN, in sorted
+   *          order, or an empty set if there are none.
+   */
+  @NotNull()
+  Set<DN> getChildDNs(@NotNull final DN dn)
+  {
+    final TreeSet<DN> dnSet = childDNs.get(dn);
+    if (dnSet == null)
+    {
+      return Collections.emptySet();
+    }
+    else
+    {
+      return Collections.unmodifiableSet(dnSet);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the DNs of all entries in this index that are subordinate to the
+   * provided DN.
+   *
+   * @param  dn         The DN for which to retrieve the subordinate DNs.  It
+   *                    must not be {@code null}.
+   * @param  includeDN  Indicates whether to include the provided DN in the
+   *                    list if it is present in this index.
+   *
+   * @return  A modifiable list of the DNs of all entries subordinate to the
+   *          provided DN, sorted so that each entry appears before any of its
+   *          own subordinates, or an empty list if there are none.
+   */
+  @NotNull()
+  List<DN> getSubordinateDNs(@NotNull final DN dn, final boolean includeDN)
+  {
+    final ArrayList<DN> dnList = new ArrayList<>(10);
+    if (includeDN && contains(dn))
+    {
+      dnList.add(dn);
+    }
+
+    addSubordinateDNs(dn, dnList);
+
+    // Entries beneath a DN without a corresponding entry will not have been
+    // reached by walking down from the provided DN, so they need to be added
+    // separately.  If there are any, then the list will need to be sorted.
+    boolean sortNeeded = false;
+    for (final DN missingParentDN : missingParentDNs)
+    {
+      if (missingParentDN.isDescendantOf(dn, false))
+      {
+        addSubordinateDNs(missingParentDN, dnList);
+        sortNeeded = true;
+      }
+    }
+
+    if (sortNeeded)
+    {
+      Collections.sort(dnList);
+    }
+
+    return dnList;
+  }
+
+
+
+  /**
+   * Adds the DNs of all entries subordinate to the provided DN to the given
+   * list.  Each DN will be added before the DNs of its own subordinates.
+   *
+   * @param  dn      The DN for which to add the subordinate DNs.
+   * @param  dnList  The list to which the subordinate DNs should be added.
+   */
+  private void addSubordinateDNs(@NotNull final DN dn,
+                                 @NotNull final List<DN> dnList)
+  {
+    final TreeSet<DN> dnSet = childDNs.get(dn);
+    if (dnSet != null)
+    {
+      for (final DN childDN : dnSet)
+      {
+        dnList.add(childDN);
+        addSubordinateDNs(childDN, dnList);
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the DN of the parent for the provided DN.  Unlike the
+   * {@link DN#getParent()} method, this will treat the null DN as the parent
+   * for a DN with a single RDN component.
+   *
+   * @param  dn  The DN for which to retrieve the parent DN.
+   *
+   * @return  The DN of the parent for the provided DN, or {@code null} if the
+   *          provided DN is the null DN.
+   */
+  @Nullable()
+  private static DN getParentDN(@NotNull final DN dn)
+  {
+    if (dn.isNullDN())
+    {
+      return null;
+    }
+
+    final DN parentDN = dn.getParent();
+    if (parentDN == null)
+    {
+      return DN.NULL_DN;
+    }
+    else
+    {
+      return parentDN;
+    }
+  }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining an ordering index for a
+ * specified attribute.  Normalized values are kept in sorted order so that the
+ * entries matching a greater-or-equal or less-or-equal filter can be obtained
+ * without examining every value.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerOrderingAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  // The matching rule used to normalize and order values.
+  @NotNull private final MatchingRule matchingRule;
+
+  // A map from normalized values to the DNs of entries with those values,
+  // sorted using the ordering matching rule.
+  @NotNull private final TreeMap<ASN1OctetString,TreeSet<DN>> indexMap;
+
+
+
+  /**
+   * Creates a new ordering attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerOrderingAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    super(attributeType, schema, ERR_DS_ORDERING_INDEX_NO_SCHEMA,
+         ERR_DS_ORDERING_INDEX_UNDEFINED_ATTRIBUTE_TYPE);
+
+    matchingRule = MatchingRule.selectOrderingMatchingRule(attributeType,
+         schema);
+    indexMap = new TreeMap<>(new NormalizedValueComparator(matchingRule));
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    indexMap.clear();
+  }
+
+
+
+  /**
+   * Retrieves the number of distinct normalized values held in this index.
+   * This is only intended for testing purposes.
+   *
+   * @return  The number of distinct normalized values held in this index.
+   */
+  synchronized int getNumValues()
+  {
+    return indexMap.size();
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries that have at least one value for the
+   * associated attribute that is greater than or equal to the provided value.
+   *
+   * @param  value  The assertion value to use for the comparison.
+   *
+   * @return  A set containing the DNs of the matching entries, or an empty set
+   *          if there are none.
+   *
+   * @throws  LDAPException  If the provided value is not acceptable for the
+   *                         associated attribute type.
+   */
+  @NotNull()
+  synchronized Set<DN> getEntriesGreaterThanOrEqualTo(
+                            @NotNull final ASN1OctetString value)
+               throws LDAPException
+  {
+    return union(indexMap.tailMap(matchingRule.normalize(value), true));
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries that have at least one value for the
+   * associated attribute that is less than or equal to the provided value.
+   *
+   * @param  value  The assertion value to use for the comparison.
+   *
+   * @return  A set containing the DNs of the matching entries, or an empty set
+   *          if there are none.
+   *
+   * @throws  LDAPException  If the provided value is not acceptable for the
+   *                         associated attribute type.
+   */
+  @NotNull()
+  synchronized Set<DN> getEntriesLessThanOrEqualTo(
+                            @NotNull final ASN1OctetString value)
+               throws LDAPException
+  {
+    return union(indexMap.headMap(matchingRule.normalize(value), true));
+  }
+
+
+
+  /**
+   * Retrieves a set containing all of the DNs contained in the provided
+   * portion of the index map.
+   *
+   * @param  m  The portion of the index map for which to obtain the DNs.
+   *
+   * @return  A set containing all of the DNs contained in the provided portion
+   *          of the index map.
+   */
+  @NotNull()
+  private static Set<DN> union(
+                      @NotNull final Map<ASN1OctetString,TreeSet<DN>> m)
+  {
+    if (m.isEmpty())
+    {
+      return Collections.emptySet();
+    }
+    else if (m.size() == 1)
+    {
+      return Collections.unmodifiableSet(m.values().iterator().next());
+    }
+
+    final TreeSet<DN> dnSet = new TreeSet<>();
+    for (final TreeSet<DN> s : m.values())
+    {
+      dnSet.addAll(s);
+    }
+    return dnSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    final Attribute a = getAttribute(entry);
+    if (a != null)
+    {
+      final DN dn = entry.getParsedDN();
+
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final ASN1OctetString[] normalizedValues =
+           new ASN1OctetString[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = matchingRule.normalize(rawValues[i]);
+      }
+
+      for (final ASN1OctetString v : normalizedValues)
+      {
+        TreeSet<DN> dnSet = indexMap.get(v);
+        if (dnSet == null)
+        {
+          dnSet = new TreeSet<>();
+          indexMap.put(v, dnSet);
+        }
+        dnSet.add(dn);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    final Attribute a = getAttribute(entry);
+    if (a != null)
+    {
+      final DN dn = entry.getParsedDN();
+
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final ASN1OctetString[] normalizedValues =
+           new ASN1OctetString[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = matchingRule.normalize(rawValues[i]);
+      }
+
+      for (final ASN1OctetString v : normalizedValues)
+      {
+        final TreeSet<DN> dnSet = indexMap.get(v);
+        if (dnSet != null)
+        {
+          dnSet.remove(dn);
+          if (dnSet.isEmpty())
+          {
+            indexMap.remove(v);
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a comparator that orders normalized values using the
+   * ordering matching rule for the index.
+   */
+  private static final class NormalizedValueComparator
+          implements Comparator<ASN1OctetString>, Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -2926838497577386823L;
+
+
+
+    // The matching rule to use to compare values.
+    @NotNull private final MatchingRule matchingRule;
+
+
+
+    /**
+     * Creates a new comparator that will use the provided matching rule.
+     *
+     * @param  matchingRule  The matching rule to use to compare values.
+     */
+    private NormalizedValueComparator(@NotNull final MatchingRule matchingRule)
+    {
+      this.matchingRule = matchingRule;
+    }
+
+
+
+    /**
+     * Compares the provided normalized values.  If the matching rule cannot
+     * compare them, then their bytes will be compared instead.
+     *
+     * @param  v1  The first value to compare.
+     * @param  v2  The second value to compare.
+     *
+     * @return  A negative value if the first value should be ordered before the
+     *          second, a positive value if the first value should be ordered
+     *          after the second, or zero if they are equivalent.
+     */
+    @Override()
+    public int compare(@NotNull final ASN1OctetString v1,
+                       @NotNull final ASN1OctetString v2)
+    {
+      try
+      {
+        return matchingRule.compareValues(v1, v2);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+
+        final byte[] b1 = v1.getValue();
+        final byte[] b2 = v2.getValue();
+        final int minLength = Math.min(b1.length, b2.length);
+        for (int i=0; i < minLength; i++)
+        {
+          final int difference = (b1[i] & 0xFF) - (b2[i] & 0xFF);
+          if (difference != 0)
+          {
+            return difference;
+          }
+        }
+
+        return b1.length - b2.length;
+      }
+    }
+  }
+}
@@ -0,0 +1,855 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.asn1.ASN1StreamReaderSequence;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.ByteBufferInputStream;
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for persisting the entries held in an
+ * in-memory directory server so that they can be quickly reloaded when a new
+ * server instance is created with the same persistence directory.
+ * <BR><BR>
+ * The persistence directory holds two files:
+ * <UL>
+ *   <LI>A snapshot file that holds a compact binary representation of all of
+ *       the entries in the server at a given point in time.  It is always
+ *       written to a temporary file that is then renamed, so it will never be
+ *       left in a partially-written state.</LI>
+ *   <LI>An append-only log file that holds a record for each entry that has
+ *       been added, replaced, or removed since the snapshot was written.  Each
+ *       record holds the complete new state of the associated entry, so
+ *       replaying a record more than once has no additional effect.</LI>
+ * </UL>
+ * Both files are a sequence of BER-encoded elements.  When loading, the
+ * snapshot file is memory-mapped and the entries are decoded directly from it
+ * without any schema validation, and then the log records are applied.  If
+ * the last record in the log is incomplete (for example, because the JVM was
+ * terminated while it was being written), then it will be discarded.
+ * <BR><BR>
+ * Whenever the log grows larger than the snapshot (subject to a minimum
+ * size), or whenever the entire content of the server is replaced (for
+ * example, when a snapshot is restored or data is imported from LDIF), a new
+ * snapshot will be written and the log will be truncated.  A new snapshot will
+ * also be written immediately if a record cannot be appended to the log.  If
+ * that also fails, then the store will hold a failure message (available via
+ * the {@link #getFailureMessage} method) until a snapshot can be written.  The
+ * request handler checks for that failure after processing each write
+ * operation, and will revert the operation rather than acknowledging a change
+ * that has not been persisted.  It will also reject changes until the problem
+ * has been resolved.
+ * <BR><BR>
+ * This class does not provide any synchronization of its own.  Methods that
+ * record changes must only be invoked while holding the write lock for the
+ * associated entry map.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemoryDirectoryServerPersistentStore
+{
+  /**
+   * The name of the file in the persistence directory that holds the most
+   * recent snapshot of the entries in the server.
+   */
+  @NotNull static final String SNAPSHOT_FILE_NAME = "entries.snapshot";
+
+
+
+  /**
+   * The name of the file in the persistence directory that holds the log of
+   * changes made since the snapshot was written.
+   */
+  @NotNull static final String LOG_FILE_NAME = "changes.log";
+
+
+
+  /**
+   * The name of the file in the persistence directory to which a new snapshot
+   * will be written before it replaces the existing snapshot.
+   */
+  @NotNull private static final String TEMP_SNAPSHOT_FILE_NAME =
+       "entries.snapshot.tmp";
+
+
+
+  /**
+   * The BER type that will be used for records that provide the complete
+   * content of an entry.
+   */
+  private static final byte TYPE_PUT_RECORD = (byte) 0xA0;
+
+
+
+  /**
+   * The BER type that will be used for records that indicate that an entry
+   * has been removed.
+   */
+  private static final byte TYPE_DELETE_RECORD = (byte) 0xA1;
+
+
+
+  /**
+   * The minimum size in bytes that the log must reach before the store will
+   * write a new snapshot.
+   */
+  private static final long MIN_COMPACTION_LOG_SIZE = 1024L * 1024L;
+
+
+
+  /**
+   * The version number that will be included in the header of the snapshot
+   * files written by this class.
+   */
+  private static final int SNAPSHOT_VERSION = 1;
+
+
+
+  // The buffer that will be used to encode records.
+  @NotNull private final ASN1Buffer buffer;
+
+  // Indicates whether any changes have been recorded during the current bulk
+  // update.
+  private boolean bulkUpdateChanges;
+
+  // Indicates whether a new snapshot must be written before any more records
+  // can be appended to the log.  This will be set if a problem is encountered
+  // while writing to the log, so that the store can recover by capturing the
+  // complete state of the server.
+  private boolean snapshotNeeded;
+
+  // A message describing the most recent failure to persist changes, or null
+  // if all changes have been persisted.
+  @Nullable private String failureMessage;
+
+  // The persistence directory and the files that it contains.
+  @NotNull private final File directory;
+  @NotNull private final File logFile;
+  @NotNull private final File snapshotFile;
+  @NotNull private final File tempSnapshotFile;
+
+  // The output stream used to append records to the log.  It will be null
+  // until the store has been opened.
+  @Nullable private FileOutputStream logOutputStream;
+
+  // The number of nested bulk updates that are in progress.
+  private int bulkUpdateDepth;
+
+  // The current sizes of the log and snapshot files.
+  private long logSize;
+  private long snapshotSize;
+
+  // The map of entries held in the server.
+  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+
+  // The schema to use when decoding persisted entries.
+  @Nullable private final Schema schema;
+
+
+
+  /**
+   * Creates a new persistent store with the provided information.  The store
+   * will not record any changes until it has been opened.
+   *
+   * @param  directory  The directory in which the data should be persisted.
+   * @param  schema     The schema to use when decoding persisted entries.  It
+   *                    may be {@code null} if the server does not use a
+   *                    schema.
+   * @param  entryMap   The map of entries held in the server.
+   */
+  InMemoryDirectoryServerPersistentStore(@NotNull final File directory,
+                                         @Nullable final Schema schema,
+                                         @NotNull final Map<DN,ReadOnlyEntry>
+                                              entryMap)
+  {
+    this.directory = directory;
+    this.schema    = schema;
+    this.entryMap  = entryMap;
+
+    logFile          = new File(directory, LOG_FILE_NAME);
+    snapshotFile     = new File(directory, SNAPSHOT_FILE_NAME);
+    tempSnapshotFile = new File(directory, TEMP_SNAPSHOT_FILE_NAME);
+
+    buffer = new ASN1Buffer();
+    logOutputStream = null;
+    bulkUpdateChanges = false;
+    snapshotNeeded = false;
+    failureMessage = null;
+    bulkUpdateDepth = 0;
+    logSize = 0L;
+    snapshotSize = 0L;
+  }
+
+
+
+  /**
+   * Indicates whether the specified directory holds any persisted data.
+   *
+   * @param  directory  The directory to examine.  It must not be
+   *                    {@code null}.
+   *
+   * @return  {@code true} if the specified directory holds any persisted data,
+   *          or {@code false} if not.
+   */
+  static boolean containsPersistedData(@NotNull final File directory)
+  {
+    final File logFile = new File(directory, LOG_FILE_NAME);
+    return (new File(directory, SNAPSHOT_FILE_NAME).exists() ||
+         (logFile.exists() && (logFile.length() > 0L)));
+  }
+
+
+
+  /**
+   * Reads any data held in the persistence directory, creating the directory
+   * if it does not already exist.  This must be called before the store is
+   * opened.
+   *
+   * @return  A map of the persisted entries, or {@code null} if the
+   *          persistence directory did not hold any data.
+   *
+   * @throws  LDAPException  If a problem is encountered while reading the
+   *                         persisted data.
+   */
+  @Nullable()
+  Map<DN,ReadOnlyEntry> load()
+       throws LDAPException
+  {
+    if (directory.exists())
+    {
+      if (! directory.isDirectory())
+      {
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_MEM_DS_PERSISTENCE_NOT_DIRECTORY.get(
+                  directory.getAbsolutePath()));
+      }
+    }
+    else if (! directory.mkdirs())
+    {
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_DS_PERSISTENCE_CANNOT_CREATE_DIRECTORY.get(
+                directory.getAbsolutePath()));
+    }
+
+    // A leftover temporary snapshot file means that the server was terminated
+    // while writing a snapshot, and it cannot be trusted.
+    if (tempSnapshotFile.exists() && (! tempSnapshotFile.delete()))
+    {
+      Debug.debug(Level.WARNING, DebugType.OTHER,
+           "Unable to delete leftover temporary snapshot file " +
+                tempSnapshotFile.getAbsolutePath());
+    }
+
+    final TreeMap<DN,ReadOnlyEntry> persistedEntries = new TreeMap<>();
+    boolean persistedDataFound = false;
+    if (snapshotFile.exists())
+    {
+      readSnapshot(persistedEntries);
+      snapshotSize = snapshotFile.length();
+      persistedDataFound = true;
+    }
+
+    if (logFile.exists() && (logFile.length() > 0L))
+    {
+      replayLog(persistedEntries);
+      persistedDataFound = true;
+    }
+
+    if (persistedDataFound)
+    {
+      return persistedEntries;
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+
+
+  /**
+   * Opens the log so that subsequent changes will be recorded.  If the
+   * persistence directory does not yet hold a snapshot, then one will be
+   * written with the current content of the entry map.
+   *
+   * @throws  LDAPException  If a problem is encountered while opening the log
+   *                         or writing the initial snapshot.
+   */
+  void open()
+       throws LDAPException
+  {
+    try
+    {
+      logOutputStream = new FileOutputStream(logFile, true);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_DS_PERSISTENCE_CANNOT_OPEN_LOG.get(
+                logFile.getAbsolutePath(), StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+
+    if (! snapshotFile.exists())
+    {
+      try
+      {
+        writeSnapshot();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_MEM_DS_PERSISTENCE_CANNOT_WRITE_SNAPSHOT.get(
+                  snapshotFile.getAbsolutePath(),
+                  StaticUtils.getExceptionMessage(e)),
+             e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Records a change to the entry with the specified DN.  This should be
+   * called after the entry map has been updated.
+   *
+   * @param  dn     The DN of the entry that was changed.  It must not be
+   *                {@code null}.
+   * @param  entry  The new version of the entry, or {@code null} if the entry
+   *                was removed.
+   */
+  void recordChange(@NotNull final DN dn, @Nullable final ReadOnlyEntry entry)
+  {
+    if (logOutputStream == null)
+    {
+      return;
+    }
+
+    if (bulkUpdateDepth > 0)
+    {
+      bulkUpdateChanges = true;
+      return;
+    }
+
+    if (snapshotNeeded)
+    {
+      compact();
+      return;
+    }
+
+    buffer.clear();
+    if (entry == null)
+    {
+      final ASN1BufferSequence recordSequence =
+           buffer.beginSequence(TYPE_DELETE_RECORD);
+      buffer.addOctetString(dn.toString());
+      recordSequence.end();
+    }
+    else
+    {
+      encodeEntry(entry);
+    }
+
+    try
+    {
+      buffer.writeTo(logOutputStream);
+      logSize += buffer.length();
+    }
+    catch (final Exception e)
+    {
+      // The log may now end with a partial record, so capture the complete
+      // state of the server (including this change) in a new snapshot, which
+      // will also truncate the log.
+      Debug.debugException(e);
+      compact();
+      return;
+    }
+
+    if (logSize > Math.max(snapshotSize, MIN_COMPACTION_LOG_SIZE))
+    {
+      compact();
+    }
+  }
+
+
+
+  /**
+   * Records that the entire content of the entry map has been replaced.  A
+   * new snapshot will be written, unless a bulk update is in progress, in
+   * which case it will be written when the bulk update ends.
+   */
+  void recordReplacement()
+  {
+    if (logOutputStream == null)
+    {
+      return;
+    }
+
+    if (bulkUpdateDepth > 0)
+    {
+      bulkUpdateChanges = true;
+    }
+    else
+    {
+      compact();
+    }
+  }
+
+
+
+  /**
+   * Indicates that a bulk update is about to begin.  Changes made during a
+   * bulk update will not be written to the log.  Instead, a new snapshot will
+   * be written when the bulk update ends if any changes were retained.  Bulk
+   * updates may be nested, in which case only the outermost update will have
+   * any effect.
+   */
+  void beginBulkUpdate()
+  {
+    bulkUpdateDepth++;
+  }
+
+
+
+  /**
+   * Indicates that a bulk update has ended.
+   *
+   * @param  changesRetained  Indicates whether the changes made during the
+   *                          bulk update have been retained.  It should be
+   *                          {@code false} if the content of the entry map
+   *                          has been reverted to what it was before the bulk
+   *                          update began.
+   */
+  void endBulkUpdate(final boolean changesRetained)
+  {
+    bulkUpdateDepth--;
+    if (bulkUpdateDepth > 0)
+    {
+      return;
+    }
+
+    if (bulkUpdateChanges && changesRetained)
+    {
+      snapshotNeeded = true;
+    }
+    bulkUpdateChanges = false;
+
+    if (snapshotNeeded && (logOutputStream != null))
+    {
+      compact();
+    }
+  }
+
+
+
+  /**
+   * Retrieves a message describing the most recent failure to persist changes,
+   * if any.  If a failure has been encountered, then this will make another
+   * attempt to write a snapshot before returning.
+   *
+   * @return  A message describing the reason that changes cannot currently be
+   *          persisted, or {@code null} if all changes have been persisted.
+   */
+  @Nullable()
+  String getFailureMessage()
+  {
+    if ((failureMessage != null) && (logOutputStream != null) &&
+         (bulkUpdateDepth == 0))
+    {
+      compact();
+    }
+
+    return failureMessage;
+  }
+
+
+
+  /**
+   * Writes a new snapshot with the current content of the entry map and
+   * truncates the log.  If a problem is encountered, then the failure message
+   * will be set and another attempt will be made the next time a change is
+   * recorded or the failure message is requested.
+   */
+  private void compact()
+  {
+    try
+    {
+      writeSnapshot();
+      snapshotNeeded = false;
+      failureMessage = null;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      snapshotNeeded = true;
+      failureMessage = ERR_MEM_DS_PERSISTENCE_UNAVAILABLE.get(
+           directory.getAbsolutePath(), StaticUtils.getExceptionMessage(e));
+      Debug.debug(Level.SEVERE, DebugType.OTHER, failureMessage, e);
+    }
+  }
+
+
+
+  /**
+   * Writes a new snapshot with the current content of the entry map and
+   * truncates the log.
+   *
+   * @throws  IOException  If a problem is encountered while writing the
+   *                       snapshot or truncating the log.
+   */
+  private void writeSnapshot()
+          throws IOException
+  {
+    try (FileOutputStream fileOutputStream =
+              new FileOutputStream(tempSnapshotFile);
+         BufferedOutputStream outputStream =
+              new BufferedOutputStream(fileOutputStream, 65_536))
+    {
+      buffer.clear();
+      final ASN1BufferSequence headerSequence = buffer.beginSequence();
+      buffer.addInteger(SNAPSHOT_VERSION);
+      buffer.addInteger((long) entryMap.size());
+      headerSequence.end();
+      buffer.writeTo(outputStream);
+
+      for (final ReadOnlyEntry entry : entryMap.values())
+      {
+        buffer.clear();
+        encodeEntry(entry);
+        buffer.writeTo(outputStream);
+      }
+
+      outputStream.flush();
+      fileOutputStream.getChannel().force(true);
+    }
+
+    try
+    {
+      Files.move(tempSnapshotFile.toPath(), snapshotFile.toPath(),
+           StandardCopyOption.REPLACE_EXISTING,
+           StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (final AtomicMoveNotSupportedException e)
+    {
+      Debug.debugException(e);
+      Files.move(tempSnapshotFile.toPath(), snapshotFile.toPath(),
+           StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    snapshotSize = snapshotFile.length();
+
+    // Reopen the log rather than just truncating it, in case the existing log
+    // file was removed (for example, if the persistence directory was
+    // re-created after a failure).
+    if (logOutputStream != null)
+    {
+      final FileOutputStream oldLogOutputStream = logOutputStream;
+      logOutputStream = new FileOutputStream(logFile, false);
+
+      try
+      {
+        oldLogOutputStream.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+    logSize = 0L;
+  }
+
+
+
+  /**
+   * Encodes a record with the complete content of the provided entry into the
+   * buffer.
+   *
+   * @param  entry  The entry to be encoded.
+   */
+  private void encodeEntry(@NotNull final ReadOnlyEntry entry)
+  {
+    final ASN1BufferSequence recordSequence =
+         buffer.beginSequence(TYPE_PUT_RECORD);
+    buffer.addOctetString(entry.getDN());
+
+    final ASN1BufferSequence attrSequence = buffer.beginSequence();
+    for (final Attribute attribute : entry.getAttributes())
+    {
+      attribute.writeTo(buffer);
+    }
+    attrSequence.end();
+    recordSequence.end();
+  }
+
+
+
+  /**
+   * Reads the entry from a record whose header has already been read from the
+   * provided reader and adds it to the given map.
+   *
+   * @param  reader  The reader from which to read the entry.
+   * @param  map     The map to which the entry should be added.
+   *
+   * @throws  IOException  If a problem is encountered while reading the
+   *                       entry.
+   *
+   * @throws  ASN1Exception  If the entry is not properly encoded.
+   *
+   * @throws  LDAPException  If the entry cannot be decoded.
+   */
+  private void readEntry(@NotNull final ASN1StreamReader reader,
+                         @NotNull final Map<DN,ReadOnlyEntry> map)
+          throws IOException, ASN1Exception, LDAPException
+  {
+    final DN dn = new DN(reader.readString(), schema);
+
+    final ArrayList<Attribute> attributes = new ArrayList<>(20);
+    final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
+    while (attrSequence.hasMoreElements())
+    {
+      attributes.add(Attribute.readFrom(reader, schema));
+    }
+
+    map.put(dn, new ReadOnlyEntry(dn, schema, attributes));
+  }
+
+
+
+  /**
+   * Reads the entries from the snapshot file into the provided map.
+   *
+   * @param  map  The map to which the entries should be added.
+   *
+   * @throws  LDAPException  If a problem is encountered while reading the
+   *                         snapshot.
+   */
+  private void readSnapshot(@NotNull final Map<DN,ReadOnlyEntry> map)
+          throws LDAPException
+  {
+    try (RandomAccessFile randomAccessFile =
+              new RandomAccessFile(snapshotFile, "r"))
+    {
+      final FileChannel channel = randomAccessFile.getChannel();
+      final long length = channel.size();
+
+      final InputStream inputStream;
+      if (length <= Integer.MAX_VALUE)
+      {
+        inputStream = new ByteBufferInputStream(
+             channel.map(FileChannel.MapMode.READ_ONLY, 0L, length));
+      }
+      else
+      {
+        inputStream = new BufferedInputStream(
+             Channels.newInputStream(channel), 65_536);
+      }
+
+      final ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+      if (reader.beginSequence() == null)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_MEM_DS_PERSISTENCE_MALFORMED_SNAPSHOT.get(
+                  snapshotFile.getAbsolutePath()));
+      }
+
+      final int version = reader.readInteger();
+      if (version != SNAPSHOT_VERSION)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_MEM_DS_PERSISTENCE_UNSUPPORTED_SNAPSHOT_VERSION.get(
+                  snapshotFile.getAbsolutePath(), version));
+      }
+
+      final long numEntries = reader.readLong();
+      for (long i=0; i < numEntries; i++)
+      {
+        final ASN1StreamReaderSequence recordSequence = reader.beginSequence();
+        if ((recordSequence == null) ||
+             (recordSequence.getType() != TYPE_PUT_RECORD))
+        {
+          throw new LDAPException(ResultCode.DECODING_ERROR,
+               ERR_MEM_DS_PERSISTENCE_MALFORMED_SNAPSHOT.get(
+                    snapshotFile.getAbsolutePath()));
+        }
+
+        readEntry(reader, map);
+      }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw le;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_DS_PERSISTENCE_CANNOT_READ_SNAPSHOT.get(
+                snapshotFile.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Applies the records in the log to the provided map.  If the log ends with
+   * an incomplete or malformed record, then that record and anything after it
+   * will be removed from the log.
+   *
+   * @param  map  The map to which the records should be applied.
+   *
+   * @throws  LDAPException  If a problem is encountered while reading the log.
+   */
+  private void replayLog(@NotNull final Map<DN,ReadOnlyEntry> map)
+          throws LDAPException
+  {
+    final byte[] logBytes;
+    try
+    {
+      logBytes = Files.readAllBytes(logFile.toPath());
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_DS_PERSISTENCE_CANNOT_READ_LOG.get(
+                logFile.getAbsolutePath(), StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+
+    final ByteBuffer logBuffer = ByteBuffer.wrap(logBytes);
+    final ASN1StreamReader reader =
+         new ASN1StreamReader(new ByteBufferInputStream(logBuffer));
+
+    long validLength = 0L;
+    try
+    {
+      while (true)
+      {
+        final ASN1StreamReaderSequence recordSequence = reader.beginSequence();
+        if (recordSequence == null)
+        {
+          break;
+        }
+        else if (recordSequence.getType() == TYPE_PUT_RECORD)
+        {
+          readEntry(reader, map);
+        }
+        else if (recordSequence.getType() == TYPE_DELETE_RECORD)
+        {
+          map.remove(new DN(reader.readString(), schema));
+        }
+        else
+        {
+          break;
+        }
+
+        validLength = logBuffer.position();
+      }
+    }
+    catch (final Exception e)
+    {
+      // This most likely means that the server was terminated while the last
+      // record was being written.
+      Debug.debugException(e);
+    }
+
+    if (validLength < logBytes.length)
+    {
+      try (RandomAccessFile randomAccessFile =
+                new RandomAccessFile(logFile, "rw"))
+      {
+        randomAccessFile.setLength(validLength);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_MEM_DS_PERSISTENCE_CANNOT_REPAIR_LOG.get(
+                  logFile.getAbsolutePath(),
+                  StaticUtils.getExceptionMessage(e)),
+             e);
+      }
+    }
+
+    logSize = validLength;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining a presence index for a
+ * specified attribute, which keeps track of the DNs of all entries that have
+ * at least one value for that attribute.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerPresenceAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  // The DNs of the entries that have the associated attribute.
+  @NotNull private final TreeSet<DN> dnSet;
+
+
+
+  /**
+   * Creates a new presence attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerPresenceAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    super(attributeType, schema, ERR_DS_PRESENCE_INDEX_NO_SCHEMA,
+         ERR_DS_PRESENCE_INDEX_UNDEFINED_ATTRIBUTE_TYPE);
+
+    dnSet = new TreeSet<>();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    dnSet.clear();
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries that have at least one value for the
+   * associated attribute.
+   *
+   * @return  A set containing the DNs of the entries that have the associated
+   *          attribute, or an empty set if there are none.
+   */
+  @NotNull()
+  synchronized Set<DN> getMatchingEntries()
+  {
+    return Collections.unmodifiableSet(dnSet);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    if (getAttribute(entry) != null)
+    {
+      dnSet.add(entry.getParsedDN());
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    if (getAttribute(entry) != null)
+    {
+      dnSet.remove(entry.getParsedDN());
+    }
+  }
+}
@@ -37,6 +37,8 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Map;
@@ -46,6 +48,7 @@ import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.ReadOnlyEntry;
 import com.unboundid.util.NotMutable;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -57,6 +60,13 @@ import com.unboundid.util.ThreadSafetyLevel;
  * will reflect only data held in the server (including both user data and any
  * changelog information, if that is enabled), but will not alter the settings
  * of the server which are defined through configuration.
+ * <BR><BR>
+ * If the server is configured to use incremental snapshots, then the snapshot
+ * will not hold a copy of the entries in the server.  Instead, the server will
+ * keep track of the original versions of any entries that are altered after
+ * the snapshot is created, and the complete set of entries will only be
+ * reconstructed if it is needed (for example, if the {@link #getEntryMap}
+ * method is called or the snapshot is serialized).
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -76,8 +86,20 @@ public final class InMemoryDirectoryServerSnapshot
   // The last change number value at the time the snapshot was created.
   private final long lastChangeNumber;
 
+  // The journal that can be used to reconstruct the entries for an incremental
+  // snapshot.
+  @Nullable private final transient InMemoryDirectoryServerSnapshotJournal
+       journal;
+
+  // The journal generation that represents the state of the server at the
+  // time an incremental snapshot was created.
+  @Nullable private final transient
+       InMemoryDirectoryServerSnapshotJournal.Generation generation;
+
   // The set of entries held in the server at the time the snapshot was created.
-  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+  // This will be null for an incremental snapshot whose entries have not yet
+  // been reconstructed.
+  @Nullable private volatile Map<DN,ReadOnlyEntry> entryMap;
 
 
 
@@ -100,11 +122,43 @@ public final class InMemoryDirectoryServerSnapshot
     this.firstChangeNumber = firstChangeNumber;
     this.lastChangeNumber  = lastChangeNumber;
 
+    journal = null;
+    generation = null;
     entryMap = Collections.unmodifiableMap(new TreeMap<>(m));
   }
 
 
 
+  /**
+   * Creates a new incremental in-memory directory server snapshot with the
+   * provided information.
+   *
+   * @param  journal            The journal that can be used to reconstruct the
+   *                            entries for this snapshot.
+   * @param  generation         The journal generation that represents the
+   *                            state of the server at the time the snapshot
+   *                            was created.
+   * @param  firstChangeNumber  The first change number value at the time the
+   *                            snapshot was created.
+   * @param  lastChangeNumber   The last change number value at the time the
+   *                            snapshot was created.
+   */
+  InMemoryDirectoryServerSnapshot(
+       @NotNull final InMemoryDirectoryServerSnapshotJournal journal,
+       @NotNull final InMemoryDirectoryServerSnapshotJournal.Generation
+            generation,
+       final long firstChangeNumber, final long lastChangeNumber)
+  {
+    this.journal           = journal;
+    this.generation        = generation;
+    this.firstChangeNumber = firstChangeNumber;
+    this.lastChangeNumber  = lastChangeNumber;
+
+    entryMap = null;
+  }
+
+
+
   /**
    * Retrieves an unmodifiable map of all entries defined in the server at the
    * time the snapshot was created.  This will include user-defined entries as
@@ -116,12 +170,83 @@ public final class InMemoryDirectoryServerSnapshot
    */
   @NotNull()
   public Map<DN,ReadOnlyEntry> getEntryMap()
+  {
+    Map<DN,ReadOnlyEntry> m = entryMap;
+    if (m == null)
+    {
+      m = journal.getEntryMap(this);
+      entryMap = m;
+    }
+
+    return m;
+  }
+
+
+
+  /**
+   * Retrieves the map of entries for this snapshot, if it is available without
+   * needing to be reconstructed.
+   *
+   * @return  The map of entries for this snapshot, or {@code null} if it is an
+   *          incremental snapshot whose entries have not yet been
+   *          reconstructed.
+   */
+  @Nullable()
+  Map<DN,ReadOnlyEntry> getExistingEntryMap()
   {
     return entryMap;
   }
 
 
 
+  /**
+   * Specifies the map of entries for this snapshot.  This is used to provide a
+   * complete copy of the entries for an incremental snapshot that can no
+   * longer be reconstructed from the journal.
+   *
+   * @param  m  The unmodifiable map of entries for this snapshot.
+   */
+  void setEntryMap(@NotNull final Map<DN,ReadOnlyEntry> m)
+  {
+    if (entryMap == null)
+    {
+      entryMap = m;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the journal generation for this snapshot.
+   *
+   * @return  The journal generation for this snapshot, or {@code null} if it
+   *          is not an incremental snapshot.
+   */
+  @Nullable()
+  InMemoryDirectoryServerSnapshotJournal.Generation getGeneration()
+  {
+    return generation;
+  }
+
+
+
+  /**
+   * Writes the contents of this snapshot to the provided stream, ensuring that
+   * the entries for an incremental snapshot have been reconstructed first.
+   *
+   * @param  stream  The stream to which the snapshot should be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the snapshot.
+   */
+  private void writeObject(@NotNull final ObjectOutputStream stream)
+          throws IOException
+  {
+    getEntryMap();
+    stream.defaultWriteObject();
+  }
+
+
+
   /**
    * Retrieves the first change number for the server at the time the snapshot
    * was created.
@@ -0,0 +1,538 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.util.CloseableReadWriteLock;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that keeps track of changes made to the
+ * entries in an in-memory directory server so that incremental snapshots may
+ * be created and restored without copying all of the entries in the server.
+ * <BR><BR>
+ * The journal is divided into a chain of generations, and a new generation is
+ * started whenever a snapshot is created.  Each generation holds the original
+ * version (as of the start of that generation) of every entry that was altered
+ * while it was the current generation, or {@code null} for entries that did
+ * not exist at that time.  The content of the server at the time a snapshot was
+ * created can then be reconstructed by reverting the changes recorded in the
+ * snapshot's generation and all subsequent generations.
+ * <BR><BR>
+ * Generations that are no longer associated with any snapshot are merged into
+ * the preceding generation when a new snapshot is created, so the number of
+ * generations is bounded by the number of snapshots still in use.  Snapshots
+ * are released when they are garbage collected, and once all of them have
+ * been released, the journal will discard everything it has recorded and will
+ * not record any further changes until another snapshot is created.  If a
+ * snapshot is restored, then any snapshots created after it will be given a
+ * complete copy of their entries, since the changes needed to reconstruct them
+ * will no longer be available.
+ * <BR><BR>
+ * This class does not provide any synchronization of its own.  Methods that
+ * alter the journal must only be invoked while holding the write lock for the
+ * associated request handler.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemoryDirectoryServerSnapshotJournal
+{
+  // The lock that protects the entry map.
+  @NotNull private final CloseableReadWriteLock entryLock;
+
+  // The current generation for the journal.
+  @NotNull private Generation currentGeneration;
+
+  // The map of entries currently held in the server.
+  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+
+
+
+  /**
+   * Creates a new, empty snapshot journal for the provided entry map.
+   *
+   * @param  entryMap   The map of entries currently held in the server.  It
+   *                    must not be {@code null}.
+   * @param  entryLock  The lock that protects the entry map.  It must not be
+   *                    {@code null}.
+   */
+  InMemoryDirectoryServerSnapshotJournal(
+       @NotNull final Map<DN,ReadOnlyEntry> entryMap,
+       @NotNull final CloseableReadWriteLock entryLock)
+  {
+    this.entryMap = entryMap;
+    this.entryLock = entryLock;
+
+    currentGeneration = new Generation(this, null);
+  }
+
+
+
+  /**
+   * Records that the entry with the specified DN has been altered, if it has
+   * not already been altered in the current generation.  Nothing will be
+   * recorded if there are no snapshots still in use, since there is nothing
+   * that could be restored.  This must only be called while holding the write
+   * lock.
+   *
+   * @param  dn             The DN of the entry that has been added, deleted,
+   *                        or replaced.  It must not be {@code null}.
+   * @param  originalEntry  The entry that was held in the server with the
+   *                        specified DN before the change was made, or
+   *                        {@code null} if no such entry existed.
+   */
+  void recordChange(@NotNull final DN dn,
+                    @Nullable final ReadOnlyEntry originalEntry)
+  {
+    if (! hasSnapshots())
+    {
+      discardChanges();
+      return;
+    }
+
+    final Map<DN,ReadOnlyEntry> originalEntries =
+         currentGeneration.originalEntries;
+    if (! originalEntries.containsKey(dn))
+    {
+      originalEntries.put(dn, originalEntry);
+    }
+  }
+
+
+
+  /**
+   * Indicates whether any generation in the journal is still associated with a
+   * snapshot that is in use.
+   *
+   * @return  {@code true} if there is at least one snapshot still in use, or
+   *          {@code false} if all snapshots have been released.
+   */
+  private boolean hasSnapshots()
+  {
+    for (Generation g = currentGeneration; g != null; g = g.previous)
+    {
+      if (g.hasSnapshots())
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Discards all of the changes recorded in the journal and all generations
+   * other than the current one.  This should only be called when there are no
+   * snapshots still in use.
+   */
+  private void discardChanges()
+  {
+    for (Generation g = currentGeneration.previous; g != null; g = g.previous)
+    {
+      g.originalEntries.clear();
+      g.discarded = true;
+    }
+
+    currentGeneration.previous = null;
+    currentGeneration.originalEntries.clear();
+  }
+
+
+
+  /**
+   * Retrieves the total number of original entries recorded in the journal.
+   *
+   * @return  The total number of original entries recorded in the journal.
+   */
+  int getNumRecordedChanges()
+  {
+    int numChanges = 0;
+    for (Generation g = currentGeneration; g != null; g = g.previous)
+    {
+      numChanges += g.originalEntries.size();
+    }
+
+    return numChanges;
+  }
+
+
+
+  /**
+   * Creates a new incremental snapshot that represents the current content of
+   * the server.  This must only be called while holding the write lock.
+   *
+   * @param  firstChangeNumber  The first change number value at the time the
+   *                            snapshot was created.
+   * @param  lastChangeNumber   The last change number value at the time the
+   *                            snapshot was created.
+   *
+   * @return  The snapshot that was created.
+   */
+  @NotNull()
+  InMemoryDirectoryServerSnapshot createSnapshot(final long firstChangeNumber,
+                                                 final long lastChangeNumber)
+  {
+    pruneGenerations();
+
+    // If nothing has changed since the start of the current generation, then
+    // the new snapshot can share it with any existing snapshots.  Otherwise,
+    // start a new generation.
+    if (! currentGeneration.originalEntries.isEmpty())
+    {
+      final Generation newGeneration = new Generation(this, currentGeneration);
+      currentGeneration.next = newGeneration;
+      currentGeneration = newGeneration;
+    }
+
+    final InMemoryDirectoryServerSnapshot snapshot =
+         new InMemoryDirectoryServerSnapshot(this, currentGeneration,
+              firstChangeNumber, lastChangeNumber);
+    currentGeneration.snapshots.add(
+         new WeakReference<InMemoryDirectoryServerSnapshot>(snapshot));
+    return snapshot;
+  }
+
+
+
+  /**
+   * Merges any generations that are no longer associated with any snapshot
+   * into the preceding generation, since it will no longer be possible to
+   * restore the server to the state it had at the start of those generations.
+   */
+  private void pruneGenerations()
+  {
+    Generation g = currentGeneration;
+    while (g != null)
+    {
+      final Generation previous = g.previous;
+      if (! g.hasSnapshots())
+      {
+        if (previous != null)
+        {
+          for (final Map.Entry<DN,ReadOnlyEntry> e :
+               g.originalEntries.entrySet())
+          {
+            if (! previous.originalEntries.containsKey(e.getKey()))
+            {
+              previous.originalEntries.put(e.getKey(), e.getValue());
+            }
+          }
+        }
+
+        g.originalEntries.clear();
+        if (g != currentGeneration)
+        {
+          if (previous != null)
+          {
+            previous.next = g.next;
+          }
+
+          g.next.previous = previous;
+          g.discarded = true;
+        }
+      }
+
+      g = previous;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided snapshot can be restored incrementally by
+   * this journal.
+   *
+   * @param  snapshot  The snapshot for which to make the determination.  It
+   *                   must not be {@code null}.
+   *
+   * @return  {@code true} if the provided snapshot can be restored
+   *          incrementally, or {@code false} if not (for example, because it
+   *          was created by a different server or because a snapshot created
+   *          before it has since been restored).
+   */
+  boolean canRestore(@NotNull final InMemoryDirectoryServerSnapshot snapshot)
+  {
+    final Generation generation = snapshot.getGeneration();
+    return ((generation != null) && (generation.journal == this) &&
+         (! generation.discarded));
+  }
+
+
+
+  /**
+   * Updates the journal to reflect that the provided snapshot is being
+   * restored, and retrieves the changes that must be reverted in order to do
+   * so.  The caller is responsible for applying those changes to the server.
+   * Any other snapshots that were created after the provided snapshot will be
+   * given a complete copy of their entries.  This must only be called while
+   * holding the write lock, and only for a snapshot for which the
+   * {@link #canRestore} method returns {@code true}.
+   *
+   * @param  snapshot  The snapshot being restored.  It must not be
+   *                   {@code null}.
+   *
+   * @return  A map of the DNs of the entries that have been altered since the
+   *          snapshot was created to the versions of those entries that should
+   *          be restored, or to {@code null} for entries that did not exist
+   *          when the snapshot was created.
+   */
+  @NotNull()
+  Map<DN,ReadOnlyEntry> restore(
+       @NotNull final InMemoryDirectoryServerSnapshot snapshot)
+  {
+    final Generation generation = snapshot.getGeneration();
+    final Map<DN,ReadOnlyEntry> changes = getChangesSince(generation);
+
+    Generation g = generation.next;
+    while (g != null)
+    {
+      if (g.hasSnapshots())
+      {
+        final Map<DN,ReadOnlyEntry> m =
+             Collections.unmodifiableMap(materialize(g));
+        for (final WeakReference<InMemoryDirectoryServerSnapshot> ref :
+             g.snapshots)
+        {
+          final InMemoryDirectoryServerSnapshot s = ref.get();
+          if (s != null)
+          {
+            s.setEntryMap(m);
+          }
+        }
+      }
+
+      g.discarded = true;
+      g = g.next;
+    }
+
+    generation.next = null;
+    generation.originalEntries.clear();
+    currentGeneration = generation;
+    return changes;
+  }
+
+
+
+  /**
+   * Retrieves a map of the entries that the server held at the time the
+   * provided snapshot was created.  This will acquire the read lock.
+   *
+   * @param  snapshot  The snapshot for which to retrieve the entry map.  It
+   *                   must not be {@code null}.
+   *
+   * @return  A map of the entries that the server held at the time the
+   *          provided snapshot was created.
+   */
+  @NotNull()
+  Map<DN,ReadOnlyEntry> getEntryMap(
+       @NotNull final InMemoryDirectoryServerSnapshot snapshot)
+  {
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
+    {
+      readLock.avoidCompilerWarning();
+
+      // The snapshot may have been given an entry map while we were waiting
+      // for the lock.
+      final Map<DN,ReadOnlyEntry> existingMap = snapshot.getExistingEntryMap();
+      if (existingMap != null)
+      {
+        return existingMap;
+      }
+
+      return Collections.unmodifiableMap(
+           materialize(snapshot.getGeneration()));
+    }
+  }
+
+
+
+  /**
+   * Reconstructs the complete set of entries that the server held at the start
+   * of the provided generation.
+   *
+   * @param  generation  The generation for which to reconstruct the entries.
+   *
+   * @return  A map of the entries that the server held at the start of the
+   *          provided generation.
+   */
+  @NotNull()
+  private Map<DN,ReadOnlyEntry> materialize(
+               @NotNull final Generation generation)
+  {
+    final TreeMap<DN,ReadOnlyEntry> m = new TreeMap<>(entryMap);
+    for (final Map.Entry<DN,ReadOnlyEntry> e :
+         getChangesSince(generation).entrySet())
+    {
+      if (e.getValue() == null)
+      {
+        m.remove(e.getKey());
+      }
+      else
+      {
+        m.put(e.getKey(), e.getValue());
+      }
+    }
+
+    return m;
+  }
+
+
+
+  /**
+   * Retrieves a map of the original versions of all entries that have been
+   * altered since the start of the provided generation.
+   *
+   * @param  generation  The generation for which to retrieve the changes.
+   *
+   * @return  A map of the original versions of all entries that have been
+   *          altered since the start of the provided generation.
+   */
+  @NotNull()
+  private static Map<DN,ReadOnlyEntry> getChangesSince(
+                      @NotNull final Generation generation)
+  {
+    final TreeMap<DN,ReadOnlyEntry> changes = new TreeMap<>();
+    for (Generation g = generation; g != null; g = g.next)
+    {
+      for (final Map.Entry<DN,ReadOnlyEntry> e : g.originalEntries.entrySet())
+      {
+        if (! changes.containsKey(e.getKey()))
+        {
+          changes.put(e.getKey(), e.getValue());
+        }
+      }
+    }
+
+    return changes;
+  }
+
+
+
+  /**
+   * This class holds information about a single generation in the journal.
+   */
+  @Mutable()
+  @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+  static final class Generation
+  {
+    // Indicates whether this generation has been discarded, which means that
+    // the snapshots associated with it can no longer be restored incrementally.
+    private boolean discarded;
+
+    // The next (newer) generation in the journal.
+    @Nullable private Generation next;
+
+    // The previous (older) generation in the journal.
+    @Nullable private Generation previous;
+
+    // The journal with which this generation is associated.
+    @NotNull private final InMemoryDirectoryServerSnapshotJournal journal;
+
+    // The snapshots that represent the state of the server at the start of
+    // this generation.
+    @NotNull private final List<WeakReference<InMemoryDirectoryServerSnapshot>>
+         snapshots;
+
+    // The original versions of the entries that were altered in this
+    // generation.
+    @NotNull private final Map<DN,ReadOnlyEntry> originalEntries;
+
+
+
+    /**
+     * Creates a new generation with the provided information.
+     *
+     * @param  journal   The journal with which this generation is associated.
+     * @param  previous  The previous generation in the journal, if any.
+     */
+    private Generation(
+                 @NotNull final InMemoryDirectoryServerSnapshotJournal journal,
+                 @Nullable final Generation previous)
+    {
+      this.journal = journal;
+      this.previous = previous;
+
+      next = null;
+      discarded = false;
+      snapshots = new ArrayList<>(1);
+      originalEntries = new TreeMap<>();
+    }
+
+
+
+    /**
+     * Indicates whether there are any snapshots still in use that represent
+     * the state of the server at the start of this generation.  Any references
+     * to snapshots that have been garbage collected will be removed.
+     *
+     * @return  {@code true} if there are any snapshots still associated with
+     *          this generation, or {@code false} if not.
+     */
+    private boolean hasSnapshots()
+    {
+      final Iterator<WeakReference<InMemoryDirectoryServerSnapshot>> iterator =
+           snapshots.iterator();
+      while (iterator.hasNext())
+      {
+        if (iterator.next().get() == null)
+        {
+          iterator.remove();
+        }
+      }
+
+      return (! snapshots.isEmpty());
+    }
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining a substring index for a
+ * specified attribute.  The index maps each three-byte sequence (trigram) that
+ * appears in the normalized values of the attribute to the DNs of the entries
+ * containing that sequence.  A substring filter is evaluated against the index
+ * by intersecting the sets for all of the trigrams in each of its components,
+ * which yields a candidate set that includes every matching entry but may also
+ * include some that do not match.  Substring components that are shorter than
+ * three bytes cannot be used to narrow the candidate set.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerSubstringAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  /**
+   * The number of bytes in each of the sequences used as index keys.
+   */
+  static final int KEY_LENGTH = 3;
+
+
+
+  // A map from trigrams to the DNs of entries with values containing them.
+  @NotNull private final Map<Integer,TreeSet<DN>> indexMap;
+
+  // The matching rule used to normalize values.
+  @NotNull private final MatchingRule matchingRule;
+
+
+
+  /**
+   * Creates a new substring attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerSubstringAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    super(attributeType, schema, ERR_DS_SUBSTRING_INDEX_NO_SCHEMA,
+         ERR_DS_SUBSTRING_INDEX_UNDEFINED_ATTRIBUTE_TYPE);
+
+    matchingRule = MatchingRule.selectSubstringMatchingRule(attributeType,
+         schema);
+
+    indexMap = new HashMap<>(StaticUtils.computeMapCapacity(1000));
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    indexMap.clear();
+  }
+
+
+
+  /**
+   * Retrieves the number of distinct keys held in this index.  This is only
+   * intended for testing purposes.
+   *
+   * @return  The number of distinct keys held in this index.
+   */
+  synchronized int getNumKeys()
+  {
+    return indexMap.size();
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries that may match a substring filter with
+   * the provided components.
+   *
+   * @param  subInitial  The subInitial component, if any.
+   * @param  subAny      The subAny components, if any.
+   * @param  subFinal    The subFinal component, if any.
+   *
+   * @return  A set containing the DNs of the entries that may match the
+   *          filter, or {@code null} if none of the components is long enough
+   *          to be used with the index.
+   *
+   * @throws  LDAPException  If any of the provided components is not
+   *                         acceptable for the associated attribute type.
+   */
+  @Nullable()
+  synchronized Set<DN> getCandidateEntries(
+                            @Nullable final ASN1OctetString subInitial,
+                            @Nullable final ASN1OctetString[] subAny,
+                            @Nullable final ASN1OctetString subFinal)
+               throws LDAPException
+  {
+    final Set<Integer> keys = new HashSet<>(StaticUtils.computeMapCapacity(20));
+    if (subInitial != null)
+    {
+      addKeys(matchingRule.normalizeSubstring(subInitial,
+           MatchingRule.SUBSTRING_TYPE_SUBINITIAL).getValue(), keys);
+    }
+
+    if (subAny != null)
+    {
+      for (final ASN1OctetString s : subAny)
+      {
+        addKeys(matchingRule.normalizeSubstring(s,
+             MatchingRule.SUBSTRING_TYPE_SUBANY).getValue(), keys);
+      }
+    }
+
+    if (subFinal != null)
+    {
+      addKeys(matchingRule.normalizeSubstring(subFinal,
+           MatchingRule.SUBSTRING_TYPE_SUBFINAL).getValue(), keys);
+    }
+
+    if (keys.isEmpty())
+    {
+      return null;
+    }
+
+
+    // Find the sets for all of the keys, starting the intersection with the
+    // smallest one.
+    final List<TreeSet<DN>> dnSets = new ArrayList<>(keys.size());
+    TreeSet<DN> smallestSet = null;
+    for (final Integer key : keys)
+    {
+      final TreeSet<DN> dnSet = indexMap.get(key);
+      if (dnSet == null)
+      {
+        return Collections.emptySet();
+      }
+
+      dnSets.add(dnSet);
+      if ((smallestSet == null) || (dnSet.size() < smallestSet.size()))
+      {
+        smallestSet = dnSet;
+      }
+    }
+
+    final TreeSet<DN> candidateSet = new TreeSet<>(smallestSet);
+    for (final TreeSet<DN> dnSet : dnSets)
+    {
+      if (dnSet != smallestSet)
+      {
+        candidateSet.retainAll(dnSet);
+        if (candidateSet.isEmpty())
+        {
+          break;
+        }
+      }
+    }
+
+    return candidateSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    final Set<Integer> keys = getKeys(entry);
+    if (keys.isEmpty())
+    {
+      return;
+    }
+
+    final DN dn = entry.getParsedDN();
+    for (final Integer key : keys)
+    {
+      TreeSet<DN> dnSet = indexMap.get(key);
+      if (dnSet == null)
+      {
+        dnSet = new TreeSet<>();
+        indexMap.put(key, dnSet);
+      }
+      dnSet.add(dn);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry)
+               throws LDAPException
+  {
+    final Set<Integer> keys = getKeys(entry);
+    if (keys.isEmpty())
+    {
+      return;
+    }
+
+    final DN dn = entry.getParsedDN();
+    for (final Integer key : keys)
+    {
+      final TreeSet<DN> dnSet = indexMap.get(key);
+      if (dnSet != null)
+      {
+        dnSet.remove(dn);
+        if (dnSet.isEmpty())
+        {
+          indexMap.remove(key);
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the set of index keys for all values of the associated
+   * attribute in the provided entry.
+   *
+   * @param  entry  The entry for which to obtain the keys.
+   *
+   * @return  The set of index keys for the provided entry, or an empty set if
+   *          the entry does not have any values long enough to be indexed.
+   *
+   * @throws  LDAPException  If the entry has one or more values that are not
+   *                         acceptable for the associated attribute type.
+   */
+  @NotNull()
+  private Set<Integer> getKeys(@NotNull final Entry entry)
+          throws LDAPException
+  {
+    final Attribute a = getAttribute(entry);
+    if (a == null)
+    {
+      return Collections.emptySet();
+    }
+
+    final Set<Integer> keys = new HashSet<>(StaticUtils.computeMapCapacity(20));
+    for (final ASN1OctetString v : a.getRawValues())
+    {
+      addKeys(matchingRule.normalize(v).getValue(), keys);
+    }
+    return keys;
+  }
+
+
+
+  /**
+   * Adds the index keys for all of the trigrams in the provided byte array to
+   * the given set.
+   *
+   * @param  b     The normalized value for which to obtain the keys.
+   * @param  keys  The set to which the keys should be added.
+   */
+  static void addKeys(@NotNull final byte[] b, @NotNull final Set<Integer> keys)
+  {
+    for (int i=0; i <= (b.length - KEY_LENGTH); i++)
+    {
+      keys.add(((b[i] & 0xFF) << 16) | ((b[i+1] & 0xFF) << 8) |
+           (b[i+2] & 0xFF));
+    }
+  }
+}
@@ -109,6 +109,12 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  *       file to use to initially populate the server.  If this is not provided,
  *       then the server will initially be empty.  The LDIF file will not be
  *       updated as operations are processed in the server.</LI>
+ *   <LI>"--persistenceDirectory {path}" -- specifies the path to a directory
+ *       in which the server should persist its data so that it can be quickly
+ *       reloaded when the server is restarted.  If the directory already holds
+ *       persisted data, then the server will be populated from that data and
+ *       any LDIF file provided with the "--ldifFile" argument will be
+ *       ignored.</LI>
  *   <LI>"-D {bindDN}" or "--additionalBindDN {bindDN}" -- specifies an
  *       additional DN that can be used to authenticate to the server, even if
  *       there is no account for that user.  If this is provided, then the
@@ -173,6 +179,15 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  *       index should be maintained for the specified attribute.  The equality
  *       index may be used to speed up certain kinds of searches, although it
  *       will cause the server to consume more memory.</LI>
+ *   <LI>"--orderingIndex {attr}" -- specifies that an ordering index should be
+ *       maintained for the specified attribute.  The ordering index may be
+ *       used to speed up greater-or-equal and less-or-equal searches.</LI>
+ *   <LI>"--substringIndex {attr}" -- specifies that a substring index should
+ *       be maintained for the specified attribute.  The substring index may be
+ *       used to speed up substring searches.</LI>
+ *   <LI>"--presenceIndex {attr}" -- specifies that a presence index should be
+ *       maintained for the specified attribute.  The presence index may be
+ *       used to speed up presence searches.</LI>
  *   <LI>"-Z" or "--useSSL" -- indicates that the server should encrypt all
  *       communication using SSL.  If this is provided, then the
  *       "--keyStorePath" and "--keyStorePassword" arguments must also be
@@ -357,6 +372,10 @@ public final class InMemoryDirectoryServerTool
   // initially populate the server.
   @Nullable private FileArgument ldifFileArgument;
 
+  // The argument used to specify the path to a directory in which the server
+  // should persist its data.
+  @Nullable private FileArgument persistenceDirectoryArgument;
+
   // The argument used to specify the path to the SSL trust store file.
   @Nullable private FileArgument trustStorePathArgument;
 
@@ -398,6 +417,18 @@ public final class InMemoryDirectoryServerTool
   // indexes.
   @Nullable private StringArgument equalityIndexArgument;
 
+  // The argument used to specify the attributes for which to maintain ordering
+  // indexes.
+  @Nullable private StringArgument orderingIndexArgument;
+
+  // The argument used to specify the attributes for which to maintain presence
+  // indexes.
+  @Nullable private StringArgument presenceIndexArgument;
+
+  // The argument used to specify the attributes for which to maintain
+  // substring indexes.
+  @Nullable private StringArgument substringIndexArgument;
+
   // The argument used to specify the password to use to access the contents of
   // the SSL key store
   @Nullable private StringArgument keyStorePasswordArgument;
@@ -507,6 +538,7 @@ public final class InMemoryDirectoryServerTool
     ldapDebugLogToStandardOutArgument = null;
     ldapDebugLogFileArgument = null;
     ldifFileArgument = null;
+    persistenceDirectoryArgument = null;
     trustStorePathArgument = null;
     useSchemaFileArgument = null;
     maxChangeLogEntriesArgument = null;
@@ -518,6 +550,9 @@ public final class InMemoryDirectoryServerTool
     authenticationRequiredOperationTypeArgument = null;
     defaultPasswordEncodingArgument = null;
     equalityIndexArgument = null;
+    orderingIndexArgument = null;
+    presenceIndexArgument = null;
+    substringIndexArgument = null;
     keyStorePasswordArgument = null;
     keyStoreTypeArgument = null;
     passwordAttributeArgument = null;
@@ -742,6 +777,17 @@ public final class InMemoryDirectoryServerTool
     ldifFileArgument.addLongIdentifier("ldif-file", true);
     parser.addArgument(ldifFileArgument);
 
+    persistenceDirectoryArgument = new FileArgument(null,
+         "persistenceDirectory", false, 1,
+         INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_PATH.get(),
+         INFO_MEM_DS_TOOL_ARG_DESC_PERSISTENCE_DIRECTORY.get(), false, false,
+         false, true);
+    persistenceDirectoryArgument.setArgumentGroupName(
+         INFO_MEM_DS_TOOL_GROUP_DATA.get());
+    persistenceDirectoryArgument.addLongIdentifier("persistence-directory",
+         true);
+    parser.addArgument(persistenceDirectoryArgument);
+
     additionalBindDNArgument = new DNArgument('D', "additionalBindDN", false, 1,
          INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_BIND_DN.get(),
          INFO_MEM_DS_TOOL_ARG_DESC_ADDITIONAL_BIND_DN.get());
@@ -795,6 +841,30 @@ public final class InMemoryDirectoryServerTool
     equalityIndexArgument.addLongIdentifier("equality-index", true);
     parser.addArgument(equalityIndexArgument);
 
+    orderingIndexArgument = new StringArgument(null, "orderingIndex", false, 0,
+         INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_ATTR.get(),
+         INFO_MEM_DS_TOOL_ARG_DESC_ORDERING_INDEX.get());
+    orderingIndexArgument.setArgumentGroupName(
+         INFO_MEM_DS_TOOL_GROUP_DATA.get());
+    orderingIndexArgument.addLongIdentifier("ordering-index", true);
+    parser.addArgument(orderingIndexArgument);
+
+    substringIndexArgument = new StringArgument(null, "substringIndex", false,
+         0, INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_ATTR.get(),
+         INFO_MEM_DS_TOOL_ARG_DESC_SUBSTRING_INDEX.get());
+    substringIndexArgument.setArgumentGroupName(
+         INFO_MEM_DS_TOOL_GROUP_DATA.get());
+    substringIndexArgument.addLongIdentifier("substring-index", true);
+    parser.addArgument(substringIndexArgument);
+
+    presenceIndexArgument = new StringArgument(null, "presenceIndex", false, 0,
+         INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_ATTR.get(),
+         INFO_MEM_DS_TOOL_ARG_DESC_PRESENCE_INDEX.get());
+    presenceIndexArgument.setArgumentGroupName(
+         INFO_MEM_DS_TOOL_GROUP_DATA.get());
+    presenceIndexArgument.addLongIdentifier("presence-index", true);
+    parser.addArgument(presenceIndexArgument);
+
     maxChangeLogEntriesArgument = new IntegerArgument('c',
          "maxChangeLogEntries", false, 1,
          INFO_MEM_DS_TOOL_ARG_PLACEHOLDER_COUNT.get(),
@@ -1085,6 +1155,13 @@ public final class InMemoryDirectoryServerTool
     }
 
 
+    // Determine whether the server will be populated from persisted data.
+    final boolean usePersistedData =
+         persistenceDirectoryArgument.isPresent() &&
+         InMemoryDirectoryServerPersistentStore.containsPersistedData(
+              persistenceDirectoryArgument.getValue());
+
+
     // Create the server instance using the provided configuration, but don't
     // start it yet.
     try
@@ -1100,8 +1177,16 @@ public final class InMemoryDirectoryServerTool
     }
 
 
-    // If an LDIF file was provided, then use it to populate the server.
-    if (ldifFileArgument.isPresent())
+    // If an LDIF file was provided, then use it to populate the server, unless
+    // the server has already been populated from persisted data.
+    if (usePersistedData)
+    {
+      wrapOut(0, WRAP_COLUMN,
+           INFO_MEM_DS_TOOL_LOADED_PERSISTED_DATA.get(
+                directoryServer.countEntries(),
+                persistenceDirectoryArgument.getValue().getAbsolutePath()));
+    }
+    else if (ldifFileArgument.isPresent())
     {
       final File ldifFile = ldifFileArgument.getValue();
       try
@@ -1287,6 +1372,15 @@ public final class InMemoryDirectoryServerTool
     }
 
 
+    // If a persistence directory was specified, then update the configuration
+    // with that.
+    if (persistenceDirectoryArgument.isPresent())
+    {
+      serverConfig.setPersistenceDirectory(
+           persistenceDirectoryArgument.getValue());
+    }
+
+
     // If a maximum number of changelog entries was specified, then update the
     // configuration with that.
     if (maxChangeLogEntriesArgument.isPresent())
@@ -1695,6 +1789,27 @@ public final class InMemoryDirectoryServerTool
            equalityIndexArgument.getValues());
     }
 
+
+    // If ordering, substring, or presence indexing is to be performed, then
+    // configure it.
+    if (orderingIndexArgument.isPresent())
+    {
+      serverConfig.setOrderingIndexAttributes(
+           orderingIndexArgument.getValues());
+    }
+
+    if (substringIndexArgument.isPresent())
+    {
+      serverConfig.setSubstringIndexAttributes(
+           substringIndexArgument.getValues());
+    }
+
+    if (presenceIndexArgument.isPresent())
+    {
+      serverConfig.setPresenceIndexAttributes(
+           presenceIndexArgument.getValues());
+    }
+
     return serverConfig;
   }
 
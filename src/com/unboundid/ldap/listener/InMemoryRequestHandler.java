@@ -151,6 +151,7 @@ import com.unboundid.ldif.LDIFModifyChangeRecord;
 import com.unboundid.ldif.LDIFModifyDNChangeRecord;
 import com.unboundid.ldif.LDIFReader;
 import com.unboundid.ldif.LDIFWriter;
+import com.unboundid.util.CloseableReadWriteLock;
 import com.unboundid.util.Debug;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -170,6 +171,11 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  * It is primarily intended for use in creating a simple embeddable directory
  * server that can be used for testing purposes.  It performs only very basic
  * validation, and is not intended to be a fully standards-compliant server.
+ * <BR><BR>
+ * Operations that only need to read data (including searches, compares, and
+ * simple binds) may be processed concurrently, while operations that may alter
+ * the data will be processed one at a time and will not overlap with any
+ * reads.
  */
 @Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -183,6 +189,15 @@ public final class InMemoryRequestHandler
 
 
 
+  /**
+   * The maximum number of search result entries and references that will be
+   * collected for a search request before they are sent to the client.  The
+   * read lock will be released while each batch is sent.
+   */
+  private static final int SEARCH_RESULT_BATCH_SIZE = 100;
+
+
+
   /**
    * The OID for a proprietary control that can be used to indicate that the
    * associated operation should be considered an internal operation that was
@@ -232,6 +247,9 @@ public final class InMemoryRequestHandler
 
   // A snapshot containing the server content as it initially appeared.  It
   // will not contain any user data, but may contain a changelog base entry.
+  // This is always a complete copy rather than an incremental snapshot, since
+  // an incremental snapshot that is never released would cause the snapshot
+  // journal to record every change made for the life of the server.
   @NotNull private final InMemoryDirectoryServerSnapshot initialSnapshot;
 
   // The primary password encoder for the server.
@@ -258,10 +276,26 @@ public final class InMemoryRequestHandler
   // OIDs for each attribute type, when available.
   @NotNull private final List<String> extendedPasswordAttributes;
 
+  // The list of all attribute indexes defined for the server.
+  @NotNull private final List<InMemoryDirectoryServerAttributeIndex>
+       attributeIndexes;
+
   // The set of equality indexes defined for the server.
   @NotNull private final Map<AttributeTypeDefinition,
      InMemoryDirectoryServerEqualityAttributeIndex> equalityIndexes;
 
+  // The set of ordering indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerOrderingAttributeIndex> orderingIndexes;
+
+  // The set of presence indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerPresenceAttributeIndex> presenceIndexes;
+
+  // The set of substring indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerSubstringAttributeIndex> substringIndexes;
+
   // An additional set of credentials that may be used for bind operations.
   @NotNull private final Map<DN,byte[]> additionalBindCredentials;
 
@@ -282,7 +316,41 @@ public final class InMemoryRequestHandler
   @NotNull private final Set<String> referentialIntegrityAttributes;
 
   // The map of entries currently held in the server.
-  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+  @NotNull private final TreeMap<DN,ReadOnlyEntry> entryMap;
+
+  // The lock used to control access to the entry map and its associated
+  // indexes.  Operations that only need to read data will acquire the read
+  // lock so that they can be processed concurrently, while operations that may
+  // alter the data will acquire the write lock.
+  @NotNull private final CloseableReadWriteLock entryLock;
+
+  // The index that keeps track of the hierarchical relationships between the
+  // entries in the entry map, which makes it possible to find the entries
+  // within a given scope without examining every entry in the server.
+  @NotNull private final InMemoryDirectoryServerHierarchyIndex hierarchyIndex;
+
+  // The journal used to keep track of changes for incremental snapshots.  This
+  // will be null if the server is not configured to use incremental snapshots.
+  @Nullable private final InMemoryDirectoryServerSnapshotJournal
+       snapshotJournal;
+
+  // The store used to persist the entries in the server.  This will be null if
+  // the server is not configured with a persistence directory.
+  @Nullable private final InMemoryDirectoryServerPersistentStore
+       persistentStore;
+
+  // The original versions of the entries that have been altered by the write
+  // operation currently being processed, so that the operation can be reverted
+  // if its changes cannot be persisted.  This will only be non-null while such
+  // an operation is in progress in a server with a persistence directory, and
+  // must only be accessed while holding the write lock.
+  @Nullable private Map<DN,ReadOnlyEntry> persistedOperationOriginalEntries;
+
+  // The number of nested write operations that are in progress, and the change
+  // number values at the time the outermost of them began.
+  private int persistedOperationDepth;
+  private long persistedOperationFirstChangeNumber;
+  private long persistedOperationLastChangeNumber;
 
 
 
@@ -326,6 +394,28 @@ public final class InMemoryRequestHandler
     }
 
     entryMap = new TreeMap<>();
+    entryLock = new CloseableReadWriteLock();
+    hierarchyIndex = new InMemoryDirectoryServerHierarchyIndex();
+
+    if (config.useIncrementalSnapshots())
+    {
+      snapshotJournal =
+           new InMemoryDirectoryServerSnapshotJournal(entryMap, entryLock);
+    }
+    else
+    {
+      snapshotJournal = null;
+    }
+
+    if (config.getPersistenceDirectory() == null)
+    {
+      persistentStore = null;
+    }
+    else
+    {
+      persistentStore = new InMemoryDirectoryServerPersistentStore(
+           config.getPersistenceDirectory(), schema, entryMap);
+    }
 
     final LinkedHashSet<DN> baseDNSet =
          new LinkedHashSet<>(Arrays.asList(baseDNArray));
@@ -393,6 +483,9 @@ public final class InMemoryRequestHandler
     additionalBindCredentials = Collections.unmodifiableMap(
          config.getAdditionalBindCredentials());
 
+    final ArrayList<InMemoryDirectoryServerAttributeIndex> allIndexes =
+         new ArrayList<>(10);
+
     final List<String> eqIndexAttrs = config.getEqualityIndexAttributes();
     equalityIndexes = new HashMap<>(
          StaticUtils.computeMapCapacity(eqIndexAttrs.size()));
@@ -401,8 +494,44 @@ public final class InMemoryRequestHandler
       final InMemoryDirectoryServerEqualityAttributeIndex i =
            new InMemoryDirectoryServerEqualityAttributeIndex(s, schema);
       equalityIndexes.put(i.getAttributeType(), i);
+      allIndexes.add(i);
+    }
+
+    final List<String> ordIndexAttrs = config.getOrderingIndexAttributes();
+    orderingIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(ordIndexAttrs.size()));
+    for (final String s : ordIndexAttrs)
+    {
+      final InMemoryDirectoryServerOrderingAttributeIndex i =
+           new InMemoryDirectoryServerOrderingAttributeIndex(s, schema);
+      orderingIndexes.put(i.getAttributeType(), i);
+      allIndexes.add(i);
+    }
+
+    final List<String> subIndexAttrs = config.getSubstringIndexAttributes();
+    substringIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(subIndexAttrs.size()));
+    for (final String s : subIndexAttrs)
+    {
+      final InMemoryDirectoryServerSubstringAttributeIndex i =
+           new InMemoryDirectoryServerSubstringAttributeIndex(s, schema);
+      substringIndexes.put(i.getAttributeType(), i);
+      allIndexes.add(i);
+    }
+
+    final List<String> presIndexAttrs = config.getPresenceIndexAttributes();
+    presenceIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(presIndexAttrs.size()));
+    for (final String s : presIndexAttrs)
+    {
+      final InMemoryDirectoryServerPresenceAttributeIndex i =
+           new InMemoryDirectoryServerPresenceAttributeIndex(s, schema);
+      presenceIndexes.put(i.getAttributeType(), i);
+      allIndexes.add(i);
     }
 
+    attributeIndexes = Collections.unmodifiableList(allIndexes);
+
     final Set<String> pwAttrSet = config.getPasswordAttributes();
     final LinkedHashSet<String> basePWAttrSet =
          new LinkedHashSet<>(StaticUtils.computeMapCapacity(pwAttrSet.size()));
@@ -491,11 +620,17 @@ public final class InMemoryRequestHandler
            new Attribute("subschemaSubentry",
                 DistinguishedNameMatchingRule.getInstance(),
                 subschemaSubentryDN.toString()));
-      entryMap.put(changeLogBaseDN, changeLogBaseEntry);
+      putEntry(changeLogBaseDN, changeLogBaseEntry);
       indexAdd(changeLogBaseEntry);
     }
 
-    initialSnapshot = createSnapshot();
+    initialSnapshot = new InMemoryDirectoryServerSnapshot(entryMap,
+         firstChangeNumber.get(), lastChangeNumber.get());
+
+    if (persistentStore != null)
+    {
+      loadPersistedEntries();
+    }
   }
 
 
@@ -526,9 +661,17 @@ public final class InMemoryRequestHandler
     processingDelayMillis          = parent.processingDelayMillis;
     maxChangelogEntries            = parent.maxChangelogEntries;
     maxSizeLimit                   = parent.maxSizeLimit;
+    attributeIndexes               = parent.attributeIndexes;
     equalityIndexes                = parent.equalityIndexes;
+    orderingIndexes                = parent.orderingIndexes;
+    presenceIndexes                = parent.presenceIndexes;
+    substringIndexes               = parent.substringIndexes;
     referentialIntegrityAttributes = parent.referentialIntegrityAttributes;
     entryMap                       = parent.entryMap;
+    entryLock                      = parent.entryLock;
+    hierarchyIndex                 = parent.hierarchyIndex;
+    snapshotJournal                = parent.snapshotJournal;
+    persistentStore                = parent.persistentStore;
     entryValidatorRef              = parent.entryValidatorRef;
     extendedRequestHandlers        = parent.extendedRequestHandlers;
     saslBindHandlers               = parent.saslBindHandlers;
@@ -567,10 +710,28 @@ public final class InMemoryRequestHandler
 
 
 
+  /**
+   * Retrieves the journal used to keep track of changes for incremental
+   * snapshots.
+   *
+   * @return  The journal used to keep track of changes for incremental
+   *          snapshots, or {@code null} if the server is not configured to use
+   *          incremental snapshots.
+   */
+  @Nullable()
+  InMemoryDirectoryServerSnapshotJournal getSnapshotJournal()
+  {
+    return snapshotJournal;
+  }
+
+
+
   /**
    * Creates a point-in-time snapshot of the information contained in this
    * in-memory request handler.  If desired, it may be restored using the
-   * {@link #restoreSnapshot} method.
+   * {@link #restoreSnapshot} method.  If the server is configured to use
+   * incremental snapshots, then this will not copy any of the entries in the
+   * server.
    *
    * @return  The snapshot created based on the current content of this
    *          in-memory request handler.
@@ -578,8 +739,21 @@ public final class InMemoryRequestHandler
   @NotNull()
   public InMemoryDirectoryServerSnapshot createSnapshot()
   {
-    synchronized (entryMap)
+    if (snapshotJournal != null)
+    {
+      try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+
+        return snapshotJournal.createSnapshot(firstChangeNumber.get(),
+             lastChangeNumber.get());
+      }
+    }
+
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       return new InMemoryDirectoryServerSnapshot(entryMap,
            firstChangeNumber.get(), lastChangeNumber.get());
     }
@@ -589,7 +763,10 @@ public final class InMemoryRequestHandler
 
   /**
    * Updates the content of this in-memory request handler to match what it was
-   * at the time the snapshot was created.
+   * at the time the snapshot was created.  If the provided snapshot is an
+   * incremental snapshot created by this request handler, then only the
+   * entries that have been altered since the snapshot was created will be
+   * reverted.
    *
    * @param  snapshot  The snapshot to be restored.  It must not be
    *                   {@code null}.
@@ -597,13 +774,76 @@ public final class InMemoryRequestHandler
   public void restoreSnapshot(
                    @NotNull final InMemoryDirectoryServerSnapshot snapshot)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
+      if ((snapshotJournal != null) && snapshotJournal.canRestore(snapshot))
+      {
+        for (final Map.Entry<DN,ReadOnlyEntry> e :
+             snapshotJournal.restore(snapshot).entrySet())
+        {
+          final DN dn = e.getKey();
+          final ReadOnlyEntry currentEntry = entryMap.remove(dn);
+          if (currentEntry != null)
+          {
+            hierarchyIndex.remove(dn);
+            indexDelete(currentEntry);
+          }
+
+          final ReadOnlyEntry originalEntry = e.getValue();
+          if (originalEntry != null)
+          {
+            entryMap.put(dn, originalEntry);
+            hierarchyIndex.add(dn);
+            indexAdd(originalEntry);
+          }
+
+          if (persistentStore != null)
+          {
+            persistentStore.recordChange(dn, originalEntry);
+          }
+        }
+
+        firstChangeNumber.set(snapshot.getFirstChangeNumber());
+        lastChangeNumber.set(snapshot.getLastChangeNumber());
+        return;
+      }
+
+      // If incremental snapshots are in use, then record every entry that will
+      // be replaced so that any other snapshots can still be restored.
+      final Map<DN,ReadOnlyEntry> snapshotEntryMap = snapshot.getEntryMap();
+      if (snapshotJournal != null)
+      {
+        for (final Map.Entry<DN,ReadOnlyEntry> e : entryMap.entrySet())
+        {
+          snapshotJournal.recordChange(e.getKey(), e.getValue());
+        }
+
+        for (final DN dn : snapshotEntryMap.keySet())
+        {
+          if (! entryMap.containsKey(dn))
+          {
+            snapshotJournal.recordChange(dn, null);
+          }
+        }
+      }
+
       entryMap.clear();
-      entryMap.putAll(snapshot.getEntryMap());
+      entryMap.putAll(snapshotEntryMap);
+
+      if (persistentStore != null)
+      {
+        persistentStore.recordReplacement();
+      }
+
+      hierarchyIndex.clear();
+      for (final DN dn : entryMap.keySet())
+      {
+        hierarchyIndex.add(dn);
+      }
 
-      for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-           equalityIndexes.values())
+      for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
       {
         i.clear();
         for (final Entry e : entryMap.values())
@@ -890,405 +1130,462 @@ public final class InMemoryRequestHandler
                           @NotNull final AddRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
-      // Sleep before processing, if appropriate.
-      sleepBeforeProcessing();
+      writeLock.avoidCompilerWarning();
 
-      // Process the provided request controls.
-      final Map<String,Control> controlMap;
+      // If the changes made by the operation cannot be persisted, then they
+      // will have been reverted, and the operation must be rejected.
+      beginPersistedOperation();
+      LDAPMessage response = null;
       try
       {
-        controlMap = RequestControlPreProcessor.processControls(
-             LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST, controls);
+        response = processAddRequestWithLock(messageID, request, controls);
       }
-      catch (final LDAPException le)
+      finally
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
+        final String persistenceFailureMessage = endPersistedOperation();
+        if (persistenceFailureMessage != null)
+        {
+          response = new LDAPMessage(messageID, new AddResponseProtocolOp(
+               ResultCode.UNAVAILABLE_INT_VALUE, null,
+               persistenceFailureMessage, null));
+        }
       }
-      final ArrayList<Control> responseControls = new ArrayList<>(1);
 
+      return response;
+    }
+  }
 
-      // If this operation type is not allowed, then reject it.
-      final boolean isInternalOp =
-           controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
-      if ((! isInternalOp) &&
-           (! config.getAllowedOperationTypes().contains(OperationType.ADD)))
-      {
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_NOT_ALLOWED.get(), null));
-      }
 
 
-      // If this operation type requires authentication, then ensure that the
-      // client is authenticated.
-      if ((authenticatedDN.isNullDN() &&
-           config.getAuthenticationRequiredOperationTypes().contains(
-                OperationType.ADD)))
+  /**
+   * Processes the provided add request.  The caller must hold the write
+   * lock.
+   *
+   * @param  messageID  The message ID of the LDAP message containing the
+   *                    request.
+   * @param  request    The request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processAddRequestWithLock(final int messageID,
+                           @NotNull final AddRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
+
+    // Process the provided request controls.
+    final Map<String,Control> controlMap;
+    try
+    {
+      controlMap = RequestControlPreProcessor.processControls(
+           LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST, controls);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
+    final ArrayList<Control> responseControls = new ArrayList<>(1);
+
+
+    // If this operation type is not allowed, then reject it.
+    final boolean isInternalOp =
+         controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
+    if ((! isInternalOp) &&
+         (! config.getAllowedOperationTypes().contains(OperationType.ADD)))
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_NOT_ALLOWED.get(), null));
+    }
+
+
+    // If changes cannot currently be persisted, then reject the operation
+    // rather than acknowledging a change that could be lost.
+    final String persistenceFailureMessage = getPersistenceFailureMessage();
+    if (persistenceFailureMessage != null)
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.UNAVAILABLE_INT_VALUE, null,
+           persistenceFailureMessage, null));
+    }
+
+
+    // If this operation type requires authentication, then ensure that the
+    // client is authenticated.
+    if ((authenticatedDN.isNullDN() &&
+         config.getAuthenticationRequiredOperationTypes().contains(
+              OperationType.ADD)))
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_REQUIRES_AUTH.get(), null));
+    }
+
+
+    // See if this add request is part of a transaction.  If so, then perform
+    // appropriate processing for it and return success immediately without
+    // actually doing any further processing.
+    try
+    {
+      final ASN1OctetString txnID =
+           processTransactionRequest(messageID, request, controlMap);
+      if (txnID != null)
       {
         return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_REQUIRES_AUTH.get(), null));
+             ResultCode.SUCCESS_INT_VALUE, null,
+             INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
       }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID,
+           new AddResponseProtocolOp(le.getResultCode().intValue(),
+                le.getMatchedDN(), le.getDiagnosticMessage(),
+                StaticUtils.toList(le.getReferralURLs())),
+           le.getResponseControls());
+    }
 
 
-      // See if this add request is part of a transaction.  If so, then perform
-      // appropriate processing for it and return success immediately without
-      // actually doing any further processing.
-      try
-      {
-        final ASN1OctetString txnID =
-             processTransactionRequest(messageID, request, controlMap);
-        if (txnID != null)
-        {
-          return new LDAPMessage(messageID, new AddResponseProtocolOp(
-               ResultCode.SUCCESS_INT_VALUE, null,
-               INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
-        }
-      }
-      catch (final LDAPException le)
+    // Get the entry to be added.  If a schema was provided, then make sure
+    // the attributes are created with the appropriate matching rules.
+    final Entry entry;
+    final Schema schema = schemaRef.get();
+    if (schema == null)
+    {
+      entry = new Entry(request.getDN(), request.getAttributes());
+    }
+    else
+    {
+      final List<Attribute> providedAttrs = request.getAttributes();
+      final List<Attribute> newAttrs = new ArrayList<>(providedAttrs.size());
+      for (final Attribute a : providedAttrs)
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID,
-             new AddResponseProtocolOp(le.getResultCode().intValue(),
-                  le.getMatchedDN(), le.getDiagnosticMessage(),
-                  StaticUtils.toList(le.getReferralURLs())),
-             le.getResponseControls());
+        final String baseName = a.getBaseName();
+        final MatchingRule matchingRule =
+             MatchingRule.selectEqualityMatchingRule(baseName, schema);
+        newAttrs.add(new Attribute(a.getName(), matchingRule,
+             a.getRawValues()));
       }
 
+      entry = new Entry(request.getDN(), schema, newAttrs);
+    }
 
-      // Get the entry to be added.  If a schema was provided, then make sure
-      // the attributes are created with the appropriate matching rules.
-      final Entry entry;
-      final Schema schema = schemaRef.get();
-      if (schema == null)
+    // Make sure that the DN is valid.
+    final DN dn;
+    try
+    {
+      dn = entry.getParsedDN();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_MALFORMED_DN.get(request.getDN(),
+                le.getMessage()),
+           null));
+    }
+
+    // See if the DN is the null DN, the schema entry DN, or a changelog
+    // entry.
+    if (dn.isNullDN())
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_ROOT_DSE.get(), null));
+    }
+    else if (dn.isDescendantOf(subschemaSubentryDN, true))
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_SCHEMA.get(subschemaSubentryDN.toString()),
+           null));
+    }
+    else if (dn.isDescendantOf(changeLogBaseDN, true))
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_CHANGELOG.get(changeLogBaseDN.toString()),
+           null));
+    }
+
+    // See if there is a referral at or above the target entry.
+    if (! controlMap.containsKey(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
+    {
+      final Entry referralEntry = findNearestReferral(dn);
+      if (referralEntry != null)
       {
-        entry = new Entry(request.getDN(), request.getAttributes());
+        return new LDAPMessage(messageID, new AddResponseProtocolOp(
+             ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
+             INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
+             getReferralURLs(dn, referralEntry)));
       }
-      else
+    }
+
+    // See if another entry exists with the same DN.
+    if (entryMap.containsKey(dn))
+    {
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_ADD_ALREADY_EXISTS.get(request.getDN()), null));
+    }
+
+    // Make sure that all RDN attribute values are present in the entry.
+    final RDN      rdn           = dn.getRDN();
+    final String[] rdnAttrNames  = rdn.getAttributeNames();
+    final byte[][] rdnAttrValues = rdn.getByteArrayAttributeValues();
+    for (int i=0; i < rdnAttrNames.length; i++)
+    {
+      final MatchingRule matchingRule =
+           MatchingRule.selectEqualityMatchingRule(rdnAttrNames[i], schema);
+      entry.addAttribute(new Attribute(rdnAttrNames[i], matchingRule,
+           rdnAttrValues[i]));
+    }
+
+    // Make sure that all superior object classes are present in the entry.
+    if (schema != null)
+    {
+      final String[] objectClasses = entry.getObjectClassValues();
+      if (objectClasses != null)
       {
-        final List<Attribute> providedAttrs = request.getAttributes();
-        final List<Attribute> newAttrs = new ArrayList<>(providedAttrs.size());
-        for (final Attribute a : providedAttrs)
+        final LinkedHashMap<String,String> ocMap = new LinkedHashMap<>(
+             StaticUtils.computeMapCapacity(objectClasses.length));
+        for (final String ocName : objectClasses)
         {
-          final String baseName = a.getBaseName();
-          final MatchingRule matchingRule =
-               MatchingRule.selectEqualityMatchingRule(baseName, schema);
-          newAttrs.add(new Attribute(a.getName(), matchingRule,
-               a.getRawValues()));
+          final ObjectClassDefinition oc = schema.getObjectClass(ocName);
+          if (oc == null)
+          {
+            ocMap.put(StaticUtils.toLowerCase(ocName), ocName);
+          }
+          else
+          {
+            ocMap.put(StaticUtils.toLowerCase(oc.getNameOrOID()), ocName);
+            for (final ObjectClassDefinition supClass :
+                 oc.getSuperiorClasses(schema, true))
+            {
+              ocMap.put(StaticUtils.toLowerCase(supClass.getNameOrOID()),
+                   supClass.getNameOrOID());
+            }
+          }
         }
 
-        entry = new Entry(request.getDN(), schema, newAttrs);
+        final String[] newObjectClasses = new String[ocMap.size()];
+        ocMap.values().toArray(newObjectClasses);
+        entry.setAttribute("objectClass", newObjectClasses);
       }
+    }
 
-      // Make sure that the DN is valid.
-      final DN dn;
-      try
-      {
-        dn = entry.getParsedDN();
-      }
-      catch (final LDAPException le)
+    // If a schema was provided, then make sure the entry complies with it.
+    // Also make sure that there are no attributes marked with
+    // NO-USER-MODIFICATION.
+    final EntryValidator entryValidator = entryValidatorRef.get();
+    if (entryValidator != null)
+    {
+      final ArrayList<String> invalidReasons = new ArrayList<>(1);
+      if (! entryValidator.entryIsValid(entry, invalidReasons))
       {
-        Debug.debugException(le);
         return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_MALFORMED_DN.get(request.getDN(),
-                  le.getMessage()),
-             null));
+             ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
+             ERR_MEM_HANDLER_ADD_VIOLATES_SCHEMA.get(request.getDN(),
+                  StaticUtils.concatenateStrings(invalidReasons)), null));
       }
 
-      // See if the DN is the null DN, the schema entry DN, or a changelog
-      // entry.
-      if (dn.isNullDN())
-      {
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_ROOT_DSE.get(), null));
-      }
-      else if (dn.isDescendantOf(subschemaSubentryDN, true))
+      if ((! isInternalOp) && (schema != null) &&
+          (! controlMap.containsKey(IgnoreNoUserModificationRequestControl.
+                  IGNORE_NO_USER_MODIFICATION_REQUEST_OID)))
       {
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_SCHEMA.get(subschemaSubentryDN.toString()),
-             null));
-      }
-      else if (dn.isDescendantOf(changeLogBaseDN, true))
-      {
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_CHANGELOG.get(changeLogBaseDN.toString()),
-             null));
+        for (final Attribute a : entry.getAttributes())
+        {
+          final AttributeTypeDefinition at =
+               schema.getAttributeType(a.getBaseName());
+          if ((at != null) && at.isNoUserModification())
+          {
+            return new LDAPMessage(messageID, new AddResponseProtocolOp(
+                 ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
+                 ERR_MEM_HANDLER_ADD_CONTAINS_NO_USER_MOD.get(request.getDN(),
+                      a.getName()), null));
+          }
+        }
       }
+    }
 
-      // See if there is a referral at or above the target entry.
-      if (! controlMap.containsKey(
-           ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
-      {
-        final Entry referralEntry = findNearestReferral(dn);
-        if (referralEntry != null)
-        {
-          return new LDAPMessage(messageID, new AddResponseProtocolOp(
-               ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
-               INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
-               getReferralURLs(dn, referralEntry)));
-        }
-      }
+    // If the entry contains a proxied authorization control, then process it.
+    final DN authzDN;
+    try
+    {
+      authzDN = handleProxiedAuthControl(controlMap);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
 
-      // See if another entry exists with the same DN.
-      if (entryMap.containsKey(dn))
+    // Add a number of operational attributes to the entry.
+    if (generateOperationalAttributes)
+    {
+      final Date d = new Date();
+      if (! entry.hasAttribute("entryDN"))
       {
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_ADD_ALREADY_EXISTS.get(request.getDN()), null));
+        entry.addAttribute(new Attribute("entryDN",
+             DistinguishedNameMatchingRule.getInstance(),
+             dn.toNormalizedString()));
       }
-
-      // Make sure that all RDN attribute values are present in the entry.
-      final RDN      rdn           = dn.getRDN();
-      final String[] rdnAttrNames  = rdn.getAttributeNames();
-      final byte[][] rdnAttrValues = rdn.getByteArrayAttributeValues();
-      for (int i=0; i < rdnAttrNames.length; i++)
+      if (! entry.hasAttribute("entryUUID"))
       {
-        final MatchingRule matchingRule =
-             MatchingRule.selectEqualityMatchingRule(rdnAttrNames[i], schema);
-        entry.addAttribute(new Attribute(rdnAttrNames[i], matchingRule,
-             rdnAttrValues[i]));
+        entry.addAttribute(new Attribute("entryUUID",
+             UUID.randomUUID().toString()));
       }
-
-      // Make sure that all superior object classes are present in the entry.
-      if (schema != null)
+      if (! entry.hasAttribute("subschemaSubentry"))
       {
-        final String[] objectClasses = entry.getObjectClassValues();
-        if (objectClasses != null)
-        {
-          final LinkedHashMap<String,String> ocMap = new LinkedHashMap<>(
-               StaticUtils.computeMapCapacity(objectClasses.length));
-          for (final String ocName : objectClasses)
-          {
-            final ObjectClassDefinition oc = schema.getObjectClass(ocName);
-            if (oc == null)
-            {
-              ocMap.put(StaticUtils.toLowerCase(ocName), ocName);
-            }
-            else
-            {
-              ocMap.put(StaticUtils.toLowerCase(oc.getNameOrOID()), ocName);
-              for (final ObjectClassDefinition supClass :
-                   oc.getSuperiorClasses(schema, true))
-              {
-                ocMap.put(StaticUtils.toLowerCase(supClass.getNameOrOID()),
-                     supClass.getNameOrOID());
-              }
-            }
-          }
-
-          final String[] newObjectClasses = new String[ocMap.size()];
-          ocMap.values().toArray(newObjectClasses);
-          entry.setAttribute("objectClass", newObjectClasses);
-        }
+        entry.addAttribute(new Attribute("subschemaSubentry",
+             DistinguishedNameMatchingRule.getInstance(),
+             subschemaSubentryDN.toString()));
       }
-
-      // If a schema was provided, then make sure the entry complies with it.
-      // Also make sure that there are no attributes marked with
-      // NO-USER-MODIFICATION.
-      final EntryValidator entryValidator = entryValidatorRef.get();
-      if (entryValidator != null)
+      if (! entry.hasAttribute("creatorsName"))
       {
-        final ArrayList<String> invalidReasons = new ArrayList<>(1);
-        if (! entryValidator.entryIsValid(entry, invalidReasons))
-        {
-          return new LDAPMessage(messageID, new AddResponseProtocolOp(
-               ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
-               ERR_MEM_HANDLER_ADD_VIOLATES_SCHEMA.get(request.getDN(),
-                    StaticUtils.concatenateStrings(invalidReasons)), null));
-        }
-
-        if ((! isInternalOp) && (schema != null) &&
-            (! controlMap.containsKey(IgnoreNoUserModificationRequestControl.
-                    IGNORE_NO_USER_MODIFICATION_REQUEST_OID)))
-        {
-          for (final Attribute a : entry.getAttributes())
-          {
-            final AttributeTypeDefinition at =
-                 schema.getAttributeType(a.getBaseName());
-            if ((at != null) && at.isNoUserModification())
-            {
-              return new LDAPMessage(messageID, new AddResponseProtocolOp(
-                   ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
-                   ERR_MEM_HANDLER_ADD_CONTAINS_NO_USER_MOD.get(request.getDN(),
-                        a.getName()), null));
-            }
-          }
-        }
+        entry.addAttribute(new Attribute("creatorsName",
+             DistinguishedNameMatchingRule.getInstance(),
+             authzDN.toString()));
       }
-
-      // If the entry contains a proxied authorization control, then process it.
-      final DN authzDN;
-      try
+      if (! entry.hasAttribute("createTimestamp"))
       {
-        authzDN = handleProxiedAuthControl(controlMap);
+        entry.addAttribute(new Attribute("createTimestamp",
+             GeneralizedTimeMatchingRule.getInstance(),
+             StaticUtils.encodeGeneralizedTime(d)));
       }
-      catch (final LDAPException le)
+      if (! entry.hasAttribute("modifiersName"))
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
+        entry.addAttribute(new Attribute("modifiersName",
+             DistinguishedNameMatchingRule.getInstance(),
+             authzDN.toString()));
       }
-
-      // Add a number of operational attributes to the entry.
-      if (generateOperationalAttributes)
+      if (! entry.hasAttribute("modifyTimestamp"))
       {
-        final Date d = new Date();
-        if (! entry.hasAttribute("entryDN"))
-        {
-          entry.addAttribute(new Attribute("entryDN",
-               DistinguishedNameMatchingRule.getInstance(),
-               dn.toNormalizedString()));
-        }
-        if (! entry.hasAttribute("entryUUID"))
-        {
-          entry.addAttribute(new Attribute("entryUUID",
-               UUID.randomUUID().toString()));
-        }
-        if (! entry.hasAttribute("subschemaSubentry"))
-        {
-          entry.addAttribute(new Attribute("subschemaSubentry",
-               DistinguishedNameMatchingRule.getInstance(),
-               subschemaSubentryDN.toString()));
-        }
-        if (! entry.hasAttribute("creatorsName"))
-        {
-          entry.addAttribute(new Attribute("creatorsName",
-               DistinguishedNameMatchingRule.getInstance(),
-               authzDN.toString()));
-        }
-        if (! entry.hasAttribute("createTimestamp"))
-        {
-          entry.addAttribute(new Attribute("createTimestamp",
-               GeneralizedTimeMatchingRule.getInstance(),
-               StaticUtils.encodeGeneralizedTime(d)));
-        }
-        if (! entry.hasAttribute("modifiersName"))
-        {
-          entry.addAttribute(new Attribute("modifiersName",
-               DistinguishedNameMatchingRule.getInstance(),
-               authzDN.toString()));
-        }
-        if (! entry.hasAttribute("modifyTimestamp"))
-        {
-          entry.addAttribute(new Attribute("modifyTimestamp",
-               GeneralizedTimeMatchingRule.getInstance(),
-               StaticUtils.encodeGeneralizedTime(d)));
-        }
+        entry.addAttribute(new Attribute("modifyTimestamp",
+             GeneralizedTimeMatchingRule.getInstance(),
+             StaticUtils.encodeGeneralizedTime(d)));
       }
+    }
 
-      // If the request includes the assertion request control, then check it
-      // now.
-      try
-      {
-        handleAssertionRequestControl(controlMap, entry);
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new AddResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
-      }
+    // If the request includes the assertion request control, then check it
+    // now.
+    try
+    {
+      handleAssertionRequestControl(controlMap, entry);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new AddResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
 
-      // See if the entry contains any passwords.  If so, then make sure their
-      // values are properly encoded.
-      if ((! passwordEncoders.isEmpty()) &&
-          (! configuredPasswordAttributes.isEmpty()))
+    // See if the entry contains any passwords.  If so, then make sure their
+    // values are properly encoded.
+    if ((! passwordEncoders.isEmpty()) &&
+        (! configuredPasswordAttributes.isEmpty()))
+    {
+      final ReadOnlyEntry readOnlyEntry =
+           new ReadOnlyEntry(entry.duplicate());
+      for (final String passwordAttribute : configuredPasswordAttributes)
       {
-        final ReadOnlyEntry readOnlyEntry =
-             new ReadOnlyEntry(entry.duplicate());
-        for (final String passwordAttribute : configuredPasswordAttributes)
+        for (final Attribute attr :
+             readOnlyEntry.getAttributesWithOptions(passwordAttribute, null))
         {
-          for (final Attribute attr :
-               readOnlyEntry.getAttributesWithOptions(passwordAttribute, null))
+          final ArrayList<byte[]> newValues = new ArrayList<>(attr.size());
+          for (final ASN1OctetString value : attr.getRawValues())
           {
-            final ArrayList<byte[]> newValues = new ArrayList<>(attr.size());
-            for (final ASN1OctetString value : attr.getRawValues())
+            try
             {
-              try
-              {
-                newValues.add(encodeAddPassword(value, readOnlyEntry,
-                     Collections.<Modification>emptyList()).getValue());
-              }
-              catch (final LDAPException le)
-              {
-                Debug.debugException(le);
-                return new LDAPMessage(messageID, new AddResponseProtocolOp(
-                     ResultCode.UNWILLING_TO_PERFORM_INT_VALUE,
-                     le.getMatchedDN(), le.getMessage(), null));
-              }
+              newValues.add(encodeAddPassword(value, readOnlyEntry,
+                   Collections.<Modification>emptyList()).getValue());
+            }
+            catch (final LDAPException le)
+            {
+              Debug.debugException(le);
+              return new LDAPMessage(messageID, new AddResponseProtocolOp(
+                   ResultCode.UNWILLING_TO_PERFORM_INT_VALUE,
+                   le.getMatchedDN(), le.getMessage(), null));
             }
-
-            final byte[][] newValuesArray = new byte[newValues.size()][];
-            newValues.toArray(newValuesArray);
-            entry.setAttribute(new Attribute(attr.getName(), schema,
-                 newValuesArray));
           }
+
+          final byte[][] newValuesArray = new byte[newValues.size()][];
+          newValues.toArray(newValuesArray);
+          entry.setAttribute(new Attribute(attr.getName(), schema,
+               newValuesArray));
         }
       }
+    }
 
-      // If the request includes the post-read request control, then create the
-      // appropriate response control.
-      final PostReadResponseControl postReadResponse =
-           handlePostReadControl(controlMap, entry);
-      if (postReadResponse != null)
-      {
-        responseControls.add(postReadResponse);
-      }
+    // If the request includes the post-read request control, then create the
+    // appropriate response control.
+    final PostReadResponseControl postReadResponse =
+         handlePostReadControl(controlMap, entry);
+    if (postReadResponse != null)
+    {
+      responseControls.add(postReadResponse);
+    }
 
-      // See if the entry DN is one of the defined base DNs.  If so, then we can
-      // add the entry.
-      if (baseDNs.contains(dn))
-      {
-        entryMap.put(dn, new ReadOnlyEntry(entry));
-        indexAdd(entry);
-        addChangeLogEntry(request, authzDN);
-        return new LDAPMessage(messageID,
-             new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
-                  null),
-             responseControls);
-      }
+    // See if the entry DN is one of the defined base DNs.  If so, then we can
+    // add the entry.
+    if (baseDNs.contains(dn))
+    {
+      putEntry(dn, new ReadOnlyEntry(entry));
+      indexAdd(entry);
+      addChangeLogEntry(request, authzDN);
+      return new LDAPMessage(messageID,
+           new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
+                null),
+           responseControls);
+    }
 
-      // See if the parent entry exists.  If so, then we can add the entry.
-      final DN parentDN = dn.getParent();
-      if ((parentDN != null) && entryMap.containsKey(parentDN))
-      {
-        entryMap.put(dn, new ReadOnlyEntry(entry));
-        indexAdd(entry);
-        addChangeLogEntry(request, authzDN);
-        return new LDAPMessage(messageID,
-             new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
-                  null),
-             responseControls);
-      }
+    // See if the parent entry exists.  If so, then we can add the entry.
+    final DN parentDN = dn.getParent();
+    if ((parentDN != null) && entryMap.containsKey(parentDN))
+    {
+      putEntry(dn, new ReadOnlyEntry(entry));
+      indexAdd(entry);
+      addChangeLogEntry(request, authzDN);
+      return new LDAPMessage(messageID,
+           new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
+                null),
+           responseControls);
+    }
 
-      // The add attempt must fail because the parent doesn't exist.  See if
-      // it's just that the parent doesn't exist or whether the entry isn't
-      // within any of the configured base DNs.
-      for (final DN baseDN : baseDNs)
+    // The add attempt must fail because the parent doesn't exist.  See if
+    // it's just that the parent doesn't exist or whether the entry isn't
+    // within any of the configured base DNs.
+    for (final DN baseDN : baseDNs)
+    {
+      if (dn.isDescendantOf(baseDN, true))
       {
-        if (dn.isDescendantOf(baseDN, true))
-        {
-          return new LDAPMessage(messageID, new AddResponseProtocolOp(
-               ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
-               ERR_MEM_HANDLER_ADD_MISSING_PARENT.get(request.getDN(),
-                    dn.getParentString()),
-               null));
-        }
+        return new LDAPMessage(messageID, new AddResponseProtocolOp(
+             ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
+             ERR_MEM_HANDLER_ADD_MISSING_PARENT.get(request.getDN(),
+                  dn.getParentString()),
+             null));
       }
-
-      return new LDAPMessage(messageID, new AddResponseProtocolOp(
-           ResultCode.NO_SUCH_OBJECT_INT_VALUE, null,
-           ERR_MEM_HANDLER_ADD_NOT_BELOW_BASE_DN.get(request.getDN()),
-           null));
     }
+
+    return new LDAPMessage(messageID, new AddResponseProtocolOp(
+         ResultCode.NO_SUCH_OBJECT_INT_VALUE, null,
+         ERR_MEM_HANDLER_ADD_NOT_BELOW_BASE_DN.get(request.getDN()),
+         null));
   }
 
 
@@ -1367,228 +1664,268 @@ public final class InMemoryRequestHandler
                           @NotNull final BindRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    // SASL bind handlers may invoke arbitrary operations against this request
+    // handler, including operations that alter the data, so SASL binds will be
+    // processed under the write lock.  Simple binds only need the read lock.
+    if (request.getCredentialsType() == BindRequestProtocolOp.CRED_TYPE_SASL)
     {
-      // Sleep before processing, if appropriate.
-      sleepBeforeProcessing();
+      try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+        return processBindRequestWithLock(messageID, request, controls);
+      }
+    }
+    else
+    {
+      try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
+      {
+        readLock.avoidCompilerWarning();
+        return processBindRequestWithLock(messageID, request, controls);
+      }
+    }
+  }
 
-      // If this operation type is not allowed, then reject it.
-      if (! config.getAllowedOperationTypes().contains(OperationType.BIND))
+
+
+  /**
+   * Processes the provided bind request.  The caller must hold either the read
+   * lock (for simple binds) or the write lock (for SASL binds).
+   *
+   * @param  messageID  The message ID of the LDAP message containing the bind
+   *                    request.
+   * @param  request    The bind request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processBindRequestWithLock(final int messageID,
+                           @NotNull final BindRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
+
+    // If this operation type is not allowed, then reject it.
+    if (! config.getAllowedOperationTypes().contains(OperationType.BIND))
+    {
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_BIND_NOT_ALLOWED.get(), null, null));
+    }
+
+
+    authenticatedDN = DN.NULL_DN;
+
+
+    // If this operation type requires authentication and it is a simple bind
+    // request, then ensure that the request includes credentials.
+    if ((authenticatedDN.isNullDN() &&
+         config.getAuthenticationRequiredOperationTypes().contains(
+              OperationType.BIND)))
+    {
+      if ((request.getCredentialsType() ==
+           BindRequestProtocolOp.CRED_TYPE_SIMPLE) &&
+           ((request.getSimplePassword() == null) ||
+                request.getSimplePassword().getValueLength() == 0))
       {
         return new LDAPMessage(messageID, new BindResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_BIND_NOT_ALLOWED.get(), null, null));
+             ResultCode.INVALID_CREDENTIALS_INT_VALUE, null,
+             ERR_MEM_HANDLER_BIND_REQUIRES_AUTH.get(), null, null));
       }
+    }
 
 
-      authenticatedDN = DN.NULL_DN;
+    // Get the parsed bind DN.
+    final DN bindDN;
+    try
+    {
+      bindDN = new DN(request.getBindDN(), schemaRef.get());
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_BIND_MALFORMED_DN.get(request.getBindDN(),
+                le.getMessage()),
+           null, null));
+    }
 
+    // If the bind request is for a SASL bind, then see if there is a SASL
+    // mechanism handler that can be used to process it.
+    if (request.getCredentialsType() == BindRequestProtocolOp.CRED_TYPE_SASL)
+    {
+      final String mechanism = request.getSASLMechanism();
+      final InMemorySASLBindHandler handler = saslBindHandlers.get(mechanism);
+      if (handler == null)
+      {
+        return new LDAPMessage(messageID, new BindResponseProtocolOp(
+             ResultCode.AUTH_METHOD_NOT_SUPPORTED_INT_VALUE, null,
+             ERR_MEM_HANDLER_SASL_MECH_NOT_SUPPORTED.get(mechanism), null,
+             null));
+      }
 
-      // If this operation type requires authentication and it is a simple bind
-      // request, then ensure that the request includes credentials.
-      if ((authenticatedDN.isNullDN() &&
-           config.getAuthenticationRequiredOperationTypes().contains(
-                OperationType.BIND)))
+      try
       {
-        if ((request.getCredentialsType() ==
-             BindRequestProtocolOp.CRED_TYPE_SIMPLE) &&
-             ((request.getSimplePassword() == null) ||
-                  request.getSimplePassword().getValueLength() == 0))
+        final BindResult bindResult = handler.processSASLBind(this, messageID,
+             bindDN, request.getSASLCredentials(), controls);
+
+        // If the SASL bind was successful but the connection is
+        // unauthenticated, then see if we allow that.
+        if ((bindResult.getResultCode() == ResultCode.SUCCESS) &&
+             (authenticatedDN == DN.NULL_DN) &&
+             config.getAuthenticationRequiredOperationTypes().contains(
+                  OperationType.BIND))
         {
           return new LDAPMessage(messageID, new BindResponseProtocolOp(
                ResultCode.INVALID_CREDENTIALS_INT_VALUE, null,
                ERR_MEM_HANDLER_BIND_REQUIRES_AUTH.get(), null, null));
         }
-      }
-
 
-      // Get the parsed bind DN.
-      final DN bindDN;
-      try
-      {
-        bindDN = new DN(request.getBindDN(), schemaRef.get());
+        return new LDAPMessage(messageID, new BindResponseProtocolOp(
+             bindResult.getResultCode().intValue(),
+             bindResult.getMatchedDN(), bindResult.getDiagnosticMessage(),
+             Arrays.asList(bindResult.getReferralURLs()),
+             bindResult.getServerSASLCredentials()),
+             Arrays.asList(bindResult.getResponseControls()));
       }
-      catch (final LDAPException le)
+      catch (final Exception e)
       {
-        Debug.debugException(le);
+        Debug.debugException(e);
         return new LDAPMessage(messageID, new BindResponseProtocolOp(
-             ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_BIND_MALFORMED_DN.get(request.getBindDN(),
-                  le.getMessage()),
+             ResultCode.OTHER_INT_VALUE, null,
+             ERR_MEM_HANDLER_SASL_BIND_FAILURE.get(
+                  StaticUtils.getExceptionMessage(e)),
              null, null));
       }
+    }
+
+    // If we've gotten here, then the bind must use simple authentication.
+    // Process the provided request controls.
+    final Map<String,Control> controlMap;
+    try
+    {
+      controlMap = RequestControlPreProcessor.processControls(
+           LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST, controls);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null, null));
+    }
+    final ArrayList<Control> responseControls = new ArrayList<>(1);
 
-      // If the bind request is for a SASL bind, then see if there is a SASL
-      // mechanism handler that can be used to process it.
-      if (request.getCredentialsType() == BindRequestProtocolOp.CRED_TYPE_SASL)
+    // If the bind DN is the null DN, then the bind will be considered
+    // successful as long as the password is also empty.
+    final ASN1OctetString bindPassword = request.getSimplePassword();
+    if (bindDN.isNullDN())
+    {
+      if (bindPassword.getValueLength() == 0)
       {
-        final String mechanism = request.getSASLMechanism();
-        final InMemorySASLBindHandler handler = saslBindHandlers.get(mechanism);
-        if (handler == null)
+        if (controlMap.containsKey(AuthorizationIdentityRequestControl.
+             AUTHORIZATION_IDENTITY_REQUEST_OID))
         {
-          return new LDAPMessage(messageID, new BindResponseProtocolOp(
-               ResultCode.AUTH_METHOD_NOT_SUPPORTED_INT_VALUE, null,
-               ERR_MEM_HANDLER_SASL_MECH_NOT_SUPPORTED.get(mechanism), null,
-               null));
+          responseControls.add(new AuthorizationIdentityResponseControl(""));
         }
+        return new LDAPMessage(messageID,
+             new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+                  null, null, null),
+             responseControls);
+      }
+      else
+      {
+        return new LDAPMessage(messageID, new BindResponseProtocolOp(
+             ResultCode.INVALID_CREDENTIALS_INT_VALUE,
+             getMatchedDNString(bindDN),
+             ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()),
+             null, null));
+      }
+    }
 
-        try
-        {
-          final BindResult bindResult = handler.processSASLBind(this, messageID,
-               bindDN, request.getSASLCredentials(), controls);
-
-          // If the SASL bind was successful but the connection is
-          // unauthenticated, then see if we allow that.
-          if ((bindResult.getResultCode() == ResultCode.SUCCESS) &&
-               (authenticatedDN == DN.NULL_DN) &&
-               config.getAuthenticationRequiredOperationTypes().contains(
-                    OperationType.BIND))
-          {
-            return new LDAPMessage(messageID, new BindResponseProtocolOp(
-                 ResultCode.INVALID_CREDENTIALS_INT_VALUE, null,
-                 ERR_MEM_HANDLER_BIND_REQUIRES_AUTH.get(), null, null));
-          }
+    // If the bind DN is not null and the password is empty, then reject the
+    // request.
+    if ((! bindDN.isNullDN()) && (bindPassword.getValueLength() == 0))
+    {
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_BIND_SIMPLE_DN_WITHOUT_PASSWORD.get(), null,
+           null));
+    }
 
-          return new LDAPMessage(messageID, new BindResponseProtocolOp(
-               bindResult.getResultCode().intValue(),
-               bindResult.getMatchedDN(), bindResult.getDiagnosticMessage(),
-               Arrays.asList(bindResult.getReferralURLs()),
-               bindResult.getServerSASLCredentials()),
-               Arrays.asList(bindResult.getResponseControls()));
-        }
-        catch (final Exception e)
+    // See if the bind DN is in the set of additional bind credentials.  If
+    // so, then use the password there.
+    final byte[] additionalCreds = additionalBindCredentials.get(bindDN);
+    if (additionalCreds != null)
+    {
+      if (Arrays.equals(additionalCreds, bindPassword.getValue()))
+      {
+        authenticatedDN = bindDN;
+        if (controlMap.containsKey(AuthorizationIdentityRequestControl.
+             AUTHORIZATION_IDENTITY_REQUEST_OID))
         {
-          Debug.debugException(e);
-          return new LDAPMessage(messageID, new BindResponseProtocolOp(
-               ResultCode.OTHER_INT_VALUE, null,
-               ERR_MEM_HANDLER_SASL_BIND_FAILURE.get(
-                    StaticUtils.getExceptionMessage(e)),
-               null, null));
+          responseControls.add(new AuthorizationIdentityResponseControl(
+               "dn:" + bindDN.toString()));
         }
+        return new LDAPMessage(messageID,
+             new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+                  null, null, null),
+             responseControls);
       }
-
-      // If we've gotten here, then the bind must use simple authentication.
-      // Process the provided request controls.
-      final Map<String,Control> controlMap;
-      try
-      {
-        controlMap = RequestControlPreProcessor.processControls(
-             LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST, controls);
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new BindResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null, null));
-      }
-      final ArrayList<Control> responseControls = new ArrayList<>(1);
-
-      // If the bind DN is the null DN, then the bind will be considered
-      // successful as long as the password is also empty.
-      final ASN1OctetString bindPassword = request.getSimplePassword();
-      if (bindDN.isNullDN())
-      {
-        if (bindPassword.getValueLength() == 0)
-        {
-          if (controlMap.containsKey(AuthorizationIdentityRequestControl.
-               AUTHORIZATION_IDENTITY_REQUEST_OID))
-          {
-            responseControls.add(new AuthorizationIdentityResponseControl(""));
-          }
-          return new LDAPMessage(messageID,
-               new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                    null, null, null),
-               responseControls);
-        }
-        else
-        {
-          return new LDAPMessage(messageID, new BindResponseProtocolOp(
-               ResultCode.INVALID_CREDENTIALS_INT_VALUE,
-               getMatchedDNString(bindDN),
-               ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()),
-               null, null));
-        }
-      }
-
-      // If the bind DN is not null and the password is empty, then reject the
-      // request.
-      if ((! bindDN.isNullDN()) && (bindPassword.getValueLength() == 0))
-      {
-        return new LDAPMessage(messageID, new BindResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_BIND_SIMPLE_DN_WITHOUT_PASSWORD.get(), null,
-             null));
-      }
-
-      // See if the bind DN is in the set of additional bind credentials.  If
-      // so, then use the password there.
-      final byte[] additionalCreds = additionalBindCredentials.get(bindDN);
-      if (additionalCreds != null)
-      {
-        if (Arrays.equals(additionalCreds, bindPassword.getValue()))
-        {
-          authenticatedDN = bindDN;
-          if (controlMap.containsKey(AuthorizationIdentityRequestControl.
-               AUTHORIZATION_IDENTITY_REQUEST_OID))
-          {
-            responseControls.add(new AuthorizationIdentityResponseControl(
-                 "dn:" + bindDN.toString()));
-          }
-          return new LDAPMessage(messageID,
-               new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                    null, null, null),
-               responseControls);
-        }
-        else
-        {
-          return new LDAPMessage(messageID, new BindResponseProtocolOp(
-               ResultCode.INVALID_CREDENTIALS_INT_VALUE,
-               getMatchedDNString(bindDN),
-               ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()),
-               null, null));
-        }
-      }
-
-      // If the target user doesn't exist, then reject the request.
-      final ReadOnlyEntry userEntry = entryMap.get(bindDN);
-      if (userEntry == null)
+      else
       {
         return new LDAPMessage(messageID, new BindResponseProtocolOp(
              ResultCode.INVALID_CREDENTIALS_INT_VALUE,
              getMatchedDNString(bindDN),
-             ERR_MEM_HANDLER_BIND_NO_SUCH_USER.get(request.getBindDN()), null,
-             null));
+             ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()),
+             null, null));
       }
+    }
+
+    // If the target user doesn't exist, then reject the request.
+    final ReadOnlyEntry userEntry = entryMap.get(bindDN);
+    if (userEntry == null)
+    {
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.INVALID_CREDENTIALS_INT_VALUE,
+           getMatchedDNString(bindDN),
+           ERR_MEM_HANDLER_BIND_NO_SUCH_USER.get(request.getBindDN()), null,
+           null));
+    }
 
 
-      // Get a list of the user's passwords, restricted to those that match the
-      // provided clear-text password.  If the list is empty, then the
-      // authentication failed.
-      final List<InMemoryDirectoryServerPassword> matchingPasswords =
-           getPasswordsInEntry(userEntry, bindPassword);
-      if (matchingPasswords.isEmpty())
-      {
-        return new LDAPMessage(messageID, new BindResponseProtocolOp(
-             ResultCode.INVALID_CREDENTIALS_INT_VALUE,
-             getMatchedDNString(bindDN),
-             ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()), null,
-             null));
-      }
+    // Get a list of the user's passwords, restricted to those that match the
+    // provided clear-text password.  If the list is empty, then the
+    // authentication failed.
+    final List<InMemoryDirectoryServerPassword> matchingPasswords =
+         getPasswordsInEntry(userEntry, bindPassword);
+    if (matchingPasswords.isEmpty())
+    {
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.INVALID_CREDENTIALS_INT_VALUE,
+           getMatchedDNString(bindDN),
+           ERR_MEM_HANDLER_BIND_WRONG_PASSWORD.get(request.getBindDN()), null,
+           null));
+    }
 
 
-      // If we've gotten here, then authentication was successful.
-      authenticatedDN = bindDN;
-      if (controlMap.containsKey(AuthorizationIdentityRequestControl.
-           AUTHORIZATION_IDENTITY_REQUEST_OID))
-      {
-        responseControls.add(new AuthorizationIdentityResponseControl(
-             "dn:" + bindDN.toString()));
-      }
-      return new LDAPMessage(messageID,
-           new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                null, null, null),
-           responseControls);
+    // If we've gotten here, then authentication was successful.
+    authenticatedDN = bindDN;
+    if (controlMap.containsKey(AuthorizationIdentityRequestControl.
+         AUTHORIZATION_IDENTITY_REQUEST_OID))
+    {
+      responseControls.add(new AuthorizationIdentityResponseControl(
+           "dn:" + bindDN.toString()));
     }
+    return new LDAPMessage(messageID,
+         new BindResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+              null, null, null),
+         responseControls);
   }
 
 
@@ -1620,8 +1957,10 @@ public final class InMemoryRequestHandler
                           @NotNull final CompareRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       // Sleep before processing, if appropriate.
       sleepBeforeProcessing();
 
@@ -1831,205 +2170,256 @@ public final class InMemoryRequestHandler
                           @NotNull final DeleteRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
-      // Sleep before processing, if appropriate.
-      sleepBeforeProcessing();
+      writeLock.avoidCompilerWarning();
 
-      // Process the provided request controls.
-      final Map<String,Control> controlMap;
+      // If the changes made by the operation cannot be persisted, then they
+      // will have been reverted, and the operation must be rejected.
+      beginPersistedOperation();
+      LDAPMessage response = null;
       try
       {
-        controlMap = RequestControlPreProcessor.processControls(
-             LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST, controls);
+        response = processDeleteRequestWithLock(messageID, request, controls);
       }
-      catch (final LDAPException le)
+      finally
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
+        final String persistenceFailureMessage = endPersistedOperation();
+        if (persistenceFailureMessage != null)
+        {
+          response = new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+               ResultCode.UNAVAILABLE_INT_VALUE, null,
+               persistenceFailureMessage, null));
+        }
       }
-      final ArrayList<Control> responseControls = new ArrayList<>(1);
 
+      return response;
+    }
+  }
 
-      // If this operation type is not allowed, then reject it.
-      final boolean isInternalOp =
-           controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
-      if ((! isInternalOp) &&
-           (! config.getAllowedOperationTypes().contains(OperationType.DELETE)))
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_NOT_ALLOWED.get(), null));
-      }
 
 
-      // If this operation type requires authentication, then ensure that the
-      // client is authenticated.
-      if ((authenticatedDN.isNullDN() &&
-           config.getAuthenticationRequiredOperationTypes().contains(
-                OperationType.DELETE)))
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_REQUIRES_AUTH.get(), null));
-      }
+  /**
+   * Processes the provided delete request.  The caller must hold the write
+   * lock.
+   *
+   * @param  messageID  The message ID of the LDAP message containing the
+   *                    request.
+   * @param  request    The request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processDeleteRequestWithLock(final int messageID,
+                           @NotNull final DeleteRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
 
+    // Process the provided request controls.
+    final Map<String,Control> controlMap;
+    try
+    {
+      controlMap = RequestControlPreProcessor.processControls(
+           LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST, controls);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
+    final ArrayList<Control> responseControls = new ArrayList<>(1);
 
-      // See if this delete request is part of a transaction.  If so, then
-      // perform appropriate processing for it and return success immediately
-      // without actually doing any further processing.
-      try
-      {
-        final ASN1OctetString txnID =
-             processTransactionRequest(messageID, request, controlMap);
-        if (txnID != null)
-        {
-          return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-               ResultCode.SUCCESS_INT_VALUE, null,
-               INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
-        }
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID,
-             new DeleteResponseProtocolOp(le.getResultCode().intValue(),
-                  le.getMatchedDN(), le.getDiagnosticMessage(),
-                  StaticUtils.toList(le.getReferralURLs())),
-             le.getResponseControls());
-      }
 
+    // If this operation type is not allowed, then reject it.
+    final boolean isInternalOp =
+         controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
+    if ((! isInternalOp) &&
+         (! config.getAllowedOperationTypes().contains(OperationType.DELETE)))
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_NOT_ALLOWED.get(), null));
+    }
 
-      // Get the parsed target DN.
-      final DN dn;
-      try
-      {
-        dn = new DN(request.getDN(), schemaRef.get());
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_MALFORMED_DN.get(request.getDN(),
-                  le.getMessage()),
-             null));
-      }
 
-      // See if the target entry or one of its superiors is a smart referral.
-      if (! controlMap.containsKey(
-           ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
-      {
-        final Entry referralEntry = findNearestReferral(dn);
-        if (referralEntry != null)
-        {
-          return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-               ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
-               INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
-               getReferralURLs(dn, referralEntry)));
-        }
-      }
+    // If changes cannot currently be persisted, then reject the operation
+    // rather than acknowledging a change that could be lost.
+    final String persistenceFailureMessage = getPersistenceFailureMessage();
+    if (persistenceFailureMessage != null)
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.UNAVAILABLE_INT_VALUE, null,
+           persistenceFailureMessage, null));
+    }
 
-      // Make sure the target entry isn't the root DSE or schema, or a changelog
-      // entry.
-      if (dn.isNullDN())
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_ROOT_DSE.get(), null));
-      }
-      else if (dn.equals(subschemaSubentryDN))
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_SCHEMA.get(subschemaSubentryDN.toString()),
-             null));
-      }
-      else if (dn.isDescendantOf(changeLogBaseDN, true))
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_CHANGELOG.get(request.getDN()), null));
-      }
 
-      // Get the target entry.  If it does not exist, then fail.
-      final Entry entry = entryMap.get(dn);
-      if (entry == null)
-      {
-        return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
-             ERR_MEM_HANDLER_DELETE_NO_SUCH_ENTRY.get(request.getDN()), null));
-      }
+    // If this operation type requires authentication, then ensure that the
+    // client is authenticated.
+    if ((authenticatedDN.isNullDN() &&
+         config.getAuthenticationRequiredOperationTypes().contains(
+              OperationType.DELETE)))
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_REQUIRES_AUTH.get(), null));
+    }
 
-      // Create a list with the DN of the target entry, and all the DNs of its
-      // subordinates.  If the entry has subordinates and the subtree delete
-      // control was not provided, then fail.
-      final ArrayList<DN> subordinateDNs = new ArrayList<>(entryMap.size());
-      for (final DN mapEntryDN : entryMap.keySet())
-      {
-        if (mapEntryDN.isDescendantOf(dn, false))
-        {
-          subordinateDNs.add(mapEntryDN);
-        }
-      }
 
-      if ((! subordinateDNs.isEmpty()) &&
-           (! controlMap.containsKey(
-                SubtreeDeleteRequestControl.SUBTREE_DELETE_REQUEST_OID)))
+    // See if this delete request is part of a transaction.  If so, then
+    // perform appropriate processing for it and return success immediately
+    // without actually doing any further processing.
+    try
+    {
+      final ASN1OctetString txnID =
+           processTransactionRequest(messageID, request, controlMap);
+      if (txnID != null)
       {
         return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             ResultCode.NOT_ALLOWED_ON_NONLEAF_INT_VALUE, null,
-             ERR_MEM_HANDLER_DELETE_HAS_SUBORDINATES.get(request.getDN()),
-             null));
+             ResultCode.SUCCESS_INT_VALUE, null,
+             INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
       }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID,
+           new DeleteResponseProtocolOp(le.getResultCode().intValue(),
+                le.getMatchedDN(), le.getDiagnosticMessage(),
+                StaticUtils.toList(le.getReferralURLs())),
+           le.getResponseControls());
+    }
 
-      // Handle the necessary processing for the assertion, pre-read, and
-      // proxied auth controls.
-      final DN authzDN;
-      try
-      {
-        handleAssertionRequestControl(controlMap, entry);
 
-        final PreReadResponseControl preReadResponse =
-             handlePreReadControl(controlMap, entry);
-        if (preReadResponse != null)
-        {
-          responseControls.add(preReadResponse);
-        }
+    // Get the parsed target DN.
+    final DN dn;
+    try
+    {
+      dn = new DN(request.getDN(), schemaRef.get());
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_MALFORMED_DN.get(request.getDN(),
+                le.getMessage()),
+           null));
+    }
 
-        authzDN = handleProxiedAuthControl(controlMap);
-      }
-      catch (final LDAPException le)
+    // See if the target entry or one of its superiors is a smart referral.
+    if (! controlMap.containsKey(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
+    {
+      final Entry referralEntry = findNearestReferral(dn);
+      if (referralEntry != null)
       {
-        Debug.debugException(le);
         return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
+             ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
+             INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
+             getReferralURLs(dn, referralEntry)));
       }
+    }
+
+    // Make sure the target entry isn't the root DSE or schema, or a changelog
+    // entry.
+    if (dn.isNullDN())
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_ROOT_DSE.get(), null));
+    }
+    else if (dn.equals(subschemaSubentryDN))
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_SCHEMA.get(subschemaSubentryDN.toString()),
+           null));
+    }
+    else if (dn.isDescendantOf(changeLogBaseDN, true))
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_CHANGELOG.get(request.getDN()), null));
+    }
+
+    // Get the target entry.  If it does not exist, then fail.
+    final Entry entry = entryMap.get(dn);
+    if (entry == null)
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
+           ERR_MEM_HANDLER_DELETE_NO_SUCH_ENTRY.get(request.getDN()), null));
+    }
+
+    // Create a list with the DN of the target entry, and all the DNs of its
+    // subordinates.  If the entry has subordinates and the subtree delete
+    // control was not provided, then fail.
+    final List<DN> subordinateDNs =
+         hierarchyIndex.getSubordinateDNs(dn, false);
+
+    if ((! subordinateDNs.isEmpty()) &&
+         (! controlMap.containsKey(
+              SubtreeDeleteRequestControl.SUBTREE_DELETE_REQUEST_OID)))
+    {
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           ResultCode.NOT_ALLOWED_ON_NONLEAF_INT_VALUE, null,
+           ERR_MEM_HANDLER_DELETE_HAS_SUBORDINATES.get(request.getDN()),
+           null));
+    }
+
+    // Handle the necessary processing for the assertion, pre-read, and
+    // proxied auth controls.
+    final DN authzDN;
+    try
+    {
+      handleAssertionRequestControl(controlMap, entry);
 
-      // At this point, the entry will be removed.  However, if this will be a
-      // subtree delete, then we want to delete all of its subordinates first so
-      // that the changelog will show the deletes in the appropriate order.
-      for (int i=(subordinateDNs.size() - 1); i >= 0; i--)
+      final PreReadResponseControl preReadResponse =
+           handlePreReadControl(controlMap, entry);
+      if (preReadResponse != null)
       {
-        final DN subordinateDN = subordinateDNs.get(i);
-        final Entry subEntry = entryMap.remove(subordinateDN);
-        indexDelete(subEntry);
-        addDeleteChangeLogEntry(subEntry, authzDN);
-        handleReferentialIntegrityDelete(subordinateDN);
+        responseControls.add(preReadResponse);
       }
 
-      // Finally, remove the target entry and create a changelog entry for it.
-      entryMap.remove(dn);
-      indexDelete(entry);
-      addDeleteChangeLogEntry(entry, authzDN);
-      handleReferentialIntegrityDelete(dn);
+      authzDN = handleProxiedAuthControl(controlMap);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new DeleteResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
 
-      return new LDAPMessage(messageID,
-           new DeleteResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                null, null),
-           responseControls);
+    // At this point, the entry will be removed.  However, if this will be a
+    // subtree delete, then we want to delete all of its subordinates first so
+    // that the changelog will show the deletes in the appropriate order.
+    for (int i=(subordinateDNs.size() - 1); i >= 0; i--)
+    {
+      final DN subordinateDN = subordinateDNs.get(i);
+      final Entry subEntry = removeEntry(subordinateDN);
+      indexDelete(subEntry);
+      addDeleteChangeLogEntry(subEntry, authzDN);
+      handleReferentialIntegrityDelete(subordinateDN);
     }
+
+    // Finally, remove the target entry and create a changelog entry for it.
+    removeEntry(dn);
+    indexDelete(entry);
+    addDeleteChangeLogEntry(entry, authzDN);
+    handleReferentialIntegrityDelete(dn);
+
+    return new LDAPMessage(messageID,
+         new DeleteResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+              null, null),
+         responseControls);
   }
 
 
@@ -2074,7 +2464,7 @@ public final class InMemoryRequestHandler
           copy.removeAttributeValue(attrName, dn.toNormalizedString(),
                DistinguishedNameMatchingRule.getInstance());
         }
-        entryMap.put(mapDN, new ReadOnlyEntry(copy));
+        putEntry(mapDN, new ReadOnlyEntry(copy));
         indexDelete(e);
         indexAdd(copy);
       }
@@ -2105,8 +2495,10 @@ public final class InMemoryRequestHandler
                           @NotNull final ExtendedRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       // Sleep before processing, if appropriate.
       sleepBeforeProcessing();
 
@@ -2272,300 +2664,357 @@ public final class InMemoryRequestHandler
                           @NotNull final ModifyRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
-      // Sleep before processing, if appropriate.
-      sleepBeforeProcessing();
+      writeLock.avoidCompilerWarning();
 
-      // Process the provided request controls.
-      final Map<String,Control> controlMap;
+      // If the changes made by the operation cannot be persisted, then they
+      // will have been reverted, and the operation must be rejected.
+      beginPersistedOperation();
+      LDAPMessage response = null;
       try
       {
-        controlMap = RequestControlPreProcessor.processControls(
-             LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST, controls);
+        response = processModifyRequestWithLock(messageID, request, controls);
       }
-      catch (final LDAPException le)
+      finally
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
-      }
-      final ArrayList<Control> responseControls = new ArrayList<>(1);
+        final String persistenceFailureMessage = endPersistedOperation();
+        if (persistenceFailureMessage != null)
+        {
+          response = new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+               ResultCode.UNAVAILABLE_INT_VALUE, null,
+               persistenceFailureMessage, null));
+        }
+      }
 
+      return response;
+    }
+  }
 
-      // If this operation type is not allowed, then reject it.
-      final boolean isInternalOp =
-           controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
-      if ((! isInternalOp) &&
-           (! config.getAllowedOperationTypes().contains(OperationType.MODIFY)))
+
+
+  /**
+   * Processes the provided modify request.  The caller must hold the write
+   * lock.
+   *
+   * @param  messageID  The message ID of the LDAP message containing the
+   *                    request.
+   * @param  request    The request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processModifyRequestWithLock(final int messageID,
+                           @NotNull final ModifyRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
+
+    // Process the provided request controls.
+    final Map<String,Control> controlMap;
+    try
+    {
+      controlMap = RequestControlPreProcessor.processControls(
+           LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST, controls);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
+    final ArrayList<Control> responseControls = new ArrayList<>(1);
+
+
+    // If this operation type is not allowed, then reject it.
+    final boolean isInternalOp =
+         controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
+    if ((! isInternalOp) &&
+         (! config.getAllowedOperationTypes().contains(OperationType.MODIFY)))
+    {
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MODIFY_NOT_ALLOWED.get(), null));
+    }
+
+
+    // If changes cannot currently be persisted, then reject the operation
+    // rather than acknowledging a change that could be lost.
+    final String persistenceFailureMessage = getPersistenceFailureMessage();
+    if (persistenceFailureMessage != null)
+    {
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.UNAVAILABLE_INT_VALUE, null,
+           persistenceFailureMessage, null));
+    }
+
+
+    // If this operation type requires authentication, then ensure that the
+    // client is authenticated.
+    if ((authenticatedDN.isNullDN() &&
+         config.getAuthenticationRequiredOperationTypes().contains(
+              OperationType.MODIFY)))
+    {
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_MODIFY_REQUIRES_AUTH.get(), null));
+    }
+
+
+    // See if this modify request is part of a transaction.  If so, then
+    // perform appropriate processing for it and return success immediately
+    // without actually doing any further processing.
+    try
+    {
+      final ASN1OctetString txnID =
+           processTransactionRequest(messageID, request, controlMap);
+      if (txnID != null)
       {
         return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MODIFY_NOT_ALLOWED.get(), null));
+             ResultCode.SUCCESS_INT_VALUE, null,
+             INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
       }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID,
+           new ModifyResponseProtocolOp(le.getResultCode().intValue(),
+                le.getMatchedDN(), le.getDiagnosticMessage(),
+                StaticUtils.toList(le.getReferralURLs())),
+           le.getResponseControls());
+    }
 
 
-      // If this operation type requires authentication, then ensure that the
-      // client is authenticated.
-      if ((authenticatedDN.isNullDN() &&
-           config.getAuthenticationRequiredOperationTypes().contains(
-                OperationType.MODIFY)))
+    // Get the parsed target DN.
+    final DN dn;
+    final Schema schema = schemaRef.get();
+    try
+    {
+      dn = new DN(request.getDN(), schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_MALFORMED_DN.get(request.getDN(),
+                le.getMessage()),
+           null));
+    }
+
+    // See if the target entry or one of its superiors is a smart referral.
+    if (! controlMap.containsKey(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
+    {
+      final Entry referralEntry = findNearestReferral(dn);
+      if (referralEntry != null)
       {
         return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_MODIFY_REQUIRES_AUTH.get(), null));
+             ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
+             INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
+             getReferralURLs(dn, referralEntry)));
       }
+    }
 
-
-      // See if this modify request is part of a transaction.  If so, then
-      // perform appropriate processing for it and return success immediately
-      // without actually doing any further processing.
+    // See if the target entry is the root DSE, the subschema subentry, or a
+    // changelog entry.
+    if (dn.isNullDN())
+    {
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_ROOT_DSE.get(), null));
+    }
+    else if (dn.equals(subschemaSubentryDN))
+    {
       try
       {
-        final ASN1OctetString txnID =
-             processTransactionRequest(messageID, request, controlMap);
-        if (txnID != null)
-        {
-          return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-               ResultCode.SUCCESS_INT_VALUE, null,
-               INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
-        }
+        validateSchemaMods(request);
       }
       catch (final LDAPException le)
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID,
-             new ModifyResponseProtocolOp(le.getResultCode().intValue(),
-                  le.getMatchedDN(), le.getDiagnosticMessage(),
-                  StaticUtils.toList(le.getReferralURLs())),
-             le.getResponseControls());
+        return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+             le.getResultCode().intValue(), le.getMatchedDN(),
+             le.getMessage(), null));
       }
+    }
+    else if (dn.isDescendantOf(changeLogBaseDN, true))
+    {
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_CHANGELOG.get(request.getDN()), null));
+    }
 
-
-      // Get the parsed target DN.
-      final DN dn;
-      final Schema schema = schemaRef.get();
-      try
+    // Get the target entry.  If it does not exist, then fail.
+    Entry entry = entryMap.get(dn);
+    if (entry == null)
+    {
+      if (dn.equals(subschemaSubentryDN))
       {
-        dn = new DN(request.getDN(), schema);
+        entry = subschemaSubentryRef.get().duplicate();
       }
-      catch (final LDAPException le)
+      else
       {
-        Debug.debugException(le);
         return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_MALFORMED_DN.get(request.getDN(),
-                  le.getMessage()),
-             null));
+             ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
+             ERR_MEM_HANDLER_MOD_NO_SUCH_ENTRY.get(request.getDN()), null));
       }
+    }
 
-      // See if the target entry or one of its superiors is a smart referral.
-      if (! controlMap.containsKey(
-           ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
-      {
-        final Entry referralEntry = findNearestReferral(dn);
-        if (referralEntry != null)
-        {
-          return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-               ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
-               INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
-               getReferralURLs(dn, referralEntry)));
-        }
-      }
 
-      // See if the target entry is the root DSE, the subschema subentry, or a
-      // changelog entry.
-      if (dn.isNullDN())
+    // If any of the modifications target password attributes, then make sure
+    // they are properly encoded.
+    final ReadOnlyEntry readOnlyEntry = new ReadOnlyEntry(entry);
+    final List<Modification> unencodedMods = request.getModifications();
+    final ArrayList<Modification> modifications =
+         new ArrayList<>(unencodedMods.size());
+    for (final Modification m : unencodedMods)
+    {
+      try
       {
-        return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_ROOT_DSE.get(), null));
+        modifications.add(encodeModificationPasswords(m, readOnlyEntry,
+             unencodedMods));
       }
-      else if (dn.equals(subschemaSubentryDN))
+      catch (final LDAPException le)
       {
-        try
-        {
-          validateSchemaMods(request);
-        }
-        catch (final LDAPException le)
+        Debug.debugException(le);
+        if (le.getResultCode().isClientSideResultCode())
         {
           return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-               le.getResultCode().intValue(), le.getMatchedDN(),
+               ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, le.getMatchedDN(),
                le.getMessage(), null));
         }
-      }
-      else if (dn.isDescendantOf(changeLogBaseDN, true))
-      {
-        return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_CHANGELOG.get(request.getDN()), null));
-      }
-
-      // Get the target entry.  If it does not exist, then fail.
-      Entry entry = entryMap.get(dn);
-      if (entry == null)
-      {
-        if (dn.equals(subschemaSubentryDN))
-        {
-          entry = subschemaSubentryRef.get().duplicate();
-        }
         else
         {
           return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-               ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
-               ERR_MEM_HANDLER_MOD_NO_SUCH_ENTRY.get(request.getDN()), null));
+               le.getResultCode().intValue(), le.getMatchedDN(),
+               le.getMessage(), null));
         }
       }
+    }
 
 
-      // If any of the modifications target password attributes, then make sure
-      // they are properly encoded.
-      final ReadOnlyEntry readOnlyEntry = new ReadOnlyEntry(entry);
-      final List<Modification> unencodedMods = request.getModifications();
-      final ArrayList<Modification> modifications =
-           new ArrayList<>(unencodedMods.size());
-      for (final Modification m : unencodedMods)
-      {
-        try
-        {
-          modifications.add(encodeModificationPasswords(m, readOnlyEntry,
-               unencodedMods));
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          if (le.getResultCode().isClientSideResultCode())
-          {
-            return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-                 ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, le.getMatchedDN(),
-                 le.getMessage(), null));
-          }
-          else
-          {
-            return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-                 le.getResultCode().intValue(), le.getMatchedDN(),
-                 le.getMessage(), null));
-          }
-        }
-      }
-
+    // Attempt to apply the modifications to the entry.  If successful, then a
+    // copy of the entry will be returned with the modifications applied.
+    final Entry modifiedEntry;
+    try
+    {
+      modifiedEntry = Entry.applyModifications(entry,
+           controlMap.containsKey(
+                PermissiveModifyRequestControl.PERMISSIVE_MODIFY_REQUEST_OID),
+           modifications);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           le.getResultCode().intValue(), null,
+           ERR_MEM_HANDLER_MOD_FAILED.get(request.getDN(), le.getMessage()),
+           null));
+    }
 
-      // Attempt to apply the modifications to the entry.  If successful, then a
-      // copy of the entry will be returned with the modifications applied.
-      final Entry modifiedEntry;
-      try
-      {
-        modifiedEntry = Entry.applyModifications(entry,
-             controlMap.containsKey(
-                  PermissiveModifyRequestControl.PERMISSIVE_MODIFY_REQUEST_OID),
-             modifications);
-      }
-      catch (final LDAPException le)
+    // If a schema was provided, use it to validate the resulting entry.
+    // Also, ensure that no NO-USER-MODIFICATION attributes were targeted.
+    final EntryValidator entryValidator = entryValidatorRef.get();
+    if (entryValidator != null)
+    {
+      final ArrayList<String> invalidReasons = new ArrayList<>(1);
+      if (! entryValidator.entryIsValid(modifiedEntry, invalidReasons))
       {
-        Debug.debugException(le);
         return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             le.getResultCode().intValue(), null,
-             ERR_MEM_HANDLER_MOD_FAILED.get(request.getDN(), le.getMessage()),
+             ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
+             ERR_MEM_HANDLER_MOD_VIOLATES_SCHEMA.get(request.getDN(),
+                  StaticUtils.concatenateStrings(invalidReasons)),
              null));
       }
 
-      // If a schema was provided, use it to validate the resulting entry.
-      // Also, ensure that no NO-USER-MODIFICATION attributes were targeted.
-      final EntryValidator entryValidator = entryValidatorRef.get();
-      if (entryValidator != null)
+      for (final Modification m : modifications)
       {
-        final ArrayList<String> invalidReasons = new ArrayList<>(1);
-        if (! entryValidator.entryIsValid(modifiedEntry, invalidReasons))
+        final Attribute a = m.getAttribute();
+        final String baseName = a.getBaseName();
+        final AttributeTypeDefinition at = schema.getAttributeType(baseName);
+        if ((! isInternalOp) && (at != null) && at.isNoUserModification())
         {
           return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-               ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
-               ERR_MEM_HANDLER_MOD_VIOLATES_SCHEMA.get(request.getDN(),
-                    StaticUtils.concatenateStrings(invalidReasons)),
-               null));
-        }
-
-        for (final Modification m : modifications)
-        {
-          final Attribute a = m.getAttribute();
-          final String baseName = a.getBaseName();
-          final AttributeTypeDefinition at = schema.getAttributeType(baseName);
-          if ((! isInternalOp) && (at != null) && at.isNoUserModification())
-          {
-            return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-                 ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
-                 ERR_MEM_HANDLER_MOD_NO_USER_MOD.get(request.getDN(),
-                      a.getName()), null));
-          }
+               ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
+               ERR_MEM_HANDLER_MOD_NO_USER_MOD.get(request.getDN(),
+                    a.getName()), null));
         }
       }
+    }
 
 
-      // Perform the appropriate processing for the assertion and proxied
-      // authorization controls.
-      // Perform the appropriate processing for the assertion, pre-read,
-      // post-read, and proxied authorization controls.
-      final DN authzDN;
-      try
-      {
-        handleAssertionRequestControl(controlMap, entry);
+    // Perform the appropriate processing for the assertion and proxied
+    // authorization controls.
+    // Perform the appropriate processing for the assertion, pre-read,
+    // post-read, and proxied authorization controls.
+    final DN authzDN;
+    try
+    {
+      handleAssertionRequestControl(controlMap, entry);
 
-        authzDN = handleProxiedAuthControl(controlMap);
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
-      }
+      authzDN = handleProxiedAuthControl(controlMap);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
 
-      // Update modifiersName and modifyTimestamp.
-      if (generateOperationalAttributes)
-      {
-        modifiedEntry.setAttribute(new Attribute("modifiersName",
-             DistinguishedNameMatchingRule.getInstance(),
-             authzDN.toString()));
-        modifiedEntry.setAttribute(new Attribute("modifyTimestamp",
-             GeneralizedTimeMatchingRule.getInstance(),
-             StaticUtils.encodeGeneralizedTime(new Date())));
-      }
+    // Update modifiersName and modifyTimestamp.
+    if (generateOperationalAttributes)
+    {
+      modifiedEntry.setAttribute(new Attribute("modifiersName",
+           DistinguishedNameMatchingRule.getInstance(),
+           authzDN.toString()));
+      modifiedEntry.setAttribute(new Attribute("modifyTimestamp",
+           GeneralizedTimeMatchingRule.getInstance(),
+           StaticUtils.encodeGeneralizedTime(new Date())));
+    }
 
-      // Perform the appropriate processing for the pre-read and post-read
-      // controls.
-      final PreReadResponseControl preReadResponse =
-           handlePreReadControl(controlMap, entry);
-      if (preReadResponse != null)
-      {
-        responseControls.add(preReadResponse);
-      }
+    // Perform the appropriate processing for the pre-read and post-read
+    // controls.
+    final PreReadResponseControl preReadResponse =
+         handlePreReadControl(controlMap, entry);
+    if (preReadResponse != null)
+    {
+      responseControls.add(preReadResponse);
+    }
 
-      final PostReadResponseControl postReadResponse =
-           handlePostReadControl(controlMap, modifiedEntry);
-      if (postReadResponse != null)
-      {
-        responseControls.add(postReadResponse);
-      }
+    final PostReadResponseControl postReadResponse =
+         handlePostReadControl(controlMap, modifiedEntry);
+    if (postReadResponse != null)
+    {
+      responseControls.add(postReadResponse);
+    }
 
 
-      // Replace the entry in the map and return a success result.
-      if (dn.equals(subschemaSubentryDN))
-      {
-        final Schema newSchema = new Schema(modifiedEntry);
-        subschemaSubentryRef.set(new ReadOnlyEntry(modifiedEntry));
-        schemaRef.set(newSchema);
-        entryValidatorRef.set(new EntryValidator(newSchema));
-      }
-      else
-      {
-        entryMap.put(dn, new ReadOnlyEntry(modifiedEntry));
-        indexDelete(entry);
-        indexAdd(modifiedEntry);
-      }
-      addChangeLogEntry(request, authzDN);
-      return new LDAPMessage(messageID,
-           new ModifyResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                null, null),
-           responseControls);
+    // Replace the entry in the map and return a success result.
+    if (dn.equals(subschemaSubentryDN))
+    {
+      final Schema newSchema = new Schema(modifiedEntry);
+      subschemaSubentryRef.set(new ReadOnlyEntry(modifiedEntry));
+      schemaRef.set(newSchema);
+      entryValidatorRef.set(new EntryValidator(newSchema));
+    }
+    else
+    {
+      putEntry(dn, new ReadOnlyEntry(modifiedEntry));
+      indexDelete(entry);
+      indexAdd(modifiedEntry);
     }
+    addChangeLogEntry(request, authzDN);
+    return new LDAPMessage(messageID,
+         new ModifyResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+              null, null),
+         responseControls);
   }
 
 
@@ -2958,446 +3407,504 @@ public final class InMemoryRequestHandler
                           @NotNull final ModifyDNRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
-      // Sleep before processing, if appropriate.
-      sleepBeforeProcessing();
+      writeLock.avoidCompilerWarning();
 
-      // Process the provided request controls.
-      final Map<String,Control> controlMap;
+      // If the changes made by the operation cannot be persisted, then they
+      // will have been reverted, and the operation must be rejected.
+      beginPersistedOperation();
+      LDAPMessage response = null;
       try
       {
-        controlMap = RequestControlPreProcessor.processControls(
-             LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST, controls);
+        response = processModifyDNRequestWithLock(messageID, request, controls);
       }
-      catch (final LDAPException le)
+      finally
       {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
+        final String persistenceFailureMessage = endPersistedOperation();
+        if (persistenceFailureMessage != null)
+        {
+          response = new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+               ResultCode.UNAVAILABLE_INT_VALUE, null,
+               persistenceFailureMessage, null));
+        }
       }
-      final ArrayList<Control> responseControls = new ArrayList<>(1);
 
+      return response;
+    }
+  }
 
-      // If this operation type is not allowed, then reject it.
-      final boolean isInternalOp =
-           controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
-      if ((! isInternalOp) &&
-           (! config.getAllowedOperationTypes().contains(
-                OperationType.MODIFY_DN)))
-      {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MODIFY_DN_NOT_ALLOWED.get(), null));
-      }
 
 
-      // If this operation type requires authentication, then ensure that the
-      // client is authenticated.
-      if ((authenticatedDN.isNullDN() &&
-           config.getAuthenticationRequiredOperationTypes().contains(
-                OperationType.MODIFY_DN)))
+  /**
+   * Processes the provided modify DN request.  The caller must hold the write
+   * lock.
+   *
+   * @param  messageID  The message ID of the LDAP message containing the
+   *                    request.
+   * @param  request    The request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processModifyDNRequestWithLock(final int messageID,
+                           @NotNull final ModifyDNRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
+
+    // Process the provided request controls.
+    final Map<String,Control> controlMap;
+    try
+    {
+      controlMap = RequestControlPreProcessor.processControls(
+           LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST, controls);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
+    final ArrayList<Control> responseControls = new ArrayList<>(1);
+
+
+    // If this operation type is not allowed, then reject it.
+    final boolean isInternalOp =
+         controlMap.containsKey(OID_INTERNAL_OPERATION_REQUEST_CONTROL);
+    if ((! isInternalOp) &&
+         (! config.getAllowedOperationTypes().contains(
+              OperationType.MODIFY_DN)))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MODIFY_DN_NOT_ALLOWED.get(), null));
+    }
+
+
+    // If changes cannot currently be persisted, then reject the operation
+    // rather than acknowledging a change that could be lost.
+    final String persistenceFailureMessage = getPersistenceFailureMessage();
+    if (persistenceFailureMessage != null)
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNAVAILABLE_INT_VALUE, null,
+           persistenceFailureMessage, null));
+    }
+
+
+    // If this operation type requires authentication, then ensure that the
+    // client is authenticated.
+    if ((authenticatedDN.isNullDN() &&
+         config.getAuthenticationRequiredOperationTypes().contains(
+              OperationType.MODIFY_DN)))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_MODIFY_DN_REQUIRES_AUTH.get(), null));
+    }
+
+
+    // See if this modify DN request is part of a transaction.  If so, then
+    // perform appropriate processing for it and return success immediately
+    // without actually doing any further processing.
+    try
+    {
+      final ASN1OctetString txnID =
+           processTransactionRequest(messageID, request, controlMap);
+      if (txnID != null)
       {
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_MODIFY_DN_REQUIRES_AUTH.get(), null));
+             ResultCode.SUCCESS_INT_VALUE, null,
+             INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
       }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID,
+           new ModifyDNResponseProtocolOp(le.getResultCode().intValue(),
+                le.getMatchedDN(), le.getDiagnosticMessage(),
+                StaticUtils.toList(le.getReferralURLs())),
+           le.getResponseControls());
+    }
 
 
-      // See if this modify DN request is part of a transaction.  If so, then
-      // perform appropriate processing for it and return success immediately
-      // without actually doing any further processing.
-      try
-      {
-        final ASN1OctetString txnID =
-             processTransactionRequest(messageID, request, controlMap);
-        if (txnID != null)
-        {
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.SUCCESS_INT_VALUE, null,
-               INFO_MEM_HANDLER_OP_IN_TXN.get(txnID.stringValue()), null));
-        }
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID,
-             new ModifyDNResponseProtocolOp(le.getResultCode().intValue(),
-                  le.getMatchedDN(), le.getDiagnosticMessage(),
-                  StaticUtils.toList(le.getReferralURLs())),
-             le.getResponseControls());
-      }
+    // Get the parsed target DN, new RDN, and new superior DN values.
+    final DN dn;
+    final Schema schema = schemaRef.get();
+    try
+    {
+      dn = new DN(request.getDN(), schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_MALFORMED_DN.get(request.getDN(),
+                le.getMessage()),
+           null));
+    }
 
+    final RDN newRDN;
+    try
+    {
+      newRDN = new RDN(request.getNewRDN(), schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_MALFORMED_NEW_RDN.get(request.getDN(),
+                request.getNewRDN(), le.getMessage()),
+           null));
+    }
 
-      // Get the parsed target DN, new RDN, and new superior DN values.
-      final DN dn;
-      final Schema schema = schemaRef.get();
+    final DN newSuperiorDN;
+    final String newSuperiorString = request.getNewSuperiorDN();
+    if (newSuperiorString == null)
+    {
+      newSuperiorDN = null;
+    }
+    else
+    {
       try
       {
-        dn = new DN(request.getDN(), schema);
+        newSuperiorDN = new DN(newSuperiorString, schema);
       }
       catch (final LDAPException le)
       {
         Debug.debugException(le);
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
              ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_MALFORMED_DN.get(request.getDN(),
+             ERR_MEM_HANDLER_MOD_DN_MALFORMED_NEW_SUPERIOR.get(
+                  request.getDN(), request.getNewSuperiorDN(),
                   le.getMessage()),
              null));
       }
+    }
 
-      final RDN newRDN;
-      try
-      {
-        newRDN = new RDN(request.getNewRDN(), schema);
-      }
-      catch (final LDAPException le)
+    // See if the target entry or one of its superiors is a smart referral.
+    if (! controlMap.containsKey(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
+    {
+      final Entry referralEntry = findNearestReferral(dn);
+      if (referralEntry != null)
       {
-        Debug.debugException(le);
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_MALFORMED_NEW_RDN.get(request.getDN(),
-                  request.getNewRDN(), le.getMessage()),
-             null));
+             ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
+             INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
+             getReferralURLs(dn, referralEntry)));
       }
+    }
+
+    // See if the target is the root DSE, the subschema subentry, or a
+    // changelog entry.
+    if (dn.isNullDN())
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_ROOT_DSE.get(), null));
+    }
+    else if (dn.equals(subschemaSubentryDN))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_SOURCE_IS_SCHEMA.get(), null));
+    }
+    else if (dn.isDescendantOf(changeLogBaseDN, true))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_SOURCE_IS_CHANGELOG.get(), null));
+    }
 
-      final DN newSuperiorDN;
-      final String newSuperiorString = request.getNewSuperiorDN();
-      if (newSuperiorString == null)
+    // Construct the new DN.
+    final DN newDN;
+    if (newSuperiorDN == null)
+    {
+      final DN originalParent = dn.getParent();
+      if (originalParent == null)
       {
-        newSuperiorDN = null;
+        newDN = new DN(newRDN);
       }
       else
       {
-        try
-        {
-          newSuperiorDN = new DN(newSuperiorString, schema);
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.INVALID_DN_SYNTAX_INT_VALUE, null,
-               ERR_MEM_HANDLER_MOD_DN_MALFORMED_NEW_SUPERIOR.get(
-                    request.getDN(), request.getNewSuperiorDN(),
-                    le.getMessage()),
-               null));
-        }
+        newDN = new DN(newRDN, originalParent);
       }
+    }
+    else
+    {
+      newDN = new DN(newRDN, newSuperiorDN);
+    }
 
-      // See if the target entry or one of its superiors is a smart referral.
-      if (! controlMap.containsKey(
-           ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
-      {
-        final Entry referralEntry = findNearestReferral(dn);
-        if (referralEntry != null)
-        {
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.REFERRAL_INT_VALUE, referralEntry.getDN(),
-               INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
-               getReferralURLs(dn, referralEntry)));
-        }
-      }
+    // If the new DN matches the old DN, then fail.
+    if (newDN.equals(dn))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_NEW_DN_SAME_AS_OLD.get(request.getDN()),
+           null));
+    }
 
-      // See if the target is the root DSE, the subschema subentry, or a
-      // changelog entry.
-      if (dn.isNullDN())
-      {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_ROOT_DSE.get(), null));
-      }
-      else if (dn.equals(subschemaSubentryDN))
-      {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_SOURCE_IS_SCHEMA.get(), null));
-      }
-      else if (dn.isDescendantOf(changeLogBaseDN, true))
+    // If the new DN is below a smart referral, then fail.
+    if (! controlMap.containsKey(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
+    {
+      final Entry referralEntry = findNearestReferral(newDN);
+      if (referralEntry != null)
       {
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_SOURCE_IS_CHANGELOG.get(), null));
+             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, referralEntry.getDN(),
+             ERR_MEM_HANDLER_MOD_DN_NEW_DN_BELOW_REFERRAL.get(request.getDN(),
+                  referralEntry.getDN().toString(), newDN.toString()),
+             null));
       }
+    }
 
-      // Construct the new DN.
-      final DN newDN;
-      if (newSuperiorDN == null)
-      {
-        final DN originalParent = dn.getParent();
-        if (originalParent == null)
-        {
-          newDN = new DN(newRDN);
-        }
-        else
-        {
-          newDN = new DN(newRDN, originalParent);
-        }
-      }
-      else
-      {
-        newDN = new DN(newRDN, newSuperiorDN);
-      }
+    // If the target entry doesn't exist, then fail.
+    final Entry originalEntry = entryMap.get(dn);
+    if (originalEntry == null)
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
+           ERR_MEM_HANDLER_MOD_DN_NO_SUCH_ENTRY.get(request.getDN()), null));
+    }
 
-      // If the new DN matches the old DN, then fail.
-      if (newDN.equals(dn))
-      {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_NEW_DN_SAME_AS_OLD.get(request.getDN()),
-             null));
-      }
+    // If the new DN matches the subschema subentry DN, then fail.
+    if (newDN.equals(subschemaSubentryDN))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_TARGET_IS_SCHEMA.get(request.getDN(),
+                newDN.toString()),
+           null));
+    }
 
-      // If the new DN is below a smart referral, then fail.
-      if (! controlMap.containsKey(
-           ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID))
-      {
-        final Entry referralEntry = findNearestReferral(newDN);
-        if (referralEntry != null)
-        {
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, referralEntry.getDN(),
-               ERR_MEM_HANDLER_MOD_DN_NEW_DN_BELOW_REFERRAL.get(request.getDN(),
-                    referralEntry.getDN().toString(), newDN.toString()),
-               null));
-        }
-      }
+    // If the new DN is at or below the changelog base DN, then fail.
+    if (newDN.isDescendantOf(changeLogBaseDN, true))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_TARGET_IS_CHANGELOG.get(request.getDN(),
+                newDN.toString()),
+           null));
+    }
 
-      // If the target entry doesn't exist, then fail.
-      final Entry originalEntry = entryMap.get(dn);
-      if (originalEntry == null)
+    // If the new DN already exists, then fail.
+    if (entryMap.containsKey(newDN))
+    {
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
+           ERR_MEM_HANDLER_MOD_DN_TARGET_ALREADY_EXISTS.get(request.getDN(),
+                newDN.toString()),
+           null));
+    }
+
+    // If the new DN is not a base DN and its parent does not exist, then
+    // fail.
+    if (baseDNs.contains(newDN))
+    {
+      // The modify DN can be processed.
+    }
+    else
+    {
+      final DN newParent = newDN.getParent();
+      if ((newParent != null) && entryMap.containsKey(newParent))
       {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(dn),
-             ERR_MEM_HANDLER_MOD_DN_NO_SUCH_ENTRY.get(request.getDN()), null));
+        // The modify DN can be processed.
       }
-
-      // If the new DN matches the subschema subentry DN, then fail.
-      if (newDN.equals(subschemaSubentryDN))
+      else
       {
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_TARGET_IS_SCHEMA.get(request.getDN(),
+             ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(newDN),
+             ERR_MEM_HANDLER_MOD_DN_PARENT_DOESNT_EXIST.get(request.getDN(),
                   newDN.toString()),
              null));
       }
+    }
 
-      // If the new DN is at or below the changelog base DN, then fail.
-      if (newDN.isDescendantOf(changeLogBaseDN, true))
+    // Create a copy of the entry and update it to reflect the new DN (with
+    // attribute value changes).
+    final RDN originalRDN = dn.getRDN();
+    final Entry updatedEntry = originalEntry.duplicate();
+    updatedEntry.setDN(newDN);
+    if (request.deleteOldRDN())
+    {
+      final String[] oldRDNNames  = originalRDN.getAttributeNames();
+      final byte[][] oldRDNValues = originalRDN.getByteArrayAttributeValues();
+      for (int i=0; i < oldRDNNames.length; i++)
       {
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_TARGET_IS_CHANGELOG.get(request.getDN(),
-                  newDN.toString()),
-             null));
+        updatedEntry.removeAttributeValue(oldRDNNames[i], oldRDNValues[i]);
       }
+    }
 
-      // If the new DN already exists, then fail.
-      if (entryMap.containsKey(newDN))
+    final String[] newRDNNames  = newRDN.getAttributeNames();
+    final byte[][] newRDNValues = newRDN.getByteArrayAttributeValues();
+    for (int i=0; i < newRDNNames.length; i++)
+    {
+      final MatchingRule matchingRule =
+           MatchingRule.selectEqualityMatchingRule(newRDNNames[i], schema);
+      updatedEntry.addAttribute(new Attribute(newRDNNames[i], matchingRule,
+           newRDNValues[i]));
+    }
+
+    // If a schema was provided, then make sure the updated entry conforms to
+    // the schema.  Also, reject the attempt if any of the new RDN attributes
+    // is marked with NO-USER-MODIFICATION.
+    final EntryValidator entryValidator = entryValidatorRef.get();
+    if (entryValidator != null)
+    {
+      final ArrayList<String> invalidReasons = new ArrayList<>(1);
+      if (! entryValidator.entryIsValid(updatedEntry, invalidReasons))
       {
         return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE, null,
-             ERR_MEM_HANDLER_MOD_DN_TARGET_ALREADY_EXISTS.get(request.getDN(),
-                  newDN.toString()),
+             ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
+             ERR_MEM_HANDLER_MOD_DN_VIOLATES_SCHEMA.get(request.getDN(),
+                  StaticUtils.concatenateStrings(invalidReasons)),
              null));
       }
 
-      // If the new DN is not a base DN and its parent does not exist, then
-      // fail.
-      if (baseDNs.contains(newDN))
-      {
-        // The modify DN can be processed.
-      }
-      else
+      final String[] oldRDNNames = originalRDN.getAttributeNames();
+      for (int i=0; i < oldRDNNames.length; i++)
       {
-        final DN newParent = newDN.getParent();
-        if ((newParent != null) && entryMap.containsKey(newParent))
+        final String name = oldRDNNames[i];
+        final AttributeTypeDefinition at = schema.getAttributeType(name);
+        if ((! isInternalOp) && (at != null) && at.isNoUserModification())
         {
-          // The modify DN can be processed.
-        }
-        else
-        {
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.NO_SUCH_OBJECT_INT_VALUE, getMatchedDNString(newDN),
-               ERR_MEM_HANDLER_MOD_DN_PARENT_DOESNT_EXIST.get(request.getDN(),
-                    newDN.toString()),
-               null));
+          final byte[] value = originalRDN.getByteArrayAttributeValues()[i];
+          if (! updatedEntry.hasAttributeValue(name, value))
+          {
+            return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+                 ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
+                 ERR_MEM_HANDLER_MOD_DN_NO_USER_MOD.get(request.getDN(),
+                      name), null));
+          }
         }
       }
 
-      // Create a copy of the entry and update it to reflect the new DN (with
-      // attribute value changes).
-      final RDN originalRDN = dn.getRDN();
-      final Entry updatedEntry = originalEntry.duplicate();
-      updatedEntry.setDN(newDN);
-      if (request.deleteOldRDN())
+      for (int i=0; i < newRDNNames.length; i++)
       {
-        final String[] oldRDNNames  = originalRDN.getAttributeNames();
-        final byte[][] oldRDNValues = originalRDN.getByteArrayAttributeValues();
-        for (int i=0; i < oldRDNNames.length; i++)
+        final String name = newRDNNames[i];
+        final AttributeTypeDefinition at = schema.getAttributeType(name);
+        if ((! isInternalOp) && (at != null) && at.isNoUserModification())
         {
-          updatedEntry.removeAttributeValue(oldRDNNames[i], oldRDNValues[i]);
+          final byte[] value = newRDN.getByteArrayAttributeValues()[i];
+          if (! originalEntry.hasAttributeValue(name, value))
+          {
+            return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+                 ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
+                 ERR_MEM_HANDLER_MOD_DN_NO_USER_MOD.get(request.getDN(),
+                      name), null));
+          }
         }
       }
+    }
 
-      final String[] newRDNNames  = newRDN.getAttributeNames();
-      final byte[][] newRDNValues = newRDN.getByteArrayAttributeValues();
-      for (int i=0; i < newRDNNames.length; i++)
-      {
-        final MatchingRule matchingRule =
-             MatchingRule.selectEqualityMatchingRule(newRDNNames[i], schema);
-        updatedEntry.addAttribute(new Attribute(newRDNNames[i], matchingRule,
-             newRDNValues[i]));
-      }
+    // Perform the appropriate processing for the assertion and proxied
+    // authorization controls
+    final DN authzDN;
+    try
+    {
+      handleAssertionRequestControl(controlMap, originalEntry);
 
-      // If a schema was provided, then make sure the updated entry conforms to
-      // the schema.  Also, reject the attempt if any of the new RDN attributes
-      // is marked with NO-USER-MODIFICATION.
-      final EntryValidator entryValidator = entryValidatorRef.get();
-      if (entryValidator != null)
-      {
-        final ArrayList<String> invalidReasons = new ArrayList<>(1);
-        if (! entryValidator.entryIsValid(updatedEntry, invalidReasons))
-        {
-          return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-               ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE, null,
-               ERR_MEM_HANDLER_MOD_DN_VIOLATES_SCHEMA.get(request.getDN(),
-                    StaticUtils.concatenateStrings(invalidReasons)),
-               null));
-        }
+      authzDN = handleProxiedAuthControl(controlMap);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
+           le.getResultCode().intValue(), null, le.getMessage(), null));
+    }
 
-        final String[] oldRDNNames = originalRDN.getAttributeNames();
-        for (int i=0; i < oldRDNNames.length; i++)
-        {
-          final String name = oldRDNNames[i];
-          final AttributeTypeDefinition at = schema.getAttributeType(name);
-          if ((! isInternalOp) && (at != null) && at.isNoUserModification())
-          {
-            final byte[] value = originalRDN.getByteArrayAttributeValues()[i];
-            if (! updatedEntry.hasAttributeValue(name, value))
-            {
-              return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-                   ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
-                   ERR_MEM_HANDLER_MOD_DN_NO_USER_MOD.get(request.getDN(),
-                        name), null));
-            }
-          }
-        }
+    // Update the modifiersName, modifyTimestamp, and entryDN operational
+    // attributes.
+    if (generateOperationalAttributes)
+    {
+      updatedEntry.setAttribute(new Attribute("modifiersName",
+           DistinguishedNameMatchingRule.getInstance(),
+           authzDN.toString()));
+      updatedEntry.setAttribute(new Attribute("modifyTimestamp",
+           GeneralizedTimeMatchingRule.getInstance(),
+           StaticUtils.encodeGeneralizedTime(new Date())));
+      updatedEntry.setAttribute(new Attribute("entryDN",
+           DistinguishedNameMatchingRule.getInstance(),
+           newDN.toNormalizedString()));
+    }
 
-        for (int i=0; i < newRDNNames.length; i++)
-        {
-          final String name = newRDNNames[i];
-          final AttributeTypeDefinition at = schema.getAttributeType(name);
-          if ((! isInternalOp) && (at != null) && at.isNoUserModification())
-          {
-            final byte[] value = newRDN.getByteArrayAttributeValues()[i];
-            if (! originalEntry.hasAttributeValue(name, value))
-            {
-              return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-                   ResultCode.CONSTRAINT_VIOLATION_INT_VALUE, null,
-                   ERR_MEM_HANDLER_MOD_DN_NO_USER_MOD.get(request.getDN(),
-                        name), null));
-            }
-          }
-        }
-      }
+    // Perform the appropriate processing for the pre-read and post-read
+    // controls.
+    final PreReadResponseControl preReadResponse =
+         handlePreReadControl(controlMap, originalEntry);
+    if (preReadResponse != null)
+    {
+      responseControls.add(preReadResponse);
+    }
 
-      // Perform the appropriate processing for the assertion and proxied
-      // authorization controls
-      final DN authzDN;
-      try
-      {
-        handleAssertionRequestControl(controlMap, originalEntry);
+    final PostReadResponseControl postReadResponse =
+         handlePostReadControl(controlMap, updatedEntry);
+    if (postReadResponse != null)
+    {
+      responseControls.add(postReadResponse);
+    }
 
-        authzDN = handleProxiedAuthControl(controlMap);
-      }
-      catch (final LDAPException le)
-      {
-        Debug.debugException(le);
-        return new LDAPMessage(messageID, new ModifyDNResponseProtocolOp(
-             le.getResultCode().intValue(), null, le.getMessage(), null));
-      }
+    // Get the DNs of any subordinates of the target entry, which will need
+    // to be renamed as well.
+    final List<DN> subordinateDNs =
+         hierarchyIndex.getSubordinateDNs(dn, false);
 
-      // Update the modifiersName, modifyTimestamp, and entryDN operational
-      // attributes.
-      if (generateOperationalAttributes)
-      {
-        updatedEntry.setAttribute(new Attribute("modifiersName",
-             DistinguishedNameMatchingRule.getInstance(),
-             authzDN.toString()));
-        updatedEntry.setAttribute(new Attribute("modifyTimestamp",
-             GeneralizedTimeMatchingRule.getInstance(),
-             StaticUtils.encodeGeneralizedTime(new Date())));
-        updatedEntry.setAttribute(new Attribute("entryDN",
-             DistinguishedNameMatchingRule.getInstance(),
-             newDN.toNormalizedString()));
-      }
+    // Remove the old entry and add the new one.
+    removeEntry(dn);
+    putEntry(newDN, new ReadOnlyEntry(updatedEntry));
+    indexDelete(originalEntry);
+    indexAdd(updatedEntry);
 
-      // Perform the appropriate processing for the pre-read and post-read
-      // controls.
-      final PreReadResponseControl preReadResponse =
-           handlePreReadControl(controlMap, originalEntry);
-      if (preReadResponse != null)
-      {
-        responseControls.add(preReadResponse);
-      }
+    // If the target entry had any subordinates, then rename them as well.
+    final RDN[] oldDNComps = dn.getRDNs();
+    final RDN[] newDNComps = newDN.getRDNs();
+    for (final DN mapEntryDN : subordinateDNs)
+    {
+      final Entry o = removeEntry(mapEntryDN);
+      final Entry e = o.duplicate();
 
-      final PostReadResponseControl postReadResponse =
-           handlePostReadControl(controlMap, updatedEntry);
-      if (postReadResponse != null)
-      {
-        responseControls.add(postReadResponse);
-      }
+      final RDN[] oldMapEntryComps = mapEntryDN.getRDNs();
+      final int compsToSave = oldMapEntryComps.length - oldDNComps.length;
 
-      // Remove the old entry and add the new one.
-      entryMap.remove(dn);
-      entryMap.put(newDN, new ReadOnlyEntry(updatedEntry));
-      indexDelete(originalEntry);
-      indexAdd(updatedEntry);
+      final RDN[] newMapEntryComps =
+           new RDN[compsToSave + newDNComps.length];
+      System.arraycopy(oldMapEntryComps, 0, newMapEntryComps, 0,
+           compsToSave);
+      System.arraycopy(newDNComps, 0, newMapEntryComps, compsToSave,
+           newDNComps.length);
 
-      // If the target entry had any subordinates, then rename them as well.
-      final RDN[] oldDNComps = dn.getRDNs();
-      final RDN[] newDNComps = newDN.getRDNs();
-      final Set<DN> dnSet = new LinkedHashSet<>(entryMap.keySet());
-      for (final DN mapEntryDN : dnSet)
+      final DN newMapEntryDN = new DN(newMapEntryComps);
+      e.setDN(newMapEntryDN);
+      if (generateOperationalAttributes)
       {
-        if (mapEntryDN.isDescendantOf(dn, false))
-        {
-          final Entry o = entryMap.remove(mapEntryDN);
-          final Entry e = o.duplicate();
-
-          final RDN[] oldMapEntryComps = mapEntryDN.getRDNs();
-          final int compsToSave = oldMapEntryComps.length - oldDNComps.length;
-
-          final RDN[] newMapEntryComps =
-               new RDN[compsToSave + newDNComps.length];
-          System.arraycopy(oldMapEntryComps, 0, newMapEntryComps, 0,
-               compsToSave);
-          System.arraycopy(newDNComps, 0, newMapEntryComps, compsToSave,
-               newDNComps.length);
-
-          final DN newMapEntryDN = new DN(newMapEntryComps);
-          e.setDN(newMapEntryDN);
-          if (generateOperationalAttributes)
-          {
-            e.setAttribute(new Attribute("entryDN",
-                 DistinguishedNameMatchingRule.getInstance(),
-                 newMapEntryDN.toNormalizedString()));
-          }
-          entryMap.put(newMapEntryDN, new ReadOnlyEntry(e));
-          indexDelete(o);
-          indexAdd(e);
-          handleReferentialIntegrityModifyDN(mapEntryDN, newMapEntryDN);
-        }
+        e.setAttribute(new Attribute("entryDN",
+             DistinguishedNameMatchingRule.getInstance(),
+             newMapEntryDN.toNormalizedString()));
       }
-
-      addChangeLogEntry(request, authzDN);
-      handleReferentialIntegrityModifyDN(dn, newDN);
-      return new LDAPMessage(messageID,
-           new ModifyDNResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                null, null),
-           responseControls);
+      putEntry(newMapEntryDN, new ReadOnlyEntry(e));
+      indexDelete(o);
+      indexAdd(e);
+      handleReferentialIntegrityModifyDN(mapEntryDN, newMapEntryDN);
     }
+
+    addChangeLogEntry(request, authzDN);
+    handleReferentialIntegrityModifyDN(dn, newDN);
+    return new LDAPMessage(messageID,
+         new ModifyDNResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+              null, null),
+         responseControls);
   }
 
 
@@ -3447,7 +3954,7 @@ public final class InMemoryRequestHandler
             copy.addAttribute(attrName, newDN.toString());
           }
         }
-        entryMap.put(mapDN, new ReadOnlyEntry(copy));
+        putEntry(mapDN, new ReadOnlyEntry(copy));
         indexDelete(e);
         indexAdd(copy);
       }
@@ -3489,54 +3996,143 @@ public final class InMemoryRequestHandler
                           @NotNull final SearchRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    synchronized (entryMap)
+    // The search itself will be processed under the read lock, and matching
+    // entries will be pared down and collected as they are found.  They will
+    // be sent to the client, along with any search result references, in
+    // batches, and the lock will be released while each batch is sent so that
+    // a slow client won't block write operations.
+    final List<SearchResultEntry> entryList =
+         new ArrayList<>(SEARCH_RESULT_BATCH_SIZE);
+    final List<SearchResultReference> referenceList = new ArrayList<>(10);
+
+    final LDAPMessage returnMessage = processSearchRequest(messageID, request,
+         controls, entryList, referenceList, true);
+
+    final LDAPMessage sendFailureMessage =
+         sendSearchResults(messageID, entryList, referenceList);
+    if (sendFailureMessage != null)
     {
-      final List<SearchResultEntry> entryList =
-           new ArrayList<>(entryMap.size());
-      final List<SearchResultReference> referenceList =
-           new ArrayList<>(entryMap.size());
+      return sendFailureMessage;
+    }
+
+    return returnMessage;
+  }
 
-      final LDAPMessage returnMessage = processSearchRequest(messageID, request,
-           controls, entryList, referenceList);
 
+
+  /**
+   * Sends the provided search result entries and references to the client and
+   * clears the lists that hold them.  This must not be called while holding
+   * the read or write lock.
+   *
+   * @param  messageID      The message ID of the LDAP message containing the
+   *                        search request.
+   * @param  entryList      The search result entries to send to the client.
+   *                        It must not be {@code null}.
+   * @param  referenceList  The search result references to send to the
+   *                        client.  It must not be {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client if a problem was encountered while sending the entries or
+   *          references, or {@code null} if they were all sent successfully.
+   */
+  @Nullable()
+  private LDAPMessage sendSearchResults(final int messageID,
+               @NotNull final List<SearchResultEntry> entryList,
+               @NotNull final List<SearchResultReference> referenceList)
+  {
+    try
+    {
       for (final SearchResultEntry e : entryList)
       {
-        try
-        {
-          connection.sendSearchResultEntry(messageID, e, e.getControls());
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
-                    le.getMatchedDN(), le.getDiagnosticMessage(),
-                    StaticUtils.toList(le.getReferralURLs())),
-               le.getResponseControls());
-        }
+        connection.sendSearchResultEntry(messageID, e, e.getControls());
       }
 
       for (final SearchResultReference r : referenceList)
       {
-        try
-        {
-          connection.sendSearchResultReference(messageID,
-               new SearchResultReferenceProtocolOp(
-                    StaticUtils.toList(r.getReferralURLs())),
-               r.getControls());
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
-                    le.getMatchedDN(), le.getDiagnosticMessage(),
-                    StaticUtils.toList(le.getReferralURLs())),
-               le.getResponseControls());
-        }
+        connection.sendSearchResultReference(messageID,
+             new SearchResultReferenceProtocolOp(
+                  StaticUtils.toList(r.getReferralURLs())),
+             r.getControls());
       }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return new LDAPMessage(messageID,
+           new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
+                le.getMatchedDN(), le.getDiagnosticMessage(),
+                StaticUtils.toList(le.getReferralURLs())),
+           le.getResponseControls());
+    }
+    finally
+    {
+      entryList.clear();
+      referenceList.clear();
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Indicates whether enough search result entries and references have been
+   * collected for a search request that they should be sent to the client.
+   *
+   * @param  entryList      The search result entries that have been collected.
+   *                        It must not be {@code null}.
+   * @param  referenceList  The search result references that have been
+   *                        collected.  It must not be {@code null}.
+   *
+   * @return  {@code true} if a complete batch of results has been collected,
+   *          or {@code false} if not.
+   */
+  private static boolean isSearchResultBatchComplete(
+               @NotNull final List<SearchResultEntry> entryList,
+               @NotNull final List<SearchResultReference> referenceList)
+  {
+    return ((entryList.size() + referenceList.size()) >=
+         SEARCH_RESULT_BATCH_SIZE);
+  }
+
+
 
-      return returnMessage;
+  /**
+   * Sends the search result entries and references that have been collected
+   * for a search request, releasing the read lock while they are sent.  The
+   * caller must hold the read lock exactly once and must not hold the write
+   * lock, and it will hold the read lock again when this method returns.  The
+   * caller must not rely on any iterators over the entry map or its indexes
+   * that were obtained before calling this method, since the data may have
+   * been altered while the lock was released.
+   *
+   * @param  messageID      The message ID of the LDAP message containing the
+   *                        search request.
+   * @param  readLock       The read lock held by the caller.
+   * @param  entryList      The search result entries that have been collected.
+   *                        It must not be {@code null}.
+   * @param  referenceList  The search result references that have been
+   *                        collected.  It must not be {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client if a problem was encountered while sending the entries or
+   *          references, or {@code null} if the search may continue.
+   */
+  @Nullable()
+  private LDAPMessage sendSearchResultBatch(final int messageID,
+               @NotNull final CloseableReadWriteLock.ReadLock readLock,
+               @NotNull final List<SearchResultEntry> entryList,
+               @NotNull final List<SearchResultReference> referenceList)
+  {
+    readLock.close();
+    try
+    {
+      return sendSearchResults(messageID, entryList, referenceList);
+    }
+    finally
+    {
+      entryLock.lockRead();
     }
   }
 
@@ -3570,6 +4166,14 @@ public final class InMemoryRequestHandler
    * @param  referenceList  A list to which to add search result references
    *                        intended for return to the client.  It must not be
    *                        {@code null}.
+   * @param  sendInBatches  Indicates whether the entries and references should
+   *                        be sent to the client (and removed from the lists)
+   *                        in batches as they are collected, releasing the
+   *                        read lock while each batch is sent.  This will only
+   *                        be done if the caller does not already hold a lock
+   *                        on the entry map.  Any entries and references that
+   *                        remain in the lists when this method returns must
+   *                        be sent by the caller.
    *
    * @return  The {@link LDAPMessage} containing the response to send to the
    *          client.  The protocol op in the {@code LDAPMessage} must be an
@@ -3580,10 +4184,20 @@ public final class InMemoryRequestHandler
                    @NotNull final SearchRequestProtocolOp request,
                    @NotNull final List<Control> controls,
                    @NotNull final List<SearchResultEntry> entryList,
-                   @NotNull final List<SearchResultReference> referenceList)
+                   @NotNull final List<SearchResultReference> referenceList,
+                   final boolean sendInBatches)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
+      // The entries can only be sent in batches if the read lock can be
+      // released while doing so, which won't be the case if this thread
+      // already held a lock on the entry map.
+      final boolean sendBatches = sendInBatches &&
+           (entryLock.getReadHoldCount() == 1) &&
+           (! entryLock.isWriteLockedByCurrentThread());
+
       // Sleep before processing, if appropriate.
       final long processingStartTime = System.currentTimeMillis();
       sleepBeforeProcessing();
@@ -3609,10 +4223,10 @@ public final class InMemoryRequestHandler
       // response by configuring a delay that is greater than the requested time
       // limit, so we should check now to see if that's been exceeded.
       final long timeLimitMillis = 1000L * request.getTimeLimit();
+      final long timeLimitExpirationTime;
       if (timeLimitMillis > 0L)
       {
-        final long timeLimitExpirationTime =
-             processingStartTime + timeLimitMillis;
+        timeLimitExpirationTime = processingStartTime + timeLimitMillis;
         if (System.currentTimeMillis() >= timeLimitExpirationTime)
         {
           return new LDAPMessage(messageID, new SearchResultDoneProtocolOp(
@@ -3620,6 +4234,10 @@ public final class InMemoryRequestHandler
                ERR_MEM_HANDLER_TIME_LIMIT_EXCEEDED.get(), null));
         }
       }
+      else
+      {
+        timeLimitExpirationTime = 0L;
+      }
 
       // Process the provided request controls.
       final Map<String,Control> controlMap;
@@ -3776,10 +4394,77 @@ public final class InMemoryRequestHandler
         includeNonSubEntries = true;
       }
 
-      // Create a temporary list to hold all of the entries to be returned.
-      // These entries will not have been pared down based on the requested
-      // attributes.
-      final List<Entry> fullEntryList = new ArrayList<>(entryMap.size());
+      // See if the request includes any controls that require all of the
+      // matching entries to be identified before any of them can be returned.
+      final ServerSideSortRequestControl sortRequestControl =
+           (ServerSideSortRequestControl) controlMap.get(
+                ServerSideSortRequestControl.SERVER_SIDE_SORT_REQUEST_OID);
+      final SimplePagedResultsControl pagedResultsControl =
+           (SimplePagedResultsControl)
+                controlMap.get(SimplePagedResultsControl.PAGED_RESULTS_OID);
+      final VirtualListViewRequestControl vlvRequest =
+           (VirtualListViewRequestControl) controlMap.get(
+                VirtualListViewRequestControl.VIRTUAL_LIST_VIEW_REQUEST_OID);
+      final boolean materializeEntries =
+           ((sortRequestControl != null) || (vlvRequest != null));
+
+      // If the request included the simple paged results control, then
+      // determine the offset of the first entry to return.  The cookie value
+      // will simply be an integer representation of the offset within the
+      // result list at which to start the next page.
+      int pagedResultsOffset = 0;
+      if (pagedResultsControl != null)
+      {
+        final ASN1OctetString cookie = pagedResultsControl.getCookie();
+        if ((cookie != null) && (cookie.getValueLength() > 0))
+        {
+          try
+          {
+            final ASN1Integer offsetInteger =
+                 ASN1Integer.decodeAsInteger(cookie.getValue());
+            pagedResultsOffset = offsetInteger.intValue();
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            return new LDAPMessage(messageID,
+                 new SearchResultDoneProtocolOp(
+                      ResultCode.PROTOCOL_ERROR_INT_VALUE, null,
+                      ERR_MEM_HANDLER_MALFORMED_PAGED_RESULTS_COOKIE.get(),
+                      null),
+                 responseControls);
+          }
+        }
+      }
+
+      // Process the set of requested attributes so that we can pare down the
+      // entries.
+      final SearchEntryParer parer = new SearchEntryParer(
+           request.getAttributes(), schema);
+      final int sizeLimit;
+      if (request.getSizeLimit() > 0)
+      {
+        sizeLimit = Math.min(request.getSizeLimit(), maxSizeLimit);
+      }
+      else
+      {
+        sizeLimit = maxSizeLimit;
+      }
+
+      // Create a temporary list to hold the entries to be sorted, if
+      // necessary.  These entries will not have been pared down based on the
+      // requested attributes.  If there is no need to materialize the entries,
+      // then they will be returned as they are found.
+      final List<Entry> fullEntryList = new ArrayList<>(10);
+      final InMemorySearchEntryCollector collector =
+           new InMemorySearchEntryCollector(messageID, parer, schema,
+                request.typesOnly(), sizeLimit, timeLimitExpirationTime,
+                materializeEntries, fullEntryList, entryList,
+                responseControls);
+      if ((pagedResultsControl != null) && (! materializeEntries))
+      {
+        collector.setPage(pagedResultsOffset, pagedResultsControl.getSize());
+      }
 
 findEntriesAndRefs:
       {
@@ -3795,7 +4480,7 @@ findEntriesAndRefs:
             {
               processSearchEntry(baseEntry, includeSubEntries,
                    includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                   fullEntryList, referenceList);
+                   collector, referenceList);
             }
           }
           catch (final Exception e)
@@ -3820,9 +4505,12 @@ findEntriesAndRefs:
               {
                 if (filter.matchesEntry(e, schema))
                 {
-                  processSearchEntry(e, includeSubEntries, includeNonSubEntries,
-                       includeChangeLog, hasManageDsaIT, fullEntryList,
-                       referenceList);
+                  if (! processSearchEntry(e, includeSubEntries,
+                       includeNonSubEntries, includeChangeLog, hasManageDsaIT,
+                       collector, referenceList))
+                  {
+                    break findEntriesAndRefs;
+                  }
                 }
               }
               catch (final Exception ex)
@@ -3837,65 +4525,153 @@ findEntriesAndRefs:
 
 
         // Try to use indexes to process the request.  If we can't use any
-        // indexes to get a candidate list, then just iterate over all the
-        // entries.  It's not necessary to consider the root DSE for non-base
-        // scopes.
+        // attribute indexes to get a candidate list, then just iterate over all
+        // the entries within the scope of the search (or over all entries in
+        // the server if the search is based at the root DSE).  If we can get
+        // both a candidate list and a list of the entries in scope, then use
+        // whichever is smaller.  It's not necessary to consider the root DSE
+        // for non-base scopes.
+        //
+        // Since the read lock may be released while sending a batch of
+        // results, the DNs to examine are copied into an array rather than
+        // iterating over a view of the index, and entries are retrieved from
+        // the entry map (and may no longer exist) only when they are examined.
         final Set<DN> candidateDNs = indexSearch(filter);
-        if (candidateDNs == null)
+        final Collection<DN> scopedDNs = getDNsInScope(baseDN, scope);
+        final DN[] dnsToExamine;
+        final Set<DN> requiredDNs;
+        if ((scopedDNs != null) &&
+             ((candidateDNs == null) ||
+                  (scopedDNs.size() <= candidateDNs.size())))
+        {
+          dnsToExamine = scopedDNs.toArray(new DN[scopedDNs.size()]);
+          requiredDNs = candidateDNs;
+        }
+        else if (candidateDNs != null)
+        {
+          dnsToExamine = candidateDNs.toArray(new DN[candidateDNs.size()]);
+          requiredDNs = null;
+        }
+        else
+        {
+          dnsToExamine = null;
+          requiredDNs = null;
+        }
+
+        if (dnsToExamine != null)
         {
-          for (final Map.Entry<DN,ReadOnlyEntry> me : entryMap.entrySet())
+          for (final DN dn : dnsToExamine)
           {
-            final DN dn = me.getKey();
-            final Entry entry = me.getValue();
+            if ((requiredDNs != null) && (! requiredDNs.contains(dn)))
+            {
+              continue;
+            }
+
             try
             {
-              if (dn.matchesBaseAndScope(baseDN, scope) &&
+              final Entry entry = entryMap.get(dn);
+              if ((entry != null) && dn.matchesBaseAndScope(baseDN, scope) &&
                    filter.matchesEntry(entry, schema))
               {
-                processSearchEntry(entry, includeSubEntries,
+                if (! processSearchEntry(entry, includeSubEntries,
                      includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                     fullEntryList, referenceList);
+                     collector, referenceList))
+                {
+                  break findEntriesAndRefs;
+                }
               }
             }
             catch (final Exception e)
             {
               Debug.debugException(e);
             }
+
+            if (sendBatches &&
+                 isSearchResultBatchComplete(entryList, referenceList))
+            {
+              final LDAPMessage sendFailureMessage = sendSearchResultBatch(
+                   messageID, readLock, entryList, referenceList);
+              if (sendFailureMessage != null)
+              {
+                return sendFailureMessage;
+              }
+            }
           }
         }
         else
         {
-          for (final DN dn : candidateDNs)
+          // Iterate over all of the entries in the server.  If the read lock
+          // needs to be released to send a batch of results, then resume with
+          // the entry that follows the last one examined.
+          DN lastDN = null;
+          boolean resume = true;
+          while (resume)
           {
-            try
+            resume = false;
+
+            final Map<DN,ReadOnlyEntry> remainingEntries;
+            if (lastDN == null)
+            {
+              remainingEntries = entryMap;
+            }
+            else
+            {
+              remainingEntries = entryMap.tailMap(lastDN, false);
+            }
+
+            for (final Map.Entry<DN,ReadOnlyEntry> me :
+                 remainingEntries.entrySet())
             {
-              if (! dn.matchesBaseAndScope(baseDN, scope))
+              final DN dn = me.getKey();
+              final Entry entry = me.getValue();
+              lastDN = dn;
+              try
               {
-                continue;
+                if (dn.matchesBaseAndScope(baseDN, scope) &&
+                     filter.matchesEntry(entry, schema))
+                {
+                  if (! processSearchEntry(entry, includeSubEntries,
+                       includeNonSubEntries, includeChangeLog, hasManageDsaIT,
+                       collector, referenceList))
+                  {
+                    break findEntriesAndRefs;
+                  }
+                }
+              }
+              catch (final Exception e)
+              {
+                Debug.debugException(e);
               }
 
-              final Entry entry = entryMap.get(dn);
-              if (filter.matchesEntry(entry, schema))
+              if (sendBatches &&
+                   isSearchResultBatchComplete(entryList, referenceList))
               {
-                processSearchEntry(entry, includeSubEntries,
-                     includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                     fullEntryList, referenceList);
+                final LDAPMessage sendFailureMessage = sendSearchResultBatch(
+                     messageID, readLock, entryList, referenceList);
+                if (sendFailureMessage != null)
+                {
+                  return sendFailureMessage;
+                }
+
+                resume = true;
+                break;
               }
             }
-            catch (final Exception e)
-            {
-              Debug.debugException(e);
-            }
           }
         }
       }
 
 
+      // If the search had to stop before all matching entries were found,
+      // then return the appropriate response.
+      if (collector.getStopMessage() != null)
+      {
+        return collector.getStopMessage();
+      }
+
+
       // If the request included the server-side sort request control, then sort
       // the matching entries appropriately.
-      final ServerSideSortRequestControl sortRequestControl =
-           (ServerSideSortRequestControl) controlMap.get(
-                ServerSideSortRequestControl.SERVER_SIDE_SORT_REQUEST_OID);
       if (sortRequestControl != null)
       {
         final EntrySorter entrySorter = new EntrySorter(false, schema,
@@ -3910,79 +4686,44 @@ findEntriesAndRefs:
 
 
       // If the request included the simple paged results control, then handle
-      // it.
-      final SimplePagedResultsControl pagedResultsControl =
-           (SimplePagedResultsControl)
-                controlMap.get(SimplePagedResultsControl.PAGED_RESULTS_OID);
+      // it.  If the entries were not materialized, then the collector will
+      // have only returned the entries in the requested page.
       if (pagedResultsControl != null)
       {
-        final int totalSize = fullEntryList.size();
-        final int pageSize = pagedResultsControl.getSize();
-        final ASN1OctetString cookie = pagedResultsControl.getCookie();
-
-        final int offset;
-        if ((cookie == null) || (cookie.getValueLength() == 0))
+        final int totalSize;
+        final int pageSize = Math.max(0, pagedResultsControl.getSize());
+        final int offset = Math.max(0, pagedResultsOffset);
+        if (materializeEntries)
         {
-          // This is the first request in the series, so start at the beginning
-          // of the list.
-          offset = 0;
-        }
-        else
-        {
-          // The cookie value will simply be an integer representation of the
-          // offset within the result list at which to start the next batch.
-          try
-          {
-            final ASN1Integer offsetInteger =
-                 ASN1Integer.decodeAsInteger(cookie.getValue());
-            offset = offsetInteger.intValue();
-          }
-          catch (final Exception e)
+          totalSize = fullEntryList.size();
+
+          // Create an iterator that will be used to remove entries from the
+          // result set that are outside of the requested page of results.
+          int pos = 0;
+          final Iterator<Entry> iterator = fullEntryList.iterator();
+          while (iterator.hasNext())
           {
-            Debug.debugException(e);
-            return new LDAPMessage(messageID,
-                 new SearchResultDoneProtocolOp(
-                      ResultCode.PROTOCOL_ERROR_INT_VALUE, null,
-                      ERR_MEM_HANDLER_MALFORMED_PAGED_RESULTS_COOKIE.get(),
-                      null),
-                 responseControls);
+            iterator.next();
+            if ((pos < offset) || (pos >= ((long) offset + pageSize)))
+            {
+              iterator.remove();
+            }
+            pos++;
           }
         }
-
-        // Create an iterator that will be used to remove entries from the
-        // result set that are outside of the requested page of results.
-        int pos = 0;
-        final Iterator<Entry> iterator = fullEntryList.iterator();
-
-        // First, remove entries at the beginning of the list until we hit the
-        // offset.
-        while (iterator.hasNext() && (pos < offset))
-        {
-          iterator.next();
-          iterator.remove();
-          pos++;
-        }
-
-        // Next, skip over the entries that should be returned.
-        int keptEntries = 0;
-        while (iterator.hasNext() && (keptEntries < pageSize))
+        else
         {
-          iterator.next();
-          pos++;
-          keptEntries++;
+          totalSize = collector.getMatchingEntryCount();
         }
 
-        // If there are still entries left, then remove them and create a cookie
-        // to include in the response.  Otherwise, use an empty cookie.
-        if (iterator.hasNext())
+        // If there are still entries left after the requested page, then
+        // create a cookie to include in the response.  Otherwise, use an empty
+        // cookie.
+        if (totalSize > ((long) offset + pageSize))
         {
           responseControls.add(new SimplePagedResultsControl(totalSize,
-               new ASN1OctetString(new ASN1Integer(pos).encode()), false));
-          while (iterator.hasNext())
-          {
-            iterator.next();
-            iterator.remove();
-          }
+               new ASN1OctetString(new ASN1Integer(offset + pageSize).encode()),
+               false));
         }
         else
         {
@@ -3994,9 +4735,6 @@ findEntriesAndRefs:
 
       // If the request includes the virtual list view request control, then
       // handle it.
-      final VirtualListViewRequestControl vlvRequest =
-           (VirtualListViewRequestControl) controlMap.get(
-                VirtualListViewRequestControl.VIRTUAL_LIST_VIEW_REQUEST_OID);
       if (vlvRequest != null)
       {
         final int totalEntries = fullEntryList.size();
@@ -4063,145 +4801,399 @@ findEntriesAndRefs:
       }
 
 
-      // Process the set of requested attributes so that we can pare down the
-      // entries.
-      final SearchEntryParer parer = new SearchEntryParer(
-           request.getAttributes(), schema);
-      final int sizeLimit;
-      if (request.getSizeLimit() > 0)
-      {
-        sizeLimit = Math.min(request.getSizeLimit(), maxSizeLimit);
-      }
-      else
+      // Return the entries that were sorted or paged, if appropriate.
+      for (final Entry e : fullEntryList)
       {
-        sizeLimit = maxSizeLimit;
+        if (! collector.returnEntry(e))
+        {
+          return collector.getStopMessage();
+        }
+
+        if (sendBatches &&
+             isSearchResultBatchComplete(entryList, referenceList))
+        {
+          final LDAPMessage sendFailureMessage = sendSearchResultBatch(
+               messageID, readLock, entryList, referenceList);
+          if (sendFailureMessage != null)
+          {
+            return sendFailureMessage;
+          }
+        }
       }
 
-      int entryCount = 0;
-      for (final Entry e : fullEntryList)
-      {
-        entryCount++;
-        if (entryCount > sizeLimit)
+      return new LDAPMessage(messageID,
+           new SearchResultDoneProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
+                null, null),
+           responseControls);
+    }
+  }
+
+
+
+  /**
+   * Ensures that the provided filter is supported in the in-memory directory
+   * server.
+   *
+   * @param  filter  The filter being validated.
+   *
+   * @throws  LDAPException  If the provided filter is not acceptable.
+   */
+  private static void ensureFilterSupported(@NotNull final Filter filter)
+          throws LDAPException
+  {
+    switch (filter.getFilterType())
+    {
+      case Filter.FILTER_TYPE_AND:
+      case Filter.FILTER_TYPE_OR:
+        // Make sure that all of the embedded components are supported.
+        for (final Filter component : filter.getComponents())
+        {
+          ensureFilterSupported(component);
+        }
+        return;
+
+      case Filter.FILTER_TYPE_NOT:
+        // Make sure that the embedded component is supported.
+        ensureFilterSupported(filter.getNOTComponent());
+        return;
+
+      case Filter.FILTER_TYPE_EQUALITY:
+      case Filter.FILTER_TYPE_SUBSTRING:
+      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+      case Filter.FILTER_TYPE_PRESENCE:
+        // These are always acceptable.
+        return;
+
+      case Filter.FILTER_TYPE_APPROXIMATE_MATCH:
+        // Approximate match filters are never supported.
+        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
+             ERR_MEM_HANDLER_FILTER_UNSUPPORTED_APPROXIMATE_MATCH_FILTER.get());
+
+      case Filter.FILTER_TYPE_EXTENSIBLE_MATCH:
+        // Extensible match filters are never supported.
+        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
+             ERR_MEM_HANDLER_FILTER_UNSUPPORTED_EXTENSIBLE_MATCH_FILTER.get());
+
+      default:
+        // Unrecognized filter types are never supported.
+        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
+             ERR_MEM_HANDLER_FILTER_UNRECOGNIZED_FILTER_TYPE.get(
+                  StaticUtils.toHex(filter.getFilterType())));
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided filter includes a component that targets the
+   * ldapSubEntry object class.
+   *
+   * @param  filter  The filter for which to make the determination.
+   *
+   * @return  {@code true} if the provided filter includes a component that
+   *          targets the ldapSubEntry object class or {@code false} if not.
+   */
+  private static boolean filterIncludesLDAPSubEntry(
+                              @NotNull final Filter filter)
+  {
+    switch (filter.getFilterType())
+    {
+      case Filter.FILTER_TYPE_AND:
+      case Filter.FILTER_TYPE_OR:
+        for (final Filter f : filter.getComponents())
         {
-          return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(
-                    ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE, null,
-                    ERR_MEM_HANDLER_SEARCH_SIZE_LIMIT_EXCEEDED.get(), null),
-               responseControls);
+          if (filterIncludesLDAPSubEntry(f))
+          {
+            return true;
+          }
         }
+        return false;
+
+      case Filter.FILTER_TYPE_EQUALITY:
+        return  (filter.getAttributeName().equalsIgnoreCase("objectClass") ||
+             filter.getAttributeName().equals("2.5.4.0"));
+
+      default:
+        return false;
+    }
+  }
+
+
+
+  /**
+   * Populates the entry map with any entries held in the configured
+   * persistence directory, and opens the persistent store so that it will
+   * record any subsequent changes.  Persisted entries that are not within any
+   * of the configured base DNs will be ignored.
+   *
+   * @throws  LDAPException  If a problem is encountered while reading the
+   *                         persisted entries or opening the persistent store.
+   */
+  private void loadPersistedEntries()
+          throws LDAPException
+  {
+    final Map<DN,ReadOnlyEntry> persistedEntries = persistentStore.load();
+    if (persistedEntries != null)
+    {
+      long firstNumber = 0L;
+      long lastNumber = 0L;
+      final Iterator<DN> iterator = persistedEntries.keySet().iterator();
+      while (iterator.hasNext())
+      {
+        final DN dn = iterator.next();
 
-        final Entry trimmedEntry = parer.pareEntry(e);
-        if (request.typesOnly())
+        boolean withinBaseDN = false;
+        for (final DN baseDN : baseDNs)
         {
-          final Entry typesOnlyEntry = new Entry(trimmedEntry.getDN(), schema);
-          for (final Attribute a : trimmedEntry.getAttributes())
+          if (dn.isDescendantOf(baseDN, true))
           {
-            typesOnlyEntry.addAttribute(new Attribute(a.getName()));
+            withinBaseDN = true;
+            break;
           }
-          entryList.add(new SearchResultEntry(typesOnlyEntry));
         }
-        else
+
+        if (! withinBaseDN)
+        {
+          iterator.remove();
+          continue;
+        }
+
+        if (changeLogBaseDN.equals(dn.getParent()))
         {
-          entryList.add(new SearchResultEntry(trimmedEntry));
+          try
+          {
+            final long changeNumber =
+                 Long.parseLong(dn.getRDN().getAttributeValues()[0]);
+            if ((firstNumber == 0L) || (changeNumber < firstNumber))
+            {
+              firstNumber = changeNumber;
+            }
+
+            if (changeNumber > lastNumber)
+            {
+              lastNumber = changeNumber;
+            }
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+          }
         }
       }
 
-      return new LDAPMessage(messageID,
-           new SearchResultDoneProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
-                null, null),
-           responseControls);
+      if ((maxChangelogEntries > 0) &&
+           (! persistedEntries.containsKey(changeLogBaseDN)))
+      {
+        persistedEntries.put(changeLogBaseDN, entryMap.get(changeLogBaseDN));
+      }
+
+      restoreSnapshot(new InMemoryDirectoryServerSnapshot(persistedEntries,
+           firstNumber, lastNumber));
+    }
+
+    persistentStore.open();
+  }
+
+
+
+  /**
+   * Indicates that a bulk update is about to begin, so that the persistent
+   * store (if any) can write a single snapshot when the update completes
+   * rather than recording each individual change.
+   */
+  private void beginBulkUpdate()
+  {
+    if (persistentStore != null)
+    {
+      persistentStore.beginBulkUpdate();
+    }
+  }
+
+
+
+  /**
+   * Indicates that a bulk update has ended.
+   *
+   * @param  changesRetained  Indicates whether the changes made during the
+   *                          bulk update have been retained, rather than
+   *                          reverted by restoring a snapshot.
+   */
+  private void endBulkUpdate(final boolean changesRetained)
+  {
+    if (persistentStore != null)
+    {
+      persistentStore.endBulkUpdate(changesRetained);
+    }
+  }
+
+
+
+  /**
+   * Indicates that a write operation is about to be processed, so that the
+   * original versions of the entries it alters will be retained until
+   * {@link #endPersistedOperation} is called.  This has no effect if the server
+   * does not use a persistence directory.  Write operations may be nested (for
+   * example, when processing a transaction), in which case only the outermost
+   * operation will have any effect.  This must only be called while holding
+   * the write lock.
+   */
+  private void beginPersistedOperation()
+  {
+    if (persistentStore == null)
+    {
+      return;
+    }
+
+    persistedOperationDepth++;
+    if (persistedOperationDepth == 1)
+    {
+      persistedOperationOriginalEntries = new LinkedHashMap<>(10);
+      persistedOperationFirstChangeNumber = firstChangeNumber.get();
+      persistedOperationLastChangeNumber = lastChangeNumber.get();
+    }
+  }
+
+
+
+  /**
+   * Indicates that a write operation has been processed.  If the operation
+   * altered any entries and those changes could not be persisted, then they
+   * will be reverted so that the operation is not acknowledged without being
+   * persisted.  This must only be called while holding the write lock.
+   *
+   * @return  A message describing the reason that the changes could not be
+   *          persisted if the operation has been reverted, or {@code null} if
+   *          the operation did not need to be reverted.
+   */
+  @Nullable()
+  private String endPersistedOperation()
+  {
+    if (persistentStore == null)
+    {
+      return null;
+    }
+
+    persistedOperationDepth--;
+    if (persistedOperationDepth > 0)
+    {
+      return null;
+    }
+
+    final Map<DN,ReadOnlyEntry> originalEntries =
+         persistedOperationOriginalEntries;
+    persistedOperationOriginalEntries = null;
+    if (originalEntries.isEmpty())
+    {
+      return null;
+    }
+
+    final String failureMessage = persistentStore.getFailureMessage();
+    if (failureMessage == null)
+    {
+      return null;
+    }
+
+    // Restore the original versions of the entries.  The persistent store will
+    // capture the complete content of the server once it is able to do so, so
+    // it does not need to be informed about these changes.
+    for (final Map.Entry<DN,ReadOnlyEntry> e : originalEntries.entrySet())
+    {
+      final DN dn = e.getKey();
+      final ReadOnlyEntry currentEntry = entryMap.remove(dn);
+      if (currentEntry != null)
+      {
+        hierarchyIndex.remove(dn);
+        indexDelete(currentEntry);
+      }
+
+      final ReadOnlyEntry originalEntry = e.getValue();
+      if (originalEntry != null)
+      {
+        entryMap.put(dn, originalEntry);
+        hierarchyIndex.add(dn);
+        indexAdd(originalEntry);
+      }
     }
+
+    firstChangeNumber.set(persistedOperationFirstChangeNumber);
+    lastChangeNumber.set(persistedOperationLastChangeNumber);
+    return failureMessage;
   }
 
 
 
   /**
-   * Ensures that the provided filter is supported in the in-memory directory
-   * server.
-   *
-   * @param  filter  The filter being validated.
+   * Adds the provided entry to the entry map, replacing any existing entry
+   * with the same DN, and updates the hierarchy index, snapshot journal, and
+   * persistent store accordingly.  This will not update any attribute indexes.
    *
-   * @throws  LDAPException  If the provided filter is not acceptable.
+   * @param  dn     The DN of the entry to add.  It must not be {@code null}.
+   * @param  entry  The entry to add.  It must not be {@code null}.
    */
-  private static void ensureFilterSupported(@NotNull final Filter filter)
-          throws LDAPException
+  private void putEntry(@NotNull final DN dn,
+                        @NotNull final ReadOnlyEntry entry)
   {
-    switch (filter.getFilterType())
+    final ReadOnlyEntry originalEntry = entryMap.put(dn, entry);
+    if (originalEntry == null)
     {
-      case Filter.FILTER_TYPE_AND:
-      case Filter.FILTER_TYPE_OR:
-        // Make sure that all of the embedded components are supported.
-        for (final Filter component : filter.getComponents())
-        {
-          ensureFilterSupported(component);
-        }
-        return;
-
-      case Filter.FILTER_TYPE_NOT:
-        // Make sure that the embedded component is supported.
-        ensureFilterSupported(filter.getNOTComponent());
-        return;
-
-      case Filter.FILTER_TYPE_EQUALITY:
-      case Filter.FILTER_TYPE_SUBSTRING:
-      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
-      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
-      case Filter.FILTER_TYPE_PRESENCE:
-        // These are always acceptable.
-        return;
+      hierarchyIndex.add(dn);
+    }
 
-      case Filter.FILTER_TYPE_APPROXIMATE_MATCH:
-        // Approximate match filters are never supported.
-        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
-             ERR_MEM_HANDLER_FILTER_UNSUPPORTED_APPROXIMATE_MATCH_FILTER.get());
+    if ((persistedOperationOriginalEntries != null) &&
+         (! persistedOperationOriginalEntries.containsKey(dn)))
+    {
+      persistedOperationOriginalEntries.put(dn, originalEntry);
+    }
 
-      case Filter.FILTER_TYPE_EXTENSIBLE_MATCH:
-        // Extensible match filters are never supported.
-        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
-             ERR_MEM_HANDLER_FILTER_UNSUPPORTED_EXTENSIBLE_MATCH_FILTER.get());
+    if (snapshotJournal != null)
+    {
+      snapshotJournal.recordChange(dn, originalEntry);
+    }
 
-      default:
-        // Unrecognized filter types are never supported.
-        throw new LDAPException(ResultCode.INAPPROPRIATE_MATCHING,
-             ERR_MEM_HANDLER_FILTER_UNRECOGNIZED_FILTER_TYPE.get(
-                  StaticUtils.toHex(filter.getFilterType())));
+    if (persistentStore != null)
+    {
+      persistentStore.recordChange(dn, entry);
     }
   }
 
 
 
   /**
-   * Indicates whether the provided filter includes a component that targets the
-   * ldapSubEntry object class.
+   * Removes the entry with the specified DN from the entry map, and updates
+   * the hierarchy index, snapshot journal, and persistent store accordingly.
+   * This will not update any attribute indexes.
    *
-   * @param  filter  The filter for which to make the determination.
+   * @param  dn  The DN of the entry to remove.  It must not be {@code null}.
    *
-   * @return  {@code true} if the provided filter includes a component that
-   *          targets the ldapSubEntry object class or {@code false} if not.
+   * @return  The entry that was removed, or {@code null} if there was no entry
+   *          with the specified DN.
    */
-  private static boolean filterIncludesLDAPSubEntry(
-                              @NotNull final Filter filter)
+  @Nullable()
+  private ReadOnlyEntry removeEntry(@NotNull final DN dn)
   {
-    switch (filter.getFilterType())
+    final ReadOnlyEntry originalEntry = entryMap.remove(dn);
+    if (originalEntry != null)
     {
-      case Filter.FILTER_TYPE_AND:
-      case Filter.FILTER_TYPE_OR:
-        for (final Filter f : filter.getComponents())
-        {
-          if (filterIncludesLDAPSubEntry(f))
-          {
-            return true;
-          }
-        }
-        return false;
+      hierarchyIndex.remove(dn);
+      if ((persistedOperationOriginalEntries != null) &&
+           (! persistedOperationOriginalEntries.containsKey(dn)))
+      {
+        persistedOperationOriginalEntries.put(dn, originalEntry);
+      }
 
-      case Filter.FILTER_TYPE_EQUALITY:
-        return  (filter.getAttributeName().equalsIgnoreCase("objectClass") ||
-             filter.getAttributeName().equals("2.5.4.0"));
+      if (snapshotJournal != null)
+      {
+        snapshotJournal.recordChange(dn, originalEntry);
+      }
 
-      default:
-        return false;
+      if (persistentStore != null)
+      {
+        persistentStore.recordChange(dn, null);
+      }
     }
+
+    return originalEntry;
   }
 
 
@@ -4213,8 +5205,7 @@ findEntriesAndRefs:
    */
   private void indexAdd(@NotNull final Entry entry)
   {
-    for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-         equalityIndexes.values())
+    for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
     {
       try
       {
@@ -4236,8 +5227,7 @@ findEntriesAndRefs:
    */
   private void indexDelete(@NotNull final Entry entry)
   {
-    for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-         equalityIndexes.values())
+    for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
     {
       try
       {
@@ -4252,6 +5242,56 @@ findEntriesAndRefs:
 
 
 
+  /**
+   * Retrieves the DNs of the entries within the specified scope of the given
+   * base DN, using the hierarchy index so that entries outside of the scope
+   * do not need to be examined.
+   *
+   * @param  baseDN  The base DN for the search.  It must not be {@code null}.
+   * @param  scope   The scope for the search.  It must not be {@code null}.
+   *
+   * @return  The DNs of the entries within the specified scope, in sorted
+   *          order, or {@code null} if the set of entries in scope should be
+   *          determined by examining all entries in the server (for example,
+   *          because the search is based at the root DSE).
+   */
+  @Nullable()
+  private Collection<DN> getDNsInScope(@NotNull final DN baseDN,
+                                       @NotNull final SearchScope scope)
+  {
+    if (baseDN.isNullDN())
+    {
+      return null;
+    }
+
+    switch (scope.intValue())
+    {
+      case SearchScope.BASE_INT_VALUE:
+        if (entryMap.containsKey(baseDN))
+        {
+          return Collections.singletonList(baseDN);
+        }
+        else
+        {
+          return Collections.<DN>emptyList();
+        }
+
+      case SearchScope.ONE_INT_VALUE:
+        return hierarchyIndex.getChildDNs(baseDN);
+
+      case SearchScope.SUB_INT_VALUE:
+        return hierarchyIndex.getSubordinateDNs(baseDN, true);
+
+      case SearchScope.SUBORDINATE_SUBTREE_INT_VALUE:
+        return hierarchyIndex.getSubordinateDNs(baseDN, false);
+
+      default:
+        return null;
+    }
+  }
+
+
+
   /**
    * Attempts to use indexes to obtain a candidate list for the provided filter.
    *
@@ -4277,22 +5317,41 @@ findEntriesAndRefs:
         }
         else
         {
-          Set<DN> candidateSet = null;
+          // Get the candidate sets for all of the indexed components, and
+          // start the intersection with the smallest of them.
+          final List<Set<DN>> dnSets = new ArrayList<>(comps.length);
+          Set<DN> smallestSet = null;
           for (final Filter f : comps)
           {
             final Set<DN> dnSet = indexSearch(f);
             if (dnSet != null)
             {
-              if (candidateSet == null)
+              if (dnSet.isEmpty())
               {
-                candidateSet = new TreeSet<>(dnSet);
+                return Collections.emptySet();
               }
-              else
+
+              dnSets.add(dnSet);
+              if ((smallestSet == null) || (dnSet.size() < smallestSet.size()))
               {
-                candidateSet.retainAll(dnSet);
+                smallestSet = dnSet;
               }
             }
           }
+
+          if (smallestSet == null)
+          {
+            return null;
+          }
+
+          final Set<DN> candidateSet = new TreeSet<>(smallestSet);
+          for (final Set<DN> dnSet : dnSets)
+          {
+            if (dnSet != smallestSet)
+            {
+              candidateSet.retainAll(dnSet);
+            }
+          }
           return candidateSet;
         }
 
@@ -4330,26 +5389,60 @@ findEntriesAndRefs:
         }
 
       case Filter.FILTER_TYPE_EQUALITY:
-        final Schema schema = schemaRef.get();
-        if (schema == null)
+        final InMemoryDirectoryServerEqualityAttributeIndex eqIndex =
+             getIndex(equalityIndexes, filter);
+        if (eqIndex == null)
         {
           return null;
         }
-        final AttributeTypeDefinition at =
-             schema.getAttributeType(filter.getAttributeName());
-        if (at == null)
+        try
+        {
+          return eqIndex.getMatchingEntries(filter.getRawAssertionValue());
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          return null;
+        }
+
+      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+        final InMemoryDirectoryServerOrderingAttributeIndex ordIndex =
+             getIndex(orderingIndexes, filter);
+        if (ordIndex == null)
+        {
+          return null;
+        }
+        try
+        {
+          if (filter.getFilterType() == Filter.FILTER_TYPE_GREATER_OR_EQUAL)
+          {
+            return ordIndex.getEntriesGreaterThanOrEqualTo(
+                 filter.getRawAssertionValue());
+          }
+          else
+          {
+            return ordIndex.getEntriesLessThanOrEqualTo(
+                 filter.getRawAssertionValue());
+          }
+        }
+        catch (final Exception e)
         {
+          Debug.debugException(e);
           return null;
         }
-        final InMemoryDirectoryServerEqualityAttributeIndex i =
-             equalityIndexes.get(at);
-        if (i == null)
+
+      case Filter.FILTER_TYPE_SUBSTRING:
+        final InMemoryDirectoryServerSubstringAttributeIndex subIndex =
+             getIndex(substringIndexes, filter);
+        if (subIndex == null)
         {
           return null;
         }
         try
         {
-          return i.getMatchingEntries(filter.getRawAssertionValue());
+          return subIndex.getCandidateEntries(filter.getRawSubInitialValue(),
+               filter.getRawSubAnyValues(), filter.getRawSubFinalValue());
         }
         catch (final Exception e)
         {
@@ -4357,6 +5450,15 @@ findEntriesAndRefs:
           return null;
         }
 
+      case Filter.FILTER_TYPE_PRESENCE:
+        final InMemoryDirectoryServerPresenceAttributeIndex presIndex =
+             getIndex(presenceIndexes, filter);
+        if (presIndex == null)
+        {
+          return null;
+        }
+        return presIndex.getMatchingEntries();
+
       default:
         return null;
     }
@@ -4364,6 +5466,45 @@ findEntriesAndRefs:
 
 
 
+  /**
+   * Retrieves the index from the provided map for the attribute type targeted
+   * by the given filter.
+   *
+   * @param  <T>      The type of index contained in the map.
+   * @param  indexes  The map from which to retrieve the index.
+   * @param  filter   The filter for which to retrieve the index.
+   *
+   * @return  The index for the attribute type targeted by the given filter, or
+   *          {@code null} if there is no such index.
+   */
+  @Nullable()
+  private <T extends InMemoryDirectoryServerAttributeIndex> T getIndex(
+               @NotNull final Map<AttributeTypeDefinition,T> indexes,
+               @NotNull final Filter filter)
+  {
+    if (indexes.isEmpty())
+    {
+      return null;
+    }
+
+    final Schema schema = schemaRef.get();
+    if (schema == null)
+    {
+      return null;
+    }
+
+    final AttributeTypeDefinition at =
+         schema.getAttributeType(filter.getAttributeName());
+    if (at == null)
+    {
+      return null;
+    }
+
+    return indexes.get(at);
+  }
+
+
+
   /**
    * Determines whether the provided set of controls includes a transaction
    * specification request control.  If so, then it will verify that it
@@ -4587,8 +5728,10 @@ findEntriesAndRefs:
    */
   public int countEntries(final boolean includeChangeLog)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       if (includeChangeLog || (maxChangelogEntries == 0))
       {
         return entryMap.size();
@@ -4612,6 +5755,36 @@ findEntriesAndRefs:
 
 
 
+  /**
+   * Retrieves a message describing the reason that changes cannot currently be
+   * persisted, if the server is configured with a persistence directory and a
+   * problem has been encountered while writing to it.  While this is the case,
+   * all add, delete, modify, and modify DN operations will be rejected.  Each
+   * call to this method will make another attempt to persist the complete
+   * content of the server, so it may be used to determine whether the problem
+   * has been resolved.
+   *
+   * @return  A message describing the reason that changes cannot currently be
+   *          persisted, or {@code null} if the server does not use a
+   *          persistence directory or if all changes have been persisted.
+   */
+  @Nullable()
+  public String getPersistenceFailureMessage()
+  {
+    if (persistentStore == null)
+    {
+      return null;
+    }
+
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      return persistentStore.getFailureMessage();
+    }
+  }
+
+
+
   /**
    * Retrieves the number of entries currently held in the server whose DN
    * matches or is subordinate to the provided base DN.
@@ -4627,20 +5800,17 @@ findEntriesAndRefs:
   public int countEntriesBelow(@NotNull final String baseDN)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
-      final DN parsedBaseDN = new DN(baseDN, schemaRef.get());
+      readLock.avoidCompilerWarning();
 
-      int count = 0;
-      for (final DN dn : entryMap.keySet())
+      final DN parsedBaseDN = new DN(baseDN, schemaRef.get());
+      if (parsedBaseDN.isNullDN())
       {
-        if (dn.isDescendantOf(parsedBaseDN, true))
-        {
-          count++;
-        }
+        return entryMap.size();
       }
 
-      return count;
+      return hierarchyIndex.getSubordinateDNs(parsedBaseDN, true).size();
     }
   }
 
@@ -4653,8 +5823,10 @@ findEntriesAndRefs:
    */
   public void clear()
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       restoreSnapshot(initialSnapshot);
     }
   }
@@ -4682,10 +5854,13 @@ findEntriesAndRefs:
                             @NotNull final LDIFReader ldifReader)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       final InMemoryDirectoryServerSnapshot snapshot = createSnapshot();
       boolean restoreSnapshot = true;
+      beginBulkUpdate();
 
       try
       {
@@ -4742,6 +5917,8 @@ findEntriesAndRefs:
         {
           restoreSnapshot(snapshot);
         }
+
+        endBulkUpdate(! restoreSnapshot);
       }
     }
   }
@@ -4773,8 +5950,10 @@ findEntriesAndRefs:
                           final boolean closeWriter)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       boolean exceptionThrown = false;
 
       try
@@ -4871,10 +6050,13 @@ findEntriesAndRefs:
   public int applyChangesFromLDIF(@NotNull final LDIFReader ldifReader)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       final InMemoryDirectoryServerSnapshot snapshot = createSnapshot();
       boolean restoreSnapshot = true;
+      beginBulkUpdate();
 
       try
       {
@@ -4957,6 +6139,8 @@ findEntriesAndRefs:
         {
           restoreSnapshot(snapshot);
         }
+
+        endBulkUpdate(! restoreSnapshot);
       }
     }
   }
@@ -5036,10 +6220,13 @@ findEntriesAndRefs:
   public void addEntries(@NotNull final List<? extends Entry> entries)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       final InMemoryDirectoryServerSnapshot snapshot = createSnapshot();
       boolean restoreSnapshot = true;
+      beginBulkUpdate();
 
       try
       {
@@ -5055,6 +6242,8 @@ findEntriesAndRefs:
         {
           restoreSnapshot(snapshot);
         }
+
+        endBulkUpdate(! restoreSnapshot);
       }
     }
   }
@@ -5078,8 +6267,10 @@ findEntriesAndRefs:
   public int deleteSubtree(@NotNull final String baseDN)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.WriteLock writeLock = entryLock.lockWrite())
     {
+      writeLock.avoidCompilerWarning();
+
       final DN dn = new DN(baseDN, schemaRef.get());
       if (dn.isNullDN())
       {
@@ -5088,15 +6279,12 @@ findEntriesAndRefs:
       }
 
       int numDeleted = 0;
-
-      final Iterator<Map.Entry<DN,ReadOnlyEntry>> iterator =
-           entryMap.entrySet().iterator();
-      while (iterator.hasNext())
+      for (final DN entryDN : hierarchyIndex.getSubordinateDNs(dn, true))
       {
-        final Map.Entry<DN,ReadOnlyEntry> e = iterator.next();
-        if (e.getKey().isDescendantOf(dn, true))
+        final Entry e = removeEntry(entryDN);
+        if (e != null)
         {
-          iterator.remove();
+          indexDelete(e);
           numDeleted++;
         }
       }
@@ -5181,8 +6369,10 @@ findEntriesAndRefs:
   @Nullable()
   public ReadOnlyEntry getEntry(@NotNull final DN dn)
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       if (dn.isNullDN())
       {
         return generateRootDSE();
@@ -5230,8 +6420,10 @@ findEntriesAndRefs:
                                     @NotNull final Filter filter)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final DN parsedDN;
       final Schema schema = schemaRef.get();
       try
@@ -5312,6 +6504,28 @@ findEntriesAndRefs:
       }
 
       final List<ReadOnlyEntry> entryList = new ArrayList<>(10);
+      final Collection<DN> scopedDNs = getDNsInScope(parsedDN, scope);
+      if (scopedDNs != null)
+      {
+        for (final DN dn : scopedDNs)
+        {
+          try
+          {
+            final Entry entry = entryMap.get(dn);
+            if (filter.matchesEntry(entry, schema))
+            {
+              entryList.add(new ReadOnlyEntry(entry));
+            }
+          }
+          catch (final LDAPException le)
+          {
+            Debug.debugException(le);
+          }
+        }
+
+        return Collections.unmodifiableList(entryList);
+      }
+
       for (final Map.Entry<DN,ReadOnlyEntry> me : entryMap.entrySet())
       {
         final DN dn = me.getKey();
@@ -5534,21 +6748,25 @@ findEntriesAndRefs:
    * @param  hasManageDsaIT        Indicates whether the request includes the
    *                               ManageDsaIT control, which can change how
    *                               smart referrals should be handled.
-   * @param  entryList             The list to which the entry should be added
-   *                               if it should be returned to the client as a
-   *                               search result entry.
+   * @param  collector             The collector that should be notified if
+   *                               the entry should be returned to the client
+   *                               as a search result entry.
    * @param  referenceList         The list that should be updated if the
    *                               provided entry represents a smart referral
    *                               that should be returned as a search result
    *                               reference.
+   *
+   * @return  {@code true} if the search should continue, or {@code false} if
+   *          it should stop because a limit has been reached or an entry
+   *          could not be sent to the client.
    */
-  private void processSearchEntry(@NotNull final Entry entry,
-                    final boolean includeSubEntries,
-                    final boolean includeNonSubEntries,
-                    final boolean includeChangeLog,
-                    final boolean hasManageDsaIT,
-                    @NotNull final List<Entry> entryList,
-                    @NotNull final List<SearchResultReference> referenceList)
+  private boolean processSearchEntry(@NotNull final Entry entry,
+               final boolean includeSubEntries,
+               final boolean includeNonSubEntries,
+               final boolean includeChangeLog,
+               final boolean hasManageDsaIT,
+               @NotNull final InMemorySearchEntryCollector collector,
+               @NotNull final List<SearchResultReference> referenceList)
   {
     // Check to see if the entry should be suppressed based on whether it's an
     // LDAP subentry.
@@ -5557,12 +6775,12 @@ findEntriesAndRefs:
     {
       if (! includeSubEntries)
       {
-        return;
+        return true;
       }
     }
     else if (! includeNonSubEntries)
     {
-      return;
+      return true;
     }
 
     // See if the entry should be suppressed as a changelog entry.
@@ -5571,7 +6789,7 @@ findEntriesAndRefs:
       if ((! includeChangeLog) &&
            (entry.getParsedDN().isDescendantOf(changeLogBaseDN, true)))
       {
-        return;
+        return true;
       }
     }
     catch (final Exception e)
@@ -5587,10 +6805,10 @@ findEntriesAndRefs:
     {
       referenceList.add(new SearchResultReference(
            entry.getAttributeValues("ref"), NO_CONTROLS));
-      return;
+      return true;
     }
 
-    entryList.add(entry);
+    return collector.entryFound(entry);
   }
 
 
@@ -5811,7 +7029,7 @@ findEntriesAndRefs:
   /**
    * Adds the provided changelog entry to the data set, removing an old entry if
    * necessary to remain within the maximum allowed number of changes.  This
-   * must only be called from a synchronized method, and the change number for
+   * must only be called while holding the write lock, and the change number for
    * the changelog entry must have been obtained by calling
    * {@code lastChangeNumber.incrementAndGet()}.
    *
@@ -5854,7 +7072,7 @@ findEntriesAndRefs:
            StaticUtils.encodeGeneralizedTime(d)));
     }
 
-    entryMap.put(dn, new ReadOnlyEntry(entry));
+    putEntry(dn, new ReadOnlyEntry(entry));
     indexAdd(entry);
 
     // Update the first change number and/or trim the changelog if necessary.
@@ -5873,9 +7091,10 @@ findEntriesAndRefs:
         // We need to delete the first changelog entry and increment the
         // first change number.
         firstChangeNumber.incrementAndGet();
-        final Entry deletedEntry = entryMap.remove(new DN(
+        final DN deletedDN = new DN(
              new RDN("changeNumber", String.valueOf(firstNumber), schema),
-             changeLogBaseDN));
+             changeLogBaseDN);
+        final Entry deletedEntry = removeEntry(deletedDN);
         indexDelete(deletedEntry);
       }
     }
@@ -5953,8 +7172,10 @@ findEntriesAndRefs:
   public DN getDNForAuthzID(@NotNull final String authzID)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final String lowerAuthzID = StaticUtils.toLowerCase(authzID);
       if (lowerAuthzID.startsWith("dn:"))
       {
@@ -6251,8 +7472,10 @@ findEntriesAndRefs:
                              @NotNull final String filter)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
@@ -6291,8 +7514,10 @@ findEntriesAndRefs:
   public boolean entryExists(@NotNull final Entry entry)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(entry.getDN());
       if (e == null)
       {
@@ -6354,8 +7579,10 @@ findEntriesAndRefs:
                                 @NotNull final String filter)
          throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
@@ -6400,8 +7627,10 @@ findEntriesAndRefs:
   public void assertEntryExists(@NotNull final Entry entry)
          throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(entry.getDN());
       if (e == null)
       {
@@ -6461,8 +7690,10 @@ findEntriesAndRefs:
   public List<String> getMissingEntryDNs(@NotNull final Collection<String> dns)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final List<String> missingDNs = new ArrayList<>(dns.size());
       for (final String dn : dns)
       {
@@ -6493,8 +7724,10 @@ findEntriesAndRefs:
   public void assertEntriesExist(@NotNull final Collection<String> dns)
          throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final List<String> missingDNs = getMissingEntryDNs(dns);
       if (missingDNs.isEmpty())
       {
@@ -6534,8 +7767,10 @@ findEntriesAndRefs:
                            @NotNull final Collection<String> attributeNames)
          throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
@@ -6578,8 +7813,10 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeNames)
         throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final List<String> missingAttrs =
            getMissingAttributeNames(dn, attributeNames);
       if (missingAttrs == null)
@@ -6627,8 +7864,10 @@ findEntriesAndRefs:
                            @NotNull final Collection<String> attributeValues)
        throws LDAPException
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
@@ -6675,8 +7914,10 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeValues)
         throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final List<String> missingValues =
            getMissingAttributeValues(dn, attributeName, attributeValues);
       if (missingValues == null)
@@ -6750,8 +7991,10 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeNames)
          throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
@@ -6798,8 +8041,10 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeValues)
          throws LDAPException, AssertionError
   {
-    synchronized (entryMap)
+    try (CloseableReadWriteLock.ReadLock readLock = entryLock.lockRead())
     {
+      readLock.avoidCompilerWarning();
+
       final Entry e = getEntry(dn);
       if (e == null)
       {
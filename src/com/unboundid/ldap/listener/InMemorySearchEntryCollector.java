@@ -0,0 +1,340 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.List;
+
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchResultDoneProtocolOp;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class is used by the in-memory request handler to collect the entries
+ * that match a search request.  Unless the entries need to be sorted or only a
+ * subset of them should be returned based on their position in a sorted list
+ * (as with the virtual list view control), each matching entry will be pared
+ * down as soon as it is found, so that the collected entries only reference
+ * the requested attributes (which are shared with the entries in the server
+ * rather than copied).  This class will also enforce the size and time limits
+ * for the search as entries are found, so a search that exceeds a limit will
+ * stop without examining any more entries.
+ * <BR><BR>
+ * If the simple paged results control is used without sorting, then the
+ * entries do not need to be materialized either.  Instead, the collector will
+ * only return the matching entries within the requested page and will just
+ * count the rest.
+ * <BR><BR>
+ * The collector is used while the search holds the read lock for the entry
+ * map, so it never sends anything to the client.  The request handler sends
+ * the collected entries in batches, releasing the lock while each batch is
+ * sent, so that a client that is slow to read them cannot block write
+ * operations and the number of entries held at any time is bounded.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemorySearchEntryCollector
+{
+  // Indicates whether entries should be collected so that they can be sorted
+  // or paged before they are returned.
+  private final boolean materializeEntries;
+
+  // Indicates whether to return only attribute types and not values.
+  private final boolean typesOnly;
+
+  // The number of entries that have been returned.
+  private int entryCount;
+
+  // The offset of the first entry in the page of results to return, and the
+  // maximum number of entries to include in that page, or -1 if entries should
+  // not be paged by this collector.
+  private int pageOffset;
+  private int pageSize;
+
+  // The total number of matching entries that have been found.
+  private int matchingEntryCount;
+
+  // The maximum number of entries that may be returned.
+  private final int sizeLimit;
+
+  // The message ID for the search request.
+  private final int messageID;
+
+  // The message that should be returned to the client because the search
+  // cannot continue.
+  @Nullable private LDAPMessage stopMessage;
+
+  // The list to which entries will be added if they need to be materialized.
+  @NotNull private final List<Entry> materializedEntryList;
+
+  // The list of response controls for the search operation.
+  @NotNull private final List<Control> responseControls;
+
+  // The list to which entries to return to the client will be added.
+  @NotNull private final List<SearchResultEntry> entryList;
+
+  // The time at which the time limit for the search will expire, or zero if
+  // there is no time limit.
+  private final long timeLimitExpirationTime;
+
+  // The schema to use when creating entries to return.
+  @Nullable private final Schema schema;
+
+  // The parer to use to pare down entries based on the requested attributes.
+  @NotNull private final SearchEntryParer parer;
+
+
+
+  /**
+   * Creates a new search entry collector with the provided information.
+   *
+   * @param  messageID                The message ID for the search request.
+   * @param  parer                    The parer to use to pare down entries
+   *                                  based on the requested attributes.
+   * @param  schema                   The schema to use when creating entries
+   *                                  to return.
+   * @param  typesOnly                Indicates whether to return only
+   *                                  attribute types and not values.
+   * @param  sizeLimit                The maximum number of entries that may be
+   *                                  returned.
+   * @param  timeLimitExpirationTime  The time at which the time limit for the
+   *                                  search will expire, or zero if there is
+   *                                  no time limit.
+   * @param  materializeEntries       Indicates whether entries should be
+   *                                  collected so that they can be sorted or
+   *                                  paged before they are returned.
+   * @param  materializedEntryList    The list to which entries will be added
+   *                                  if they need to be materialized.
+   * @param  entryList                The list to which entries to return to
+   *                                  the client will be added.
+   * @param  responseControls         The list of response controls for the
+   *                                  search operation.
+   */
+  InMemorySearchEntryCollector(final int messageID,
+       @NotNull final SearchEntryParer parer, @Nullable final Schema schema,
+       final boolean typesOnly, final int sizeLimit,
+       final long timeLimitExpirationTime, final boolean materializeEntries,
+       @NotNull final List<Entry> materializedEntryList,
+       @NotNull final List<SearchResultEntry> entryList,
+       @NotNull final List<Control> responseControls)
+  {
+    this.messageID               = messageID;
+    this.parer                   = parer;
+    this.schema                  = schema;
+    this.typesOnly               = typesOnly;
+    this.sizeLimit               = sizeLimit;
+    this.timeLimitExpirationTime = timeLimitExpirationTime;
+    this.materializeEntries      = materializeEntries;
+    this.materializedEntryList   = materializedEntryList;
+    this.entryList               = entryList;
+    this.responseControls        = responseControls;
+
+    entryCount = 0;
+    matchingEntryCount = 0;
+    pageOffset = -1;
+    pageSize = -1;
+    stopMessage = null;
+  }
+
+
+
+  /**
+   * Indicates that only the matching entries within the specified page of
+   * results should be returned.  This should only be used for a collector that
+   * does not need to materialize entries.  The total number of matching
+   * entries will still be available through the
+   * {@link #getMatchingEntryCount} method.
+   *
+   * @param  pageOffset  The zero-based position of the first matching entry to
+   *                     return.
+   * @param  pageSize    The maximum number of matching entries to return.
+   */
+  void setPage(final int pageOffset, final int pageSize)
+  {
+    this.pageOffset = Math.max(0, pageOffset);
+    this.pageSize   = Math.max(0, pageSize);
+  }
+
+
+
+  /**
+   * Handles an entry that has been found to match the search criteria.  If
+   * entries need to be materialized, then it will be added to the
+   * materialized entry list.  Otherwise, it will be pared down and added to
+   * the list of entries to return.
+   *
+   * @param  entry  The entry that matches the search criteria.
+   *
+   * @return  {@code true} if the search should continue, or {@code false} if
+   *          it should stop because a limit has been reached.
+   */
+  boolean entryFound(@NotNull final Entry entry)
+  {
+    matchingEntryCount++;
+    if (materializeEntries)
+    {
+      materializedEntryList.add(entry);
+      return (! timeLimitExceeded());
+    }
+    else if ((pageSize >= 0) &&
+         ((matchingEntryCount <= pageOffset) ||
+          (matchingEntryCount > ((long) pageOffset + pageSize))))
+    {
+      return (! timeLimitExceeded());
+    }
+    else
+    {
+      return returnEntry(entry);
+    }
+  }
+
+
+
+  /**
+   * Pares down the provided entry and adds it to the list of entries to
+   * return to the client.
+   *
+   * @param  entry  The entry to be returned.
+   *
+   * @return  {@code true} if the search should continue, or {@code false} if
+   *          it should stop because a limit has been reached.
+   */
+  boolean returnEntry(@NotNull final Entry entry)
+  {
+    entryCount++;
+    if (entryCount > sizeLimit)
+    {
+      stopMessage = new LDAPMessage(messageID,
+           new SearchResultDoneProtocolOp(
+                ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE, null,
+                ERR_MEM_HANDLER_SEARCH_SIZE_LIMIT_EXCEEDED.get(), null),
+           responseControls);
+      return false;
+    }
+
+    if (timeLimitExceeded())
+    {
+      return false;
+    }
+
+    final Entry trimmedEntry = parer.pareEntry(entry);
+    final Entry entryToReturn;
+    if (typesOnly)
+    {
+      entryToReturn = new Entry(trimmedEntry.getDN(), schema);
+      for (final Attribute a : trimmedEntry.getAttributes())
+      {
+        entryToReturn.addAttribute(new Attribute(a.getName()));
+      }
+    }
+    else
+    {
+      entryToReturn = trimmedEntry;
+    }
+
+    entryList.add(new SearchResultEntry(entryToReturn));
+    return true;
+  }
+
+
+
+  /**
+   * Indicates whether the time limit for the search has been exceeded.  If so,
+   * then the stop message will be set accordingly.
+   *
+   * @return  {@code true} if the time limit has been exceeded, or
+   *          {@code false} if not.
+   */
+  private boolean timeLimitExceeded()
+  {
+    if ((timeLimitExpirationTime > 0L) &&
+         (System.currentTimeMillis() >= timeLimitExpirationTime))
+    {
+      stopMessage = new LDAPMessage(messageID, new SearchResultDoneProtocolOp(
+           ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE, null,
+           ERR_MEM_HANDLER_TIME_LIMIT_EXCEEDED.get(), null),
+           responseControls);
+      return true;
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Retrieves the total number of matching entries that have been found,
+   * including any that were not returned because they were outside the
+   * requested page of results.
+   *
+   * @return  The total number of matching entries that have been found.
+   */
+  int getMatchingEntryCount()
+  {
+    return matchingEntryCount;
+  }
+
+
+
+  /**
+   * Retrieves the message that should be returned to the client because the
+   * search cannot continue, if any.
+   *
+   * @return  The message that should be returned to the client because the
+   *          search cannot continue, or {@code null} if the search may
+   *          continue.
+   */
+  @Nullable()
+  LDAPMessage getStopMessage()
+  {
+    return stopMessage;
+  }
+}
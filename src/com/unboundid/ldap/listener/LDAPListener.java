@@ -39,12 +39,21 @@ package com.unboundid.ldap.listener;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -55,11 +64,13 @@ import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.extensions.NoticeOfDisconnectionExtendedResult;
 import com.unboundid.util.Debug;
 import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.listener.ListenerMessages.*;
 
@@ -116,6 +127,9 @@ public final class LDAPListener
   // Indicates whether a request has been received to stop running.
   @NotNull private final AtomicBoolean stopRequested;
 
+  // Indicates whether the NIO selector and worker threads have been stopped.
+  @NotNull private final AtomicBoolean nioThreadsStopped;
+
   // The connection ID value that should be assigned to the next connection that
   // is established.
   @NotNull private final AtomicLong nextConnectionID;
@@ -123,6 +137,11 @@ public final class LDAPListener
   // The server socket that is being used to accept connections.
   @NotNull private final AtomicReference<ServerSocket> serverSocket;
 
+  // The server socket channel that is being used to accept connections, if the
+  // listener is configured to use NIO selector threads.
+  @NotNull private final AtomicReference<ServerSocketChannel>
+       serverSocketChannel;
+
   // The thread that is currently listening for new client connections.
   @NotNull private final AtomicReference<Thread> thread;
 
@@ -136,6 +155,19 @@ public final class LDAPListener
   // The configuration to use for this listener.
   @NotNull private final LDAPListenerConfig config;
 
+  // The thread pool used to process requests read by the NIO selector threads.
+  @Nullable private volatile ExecutorService nioWorkerPool;
+
+  // The thread pool used to process requests that are handed off by client
+  // connections so that additional requests can be read from those
+  // connections, if the listener is configured to allow concurrent requests
+  // on the same connection.
+  @Nullable private final ExecutorService concurrentRequestPool;
+
+  // The selector threads used to read requests from clients, if the listener
+  // is configured to use NIO selector threads.
+  @Nullable private volatile LDAPListenerSelectorThread[] nioSelectorThreads;
+
 
 
   /**
@@ -150,9 +182,27 @@ public final class LDAPListener
     this.config = config.duplicate();
 
     stopRequested = new AtomicBoolean(false);
+    nioThreadsStopped = new AtomicBoolean(false);
     nextConnectionID = new AtomicLong(0L);
     serverSocket = new AtomicReference<>(null);
+    serverSocketChannel = new AtomicReference<>(null);
+    nioWorkerPool = null;
+    nioSelectorThreads = null;
     thread = new AtomicReference<>(null);
+
+    // Threads in the concurrent request pool will exit when they have been
+    // idle for a while, so the pool never needs to be explicitly shut down.
+    if (this.config.getMaxConcurrentRequestsPerConnection() > 1)
+    {
+      concurrentRequestPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+           60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+           new LDAPSDKThreadFactory("LDAPListener concurrent request thread",
+                true));
+    }
+    else
+    {
+      concurrentRequestPool = null;
+    }
     startLatch = new CountDownLatch(1);
     establishedConnections =
          new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(20));
@@ -173,7 +223,32 @@ public final class LDAPListener
     final ServerSocketFactory f = config.getServerSocketFactory();
     final InetAddress a = config.getListenAddress();
     final int p = config.getListenPort();
-    if (a == null)
+    if (config.getNIOSelectorThreads() > 0)
+    {
+      // NIO-based listeners need a server socket channel rather than a server
+      // socket, and that can't be obtained from a custom socket factory.
+      if (! f.getClass().equals(ServerSocketFactory.getDefault().getClass()))
+      {
+        throw new IOException(ERR_LDAP_LISTENER_NIO_CUSTOM_SOCKET_FACTORY.get(
+             f.getClass().getName()));
+      }
+
+      final ServerSocketChannel c = ServerSocketChannel.open();
+      try
+      {
+        c.socket().bind(new InetSocketAddress(a, p), 128);
+      }
+      catch (final IOException ioe)
+      {
+        Debug.debugException(ioe);
+        c.close();
+        throw ioe;
+      }
+
+      serverSocketChannel.set(c);
+      serverSocket.set(c.socket());
+    }
+    else if (a == null)
     {
       serverSocket.set(f.createServerSocket(config.getListenPort(), 128));
     }
@@ -191,6 +266,22 @@ public final class LDAPListener
     setName("LDAP Listener Thread (listening on port " +
          serverSocket.get().getLocalPort() + ')');
 
+    if (serverSocketChannel.get() != null)
+    {
+      try
+      {
+        startNIOThreads();
+      }
+      catch (final IOException ioe)
+      {
+        Debug.debugException(ioe);
+        stopNIOThreads();
+        serverSocket.getAndSet(null).close();
+        serverSocketChannel.set(null);
+        throw ioe;
+      }
+    }
+
     start();
 
     try
@@ -224,15 +315,27 @@ public final class LDAPListener
       while (! stopRequested.get())
       {
         final Socket s;
+        final SocketChannel sc;
         try
         {
-          s = serverSocket.get().accept();
+          final ServerSocketChannel ssc = serverSocketChannel.get();
+          if (ssc == null)
+          {
+            s = serverSocket.get().accept();
+            sc = null;
+          }
+          else
+          {
+            sc = ssc.accept();
+            s = sc.socket();
+          }
         }
         catch (final Exception e)
         {
           Debug.debugException(e);
 
-          if ((e instanceof SocketException) &&
+          if (((e instanceof SocketException) ||
+               (e instanceof ClosedChannelException)) &&
               serverSocket.get().isClosed())
           {
             return;
@@ -249,8 +352,16 @@ public final class LDAPListener
         final LDAPListenerClientConnection c;
         try
         {
-          c = new LDAPListenerClientConnection(this, s,
-               config.getRequestHandler(), config.getExceptionHandler());
+          if (sc == null)
+          {
+            c = new LDAPListenerClientConnection(this, s,
+                 config.getRequestHandler(), config.getExceptionHandler());
+          }
+          else
+          {
+            c = new LDAPListenerClientConnection(this, sc,
+                 config.getRequestHandler(), config.getExceptionHandler());
+          }
         }
         catch (final LDAPException le)
         {
@@ -275,7 +386,25 @@ public final class LDAPListener
         }
 
         establishedConnections.put(c.getConnectionID(), c);
-        c.start();
+
+        final LDAPListenerSelectorThread[] selectorThreads =
+             nioSelectorThreads;
+        if (sc == null)
+        {
+          if ((! config.useVirtualThreads()) ||
+               (VirtualThreadSupport.startVirtualThread(c.getName(), c) ==
+                    null))
+          {
+            c.start();
+          }
+        }
+        else
+        {
+          final LDAPListenerSelectorThread selectorThread = selectorThreads[
+               (int) (c.getConnectionID() % selectorThreads.length)];
+          selectorThread.register(new LDAPListenerNIOConnectionHandler(c, sc,
+               selectorThread, nioWorkerPool));
+        }
       }
     }
     finally
@@ -294,7 +423,107 @@ public final class LDAPListener
       }
 
       serverSocket.set(null);
+      serverSocketChannel.set(null);
       thread.set(null);
+
+      // If this is an NIO-based listener, then the selector and worker threads
+      // need to keep running for as long as any connections remain
+      // established.
+      if (establishedConnections.isEmpty())
+      {
+        stopNIOThreads();
+      }
+    }
+  }
+
+
+
+  /**
+   * Creates and starts the NIO selector threads and the worker thread pool
+   * that will be used to read and process requests from clients.
+   *
+   * @throws  IOException  If a problem occurs while creating a selector.
+   */
+  private void startNIOThreads()
+          throws IOException
+  {
+    final int port = serverSocket.get().getLocalPort();
+
+    int numWorkerThreads = config.getNIOWorkerThreads();
+    if (numWorkerThreads <= 0)
+    {
+      numWorkerThreads =
+           Math.max(4, (2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    nioWorkerPool = new ThreadPoolExecutor(numWorkerThreads, numWorkerThreads,
+         0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+         new LDAPSDKThreadFactory("LDAPListener worker thread for port " + port,
+              true));
+
+    final LDAPListenerSelectorThread[] selectorThreads =
+         new LDAPListenerSelectorThread[config.getNIOSelectorThreads()];
+    try
+    {
+      for (int i=0; i < selectorThreads.length; i++)
+      {
+        selectorThreads[i] = new LDAPListenerSelectorThread(
+             "LDAPListener selector thread " + (i+1) + " for port " + port);
+      }
+    }
+    catch (final IOException ioe)
+    {
+      Debug.debugException(ioe);
+
+      // Let any selector threads that were successfully created exit
+      // immediately so that they will close their selectors.
+      for (final LDAPListenerSelectorThread t : selectorThreads)
+      {
+        if (t != null)
+        {
+          t.shutDown();
+          t.start();
+        }
+      }
+
+      nioWorkerPool.shutdown();
+      throw ioe;
+    }
+
+    nioSelectorThreads = selectorThreads;
+    for (final LDAPListenerSelectorThread t : selectorThreads)
+    {
+      t.start();
+    }
+  }
+
+
+
+  /**
+   * Stops the NIO selector threads and the worker thread pool, if they are
+   * running.  Any connections that are still established will be closed.
+   */
+  private void stopNIOThreads()
+  {
+    final LDAPListenerSelectorThread[] selectorThreads = nioSelectorThreads;
+    if ((selectorThreads == null) || (! nioThreadsStopped.compareAndSet(false,
+         true)))
+    {
+      return;
+    }
+
+    for (final LDAPListenerSelectorThread t : selectorThreads)
+    {
+      if (t != null)
+      {
+        t.shutDown();
+      }
+    }
+
+    final ExecutorService workerPool = nioWorkerPool;
+    if (workerPool != null)
+    {
+      workerPool.shutdown();
     }
   }
 
@@ -473,6 +702,23 @@ public final class LDAPListener
 
 
 
+  /**
+   * Retrieves the thread pool that client connections should use to process
+   * requests concurrently with other requests on the same connection.
+   *
+   * @return  The thread pool that client connections should use to process
+   *          requests concurrently with other requests on the same connection,
+   *          or {@code null} if the listener is not configured to allow
+   *          concurrent requests on the same connection.
+   */
+  @Nullable()
+  ExecutorService getConcurrentRequestPool()
+  {
+    return concurrentRequestPool;
+  }
+
+
+
   /**
    * Retrieves the connection ID that should be used for the next connection
    * accepted by this listener.
@@ -496,5 +742,10 @@ public final class LDAPListener
   void connectionClosed(@NotNull final LDAPListenerClientConnection connection)
   {
     establishedConnections.remove(connection.getConnectionID());
+
+    if ((serverSocket.get() == null) && establishedConnections.isEmpty())
+    {
+      stopNIOThreads();
+    }
   }
 }
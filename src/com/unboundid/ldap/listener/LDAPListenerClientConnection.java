@@ -41,9 +41,12 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -75,6 +78,7 @@ import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.ObjectPair;
+import com.unboundid.util.SocketChannelOutputStream;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
@@ -90,7 +94,15 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  * be created independently if they were accepted in some other way.  Each
  * connection has its own thread that will be used to read requests from the
  * client, and connections created outside of an {@code LDAPListener} instance,
- * then the thread must be explicitly started.
+ * then the thread must be explicitly started.  The exception to this is a
+ * connection accepted by a listener that has been configured to use NIO
+ * selector threads (as per {@link LDAPListenerConfig#getNIOSelectorThreads}),
+ * in which case requests will be read by one of the listener's selector threads
+ * and processed by one of its worker threads, and the connection's own thread
+ * will never be started.  In either case, if the listener has been configured
+ * to allow multiple concurrent requests per connection (as per
+ * {@link LDAPListenerConfig#getMaxConcurrentRequestsPerConnection}), then some
+ * requests may be handed off to other threads for processing.
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class LDAPListenerClientConnection
@@ -107,8 +119,9 @@ public final class LDAPListenerClientConnection
   // The buffer used to hold responses to be sent to the client.
   @NotNull private final ASN1Buffer asn1Buffer;
 
-  // The ASN.1 stream reader used to read requests from the client.
-  @NotNull private volatile ASN1StreamReader asn1Reader;
+  // The ASN.1 stream reader used to read requests from the client.  This will
+  // be null for connections accepted by an NIO-based listener.
+  @Nullable private volatile ASN1StreamReader asn1Reader;
 
   // Indicates whether to suppress the next call to sendMessage to send a
   // response to the client.
@@ -135,6 +148,10 @@ public final class LDAPListenerClientConnection
   // The request handler to use for this connection.
   @NotNull private final LDAPListenerRequestHandler requestHandler;
 
+  // The pipeline used to process multiple requests from this connection
+  // concurrently, if the listener is configured to allow that.
+  @Nullable private final LDAPListenerRequestPipeline requestPipeline;
+
   // The connection ID assigned to this connection.
   private final long connectionID;
 
@@ -144,6 +161,10 @@ public final class LDAPListenerClientConnection
   // The socket used to communicate with the client.
   @NotNull private volatile Socket socket;
 
+  // The socket channel used to communicate with the client, if this connection
+  // was accepted by an NIO-based listener.
+  @Nullable private final SocketChannel channel;
+
 
 
   /**
@@ -176,6 +197,81 @@ public final class LDAPListenerClientConnection
               @NotNull final LDAPListenerRequestHandler requestHandler,
               @Nullable final LDAPListenerExceptionHandler exceptionHandler)
          throws LDAPException
+  {
+    this(listener, socket, null, requestHandler, exceptionHandler);
+  }
+
+
+
+  /**
+   * Creates a new LDAP listener client connection that will communicate with
+   * the client using the provided socket channel.  Requests will be read from
+   * the channel by an NIO selector thread rather than by this thread, and the
+   * {@link #start} method should not be called.
+   *
+   * @param  listener          The listener that accepted this client
+   *                           connection.  It must not be {@code null}.
+   * @param  channel           The socket channel that may be used to
+   *                           communicate with the client.  It must not be
+   *                           {@code null}.  It will be configured in
+   *                           non-blocking mode.
+   * @param  requestHandler    The request handler that will be used to process
+   *                           requests read from the client.  The
+   *                           {@link LDAPListenerRequestHandler#newInstance}
+   *                           method will be called on the provided object to
+   *                           obtain a new instance to use for this connection.
+   *                           The provided request handler must not be
+   *                           {@code null}.
+   * @param  exceptionHandler  The disconnect handler to be notified when this
+   *                           connection is closed.  It may be {@code null} if
+   *                           no disconnect handler should be used.
+   *
+   * @throws  LDAPException  If a problem occurs while preparing this client
+   *                         connection for use.  If this is thrown, then the
+   *                         provided channel will be closed.
+   */
+  LDAPListenerClientConnection(@NotNull final LDAPListener listener,
+       @NotNull final SocketChannel channel,
+       @NotNull final LDAPListenerRequestHandler requestHandler,
+       @Nullable final LDAPListenerExceptionHandler exceptionHandler)
+       throws LDAPException
+  {
+    this(listener, channel.socket(), channel, requestHandler,
+         exceptionHandler);
+  }
+
+
+
+  /**
+   * Creates a new LDAP listener client connection with the provided
+   * information.
+   *
+   * @param  listener          The listener that accepted this client
+   *                           connection.  It may be {@code null} if this
+   *                           connection was not accepted by a listener.
+   * @param  socket            The socket that may be used to communicate with
+   *                           the client.  It must not be {@code null}.
+   * @param  channel           The socket channel from which the provided socket
+   *                           was obtained.  It may be {@code null} if the
+   *                           connection was not accepted by an NIO-based
+   *                           listener.
+   * @param  requestHandler    The request handler that will be used to process
+   *                           requests read from the client.  It must not be
+   *                           {@code null}.
+   * @param  exceptionHandler  The disconnect handler to be notified when this
+   *                           connection is closed.  It may be {@code null} if
+   *                           no disconnect handler should be used.
+   *
+   * @throws  LDAPException  If a problem occurs while preparing this client
+   *                         connection for use.  If this is thrown, then the
+   *                         provided socket will be closed.
+   */
+  private LDAPListenerClientConnection(@Nullable final LDAPListener listener,
+               @NotNull final Socket socket,
+               @Nullable final SocketChannel channel,
+               @NotNull final LDAPListenerRequestHandler requestHandler,
+               @Nullable final LDAPListenerExceptionHandler exceptionHandler)
+          throws LDAPException
   {
     Validator.ensureNotNull(socket, requestHandler);
 
@@ -186,6 +282,7 @@ public final class LDAPListenerClientConnection
 
     this.listener         = listener;
     this.socket           = socket;
+    this.channel          = channel;
     this.exceptionHandler = exceptionHandler;
 
     asn1Buffer           = new ASN1Buffer();
@@ -204,16 +301,37 @@ public final class LDAPListenerClientConnection
       connectionID = listener.nextConnectionID();
     }
 
+    final LDAPListenerConfig config;
+    if (listener == null)
+    {
+      config = new LDAPListenerConfig(0, requestHandler);
+    }
+    else
+    {
+      config = listener.getConfig();
+    }
+
     try
     {
-      final LDAPListenerConfig config;
+      final ExecutorService concurrentRequestPool;
       if (listener == null)
       {
-        config = new LDAPListenerConfig(0, requestHandler);
+        concurrentRequestPool = null;
+      }
+      else
+      {
+        concurrentRequestPool = listener.getConcurrentRequestPool();
+      }
+
+      if (concurrentRequestPool == null)
+      {
+        requestPipeline = null;
       }
       else
       {
-        config = listener.getConfig();
+        requestPipeline = new LDAPListenerRequestPipeline(this,
+             concurrentRequestPool,
+             config.getMaxConcurrentRequestsPerConnection());
       }
 
       socket.setKeepAlive(config.useKeepAlive());
@@ -247,7 +365,15 @@ public final class LDAPListenerClientConnection
         }
       }
 
-      asn1Reader = new ASN1StreamReader(socket.getInputStream());
+      if (channel == null)
+      {
+        asn1Reader = new ASN1StreamReader(socket.getInputStream());
+      }
+      else
+      {
+        channel.configureBlocking(false);
+        asn1Reader = null;
+      }
     }
     catch (final IOException ioe)
     {
@@ -270,20 +396,21 @@ public final class LDAPListenerClientConnection
 
     try
     {
-      outputStream = socket.getOutputStream();
+      if (channel == null)
+      {
+        outputStream = socket.getOutputStream();
+      }
+      else
+      {
+        outputStream = new SocketChannelOutputStream(channel,
+             config.getNIOWriteTimeoutMillis());
+      }
     }
     catch (final IOException ioe)
     {
       Debug.debugException(ioe);
 
-      try
-      {
-        asn1Reader.close();
-      }
-      catch (final Exception e)
-      {
-        Debug.debugException(e);
-      }
+      closeReader();
 
       try
       {
@@ -308,14 +435,7 @@ public final class LDAPListenerClientConnection
     {
       Debug.debugException(le);
 
-      try
-      {
-        asn1Reader.close();
-      }
-      catch (final Exception e)
-      {
-        Debug.debugException(e);
-      }
+      closeReader();
 
       try
       {
@@ -359,25 +479,56 @@ public final class LDAPListenerClientConnection
       Debug.debugException(e);
     }
 
+    closeReader();
+
     try
     {
-      asn1Reader.close();
+      outputStream.close();
     }
     catch (final Exception e)
     {
       Debug.debugException(e);
     }
 
-    try
+    if (channel == null)
     {
-      outputStream.close();
+      socket.close();
     }
-    catch (final Exception e)
+    else
     {
-      Debug.debugException(e);
+      try
+      {
+        channel.close();
+      }
+      finally
+      {
+        // There is no dedicated reader thread to notify the listener when an
+        // NIO-based connection is closed, so do it here.
+        listener.connectionClosed(this);
+      }
     }
+  }
+
+
 
-    socket.close();
+  /**
+   * Closes the ASN.1 stream reader used to read requests from the client, if
+   * there is one.
+   */
+  private void closeReader()
+  {
+    final ASN1StreamReader reader = asn1Reader;
+    if (reader != null)
+    {
+      try
+      {
+        reader.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
   }
 
 
@@ -438,6 +589,13 @@ public final class LDAPListenerClientConnection
   @Override()
   public void run()
   {
+    if (channel != null)
+    {
+      // Requests for connections accepted by an NIO-based listener are read by
+      // a selector thread rather than by this thread.
+      return;
+    }
+
     try
     {
       while (true)
@@ -471,210 +629,262 @@ public final class LDAPListenerClientConnection
           return;
         }
 
-        try
+        if (! dispatchRequest(requestMessage))
         {
-          final int messageID = requestMessage.getMessageID();
-          final List<Control> controls = requestMessage.getControls();
+          return;
+        }
+      }
+    }
+    finally
+    {
+      if (listener != null)
+      {
+        listener.connectionClosed(this);
+      }
+    }
+  }
+
+
+
+  /**
+   * Arranges for the provided request to be processed.  If the listener is
+   * configured to allow multiple requests from the same connection to be
+   * processed concurrently, then the request may be handed off to another
+   * thread.  Otherwise, it will be processed by the current thread before this
+   * method returns.
+   *
+   * @param  requestMessage  The request message to be processed.  It must not
+   *                         be {@code null}.
+   *
+   * @return  {@code true} if the connection remains established and additional
+   *          requests may be read from the client, or {@code false} if the
+   *          connection has been closed.
+   */
+  boolean dispatchRequest(@NotNull final LDAPMessage requestMessage)
+  {
+    if (requestPipeline == null)
+    {
+      return processRequest(requestMessage);
+    }
+    else
+    {
+      return requestPipeline.processRequest(requestMessage);
+    }
+  }
+
+
+
+  /**
+   * Hands the provided request off to the request handler for processing and
+   * sends the resulting response (if any) to the client.
+   *
+   * @param  requestMessage  The request message to be processed.  It must not
+   *                         be {@code null}.
+   *
+   * @return  {@code true} if the connection remains established and additional
+   *          requests may be read from the client, or {@code false} if the
+   *          connection has been closed.
+   */
+  boolean processRequest(@NotNull final LDAPMessage requestMessage)
+  {
+    try
+    {
+      final int messageID = requestMessage.getMessageID();
+      final List<Control> controls = requestMessage.getControls();
 
-          LDAPMessage responseMessage;
-          switch (requestMessage.getProtocolOpType())
+      LDAPMessage responseMessage;
+      switch (requestMessage.getProtocolOpType())
+      {
+        case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
+          requestHandler.processAbandonRequest(messageID,
+               requestMessage.getAbandonRequestProtocolOp(), controls);
+          responseMessage = null;
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST:
+          try
           {
-            case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
-              requestHandler.processAbandonRequest(messageID,
-                   requestMessage.getAbandonRequestProtocolOp(), controls);
-              responseMessage = null;
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processAddRequest(messageID,
-                     requestMessage.getAddRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new AddResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processBindRequest(messageID,
-                     requestMessage.getBindRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new BindResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null, null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_COMPARE_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processCompareRequest(
-                     messageID, requestMessage.getCompareRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new CompareResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processDeleteRequest(messageID,
-                     requestMessage.getDeleteRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new DeleteResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_EXTENDED_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processExtendedRequest(
-                     messageID, requestMessage.getExtendedRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ExtendedResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null, null, null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processModifyRequest(messageID,
-                     requestMessage.getModifyRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ModifyResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processModifyDNRequest(
-                     messageID, requestMessage.getModifyDNRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ModifyDNResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processSearchRequest(messageID,
-                     requestMessage.getSearchRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new SearchResultDoneProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST:
-              requestHandler.processUnbindRequest(messageID,
-                   requestMessage.getUnbindRequestProtocolOp(), controls);
-              close();
-              return;
+            responseMessage = requestHandler.processAddRequest(messageID,
+                 requestMessage.getAddRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new AddResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
 
-            default:
-              close(new LDAPException(ResultCode.PROTOCOL_ERROR,
-                   ERR_CONN_INVALID_PROTOCOL_OP_TYPE.get(StaticUtils.toHex(
-                        requestMessage.getProtocolOpType()))));
-              return;
+        case LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processBindRequest(messageID,
+                 requestMessage.getBindRequestProtocolOp(), controls);
           }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new BindResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null, null));
+          }
+          break;
 
-          if (responseMessage != null)
+        case LDAPMessage.PROTOCOL_OP_TYPE_COMPARE_REQUEST:
+          try
           {
-            try
-            {
-              sendMessage(responseMessage);
-            }
-            catch (final LDAPException le)
-            {
-              Debug.debugException(le);
-              close(le);
-              return;
-            }
+            responseMessage = requestHandler.processCompareRequest(
+                 messageID, requestMessage.getCompareRequestProtocolOp(),
+                 controls);
           }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new CompareResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processDeleteRequest(messageID,
+                 requestMessage.getDeleteRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new DeleteResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_EXTENDED_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processExtendedRequest(
+                 messageID, requestMessage.getExtendedRequestProtocolOp(),
+                 controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ExtendedResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null, null, null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processModifyRequest(messageID,
+                 requestMessage.getModifyRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ModifyResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processModifyDNRequest(
+                 messageID, requestMessage.getModifyDNRequestProtocolOp(),
+                 controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ModifyDNResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processSearchRequest(messageID,
+                 requestMessage.getSearchRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new SearchResultDoneProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST:
+          requestHandler.processUnbindRequest(messageID,
+               requestMessage.getUnbindRequestProtocolOp(), controls);
+          close();
+          return false;
+
+        default:
+          close(new LDAPException(ResultCode.PROTOCOL_ERROR,
+               ERR_CONN_INVALID_PROTOCOL_OP_TYPE.get(StaticUtils.toHex(
+                    requestMessage.getProtocolOpType()))));
+          return false;
+      }
+
+      if (responseMessage != null)
+      {
+        try
+        {
+          sendMessage(responseMessage);
         }
-        catch (final Throwable t)
+        catch (final LDAPException le)
         {
-          close(new LDAPException(ResultCode.LOCAL_ERROR,
-               ERR_CONN_EXCEPTION_IN_REQUEST_HANDLER.get(
-                    String.valueOf(requestMessage),
-                    StaticUtils.getExceptionMessage(t))));
-          StaticUtils.throwErrorOrRuntimeException(t);
+          Debug.debugException(le);
+          close(le);
+          return false;
         }
       }
+
+      return true;
     }
-    finally
+    catch (final Throwable t)
     {
-      if (listener != null)
-      {
-        listener.connectionClosed(this);
-      }
+      close(new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_CONN_EXCEPTION_IN_REQUEST_HANDLER.get(
+                String.valueOf(requestMessage),
+                StaticUtils.getExceptionMessage(t))));
+      StaticUtils.throwErrorOrRuntimeException(t);
+      return false;
     }
   }
 
@@ -719,6 +929,21 @@ public final class LDAPListenerClientConnection
     {
       Debug.debugException(ioe);
 
+      if (ioe instanceof SocketTimeoutException)
+      {
+        // The client is not reading its responses, and part of the message may
+        // already have been written, so the connection can't be used anymore.
+        // Close it so that the worker thread will not be blocked by it again.
+        try
+        {
+          close();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+
       throw new LDAPException(ResultCode.LOCAL_ERROR,
            ERR_CONN_SEND_MESSAGE_EXCEPTION.get(
                 StaticUtils.getExceptionMessage(ioe)),
@@ -1116,6 +1341,15 @@ public final class LDAPListenerClientConnection
               final boolean requireClientCertificate)
          throws LDAPException
   {
+    if (channel != null)
+    {
+      final LDAPException le =
+           new LDAPException(ResultCode.UNWILLING_TO_PERFORM,
+                ERR_CONN_CONVERT_TO_TLS_NOT_SUPPORTED_FOR_NIO.get());
+      close(le);
+      throw le;
+    }
+
     final OutputStream clearOutputStream = outputStream;
 
     final Socket origSocket = socket;
@@ -85,6 +85,10 @@ public final class LDAPListenerConfig
   // listener.
   private boolean useTCPNoDelay;
 
+  // Indicates whether to use virtual threads (if available) rather than
+  // platform threads for reading requests from client connections.
+  private boolean useVirtualThreads;
+
   // The address on which to listen for client connections.
   @Nullable private InetAddress listenAddress;
 
@@ -97,6 +101,21 @@ public final class LDAPListenerConfig
   // The maximum number of concurrent connections that will be allowed.
   private int maxConnections;
 
+  // The maximum number of requests from a single connection that may be
+  // processed concurrently.
+  private int maxConcurrentRequestsPerConnection;
+
+  // The number of NIO selector threads to use to read requests from clients.
+  private int nioSelectorThreads;
+
+  // The number of worker threads to use to process requests read by the NIO
+  // selector threads.
+  private int nioWorkerThreads;
+
+  // The maximum length of time in milliseconds that a worker thread will wait
+  // for an NIO client connection to accept response data.
+  private long nioWriteTimeoutMillis;
+
   // The receive buffer size to use for sockets accepted by the listener.
   private int receiveBufferSize;
 
@@ -141,9 +160,14 @@ public final class LDAPListenerConfig
     useLinger                = true;
     useReuseAddress          = true;
     useTCPNoDelay            = true;
+    useVirtualThreads        = false;
     lingerTimeout            = 5;
     listenAddress            = null;
     maxConnections           = 0;
+    maxConcurrentRequestsPerConnection = 1;
+    nioSelectorThreads       = 0;
+    nioWorkerThreads         = 0;
+    nioWriteTimeoutMillis    = 60_000L;
     receiveBufferSize        = 0;
     sendBufferSize           = 0;
     exceptionHandler         = null;
@@ -430,6 +454,267 @@ public final class LDAPListenerConfig
 
 
 
+  /**
+   * Retrieves the maximum number of requests from a single client connection
+   * that the listener may process concurrently.  If this is greater than one,
+   * then add, compare, delete, modify, modify DN, and search requests read from
+   * a connection may be handed off to other threads so that the listener can
+   * continue reading requests from that connection while they are processed,
+   * as long as no more than this many requests are in progress at any time.
+   * Responses to those requests may be returned in a different order than the
+   * requests were received.
+   * <BR><BR>
+   * Bind, extended, and unbind requests (and any request that is part of a
+   * transaction) will only be processed after all previously received requests
+   * have completed, and no subsequent request will be read until they have
+   * completed.  Abandon requests will be processed as soon as they are read.
+   * <BR><BR>
+   * Note that if this is greater than one, then the request handler instance
+   * associated with each connection must be able to process multiple requests
+   * at the same time.
+   *
+   * @return  The maximum number of requests from a single client connection
+   *          that the listener may process concurrently, or one if requests
+   *          from each connection should be processed one at a time.
+   */
+  public int getMaxConcurrentRequestsPerConnection()
+  {
+    return maxConcurrentRequestsPerConnection;
+  }
+
+
+
+  /**
+   * Specifies the maximum number of requests from a single client connection
+   * that the listener may process concurrently.  If this is greater than one,
+   * then add, compare, delete, modify, modify DN, and search requests read from
+   * a connection may be handed off to other threads so that the listener can
+   * continue reading requests from that connection while they are processed,
+   * as long as no more than this many requests are in progress at any time.
+   * Responses to those requests may be returned in a different order than the
+   * requests were received.
+   * <BR><BR>
+   * Bind, extended, and unbind requests (and any request that is part of a
+   * transaction) will only be processed after all previously received requests
+   * have completed, and no subsequent request will be read until they have
+   * completed.  Abandon requests will be processed as soon as they are read.
+   * <BR><BR>
+   * Note that if this is greater than one, then the request handler instance
+   * associated with each connection must be able to process multiple requests
+   * at the same time.
+   *
+   * @param  maxConcurrentRequestsPerConnection
+   *              The maximum number of requests from a single client
+   *              connection that the listener may process concurrently.  A
+   *              value that is less than or equal to one indicates that
+   *              requests from each connection should be processed one at a
+   *              time.
+   */
+  public void setMaxConcurrentRequestsPerConnection(
+                   final int maxConcurrentRequestsPerConnection)
+  {
+    if (maxConcurrentRequestsPerConnection > 1)
+    {
+      this.maxConcurrentRequestsPerConnection =
+           maxConcurrentRequestsPerConnection;
+    }
+    else
+    {
+      this.maxConcurrentRequestsPerConnection = 1;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of NIO selector threads that the listener should use
+   * to read requests from clients.  If this is greater than zero, then rather
+   * than creating a dedicated thread for each client connection, the listener
+   * will multiplex all of its connections across the specified number of
+   * selector threads, and requests read from those connections will be handed
+   * off to a bounded pool of worker threads (as configured by the
+   * {@link #getNIOWorkerThreads} method) for processing.  This can
+   * dramatically reduce the number of threads needed for a listener with a
+   * large number of mostly-idle connections.
+   * <BR><BR>
+   * Note that when NIO mode is enabled, the listener must use the JVM-default
+   * server socket factory, and it is not possible to use the StartTLS extended
+   * operation to secure communication on an established connection.
+   *
+   * @return  The number of NIO selector threads that the listener should use
+   *          to read requests from clients, or zero if the listener should use
+   *          a dedicated thread for each client connection.
+   */
+  public int getNIOSelectorThreads()
+  {
+    return nioSelectorThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of NIO selector threads that the listener should use
+   * to read requests from clients.  If this is greater than zero, then rather
+   * than creating a dedicated thread for each client connection, the listener
+   * will multiplex all of its connections across the specified number of
+   * selector threads, and requests read from those connections will be handed
+   * off to a bounded pool of worker threads (as configured by the
+   * {@link #setNIOWorkerThreads} method) for processing.
+   * <BR><BR>
+   * Note that when NIO mode is enabled, the listener must use the JVM-default
+   * server socket factory, and it is not possible to use the StartTLS extended
+   * operation to secure communication on an established connection.
+   *
+   * @param  nioSelectorThreads  The number of NIO selector threads that the
+   *                             listener should use to read requests from
+   *                             clients.  A value that is less than or equal
+   *                             to zero indicates that the listener should use
+   *                             a dedicated thread for each client connection.
+   */
+  public void setNIOSelectorThreads(final int nioSelectorThreads)
+  {
+    if (nioSelectorThreads > 0)
+    {
+      this.nioSelectorThreads = nioSelectorThreads;
+    }
+    else
+    {
+      this.nioSelectorThreads = 0;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of worker threads that the listener should use to
+   * process requests read by its NIO selector threads.  Requests read from any
+   * single connection will always be processed in the order that they were
+   * received, but requests from different connections may be processed
+   * concurrently by different worker threads.  This will be ignored if the
+   * listener is not configured to use NIO selector threads.
+   *
+   * @return  The number of worker threads that the listener should use to
+   *          process requests read by its NIO selector threads, or zero if the
+   *          listener should use twice the number of CPUs available to the
+   *          JVM, with a minimum of four.
+   */
+  public int getNIOWorkerThreads()
+  {
+    return nioWorkerThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of worker threads that the listener should use to
+   * process requests read by its NIO selector threads.  Requests read from any
+   * single connection will always be processed in the order that they were
+   * received, but requests from different connections may be processed
+   * concurrently by different worker threads.  This will be ignored if the
+   * listener is not configured to use NIO selector threads.
+   *
+   * @param  nioWorkerThreads  The number of worker threads that the listener
+   *                           should use to process requests read by its NIO
+   *                           selector threads.  A value that is less than or
+   *                           equal to zero indicates that the listener should
+   *                           use twice the number of CPUs available to the
+   *                           JVM, with a minimum of four.
+   */
+  public void setNIOWorkerThreads(final int nioWorkerThreads)
+  {
+    if (nioWorkerThreads > 0)
+    {
+      this.nioWorkerThreads = nioWorkerThreads;
+    }
+    else
+    {
+      this.nioWorkerThreads = 0;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds that a worker thread
+   * should wait for a client connection to accept response data when the
+   * listener is configured to use NIO selector threads.  Because worker
+   * threads are shared by all connections, a client that stops reading its
+   * responses could otherwise hold a worker thread indefinitely.  If a client
+   * does not accept any data within this length of time, then the connection
+   * will be closed.  This will be ignored if the listener is not configured to
+   * use NIO selector threads.
+   *
+   * @return  The maximum length of time in milliseconds that a worker thread
+   *          should wait for a client connection to accept response data, or
+   *          zero if there should be no limit.
+   */
+  public long getNIOWriteTimeoutMillis()
+  {
+    return nioWriteTimeoutMillis;
+  }
+
+
+
+  /**
+   * Specifies the maximum length of time in milliseconds that a worker thread
+   * should wait for a client connection to accept response data when the
+   * listener is configured to use NIO selector threads.  If a client does not
+   * accept any data within this length of time, then the connection will be
+   * closed.  This will be ignored if the listener is not configured to use NIO
+   * selector threads.
+   *
+   * @param  nioWriteTimeoutMillis  The maximum length of time in milliseconds
+   *                                that a worker thread should wait for a
+   *                                client connection to accept response data.
+   *                                A value that is less than or equal to zero
+   *                                indicates that there should be no limit,
+   *                                which is not recommended.  The default is
+   *                                60000 milliseconds.
+   */
+  public void setNIOWriteTimeoutMillis(final long nioWriteTimeoutMillis)
+  {
+    this.nioWriteTimeoutMillis = Math.max(0L, nioWriteTimeoutMillis);
+  }
+
+
+
+  /**
+   * Indicates whether the listener should attempt to use a virtual thread
+   * rather than a platform thread to read and process requests from each
+   * client connection.  Virtual threads are only available in Java 21 and
+   * later, and if they are not supported by the JVM, then platform threads
+   * will be used instead.  This will be ignored if the listener is configured
+   * to use NIO selector threads.
+   *
+   * @return  {@code true} if the listener should attempt to use virtual
+   *          threads for client connections, or {@code false} if it should
+   *          always use platform threads.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether the listener should attempt to use a virtual thread
+   * rather than a platform thread to read and process requests from each
+   * client connection.  Virtual threads are only available in Java 21 and
+   * later, and if they are not supported by the JVM, then platform threads
+   * will be used instead.  This will be ignored if the listener is configured
+   * to use NIO selector threads.
+   *
+   * @param  useVirtualThreads  Indicates whether the listener should attempt
+   *                            to use virtual threads for client connections.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
   /**
    * Retrieves the receive buffer size that should be used for sockets accepted
    * by the listener.
@@ -667,9 +952,15 @@ public final class LDAPListenerConfig
     copy.useLinger                = useLinger;
     copy.useReuseAddress          = useReuseAddress;
     copy.useTCPNoDelay            = useTCPNoDelay;
+    copy.useVirtualThreads        = useVirtualThreads;
     copy.listenAddress            = listenAddress;
     copy.lingerTimeout            = lingerTimeout;
     copy.maxConnections           = maxConnections;
+    copy.maxConcurrentRequestsPerConnection =
+         maxConcurrentRequestsPerConnection;
+    copy.nioSelectorThreads       = nioSelectorThreads;
+    copy.nioWorkerThreads         = nioWorkerThreads;
+    copy.nioWriteTimeoutMillis    = nioWriteTimeoutMillis;
     copy.receiveBufferSize        = receiveBufferSize;
     copy.sendBufferSize           = sendBufferSize;
     copy.exceptionHandler         = exceptionHandler;
@@ -749,6 +1040,22 @@ public final class LDAPListenerConfig
 
     buffer.append(", maxConnections=");
     buffer.append(maxConnections);
+    buffer.append(", maxConcurrentRequestsPerConnection=");
+    buffer.append(maxConcurrentRequestsPerConnection);
+
+    if (nioSelectorThreads > 0)
+    {
+      buffer.append(", nioSelectorThreads=");
+      buffer.append(nioSelectorThreads);
+      buffer.append(", nioWorkerThreads=");
+      buffer.append(nioWorkerThreads);
+      buffer.append(", nioWriteTimeoutMillis=");
+      buffer.append(nioWriteTimeoutMillis);
+    }
+
+    buffer.append(", useVirtualThreads=");
+    buffer.append(useVirtualThreads);
+
     buffer.append(", useReuseAddress=");
     buffer.append(useReuseAddress);
     buffer.append(", receiveBufferSize=");
@@ -0,0 +1,501 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.asn1.ASN1ElementFramer;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides the glue between a client connection accepted by an
+ * NIO-based {@link LDAPListener}, the selector thread that reads requests from
+ * that connection, and the worker thread pool used to process those requests.
+ * Data read by the selector thread is buffered until a complete LDAP message is
+ * available, at which point it is decoded and queued for processing.  Queued
+ * requests are processed in the order they were received by at most one worker
+ * thread at a time, so that the request handler sees the same sequence of
+ * calls that it would for a connection with a dedicated reader thread (which
+ * may include handing some requests off for concurrent processing if the
+ * listener allows multiple concurrent requests per connection).
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPListenerNIOConnectionHandler
+      implements Runnable
+{
+  /**
+   * The maximum number of decoded requests that may be queued for a single
+   * connection before the selector thread stops reading from it.
+   */
+  static final int MAX_QUEUED_REQUESTS = 16;
+
+
+
+  // Indicates whether this handler is currently scheduled for execution (or
+  // executing) in the worker thread pool.
+  @NotNull private final AtomicBoolean scheduled;
+
+  // Indicates whether the selector thread has stopped reading from the channel
+  // because too many requests are queued.
+  @NotNull private final AtomicBoolean readsSuspended;
+
+  // The number of requests currently held in the queue.
+  @NotNull private final AtomicInteger numQueuedRequests;
+
+  // The framer used to buffer data read from the client that does not yet
+  // comprise a complete LDAP message.  This will only be accessed by the
+  // selector thread.
+  @NotNull private final ASN1ElementFramer framer;
+
+  // The queue of requests that have been read but not yet processed.
+  @NotNull private final ConcurrentLinkedQueue<LDAPMessage> requestQueue;
+
+  // The executor service that will be used to process requests.
+  @NotNull private final ExecutorService workerPool;
+
+  // The client connection with which this handler is associated.
+  @NotNull private final LDAPListenerClientConnection connection;
+
+  // The selector thread that reads requests for this connection.
+  @NotNull private final LDAPListenerSelectorThread selectorThread;
+
+  // An exception that indicates the connection should be terminated after all
+  // queued requests have been processed.
+  @Nullable private volatile LDAPException terminationException;
+
+  // Indicates whether the client has closed its side of the connection.
+  private volatile boolean endOfInput;
+
+  // The selection key for the channel, once it has been registered.  This will
+  // only be accessed by the selector thread.
+  @Nullable private SelectionKey selectionKey;
+
+  // The socket channel used to communicate with the client.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new NIO connection handler with the provided information.
+   *
+   * @param  connection      The client connection with which this handler is
+   *                         associated.  It must not be {@code null}.
+   * @param  channel         The socket channel used to communicate with the
+   *                         client.  It must not be {@code null}.
+   * @param  selectorThread  The selector thread that will read requests for
+   *                         this connection.  It must not be {@code null}.
+   * @param  workerPool      The executor service that will be used to process
+   *                         requests.  It must not be {@code null}.
+   */
+  LDAPListenerNIOConnectionHandler(
+       @NotNull final LDAPListenerClientConnection connection,
+       @NotNull final SocketChannel channel,
+       @NotNull final LDAPListenerSelectorThread selectorThread,
+       @NotNull final ExecutorService workerPool)
+  {
+    this.connection     = connection;
+    this.channel        = channel;
+    this.selectorThread = selectorThread;
+    this.workerPool     = workerPool;
+
+    scheduled            = new AtomicBoolean(false);
+    readsSuspended       = new AtomicBoolean(false);
+    numQueuedRequests    = new AtomicInteger(0);
+    requestQueue         = new ConcurrentLinkedQueue<>();
+    framer               = new ASN1ElementFramer(0);
+    terminationException = null;
+    endOfInput           = false;
+    selectionKey         = null;
+  }
+
+
+
+  /**
+   * Retrieves the client connection with which this handler is associated.
+   *
+   * @return  The client connection with which this handler is associated.
+   */
+  @NotNull()
+  LDAPListenerClientConnection getClientConnection()
+  {
+    return connection;
+  }
+
+
+
+  /**
+   * Retrieves the socket channel used to communicate with the client.
+   *
+   * @return  The socket channel used to communicate with the client.
+   */
+  @NotNull()
+  SocketChannel getChannel()
+  {
+    return channel;
+  }
+
+
+
+  /**
+   * Retrieves the selection key for the channel.  This must only be called by
+   * the selector thread.
+   *
+   * @return  The selection key for the channel, or {@code null} if it has not
+   *          yet been registered.
+   */
+  @Nullable()
+  SelectionKey getSelectionKey()
+  {
+    return selectionKey;
+  }
+
+
+
+  /**
+   * Specifies the selection key for the channel.  This must only be called by
+   * the selector thread.
+   *
+   * @param  selectionKey  The selection key for the channel.
+   */
+  void setSelectionKey(@NotNull final SelectionKey selectionKey)
+  {
+    this.selectionKey = selectionKey;
+  }
+
+
+
+  /**
+   * Reads any data that is available from the channel and queues any complete
+   * requests for processing.  This must only be called by the selector thread.
+   *
+   * @param  buffer  A buffer that may be used to hold data read from the
+   *                 channel.  Its contents will not be preserved across calls.
+   */
+  void readAvailableData(@NotNull final ByteBuffer buffer)
+  {
+    final int bytesRead;
+    try
+    {
+      buffer.clear();
+      bytesRead = channel.read(buffer);
+    }
+    catch (final IOException ioe)
+    {
+      Debug.debugException(ioe);
+      stopReading(new LDAPException(ResultCode.SERVER_DOWN,
+           ERR_CONN_NIO_READ_FAILURE.get(StaticUtils.getExceptionMessage(ioe)),
+           ioe));
+      return;
+    }
+
+    if (bytesRead < 0)
+    {
+      // The client has closed the connection.  If there are no partial
+      // messages, then this isn't an error, and the connection will be closed
+      // once all queued requests have been processed.
+      if (framer.getBufferedLength() > 0)
+      {
+        stopReading(new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_CONN_NIO_PARTIAL_MESSAGE_AT_END_OF_INPUT.get(
+                  framer.getBufferedLength())));
+      }
+      else
+      {
+        endOfInput = true;
+        stopReading(null);
+      }
+      return;
+    }
+    else if (bytesRead == 0)
+    {
+      return;
+    }
+
+    buffer.flip();
+    final ByteBuffer data;
+    if (framer.getBufferedLength() == 0)
+    {
+      data = buffer;
+    }
+    else
+    {
+      framer.append(buffer);
+      data = framer.getBufferedData();
+    }
+
+    boolean requestQueued = false;
+    while (true)
+    {
+      final ByteBuffer element;
+      try
+      {
+        element = framer.nextElement(data);
+      }
+      catch (final ASN1Exception ae)
+      {
+        Debug.debugException(ae);
+        stopReading(new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_CONN_NIO_INVALID_MESSAGE_LENGTH.get(ae.getMessage()), ae));
+        return;
+      }
+
+      if (element == null)
+      {
+        break;
+      }
+
+      final LDAPMessage message;
+      try
+      {
+        message = LDAPMessage.readFrom(new ASN1StreamReader(element), false);
+      }
+      catch (final LDAPException le)
+      {
+        // This indicates that the client sent a malformed request.
+        Debug.debugException(le);
+        stopReading(le);
+        return;
+      }
+
+      if (message != null)
+      {
+        requestQueue.add(message);
+        numQueuedRequests.incrementAndGet();
+        requestQueued = true;
+      }
+    }
+
+    if (data == buffer)
+    {
+      framer.append(buffer);
+    }
+    else
+    {
+      framer.compact(data.position());
+    }
+
+    if (requestQueued)
+    {
+      if ((numQueuedRequests.get() >= MAX_QUEUED_REQUESTS) &&
+          readsSuspended.compareAndSet(false, true))
+      {
+        selectionKey.interestOps(0);
+      }
+
+      schedule();
+    }
+  }
+
+
+
+  /**
+   * Indicates that the selector thread should stop reading from the channel,
+   * and schedules this handler so that the connection will be closed after any
+   * queued requests have been processed.  This must only be called by the
+   * selector thread.
+   *
+   * @param  le  An exception with information about the reason that the
+   *             connection should be terminated, or {@code null} if the
+   *             client closed the connection without an error.
+   */
+  void stopReading(@Nullable final LDAPException le)
+  {
+    if (le != null)
+    {
+      terminationException = le;
+    }
+
+    framer.clear();
+
+    if (selectionKey != null)
+    {
+      selectionKey.cancel();
+    }
+
+    schedule();
+  }
+
+
+
+  /**
+   * Re-enables reading from the channel after it was suspended because too
+   * many requests were queued.  This must only be called by the selector
+   * thread.
+   */
+  void resumeReading()
+  {
+    if ((selectionKey != null) && selectionKey.isValid())
+    {
+      selectionKey.interestOps(SelectionKey.OP_READ);
+    }
+  }
+
+
+
+  /**
+   * Ensures that this handler is scheduled for execution in the worker thread
+   * pool, unless it is already scheduled or running.
+   */
+  private void schedule()
+  {
+    if (scheduled.compareAndSet(false, true))
+    {
+      try
+      {
+        workerPool.execute(this);
+      }
+      catch (final Exception e)
+      {
+        // This will happen if the worker pool has been shut down.
+        Debug.debugException(e);
+        requestQueue.clear();
+        closeConnection(null);
+      }
+    }
+  }
+
+
+
+  /**
+   * Processes all requests that are currently queued for the connection, in
+   * the order that they were received.  This is for use by worker threads only.
+   */
+  @Override()
+  public void run()
+  {
+    while (true)
+    {
+      LDAPMessage message = requestQueue.poll();
+      while (message != null)
+      {
+        if ((numQueuedRequests.decrementAndGet() < MAX_QUEUED_REQUESTS) &&
+            readsSuspended.compareAndSet(true, false))
+        {
+          selectorThread.resumeReading(this);
+        }
+
+        if (! connection.dispatchRequest(message))
+        {
+          // The connection has been closed, so there is no point in processing
+          // any more requests.  Leave this handler marked as scheduled so that
+          // it will not run again.
+          requestQueue.clear();
+          return;
+        }
+
+        message = requestQueue.poll();
+      }
+
+      final LDAPException le = terminationException;
+      if ((le != null) || endOfInput)
+      {
+        if (! requestQueue.isEmpty())
+        {
+          // The selector thread queued more requests before it stopped
+          // reading, so make sure that those get processed first.
+          continue;
+        }
+
+        closeConnection(le);
+        return;
+      }
+
+      scheduled.set(false);
+      if (requestQueue.isEmpty() && (terminationException == null) &&
+          (! endOfInput))
+      {
+        return;
+      }
+
+      if (! scheduled.compareAndSet(false, true))
+      {
+        // Another thread has already scheduled this handler.
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Closes the client connection.
+   *
+   * @param  le  An exception with information about the reason that the
+   *             connection is being closed, or {@code null} if it is not being
+   *             closed because of an error.
+   */
+  private void closeConnection(@Nullable final LDAPException le)
+  {
+    if (le == null)
+    {
+      try
+      {
+        connection.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+    else
+    {
+      connection.close(le);
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.controls.TransactionSpecificationRequestControl;
+import com.unboundid.ldap.sdk.unboundidds.controls.
+            BatchedTransactionSpecificationRequestControl;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class allows multiple requests read from the same client connection to
+ * be processed concurrently, with a limit on the number of requests that may
+ * be in progress at any given time.  Add, compare, delete, modify, modify DN,
+ * and search requests will be handed off to a thread pool so that the thread
+ * reading requests from the client can continue reading.  Any other type of
+ * request (as well as any request that is part of a transaction) will only be
+ * processed after all previously received requests have completed, and by the
+ * thread that read it, so that no subsequent request will be processed until
+ * it has completed.  The only exception is abandon requests, which will be
+ * processed immediately.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPListenerRequestPipeline
+{
+  // Indicates whether the connection has been closed while processing a
+  // request.
+  @NotNull private final AtomicBoolean connectionClosed;
+
+  // The thread pool that will be used to process requests concurrently.
+  @NotNull private final ExecutorService threadPool;
+
+  // The maximum number of requests that may be in progress at any time.
+  private final int maxConcurrentRequests;
+
+  // The client connection with which this pipeline is associated.
+  @NotNull private final LDAPListenerClientConnection connection;
+
+  // The semaphore used to limit the number of requests in progress.
+  @NotNull private final Semaphore permits;
+
+
+
+  /**
+   * Creates a new request pipeline with the provided information.
+   *
+   * @param  connection             The client connection with which this
+   *                                pipeline is associated.  It must not be
+   *                                {@code null}.
+   * @param  threadPool             The thread pool that will be used to
+   *                                process requests concurrently.  It must not
+   *                                be {@code null}.
+   * @param  maxConcurrentRequests  The maximum number of requests that may be
+   *                                in progress at any time.  It must be
+   *                                greater than one.
+   */
+  LDAPListenerRequestPipeline(
+       @NotNull final LDAPListenerClientConnection connection,
+       @NotNull final ExecutorService threadPool,
+       final int maxConcurrentRequests)
+  {
+    this.connection            = connection;
+    this.threadPool            = threadPool;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+
+    connectionClosed = new AtomicBoolean(false);
+    permits = new Semaphore(maxConcurrentRequests);
+  }
+
+
+
+  /**
+   * Processes the provided request, either in the current thread or by handing
+   * it off to the thread pool.  This method must only be called by one thread
+   * at a time, in the order that requests are read from the client.
+   *
+   * @param  requestMessage  The request message to be processed.  It must not
+   *                         be {@code null}.
+   *
+   * @return  {@code true} if the connection remains established and additional
+   *          requests may be read from the client, or {@code false} if the
+   *          connection has been closed.
+   */
+  boolean processRequest(@NotNull final LDAPMessage requestMessage)
+  {
+    if (connectionClosed.get())
+    {
+      return false;
+    }
+
+    switch (requestMessage.getProtocolOpType())
+    {
+      case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
+        return processInCurrentThread(requestMessage);
+
+      case LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST:
+      case LDAPMessage.PROTOCOL_OP_TYPE_COMPARE_REQUEST:
+      case LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST:
+      case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST:
+      case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST:
+      case LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST:
+        if (isPartOfTransaction(requestMessage))
+        {
+          // The order of the requests in a transaction determines the order in
+          // which they will be applied, so they must not be reordered.
+          awaitOutstandingRequests();
+          return processInCurrentThread(requestMessage);
+        }
+        else
+        {
+          return processInThreadPool(requestMessage);
+        }
+
+      default:
+        // Bind, extended, and unbind requests may change the state of the
+        // connection, so they must not be processed concurrently with any
+        // other request.
+        awaitOutstandingRequests();
+        return processInCurrentThread(requestMessage);
+    }
+  }
+
+
+
+  /**
+   * Processes the provided request in the current thread.
+   *
+   * @param  requestMessage  The request message to be processed.
+   *
+   * @return  {@code true} if the connection remains established and additional
+   *          requests may be read from the client, or {@code false} if the
+   *          connection has been closed.
+   */
+  private boolean processInCurrentThread(
+                       @NotNull final LDAPMessage requestMessage)
+  {
+    if (! connection.processRequest(requestMessage))
+    {
+      connectionClosed.set(true);
+      return false;
+    }
+
+    return (! connectionClosed.get());
+  }
+
+
+
+  /**
+   * Hands the provided request off to the thread pool for processing, waiting
+   * if necessary until the number of requests in progress drops below the
+   * configured maximum.  If the thread pool will not accept the request, then
+   * it will be processed in the current thread.
+   *
+   * @param  requestMessage  The request message to be processed.
+   *
+   * @return  {@code true} if the connection remains established and additional
+   *          requests may be read from the client, or {@code false} if the
+   *          connection has been closed.
+   */
+  private boolean processInThreadPool(@NotNull final LDAPMessage requestMessage)
+  {
+    try
+    {
+      permits.acquire();
+    }
+    catch (final InterruptedException e)
+    {
+      Debug.debugException(e);
+      Thread.currentThread().interrupt();
+      return processInCurrentThread(requestMessage);
+    }
+
+    try
+    {
+      threadPool.execute(new Runnable()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            if (! connection.processRequest(requestMessage))
+            {
+              connectionClosed.set(true);
+            }
+          }
+          finally
+          {
+            permits.release();
+          }
+        }
+      });
+    }
+    catch (final RejectedExecutionException e)
+    {
+      Debug.debugException(e);
+      permits.release();
+      return processInCurrentThread(requestMessage);
+    }
+
+    return (! connectionClosed.get());
+  }
+
+
+
+  /**
+   * Waits until all requests that have been handed off to the thread pool have
+   * completed.
+   */
+  private void awaitOutstandingRequests()
+  {
+    try
+    {
+      permits.acquire(maxConcurrentRequests);
+      permits.release(maxConcurrentRequests);
+    }
+    catch (final InterruptedException e)
+    {
+      Debug.debugException(e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided request is part of a transaction.
+   *
+   * @param  requestMessage  The request message to examine.
+   *
+   * @return  {@code true} if the provided request is part of a transaction, or
+   *          {@code false} if not.
+   */
+  private static boolean isPartOfTransaction(
+                              @NotNull final LDAPMessage requestMessage)
+  {
+    for (final Control c : requestMessage.getControls())
+    {
+      final String oid = c.getOID();
+      if (oid.equals(TransactionSpecificationRequestControl.
+                TRANSACTION_SPECIFICATION_REQUEST_OID) ||
+           oid.equals(BatchedTransactionSpecificationRequestControl.
+                BATCHED_TRANSACTION_SPECIFICATION_REQUEST_OID))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
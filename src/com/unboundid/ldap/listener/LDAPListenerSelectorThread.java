@@ -0,0 +1,279 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a thread that uses an NIO selector to read requests from
+ * any number of client connections accepted by an {@link LDAPListener} that
+ * has been configured to use NIO selector threads.  Complete requests will be
+ * handed off to a worker thread pool for processing.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPListenerSelectorThread
+      extends Thread
+{
+  /**
+   * The size in bytes of the buffer used to read data from client connections.
+   */
+  private static final int READ_BUFFER_SIZE = 65_536;
+
+
+
+  // Indicates whether a request has been received to stop running.
+  @NotNull private final AtomicBoolean stopRequested;
+
+  // The buffer that will be used to read data from client connections.
+  @NotNull private final ByteBuffer readBuffer;
+
+  // The handlers for connections that need to be registered with the selector.
+  @NotNull private final ConcurrentLinkedQueue<LDAPListenerNIOConnectionHandler>
+       pendingRegistrations;
+
+  // The handlers for connections for which reading should be resumed.
+  @NotNull private final ConcurrentLinkedQueue<LDAPListenerNIOConnectionHandler>
+       pendingResumes;
+
+  // The selector used to multiplex reads across client connections.
+  @NotNull private final Selector selector;
+
+
+
+  /**
+   * Creates a new selector thread with the provided name.  The thread will not
+   * be started.
+   *
+   * @param  name  The name to use for the thread.
+   *
+   * @throws  IOException  If a problem occurs while opening the selector.
+   */
+  LDAPListenerSelectorThread(@NotNull final String name)
+       throws IOException
+  {
+    setName(name);
+
+    selector = Selector.open();
+    stopRequested = new AtomicBoolean(false);
+    readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    pendingRegistrations = new ConcurrentLinkedQueue<>();
+    pendingResumes = new ConcurrentLinkedQueue<>();
+  }
+
+
+
+  /**
+   * Registers the provided connection handler with this selector thread so
+   * that requests will be read from its connection.
+   *
+   * @param  handler  The connection handler to be registered.
+   */
+  void register(@NotNull final LDAPListenerNIOConnectionHandler handler)
+  {
+    pendingRegistrations.add(handler);
+    selector.wakeup();
+
+    if (stopRequested.get() && pendingRegistrations.remove(handler))
+    {
+      closeConnection(handler);
+    }
+  }
+
+
+
+  /**
+   * Indicates that the selector thread should resume reading from the
+   * connection associated with the provided handler.
+   *
+   * @param  handler  The connection handler for which to resume reading.
+   */
+  void resumeReading(@NotNull final LDAPListenerNIOConnectionHandler handler)
+  {
+    pendingResumes.add(handler);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Operates in a loop, waiting for data to become available on any of the
+   * registered connections and reading it when it is.  This method is for
+   * internal use only and must not be called by third-party code.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void run()
+  {
+    try
+    {
+      while (! stopRequested.get())
+      {
+        try
+        {
+          selector.select();
+        }
+        catch (final IOException ioe)
+        {
+          Debug.debugException(ioe);
+          return;
+        }
+
+        LDAPListenerNIOConnectionHandler handler = pendingRegistrations.poll();
+        while (handler != null)
+        {
+          try
+          {
+            handler.setSelectionKey(handler.getChannel().register(selector,
+                 SelectionKey.OP_READ, handler));
+          }
+          catch (final Exception e)
+          {
+            // This will happen if the connection was closed before it could be
+            // registered.
+            Debug.debugException(e);
+            closeConnection(handler);
+          }
+
+          handler = pendingRegistrations.poll();
+        }
+
+        handler = pendingResumes.poll();
+        while (handler != null)
+        {
+          handler.resumeReading();
+          handler = pendingResumes.poll();
+        }
+
+        final Iterator<SelectionKey> iterator =
+             selector.selectedKeys().iterator();
+        while (iterator.hasNext())
+        {
+          final SelectionKey key = iterator.next();
+          iterator.remove();
+
+          if (key.isValid() && key.isReadable())
+          {
+            ((LDAPListenerNIOConnectionHandler) key.attachment()).
+                 readAvailableData(readBuffer);
+          }
+        }
+      }
+    }
+    finally
+    {
+      stopRequested.set(true);
+
+      final ArrayList<LDAPListenerNIOConnectionHandler> handlers =
+           new ArrayList<>(pendingRegistrations);
+      pendingRegistrations.clear();
+      try
+      {
+        for (final SelectionKey key : selector.keys())
+        {
+          handlers.add((LDAPListenerNIOConnectionHandler) key.attachment());
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      for (final LDAPListenerNIOConnectionHandler h : handlers)
+      {
+        closeConnection(h);
+      }
+
+      try
+      {
+        selector.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Indicates that this selector thread should stop running.  Any connections
+   * that are still registered with this thread will be closed.  This method
+   * will not wait for the thread to exit.
+   */
+  void shutDown()
+  {
+    stopRequested.set(true);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Closes the client connection associated with the provided handler.
+   *
+   * @param  handler  The handler for the connection to close.
+   */
+  private static void closeConnection(
+               @NotNull final LDAPListenerNIOConnectionHandler handler)
+  {
+    try
+    {
+      handler.getClientConnection().close();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+}
@@ -37,6 +37,7 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -498,6 +499,38 @@ public final class ReadOnlyInMemoryDirectoryServerConfig
 
 
 
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setUseIncrementalSnapshots(final boolean useIncrementalSnapshots)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setPersistenceDirectory(@Nullable final File persistenceDirectory)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
   /**
    * {@inheritDoc}  The returned list will not be modifiable.
    */
@@ -544,6 +577,144 @@ public final class ReadOnlyInMemoryDirectoryServerConfig
 
 
 
+  /**
+   * {@inheritDoc}  The returned list will not be modifiable.
+   */
+  @Override()
+  @NotNull()
+  public List<String> getOrderingIndexAttributes()
+  {
+    return Collections.unmodifiableList(super.getOrderingIndexAttributes());
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setOrderingIndexAttributes(
+                   @Nullable final String... orderingIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setOrderingIndexAttributes(
+                   @Nullable final Collection<String> orderingIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  The returned list will not be modifiable.
+   */
+  @Override()
+  @NotNull()
+  public List<String> getSubstringIndexAttributes()
+  {
+    return Collections.unmodifiableList(super.getSubstringIndexAttributes());
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setSubstringIndexAttributes(
+                   @Nullable final String... substringIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setSubstringIndexAttributes(
+                   @Nullable final Collection<String> substringIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  The returned list will not be modifiable.
+   */
+  @Override()
+  @NotNull()
+  public List<String> getPresenceIndexAttributes()
+  {
+    return Collections.unmodifiableList(super.getPresenceIndexAttributes());
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setPresenceIndexAttributes(
+                   @Nullable final String... presenceIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This method will always throw an
+   * {@code UnsupportedOperationException}.
+   *
+   * @throws  UnsupportedOperationException  To indicate that this object cannot
+   *                                         be altered.
+   */
+  @Override()
+  public void setPresenceIndexAttributes(
+                   @Nullable final Collection<String> presenceIndexAttributes)
+         throws UnsupportedOperationException
+  {
+    throw new UnsupportedOperationException();
+  }
+
+
+
   /**
    * {@inheritDoc}  The returned set will not be modifiable.
    */
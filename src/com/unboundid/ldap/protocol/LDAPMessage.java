@@ -56,6 +56,7 @@ import com.unboundid.asn1.ASN1StreamReader;
 import com.unboundid.asn1.ASN1StreamReaderSequence;
 import com.unboundid.ldap.sdk.Control;
 import com.unboundid.ldap.sdk.InternalSDKHelper;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.schema.Schema;
@@ -1190,6 +1191,46 @@ public final class LDAPMessage
                                   final boolean ignoreSocketTimeout,
                                   @Nullable final Schema schema)
          throws LDAPException
+  {
+    return readLDAPResponseFrom(reader, ignoreSocketTimeout, schema, null);
+  }
+
+
+
+  /**
+   * Reads {@link LDAPResponse} object from the provided ASN.1 stream reader.
+   *
+   * @param  reader               The ASN.1 stream reader from which the LDAP
+   *                              message should be read.
+   * @param  ignoreSocketTimeout  Indicates whether to ignore socket timeout
+   *                              exceptions caught during processing.  This
+   *                              should be {@code true} when the associated
+   *                              connection is operating in asynchronous mode,
+   *                              and {@code false} when operating in
+   *                              synchronous mode.  In either case, exceptions
+   *                              will not be ignored for the first read, since
+   *                              that will be handled by the connection reader.
+   * @param  schema               The schema to use to select the appropriate
+   *                              matching rule for attributes included in the
+   *                              response.
+   * @param  connectionOptions    The connection options that control how
+   *                              search result entries should be decoded.  It
+   *                              may be {@code null} if the default decoding
+   *                              behavior should be used.
+   *
+   * @return  The decoded LDAP message, or {@code null} if the end of the input
+   *          stream has been reached.
+   *
+   * @throws  LDAPException  If an error occurs while attempting to read or
+   *                         decode the LDAP message.
+   */
+  @Nullable()
+  public static LDAPResponse readLDAPResponseFrom(
+              @NotNull final ASN1StreamReader reader,
+              final boolean ignoreSocketTimeout,
+              @Nullable final Schema schema,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
   {
     final ASN1StreamReaderSequence messageSequence;
     try
@@ -1250,7 +1291,7 @@ public final class LDAPMessage
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY:
           return InternalSDKHelper.readSearchResultEntryFrom(messageID,
-                      messageSequence, reader, schema);
+                      messageSequence, reader, schema, connectionOptions);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_REFERENCE:
           return InternalSDKHelper.readSearchResultReferenceFrom(messageID,
@@ -2986,6 +2986,527 @@ requestLoop:
 
 
 
+  /**
+   * Processes the provided add request as an asynchronous operation using a
+   * connection from this pool.  The connection will be held until the
+   * operation completes, at which time it will automatically be released back
+   * to the pool (or released as defunct if the result suggests that the
+   * connection may no longer be usable).  The calling thread will not block
+   * while waiting for the operation to complete, so this may be used to issue
+   * concurrent operations without needing a separate thread for each of them.
+   * <BR><BR>
+   * The connection is held until the operation completes so that the pool
+   * cannot close it, or hand it to another caller that might rebind it, while
+   * the operation is still in progress.  As a result, each outstanding
+   * operation occupies one connection, so the number of operations that may be
+   * in progress at any time is limited by the maximum size of the pool.  Once
+   * all of its connections are in use, this method will wait for a connection
+   * to become available (or fail) in the same way as {@link #getConnection()}.
+   * <BR><BR>
+   * The connection will be released by a separate thread rather than by the
+   * thread that reads responses from the server, so the pool's health check
+   * may perform operations when connections are released, and a defunct
+   * connection may be replaced without delaying the delivery of responses for
+   * other operations.
+   *
+   * @param  addRequest      The add request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the add operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncAdd(@NotNull final AddRequest addRequest,
+                             @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(addRequest);
+    return processAsync(addRequest, resultListener, null);
+  }
+
+
+
+  /**
+   * Processes the provided add request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  addRequest      The add request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the add operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncAdd(
+                    @NotNull final ReadOnlyAddRequest addRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    return asyncAdd((AddRequest) addRequest, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided compare request as an asynchronous operation using
+   * a connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  compareRequest  The compare request to be processed.  It must not
+   *                         be {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the compare operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncCompare(
+                    @NotNull final CompareRequest compareRequest,
+                    @Nullable final AsyncCompareResultListener resultListener)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(compareRequest);
+    return processAsync(compareRequest, null, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided compare request as an asynchronous operation using
+   * a connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  compareRequest  The compare request to be processed.  It must not
+   *                         be {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the compare operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncCompare(
+                    @NotNull final ReadOnlyCompareRequest compareRequest,
+                    @Nullable final AsyncCompareResultListener resultListener)
+         throws LDAPException
+  {
+    return asyncCompare((CompareRequest) compareRequest, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided delete request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  deleteRequest   The delete request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the delete operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncDelete(
+                    @NotNull final DeleteRequest deleteRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(deleteRequest);
+    return processAsync(deleteRequest, resultListener, null);
+  }
+
+
+
+  /**
+   * Processes the provided delete request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  deleteRequest   The delete request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the delete operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncDelete(
+                    @NotNull final ReadOnlyDeleteRequest deleteRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    return asyncDelete((DeleteRequest) deleteRequest, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided modify request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  modifyRequest   The modify request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the modify operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncModify(
+                    @NotNull final ModifyRequest modifyRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(modifyRequest);
+    return processAsync(modifyRequest, resultListener, null);
+  }
+
+
+
+  /**
+   * Processes the provided modify request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  modifyRequest   The modify request to be processed.  It must not be
+   *                         {@code null}.
+   * @param  resultListener  The async result listener to use to handle the
+   *                         response for the modify operation.  It may be
+   *                         {@code null} if the result is going to be obtained
+   *                         from the returned {@code AsyncRequestID} object via
+   *                         the {@code Future} API or a completion listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncModify(
+                    @NotNull final ReadOnlyModifyRequest modifyRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    return asyncModify((ModifyRequest) modifyRequest, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided modify DN request as an asynchronous operation using
+   * a connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.  It must
+   *                          not be {@code null}.
+   * @param  resultListener   The async result listener to use to handle the
+   *                          response for the modify DN operation.  It may be
+   *                          {@code null} if the result is going to be
+   *                          obtained from the returned {@code AsyncRequestID}
+   *                          object via the {@code Future} API or a completion
+   *                          listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncModifyDN(
+                    @NotNull final ModifyDNRequest modifyDNRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(modifyDNRequest);
+    return processAsync(modifyDNRequest, resultListener, null);
+  }
+
+
+
+  /**
+   * Processes the provided modify DN request as an asynchronous operation using
+   * a connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.  It must
+   *                          not be {@code null}.
+   * @param  resultListener   The async result listener to use to handle the
+   *                          response for the modify DN operation.  It may be
+   *                          {@code null} if the result is going to be
+   *                          obtained from the returned {@code AsyncRequestID}
+   *                          object via the {@code Future} API or a completion
+   *                          listener.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncModifyDN(
+                    @NotNull final ReadOnlyModifyDNRequest modifyDNRequest,
+                    @Nullable final AsyncResultListener resultListener)
+         throws LDAPException
+  {
+    return asyncModifyDN((ModifyDNRequest) modifyDNRequest, resultListener);
+  }
+
+
+
+  /**
+   * Processes the provided search request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not be
+   *                        {@code null}, and it must be configured with a
+   *                        search result listener that is also an
+   *                        {@code AsyncSearchResultListener}.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, if the provided search request does not
+   *                         have a search result listener that is an
+   *                         {@code AsyncSearchResultListener}, or if a problem
+   *                         occurs while sending the request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncSearch(
+                    @NotNull final SearchRequest searchRequest)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(searchRequest);
+    return processAsync(searchRequest, null, null);
+  }
+
+
+
+  /**
+   * Processes the provided search request as an asynchronous operation using a
+   * connection from this pool.  See the
+   * {@link #asyncAdd(AddRequest,AsyncResultListener)} method for details about
+   * how the connection will be managed.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not be
+   *                        {@code null}, and it must be configured with a
+   *                        search result listener that is also an
+   *                        {@code AsyncSearchResultListener}.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, if the provided search request does not
+   *                         have a search result listener that is an
+   *                         {@code AsyncSearchResultListener}, or if a problem
+   *                         occurs while sending the request.
+   */
+  @NotNull()
+  public final AsyncRequestID asyncSearch(
+                    @NotNull final ReadOnlySearchRequest searchRequest)
+         throws LDAPException
+  {
+    return asyncSearch((SearchRequest) searchRequest);
+  }
+
+
+
+  /**
+   * Processes the provided request as an asynchronous operation using a
+   * connection from this pool, retrying once on a new connection if the
+   * attempt to send the request fails in a way that suggests the connection is
+   * no longer valid.
+   *
+   * @param  request                The request to be processed.  It must be an
+   *                                add, compare, delete, modify, modify DN, or
+   *                                search request.
+   * @param  resultListener         The listener to use for add, delete,
+   *                                modify, and modify DN operations.  It may be
+   *                                {@code null} if none is needed.
+   * @param  compareResultListener  The listener to use for compare operations.
+   *                                It may be {@code null} if none is needed.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If it is not possible to obtain a connection from
+   *                         the pool, or if a problem occurs while sending the
+   *                         request.
+   */
+  @NotNull()
+  private AsyncRequestID processAsync(@NotNull final LDAPRequest request,
+               @Nullable final AsyncResultListener resultListener,
+               @Nullable final AsyncCompareResultListener compareResultListener)
+          throws LDAPException
+  {
+    final LDAPConnection conn = getConnection();
+
+    AsyncRequestID requestID;
+    try
+    {
+      requestID = sendAsync(conn, request, resultListener,
+           compareResultListener);
+    }
+    catch (final Throwable t)
+    {
+      throwLDAPExceptionIfShouldNotRetry(t, request.getOperationType(), conn);
+
+      // If we have gotten here, then we should retry the operation with a
+      // newly-created connection.
+      final LDAPConnection newConn = replaceDefunctConnection(t, conn);
+
+      try
+      {
+        requestID = sendAsync(newConn, request, resultListener,
+             compareResultListener);
+      }
+      catch (final Throwable t2)
+      {
+        throwLDAPException(t2, newConn);
+
+        // This return statement should never be reached.
+        return null;
+      }
+
+      releaseConnectionOnAsyncCompletion(newConn, requestID);
+      return requestID;
+    }
+
+    releaseConnectionOnAsyncCompletion(conn, requestID);
+    return requestID;
+  }
+
+
+
+  /**
+   * Sends the provided request as an asynchronous operation over the given
+   * connection.
+   *
+   * @param  conn                   The connection to use to send the request.
+   * @param  request                The request to be processed.  It must be an
+   *                                add, compare, delete, modify, modify DN, or
+   *                                search request.
+   * @param  resultListener         The listener to use for add, delete,
+   *                                modify, and modify DN operations.  It may be
+   *                                {@code null} if none is needed.
+   * @param  compareResultListener  The listener to use for compare operations.
+   *                                It may be {@code null} if none is needed.
+   *
+   * @return  An async request ID that may be used to reference the operation.
+   *
+   * @throws  LDAPException  If a problem occurs while sending the request.
+   */
+  @NotNull()
+  private static AsyncRequestID sendAsync(@NotNull final LDAPConnection conn,
+               @NotNull final LDAPRequest request,
+               @Nullable final AsyncResultListener resultListener,
+               @Nullable final AsyncCompareResultListener compareResultListener)
+          throws LDAPException
+  {
+    switch (request.getOperationType())
+    {
+      case ADD:
+        return conn.asyncAdd((AddRequest) request, resultListener);
+      case COMPARE:
+        return conn.asyncCompare((CompareRequest) request,
+             compareResultListener);
+      case DELETE:
+        return conn.asyncDelete((DeleteRequest) request, resultListener);
+      case MODIFY:
+        return conn.asyncModify((ModifyRequest) request, resultListener);
+      case MODIFY_DN:
+        return conn.asyncModifyDN((ModifyDNRequest) request, resultListener);
+      case SEARCH:
+      default:
+        return conn.asyncSearch((SearchRequest) request);
+    }
+  }
+
+
+
+  /**
+   * Arranges for the provided connection to be released back to this pool once
+   * the associated asynchronous operation has completed.
+   *
+   * @param  conn       The connection used to send the request.
+   * @param  requestID  The async request ID for the operation.
+   */
+  void releaseConnectionOnAsyncCompletion(
+            @NotNull final LDAPConnection conn,
+            @NotNull final AsyncRequestID requestID)
+  {
+    requestID.addCompletionListener(
+         new AsyncConnectionPoolReleaseListener(this, conn));
+  }
+
+
+
   /**
    * Examines the provided {@code Throwable} object to determine whether it
    * represents an {@code LDAPException} that indicates the associated
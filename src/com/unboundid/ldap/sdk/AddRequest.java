@@ -44,7 +44,6 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -113,9 +112,10 @@ public final class AddRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server.
+  @NotNull private final ResponseHandoff responseHandoff =
+       new ResponseHandoff();
 
   // The set of attributes to include in the entry to add.
   @NotNull private ArrayList<Attribute> attributes;
@@ -1075,11 +1075,12 @@ public final class AddRequest
         final long responseTimeout = getResponseTimeoutMillis(connection);
         if (responseTimeout > 0)
         {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
+          response =
+               responseHandoff.poll(responseTimeout, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -1324,8 +1325,10 @@ public final class AddRequest
   {
     if (response == null)
     {
-      final long waitTime =
-           StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      final long waitNanos = System.nanoTime() - requestTime;
+      connection.operationCompleted(OperationType.ADD, null, waitNanos);
+
+      final long waitTime = StaticUtils.nanosToMillis(waitNanos);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -1336,8 +1339,11 @@ public final class AddRequest
                 connection.getHostPort()));
     }
 
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumAddResponses(
-         System.nanoTime() - requestTime);
+         responseTimeNanos);
+    connection.operationCompleted(OperationType.ADD, response,
+         responseTimeNanos);
 
     if (response instanceof ConnectionClosedResponse)
     {
@@ -1584,24 +1590,7 @@ public final class AddRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-    }
+    responseHandoff.offer(response);
   }
 
 
@@ -210,6 +210,8 @@ final class AsyncCompareHelper
 
     connection.getConnectionStatistics().incrementNumCompareResponses(
          responseTime);
+    connection.operationCompleted(OperationType.COMPARE, response,
+         responseTime);
     resultListener.compareResultReceived(asyncRequestID, result);
     asyncRequestID.setResult(result);
   }
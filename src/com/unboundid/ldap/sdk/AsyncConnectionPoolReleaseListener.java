@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.LDAPSDKThreadFactory;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides an async result listener that may be registered as a
+ * completion listener for an asynchronous operation processed using a
+ * connection from a connection pool, so that the connection will be released
+ * back to the pool once the operation has completed.  If the result suggests
+ * that the connection may no longer be usable, then it will be released as a
+ * defunct connection.  Because releasing a connection may involve invoking the
+ * pool's health check or establishing a new connection to replace a defunct
+ * one, the release is normally performed by one of a small number of shared
+ * threads rather than the thread that reads responses from the server.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class AsyncConnectionPoolReleaseListener
+      implements AsyncResultListener, Runnable
+{
+  /**
+   * The maximum number of threads that will be used to release connections.
+   */
+  private static final int NUM_RELEASE_THREADS =
+       Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+
+
+  /**
+   * The maximum number of releases that may be queued while all of the release
+   * threads are busy.
+   */
+  private static final int MAX_QUEUED_RELEASES = 1_000;
+
+
+
+  /**
+   * The executor service used to release connections for all pools.  It has a
+   * small fixed number of threads, which will exit after they have been idle
+   * for a minute, and a bounded queue.  If the queue is full, then the
+   * connection will be released by the thread that received the result.
+   */
+  @NotNull private static final ThreadPoolExecutor RELEASE_EXECUTOR;
+
+
+
+  static
+  {
+    RELEASE_EXECUTOR = new ThreadPoolExecutor(NUM_RELEASE_THREADS,
+         NUM_RELEASE_THREADS, 60L, TimeUnit.SECONDS,
+         new ArrayBlockingQueue<Runnable>(MAX_QUEUED_RELEASES),
+         new LDAPSDKThreadFactory(
+              "LDAP SDK Async Connection Pool Release Thread", true),
+         new ThreadPoolExecutor.CallerRunsPolicy());
+    RELEASE_EXECUTOR.allowCoreThreadTimeOut(true);
+  }
+
+
+
+  // The connection pool to which the connection should be released.
+  @NotNull private final AbstractConnectionPool pool;
+
+  // The connection to be released.
+  @NotNull private final LDAPConnection connection;
+
+  // Indicates whether the result suggests that the connection is still usable.
+  private volatile boolean connectionUsable;
+
+
+
+  /**
+   * Creates a new instance of this listener with the provided information.
+   *
+   * @param  pool        The connection pool to which the connection should be
+   *                     released.
+   * @param  connection  The connection to be released.
+   */
+  AsyncConnectionPoolReleaseListener(@NotNull final AbstractConnectionPool pool,
+                                     @NotNull final LDAPConnection connection)
+  {
+    this.pool = pool;
+    this.connection = connection;
+
+    connectionUsable = true;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void ldapResultReceived(@NotNull final AsyncRequestID requestID,
+                                 @NotNull final LDAPResult result)
+  {
+    connectionUsable = ResultCode.isConnectionUsable(result.getResultCode());
+
+    try
+    {
+      RELEASE_EXECUTOR.execute(this);
+    }
+    catch (final Exception e)
+    {
+      // This should not happen, since a release that cannot be queued will be
+      // run in the current thread, but if it does then the best we can do is
+      // to release the connection in the current thread.
+      Debug.debugException(e);
+      run();
+    }
+  }
+
+
+
+  /**
+   * Releases the connection back to the pool.  This is for use by the release
+   * threads only, and must not be called by third-party code.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void run()
+  {
+    if (connectionUsable)
+    {
+      pool.releaseConnection(connection);
+    }
+    else
+    {
+      pool.releaseDefunctConnection(connection);
+    }
+  }
+}
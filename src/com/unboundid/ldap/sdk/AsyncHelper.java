@@ -233,6 +233,7 @@ final class AsyncHelper
              responseTime);
         break;
     }
+    connection.operationCompleted(operationType, response, responseTime);
 
     resultListener.ldapResultReceived(asyncRequestID, result);
     asyncRequestID.setResult(result);
@@ -38,7 +38,8 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.Serializable;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.TimeUnit;
@@ -46,12 +47,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.unboundid.util.Debug;
-import com.unboundid.util.NotMutable;
+import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
 
@@ -81,8 +83,40 @@ import static com.unboundid.ldap.sdk.LDAPMessages.*;
  *
  * connection.abandon(asyncRequestID);
  * </PRE>
+ * <BR><BR>
+ * It is also possible to register one or more listeners that should be notified
+ * when the operation completes, using the
+ * {@link #addCompletionListener(AsyncResultListener)} method.  This allows
+ * applications to initiate a large number of concurrent operations and react
+ * to their results as they arrive, without needing to dedicate a thread to
+ * waiting on each one.  The following example issues a search for each of a
+ * set of user IDs and uses a completion listener to be notified as each of
+ * those searches completes:
+ * <PRE>
+ * final CountDownLatch remaining = new CountDownLatch(userIDs.size());
+ * AsyncResultListener completionListener = new AsyncResultListener()
+ * {
+ *   public void ldapResultReceived(AsyncRequestID requestID,
+ *                                  LDAPResult result)
+ *   {
+ *     // The result will be a SearchResult for a search operation.
+ *     remaining.countDown();
+ *   }
+ * };
+ *
+ * for (String userID : userIDs)
+ * {
+ *   SearchRequest searchRequest = new SearchRequest(myAsyncSearchListener,
+ *        "dc=example,dc=com", SearchScope.SUB,
+ *        Filter.createEqualityFilter("uid", userID));
+ *   AsyncRequestID requestID = connectionPool.asyncSearch(searchRequest);
+ *   requestID.addCompletionListener(completionListener);
+ * }
+ *
+ * remaining.await();
+ * </PRE>
  */
-@NotMutable()
+@Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class AsyncRequestID
        implements Serializable, Future<LDAPResult>
@@ -94,8 +128,8 @@ public final class AsyncRequestID
 
 
 
-  // The queue used to receive the result for the associated operation.
-  @NotNull private final ArrayBlockingQueue<LDAPResult> resultQueue;
+  // The handoff used to receive the result for the associated operation.
+  @NotNull private final ResponseHandoff resultHandoff;
 
   // A flag indicating whether a request has been made to cancel the operation.
   @NotNull private final AtomicBoolean cancelRequested;
@@ -112,6 +146,15 @@ public final class AsyncRequestID
   // The timer task that will allow the associated request to be cancelled.
   @Nullable private volatile AsyncTimeoutTimerTask timerTask;
 
+  // The result provided to completion listeners, which will be {@code null}
+  // until the operation has completed.  This must only be accessed while
+  // synchronized on this object.
+  @Nullable private transient LDAPResult completionResult;
+
+  // The listeners to notify when the operation completes.  This must only be
+  // accessed while synchronized on this object.
+  @Nullable private transient List<AsyncResultListener> completionListeners;
+
 
 
   /**
@@ -126,10 +169,13 @@ public final class AsyncRequestID
     this.messageID  = messageID;
     this.connection = connection;
 
-    resultQueue     = new ArrayBlockingQueue<>(1);
+    resultHandoff   = new ResponseHandoff();
     cancelRequested = new AtomicBoolean(false);
     result          = new AtomicReference<>();
     timerTask       = null;
+
+    completionResult    = null;
+    completionListeners = null;
   }
 
 
@@ -180,6 +226,7 @@ public final class AsyncRequestID
            new LDAPResult(messageID, ResultCode.USER_CANCELED,
                 INFO_ASYNC_REQUEST_USER_CANCELED.get(), null,
                 StaticUtils.NO_STRINGS, StaticUtils.NO_CONTROLS));
+      notifyCompletionListeners(result.get());
 
       connection.abandon(this);
     }
@@ -232,7 +279,7 @@ public final class AsyncRequestID
       return true;
     }
 
-    final LDAPResult newResult = resultQueue.poll();
+    final LDAPResult newResult = (LDAPResult) resultHandoff.poll();
     if (newResult != null)
     {
       result.set(newResult);
@@ -307,7 +354,7 @@ public final class AsyncRequestID
   public LDAPResult get(final long timeout, @NotNull final TimeUnit timeUnit)
          throws InterruptedException, TimeoutException
   {
-    final LDAPResult newResult = resultQueue.poll();
+    final LDAPResult newResult = (LDAPResult) resultHandoff.poll();
     if (newResult != null)
     {
       result.set(newResult);
@@ -320,7 +367,8 @@ public final class AsyncRequestID
       return previousResult;
     }
 
-    final LDAPResult resultAfterWaiting = resultQueue.poll(timeout, timeUnit);
+    final LDAPResult resultAfterWaiting =
+         (LDAPResult) resultHandoff.poll(timeout, timeUnit);
     if (resultAfterWaiting == null)
     {
       final long timeoutMillis = timeUnit.toMillis(timeout);
@@ -359,7 +407,7 @@ public final class AsyncRequestID
    */
   void setResult(@NotNull final LDAPResult result)
   {
-    resultQueue.offer(result);
+    resultHandoff.offer(result);
 
     final AsyncTimeoutTimerTask t = timerTask;
     if (t != null)
@@ -368,6 +416,113 @@ public final class AsyncRequestID
       connection.getTimer().purge();
       timerTask = null;
     }
+
+    notifyCompletionListeners(result);
+  }
+
+
+
+  /**
+   * Registers the provided listener to be notified when the associated
+   * operation completes, whether it completes normally, completes with an
+   * error, times out, or is canceled.  Each listener will be notified exactly
+   * once.  If the operation has already completed, then the listener will be
+   * notified immediately by the thread calling this method.  Otherwise, it will
+   * be notified by the thread that processes the result, which will typically
+   * be the thread that delivers responses from the server, and therefore the
+   * listener should return quickly and must not block while waiting for other
+   * operations to complete.
+   * <BR><BR>
+   * The result provided to the listener will be an {@link LDAPResult} for add,
+   * delete, modify, and modify DN operations, a {@link CompareResult} for
+   * compare operations, and a {@link SearchResult} for search operations.  Any
+   * listener that was provided when the operation was initiated will be
+   * notified before any completion listeners registered with this method.
+   *
+   * @param  listener  The listener to notify when the operation completes.  It
+   *                   must not be {@code null}.
+   */
+  public void addCompletionListener(@NotNull final AsyncResultListener listener)
+  {
+    Validator.ensureNotNull(listener);
+
+    final LDAPResult r;
+    synchronized (this)
+    {
+      r = completionResult;
+      if (r == null)
+      {
+        if (completionListeners == null)
+        {
+          completionListeners = new ArrayList<>(1);
+        }
+
+        completionListeners.add(listener);
+        return;
+      }
+    }
+
+    invokeCompletionListener(listener, r);
+  }
+
+
+
+  /**
+   * Notifies any registered completion listeners that the operation has
+   * completed with the provided result, if they have not already been
+   * notified.
+   *
+   * @param  result  The result for the associated operation.  It must not be
+   *                 {@code null}.
+   */
+  private void notifyCompletionListeners(@NotNull final LDAPResult result)
+  {
+    final List<AsyncResultListener> listeners;
+    synchronized (this)
+    {
+      if (completionResult != null)
+      {
+        return;
+      }
+
+      completionResult = result;
+      listeners = completionListeners;
+      completionListeners = null;
+    }
+
+    if (listeners != null)
+    {
+      for (final AsyncResultListener l : listeners)
+      {
+        invokeCompletionListener(l, result);
+      }
+    }
+  }
+
+
+
+  /**
+   * Invokes the provided completion listener with the given result.  Any
+   * exception thrown by the listener will be caught so that it does not
+   * interfere with notifying other listeners or with processing for the
+   * connection.
+   *
+   * @param  listener  The listener to invoke.  It must not be {@code null}.
+   * @param  result    The result to provide to the listener.  It must not be
+   *                   {@code null}.
+   */
+  private void invokeCompletionListener(
+                    @NotNull final AsyncResultListener listener,
+                    @NotNull final LDAPResult result)
+  {
+    try
+    {
+      listener.ldapResultReceived(this, result);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
   }
 
 
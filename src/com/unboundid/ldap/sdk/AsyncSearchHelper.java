@@ -233,8 +233,11 @@ final class AsyncSearchHelper
              ccrMessage);
       }
 
+      final long responseTimeNanos = System.nanoTime() - createTime;
       connection.getConnectionStatistics().incrementNumSearchResponses(
-           numEntries, numReferences, System.nanoTime() - createTime);
+           numEntries, numReferences, responseTimeNanos);
+      connection.operationCompleted(OperationType.SEARCH, response,
+           responseTimeNanos);
 
       final SearchResult searchResult = new SearchResult(
            asyncRequestID.getMessageID(), ccr.getResultCode(), message, null,
@@ -260,8 +263,11 @@ final class AsyncSearchHelper
         return;
       }
 
+      final long responseTimeNanos = System.nanoTime() - createTime;
       connection.getConnectionStatistics().incrementNumSearchResponses(
-           numEntries, numReferences, System.nanoTime() - createTime);
+           numEntries, numReferences, responseTimeNanos);
+      connection.operationCompleted(OperationType.SEARCH, response,
+           responseTimeNanos);
 
       final SearchResult searchResult = (SearchResult) response;
       searchResult.setCounts(numEntries, null, numReferences, null);
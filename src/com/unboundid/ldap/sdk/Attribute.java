@@ -37,6 +37,8 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -143,8 +145,30 @@ public final class Attribute
 
 
 
-  // The set of values for this attribute.
-  @NotNull private final ASN1OctetString[] values;
+  // The array containing the encoded value set for this attribute, if its
+  // values have not yet been decoded.
+  @Nullable private transient byte[] encodedValues;
+
+  // The number of values contained in the encoded value set.
+  private transient int encodedValueCount;
+
+  // The length of the encoded value set.
+  private transient int encodedValuesLength;
+
+  // The position in the encoded values array at which the value set begins.
+  private transient int encodedValuesOffset;
+
+  // The values decoded from the encoded value set.  It will be null until the
+  // values of a lazily-decoded attribute are first accessed, and it is only
+  // assigned while holding the lock on this attribute.  The values are held
+  // in a final field of the holder so that threads which read the reference
+  // without that lock will always see the fully-decoded array.
+  @Nullable private transient DecodedValues decodedValues;
+
+  // The set of values for this attribute.  It will only be null for an
+  // attribute whose values are decoded lazily, and it is never altered after
+  // the attribute has been constructed.
+  @Nullable private final ASN1OctetString[] values;
 
   // The hash code for this attribute.
   private int hashCode = -1;
@@ -474,6 +498,41 @@ public final class Attribute
 
 
 
+  /**
+   * Creates a new LDAP attribute with the specified name whose values will not
+   * be decoded until they are first accessed.  The encoded value set must
+   * already have been validated, and the provided array must not be altered
+   * after this attribute has been created.
+   *
+   * @param  name                 The name for this attribute.
+   * @param  matchingRule         The matching rule for this attribute.
+   * @param  encodedValues        The array containing the encoded value set.
+   * @param  encodedValuesOffset  The position in the array at which the
+   *                              contents of the encoded value set begin.
+   * @param  encodedValuesLength  The length of the contents of the encoded
+   *                              value set.
+   * @param  encodedValueCount    The number of values in the encoded value
+   *                              set.
+   */
+  private Attribute(@NotNull final String name,
+                    @NotNull final MatchingRule matchingRule,
+                    @NotNull final byte[] encodedValues,
+                    final int encodedValuesOffset,
+                    final int encodedValuesLength,
+                    final int encodedValueCount)
+  {
+    this.name                = name;
+    this.matchingRule        = matchingRule;
+    this.encodedValues       = encodedValues;
+    this.encodedValuesOffset = encodedValuesOffset;
+    this.encodedValuesLength = encodedValuesLength;
+    this.encodedValueCount   = encodedValueCount;
+
+    values = null;
+  }
+
+
+
   /**
    * Creates a new LDAP attribute with the specified name and set of values.
    *
@@ -606,12 +665,15 @@ public final class Attribute
       mr = matchingRule;
     }
 
+    final ASN1OctetString[] attr1Values = attr1.getRawValues();
+    final ASN1OctetString[] attr2Values = attr2.getRawValues();
+
     ASN1OctetString[] mergedValues =
-         new ASN1OctetString[attr1.values.length + attr2.values.length];
-    System.arraycopy(attr1.values, 0, mergedValues, 0, attr1.values.length);
+         new ASN1OctetString[attr1Values.length + attr2Values.length];
+    System.arraycopy(attr1Values, 0, mergedValues, 0, attr1Values.length);
 
-    int pos = attr1.values.length;
-    for (final ASN1OctetString attr2Value : attr2.values)
+    int pos = attr1Values.length;
+    for (final ASN1OctetString attr2Value : attr2Values)
     {
       if (! attr1.hasValue(attr2Value, mr))
       {
@@ -697,7 +759,7 @@ public final class Attribute
     }
 
     final ArrayList<ASN1OctetString> newValues =
-         new ArrayList<>(Arrays.asList(attr1.values));
+         new ArrayList<>(Arrays.asList(attr1.getRawValues()));
 
     final Iterator<ASN1OctetString> iterator = newValues.iterator();
     while (iterator.hasNext())
@@ -1040,12 +1102,14 @@ public final class Attribute
   @Nullable()
   public String getValue()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
-    return values[0].stringValue();
+    return rawValues[0].stringValue();
   }
 
 
@@ -1061,12 +1125,14 @@ public final class Attribute
   @Nullable()
   public byte[] getValueByteArray()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
-    return values[0].getValue();
+    return rawValues[0].getValue();
   }
 
 
@@ -1085,12 +1151,15 @@ public final class Attribute
   @Nullable()
   public Boolean getValueAsBoolean()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
-    final String lowerValue = StaticUtils.toLowerCase(values[0].stringValue());
+    final String lowerValue =
+         StaticUtils.toLowerCase(rawValues[0].stringValue());
     if (lowerValue.equals("true") || lowerValue.equals("t") ||
         lowerValue.equals("yes") || lowerValue.equals("y") ||
         lowerValue.equals("on") || lowerValue.equals("1"))
@@ -1123,14 +1192,16 @@ public final class Attribute
   @Nullable()
   public Date getValueAsDate()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
     try
     {
-      return StaticUtils.decodeGeneralizedTime(values[0].stringValue());
+      return StaticUtils.decodeGeneralizedTime(rawValues[0].stringValue());
     }
     catch (final Exception e)
     {
@@ -1151,14 +1222,16 @@ public final class Attribute
   @Nullable()
   public DN getValueAsDN()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
     try
     {
-      return new DN(values[0].stringValue());
+      return new DN(rawValues[0].stringValue());
     }
     catch (final Exception e)
     {
@@ -1180,14 +1253,16 @@ public final class Attribute
   @Nullable()
   public Integer getValueAsInteger()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
     try
     {
-      return Integer.valueOf(values[0].stringValue());
+      return Integer.valueOf(rawValues[0].stringValue());
     }
     catch (final NumberFormatException nfe)
     {
@@ -1209,14 +1284,16 @@ public final class Attribute
   @Nullable()
   public Long getValueAsLong()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return null;
     }
 
     try
     {
-      return Long.valueOf(values[0].stringValue());
+      return Long.valueOf(rawValues[0].stringValue());
     }
     catch (final NumberFormatException nfe)
     {
@@ -1237,15 +1314,17 @@ public final class Attribute
   @NotNull()
   public String[] getValues()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return StaticUtils.NO_STRINGS;
     }
 
-    final String[] stringValues = new String[values.length];
-    for (int i=0; i < values.length; i++)
+    final String[] stringValues = new String[rawValues.length];
+    for (int i=0; i < rawValues.length; i++)
     {
-      stringValues[i] = values[i].stringValue();
+      stringValues[i] = rawValues[i].stringValue();
     }
 
     return stringValues;
@@ -1263,15 +1342,17 @@ public final class Attribute
   @NotNull()
   public byte[][] getValueByteArrays()
   {
-    if (values.length == 0)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    if (rawValues.length == 0)
     {
       return NO_BYTE_VALUES;
     }
 
-    final byte[][] byteValues = new byte[values.length][];
-    for (int i=0; i < values.length; i++)
+    final byte[][] byteValues = new byte[rawValues.length][];
+    for (int i=0; i < rawValues.length; i++)
     {
-      byteValues[i] = values[i].getValue();
+      byteValues[i] = rawValues[i].getValue();
     }
 
     return byteValues;
@@ -1289,7 +1370,58 @@ public final class Attribute
   @NotNull()
   public ASN1OctetString[] getRawValues()
   {
-    return values;
+    final ASN1OctetString[] rawValues = values;
+    if (rawValues != null)
+    {
+      return rawValues;
+    }
+
+    final DecodedValues decoded = decodedValues;
+    if (decoded != null)
+    {
+      return decoded.values;
+    }
+
+    return decodeValues();
+  }
+
+
+
+  /**
+   * Decodes the values of this attribute from the encoded value set, if that
+   * has not already been done.
+   *
+   * @return  The decoded set of values for this attribute.
+   */
+  @NotNull()
+  private synchronized ASN1OctetString[] decodeValues()
+  {
+    if (decodedValues == null)
+    {
+      final ASN1OctetString[] rawValues =
+           new ASN1OctetString[encodedValueCount];
+      final ByteArrayBERReader reader = new ByteArrayBERReader(encodedValues,
+           encodedValuesOffset, encodedValuesLength);
+      try
+      {
+        for (int i=0; i < rawValues.length; i++)
+        {
+          rawValues[i] = reader.readOctetString();
+        }
+      }
+      catch (final LDAPException le)
+      {
+        // This should never happen, since the encoded value set was validated
+        // when the attribute was read.
+        Debug.debugException(le);
+        throw new LDAPRuntimeException(le);
+      }
+
+      decodedValues = new DecodedValues(rawValues);
+      encodedValues = null;
+    }
+
+    return decodedValues.values;
   }
 
 
@@ -1302,7 +1434,7 @@ public final class Attribute
    */
   public boolean hasValue()
   {
-    return (values.length > 0);
+    return (size() > 0);
   }
 
 
@@ -1414,9 +1546,11 @@ public final class Attribute
   boolean hasValue(@NotNull final ASN1OctetString value,
                    @NotNull final MatchingRule matchingRule)
   {
+    final ASN1OctetString[] rawValues = getRawValues();
+
     try
     {
-      return matchingRule.matchesAnyValue(value, values);
+      return matchingRule.matchesAnyValue(value, rawValues);
     }
     catch (final LDAPException le)
     {
@@ -1424,7 +1558,7 @@ public final class Attribute
 
       // This probably means that the provided value cannot be normalized.  In
       // that case, we'll fall back to a byte-for-byte comparison of the values.
-      for (final ASN1OctetString existingValue : values)
+      for (final ASN1OctetString existingValue : rawValues)
       {
         if (value.equalsIgnoreType(existingValue))
         {
@@ -1445,7 +1579,13 @@ public final class Attribute
    */
   public int size()
   {
-    return values.length;
+    final ASN1OctetString[] rawValues = values;
+    if (rawValues == null)
+    {
+      return encodedValueCount;
+    }
+
+    return rawValues.length;
   }
 
 
@@ -1459,11 +1599,13 @@ public final class Attribute
    */
   public void writeTo(@NotNull final ASN1Buffer buffer)
   {
+    final ASN1OctetString[] rawValues = getRawValues();
+
     final ASN1BufferSequence attrSequence = buffer.beginSequence();
     buffer.addOctetString(name);
 
     final ASN1BufferSet valueSet = buffer.beginSet();
-    for (final ASN1OctetString value : values)
+    for (final ASN1OctetString value : rawValues)
     {
       buffer.addElement(value);
     }
@@ -1483,10 +1625,12 @@ public final class Attribute
   @NotNull()
   public ASN1Sequence encode()
   {
+    final ASN1OctetString[] rawValues = getRawValues();
+
     final ASN1Element[] elements =
     {
       new ASN1OctetString(name),
-      new ASN1Set(values)
+      new ASN1Set(rawValues)
     };
 
     return new ASN1Sequence(elements);
@@ -1562,6 +1706,83 @@ public final class Attribute
 
 
 
+  /**
+   * Reads and decodes an attribute from the provided byte array reader.  The
+   * values of the attribute will reference the reader's underlying array
+   * rather than being copied.
+   *
+   * @param  reader        The byte array reader from which to read the
+   *                       attribute.
+   * @param  schema        The schema to use to select the appropriate matching
+   *                       rule for this attribute.  It may be {@code null} if
+   *                       the default matching rule should be selected.
+   * @param  decodeLazily  Indicates whether to defer decoding the values of the
+   *                       attribute until they are first accessed.  If this is
+   *                       {@code true}, then the encoded values will still be
+   *                       validated, but no objects will be created for them.
+   *
+   * @return  The decoded attribute.
+   *
+   * @throws  LDAPException  If a problem occurs while trying to read or decode
+   *                         the attribute.
+   */
+  @NotNull()
+  static Attribute readFrom(@NotNull final ByteArrayBERReader reader,
+                            @Nullable final Schema schema,
+                            final boolean decodeLazily)
+         throws LDAPException
+  {
+    final int attrLength = reader.readElementHeader();
+    final int attrEndPosition = reader.getPosition() + attrLength;
+    final String attrName = reader.readString();
+
+    final MatchingRule matchingRule =
+         MatchingRule.selectEqualityMatchingRule(attrName, schema);
+
+    final int valueSetLength = reader.readElementHeader();
+    final int valueSetStartPosition = reader.getPosition();
+    final int valueSetEndPosition = valueSetStartPosition + valueSetLength;
+    final ArrayList<ASN1OctetString> valueList;
+    int valueCount = 0;
+    if (decodeLazily)
+    {
+      valueList = null;
+      while (reader.getPosition() < valueSetEndPosition)
+      {
+        reader.skip(reader.readElementHeader());
+        valueCount++;
+      }
+    }
+    else
+    {
+      valueList = new ArrayList<>(10);
+      while (reader.getPosition() < valueSetEndPosition)
+      {
+        valueList.add(reader.readOctetString());
+      }
+    }
+
+    if ((reader.getPosition() != valueSetEndPosition) ||
+        (valueSetEndPosition != attrEndPosition))
+    {
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_ATTR_ENCODED_LENGTH_MISMATCH.get(attrName));
+    }
+
+    if (valueList == null)
+    {
+      return new Attribute(attrName, matchingRule, reader.getBuffer(),
+           valueSetStartPosition, valueSetLength, valueCount);
+    }
+
+    final ASN1OctetString[] values = new ASN1OctetString[valueList.size()];
+    valueList.toArray(values);
+
+    return new Attribute(attrName, matchingRule, values);
+  }
+
+
+
   /**
    * Decodes the provided ASN.1 sequence as an LDAP attribute.
    *
@@ -1624,7 +1845,9 @@ public final class Attribute
    */
   public boolean needsBase64Encoding()
   {
-    for (final ASN1OctetString v : values)
+    final ASN1OctetString[] rawValues = getRawValues();
+
+    for (final ASN1OctetString v : rawValues)
     {
       if (needsBase64Encoding(v.getValue()))
       {
@@ -1707,6 +1930,27 @@ public final class Attribute
 
 
 
+  /**
+   * Writes a serialized representation of this attribute to the provided
+   * stream, decoding its values first if that has not already been done.
+   *
+   * @param  outputStream  The stream to which the attribute should be written.
+   *
+   * @throws  IOException  If a problem occurs while writing to the stream.
+   */
+  private void writeObject(@NotNull final ObjectOutputStream outputStream)
+          throws IOException
+  {
+    final ObjectOutputStream.PutField fields = outputStream.putFields();
+    fields.put("hashCode", hashCode);
+    fields.put("matchingRule", matchingRule);
+    fields.put("name", name);
+    fields.put("values", getRawValues());
+    outputStream.writeFields();
+  }
+
+
+
   /**
    * Generates a hash code for this LDAP attribute.  It will be the sum of the
    * hash codes for the lowercase attribute name and the normalized values.
@@ -1718,9 +1962,10 @@ public final class Attribute
   {
     if (hashCode == -1)
     {
+      final ASN1OctetString[] rawValues = getRawValues();
       int c = StaticUtils.toLowerCase(name).hashCode();
 
-      for (final ASN1OctetString value : values)
+      for (final ASN1OctetString value : rawValues)
       {
         try
         {
@@ -1775,35 +2020,37 @@ public final class Attribute
       return false;
     }
 
-    if (values.length != a.values.length)
+    if (size() != a.size())
     {
       return false;
     }
 
+    final ASN1OctetString[] rawValues = getRawValues();
+
     // For a small set of values, we can just iterate through the values of one
     // and see if they are all present in the other.  However, that can be very
     // expensive for a large set of values, so we'll try to go with a more
     // efficient approach.
-    if (values.length > 10)
+    if (rawValues.length > 10)
     {
       // First, create a hash set containing the un-normalized values of the
       // first attribute.
       final HashSet<ASN1OctetString> unNormalizedValues =
-           StaticUtils.hashSetOf(values);
+           StaticUtils.hashSetOf(rawValues);
 
       // Next, iterate through the values of the second attribute.  For any
       // values that exist in the un-normalized set, remove them from that
       // set.  For any values that aren't in the un-normalized set, create a
       // new set with the normalized representations of those values.
       HashSet<ASN1OctetString> normalizedMissingValues = null;
-      for (final ASN1OctetString value : a.values)
+      for (final ASN1OctetString value : a.getRawValues())
       {
         if (! unNormalizedValues.remove(value))
         {
           if (normalizedMissingValues == null)
           {
-            normalizedMissingValues =
-                 new HashSet<>(StaticUtils.computeMapCapacity(values.length));
+            normalizedMissingValues = new HashSet<>(
+                 StaticUtils.computeMapCapacity(rawValues.length));
           }
 
           try
@@ -1844,7 +2091,7 @@ public final class Attribute
     }
     else
     {
-      for (final ASN1OctetString value : values)
+      for (final ASN1OctetString value : rawValues)
       {
         if (! a.hasValue(value))
         {
@@ -1885,10 +2132,12 @@ public final class Attribute
    */
   public void toString(@NotNull final StringBuilder buffer)
   {
+    final ASN1OctetString[] rawValues = getRawValues();
+
     buffer.append("Attribute(name=");
     buffer.append(name);
 
-    if (values.length == 0)
+    if (rawValues.length == 0)
     {
       buffer.append(", values={");
     }
@@ -1896,14 +2145,14 @@ public final class Attribute
     {
       buffer.append(", base64Values={'");
 
-      for (int i=0; i < values.length; i++)
+      for (int i=0; i < rawValues.length; i++)
       {
         if (i > 0)
         {
           buffer.append("', '");
         }
 
-        buffer.append(Base64.encode(values[i].getValue()));
+        buffer.append(Base64.encode(rawValues[i].getValue()));
       }
 
       buffer.append('\'');
@@ -1912,14 +2161,14 @@ public final class Attribute
     {
       buffer.append(", values={'");
 
-      for (int i=0; i < values.length; i++)
+      for (int i=0; i < rawValues.length; i++)
       {
         if (i > 0)
         {
           buffer.append("', '");
         }
 
-        buffer.append(values[i].stringValue());
+        buffer.append(rawValues[i].stringValue());
       }
 
       buffer.append('\'');
@@ -1927,4 +2176,30 @@ public final class Attribute
 
     buffer.append("})");
   }
+
+
+
+
+
+  /**
+   * This class provides an immutable holder for the values decoded from the
+   * encoded value set of a lazily-decoded attribute.
+   */
+  private static final class DecodedValues
+  {
+    // The decoded set of values.
+    @NotNull private final ASN1OctetString[] values;
+
+
+
+    /**
+     * Creates a new holder for the provided set of values.
+     *
+     * @param  values  The decoded set of values.
+     */
+    private DecodedValues(@NotNull final ASN1OctetString[] values)
+    {
+      this.values = values;
+    }
+  }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a simple mechanism for reading BER elements from a byte
+ * array without copying their values.  Octet string values will be returned as
+ * {@code ASN1OctetString} objects that reference the underlying array, so the
+ * array must not be altered after it has been provided to this reader.  Only
+ * the single-byte BER types and the definite length forms used by LDAP are
+ * supported.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class ByteArrayBERReader
+{
+  // The array containing the encoded data.
+  @NotNull private final byte[] buffer;
+
+  // The position in the array immediately after the end of the encoded data.
+  private final int endPosition;
+
+  // The position in the array of the next byte to be read.
+  private int position;
+
+
+
+  /**
+   * Creates a new reader for the specified portion of the provided array.
+   *
+   * @param  buffer  The array containing the encoded data.  It must not be
+   *                 {@code null}, and it must not be altered after it has been
+   *                 provided to this reader.
+   * @param  offset  The position in the array at which the encoded data
+   *                 begins.
+   * @param  length  The number of bytes of encoded data.
+   */
+  ByteArrayBERReader(@NotNull final byte[] buffer, final int offset,
+                     final int length)
+  {
+    this.buffer = buffer;
+
+    position = offset;
+    endPosition = offset + length;
+  }
+
+
+
+  /**
+   * Retrieves the array containing the encoded data.
+   *
+   * @return  The array containing the encoded data.
+   */
+  @NotNull()
+  byte[] getBuffer()
+  {
+    return buffer;
+  }
+
+
+
+  /**
+   * Retrieves the position in the array of the next byte to be read.
+   *
+   * @return  The position in the array of the next byte to be read.
+   */
+  int getPosition()
+  {
+    return position;
+  }
+
+
+
+  /**
+   * Indicates whether there is any more data to be read.
+   *
+   * @return  {@code true} if there is more data to be read, or {@code false}
+   *          if the end of the encoded data has been reached.
+   */
+  boolean hasMoreData()
+  {
+    return (position < endPosition);
+  }
+
+
+
+  /**
+   * Reads the BER type and length of the next element, leaving the reader
+   * positioned at the start of the element value.
+   *
+   * @return  The length of the element value.
+   *
+   * @throws  LDAPException  If the element header cannot be read, or if the
+   *                         value would extend beyond the end of the encoded
+   *                         data.
+   */
+  int readElementHeader()
+      throws LDAPException
+  {
+    final int elementPosition = position;
+    if ((endPosition - position) < 2)
+    {
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_BYTE_ARRAY_BER_READER_END_OF_DATA.get(elementPosition));
+    }
+
+    // Skip over the type.  Only single-byte types are used in LDAP.
+    position++;
+
+    final int firstLengthByte = (buffer[position++] & 0xFF);
+    final int length;
+    if ((firstLengthByte & 0x80) == 0x00)
+    {
+      length = firstLengthByte;
+    }
+    else
+    {
+      final int numLengthBytes = (firstLengthByte & 0x7F);
+      if ((numLengthBytes < 1) || (numLengthBytes > 4))
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_BYTE_ARRAY_BER_READER_UNSUPPORTED_LENGTH.get(elementPosition,
+                  numLengthBytes));
+      }
+
+      if ((endPosition - position) < numLengthBytes)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_BYTE_ARRAY_BER_READER_END_OF_DATA.get(elementPosition));
+      }
+
+      long l = 0L;
+      for (int i=0; i < numLengthBytes; i++)
+      {
+        l = (l << 8) | (buffer[position++] & 0xFF);
+      }
+
+      if (l > (endPosition - position))
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_BYTE_ARRAY_BER_READER_VALUE_TOO_LONG.get(elementPosition, l));
+      }
+
+      length = (int) l;
+    }
+
+    if (length > (endPosition - position))
+    {
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_BYTE_ARRAY_BER_READER_VALUE_TOO_LONG.get(elementPosition,
+                length));
+    }
+
+    return length;
+  }
+
+
+
+  /**
+   * Reads the next element as an octet string whose value references the
+   * underlying array.  The element will be given the universal octet string
+   * type, regardless of the type with which it was encoded.
+   *
+   * @return  The octet string that was read.
+   *
+   * @throws  LDAPException  If the element cannot be read.
+   */
+  @NotNull()
+  ASN1OctetString readOctetString()
+                  throws LDAPException
+  {
+    final int length = readElementHeader();
+    final ASN1OctetString s = new ASN1OctetString(buffer, position, length);
+    position += length;
+    return s;
+  }
+
+
+
+  /**
+   * Reads the next element as an octet string and returns its value as a
+   * string using the UTF-8 encoding.
+   *
+   * @return  The string value of the element that was read.
+   *
+   * @throws  LDAPException  If the element cannot be read.
+   */
+  @NotNull()
+  String readString()
+         throws LDAPException
+  {
+    final int length = readElementHeader();
+    final String s = StaticUtils.toUTF8String(buffer, position, length);
+    position += length;
+    return s;
+  }
+
+
+
+  /**
+   * Skips over the specified number of bytes.
+   *
+   * @param  numBytes  The number of bytes to skip.  It must not extend beyond
+   *                   the end of the encoded data.
+   */
+  void skip(final int numBytes)
+  {
+    position += numBytes;
+  }
+}
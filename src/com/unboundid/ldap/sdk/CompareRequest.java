@@ -40,7 +40,6 @@ package com.unboundid.ldap.sdk;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -128,9 +127,10 @@ public final class CompareRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server.
+  @NotNull private final ResponseHandoff responseHandoff =
+       new ResponseHandoff();
 
   // The assertion value for this compare request.
   @NotNull private ASN1OctetString assertionValue;
@@ -639,11 +639,12 @@ public final class CompareRequest
         final long responseTimeout = getResponseTimeoutMillis(connection);
         if (responseTimeout > 0)
         {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
+          response =
+               responseHandoff.poll(responseTimeout, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -888,8 +889,10 @@ public final class CompareRequest
   {
     if (response == null)
     {
-      final long waitTime =
-           StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      final long waitNanos = System.nanoTime() - requestTime;
+      connection.operationCompleted(OperationType.COMPARE, null, waitNanos);
+
+      final long waitTime = StaticUtils.nanosToMillis(waitNanos);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -900,8 +903,11 @@ public final class CompareRequest
                 connection.getHostPort()));
     }
 
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumCompareResponses(
-         System.nanoTime() - requestTime);
+         responseTimeNanos);
+    connection.operationCompleted(OperationType.COMPARE, response,
+         responseTimeNanos);
     if (response instanceof ConnectionClosedResponse)
     {
       // The connection was closed while waiting for the response.
@@ -1098,24 +1104,7 @@ public final class CompareRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-    }
+    responseHandoff.offer(response);
   }
 
 
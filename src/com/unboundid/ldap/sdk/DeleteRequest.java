@@ -39,7 +39,6 @@ package com.unboundid.ldap.sdk;
 
 import java.util.List;
 import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -112,9 +111,10 @@ public final class DeleteRequest
   // The message ID from the last LDAP message sent from this request.
   private int messageID = -1;
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server.
+  @NotNull private final ResponseHandoff responseHandoff =
+       new ResponseHandoff();
 
   // The DN of the entry to delete.
   @NotNull private String dn;
@@ -309,11 +309,12 @@ public final class DeleteRequest
         final long responseTimeout = getResponseTimeoutMillis(connection);
         if (responseTimeout > 0)
         {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
+          response =
+               responseHandoff.poll(responseTimeout, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -558,8 +559,10 @@ public final class DeleteRequest
   {
     if (response == null)
     {
-      final long waitTime =
-           StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      final long waitNanos = System.nanoTime() - requestTime;
+      connection.operationCompleted(OperationType.DELETE, null, waitNanos);
+
+      final long waitTime = StaticUtils.nanosToMillis(waitNanos);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -570,8 +573,11 @@ public final class DeleteRequest
                 connection.getHostPort()));
     }
 
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumDeleteResponses(
-         System.nanoTime() - requestTime);
+         responseTimeNanos);
+    connection.operationCompleted(OperationType.DELETE, response,
+         responseTimeNanos);
     if (response instanceof ConnectionClosedResponse)
     {
       // The connection was closed while waiting for the response.
@@ -754,24 +760,7 @@ public final class DeleteRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-    }
+    responseHandoff.offer(response);
   }
 
 
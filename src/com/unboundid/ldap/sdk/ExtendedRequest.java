@@ -39,7 +39,6 @@ package com.unboundid.ldap.sdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -110,9 +109,10 @@ public class ExtendedRequest
   // The message ID from the last LDAP message sent from this request.
   private int messageID = -1;
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server.
+  @NotNull private final ResponseHandoff responseHandoff =
+       new ResponseHandoff();
 
   // The OID for this extended request.
   @NotNull private final String oid;
@@ -391,11 +391,12 @@ public class ExtendedRequest
       {
         if (responseTimeout > 0)
         {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
+          response =
+               responseHandoff.poll(responseTimeout, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -512,8 +513,10 @@ public class ExtendedRequest
   {
     if (response == null)
     {
-      final long waitTime =
-           StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      final long waitNanos = System.nanoTime() - requestTime;
+      connection.operationCompleted(OperationType.EXTENDED, null, waitNanos);
+
+      final long waitTime = StaticUtils.nanosToMillis(waitNanos);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -544,8 +547,11 @@ public class ExtendedRequest
       }
     }
 
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumExtendedResponses(
-         System.nanoTime() - requestTime);
+         responseTimeNanos);
+    connection.operationCompleted(OperationType.EXTENDED, response,
+         responseTimeNanos);
     return (ExtendedResult) response;
   }
 
@@ -559,24 +565,7 @@ public class ExtendedRequest
   public final void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-    }
+    responseHandoff.offer(response);
   }
 
 
@@ -156,7 +156,7 @@ public final class InternalSDKHelper
              connection.getConnectionInternals(false);
         if (internals != null)
         {
-          internals.getSocket().setSoTimeout(soTimeout);
+          internals.setSoTimeout(soTimeout);
         }
       }
     }
@@ -400,9 +400,48 @@ public final class InternalSDKHelper
                      @NotNull final ASN1StreamReader reader,
                      @Nullable final Schema schema)
          throws LDAPException
+  {
+    return readSearchResultEntryFrom(messageID, messageSequence, reader,
+         schema, null);
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader.
+   *
+   * @param  messageID          The LDAP message ID for the LDAP message that
+   *                            is associated with this search result entry.
+   * @param  messageSequence    The ASN.1 stream reader sequence used in the
+   *                            course of reading the LDAP message elements.
+   * @param  reader             The ASN.1 stream reader from which to read the
+   *                            protocol op and controls.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule to use for each attribute.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   * @param  connectionOptions  The connection options that control how the
+   *                            entry should be decoded.  It may be
+   *                            {@code null} if the default decoding behavior
+   *                            should be used.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  public static SearchResultEntry readSearchResultEntryFrom(final int messageID,
+              @NotNull final ASN1StreamReaderSequence messageSequence,
+              @NotNull final ASN1StreamReader reader,
+              @Nullable final Schema schema,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
   {
     return SearchResultEntry.readSearchEntryFrom(messageID, messageSequence,
-                                                 reader, schema);
+         reader, schema, connectionOptions);
   }
 
 
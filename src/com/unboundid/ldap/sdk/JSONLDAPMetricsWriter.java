@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+import com.unboundid.util.json.JSONBuffer;
+
+
+
+/**
+ * This class provides an {@link LDAPMetricsListener} that writes each snapshot
+ * of metrics to an output stream (typically a file) in the JSON Lines format,
+ * with one JSON object per metric per line.  Each object will include the
+ * following fields:
+ * <UL>
+ *   <LI>{@code timestamp} -- The time the metrics were collected, in the
+ *       ISO 8601 format described in RFC 3339.</LI>
+ *   <LI>{@code name} -- The name of the metric.</LI>
+ *   <LI>{@code type} -- The type of the metric, which will be one of
+ *       "counter", "gauge", or "histogram".</LI>
+ *   <LI>{@code labels} -- An object with the labels for the metric.</LI>
+ *   <LI>{@code value} -- The value of a counter or gauge metric.</LI>
+ *   <LI>{@code count}, {@code sum-nanos}, {@code min-nanos},
+ *       {@code max-nanos}, {@code p50-nanos}, {@code p90-nanos},
+ *       {@code p99-nanos}, and {@code p99.9-nanos} -- The summary of a
+ *       histogram metric.</LI>
+ * </UL>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class JSONLDAPMetricsWriter
+       extends LDAPMetricsListener
+       implements Closeable
+{
+  // The buffer used to construct each line.
+  @NotNull private final JSONBuffer jsonBuffer;
+
+  // The output stream to which the metrics will be written.
+  @NotNull private final OutputStream outputStream;
+
+
+
+  /**
+   * Creates a new JSON metrics writer that will write to the provided output
+   * stream.
+   *
+   * @param  outputStream  The output stream to which the metrics should be
+   *                       written.  It must not be {@code null}.  It will be
+   *                       closed when this writer is closed.
+   */
+  public JSONLDAPMetricsWriter(@NotNull final OutputStream outputStream)
+  {
+    Validator.ensureNotNull(outputStream);
+
+    this.outputStream = outputStream;
+    jsonBuffer = new JSONBuffer();
+  }
+
+
+
+  /**
+   * Creates a new JSON metrics writer that will write to the specified file.
+   *
+   * @param  file    The file to which the metrics should be written.  It must
+   *                 not be {@code null}.
+   * @param  append  Indicates whether to append to the file if it already
+   *                 exists.  If this is {@code false}, then any existing
+   *                 content will be overwritten.
+   *
+   * @throws  IOException  If a problem occurs while opening the file.
+   */
+  public JSONLDAPMetricsWriter(@NotNull final File file, final boolean append)
+         throws IOException
+  {
+    this(new BufferedOutputStream(new FileOutputStream(file, append)));
+  }
+
+
+
+  /**
+   * Writes the provided metrics to the output stream, followed by a flush.
+   * Any problem encountered while writing will be reported through the debug
+   * logger.
+   *
+   * @param  timestamp  The time (in milliseconds since the epoch) at which the
+   *                    metrics were collected.
+   * @param  metrics    The metrics that were collected.
+   */
+  @Override()
+  public void metricsCollected(final long timestamp,
+                               @NotNull final List<LDAPMetric> metrics)
+  {
+    try
+    {
+      writeMetrics(timestamp, metrics);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+    }
+  }
+
+
+
+  /**
+   * Writes the provided metrics to the output stream, followed by a flush.
+   *
+   * @param  timestamp  The time (in milliseconds since the epoch) at which the
+   *                    metrics were collected.
+   * @param  metrics    The metrics to write.  It must not be {@code null}.
+   *
+   * @throws  IOException  If a problem occurs while writing the metrics.
+   */
+  public synchronized void writeMetrics(final long timestamp,
+                                        @NotNull final List<LDAPMetric> metrics)
+         throws IOException
+  {
+    final String timestampString = StaticUtils.encodeRFC3339Time(timestamp);
+    for (final LDAPMetric m : metrics)
+    {
+      jsonBuffer.clear();
+      jsonBuffer.beginObject();
+      jsonBuffer.appendString("timestamp", timestampString);
+      jsonBuffer.appendString("name", m.getName());
+      jsonBuffer.appendString("type",
+           StaticUtils.toLowerCase(m.getType().name()));
+
+      jsonBuffer.beginObject("labels");
+      for (final Map.Entry<String,String> e : m.getLabels().entrySet())
+      {
+        jsonBuffer.appendString(e.getKey(), e.getValue());
+      }
+      jsonBuffer.endObject();
+
+      final LatencyHistogram h = m.getHistogram();
+      if (h == null)
+      {
+        appendNumber("value", m.getValue());
+      }
+      else
+      {
+        jsonBuffer.appendNumber("count", h.getCount());
+        jsonBuffer.appendNumber("sum-nanos", h.getTotal());
+        jsonBuffer.appendNumber("min-nanos", h.getMin());
+        jsonBuffer.appendNumber("max-nanos", h.getMax());
+        jsonBuffer.appendNumber("p50-nanos", h.getValueAtPercentile(50.0d));
+        jsonBuffer.appendNumber("p90-nanos", h.getValueAtPercentile(90.0d));
+        jsonBuffer.appendNumber("p99-nanos", h.getValueAtPercentile(99.0d));
+        jsonBuffer.appendNumber("p99.9-nanos", h.getValueAtPercentile(99.9d));
+      }
+
+      jsonBuffer.endObject();
+      jsonBuffer.writeTo(outputStream);
+      outputStream.write('\n');
+    }
+
+    outputStream.flush();
+  }
+
+
+
+  /**
+   * Appends the provided numeric value to the JSON buffer, using an integer
+   * representation if possible and a null value if the number cannot be
+   * represented in JSON.
+   *
+   * @param  fieldName  The name of the field to append.
+   * @param  value      The value to append.
+   */
+  private void appendNumber(@NotNull final String fieldName,
+                            final double value)
+  {
+    if (Double.isNaN(value) || Double.isInfinite(value))
+    {
+      jsonBuffer.appendNull(fieldName);
+    }
+    else if ((value == Math.rint(value)) && (Math.abs(value) < 1.0E15d))
+    {
+      jsonBuffer.appendNumber(fieldName, (long) value);
+    }
+    else
+    {
+      jsonBuffer.appendNumber(fieldName, BigDecimal.valueOf(value));
+    }
+  }
+
+
+
+  /**
+   * Closes the output stream used by this writer.  It should not be used after
+   * it has been closed.
+   *
+   * @throws  IOException  If a problem occurs while closing the output stream.
+   */
+  @Override()
+  public synchronized void close()
+         throws IOException
+  {
+    outputStream.close();
+  }
+}
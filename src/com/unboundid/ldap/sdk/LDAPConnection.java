@@ -250,6 +250,10 @@ public final class LDAPConnection
   // applicable.
   @Nullable private AbstractConnectionPool connectionPool;
 
+  // The per-server connection pool sub-pool from which this connection was
+  // most recently checked out, if applicable.
+  @Nullable private volatile LDAPConnectionPoolServer checkedOutPoolServer;
+
   // Indicates whether to perform a reconnect before the next write.
   @NotNull private final AtomicBoolean needsReconnect;
 
@@ -901,9 +905,12 @@ public final class LDAPConnection
     try
     {
       connectionStatistics.incrementNumConnects();
+      final long connectStartTime = System.nanoTime();
       connectionInternals = new LDAPConnectionInternals(this, connectionOptions,
            lastUsedSocketFactory, host, inetAddress, port, timeout);
       connectionInternals.startConnectionReader();
+      connectionStatistics.recordConnectTime(
+           System.nanoTime() - connectStartTime);
       lastCommunicationTime = System.currentTimeMillis();
     }
     catch (final Exception e)
@@ -1360,6 +1367,22 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Specifies the per-server connection pool sub-pool from which this
+   * connection has been checked out, so that the sub-pool can be notified if
+   * the connection is closed before it is returned.
+   *
+   * @param  poolServer  The sub-pool from which this connection has been
+   *                     checked out.
+   */
+  void setCheckedOutPoolServer(
+            @Nullable final LDAPConnectionPoolServer poolServer)
+  {
+    checkedOutPoolServer = poolServer;
+  }
+
+
+
   /**
    * Retrieves the server set that was used to create this connection.
    *
@@ -1387,6 +1410,79 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Notifies the server set that was used to create this connection, if any,
+   * and the metrics registry in the connection options, if any, that an
+   * operation processed on this connection has completed.
+   *
+   * @param  operationType      The type of operation that completed.
+   * @param  response           The final response for the operation, or
+   *                            {@code null} if no response was received
+   *                            before the client-side timeout expired.
+   * @param  responseTimeNanos  The length of time in nanoseconds between
+   *                            sending the request and receiving the response
+   *                            or giving up on it.
+   */
+  void operationCompleted(@NotNull final OperationType operationType,
+                          @Nullable final LDAPResponse response,
+                          final long responseTimeNanos)
+  {
+    final ServerSet s = serverSet;
+    final LDAPMetricsRegistry metricsRegistry =
+         connectionOptions.getMetricsRegistry();
+    final String address = reconnectAddress;
+    if (((s == null) && (metricsRegistry == null)) || (address == null))
+    {
+      return;
+    }
+
+    final ResultCode resultCode;
+    if (response == null)
+    {
+      resultCode = ResultCode.TIMEOUT;
+    }
+    else if (response instanceof LDAPResult)
+    {
+      resultCode = ((LDAPResult) response).getResultCode();
+    }
+    else if (response instanceof ConnectionClosedResponse)
+    {
+      resultCode = ((ConnectionClosedResponse) response).getResultCode();
+    }
+    else
+    {
+      resultCode = ResultCode.SUCCESS;
+    }
+
+    if (metricsRegistry != null)
+    {
+      try
+      {
+        metricsRegistry.operationCompleted(getHostPort(), operationType,
+             resultCode, responseTimeNanos);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+
+    if (s != null)
+    {
+      try
+      {
+        s.handleOperationCompleted(this, address, reconnectPort, operationType,
+             resultCode, responseTimeNanos);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -4823,6 +4919,12 @@ public final class LDAPConnection
       connectionInternals = null;
     }
 
+    final LDAPConnectionPoolServer poolServer = checkedOutPoolServer;
+    if (poolServer != null)
+    {
+      poolServer.connectionReleased(this);
+    }
+
     cachedSchema = null;
     lastCommunicationTime = -1L;
 
@@ -41,11 +41,15 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketException;
+import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -53,12 +57,16 @@ import javax.security.sasl.SaslClient;
 
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.ByteStringBufferPool;
 import com.unboundid.util.Debug;
 import com.unboundid.util.DebugType;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
+import com.unboundid.util.SocketChannelOutputStream;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
 
@@ -80,10 +88,11 @@ final class LDAPConnectionInternals
 
 
   /**
-   * A set of thread-local ASN.1 buffers used to prepare messages to be written.
+   * The class for the JVM-default socket factory.  Connections will only be
+   * able to use NIO if they were created with a socket factory of this type.
    */
-  @NotNull private static final AtomicReference<ThreadLocal<ASN1Buffer>>
-       ASN1_BUFFERS = new AtomicReference<>(new ThreadLocal<ASN1Buffer>());
+  @NotNull private static final Class<?> DEFAULT_SOCKET_FACTORY_CLASS =
+       SocketFactory.getDefault().getClass();
 
 
 
@@ -110,6 +119,10 @@ final class LDAPConnectionInternals
   // associated.
   @Nullable private final LDAPConnectionReader connectionReader;
 
+  // The handler used to read responses with a shared NIO selector thread, if
+  // the connection is using NIO.
+  @Nullable private volatile LDAPConnectionNIOHandler nioHandler;
+
   // The output stream used to send requests to the server.
   @Nullable private volatile OutputStream outputStream;
 
@@ -119,12 +132,32 @@ final class LDAPConnectionInternals
   // The socket used to communicate with the directory server.
   @Nullable private volatile Socket socket;
 
+  // The SO_TIMEOUT value most recently set on the socket, or -1 if it is not
+  // known.  It is used to avoid changing the socket option when it already
+  // has the desired value.  It may only be updated while holding the lock on
+  // this object.
+  private volatile int currentSoTimeout;
+
   // The address of the server to which the connection is established.
   @NotNull private final String host;
 
+  // The write coalescer used to write concurrently-sent requests in batches,
+  // if write coalescing is enabled.
+  @Nullable private final LDAPConnectionWriteCoalescer writeCoalescer;
+
   // The write timeout handler for this connection.
   @NotNull private final WriteTimeoutHandler writeTimeoutHandler;
 
+  // Indicates whether a thread has started closing this connection.  It is
+  // used to ensure that only one thread will close the socket and log the
+  // disconnect when the connection is closed by the client while the reader
+  // detects the closure.
+  @NotNull private final AtomicBoolean closeStarted;
+
+  // A latch that will be released once the thread that started closing this
+  // connection has finished closing the socket and logging the disconnect.
+  @NotNull private final CountDownLatch closeCompleted;
+
 
 
   /**
@@ -175,19 +208,50 @@ final class LDAPConnectionInternals
     saslClient      = null;
     socket          = null;
 
+    currentSoTimeout = -1;
+
     writeTimeoutHandler = new WriteTimeoutHandler(connection);
+    closeStarted        = new AtomicBoolean(false);
+    closeCompleted      = new CountDownLatch(1);
 
-    try
+    // There is no benefit to coalescing writes in synchronous mode, since only
+    // a single operation may be in progress at any time.
+    if (options.coalesceWrites() && (! synchronousMode))
     {
-      final ConnectThread connectThread =
-           new ConnectThread(socketFactory, inetAddress, port, timeout);
-      connectThread.start();
-      socket = connectThread.getConnectedSocket();
+      writeCoalescer = new LDAPConnectionWriteCoalescer(writeTimeoutHandler);
+    }
+    else
+    {
+      writeCoalescer = null;
+    }
 
-      if (socket instanceof SSLSocket)
+    // NIO can only be used with a plain socket created by the JVM-default
+    // socket factory, and only if responses are read asynchronously.
+    final boolean useNIO = options.useNIO() && (! synchronousMode) &&
+         DEFAULT_SOCKET_FACTORY_CLASS.equals(socketFactory.getClass());
+    SocketChannel socketChannel = null;
+
+    try
+    {
+      if (useNIO)
+      {
+        socketChannel = SocketChannel.open();
+        socket = socketChannel.socket();
+        socket.connect(new InetSocketAddress(inetAddress, port), timeout);
+      }
+      else
       {
-        final SSLSocket sslSocket = (SSLSocket) socket;
-        options.getSSLSocketVerifier().verifySSLSocket(host, port, sslSocket);
+        final ConnectThread connectThread =
+             new ConnectThread(socketFactory, inetAddress, port, timeout);
+        connectThread.start();
+        socket = connectThread.getConnectedSocket();
+
+        if (socket instanceof SSLSocket)
+        {
+          final SSLSocket sslSocket = (SSLSocket) socket;
+          options.getSSLSocketVerifier().verifySSLSocket(host, port,
+               sslSocket);
+        }
       }
     }
     catch (final LDAPException le)
@@ -203,6 +267,19 @@ final class LDAPConnectionInternals
 
       throw new IOException(le);
     }
+    catch (final IOException ioe)
+    {
+      Debug.debugException(ioe);
+
+      if (socketChannel != null)
+      {
+        socketChannel.close();
+      }
+
+      writeTimeoutHandler.destroy();
+
+      throw ioe;
+    }
 
     try
     {
@@ -235,10 +312,26 @@ final class LDAPConnectionInternals
       Debug.debug(Level.INFO, DebugType.CONNECT,
            "Setting the SO_TIMEOUT value for connection " + connection +
                 " to " + soTimeout + "ms.");
-      socket.setSoTimeout(soTimeout);
+      setSoTimeout(soTimeout);
 
-      outputStream     = new BufferedOutputStream(socket.getOutputStream());
       connectionReader = new LDAPConnectionReader(connection, this);
+      if (socketChannel == null)
+      {
+        outputStream = new BufferedOutputStream(socket.getOutputStream());
+        nioHandler = null;
+      }
+      else
+      {
+        // The connection reader must be created while the channel is still in
+        // blocking mode, since it may need to take over reading from the
+        // channel if the connection is later secured.
+        socketChannel.configureBlocking(false);
+        outputStream = new BufferedOutputStream(
+             new SocketChannelOutputStream(socketChannel));
+        nioHandler = new LDAPConnectionNIOHandler(connection,
+             connectionReader, socketChannel,
+             LDAPConnectionNIOSelectorThread.getSelectorThread());
+      }
     }
     catch (final IOException ioe)
     {
@@ -264,11 +357,39 @@ final class LDAPConnectionInternals
 
   /**
    * Starts the connection reader for this connection internals.  This will
-   * have no effect if the connection is operating in synchronous mode.
+   * have no effect if the connection is operating in synchronous mode.  If the
+   * connection is using NIO, then it will be registered with a shared selector
+   * thread.  Otherwise, if the connection options indicate that virtual
+   * threads should be used and the JVM supports them, then the reader will run
+   * in a virtual thread rather than in its own platform thread.
    */
   void startConnectionReader()
   {
     if (! synchronousMode)
+    {
+      final LDAPConnectionNIOHandler handler = nioHandler;
+      if (handler == null)
+      {
+        startReaderThread();
+      }
+      else
+      {
+        handler.start();
+      }
+    }
+  }
+
+
+
+  /**
+   * Starts a dedicated thread for the connection reader, using a virtual
+   * thread if appropriate.
+   */
+  private void startReaderThread()
+  {
+    if ((! connection.getConnectionOptions().useVirtualThreads()) ||
+         (VirtualThreadSupport.startVirtualThread(
+              connectionReader.getName(), connectionReader) == null))
     {
       connectionReader.start();
     }
@@ -276,6 +397,65 @@ final class LDAPConnectionInternals
 
 
 
+  /**
+   * Indicates whether this connection is currently using a shared NIO
+   * selector thread to read responses from the server.
+   *
+   * @return  {@code true} if this connection is currently using a shared NIO
+   *          selector thread, or {@code false} if it is using a dedicated
+   *          reader thread or operating in synchronous mode.
+   */
+  boolean usingNIO()
+  {
+    return (nioHandler != null);
+  }
+
+
+
+  /**
+   * Switches this connection from using a shared NIO selector thread to using
+   * the blocking socket and a dedicated reader thread.  This must be done
+   * before the connection can be secured with TLS or SASL QoP.  The reader
+   * thread will not be started.
+   *
+   * @throws  LDAPException  If a problem occurs while detaching the
+   *                         connection from the selector thread.
+   */
+  private void detachFromNIO()
+          throws LDAPException
+  {
+    final LDAPConnectionNIOHandler handler = nioHandler;
+    nioHandler = null;
+
+    // Closing the output stream will close the selector it may have used to
+    // wait for the channel to become writable, but not the channel itself.
+    try
+    {
+      outputStream.close();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    handler.detach();
+
+    try
+    {
+      outputStream = new BufferedOutputStream(socket.getOutputStream());
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_NIO_READER_CANNOT_DETACH.get(host + ':' + port,
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
   /**
    * Retrieves the LDAP connection with which this connection internals object
    * is associated.
@@ -366,9 +546,53 @@ final class LDAPConnectionInternals
    *
    * @param  socket  The socket used to communicate with the directory server.
    */
-  void setSocket(@NotNull final Socket socket)
+  synchronized void setSocket(@NotNull final Socket socket)
   {
     this.socket = socket;
+    currentSoTimeout = -1;
+  }
+
+
+
+  /**
+   * Sets the value of the SO_TIMEOUT socket option for the socket used to
+   * communicate with the directory server.  The socket option will only be
+   * changed if the provided value differs from the value most recently set
+   * through this method.  The comparison and update are performed while holding
+   * the lock on this object so that concurrent callers cannot leave the cached
+   * value out of sync with the socket.
+   *
+   * @param  soTimeout  The SO_TIMEOUT value (in milliseconds) that should be
+   *                    used for the socket.  It must be greater than or equal
+   *                    to zero, with a timeout of zero indicating an unlimited
+   *                    timeout.
+   *
+   * @throws  SocketException  If a problem is encountered while attempting to
+   *                           set the SO_TIMEOUT value.
+   */
+  synchronized void setSoTimeout(final int soTimeout)
+       throws SocketException
+  {
+    if (soTimeout != currentSoTimeout)
+    {
+      currentSoTimeout = -1;
+      socket.setSoTimeout(soTimeout);
+      currentSoTimeout = soTimeout;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the SO_TIMEOUT value most recently set through the
+   * {@link #setSoTimeout} method.
+   *
+   * @return  The SO_TIMEOUT value most recently set on the socket, or -1 if it
+   *          is not known.
+   */
+  int getCachedSoTimeout()
+  {
+    return currentSoTimeout;
   }
 
 
@@ -428,7 +652,19 @@ final class LDAPConnectionInternals
   void convertToTLS(@NotNull final SSLSocketFactory sslSocketFactory)
        throws LDAPException
   {
-    outputStream = connectionReader.doStartTLS(sslSocketFactory);
+    if (nioHandler == null)
+    {
+      outputStream = connectionReader.doStartTLS(sslSocketFactory);
+    }
+    else
+    {
+      // The TLS negotiation needs a blocking socket, so switch this connection
+      // to use a dedicated reader thread once it has been completed.
+      detachFromNIO();
+      outputStream = connectionReader.doStartTLSWithoutReaderThread(
+           sslSocketFactory);
+      startReaderThread();
+    }
   }
 
 
@@ -446,8 +682,19 @@ final class LDAPConnectionInternals
   void applySASLQoP(@NotNull final SaslClient saslClient)
        throws LDAPException
   {
+    final boolean detachedFromNIO = (nioHandler != null);
+    if (detachedFromNIO)
+    {
+      detachFromNIO();
+    }
+
     this.saslClient = saslClient;
     connectionReader.applySASLQoP(saslClient);
+
+    if (detachedFromNIO)
+    {
+      startReaderThread();
+    }
   }
 
 
@@ -558,14 +805,49 @@ final class LDAPConnectionInternals
                               ERR_CONN_NOT_ESTABLISHED.get());
     }
 
-    ASN1Buffer buffer = ASN1_BUFFERS.get().get();
-    if (buffer == null)
+    // Encode the message into a buffer from the shared pool rather than one
+    // held by the sending thread, so that an occasional very large message
+    // will not leave a large buffer permanently associated with that thread.
+    // The pool's striped front cache means that this will not normally
+    // contend with other threads, and the pool will zero out the encoded
+    // message when the buffer is released.
+    final ByteStringBufferPool bufferPool =
+         ByteStringBufferPool.getDefaultInstance();
+    final ByteStringBuffer byteStringBuffer = bufferPool.acquire();
+    try
+    {
+      sendMessage(message, sendTimeoutMillis, allowRetry,
+           new ASN1Buffer(byteStringBuffer));
+    }
+    finally
     {
-      buffer = new ASN1Buffer();
-      ASN1_BUFFERS.get().set(buffer);
+      bufferPool.release(byteStringBuffer);
     }
+  }
+
 
-    buffer.clear();
+
+  /**
+   * Sends the provided LDAP message to the directory server, using the given
+   * buffer to encode it.
+   *
+   * @param  message            The LDAP message to be sent.
+   * @param  sendTimeoutMillis  The maximum length of time, in milliseconds, to
+   *                            block while trying to send the request.  If this
+   *                            is less than or equal to zero, then no send
+   *                            timeout will be enforced.
+   * @param  allowRetry         Indicates whether to allow retrying the send
+   *                            after a reconnect.
+   * @param  buffer             The empty buffer to use to encode the message.
+   *
+   * @throws  LDAPException  If a problem occurs while sending the message.
+   */
+  private void sendMessage(@NotNull final LDAPMessage message,
+                           final long sendTimeoutMillis,
+                           final boolean allowRetry,
+                           @NotNull final ASN1Buffer buffer)
+       throws LDAPException
+  {
     try
     {
       message.writeTo(buffer);
@@ -580,13 +862,16 @@ final class LDAPConnectionInternals
     try
     {
       final int soTimeout = Math.max(0, (int) sendTimeoutMillis);
-      if (Debug.debugEnabled())
+      if (soTimeout != currentSoTimeout)
       {
-        Debug.debug(Level.INFO, DebugType.CONNECT,
-             "Setting the SO_TIMEOUT value for connection " + connection +
-                  " to " + soTimeout + "ms.");
+        if (Debug.debugEnabled())
+        {
+          Debug.debug(Level.INFO, DebugType.CONNECT,
+               "Setting the SO_TIMEOUT value for connection " + connection +
+                    " to " + soTimeout + "ms.");
+        }
+        setSoTimeout(soTimeout);
       }
-      socket.setSoTimeout(soTimeout);
     }
     catch (final Exception e)
     {
@@ -594,8 +879,12 @@ final class LDAPConnectionInternals
     }
 
 
+    // Writes cannot be coalesced when SASL QoP is in effect, because each
+    // message must be wrapped and written in the order that it was wrapped.
+    // When coalescing, the write coalescer enforces the send timeout itself.
+    final boolean coalesce = (writeCoalescer != null) && (saslClient == null);
     final Long writeID;
-    if (sendTimeoutMillis > 0)
+    if ((sendTimeoutMillis > 0) && (! coalesce))
     {
       writeID = writeTimeoutHandler.beginWrite(sendTimeoutMillis);
     }
@@ -607,9 +896,15 @@ final class LDAPConnectionInternals
     try
     {
       final OutputStream os = outputStream;
-      if (saslClient == null)
+      if (coalesce)
+      {
+        writeCoalescer.write(os, buffer.toByteArray(), sendTimeoutMillis,
+             buffer.zeroBufferOnClear());
+      }
+      else if (saslClient == null)
       {
         buffer.writeTo(os);
+        os.flush();
       }
       else
       {
@@ -626,8 +921,8 @@ final class LDAPConnectionInternals
         lengthBytes[3] = (byte) (saslBytes.length & 0xFF);
         os.write(lengthBytes);
         os.write(saslBytes);
+        os.flush();
       }
-      os.flush();
     }
     catch (final IOException ioe)
     {
@@ -677,11 +972,6 @@ final class LDAPConnectionInternals
       {
         writeTimeoutHandler.writeCompleted(writeID);
       }
-
-      if (buffer.zeroBufferOnClear())
-      {
-        buffer.clear();
-      }
     }
   }
 
@@ -707,9 +997,28 @@ final class LDAPConnectionInternals
     writeTimeoutHandler.destroy();
 
     final boolean alreadyClosed;
-    if (socket == null)
+    if (! closeStarted.compareAndSet(false, true))
     {
+      // Another thread is already closing the connection.  Wait for it to
+      // finish so that the connection will have been completely closed by the
+      // time this method returns.  The closing thread will interrupt this
+      // thread if it is the connection reader thread and it needs to wait for
+      // the reader to stop.
       alreadyClosed = true;
+      try
+      {
+        closeCompleted.await();
+      }
+      catch (final InterruptedException e)
+      {
+        Debug.debugException(e);
+        Thread.currentThread().interrupt();
+      }
+    }
+    else if (socket == null)
+    {
+      alreadyClosed = true;
+      closeCompleted.countDown();
     }
     else
     {
@@ -717,6 +1026,21 @@ final class LDAPConnectionInternals
 
       try
       {
+        if (nioHandler != null)
+        {
+          // Close the channel before the output stream so that any thread
+          // blocked while waiting for the channel to become writable will be
+          // released.
+          try
+          {
+            socket.close();
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+          }
+        }
+
         try
         {
           outputStream.close();
@@ -770,15 +1094,23 @@ final class LDAPConnectionInternals
 
     if (! alreadyClosed)
     {
-      Debug.debugDisconnect(host, port, connection, disconnectInfo.getType(),
-           disconnectInfo.getMessage(), disconnectInfo.getCause());
-
-      final LDAPConnectionLogger logger =
-           connection.getConnectionOptions().getConnectionLogger();
-      if (logger != null)
+      try
       {
-        logger.logDisconnect(connection, host, port, disconnectInfo.getType(),
+        Debug.debugDisconnect(host, port, connection, disconnectInfo.getType(),
              disconnectInfo.getMessage(), disconnectInfo.getCause());
+
+        final LDAPConnectionLogger logger =
+             connection.getConnectionOptions().getConnectionLogger();
+        if (logger != null)
+        {
+          logger.logDisconnect(connection, host, port,
+               disconnectInfo.getType(), disconnectInfo.getMessage(),
+               disconnectInfo.getCause());
+        }
+      }
+      finally
+      {
+        closeCompleted.countDown();
       }
     }
 
@@ -794,7 +1126,7 @@ final class LDAPConnectionInternals
          ACTIVE_CONNECTION_COUNT.decrementAndGet();
     if (remainingActiveConnections <= 0L)
     {
-      ASN1_BUFFERS.set(new ThreadLocal<ASN1Buffer>());
+      ByteStringBufferPool.getDefaultInstance().trim();
 
       if (remainingActiveConnections < 0L)
       {
@@ -0,0 +1,785 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.unboundid.asn1.ASN1ElementFramer;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.LDAPResponse;
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.LDAPSDKThreadFactory;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides the glue between an {@link LDAPConnection} that has been
+ * configured to use NIO, the shared selector thread that reads responses from
+ * it, and the shared pool of threads used to deliver those responses.  Data
+ * read by the selector thread is buffered until a complete LDAP message is
+ * available, at which point it is decoded and queued for delivery.  Queued
+ * responses are handed to the connection reader in the order they were
+ * received by at most one delivery thread at a time, so that they reach the
+ * appropriate response acceptors and listeners in the same way as responses
+ * read by a dedicated reader thread.  Because listeners are never invoked by
+ * the selector thread, a listener that blocks will not prevent responses from
+ * being read for other connections, although it does occupy one of the fixed
+ * number of delivery threads until it returns.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPConnectionNIOHandler
+      implements Runnable
+{
+  /**
+   * The maximum number of decoded responses that may be queued for a single
+   * connection before the selector thread stops reading from it.
+   */
+  static final int MAX_QUEUED_RESPONSES = 64;
+
+
+
+  /**
+   * The executor service used to deliver responses for all NIO-based
+   * connections.  It has a fixed maximum number of threads, which will exit
+   * after they have been idle for a minute.  Its queue does not need to be
+   * bounded because a handler is never queued more than once at a time, so it
+   * cannot hold more than one task per connection.
+   */
+  @NotNull private static final ThreadPoolExecutor DELIVERY_EXECUTOR;
+
+
+
+  static
+  {
+    DELIVERY_EXECUTOR = new ThreadPoolExecutor(
+         LDAPConnectionOptions.NIO_DELIVERY_THREADS,
+         LDAPConnectionOptions.NIO_DELIVERY_THREADS, 60L, TimeUnit.SECONDS,
+         new LinkedBlockingQueue<Runnable>(),
+         new LDAPSDKThreadFactory("LDAP SDK NIO Response Delivery Thread",
+              true));
+    DELIVERY_EXECUTOR.allowCoreThreadTimeOut(true);
+  }
+
+
+
+  // Indicates whether this handler is currently scheduled for execution (or
+  // executing) in the delivery thread pool.
+  @NotNull private final AtomicBoolean scheduled;
+
+  // Indicates whether the selector thread has stopped reading from the channel
+  // because too many responses are queued or the connection reader has paused
+  // reading.
+  @NotNull private final AtomicBoolean readsSuspended;
+
+  // The number of responses currently held in the queue.
+  @NotNull private final AtomicInteger numQueuedResponses;
+
+  // The framer used to buffer data read from the server that does not yet
+  // comprise a complete LDAP message.  This will only be accessed by the
+  // selector thread.
+  @NotNull private final ASN1ElementFramer framer;
+
+  // The queue of responses that have been read but not yet delivered.
+  @NotNull private final ConcurrentLinkedQueue<LDAPResponse> responseQueue;
+
+  // A latch that will be released once the channel has been deregistered from
+  // the selector thread.
+  @NotNull private final CountDownLatch detachLatch;
+
+  // Indicates whether the selector thread has stopped reading from the
+  // channel.  This will only be accessed by the selector thread.
+  private boolean stopped;
+
+  // Indicates whether the connection should be closed once all queued
+  // responses have been delivered.
+  private volatile boolean readFailed;
+
+  // The maximum size in bytes of a response that may be read from the server.
+  private final int maxMessageSize;
+
+  // The connection with which this handler is associated.
+  @NotNull private final LDAPConnection connection;
+
+  // The connection reader that will be used to deliver responses.
+  @NotNull private final LDAPConnectionReader connectionReader;
+
+  // The selector thread that reads responses for this connection.
+  @NotNull private final LDAPConnectionNIOSelectorThread selectorThread;
+
+  // The selection key for the channel, once it has been registered.  This will
+  // only be accessed by the selector thread.
+  @Nullable private SelectionKey selectionKey;
+
+  // The socket channel used to communicate with the server.
+  @NotNull private final SocketChannel channel;
+
+  // A message to provide to any outstanding operations when the connection is
+  // closed because reading failed.
+  @Nullable private volatile String readFailedMessage;
+
+
+
+  /**
+   * Creates a new NIO connection handler with the provided information.
+   *
+   * @param  connection        The connection with which this handler is
+   *                           associated.  It must not be {@code null}.
+   * @param  connectionReader  The connection reader that will be used to
+   *                           deliver responses.  It must not be {@code null},
+   *                           and its thread must not have been started.
+   * @param  channel           The socket channel used to communicate with the
+   *                           server.  It must not be {@code null}, and it must
+   *                           be configured in non-blocking mode.
+   * @param  selectorThread    The selector thread that will read responses for
+   *                           this connection.  It must not be {@code null}.
+   */
+  LDAPConnectionNIOHandler(@NotNull final LDAPConnection connection,
+       @NotNull final LDAPConnectionReader connectionReader,
+       @NotNull final SocketChannel channel,
+       @NotNull final LDAPConnectionNIOSelectorThread selectorThread)
+  {
+    this.connection       = connection;
+    this.connectionReader = connectionReader;
+    this.channel          = channel;
+    this.selectorThread   = selectorThread;
+
+    maxMessageSize = connection.getConnectionOptions().getMaxMessageSize();
+
+    scheduled          = new AtomicBoolean(false);
+    readsSuspended     = new AtomicBoolean(false);
+    numQueuedResponses = new AtomicInteger(0);
+    framer             = new ASN1ElementFramer(maxMessageSize);
+    responseQueue      = new ConcurrentLinkedQueue<>();
+    detachLatch        = new CountDownLatch(1);
+    stopped            = false;
+    readFailed         = false;
+    readFailedMessage  = null;
+    selectionKey       = null;
+  }
+
+
+
+  /**
+   * Retrieves the socket channel used to communicate with the server.
+   *
+   * @return  The socket channel used to communicate with the server.
+   */
+  @NotNull()
+  SocketChannel getChannel()
+  {
+    return channel;
+  }
+
+
+
+  /**
+   * Retrieves the selector thread that reads responses for this connection.
+   *
+   * @return  The selector thread that reads responses for this connection.
+   */
+  @NotNull()
+  LDAPConnectionNIOSelectorThread getSelectorThread()
+  {
+    return selectorThread;
+  }
+
+
+
+  /**
+   * Retrieves the selection key for the channel.  This must only be called by
+   * the selector thread.
+   *
+   * @return  The selection key for the channel, or {@code null} if it has not
+   *          yet been registered.
+   */
+  @Nullable()
+  SelectionKey getSelectionKey()
+  {
+    return selectionKey;
+  }
+
+
+
+  /**
+   * Specifies the selection key for the channel.  This must only be called by
+   * the selector thread.
+   *
+   * @param  selectionKey  The selection key for the channel.
+   */
+  void setSelectionKey(@NotNull final SelectionKey selectionKey)
+  {
+    this.selectionKey = selectionKey;
+  }
+
+
+
+  /**
+   * Starts reading responses for this connection by registering it with the
+   * selector thread.
+   */
+  void start()
+  {
+    connectionReader.setNIOHandler(this);
+    selectorThread.register(this);
+  }
+
+
+
+  /**
+   * Indicates that the connection reader is no longer paused, so that any
+   * queued responses should be delivered and reading from the channel should
+   * be resumed if it had been suspended.  This may be called by any thread.
+   */
+  void resumeReading()
+  {
+    schedule();
+  }
+
+
+
+  /**
+   * Resumes reading from the channel after it was suspended.  This will have no
+   * effect if reading has been suspended again in the meantime.  This must only
+   * be called by the selector thread.
+   */
+  void resumeComplete()
+  {
+    if ((! stopped) && (! readsSuspended.get()))
+    {
+      setInterestOps(SelectionKey.OP_READ);
+    }
+  }
+
+
+
+  /**
+   * Updates the set of operations for which the channel will be selected.  This
+   * must only be called by the selector thread.
+   *
+   * @param  ops  The set of operations for which the channel should be
+   *              selected.
+   */
+  private void setInterestOps(final int ops)
+  {
+    final SelectionKey key = selectionKey;
+    if ((key == null) || (! key.isValid()))
+    {
+      return;
+    }
+
+    try
+    {
+      key.interestOps(ops);
+    }
+    catch (final CancelledKeyException e)
+    {
+      // The channel was closed after the key was checked.
+      Debug.debugException(Level.FINEST, e);
+    }
+  }
+
+
+
+  /**
+   * Reads any data that is available from the channel and queues any complete
+   * responses for delivery.  This must only be called by the selector thread.
+   *
+   * @param  buffer  A buffer that may be used to hold data read from the
+   *                 channel.  Its contents will not be preserved across calls.
+   */
+  void readAvailableData(@NotNull final ByteBuffer buffer)
+  {
+    final int bytesRead;
+    try
+    {
+      buffer.clear();
+      bytesRead = channel.read(buffer);
+    }
+    catch (final IOException ioe)
+    {
+      if (connection.closeRequested())
+      {
+        // This exception resulted from the connection being closed in a way
+        // that we already knew about.
+        Debug.debugException(Level.FINEST, ioe);
+        stopReading(null, null, null, null);
+      }
+      else
+      {
+        Debug.debugException(ioe);
+        stopReading(DisconnectType.IO_ERROR, ioe.getMessage(), ioe,
+             ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
+                  connection.getHostPort(),
+                  StaticUtils.getExceptionMessage(ioe)));
+      }
+      return;
+    }
+
+    if (bytesRead < 0)
+    {
+      if (connection.closeRequested())
+      {
+        stopReading(null, null, null, null);
+      }
+      else if (framer.getBufferedLength() > 0)
+      {
+        final String message =
+             ERR_NIO_READER_PARTIAL_MESSAGE_AT_END_OF_INPUT.get(
+                  connection.getHostPort(), framer.getBufferedLength());
+        stopReading(DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, message, null,
+             message);
+      }
+      else
+      {
+        stopReading(DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, null, null,
+             null);
+      }
+      return;
+    }
+    else if (bytesRead == 0)
+    {
+      return;
+    }
+
+    // If there is no data left over from a previous read, then decode complete
+    // messages directly from the read buffer and only copy whatever is left in
+    // it once that is done.
+    buffer.flip();
+    final ByteBuffer data;
+    if (framer.getBufferedLength() == 0)
+    {
+      data = buffer;
+    }
+    else
+    {
+      framer.append(buffer);
+      data = framer.getBufferedData();
+    }
+
+    final boolean responseQueued = queueResponses(data);
+    if (stopped)
+    {
+      return;
+    }
+
+    if (data == buffer)
+    {
+      framer.append(buffer);
+    }
+    else
+    {
+      framer.compact(data.position());
+    }
+
+    if (responseQueued)
+    {
+      if (((numQueuedResponses.get() >= MAX_QUEUED_RESPONSES) ||
+           connectionReader.readingPaused()) &&
+          readsSuspended.compareAndSet(false, true))
+      {
+        setInterestOps(0);
+      }
+
+      schedule();
+    }
+  }
+
+
+
+  /**
+   * Decodes all complete messages held in the provided buffer, starting at its
+   * current position, and adds them to the response queue.  When this method
+   * returns, the buffer's position will be at the start of the first message
+   * that is not complete.  This must only be called by the selector thread.
+   *
+   * @param  buffer  The buffer containing the data to process.  It may be
+   *                 either a heap buffer or a direct buffer.
+   *
+   * @return  {@code true} if any responses were added to the queue, or
+   *          {@code false} if not.
+   */
+  private boolean queueResponses(@NotNull final ByteBuffer buffer)
+  {
+    boolean responseQueued = false;
+    while (true)
+    {
+      final ByteBuffer messageBuffer;
+      try
+      {
+        messageBuffer = framer.nextElement(buffer);
+      }
+      catch (final ASN1Exception ae)
+      {
+        Debug.debugException(ae);
+        final String message = ERR_NIO_READER_INVALID_MESSAGE_LENGTH.get(
+             connection.getHostPort(), ae.getMessage());
+        stopReading(DisconnectType.DECODE_ERROR, message, ae, message);
+        return responseQueued;
+      }
+
+      if (messageBuffer == null)
+      {
+        return responseQueued;
+      }
+
+      final LDAPResponse response;
+      try
+      {
+        response = LDAPMessage.readLDAPResponseFrom(
+             new ASN1StreamReader(messageBuffer, maxMessageSize),
+             true, connection.getCachedSchema(),
+             connection.getConnectionOptions());
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        stopReading(DisconnectType.DECODE_ERROR, le.getMessage(), le,
+             le.getMessage());
+        return responseQueued;
+      }
+
+      if (response != null)
+      {
+        responseQueue.add(response);
+        numQueuedResponses.incrementAndGet();
+        responseQueued = true;
+      }
+    }
+  }
+
+
+
+  /**
+   * Stops reading from the channel.  Unless a close has already been requested
+   * for the connection (in which case the thread that requested the close will
+   * be responsible for completing it), the connection will be closed once any
+   * queued responses have been delivered.  This must only be called by the
+   * selector thread.
+   *
+   * @param  disconnectType     The disconnect type to use for the connection,
+   *                            or {@code null} if a close has already been
+   *                            requested for the connection.
+   * @param  disconnectMessage  The message to use for the disconnect info, if
+   *                            available.
+   * @param  cause              The cause to use for the disconnect info, if
+   *                            available.
+   * @param  closeMessage       A message to provide to any outstanding
+   *                            operations, if available.
+   */
+  private void stopReading(@Nullable final DisconnectType disconnectType,
+                           @Nullable final String disconnectMessage,
+                           @Nullable final Throwable cause,
+                           @Nullable final String closeMessage)
+  {
+    stopped = true;
+    framer.clear();
+
+    if (selectionKey != null)
+    {
+      selectionKey.cancel();
+    }
+
+    if (disconnectType != null)
+    {
+      connection.setDisconnectInfo(disconnectType, disconnectMessage, cause);
+      if (closeMessage != null)
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP, closeMessage, cause);
+      }
+
+      readFailedMessage = closeMessage;
+      readFailed = true;
+      schedule();
+    }
+  }
+
+
+
+  /**
+   * Indicates that the selector thread has stopped, or that this handler could
+   * not be registered with it, so the connection must be closed unless a close
+   * has already been requested.
+   */
+  void selectorThreadStopped()
+  {
+    stopped = true;
+    if (! connection.closeRequested())
+    {
+      connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR, null, null);
+      readFailed = true;
+      schedule();
+    }
+  }
+
+
+
+  /**
+   * Ensures that this handler is scheduled for execution in the delivery thread
+   * pool, unless it is already scheduled or running.
+   */
+  private void schedule()
+  {
+    if (scheduled.compareAndSet(false, true))
+    {
+      try
+      {
+        DELIVERY_EXECUTOR.execute(this);
+      }
+      catch (final Exception e)
+      {
+        // This should only happen if the task could not be queued, in which
+        // case the best we can do is to deliver the responses in the current
+        // thread.
+        Debug.debugException(e);
+        run();
+      }
+    }
+  }
+
+
+
+  /**
+   * Delivers all responses that are currently queued for the connection, in
+   * the order that they were received, and closes the connection if reading
+   * from it has failed.  This is for use by delivery threads only, and must not
+   * be called by third-party code.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void run()
+  {
+    while (true)
+    {
+      while (! connectionReader.readingPaused())
+      {
+        final LDAPResponse response = responseQueue.poll();
+        if (response == null)
+        {
+          break;
+        }
+
+        numQueuedResponses.decrementAndGet();
+        resumeReadsIfPossible();
+
+        try
+        {
+          connectionReader.processResponse(response);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          final String message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
+               connection.getHostPort(), StaticUtils.getExceptionMessage(e));
+          connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR, null, e);
+          Debug.debug(Level.WARNING, DebugType.LDAP, message, e);
+
+          // Leave this handler marked as scheduled so that it will not run
+          // again.
+          responseQueue.clear();
+          connectionReader.nioReadFailed(message);
+          return;
+        }
+      }
+
+      if (readFailed && responseQueue.isEmpty())
+      {
+        // Leave this handler marked as scheduled so that it will not run
+        // again.
+        connectionReader.nioReadFailed(readFailedMessage);
+        return;
+      }
+
+      resumeReadsIfPossible();
+      scheduled.set(false);
+      if (! hasPendingWork())
+      {
+        return;
+      }
+
+      if (! scheduled.compareAndSet(false, true))
+      {
+        // Another thread has already scheduled this handler.
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Asks the selector thread to resume reading from the channel if it had been
+   * suspended and neither of the conditions that caused it to be suspended
+   * still applies.
+   */
+  private void resumeReadsIfPossible()
+  {
+    if (canResumeReads() && readsSuspended.compareAndSet(true, false))
+    {
+      selectorThread.resume(this);
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the selector thread may read from the channel, because
+   * there is room in the response queue and the connection reader has not
+   * paused reading.
+   *
+   * @return  {@code true} if the selector thread may read from the channel, or
+   *          {@code false} if not.
+   */
+  private boolean canResumeReads()
+  {
+    return ((numQueuedResponses.get() < MAX_QUEUED_RESPONSES) &&
+         (! connectionReader.readingPaused()));
+  }
+
+
+
+  /**
+   * Indicates whether there is any work for a delivery thread to perform for
+   * this handler.
+   *
+   * @return  {@code true} if there is work for a delivery thread to perform,
+   *          or {@code false} if not.
+   */
+  private boolean hasPendingWork()
+  {
+    if (readsSuspended.get() && canResumeReads())
+    {
+      return true;
+    }
+    else if (responseQueue.isEmpty())
+    {
+      return readFailed;
+    }
+    else
+    {
+      return (! connectionReader.readingPaused());
+    }
+  }
+
+
+
+  /**
+   * Deregisters the channel from the selector thread and puts it in blocking
+   * mode so that a dedicated connection reader thread can be used to read
+   * from it.  This must not be called by the selector thread, and the channel
+   * must not be registered with any other selector.
+   *
+   * @throws  LDAPException  If a problem occurs while detaching the channel.
+   */
+  void detach()
+       throws LDAPException
+  {
+    selectorThread.detach(this);
+
+    try
+    {
+      while (! detachLatch.await(100L, TimeUnit.MILLISECONDS))
+      {
+        if (! selectorThread.isRunning())
+        {
+          break;
+        }
+      }
+
+      channel.configureBlocking(true);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      if (e instanceof InterruptedException)
+      {
+        Thread.currentThread().interrupt();
+      }
+
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_NIO_READER_CANNOT_DETACH.get(connection.getHostPort(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Indicates that the channel has been deregistered from the selector thread.
+   * This must only be called by the selector thread.
+   */
+  void detachComplete()
+  {
+    stopped = true;
+    connectionReader.setNIOHandler(null);
+    if (framer.getBufferedLength() > 0)
+    {
+      // This should not happen, since the server should not send anything
+      // while the connection is being secured.
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           ERR_NIO_READER_PARTIAL_MESSAGE_AT_END_OF_INPUT.get(
+                connection.getHostPort(), framer.getBufferedLength()));
+    }
+
+    framer.clear();
+    detachLatch.countDown();
+  }
+}
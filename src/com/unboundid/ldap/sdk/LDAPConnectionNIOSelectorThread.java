@@ -0,0 +1,378 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a thread that uses an NIO selector to read responses
+ * from any number of {@link LDAPConnection} instances that have been
+ * configured to use NIO.  A small group of these threads is shared by all such
+ * connections in the JVM, and connections are assigned to them in a
+ * round-robin manner.  The threads in the group are created lazily, and will
+ * be replaced if they exit for any reason.  These threads only read and decode
+ * responses.  They never invoke response acceptors or listeners, which are
+ * instead called by the delivery threads used by
+ * {@link LDAPConnectionNIOHandler}, so that a listener that blocks cannot
+ * prevent responses from being read for other connections.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPConnectionNIOSelectorThread
+      extends Thread
+{
+  /**
+   * The size in bytes of the buffer used to read data from connections.
+   */
+  private static final int READ_BUFFER_SIZE = 65_536;
+
+
+
+  /**
+   * The number of selector threads in the shared group.
+   */
+  static final int NUM_SELECTOR_THREADS =
+       Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+
+
+  /**
+   * The selector threads in the shared group.  Elements will be {@code null}
+   * until the corresponding thread is first needed.
+   */
+  @NotNull private static final LDAPConnectionNIOSelectorThread[]
+       SELECTOR_THREADS =
+            new LDAPConnectionNIOSelectorThread[NUM_SELECTOR_THREADS];
+
+
+
+  // The index of the selector thread to which the next connection will be
+  // assigned.
+  private static int nextSelectorThread = 0;
+
+
+
+  // Indicates whether a request has been received to stop running.
+  @NotNull private final AtomicBoolean stopRequested;
+
+  // The buffer that will be used to read data from connections.
+  @NotNull private final ByteBuffer readBuffer;
+
+  // The handlers for connections that need to be registered with the selector.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnectionNIOHandler>
+       pendingRegistrations;
+
+  // The handlers for connections that need to be deregistered from the
+  // selector.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnectionNIOHandler>
+       pendingDetaches;
+
+  // The handlers for connections that need to resume reading after having
+  // been suspended.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnectionNIOHandler>
+       pendingResumes;
+
+  // The selector used to multiplex reads across connections.
+  @NotNull private final Selector selector;
+
+
+
+  /**
+   * Creates a new selector thread with the provided name.  The thread will not
+   * be started.
+   *
+   * @param  name  The name to use for the thread.
+   *
+   * @throws  IOException  If a problem occurs while opening the selector.
+   */
+  private LDAPConnectionNIOSelectorThread(@NotNull final String name)
+          throws IOException
+  {
+    setName(name);
+    setDaemon(true);
+
+    selector = Selector.open();
+    stopRequested = new AtomicBoolean(false);
+    readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    pendingRegistrations = new ConcurrentLinkedQueue<>();
+    pendingDetaches = new ConcurrentLinkedQueue<>();
+    pendingResumes = new ConcurrentLinkedQueue<>();
+  }
+
+
+
+  /**
+   * Retrieves the selector thread from the shared group to which the next
+   * connection should be assigned, creating and starting it if necessary.
+   *
+   * @return  The selector thread to which the next connection should be
+   *          assigned.
+   *
+   * @throws  IOException  If a problem occurs while creating a new selector
+   *                       thread.
+   */
+  @NotNull()
+  static synchronized LDAPConnectionNIOSelectorThread getSelectorThread()
+         throws IOException
+  {
+    final int slot = nextSelectorThread;
+    nextSelectorThread = (slot + 1) % NUM_SELECTOR_THREADS;
+
+    LDAPConnectionNIOSelectorThread t = SELECTOR_THREADS[slot];
+    if ((t == null) || t.stopRequested.get())
+    {
+      t = new LDAPConnectionNIOSelectorThread(
+           "LDAP SDK NIO Selector Thread " + slot);
+      t.start();
+      SELECTOR_THREADS[slot] = t;
+    }
+
+    return t;
+  }
+
+
+
+  /**
+   * Registers the provided connection handler with this selector thread so
+   * that responses will be read from its connection.
+   *
+   * @param  handler  The connection handler to be registered.
+   */
+  void register(@NotNull final LDAPConnectionNIOHandler handler)
+  {
+    pendingRegistrations.add(handler);
+    selector.wakeup();
+
+    if (stopRequested.get() && pendingRegistrations.remove(handler))
+    {
+      handler.selectorThreadStopped();
+    }
+  }
+
+
+
+  /**
+   * Requests that the provided connection handler be deregistered from this
+   * selector thread so that its channel may be switched to blocking mode.  The
+   * handler will be notified once this has been done.
+   *
+   * @param  handler  The connection handler to be deregistered.
+   */
+  void detach(@NotNull final LDAPConnectionNIOHandler handler)
+  {
+    pendingDetaches.add(handler);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Requests that the provided connection handler resume reading from its
+   * channel after reading had been paused.
+   *
+   * @param  handler  The connection handler for which to resume reading.
+   */
+  void resume(@NotNull final LDAPConnectionNIOHandler handler)
+  {
+    pendingResumes.add(handler);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Indicates whether this selector thread is still running.
+   *
+   * @return  {@code true} if this selector thread is still running, or
+   *          {@code false} if it has stopped.
+   */
+  boolean isRunning()
+  {
+    return (isAlive() && (! stopRequested.get()));
+  }
+
+
+
+  /**
+   * Operates in a loop, waiting for data to become available on any of the
+   * registered connections and reading it when it is.  This method is for
+   * internal use only and must not be called by third-party code.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void run()
+  {
+    try
+    {
+      while (! stopRequested.get())
+      {
+        try
+        {
+          selector.select();
+        }
+        catch (final IOException ioe)
+        {
+          Debug.debugException(ioe);
+          return;
+        }
+
+        LDAPConnectionNIOHandler handler = pendingRegistrations.poll();
+        while (handler != null)
+        {
+          try
+          {
+            handler.setSelectionKey(handler.getChannel().register(selector,
+                 SelectionKey.OP_READ, handler));
+          }
+          catch (final Exception e)
+          {
+            // This will happen if the connection was closed before it could be
+            // registered.
+            Debug.debugException(e);
+            handler.selectorThreadStopped();
+          }
+
+          handler = pendingRegistrations.poll();
+        }
+
+        handler = pendingDetaches.poll();
+        while (handler != null)
+        {
+          final SelectionKey key = handler.getSelectionKey();
+          if (key != null)
+          {
+            key.cancel();
+
+            try
+            {
+              // Cancelled keys are only deregistered during a selection
+              // operation, and the channel can't be put in blocking mode until
+              // that has happened.
+              selector.selectNow();
+            }
+            catch (final IOException ioe)
+            {
+              Debug.debugException(ioe);
+            }
+          }
+
+          handler.detachComplete();
+          handler = pendingDetaches.poll();
+        }
+
+        handler = pendingResumes.poll();
+        while (handler != null)
+        {
+          handler.resumeComplete();
+          handler = pendingResumes.poll();
+        }
+
+        final Iterator<SelectionKey> iterator =
+             selector.selectedKeys().iterator();
+        while (iterator.hasNext())
+        {
+          final SelectionKey key = iterator.next();
+          iterator.remove();
+
+          if (key.isValid() && key.isReadable())
+          {
+            ((LDAPConnectionNIOHandler) key.attachment()).
+                 readAvailableData(readBuffer);
+          }
+        }
+      }
+    }
+    finally
+    {
+      stopRequested.set(true);
+
+      final ArrayList<LDAPConnectionNIOHandler> handlers =
+           new ArrayList<>(pendingRegistrations);
+      pendingRegistrations.clear();
+      try
+      {
+        for (final SelectionKey key : selector.keys())
+        {
+          if (key.isValid())
+          {
+            handlers.add((LDAPConnectionNIOHandler) key.attachment());
+          }
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      try
+      {
+        selector.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      for (final LDAPConnectionNIOHandler h : handlers)
+      {
+        h.selectorThreadStopped();
+      }
+
+      LDAPConnectionNIOHandler h = pendingDetaches.poll();
+      while (h != null)
+      {
+        h.detachComplete();
+        h = pendingDetaches.poll();
+      }
+    }
+  }
+}
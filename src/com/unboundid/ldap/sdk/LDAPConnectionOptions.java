@@ -155,6 +155,10 @@ import com.unboundid.util.ssl.TrustAllSSLSocketVerifier;
  *       information about requests sent and responses received over
  *       connections with this set of options.  By default, no
  *       {@code LDAPConnectionLogger} will be used.</LI>
+ *   <LI>The {@link LDAPMetricsRegistry} that should be used to maintain
+ *       metrics about the operations processed on connections with this set
+ *       of options.  By default, no {@code LDAPMetricsRegistry} will be
+ *       used.</LI>
  *   <LI>The {@link DisconnectHandler} that should be used to receive
  *       notification if connection is disconnected for any reason.  By default,
  *       no {@code DisconnectHandler} will be used.</LI>
@@ -572,6 +576,180 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use virtual threads" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then a default value of
+   * "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseVirtualThreads".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_VIRTUAL_THREADS =
+       PROPERTY_PREFIX + "defaultUseVirtualThreads";
+
+
+
+  /**
+   * The default value for the setting that controls whether to attempt to use
+   * a virtual thread rather than a platform thread for reading responses from
+   * the server.  If the {@link #PROPERTY_DEFAULT_USE_VIRTUAL_THREADS} system
+   * property is set at the time this class is loaded, then its value will be
+   * used.  Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_VIRTUAL_THREADS =
+       getSystemProperty(PROPERTY_DEFAULT_USE_VIRTUAL_THREADS, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use NIO" behavior.  If this property is set at the
+   * time that this class is loaded, then its value must be either "true" or
+   * "false".  If this property is not set, then a default value of "false" will
+   * be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseNIO".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_NIO =
+       PROPERTY_PREFIX + "defaultUseNIO";
+
+
+
+  /**
+   * The default value for the setting that controls whether to read responses
+   * from the server using a shared group of NIO selector threads rather than a
+   * dedicated reader thread for each connection.  If the
+   * {@link #PROPERTY_DEFAULT_USE_NIO} system property is set at the time this
+   * class is loaded, then its value will be used.  Otherwise, a default value
+   * of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_NIO =
+       getSystemProperty(PROPERTY_DEFAULT_USE_NIO, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the number of
+   * threads in the shared pool used to deliver responses read by NIO selector
+   * threads.  If this property is set at the time that this class is loaded,
+   * then its value must be a positive integer.  If this property is not set,
+   * then a default of twice the number of available processors (but no fewer
+   * than eight threads) will be used.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.nioDeliveryThreads".
+   */
+  @NotNull public static final String PROPERTY_NIO_DELIVERY_THREADS =
+       PROPERTY_PREFIX + "nioDeliveryThreads";
+
+
+
+  /**
+   * The number of threads in the shared pool used to deliver responses read by
+   * NIO selector threads.  If the {@link #PROPERTY_NIO_DELIVERY_THREADS}
+   * property is set at the time this class is loaded, then its value will be
+   * used.  Otherwise, a default of twice the number of available processors
+   * (but no fewer than eight threads) will be used.
+   */
+  static final int NIO_DELIVERY_THREADS = Math.max(1,
+       getSystemProperty(PROPERTY_NIO_DELIVERY_THREADS,
+            Math.max(8, (2 * Runtime.getRuntime().availableProcessors()))));
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "coalesce writes" behavior.  If this property is set
+   * at the time that this class is loaded, then its value must be either "true"
+   * or "false".  If this property is not set, then a default value of "false"
+   * will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultCoalesceWrites".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_COALESCE_WRITES =
+       PROPERTY_PREFIX + "defaultCoalesceWrites";
+
+
+
+  /**
+   * The default value for the setting that controls whether requests sent
+   * concurrently by multiple threads over the same connection may be written
+   * and flushed in batches.  If the {@link #PROPERTY_DEFAULT_COALESCE_WRITES}
+   * system property is set at the time this class is loaded, then its value
+   * will be used.  Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_COALESCE_WRITES =
+       getSystemProperty(PROPERTY_DEFAULT_COALESCE_WRITES, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use zero-copy search entry decoding" behavior.  If
+   * this property is set at the time that this class is loaded, then its value
+   * must be either "true" or "false".  If this property is not set, then a
+   * default value of "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * defaultUseZeroCopySearchEntryDecoding".
+   */
+  @NotNull public static final String
+       PROPERTY_DEFAULT_USE_ZERO_COPY_SEARCH_ENTRY_DECODING =
+            PROPERTY_PREFIX + "defaultUseZeroCopySearchEntryDecoding";
+
+
+
+  /**
+   * The default value for the setting that controls whether search result
+   * entries should be decoded from a single buffer holding the entire encoded
+   * entry, with attribute values referencing that buffer rather than being
+   * copied into arrays of their own.  If the
+   * {@link #PROPERTY_DEFAULT_USE_ZERO_COPY_SEARCH_ENTRY_DECODING} system
+   * property is set at the time this class is loaded, then its value will be
+   * used.  Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_ZERO_COPY_SEARCH_ENTRY_DECODING =
+       getSystemProperty(PROPERTY_DEFAULT_USE_ZERO_COPY_SEARCH_ENTRY_DECODING,
+            false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "lazily decode search entry attributes" behavior.
+   * If this property is set at the time that this class is loaded, then its
+   * value must be either "true" or "false".  If this property is not set, then
+   * a default value of "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * defaultLazilyDecodeSearchEntryAttributes".
+   */
+  @NotNull public static final String
+       PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRY_ATTRIBUTES =
+            PROPERTY_PREFIX + "defaultLazilyDecodeSearchEntryAttributes";
+
+
+
+  /**
+   * The default value for the setting that controls whether the values of
+   * attributes in search result entries should not be decoded until they are
+   * first accessed.  If the
+   * {@link #PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRY_ATTRIBUTES} system
+   * property is set at the time this class is loaded, then its value will be
+   * used.  Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_LAZILY_DECODE_SEARCH_ENTRY_ATTRIBUTES =
+       getSystemProperty(PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRY_ATTRIBUTES,
+            false);
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the "use TCP nodelay" behavior.  If this property is set
@@ -1218,6 +1396,22 @@ public final class LDAPConnectionOptions
   // the server.
   private boolean useSchema;
 
+  // Indicates whether to read responses from the server using a shared group
+  // of NIO selector threads rather than a dedicated reader thread.
+  private boolean useNIO;
+
+  // Indicates whether requests sent concurrently by multiple threads over the
+  // same connection may be written and flushed in batches.
+  private boolean coalesceWrites;
+
+  // Indicates whether search result entries should be decoded from a single
+  // buffer, with attribute values referencing that buffer.
+  private boolean useZeroCopySearchEntryDecoding;
+
+  // Indicates whether the values of attributes in search result entries should
+  // not be decoded until they are first accessed.
+  private boolean lazilyDecodeSearchEntryAttributes;
+
   // Indicates whether to use synchronous mode in which only a single operation
   // may be in progress on associated connections at any given time.
   private boolean useSynchronousMode;
@@ -1225,6 +1419,10 @@ public final class LDAPConnectionOptions
   // Indicates whether to use TCP_NODELAY for the underlying sockets.
   private boolean useTCPNoDelay;
 
+  // Indicates whether to attempt to use a virtual thread rather than a
+  // platform thread for reading responses from the server.
+  private boolean useVirtualThreads;
+
   // The disconnect handler for associated connections.
   @Nullable private DisconnectHandler disconnectHandler;
 
@@ -1252,6 +1450,10 @@ public final class LDAPConnectionOptions
   // options.
   @Nullable private LDAPConnectionLogger connectionLogger;
 
+  // The metrics registry that should be used to maintain metrics about the
+  // operations processed on connections with this set of options.
+  @Nullable private LDAPMetricsRegistry metricsRegistry;
+
   // The pooled schema timeout, in milliseconds.
   private long pooledSchemaTimeoutMillis;
 
@@ -1298,6 +1500,13 @@ public final class LDAPConnectionOptions
     useSchema                      = DEFAULT_USE_SCHEMA;
     useSynchronousMode             = DEFAULT_USE_SYNCHRONOUS_MODE;
     useTCPNoDelay                  = DEFAULT_USE_TCP_NODELAY;
+    useVirtualThreads              = DEFAULT_USE_VIRTUAL_THREADS;
+    useNIO                         = DEFAULT_USE_NIO;
+    coalesceWrites                 = DEFAULT_COALESCE_WRITES;
+    useZeroCopySearchEntryDecoding =
+         DEFAULT_USE_ZERO_COPY_SEARCH_ENTRY_DECODING;
+    lazilyDecodeSearchEntryAttributes =
+         DEFAULT_LAZILY_DECODE_SEARCH_ENTRY_ATTRIBUTES;
     connectTimeoutMillis           = DEFAULT_CONNECT_TIMEOUT_MILLIS;
     lingerTimeoutSeconds           = DEFAULT_LINGER_TIMEOUT_SECONDS;
     maxMessageSizeBytes            = DEFAULT_MAX_MESSAGE_SIZE_BYTES;
@@ -1307,6 +1516,7 @@ public final class LDAPConnectionOptions
     receiveBufferSizeBytes         = DEFAULT_RECEIVE_BUFFER_SIZE_BYTES;
     sendBufferSizeBytes            = DEFAULT_SEND_BUFFER_SIZE_BYTES;
     connectionLogger               = null;
+    metricsRegistry                = null;
     disconnectHandler              = null;
     referralConnector              = null;
     sslSocketVerifier              = DEFAULT_SSL_SOCKET_VERIFIER;
@@ -1348,6 +1558,12 @@ public final class LDAPConnectionOptions
     o.useSchema                       = useSchema;
     o.useSynchronousMode              = useSynchronousMode;
     o.useTCPNoDelay                   = useTCPNoDelay;
+    o.useVirtualThreads               = useVirtualThreads;
+    o.useNIO                          = useNIO;
+    o.coalesceWrites                  = coalesceWrites;
+    o.useZeroCopySearchEntryDecoding  = useZeroCopySearchEntryDecoding;
+    o.lazilyDecodeSearchEntryAttributes =
+         lazilyDecodeSearchEntryAttributes;
     o.connectTimeoutMillis            = connectTimeoutMillis;
     o.lingerTimeoutSeconds            = lingerTimeoutSeconds;
     o.maxMessageSizeBytes             = maxMessageSizeBytes;
@@ -1356,6 +1572,7 @@ public final class LDAPConnectionOptions
     o.referralConnector               = referralConnector;
     o.referralHopLimit                = referralHopLimit;
     o.connectionLogger                = connectionLogger;
+    o.metricsRegistry                 = metricsRegistry;
     o.disconnectHandler               = disconnectHandler;
     o.unsolicitedNotificationHandler  = unsolicitedNotificationHandler;
     o.receiveBufferSizeBytes          = receiveBufferSizeBytes;
@@ -2093,6 +2310,251 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether to attempt to use a virtual thread rather than a
+   * platform thread for reading responses from the server.  Virtual threads
+   * are only available in Java 21 and later, and if they are not supported by
+   * the JVM, then a platform thread will be used instead.  This will not have
+   * any effect for connections operating in synchronous mode, since those
+   * connections do not use a separate reader thread.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.  Once the connection has been
+   * established, then it will continue to use the type of thread that was
+   * selected at the time it was connected.
+   *
+   * @return  {@code true} if associated connections should attempt to use
+   *          virtual threads for reading responses from the server, or
+   *          {@code false} if they should always use platform threads.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether to attempt to use a virtual thread rather than a
+   * platform thread for reading responses from the server.  Virtual threads
+   * are only available in Java 21 and later, and if they are not supported by
+   * the JVM, then a platform thread will be used instead.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.  Once the connection has been
+   * established, then it will continue to use the type of thread that was
+   * selected at the time it was connected.
+   *
+   * @param  useVirtualThreads  Indicates whether to attempt to use virtual
+   *                            threads for reading responses from the server.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
+  /**
+   * Indicates whether to read responses from the server using a small group of
+   * NIO selector threads that is shared by all connections in the JVM, rather
+   * than a dedicated reader thread for each connection.  This can
+   * significantly reduce the number of threads needed by applications that
+   * maintain a large number of connections.  The selector threads only read
+   * and decode responses.  Any {@link AsyncResultListener},
+   * {@link SearchResultListener}, {@link IntermediateResponseListener}, or
+   * {@link UnsolicitedNotificationHandler} is invoked by a thread from a shared
+   * pool with a fixed maximum size (controlled by the
+   * {@link #PROPERTY_NIO_DELIVERY_THREADS} system property), and responses for
+   * any single connection are delivered by at most one thread at a time and in
+   * the order they were received.  As with a dedicated reader thread, a
+   * listener that blocks will delay the delivery of all subsequent responses on
+   * the same connection (and must therefore not wait for the result of another
+   * operation on that connection).  Because the delivery threads are shared,
+   * listeners should also avoid blocking for long periods of time, since
+   * responses for other NIO-based connections cannot be delivered while all
+   * of the delivery threads are busy.
+   * <BR><BR>
+   * This setting will only be used for connections created with the
+   * JVM-default socket factory that are not operating in synchronous mode.
+   * Other connections will continue to use a dedicated reader thread.  If an
+   * NIO-based connection is later secured with StartTLS or SASL integrity or
+   * confidentiality, then it will be switched to use a dedicated reader thread
+   * at that time.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.  Once the connection has been
+   * established, then it will continue to use the mechanism that was selected
+   * at the time it was connected.
+   *
+   * @return  {@code true} if associated connections should use shared NIO
+   *          selector threads for reading responses from the server, or
+   *          {@code false} if they should use a dedicated reader thread.
+   */
+  public boolean useNIO()
+  {
+    return useNIO;
+  }
+
+
+
+  /**
+   * Specifies whether to read responses from the server using a small group of
+   * NIO selector threads that is shared by all connections in the JVM, rather
+   * than a dedicated reader thread for each connection.  See the
+   * {@link #useNIO()} method for details about the conditions under which this
+   * setting will be used.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.  Once the connection has been
+   * established, then it will continue to use the mechanism that was selected
+   * at the time it was connected.
+   *
+   * @param  useNIO  Indicates whether to use shared NIO selector threads for
+   *                 reading responses from the server.
+   */
+  public void setUseNIO(final boolean useNIO)
+  {
+    this.useNIO = useNIO;
+  }
+
+
+
+  /**
+   * Indicates whether requests sent concurrently by multiple threads over the
+   * same connection may be coalesced so that they are written to the server
+   * and flushed in batches rather than individually.  When this is enabled, a
+   * thread sending a request will add the encoded request to a queue, and
+   * whichever thread currently holds the connection's write lock will write
+   * all queued requests and flush the output stream once for the entire batch.
+   * No artificial delay is introduced while waiting for other requests, so
+   * this can reduce the number of system calls and packets needed by
+   * applications with many threads sharing a single connection without
+   * adding latency when there is no contention.
+   * <BR><BR>
+   * This setting will not be used for connections operating in synchronous
+   * mode, or for requests sent over a connection that uses SASL integrity or
+   * confidentiality protection.  Note that this connection option must be set
+   * on the connection before any attempt is made to establish the connection.
+   *
+   * @return  {@code true} if concurrently-sent requests may be written and
+   *          flushed in batches, or {@code false} if each request should be
+   *          written and flushed individually.
+   */
+  public boolean coalesceWrites()
+  {
+    return coalesceWrites;
+  }
+
+
+
+  /**
+   * Specifies whether requests sent concurrently by multiple threads over the
+   * same connection may be coalesced so that they are written to the server
+   * and flushed in batches rather than individually.  See the
+   * {@link #coalesceWrites()} method for details about this setting.
+   *
+   * @param  coalesceWrites  Indicates whether requests sent concurrently by
+   *                         multiple threads may be written and flushed in
+   *                         batches.
+   */
+  public void setCoalesceWrites(final boolean coalesceWrites)
+  {
+    this.coalesceWrites = coalesceWrites;
+  }
+
+
+
+  /**
+   * Indicates whether search result entries read from the server should be
+   * decoded from a single buffer holding the entire encoded entry.  When this
+   * is enabled, the encoded entry will be read into one array, and the values
+   * of its attributes will be views into that array rather than being copied
+   * into arrays of their own.  This can substantially reduce the number of
+   * objects allocated when reading entries with many values (for example,
+   * large static groups), at the expense of retaining the entire encoded entry
+   * in memory for as long as any of its attribute values is referenced.
+   * <BR><BR>
+   * Search result entries decoded in this manner behave exactly like any other
+   * entry.  A value that is retrieved as a byte array will be copied out of the
+   * shared buffer the first time it is requested.
+   *
+   * @return  {@code true} if search result entries should be decoded from a
+   *          single buffer, or {@code false} if each attribute value should be
+   *          read into its own array.
+   */
+  public boolean useZeroCopySearchEntryDecoding()
+  {
+    return useZeroCopySearchEntryDecoding;
+  }
+
+
+
+  /**
+   * Specifies whether search result entries read from the server should be
+   * decoded from a single buffer holding the entire encoded entry.  See the
+   * {@link #useZeroCopySearchEntryDecoding()} method for details about this
+   * setting.
+   *
+   * @param  useZeroCopySearchEntryDecoding  Indicates whether search result
+   *                                         entries should be decoded from a
+   *                                         single buffer.
+   */
+  public void setUseZeroCopySearchEntryDecoding(
+                   final boolean useZeroCopySearchEntryDecoding)
+  {
+    this.useZeroCopySearchEntryDecoding = useZeroCopySearchEntryDecoding;
+  }
+
+
+
+  /**
+   * Indicates whether the values of attributes in search result entries read
+   * from the server should not be decoded until they are first accessed.  When
+   * this is enabled, each entry will be read into a single array as with
+   * {@link #useZeroCopySearchEntryDecoding()}, and only the names of its
+   * attributes will be decoded up front.  The values of an attribute will be
+   * validated but not decoded until they are first requested (for example,
+   * through the {@code getAttribute} or {@code getAttributeValue} methods),
+   * after which the decoded values will be retained.  This can substantially
+   * reduce the cost of processing entries when the search requests many
+   * attributes but the application only examines a few of them.
+   * <BR><BR>
+   * When this setting is enabled, search result entries will be decoded from
+   * a single buffer regardless of the value of the
+   * {@link #useZeroCopySearchEntryDecoding()} setting.
+   *
+   * @return  {@code true} if the values of attributes in search result entries
+   *          should not be decoded until they are first accessed, or
+   *          {@code false} if they should be decoded as soon as each entry is
+   *          read.
+   */
+  public boolean lazilyDecodeSearchEntryAttributes()
+  {
+    return lazilyDecodeSearchEntryAttributes;
+  }
+
+
+
+  /**
+   * Specifies whether the values of attributes in search result entries read
+   * from the server should not be decoded until they are first accessed.  See
+   * the {@link #lazilyDecodeSearchEntryAttributes()} method for details about
+   * this setting.
+   *
+   * @param  lazilyDecodeSearchEntryAttributes  Indicates whether the values of
+   *                                            attributes in search result
+   *                                            entries should not be decoded
+   *                                            until they are first accessed.
+   */
+  public void setLazilyDecodeSearchEntryAttributes(
+                   final boolean lazilyDecodeSearchEntryAttributes)
+  {
+    this.lazilyDecodeSearchEntryAttributes = lazilyDecodeSearchEntryAttributes;
+  }
+
+
+
   /**
    * Indicates whether to use the TCP_NODELAY option for the underlying sockets
    * used by associated connections.
@@ -2300,6 +2762,44 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Retrieves the metrics registry that should be used to maintain metrics
+   * about the operations processed on connections with this set of connection
+   * options.
+   *
+   * @return  The metrics registry that should be used to maintain metrics
+   *          about the operations processed on connections with this set of
+   *          options, or {@code null} if no metrics should be maintained.
+   */
+  @Nullable()
+  public LDAPMetricsRegistry getMetricsRegistry()
+  {
+    return metricsRegistry;
+  }
+
+
+
+  /**
+   * Specifies the metrics registry that should be used to maintain metrics
+   * about the operations processed on connections with this set of connection
+   * options.  The registry will be updated with the server, operation type,
+   * result code, and response time for each operation that completes on those
+   * connections.
+   *
+   * @param  metricsRegistry  The metrics registry that should be used to
+   *                          maintain metrics about the operations processed
+   *                          on connections with this set of options.  It may
+   *                          be {@code null} if no metrics should be
+   *                          maintained.
+   */
+  public void setMetricsRegistry(
+                   @Nullable final LDAPMetricsRegistry metricsRegistry)
+  {
+    this.metricsRegistry = metricsRegistry;
+  }
+
+
+
   /**
    * Retrieves the disconnect handler to use for associated connections.
    *
@@ -2764,6 +3264,16 @@ public final class LDAPConnectionOptions
     buffer.append(useSynchronousMode);
     buffer.append(", useTCPNoDelay=");
     buffer.append(useTCPNoDelay);
+    buffer.append(", useVirtualThreads=");
+    buffer.append(useVirtualThreads);
+    buffer.append(", useNIO=");
+    buffer.append(useNIO);
+    buffer.append(", coalesceWrites=");
+    buffer.append(coalesceWrites);
+    buffer.append(", useZeroCopySearchEntryDecoding=");
+    buffer.append(useZeroCopySearchEntryDecoding);
+    buffer.append(", lazilyDecodeSearchEntryAttributes=");
+    buffer.append(lazilyDecodeSearchEntryAttributes);
     buffer.append(", captureConnectStackTrace=");
     buffer.append(captureConnectStackTrace);
     buffer.append(", connectTimeoutMillis=");
@@ -2806,6 +3316,12 @@ public final class LDAPConnectionOptions
       buffer.append(connectionLogger.getClass().getName());
     }
 
+    if (metricsRegistry != null)
+    {
+      buffer.append(", metricsRegistry=");
+      metricsRegistry.toString(buffer);
+    }
+
     if (disconnectHandler != null)
     {
       buffer.append(", disconnectHandlerClass=");
@@ -45,7 +45,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -205,6 +204,45 @@ import static com.unboundid.ldap.sdk.LDAPMessages.*;
  * {@link #setMaxWaitTimeMillis(long)} method to specify a maximum wait time to
  * allow the pool to wait for a connection to become available rather than
  * throwing an exception if no connections are immediately available.
+ * <BR><BR>
+ * <H2>Routing Checkouts Across Servers</H2>
+ * By default, a connection pool created with a {@link ServerSet} keeps the
+ * connections to all servers together, so the distribution of operations
+ * across servers depends only on how the server set distributed the
+ * connections when they were established.  If a
+ * {@link LDAPConnectionPoolRoutingPolicy} is provided via the
+ * {@link #setRoutingPolicy} method, then the pool will instead keep a
+ * separate sub-pool of available connections for each server, and the routing
+ * policy will select the server that should provide each connection that is
+ * checked out.  For example:
+ * <PRE>
+ *   connectionPool.setRoutingPolicy(
+ *        new LeastOutstandingOperationsRoutingPolicy());
+ * </PRE>
+ * When a routing policy is configured, the pool will also try to keep the
+ * number of connections to each server balanced as servers join or leave.  If
+ * a server has fewer connections than others (for example, because a new
+ * server set was provided), then background health checking will retire
+ * available connections to the server with the most connections and replace
+ * them with connections to that server.  The {@link #rebalanceConnections}
+ * method may be used to do this on demand.  The sub-pool for a server is
+ * discarded once the pool no longer has any connections to it (for example,
+ * after the server has left the server set), which is checked whenever the
+ * server set is changed and during background health checking.
+ * <BR><BR>
+ * <H2>Proactive Pool Sizing</H2>
+ * By default, new connections are only created when they are needed (for
+ * example, when a connection is requested but none are available, or when a
+ * defunct connection must be replaced), so a sudden increase in demand may
+ * cause checkouts to wait while connections are established.  If an
+ * {@link LDAPConnectionPoolSizingPolicy} is provided via the
+ * {@link #setSizingPolicy} method, then a background thread will monitor
+ * checkout wait times and utilization, will establish connections in parallel
+ * before they are needed, and will gradually retire connections that are no
+ * longer needed.  For example:
+ * <PRE>
+ *   connectionPool.setSizingPolicy(new LDAPConnectionPoolSizingPolicy(5));
+ * </PRE>
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class LDAPConnectionPool
@@ -242,6 +280,10 @@ public final class LDAPConnectionPool
   // Indicates whether this connection pool has been closed.
   private volatile boolean closed;
 
+  // Indicates whether the connections should be rebalanced across servers
+  // during the next health check, even if they appear to be balanced.
+  private volatile boolean rebalanceNeeded;
+
   // Indicates whether to create a new connection if necessary rather than
   // waiting for a connection to become available.
   private boolean createIfNecessary;
@@ -274,11 +316,15 @@ public final class LDAPConnectionPool
   // for this connection pool.
   @NotNull private final LDAPConnectionPoolHealthCheckThread healthCheckThread;
 
+  // The thread that will be used to proactively adjust the number of available
+  // connections in accordance with the sizing policy, if one is configured.
+  @Nullable private volatile LDAPConnectionPoolSizingThread sizingThread;
+
   // The statistics for this connection pool.
   @NotNull private final LDAPConnectionPoolStatistics poolStatistics;
 
   // The set of connections that are currently available for use.
-  @NotNull private final LinkedBlockingQueue<LDAPConnection>
+  @NotNull private final LDAPConnectionPoolAvailableConnections
        availableConnections;
 
   // The length of time in milliseconds between periodic health checks against
@@ -654,7 +700,9 @@ public final class LDAPConnectionPool
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     numConnections            = maxConnections;
     minConnectionGoal         = 0;
-    availableConnections      = new LinkedBlockingQueue<>(numConnections);
+    sizingThread              = null;
+    availableConnections      =
+         new LDAPConnectionPoolAvailableConnections(numConnections);
 
     if (! connection.isConnected())
     {
@@ -1177,8 +1225,10 @@ public final class LDAPConnectionPool
     retryOperationTypes = new AtomicReference<>(
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     minConnectionGoal   = 0;
+    sizingThread        = null;
     numConnections = maxConnections;
-    availableConnections = new LinkedBlockingQueue<>(numConnections);
+    availableConnections =
+         new LDAPConnectionPoolAvailableConnections(numConnections);
 
     if (healthCheck == null)
     {
@@ -1291,6 +1341,7 @@ public final class LDAPConnectionPool
                 @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
           throws LDAPException
   {
+    final long createStartTime = System.nanoTime();
     final LDAPConnection c;
     try
     {
@@ -1504,6 +1555,8 @@ public final class LDAPConnectionPool
     // Finish setting up the connection.
     c.setConnectionPoolName(connectionPoolName);
     poolStatistics.incrementNumSuccessfulConnectionAttempts();
+    poolStatistics.recordConnectionCreationTime(
+         System.nanoTime() - createStartTime);
     Debug.debugConnectionPool(Level.INFO, this, c,
          "Successfully created a new pooled connection", null);
 
@@ -1535,6 +1588,12 @@ public final class LDAPConnectionPool
       closed = true;
       healthCheckThread.stopRunning(! healthCheckThreadAlreadySignaled);
 
+      final LDAPConnectionPoolSizingThread t = sizingThread;
+      if (t != null)
+      {
+        t.stopRunning(true);
+      }
+
       if (numThreads > 1)
       {
         final ArrayList<LDAPConnection> connList =
@@ -1772,6 +1831,28 @@ public final class LDAPConnectionPool
   @NotNull()
   public LDAPConnection getConnection()
          throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection();
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * Checks out a connection from the pool, creating a new connection or
+   * waiting for one to become available if necessary.
+   *
+   * @return  A connection checked out from the pool.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to obtain a
+   *                         connection.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection()
+          throws LDAPException
   {
     if (closed)
     {
@@ -1978,6 +2059,48 @@ public final class LDAPConnectionPool
       return null;
     }
 
+    // If the available connections are held in per-server sub-pools, then
+    // go directly to the sub-pool for the requested server.
+    if (availableConnections.getRoutingPolicy() != null)
+    {
+      while (true)
+      {
+        final LDAPConnection conn = availableConnections.poll(host, port);
+        if (conn == null)
+        {
+          poolStatistics.incrementNumFailedCheckouts();
+          Debug.debugConnectionPool(Level.WARNING, this, null,
+               "Failed to get an existing connection to " + host + ':' +
+                    port + " because none of the available connections are " +
+                    "established to that server",
+               null);
+          return null;
+        }
+
+        try
+        {
+          healthCheck.ensureConnectionValidForCheckout(conn);
+          poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
+          Debug.debugConnectionPool(Level.INFO, this, conn,
+               "Successfully checked out an existing connection to " +
+                    "requested server " + host + ':' + port,
+               null);
+          return conn;
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+          poolStatistics.incrementNumConnectionsClosedDefunct();
+          Debug.debugConnectionPool(Level.WARNING, this, conn,
+               "Closing an existing connection to requested server " + host +
+                    ':' + port + " because it failed the checkout health " +
+                    "check",
+               le);
+          handleDefunctConnection(conn);
+        }
+      }
+    }
+
     final HashSet<LDAPConnection> examinedConnections =
          new HashSet<>(StaticUtils.computeMapCapacity(numConnections));
     while (true)
@@ -2061,7 +2184,13 @@ public final class LDAPConnectionPool
     }
 
     connection.setConnectionPoolName(connectionPoolName);
-    if (checkConnectionAgeOnRelease && connectionIsExpired(connection))
+
+    // A connection may need to be replaced because it has expired, or because
+    // the server set would prefer that it be re-established to a different
+    // server.  In the latter case, it will be treated as expired.
+    final boolean expired =
+         checkConnectionAgeOnRelease && connectionIsExpired(connection);
+    if (expired || serverSet.shouldReplaceConnection(connection))
     {
       try
       {
@@ -2072,9 +2201,19 @@ public final class LDAPConnectionPool
                null, null);
           connection.terminate(null);
           poolStatistics.incrementNumConnectionsClosedExpired();
-          Debug.debugConnectionPool(Level.WARNING, this, connection,
-               "Closing a released connection because it is expired", null);
-          lastExpiredDisconnectTime = System.currentTimeMillis();
+          if (expired)
+          {
+            Debug.debugConnectionPool(Level.WARNING, this, connection,
+                 "Closing a released connection because it is expired", null);
+            lastExpiredDisconnectTime = System.currentTimeMillis();
+          }
+          else
+          {
+            Debug.debugConnectionPool(Level.WARNING, this, connection,
+                 "Closing a released connection because the server set " +
+                      "requested that it be replaced",
+                 null);
+          }
         }
         else
         {
@@ -2484,6 +2623,218 @@ public final class LDAPConnectionPool
   {
     Validator.ensureNotNull(serverSet);
     this.serverSet = serverSet;
+    rebalanceNeeded = true;
+    availableConnections.pruneServers();
+  }
+
+
+
+  /**
+   * Retrieves the routing policy that is used to select the server that should
+   * provide each connection checked out of this pool.
+   *
+   * @return  The routing policy that is used to select the server that should
+   *          provide each connection checked out of this pool, or {@code null}
+   *          if the available connections to all servers are kept together.
+   */
+  @Nullable()
+  public LDAPConnectionPoolRoutingPolicy getRoutingPolicy()
+  {
+    return availableConnections.getRoutingPolicy();
+  }
+
+
+
+  /**
+   * Specifies the routing policy that should be used to select the server that
+   * should provide each connection checked out of this pool.  If a routing
+   * policy is provided, then the available connections for each server will be
+   * held in a separate sub-pool.  The mode may be changed at any time, and
+   * connections that are already available will be moved into the appropriate
+   * structure as they are checked out and released.
+   *
+   * @param  routingPolicy  The routing policy that should be used to select the
+   *                        server that should provide each connection checked
+   *                        out of this pool.  It may be {@code null} if the
+   *                        available connections to all servers should be kept
+   *                        together.
+   */
+  public void setRoutingPolicy(
+              @Nullable final LDAPConnectionPoolRoutingPolicy routingPolicy)
+  {
+    availableConnections.setRoutingPolicy(routingPolicy);
+  }
+
+
+
+  /**
+   * Retrieves information about the servers for which this pool has per-server
+   * sub-pools, including the number of available connections and outstanding
+   * operations for each.  Sub-pools are only maintained while a routing policy
+   * is configured, and a sub-pool that no longer has any connections will be
+   * discarded when the server set is changed or during the next background
+   * health check.
+   *
+   * @return  Information about the servers for which this pool has per-server
+   *          sub-pools, or an empty list if there are none.
+   */
+  @NotNull()
+  public List<LDAPConnectionPoolServer> getPoolServers()
+  {
+    return Collections.unmodifiableList(availableConnections.getServers());
+  }
+
+
+
+  /**
+   * Attempts to balance the number of connections to each server for which
+   * this pool has a per-server sub-pool.  This will repeatedly use the server
+   * set to establish a new connection, and if that connection is to a server
+   * that has at least two fewer connections than the server with the most
+   * connections, then an available connection to the server with the most
+   * connections will be closed and replaced with the new connection.  This
+   * will stop as soon as the server set returns a connection to a server that
+   * would not improve the balance.
+   * <BR><BR>
+   * This method will have no effect if no routing policy is configured.  Note
+   * that it can only move connections to servers that the server set is
+   * willing to provide, so it works best with server sets like
+   * {@link RoundRobinServerSet} or {@link FewestConnectionsServerSet} that
+   * spread new connections across servers.
+   *
+   * @return  The number of connections that were moved from one server to
+   *          another.
+   */
+  public int rebalanceConnections()
+  {
+    rebalanceNeeded = false;
+    if (closed || (availableConnections.getRoutingPolicy() == null))
+    {
+      return 0;
+    }
+
+    int numMoved = 0;
+    final int maxAttempts = availableConnections.getServers().size() + 1;
+    for (int i=0; i < maxAttempts; i++)
+    {
+      // Find the server with the most connections that also has a connection
+      // that can be retired.
+      LDAPConnectionPoolServer mostLoadedServer = null;
+      for (final LDAPConnectionPoolServer s : availableConnections.getServers())
+      {
+        if ((s.getNumAvailableConnections() > 0) &&
+            ((mostLoadedServer == null) ||
+             (s.getNumConnections() > mostLoadedServer.getNumConnections())))
+        {
+          mostLoadedServer = s;
+        }
+      }
+
+      if ((mostLoadedServer == null) ||
+          (mostLoadedServer.getNumConnections() < 2))
+      {
+        break;
+      }
+
+      final LDAPConnection newConnection;
+      try
+      {
+        newConnection = createConnection();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        break;
+      }
+
+      int targetConnections = 0;
+      for (final LDAPConnectionPoolServer s : availableConnections.getServers())
+      {
+        if (s.getHost().equals(newConnection.getConnectedAddress()) &&
+            (s.getPort() == newConnection.getConnectedPort()))
+        {
+          targetConnections = s.getNumConnections();
+          break;
+        }
+      }
+
+      LDAPConnection retiredConnection = null;
+      if ((targetConnections + 1) < mostLoadedServer.getNumConnections())
+      {
+        retiredConnection = availableConnections.poll(
+             mostLoadedServer.getHost(), mostLoadedServer.getPort());
+      }
+
+      if (retiredConnection == null)
+      {
+        newConnection.setDisconnectInfo(
+             DisconnectType.POOLED_CONNECTION_UNNEEDED, null, null);
+        newConnection.terminate(null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        Debug.debugConnectionPool(Level.INFO, this, newConnection,
+             "Closing a connection created while rebalancing the pool " +
+                  "because it would not improve the balance",
+             null);
+        break;
+      }
+
+      retiredConnection.setDisconnectInfo(
+           DisconnectType.POOLED_CONNECTION_UNNEEDED, null, null);
+      retiredConnection.terminate(null);
+      poolStatistics.incrementNumConnectionsClosedUnneeded();
+      Debug.debugConnectionPool(Level.INFO, this, retiredConnection,
+           "Closing a connection to rebalance the pool across servers", null);
+
+      if (availableConnections.offer(newConnection))
+      {
+        numMoved++;
+      }
+      else
+      {
+        newConnection.setDisconnectInfo(
+             DisconnectType.POOLED_CONNECTION_UNNEEDED, null, null);
+        newConnection.terminate(null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        break;
+      }
+    }
+
+    return numMoved;
+  }
+
+
+
+  /**
+   * Indicates whether the connections in this pool should be rebalanced across
+   * servers, which will be the case if a routing policy is configured and
+   * either the server set has changed or there is a server with at least two
+   * fewer connections than the server with the most connections.
+   *
+   * @return  {@code true} if the connections in this pool should be
+   *          rebalanced, or {@code false} if not.
+   */
+  private boolean shouldRebalance()
+  {
+    if (availableConnections.getRoutingPolicy() == null)
+    {
+      return false;
+    }
+
+    if (rebalanceNeeded)
+    {
+      return true;
+    }
+
+    int minConnections = Integer.MAX_VALUE;
+    int maxConnections = 0;
+    for (final LDAPConnectionPoolServer s : availableConnections.getServers())
+    {
+      final int numServerConnections = s.getNumConnections();
+      minConnections = Math.min(minConnections, numServerConnections);
+      maxConnections = Math.max(maxConnections, numServerConnections);
+    }
+
+    return ((maxConnections - minConnections) > 1);
   }
 
 
@@ -2911,6 +3262,12 @@ public final class LDAPConnectionPool
   protected void doHealthCheck()
   {
     invokeHealthCheck(null, true);
+    availableConnections.pruneServers();
+
+    if (shouldRebalance())
+    {
+      rebalanceConnections();
+    }
   }
 
 
@@ -3378,6 +3735,196 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Retrieves the policy that is used to proactively adjust the number of
+   * available connections in this pool.
+   *
+   * @return  The policy that is used to proactively adjust the number of
+   *          available connections in this pool, or {@code null} if
+   *          connections will only be created as they are needed.
+   */
+  @Nullable()
+  public LDAPConnectionPoolSizingPolicy getSizingPolicy()
+  {
+    final LDAPConnectionPoolSizingThread t = sizingThread;
+    if (t == null)
+    {
+      return null;
+    }
+    else
+    {
+      return t.getPolicy();
+    }
+  }
+
+
+
+  /**
+   * Specifies the policy that should be used to proactively adjust the number
+   * of available connections in this pool.  If a policy is provided, then a
+   * background thread will periodically examine the checkout activity for the
+   * pool and will open connections in parallel before they are needed, or
+   * retire them once they are no longer needed, as described in the
+   * {@link LDAPConnectionPoolSizingPolicy} class documentation.  Any previously
+   * configured policy will be replaced.
+   *
+   * @param  sizingPolicy  The policy that should be used to proactively adjust
+   *                       the number of available connections in this pool.
+   *                       It may be {@code null} if connections should only be
+   *                       created as they are needed.
+   */
+  public synchronized void setSizingPolicy(
+              @Nullable final LDAPConnectionPoolSizingPolicy sizingPolicy)
+  {
+    final LDAPConnectionPoolSizingThread oldThread = sizingThread;
+    if (oldThread != null)
+    {
+      oldThread.stopRunning(true);
+      sizingThread = null;
+    }
+
+    if ((sizingPolicy != null) && (! closed))
+    {
+      final LDAPConnectionPoolSizingThread newThread =
+           new LDAPConnectionPoolSizingThread(this, sizingPolicy);
+      sizingThread = newThread;
+      newThread.start();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of additional connections that may be added to the
+   * set of available connections before it reaches the maximum size.
+   *
+   * @return  The number of additional connections that may be added to the set
+   *          of available connections.
+   */
+  int getRemainingAvailableCapacity()
+  {
+    return availableConnections.remainingCapacity();
+  }
+
+
+
+  /**
+   * Establishes the specified number of new connections in parallel and adds
+   * them to the set of available connections.  Any connection that cannot be
+   * added because the pool has become full in the meantime will be closed.
+   * Failures to establish connections will be ignored.
+   *
+   * @param  count       The number of connections to establish.
+   * @param  numThreads  The maximum number of threads to use to establish the
+   *                     connections.
+   *
+   * @return  The number of connections that were added to the pool.
+   */
+  int growAvailableConnections(final int count, final int numThreads)
+  {
+    if (closed || (count <= 0))
+    {
+      return 0;
+    }
+
+    final List<LDAPConnection> connList =
+         Collections.synchronizedList(new ArrayList<LDAPConnection>(count));
+    if ((count > 1) && (numThreads > 1))
+    {
+      final ParallelPoolConnector connector = new ParallelPoolConnector(this,
+           connList, count, Math.min(count, numThreads), false);
+      try
+      {
+        connector.establishConnections();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+    else
+    {
+      for (int i=0; i < count; i++)
+      {
+        try
+        {
+          connList.add(createConnection());
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+        }
+      }
+    }
+
+    int numAdded = 0;
+    for (final LDAPConnection conn : connList)
+    {
+      if ((! closed) && availableConnections.offer(conn))
+      {
+        numAdded++;
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Added a connection that was proactively created by the " +
+                  "sizing policy",
+             null);
+      }
+      else
+      {
+        conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+             null, null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Closing a connection that was proactively created by the " +
+                  "sizing policy, but the pool had already become full or " +
+                  "closed after the connection was created",
+             null);
+        conn.terminate(null);
+      }
+    }
+
+    return numAdded;
+  }
+
+
+
+  /**
+   * Closes up to the specified number of available connections because the
+   * sizing policy has determined that they are no longer needed.  Unlike the
+   * {@link #discardConnection} method, this will not cause the pool to create
+   * a replacement connection the next time one is needed but none are
+   * available.
+   *
+   * @param  count  The maximum number of connections to close.
+   *
+   * @return  The number of connections that were closed.
+   */
+  int retireAvailableConnections(final int count)
+  {
+    int numClosed = 0;
+    while (numClosed < count)
+    {
+      final LDAPConnection conn = availableConnections.poll();
+      if (conn == null)
+      {
+        break;
+      }
+
+      conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED, null,
+           null);
+      poolStatistics.incrementNumConnectionsClosedUnneeded();
+      Debug.debugConnectionPool(Level.INFO, this, conn,
+           "Retired an available connection that is no longer needed " +
+                "according to the sizing policy",
+           null);
+      conn.terminate(null);
+      numClosed++;
+    }
+
+    return numClosed;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -3462,6 +4009,22 @@ public final class LDAPConnectionPool
 
     buffer.append("serverSet=");
     serverSet.toString(buffer);
+
+    final LDAPConnectionPoolRoutingPolicy routingPolicy =
+         availableConnections.getRoutingPolicy();
+    if (routingPolicy != null)
+    {
+      buffer.append(", routingPolicy=");
+      routingPolicy.toString(buffer);
+    }
+
+    final LDAPConnectionPoolSizingThread t = sizingThread;
+    if (t != null)
+    {
+      buffer.append(", sizingPolicy=");
+      t.getPolicy().toString(buffer);
+    }
+
     buffer.append(", maxConnections=");
     buffer.append(numConnections);
     buffer.append(')');
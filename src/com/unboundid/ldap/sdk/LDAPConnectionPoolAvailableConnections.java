@@ -0,0 +1,799 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a bounded data structure that holds the connections that
+ * are currently available for use in an {@link LDAPConnectionPool}.  It is
+ * intended to be used instead of a single blocking queue, whose locks can
+ * become a point of contention when a large number of threads are checking
+ * out and releasing connections at a high rate.
+ * <BR><BR>
+ * Connections are spread across a number of stripes, each of which is a
+ * lock-free queue.  Each thread has a home stripe to which it will release
+ * connections and from which it will first try to check them out, so that
+ * threads working on different stripes do not contend with each other, and
+ * so that a thread is likely to get back a connection that it recently
+ * released.  If a thread's home stripe is empty, then it will take a
+ * connection from another stripe.  A semaphore keeps track of the number of
+ * available connections so that a thread only needs to block if there are no
+ * connections available in any stripe.  When only a single thread is using
+ * the pool, connections will be checked out in the same order that they were
+ * released.
+ * <BR><BR>
+ * If a routing policy has been configured, then connections will instead be
+ * held in a separate sub-pool for each server, and the routing policy will be
+ * used to select the sub-pool that should provide each connection that is
+ * checked out.  Connections that were added before the routing policy was set
+ * (or after it was cleared) will still be found, so the mode may be changed at
+ * any time.  Sub-pools that no longer hold any connections may be pruned, for
+ * example after a server has been removed from the pool's server set, and a
+ * new sub-pool will be created if connections to that server are added later.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPConnectionPoolAvailableConnections
+      implements Iterable<LDAPConnection>, Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 7386119514217368452L;
+
+
+
+  // The thread-local lists used to hold the sub-pools that are candidates to
+  // provide a connection, so that a new list does not need to be allocated
+  // for every checkout.  Each element pairs the list with an unmodifiable view
+  // of it that may be passed to a routing policy.  This will be created when
+  // it is first needed, including after this object has been deserialized.
+  @Nullable private transient volatile ThreadLocal<ObjectPair<
+       ArrayList<LDAPConnectionPoolServer>,List<LDAPConnectionPoolServer>>>
+       candidateLists;
+
+  // The number of connections that have been reserved or added to a stripe.
+  // This is used to enforce the capacity.
+  @NotNull private final AtomicInteger reservedCount;
+
+  // The per-server sub-pools that hold the available connections when a
+  // routing policy is configured.
+  @NotNull private final ConcurrentHashMap<ObjectPair<String,Integer>,
+       LDAPConnectionPoolServer> servers;
+
+  // The set of stripes that hold the available connections.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnection>[] stripes;
+
+  // The maximum number of connections that may be held.
+  private final int capacity;
+
+  // The mask used to map a thread to its home stripe.
+  private final int stripeMask;
+
+  // The routing policy used to select the server that should provide each
+  // connection, if any.
+  @Nullable private volatile LDAPConnectionPoolRoutingPolicy routingPolicy;
+
+  // The semaphore whose permits represent connections that may be taken from
+  // the stripes or the per-server sub-pools.
+  @NotNull private final Semaphore availablePermits;
+
+
+
+  /**
+   * Creates a new set of available connections with the specified capacity.
+   *
+   * @param  capacity  The maximum number of connections that may be held.  It
+   *                   must be greater than zero.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  LDAPConnectionPoolAvailableConnections(final int capacity)
+  {
+    this.capacity = capacity;
+
+    // Use a power of two number of stripes based on the number of CPUs, but
+    // don't use more stripes than there can be connections.
+    final int maxStripes = Math.max(1,
+         Math.min(capacity, Runtime.getRuntime().availableProcessors()));
+    int numStripes = 1;
+    while ((numStripes << 1) <= maxStripes)
+    {
+      numStripes <<= 1;
+    }
+
+    stripeMask = numStripes - 1;
+    stripes = new ConcurrentLinkedQueue[numStripes];
+    for (int i=0; i < numStripes; i++)
+    {
+      stripes[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    reservedCount = new AtomicInteger(0);
+    availablePermits = new Semaphore(0);
+    servers = new ConcurrentHashMap<>(16);
+    candidateLists = null;
+    routingPolicy = null;
+  }
+
+
+
+  /**
+   * Retrieves the routing policy that is used to select the server that should
+   * provide each connection.
+   *
+   * @return  The routing policy that is used to select the server that should
+   *          provide each connection, or {@code null} if connections are not
+   *          held in per-server sub-pools.
+   */
+  @Nullable()
+  LDAPConnectionPoolRoutingPolicy getRoutingPolicy()
+  {
+    return routingPolicy;
+  }
+
+
+
+  /**
+   * Specifies the routing policy that should be used to select the server that
+   * should provide each connection.
+   *
+   * @param  routingPolicy  The routing policy that should be used to select
+   *                        the server that should provide each connection.  It
+   *                        may be {@code null} if connections should not be
+   *                        held in per-server sub-pools.
+   */
+  void setRoutingPolicy(
+            @Nullable final LDAPConnectionPoolRoutingPolicy routingPolicy)
+  {
+    this.routingPolicy = routingPolicy;
+  }
+
+
+
+  /**
+   * Retrieves the per-server sub-pools that have been created.  Sub-pools are
+   * created as connections to each server are added while a routing policy is
+   * configured, and they are retained until they are pruned by the
+   * {@link #pruneServers} method.
+   *
+   * @return  The per-server sub-pools that have been created.
+   */
+  @NotNull()
+  List<LDAPConnectionPoolServer> getServers()
+  {
+    return new ArrayList<>(servers.values());
+  }
+
+
+
+  /**
+   * Retrieves the sub-pool for the server to which the provided connection is
+   * established.
+   *
+   * @param  connection  The connection for which to retrieve the sub-pool.  It
+   *                     must not be {@code null}.
+   * @param  create      Indicates whether to create the sub-pool if it does
+   *                     not already exist.
+   *
+   * @return  The sub-pool for the server to which the provided connection is
+   *          established, or {@code null} if the connection is not established
+   *          or if the sub-pool does not exist and should not be created.
+   */
+  @Nullable()
+  private LDAPConnectionPoolServer getServer(
+               @NotNull final LDAPConnection connection, final boolean create)
+  {
+    final String host = connection.getConnectedAddress();
+    if (host == null)
+    {
+      return null;
+    }
+
+    final int port = connection.getConnectedPort();
+    final ObjectPair<String,Integer> hostPort = new ObjectPair<>(host, port);
+    final LDAPConnectionPoolServer server = servers.get(hostPort);
+    if ((server != null) || (! create))
+    {
+      return server;
+    }
+
+    final LDAPConnectionPoolServer newServer =
+         new LDAPConnectionPoolServer(host, port);
+    final LDAPConnectionPoolServer existingServer =
+         servers.putIfAbsent(hostPort, newServer);
+    if (existingServer == null)
+    {
+      return newServer;
+    }
+    else
+    {
+      return existingServer;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the index of the home stripe for the current thread.
+   *
+   * @return  The index of the home stripe for the current thread.
+   */
+  private int getHomeStripeIndex()
+  {
+    if (stripeMask == 0)
+    {
+      return 0;
+    }
+
+    final int h = System.identityHashCode(Thread.currentThread());
+    return (h ^ (h >>> 16)) & stripeMask;
+  }
+
+
+
+  /**
+   * Adds the provided connection to the set of available connections if there
+   * is room for it.
+   *
+   * @param  connection  The connection to add.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the connection was added, or {@code false} if it
+   *          could not be added because the maximum number of connections are
+   *          already available.
+   */
+  boolean offer(@NotNull final LDAPConnection connection)
+  {
+    while (true)
+    {
+      final int count = reservedCount.get();
+      if (count >= capacity)
+      {
+        return false;
+      }
+
+      if (reservedCount.compareAndSet(count, (count + 1)))
+      {
+        break;
+      }
+    }
+
+    final LDAPConnectionPoolServer server =
+         getServer(connection, (routingPolicy != null));
+    if ((server != null) && (routingPolicy != null))
+    {
+      server.offer(connection);
+      if (server.isRemoved())
+      {
+        moveConnections(server);
+      }
+    }
+    else
+    {
+      if (server != null)
+      {
+        server.connectionReleased(connection);
+      }
+
+      stripes[getHomeStripeIndex()].offer(connection);
+    }
+
+    availablePermits.release();
+    return true;
+  }
+
+
+
+  /**
+   * Removes the per-server sub-pools that do not currently hold any available
+   * or checked-out connections, so that sub-pools for servers that are no
+   * longer in use will not be retained indefinitely.
+   *
+   * @return  The number of sub-pools that were removed.
+   */
+  int pruneServers()
+  {
+    int numPruned = 0;
+    for (final Map.Entry<ObjectPair<String,Integer>,
+              LDAPConnectionPoolServer> e : servers.entrySet())
+    {
+      final LDAPConnectionPoolServer server = e.getValue();
+      if (server.getNumConnections() > 0)
+      {
+        continue;
+      }
+
+      // Mark the sub-pool as removed before removing it, and check it again
+      // afterward.  A concurrent offer adds its connection before checking
+      // whether the sub-pool was removed, so either that thread or this one
+      // will see the connection and move it to a new sub-pool.
+      server.markRemoved();
+      if (servers.remove(e.getKey(), server))
+      {
+        numPruned++;
+        moveConnections(server);
+      }
+    }
+
+    return numPruned;
+  }
+
+
+
+  /**
+   * Moves any available connections from a sub-pool that has been removed to
+   * the current sub-pool for the same server.
+   *
+   * @param  removedServer  The sub-pool that has been removed.  It must not be
+   *                        {@code null}.
+   */
+  private void moveConnections(
+                    @NotNull final LDAPConnectionPoolServer removedServer)
+  {
+    while (true)
+    {
+      final LDAPConnection c = removedServer.poll();
+      if (c == null)
+      {
+        return;
+      }
+
+      removedServer.connectionReleased(c);
+      final LDAPConnectionPoolServer server = getServer(c, true);
+      if (server == null)
+      {
+        stripes[getHomeStripeIndex()].offer(c);
+      }
+      else
+      {
+        server.offer(c);
+        if (server.isRemoved())
+        {
+          moveConnections(server);
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Adds all of the provided connections to the set of available connections,
+   * as long as there is room for them.
+   *
+   * @param  connections  The connections to add.  It must not be
+   *                      {@code null}.
+   *
+   * @return  {@code true} if any connections were added, or {@code false} if
+   *          not.
+   */
+  boolean addAll(@NotNull final Collection<LDAPConnection> connections)
+  {
+    boolean added = false;
+    for (final LDAPConnection c : connections)
+    {
+      if (offer(c))
+      {
+        added = true;
+      }
+    }
+
+    return added;
+  }
+
+
+
+  /**
+   * Retrieves and removes an available connection, if there is one.
+   *
+   * @return  An available connection, or {@code null} if there are no
+   *          available connections.
+   */
+  @Nullable()
+  LDAPConnection poll()
+  {
+    if (availablePermits.tryAcquire())
+    {
+      return take();
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves and removes an available connection, waiting up to the specified
+   * length of time for one to become available if necessary.
+   *
+   * @param  timeout  The maximum length of time to wait for a connection to
+   *                  become available.
+   * @param  unit     The time unit for the timeout.  It must not be
+   *                  {@code null}.
+   *
+   * @return  An available connection, or {@code null} if no connection became
+   *          available before the timeout elapsed.
+   *
+   * @throws  InterruptedException  If the thread was interrupted while
+   *                                waiting.
+   */
+  @Nullable()
+  LDAPConnection poll(final long timeout, @NotNull final TimeUnit unit)
+                 throws InterruptedException
+  {
+    if (availablePermits.tryAcquire(timeout, unit))
+    {
+      return take();
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves and removes an available connection established to the specified
+   * server, if there is one.  This will only find connections that are held in
+   * a per-server sub-pool.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  An available connection established to the specified server, or
+   *          {@code null} if there are no such connections.
+   */
+  @Nullable()
+  LDAPConnection poll(@NotNull final String host, final int port)
+  {
+    final LDAPConnectionPoolServer server =
+         servers.get(new ObjectPair<>(host, port));
+    if ((server == null) || (server.getNumAvailableConnections() <= 0) ||
+        (! availablePermits.tryAcquire()))
+    {
+      return null;
+    }
+
+    final LDAPConnection c = server.poll();
+    if (c == null)
+    {
+      availablePermits.release();
+      return null;
+    }
+
+    reservedCount.decrementAndGet();
+    return c;
+  }
+
+
+
+  /**
+   * Removes a connection from the stripes or the per-server sub-pools.  This
+   * must only be called after successfully acquiring a permit from the
+   * semaphore, which guarantees that there will be a connection for this
+   * thread to take.
+   *
+   * @return  The connection that was removed.
+   */
+  @NotNull()
+  private LDAPConnection take()
+  {
+    while (true)
+    {
+      // Look first in the location that matches the current mode, and then in
+      // the other location in case there are connections left over from
+      // before the mode was changed.
+      final LDAPConnectionPoolRoutingPolicy policy = routingPolicy;
+      LDAPConnection c;
+      if (policy == null)
+      {
+        c = takeFromStripes();
+        if (c == null)
+        {
+          c = takeFromServers(null);
+        }
+      }
+      else
+      {
+        c = takeFromServers(policy);
+        if (c == null)
+        {
+          c = takeFromStripes();
+        }
+      }
+
+      if (c != null)
+      {
+        reservedCount.decrementAndGet();
+        return c;
+      }
+
+      // This should only happen if a connection was added to a stripe or
+      // sub-pool that was already examined while a concurrent release was in
+      // progress, so just try again.
+      Thread.yield();
+    }
+  }
+
+
+
+  /**
+   * Removes a connection from the stripes, starting with the home stripe for
+   * the current thread.
+   *
+   * @return  The connection that was removed, or {@code null} if none of the
+   *          stripes held any connections.
+   */
+  @Nullable()
+  private LDAPConnection takeFromStripes()
+  {
+    final int homeIndex = getHomeStripeIndex();
+    for (int i=0; i <= stripeMask; i++)
+    {
+      final LDAPConnection c = stripes[(homeIndex + i) & stripeMask].poll();
+      if (c != null)
+      {
+        return c;
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Removes a connection from one of the per-server sub-pools.
+   *
+   * @param  policy  The routing policy to use to select the sub-pool.  It may
+   *                 be {@code null} if any sub-pool may be used.
+   *
+   * @return  The connection that was removed, or {@code null} if none of the
+   *          sub-pools held any connections.
+   */
+  @Nullable()
+  private LDAPConnection takeFromServers(
+               @Nullable final LDAPConnectionPoolRoutingPolicy policy)
+  {
+    if (servers.isEmpty())
+    {
+      return null;
+    }
+
+    final ObjectPair<ArrayList<LDAPConnectionPoolServer>,
+         List<LDAPConnectionPoolServer>> lists = getCandidateLists();
+    final ArrayList<LDAPConnectionPoolServer> candidates = lists.getFirst();
+
+    try
+    {
+      for (final LDAPConnectionPoolServer server : servers.values())
+      {
+        if (server.getNumAvailableConnections() > 0)
+        {
+          candidates.add(server);
+        }
+      }
+
+      if (candidates.isEmpty())
+      {
+        return null;
+      }
+
+      if (policy != null)
+      {
+        int selectedIndex;
+        try
+        {
+          selectedIndex = policy.selectServer(lists.getSecond());
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          selectedIndex = 0;
+        }
+
+        if ((selectedIndex >= 0) && (selectedIndex < candidates.size()))
+        {
+          final LDAPConnection c = candidates.get(selectedIndex).poll();
+          if (c != null)
+          {
+            return c;
+          }
+        }
+      }
+
+      for (final LDAPConnectionPoolServer server : candidates)
+      {
+        final LDAPConnection c = server.poll();
+        if (c != null)
+        {
+          return c;
+        }
+      }
+
+      return null;
+    }
+    finally
+    {
+      // Don't hold on to the sub-pools, since they may be pruned.
+      candidates.clear();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the list that the current thread should use to hold the sub-pools
+   * that are candidates to provide a connection, along with an unmodifiable
+   * view of that list, creating them if necessary.
+   *
+   * @return  The list that the current thread should use to hold the candidate
+   *          sub-pools, along with an unmodifiable view of that list.
+   */
+  @NotNull()
+  private ObjectPair<ArrayList<LDAPConnectionPoolServer>,
+               List<LDAPConnectionPoolServer>> getCandidateLists()
+  {
+    // If multiple threads create the thread-local concurrently, then only one
+    // of them will be retained, and the lists created for the others will
+    // simply be replaced on their next use.
+    ThreadLocal<ObjectPair<ArrayList<LDAPConnectionPoolServer>,
+         List<LDAPConnectionPoolServer>>> threadLocal = candidateLists;
+    if (threadLocal == null)
+    {
+      threadLocal = new ThreadLocal<>();
+      candidateLists = threadLocal;
+    }
+
+    ObjectPair<ArrayList<LDAPConnectionPoolServer>,
+         List<LDAPConnectionPoolServer>> lists = threadLocal.get();
+    if (lists == null)
+    {
+      final ArrayList<LDAPConnectionPoolServer> list =
+           new ArrayList<>(servers.size());
+      lists = new ObjectPair<ArrayList<LDAPConnectionPoolServer>,
+           List<LDAPConnectionPoolServer>>(list,
+           Collections.unmodifiableList(list));
+      threadLocal.set(lists);
+    }
+
+    return lists;
+  }
+
+
+
+  /**
+   * Removes all available connections and adds them to the provided
+   * collection.
+   *
+   * @param  collection  The collection to which the connections should be
+   *                     added.  It must not be {@code null}.
+   *
+   * @return  The number of connections that were added to the collection.
+   */
+  int drainTo(@NotNull final Collection<LDAPConnection> collection)
+  {
+    int numDrained = 0;
+    while (true)
+    {
+      final LDAPConnection c = poll();
+      if (c == null)
+      {
+        return numDrained;
+      }
+
+      collection.add(c);
+      numDrained++;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that are currently available.
+   *
+   * @return  The number of connections that are currently available.
+   */
+  int size()
+  {
+    return availablePermits.availablePermits();
+  }
+
+
+
+  /**
+   * Retrieves the number of additional connections that may be added before
+   * the capacity is reached.
+   *
+   * @return  The number of additional connections that may be added before
+   *          the capacity is reached.
+   */
+  int remainingCapacity()
+  {
+    return Math.max(0, (capacity - reservedCount.get()));
+  }
+
+
+
+  /**
+   * Retrieves an iterator over a snapshot of the connections that are
+   * currently available.  The connections will not be removed.
+   *
+   * @return  An iterator over a snapshot of the connections that are
+   *          currently available.
+   */
+  @Override()
+  @NotNull()
+  public Iterator<LDAPConnection> iterator()
+  {
+    final List<LDAPConnection> connections = new ArrayList<>(size());
+    for (final ConcurrentLinkedQueue<LDAPConnection> stripe : stripes)
+    {
+      connections.addAll(stripe);
+    }
+
+    for (final LDAPConnectionPoolServer server : servers.values())
+    {
+      server.getAvailableConnections(connections);
+    }
+
+    return connections.iterator();
+  }
+}
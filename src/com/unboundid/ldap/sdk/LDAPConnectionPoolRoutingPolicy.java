@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.List;
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class defines an API that may be used to control which directory
+ * server should provide each connection that is checked out of an
+ * {@link LDAPConnectionPool}.  When a routing policy is configured for a
+ * connection pool, the pool will keep the available connections for each
+ * server in a separate sub-pool, and whenever a connection is to be checked
+ * out, the routing policy will be asked to choose among the servers that
+ * currently have at least one available connection.  This makes it possible
+ * to control how load is distributed across servers, independently of how the
+ * {@link ServerSet} distributed the connections when they were established.
+ * <BR><BR>
+ * The LDAP SDK provides the following routing policy implementations:
+ * <UL>
+ *   <LI>{@link WeightedRoundRobinRoutingPolicy} -- Distributes checkouts
+ *       across servers in proportion to a weight assigned to each
+ *       server.</LI>
+ *   <LI>{@link LeastOutstandingOperationsRoutingPolicy} -- Prefers the server
+ *       with the fewest connections currently checked out.</LI>
+ *   <LI>{@link LocalityRoutingPolicy} -- Prefers servers that have the same
+ *       locality tag (for example, the same data center) as the client, and
+ *       uses another policy to choose among them.</LI>
+ * </UL>
+ * Routing policies will be invoked concurrently by any number of threads, and
+ * they should be fast, since they are invoked for every checkout.  They should
+ * not attempt to check out or release any connections.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+public abstract class LDAPConnectionPoolRoutingPolicy
+{
+  /**
+   * Creates a new instance of this connection pool routing policy.
+   */
+  protected LDAPConnectionPoolRoutingPolicy()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Selects the server that should provide the next connection to be checked
+   * out of the pool.
+   *
+   * @param  servers  The servers that currently have at least one available
+   *                  connection.  It will not be {@code null} or empty, and it
+   *                  must not be altered.
+   *
+   * @return  The index of the selected server in the provided list.  If the
+   *          returned value is not a valid index, then the first server in the
+   *          list will be used.
+   */
+  public abstract int selectServer(
+                           @NotNull List<LDAPConnectionPoolServer> servers);
+
+
+
+  /**
+   * Retrieves a string representation of this routing policy.
+   *
+   * @return  A string representation of this routing policy.
+   */
+  @Override()
+  @NotNull()
+  public final String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this routing policy to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public abstract void toString(@NotNull StringBuilder buffer);
+}
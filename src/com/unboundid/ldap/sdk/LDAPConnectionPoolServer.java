@@ -0,0 +1,323 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides information about a single directory server to which
+ * connections in an {@link LDAPConnectionPool} are established, when that pool
+ * has been configured with an {@link LDAPConnectionPoolRoutingPolicy}.  In
+ * that case, the available connections for each server are held in a separate
+ * sub-pool, and the routing policy uses the information in this class to
+ * decide which server's sub-pool should provide each connection that is
+ * checked out.
+ * <BR><BR>
+ * The counts provided by this class reflect the state of the sub-pool at the
+ * time the methods are called, and they may change at any time as connections
+ * are checked out and released by other threads.  The number of outstanding
+ * operations for a server is the number of connections to that server that are
+ * currently checked out of the pool.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPConnectionPoolServer
+{
+  // The number of connections in this sub-pool that are currently available.
+  @NotNull private final AtomicInteger numAvailable;
+
+  // The number of connections in this sub-pool that are currently checked out.
+  @NotNull private final AtomicInteger numCheckedOut;
+
+  // The connections that are currently available.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnection>
+       availableConnections;
+
+  // Indicates whether this sub-pool has been removed from the pool because it
+  // no longer had any connections.
+  private volatile boolean removed;
+
+  // The port of the server.
+  private final int port;
+
+  // The connections that are currently checked out.
+  @NotNull private final Set<LDAPConnection> checkedOutConnections;
+
+  // The address of the server.
+  @NotNull private final String host;
+
+
+
+  /**
+   * Creates a new sub-pool for the specified server.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   */
+  LDAPConnectionPoolServer(@NotNull final String host, final int port)
+  {
+    this.host = host;
+    this.port = port;
+
+    removed = false;
+    numAvailable = new AtomicInteger(0);
+    numCheckedOut = new AtomicInteger(0);
+    availableConnections = new ConcurrentLinkedQueue<>();
+    checkedOutConnections = Collections.newSetFromMap(
+         new ConcurrentHashMap<LDAPConnection,Boolean>());
+  }
+
+
+
+  /**
+   * Retrieves the address of the server.
+   *
+   * @return  The address of the server.
+   */
+  @NotNull()
+  public String getHost()
+  {
+    return host;
+  }
+
+
+
+  /**
+   * Retrieves the port of the server.
+   *
+   * @return  The port of the server.
+   */
+  public int getPort()
+  {
+    return port;
+  }
+
+
+
+  /**
+   * Retrieves the number of connections to the server that are currently
+   * available in the pool.
+   *
+   * @return  The number of connections to the server that are currently
+   *          available in the pool.
+   */
+  public int getNumAvailableConnections()
+  {
+    return Math.max(0, numAvailable.get());
+  }
+
+
+
+  /**
+   * Retrieves the number of operations that are currently outstanding against
+   * the server, which is the number of connections to the server that are
+   * currently checked out of the pool.
+   *
+   * @return  The number of operations that are currently outstanding against
+   *          the server.
+   */
+  public int getNumOutstandingOperations()
+  {
+    return numCheckedOut.get();
+  }
+
+
+
+  /**
+   * Retrieves the total number of connections to the server that are
+   * associated with the pool, including both available and checked-out
+   * connections.
+   *
+   * @return  The total number of connections to the server that are associated
+   *          with the pool.
+   */
+  public int getNumConnections()
+  {
+    return getNumAvailableConnections() + getNumOutstandingOperations();
+  }
+
+
+
+  /**
+   * Adds the provided connection to the set of available connections for this
+   * server.  If the connection had been checked out of this sub-pool, then it
+   * will no longer be considered checked out.
+   *
+   * @param  connection  The connection to add.  It must not be {@code null}.
+   */
+  void offer(@NotNull final LDAPConnection connection)
+  {
+    connectionReleased(connection);
+    availableConnections.offer(connection);
+    numAvailable.incrementAndGet();
+  }
+
+
+
+  /**
+   * Removes an available connection from this sub-pool and marks it as checked
+   * out.
+   *
+   * @return  The connection that was removed, or {@code null} if there are no
+   *          available connections for this server.
+   */
+  @Nullable()
+  LDAPConnection poll()
+  {
+    final LDAPConnection connection = availableConnections.poll();
+    if (connection != null)
+    {
+      numAvailable.decrementAndGet();
+      connection.setCheckedOutPoolServer(this);
+      if (checkedOutConnections.add(connection))
+      {
+        numCheckedOut.incrementAndGet();
+      }
+    }
+
+    return connection;
+  }
+
+
+
+  /**
+   * Indicates that the provided connection, which may have been checked out of
+   * this sub-pool, has been returned or closed, so that it should no longer be
+   * considered checked out.  This method may safely be called more than once
+   * for the same connection.
+   *
+   * @param  connection  The connection that has been returned or closed.  It
+   *                     must not be {@code null}.
+   */
+  void connectionReleased(@NotNull final LDAPConnection connection)
+  {
+    if (checkedOutConnections.remove(connection))
+    {
+      numCheckedOut.decrementAndGet();
+    }
+  }
+
+
+
+  /**
+   * Indicates whether this sub-pool has been removed from the pool.  Any
+   * connection that is added to a sub-pool after it has been removed must be
+   * moved to the current sub-pool for the server.
+   *
+   * @return  {@code true} if this sub-pool has been removed from the pool, or
+   *          {@code false} if not.
+   */
+  boolean isRemoved()
+  {
+    return removed;
+  }
+
+
+
+  /**
+   * Indicates that this sub-pool is being removed from the pool.
+   */
+  void markRemoved()
+  {
+    removed = true;
+  }
+
+
+
+  /**
+   * Adds all of the connections that are currently available for this server
+   * to the provided collection, without removing them from the sub-pool.
+   *
+   * @param  collection  The collection to which the connections should be
+   *                     added.  It must not be {@code null}.
+   */
+  void getAvailableConnections(
+            @NotNull final Collection<LDAPConnection> collection)
+  {
+    collection.addAll(availableConnections);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this server.
+   *
+   * @return  A string representation of this server.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this server to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPConnectionPoolServer(host='");
+    buffer.append(host);
+    buffer.append("', port=");
+    buffer.append(port);
+    buffer.append(", numAvailableConnections=");
+    buffer.append(getNumAvailableConnections());
+    buffer.append(", numOutstandingOperations=");
+    buffer.append(getNumOutstandingOperations());
+    buffer.append(')');
+  }
+}
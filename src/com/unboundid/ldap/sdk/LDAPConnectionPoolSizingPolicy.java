@@ -0,0 +1,410 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class defines a policy that may be used to have a background thread
+ * proactively adjust the number of available connections in an
+ * {@link LDAPConnectionPool}, rather than waiting for a connection to be
+ * needed before creating it.  Once per interval, the thread examines the
+ * checkout activity for the pool since the previous interval and determines
+ * whether connections should be opened or retired:
+ * <UL>
+ *   <LI>If any checkouts had to wait for a connection, had to create a new
+ *       connection, or failed, or if the 99th percentile checkout wait time
+ *       exceeded the configured threshold, or if the number of available
+ *       connections fell below the configured minimum, then new connections
+ *       will be established in parallel so that future checkouts can be
+ *       satisfied immediately.</LI>
+ *   <LI>If the number of checkouts in the interval is substantially higher
+ *       than the recent average, then connections will be opened in
+ *       anticipation of continued growth in demand, even if no checkouts have
+ *       been delayed yet.</LI>
+ *   <LI>If the pool has been idle (with no delayed checkouts and no growth) for
+ *       the configured number of consecutive intervals, then one available
+ *       connection will be retired per interval until the number of available
+ *       connections reaches the configured minimum.</LI>
+ * </UL>
+ * The number of available connections will never be allowed to exceed the
+ * maximum number of connections configured for the pool.  New connections are
+ * created with the pool's server set, so when using SSL/TLS, they will use the
+ * same {@code SSLSocketFactory} (and therefore the same SSL session cache) as
+ * existing connections, which allows them to resume a previously-established
+ * session rather than performing a full handshake whenever the server allows
+ * it.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for configuring a connection
+ * pool to keep at least five connections available, check the pool every 500
+ * milliseconds, and open up to four connections in parallel:
+ * <PRE>
+ * LDAPConnectionPool pool = new LDAPConnectionPool(serverSet, bindRequest, 1,
+ *      50);
+ * pool.setSizingPolicy(new LDAPConnectionPoolSizingPolicy(5, 4, 500L, 10L,
+ *      60));
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPConnectionPoolSizingPolicy
+       implements Serializable
+{
+  /**
+   * The default maximum number of connections that will be established in
+   * parallel.
+   */
+  public static final int DEFAULT_MAX_PARALLEL_CONNECTS = 4;
+
+
+
+  /**
+   * The default length of time in milliseconds between adjustments.
+   */
+  public static final long DEFAULT_INTERVAL_MILLIS = 1_000L;
+
+
+
+  /**
+   * The default 99th percentile checkout wait time in milliseconds above which
+   * new connections will be opened.
+   */
+  public static final long DEFAULT_MAX_CHECKOUT_WAIT_MILLIS = 10L;
+
+
+
+  /**
+   * The default number of consecutive idle intervals that must pass before
+   * available connections will be retired.
+   */
+  public static final int DEFAULT_IDLE_INTERVALS_BEFORE_RETIRE = 30;
+
+
+
+  /**
+   * The factor by which the number of checkouts in an interval must exceed the
+   * recent average for connections to be opened in anticipation of additional
+   * demand.
+   */
+  private static final double PREDICTIVE_GROWTH_FACTOR = 1.5d;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 6198327414540370825L;
+
+
+
+  // The number of consecutive idle intervals that must pass before available
+  // connections will be retired.
+  private final int idleIntervalsBeforeRetire;
+
+  // The maximum number of connections that will be established in parallel.
+  private final int maxParallelConnects;
+
+  // The minimum number of available connections to maintain.
+  private final int minAvailableConnections;
+
+  // The length of time in milliseconds between adjustments.
+  private final long intervalMillis;
+
+  // The 99th percentile checkout wait time in milliseconds above which new
+  // connections will be opened.
+  private final long maxCheckoutWaitMillis;
+
+
+
+  /**
+   * Creates a new sizing policy with the provided minimum number of available
+   * connections and default values for all other settings.
+   *
+   * @param  minAvailableConnections  The minimum number of available
+   *                                  connections that the pool should try to
+   *                                  maintain.  It must be greater than or
+   *                                  equal to zero.
+   */
+  public LDAPConnectionPoolSizingPolicy(final int minAvailableConnections)
+  {
+    this(minAvailableConnections, DEFAULT_MAX_PARALLEL_CONNECTS,
+         DEFAULT_INTERVAL_MILLIS, DEFAULT_MAX_CHECKOUT_WAIT_MILLIS,
+         DEFAULT_IDLE_INTERVALS_BEFORE_RETIRE);
+  }
+
+
+
+  /**
+   * Creates a new sizing policy with the provided settings.
+   *
+   * @param  minAvailableConnections    The minimum number of available
+   *                                    connections that the pool should try to
+   *                                    maintain.  It must be greater than or
+   *                                    equal to zero.
+   * @param  maxParallelConnects        The maximum number of connections that
+   *                                    will be established in parallel when
+   *                                    the pool needs to grow.  It must be
+   *                                    greater than zero.
+   * @param  intervalMillis             The length of time in milliseconds
+   *                                    between adjustments.  It must be
+   *                                    greater than zero.
+   * @param  maxCheckoutWaitMillis      The 99th percentile checkout wait time
+   *                                    in milliseconds above which new
+   *                                    connections will be opened.  A value
+   *                                    that is less than or equal to zero
+   *                                    indicates that the checkout wait time
+   *                                    should not be considered.
+   * @param  idleIntervalsBeforeRetire  The number of consecutive idle
+   *                                    intervals that must pass before
+   *                                    available connections in excess of the
+   *                                    minimum will be retired.  A value that
+   *                                    is less than or equal to zero indicates
+   *                                    that connections should never be
+   *                                    retired.
+   */
+  public LDAPConnectionPoolSizingPolicy(final int minAvailableConnections,
+                                        final int maxParallelConnects,
+                                        final long intervalMillis,
+                                        final long maxCheckoutWaitMillis,
+                                        final int idleIntervalsBeforeRetire)
+  {
+    Validator.ensureTrue((minAvailableConnections >= 0),
+         "LDAPConnectionPoolSizingPolicy.minAvailableConnections must be " +
+              "greater than or equal to zero.");
+    Validator.ensureTrue((maxParallelConnects > 0),
+         "LDAPConnectionPoolSizingPolicy.maxParallelConnects must be " +
+              "greater than zero.");
+    Validator.ensureTrue((intervalMillis > 0L),
+         "LDAPConnectionPoolSizingPolicy.intervalMillis must be greater " +
+              "than zero.");
+
+    this.minAvailableConnections   = minAvailableConnections;
+    this.maxParallelConnects       = maxParallelConnects;
+    this.intervalMillis            = intervalMillis;
+    this.maxCheckoutWaitMillis     = Math.max(0L, maxCheckoutWaitMillis);
+    this.idleIntervalsBeforeRetire = Math.max(0, idleIntervalsBeforeRetire);
+  }
+
+
+
+  /**
+   * Retrieves the minimum number of available connections that the pool should
+   * try to maintain.
+   *
+   * @return  The minimum number of available connections that the pool should
+   *          try to maintain.
+   */
+  public int getMinAvailableConnections()
+  {
+    return minAvailableConnections;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of connections that will be established in
+   * parallel when the pool needs to grow.
+   *
+   * @return  The maximum number of connections that will be established in
+   *          parallel when the pool needs to grow.
+   */
+  public int getMaxParallelConnects()
+  {
+    return maxParallelConnects;
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds between adjustments.
+   *
+   * @return  The length of time in milliseconds between adjustments.
+   */
+  public long getIntervalMillis()
+  {
+    return intervalMillis;
+  }
+
+
+
+  /**
+   * Retrieves the 99th percentile checkout wait time in milliseconds above
+   * which new connections will be opened.
+   *
+   * @return  The 99th percentile checkout wait time in milliseconds above which
+   *          new connections will be opened, or zero if the checkout wait time
+   *          should not be considered.
+   */
+  public long getMaxCheckoutWaitMillis()
+  {
+    return maxCheckoutWaitMillis;
+  }
+
+
+
+  /**
+   * Retrieves the number of consecutive idle intervals that must pass before
+   * available connections in excess of the minimum will be retired.
+   *
+   * @return  The number of consecutive idle intervals that must pass before
+   *          available connections in excess of the minimum will be retired,
+   *          or zero if connections should never be retired.
+   */
+  public int getIdleIntervalsBeforeRetire()
+  {
+    return idleIntervalsBeforeRetire;
+  }
+
+
+
+  /**
+   * Determines how the number of available connections in the pool should be
+   * adjusted based on the activity in the most recent interval.
+   *
+   * @param  numAvailable          The number of connections currently
+   *                               available in the pool.
+   * @param  remainingCapacity     The number of additional connections that
+   *                               may be added to the set of available
+   *                               connections.
+   * @param  numCheckouts          The number of checkout attempts in the most
+   *                               recent interval.
+   * @param  numDelayedCheckouts   The number of checkout attempts in the most
+   *                               recent interval that had to wait for a
+   *                               connection, had to create a new connection,
+   *                               or failed.
+   * @param  p99WaitNanos          The 99th percentile checkout wait time, in
+   *                               nanoseconds, for the most recent interval.
+   * @param  averageCheckouts      The recent average number of checkout
+   *                               attempts per interval, or a negative value if
+   *                               no average is available yet.
+   * @param  numIdleIntervals      The number of consecutive preceding intervals
+   *                               in which no connections were opened and no
+   *                               checkouts were delayed.
+   *
+   * @return  A positive value indicating the number of connections that should
+   *          be opened, a negative value whose magnitude is the number of
+   *          available connections that should be retired, or zero if no
+   *          adjustment is needed.
+   */
+  int getAdjustment(final int numAvailable, final int remainingCapacity,
+                    final long numCheckouts, final long numDelayedCheckouts,
+                    final long p99WaitNanos, final double averageCheckouts,
+                    final int numIdleIntervals)
+  {
+    final int deficit = minAvailableConnections - numAvailable;
+    final boolean slowCheckouts = (maxCheckoutWaitMillis > 0L) &&
+         (p99WaitNanos > (maxCheckoutWaitMillis * 1_000_000L));
+
+    long growth = 0L;
+    if ((numDelayedCheckouts > 0L) || slowCheckouts || (deficit > 0))
+    {
+      growth = Math.max(deficit, Math.max(1L, numDelayedCheckouts));
+    }
+    else if ((averageCheckouts >= 0.0d) &&
+         (numCheckouts > (averageCheckouts * PREDICTIVE_GROWTH_FACTOR)))
+    {
+      // Demand is climbing, so expect the next interval to need at least as
+      // many more connections as this one did beyond the average.
+      final long expectedIncrease =
+           (long) Math.ceil(numCheckouts - averageCheckouts);
+      growth = expectedIncrease - numAvailable;
+    }
+
+    if (growth > 0L)
+    {
+      return (int) Math.min(growth, Math.max(0, remainingCapacity));
+    }
+
+    if ((idleIntervalsBeforeRetire > 0) &&
+        (numIdleIntervals >= idleIntervalsBeforeRetire) &&
+        (numAvailable > minAvailableConnections))
+    {
+      return -1;
+    }
+
+    return 0;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this sizing policy.
+   *
+   * @return  A string representation of this sizing policy.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this sizing policy to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPConnectionPoolSizingPolicy(minAvailableConnections=");
+    buffer.append(minAvailableConnections);
+    buffer.append(", maxParallelConnects=");
+    buffer.append(maxParallelConnects);
+    buffer.append(", intervalMillis=");
+    buffer.append(intervalMillis);
+    buffer.append(", maxCheckoutWaitMillis=");
+    buffer.append(maxCheckoutWaitMillis);
+    buffer.append(", idleIntervalsBeforeRetire=");
+    buffer.append(idleIntervalsBeforeRetire);
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+
+
+
+/**
+ * This class defines a background thread that will be used to periodically
+ * adjust the number of available connections in a connection pool in
+ * accordance with an {@link LDAPConnectionPoolSizingPolicy}.
+ */
+final class LDAPConnectionPoolSizingThread
+      extends Thread
+{
+  /**
+   * The weight given to the most recent interval when updating the average
+   * number of checkouts per interval.
+   */
+  private static final double AVERAGE_WEIGHT = 0.2d;
+
+
+
+  // Indicates whether a request has been made to shut down this thread.
+  @NotNull private final AtomicBoolean stopRequested;
+
+  // The connection pool with which this thread is associated.
+  @NotNull private final LDAPConnectionPool pool;
+
+  // A blocking queue used to control sleeping between intervals and to wait for
+  // a shutdown signal.
+  @NotNull private final LinkedBlockingQueue<Object> queue;
+
+  // The sizing policy used to determine how the pool should be adjusted.
+  @NotNull private final LDAPConnectionPoolSizingPolicy policy;
+
+  // A reference to the thread used to perform the periodic adjustments.
+  @Nullable private volatile Thread thread;
+
+  // The recent average number of checkouts per interval, or a negative value if
+  // no interval has been completed.
+  private double averageCheckouts;
+
+  // The number of consecutive intervals in which no connections were opened
+  // and no checkouts were delayed.
+  private int numIdleIntervals;
+
+  // A snapshot of the checkout wait time histogram as of the end of the
+  // previous interval.
+  @Nullable private LatencyHistogram previousWaitTimes;
+
+  // The total number of checkout attempts as of the end of the previous
+  // interval.
+  private long previousCheckouts;
+
+  // The number of delayed checkout attempts as of the end of the previous
+  // interval.
+  private long previousDelayedCheckouts;
+
+
+
+  /**
+   * Creates a new instance of this sizing thread that will be used to adjust
+   * the provided pool.
+   *
+   * @param  pool    The connection pool with which this thread will be
+   *                 associated.
+   * @param  policy  The sizing policy that will be used to determine how the
+   *                 pool should be adjusted.
+   */
+  LDAPConnectionPoolSizingThread(@NotNull final LDAPConnectionPool pool,
+                                 @NotNull final LDAPConnectionPoolSizingPolicy
+                                      policy)
+  {
+    setName("Sizing Thread for " + pool.toString());
+    setDaemon(true);
+
+    this.pool = pool;
+    this.policy = policy;
+
+    stopRequested = new AtomicBoolean(false);
+    queue = new LinkedBlockingQueue<>(1);
+    thread = null;
+
+    averageCheckouts = -1.0d;
+    numIdleIntervals = 0;
+    previousWaitTimes = null;
+    previousCheckouts = 0L;
+    previousDelayedCheckouts = 0L;
+  }
+
+
+
+  /**
+   * Retrieves the sizing policy used by this thread.
+   *
+   * @return  The sizing policy used by this thread.
+   */
+  @NotNull()
+  LDAPConnectionPoolSizingPolicy getPolicy()
+  {
+    return policy;
+  }
+
+
+
+  /**
+   * Periodically adjusts the number of available connections in the pool.
+   */
+  @Override()
+  public void run()
+  {
+    thread = Thread.currentThread();
+    captureBaseline();
+
+    while (! stopRequested.get())
+    {
+      try
+      {
+        queue.poll(policy.getIntervalMillis(), TimeUnit.MILLISECONDS);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      if (stopRequested.get())
+      {
+        break;
+      }
+
+      try
+      {
+        adjustPool();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+
+    thread = null;
+  }
+
+
+
+  /**
+   * Captures the current pool statistics so that the first interval will only
+   * reflect activity that occurs after this thread has started.
+   */
+  private void captureBaseline()
+  {
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    previousCheckouts = getNumCheckouts(stats);
+    previousDelayedCheckouts = getNumDelayedCheckouts(stats);
+    previousWaitTimes = stats.getCheckoutWaitTimeHistogram().getSnapshot();
+  }
+
+
+
+  /**
+   * Examines the pool activity since the previous interval and opens or
+   * retires connections as indicated by the sizing policy.
+   */
+  void adjustPool()
+  {
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+
+    // If the statistics have been reset, then the differences will be
+    // negative, so treat them as zero.
+    final long totalCheckouts = getNumCheckouts(stats);
+    final long totalDelayedCheckouts = getNumDelayedCheckouts(stats);
+    final long numCheckouts = Math.max(0L, totalCheckouts - previousCheckouts);
+    final long numDelayedCheckouts =
+         Math.max(0L, totalDelayedCheckouts - previousDelayedCheckouts);
+    previousCheckouts = totalCheckouts;
+    previousDelayedCheckouts = totalDelayedCheckouts;
+
+    final LatencyHistogram waitTimes =
+         stats.getCheckoutWaitTimeHistogram().getSnapshot();
+    final LatencyHistogram intervalWaitTimes;
+    if (previousWaitTimes == null)
+    {
+      intervalWaitTimes = waitTimes;
+    }
+    else
+    {
+      intervalWaitTimes = waitTimes.getDifference(previousWaitTimes);
+    }
+    previousWaitTimes = waitTimes;
+
+    final long p99WaitNanos;
+    if (intervalWaitTimes.getCount() > 0L)
+    {
+      p99WaitNanos = intervalWaitTimes.getValueAtPercentile(99.0d);
+    }
+    else
+    {
+      p99WaitNanos = 0L;
+    }
+
+    final int adjustment = policy.getAdjustment(
+         pool.getCurrentAvailableConnections(),
+         pool.getRemainingAvailableCapacity(), numCheckouts,
+         numDelayedCheckouts, p99WaitNanos, averageCheckouts,
+         numIdleIntervals);
+
+    if (averageCheckouts < 0.0d)
+    {
+      averageCheckouts = numCheckouts;
+    }
+    else
+    {
+      averageCheckouts += AVERAGE_WEIGHT * (numCheckouts - averageCheckouts);
+    }
+
+    if (adjustment > 0)
+    {
+      numIdleIntervals = 0;
+      pool.growAvailableConnections(adjustment,
+           policy.getMaxParallelConnects());
+    }
+    else
+    {
+      if (numDelayedCheckouts > 0L)
+      {
+        numIdleIntervals = 0;
+      }
+      else if (numIdleIntervals < Integer.MAX_VALUE)
+      {
+        numIdleIntervals++;
+      }
+
+      if (adjustment < 0)
+      {
+        pool.retireAvailableConnections(-adjustment);
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the total number of checkout attempts from the provided
+   * statistics.
+   *
+   * @param  stats  The statistics to examine.
+   *
+   * @return  The total number of checkout attempts.
+   */
+  private static long getNumCheckouts(
+                           @NotNull final LDAPConnectionPoolStatistics stats)
+  {
+    return stats.getNumSuccessfulCheckouts() + stats.getNumFailedCheckouts();
+  }
+
+
+
+  /**
+   * Retrieves the number of checkout attempts from the provided statistics
+   * that had to wait for a connection, had to create a new connection, or
+   * failed.
+   *
+   * @param  stats  The statistics to examine.
+   *
+   * @return  The number of delayed checkout attempts.
+   */
+  private static long getNumDelayedCheckouts(
+                           @NotNull final LDAPConnectionPoolStatistics stats)
+  {
+    return stats.getNumSuccessfulCheckoutsAfterWaiting() +
+         stats.getNumSuccessfulCheckoutsNewConnection() +
+         stats.getNumFailedCheckouts();
+  }
+
+
+
+  /**
+   * Indicates that this sizing thread should stop running.
+   *
+   * @param  wait  Indicates whether to wait for the thread to actually stop
+   *               running before returning.
+   */
+  void stopRunning(final boolean wait)
+  {
+    stopRequested.set(true);
+    queue.offer(new Object());
+
+    if (wait && (Thread.currentThread() != this))
+    {
+      final Thread t = thread;
+      if (t != null)
+      {
+        try
+        {
+          t.join();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+
+          if (e instanceof InterruptedException)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    }
+  }
+}
@@ -40,6 +40,7 @@ package com.unboundid.ldap.sdk;
 import java.io.Serializable;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.unboundid.util.LatencyHistogram;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.ThreadSafety;
@@ -81,6 +82,13 @@ import com.unboundid.util.ThreadSafetyLevel;
  *       the pool.</LI>
  *   <LI>The number of failed attempts to create a new connection for use in the
  *       pool.</LI>
+ *   <LI>A {@link LatencyHistogram} of the time (in nanoseconds) that callers
+ *       have spent waiting to successfully check out a connection, including
+ *       any time spent waiting for a connection to become available or
+ *       creating a new connection.</LI>
+ *   <LI>A {@link LatencyHistogram} of the time (in nanoseconds) required to
+ *       successfully create a new connection for use in the pool, including
+ *       any authentication and post-connect processing.</LI>
  * </UL>
  */
 @Mutable()
@@ -132,6 +140,12 @@ public final class LDAPConnectionPoolStatistics
   // The number successful attempts to create a connection for use in the pool.
   @NotNull private final AtomicLong numSuccessfulConnectionAttempts;
 
+  // A histogram of the time spent successfully checking out connections.
+  @NotNull private final LatencyHistogram checkoutWaitTimes;
+
+  // A histogram of the time spent successfully creating connections.
+  @NotNull private final LatencyHistogram connectionCreationTimes;
+
   // The connection pool with which these statistics are associated.
   @NotNull private final AbstractConnectionPool pool;
 
@@ -160,12 +174,15 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait   = new AtomicLong(0L);
     numFailedCheckouts                  = new AtomicLong(0L);
     numReleasedValid                    = new AtomicLong(0L);
+    checkoutWaitTimes                   = new LatencyHistogram();
+    connectionCreationTimes             = new LatencyHistogram();
   }
 
 
 
   /**
-   * Resets all counters back to zero.
+   * Resets all counters back to zero and clears the checkout wait time and
+   * connection creation time histograms.
    */
   public void reset()
   {
@@ -180,6 +197,8 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait.set(0L);
     numFailedCheckouts.set(0L);
     numReleasedValid.set(0L);
+    checkoutWaitTimes.reset();
+    connectionCreationTimes.reset();
   }
 
 
@@ -234,6 +253,37 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  /**
+   * Retrieves a histogram of the length of time in nanoseconds required to
+   * successfully create a new connection for use in the connection pool,
+   * including any authentication and post-connect processing.
+   *
+   * @return  A histogram of the length of time in nanoseconds required to
+   *          successfully create a new connection for use in the connection
+   *          pool.
+   */
+  @NotNull()
+  public LatencyHistogram getConnectionCreationTimeHistogram()
+  {
+    return connectionCreationTimes;
+  }
+
+
+
+  /**
+   * Records the length of time required to successfully create a new
+   * connection for use in the connection pool.
+   *
+   * @param  creationTime  The length of time in nanoseconds required to
+   *                       create the connection.
+   */
+  void recordConnectionCreationTime(final long creationTime)
+  {
+    connectionCreationTimes.recordValue(creationTime);
+  }
+
+
+
   /**
    * Retrieves the number of connections that have been closed as defunct (i.e.,
    * they are no longer believed to be valid).
@@ -401,6 +451,38 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  /**
+   * Retrieves a histogram of the length of time in nanoseconds that callers
+   * have spent successfully checking out a connection from the pool.  This
+   * includes any time spent waiting for a connection to become available or
+   * creating a new connection, and it may be used to obtain percentile
+   * checkout wait times.  Failed checkout attempts will not be included.
+   *
+   * @return  A histogram of the length of time in nanoseconds that callers have
+   *          spent successfully checking out a connection from the pool.
+   */
+  @NotNull()
+  public LatencyHistogram getCheckoutWaitTimeHistogram()
+  {
+    return checkoutWaitTimes;
+  }
+
+
+
+  /**
+   * Records the length of time a caller spent successfully checking out a
+   * connection from the pool.
+   *
+   * @param  waitTime  The length of time in nanoseconds that the caller spent
+   *                   checking out the connection.
+   */
+  void recordCheckoutWaitTime(final long waitTime)
+  {
+    checkoutWaitTimes.recordValue(waitTime);
+  }
+
+
+
   /**
    * Retrieves the number of failed attempts to check out a connection from
    * the pool (including connections checked out for internal use by operations
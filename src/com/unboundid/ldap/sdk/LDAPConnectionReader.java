@@ -46,6 +46,7 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -90,6 +91,10 @@ final class LDAPConnectionReader
   // The ASN.1 stream reader used to read LDAP messages from the server.
   @NotNull private volatile ASN1StreamReader asn1StreamReader;
 
+  // The number of outstanding requests to pause reading responses from the
+  // server.  Reading will only proceed while this is zero.
+  @NotNull private final AtomicInteger pauseCount;
+
   // Indicates whether a request has been made to close the associated socket.
   private volatile boolean closeRequested;
 
@@ -104,6 +109,13 @@ final class LDAPConnectionReader
   // The input stream used to read data from the socket.
   @Nullable private volatile InputStream inputStream;
 
+  // The NIO handler that is reading responses on behalf of this reader, if the
+  // connection is using a shared NIO selector thread.
+  @Nullable private volatile LDAPConnectionNIOHandler nioHandler;
+
+  // The lock that will be used to wait while reading is paused.
+  @NotNull private final Object pauseLock;
+
   // The SSL-enabled output stream resulting from StartTLS negotiation.  It will
   // be non-null only immediately after StartTLS negotiation has completed and
   // this output stream is ready to be handed back to the connection.
@@ -157,6 +169,9 @@ final class LDAPConnectionReader
 
     acceptorMap = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(10));
     closeRequested = false;
+    nioHandler = null;
+    pauseCount = new AtomicInteger(0);
+    pauseLock = new Object();
     sslSocketFactory = null;
     startTLSException = null;
     startTLSOutputStream = null;
@@ -235,13 +250,19 @@ final class LDAPConnectionReader
 
     while (! closeRequested)
     {
+      if (pauseCount.get() > 0)
+      {
+        waitWhilePaused();
+        continue;
+      }
+
       try
       {
         final LDAPResponse response;
         try
         {
           response = LDAPMessage.readLDAPResponseFrom(asn1StreamReader, true,
-               connection.getCachedSchema());
+               connection.getCachedSchema(), connection.getConnectionOptions());
         }
         catch (final LDAPException le)
         {
@@ -276,8 +297,12 @@ final class LDAPConnectionReader
                   sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
                        connection.getConnectedAddress(), socket.getPort(),
                        true);
-                  sslSocket.startHandshake();
                 }
+
+                // Perform the handshake outside the lock so that connections
+                // established in parallel with the same socket factory don't
+                // have to wait for each other's handshakes to complete.
+                sslSocket.startHandshake();
                 connectionOptions.getSSLSocketVerifier().verifySSLSocket(
                      connection.getConnectedAddress(), socket.getPort(),
                      sslSocket);
@@ -424,125 +449,7 @@ final class LDAPConnectionReader
           }
         }
 
-        connection.setLastCommunicationTime();
-        Debug.debugLDAPResult(response, connection);
-        logResponse(response);
-
-        final ResponseAcceptor responseAcceptor;
-        if ((response instanceof SearchResultEntry) ||
-            (response instanceof SearchResultReference))
-        {
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-        }
-        else if (response instanceof IntermediateResponse)
-        {
-          final IntermediateResponse ir = (IntermediateResponse) response;
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-           IntermediateResponseListener l = null;
-          if (responseAcceptor instanceof LDAPRequest)
-          {
-            final LDAPRequest r = (LDAPRequest) responseAcceptor;
-            l = r.getIntermediateResponseListener();
-
-          }
-          else if (responseAcceptor instanceof IntermediateResponseListener)
-          {
-            l = (IntermediateResponseListener) responseAcceptor;
-          }
-
-          if (l == null)
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                 WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
-                      String.valueOf(ir)));
-          }
-          else
-          {
-            try
-            {
-              l.intermediateResponseReturned(ir);
-            }
-            catch (final Exception e)
-            {
-              Debug.debugException(e);
-            }
-          }
-          continue;
-        }
-        else
-        {
-          responseAcceptor = acceptorMap.remove(response.getMessageID());
-        }
-
-
-        if (responseAcceptor == null)
-        {
-          if ((response instanceof ExtendedResult) &&
-              (response.getMessageID() == 0))
-          {
-            // This is an intermediate response message, so handle it
-            // appropriately.
-            ExtendedResult extendedResult = (ExtendedResult) response;
-
-            final String oid = extendedResult.getOID();
-            if (NoticeOfDisconnectionExtendedResult.
-                     NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
-            {
-              extendedResult = new NoticeOfDisconnectionExtendedResult(
-                                        extendedResult);
-              connection.setDisconnectInfo(
-                   DisconnectType.SERVER_CLOSED_WITH_NOTICE,
-                   extendedResult.getDiagnosticMessage(), null);
-            }
-            else if (InteractiveTransactionAbortedExtendedResult.
-                          INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(
-                               oid))
-            {
-              extendedResult = new InteractiveTransactionAbortedExtendedResult(
-                                        extendedResult);
-            }
-
-            final UnsolicitedNotificationHandler handler =
-                 connection.getConnectionOptions().
-                      getUnsolicitedNotificationHandler();
-            if (handler == null)
-            {
-              if (Debug.debugEnabled(DebugType.LDAP))
-              {
-                Debug.debug(Level.WARNING, DebugType.LDAP,
-                     WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
-                          response));
-              }
-            }
-            else
-            {
-              handler.handleUnsolicitedNotification(connection,
-                                                    extendedResult);
-            }
-            continue;
-          }
-
-          if (Debug.debugEnabled(DebugType.LDAP))
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                  WARN_READER_NO_ACCEPTOR.get(response));
-          }
-          continue;
-        }
-
-        try
-        {
-          responseAcceptor.responseReceived(response);
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          Debug.debug(Level.WARNING, DebugType.LDAP,
-                ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
-                     connection.getHostPort(),
-                     StaticUtils.getExceptionMessage(le)),
-               le);
-        }
+        processResponse(response);
       }
       catch (final Exception e)
       {
@@ -624,6 +531,252 @@ final class LDAPConnectionReader
 
 
 
+  /**
+   * Processes the provided response that has been read from the server,
+   * including handing it off to the appropriate response acceptor, to an
+   * intermediate response listener, or to the unsolicited notification
+   * handler.  This is used by the reader thread, and also by the NIO delivery
+   * threads for connections that do not use a dedicated reader thread.
+   *
+   * @param  response  The response that has been read from the server.  It
+   *                   must not be {@code null}.
+   */
+  void processResponse(@NotNull final LDAPResponse response)
+  {
+    connection.setLastCommunicationTime();
+    Debug.debugLDAPResult(response, connection);
+    logResponse(response);
+
+    final ResponseAcceptor responseAcceptor;
+    if ((response instanceof SearchResultEntry) ||
+        (response instanceof SearchResultReference))
+    {
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+    }
+    else if (response instanceof IntermediateResponse)
+    {
+      final IntermediateResponse ir = (IntermediateResponse) response;
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+      IntermediateResponseListener l = null;
+      if (responseAcceptor instanceof LDAPRequest)
+      {
+        final LDAPRequest r = (LDAPRequest) responseAcceptor;
+        l = r.getIntermediateResponseListener();
+
+      }
+      else if (responseAcceptor instanceof IntermediateResponseListener)
+      {
+        l = (IntermediateResponseListener) responseAcceptor;
+      }
+
+      if (l == null)
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+             WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
+                  String.valueOf(ir)));
+      }
+      else
+      {
+        try
+        {
+          l.intermediateResponseReturned(ir);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+      return;
+    }
+    else
+    {
+      responseAcceptor = acceptorMap.remove(response.getMessageID());
+    }
+
+    if (responseAcceptor == null)
+    {
+      if ((response instanceof ExtendedResult) &&
+          (response.getMessageID() == 0))
+      {
+        // This is an intermediate response message, so handle it
+        // appropriately.
+        ExtendedResult extendedResult = (ExtendedResult) response;
+
+        final String oid = extendedResult.getOID();
+        if (NoticeOfDisconnectionExtendedResult.
+                 NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
+        {
+          extendedResult = new NoticeOfDisconnectionExtendedResult(
+                                    extendedResult);
+          connection.setDisconnectInfo(
+               DisconnectType.SERVER_CLOSED_WITH_NOTICE,
+               extendedResult.getDiagnosticMessage(), null);
+        }
+        else if (InteractiveTransactionAbortedExtendedResult.
+                      INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(
+                           oid))
+        {
+          extendedResult = new InteractiveTransactionAbortedExtendedResult(
+                                    extendedResult);
+        }
+
+        final UnsolicitedNotificationHandler handler =
+             connection.getConnectionOptions().
+                  getUnsolicitedNotificationHandler();
+        if (handler == null)
+        {
+          if (Debug.debugEnabled(DebugType.LDAP))
+          {
+            Debug.debug(Level.WARNING, DebugType.LDAP,
+                 WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
+                      response));
+          }
+        }
+        else
+        {
+          handler.handleUnsolicitedNotification(connection,
+                                                extendedResult);
+        }
+        return;
+      }
+
+      if (Debug.debugEnabled(DebugType.LDAP))
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+              WARN_READER_NO_ACCEPTOR.get(response));
+      }
+      return;
+    }
+
+    try
+    {
+      responseAcceptor.responseReceived(response);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+            ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
+                 connection.getHostPort(),
+                 StaticUtils.getExceptionMessage(le)),
+           le);
+    }
+  }
+
+
+
+  /**
+   * Sets the NIO handler that is reading responses on behalf of this reader.
+   *
+   * @param  nioHandler  The NIO handler that is reading responses on behalf of
+   *                     this reader, or {@code null} if the connection is no
+   *                     longer using a shared NIO selector thread.
+   */
+  void setNIOHandler(@Nullable final LDAPConnectionNIOHandler nioHandler)
+  {
+    this.nioHandler = nioHandler;
+  }
+
+
+
+  /**
+   * Requests that this reader stop reading responses from the server until a
+   * corresponding call to {@link #resumeReading} is made.  No further responses
+   * will be delivered while reading is paused (although for a connection that
+   * uses NIO, a bounded number of responses may already have been read and
+   * queued for delivery), so the server will eventually be throttled by TCP
+   * flow control.  This must only be called by the thread that is delivering
+   * responses for this reader.
+   */
+  void pauseReading()
+  {
+    pauseCount.incrementAndGet();
+  }
+
+
+
+  /**
+   * Cancels a previous request to pause reading responses from the server.
+   * Reading will resume once all requests to pause it have been cancelled.
+   * This may be called by any thread.
+   */
+  void resumeReading()
+  {
+    if (pauseCount.decrementAndGet() > 0)
+    {
+      return;
+    }
+
+    synchronized (pauseLock)
+    {
+      pauseLock.notifyAll();
+    }
+
+    final LDAPConnectionNIOHandler handler = nioHandler;
+    if (handler != null)
+    {
+      handler.resumeReading();
+    }
+  }
+
+
+
+  /**
+   * Indicates whether reading responses from the server is currently paused.
+   *
+   * @return  {@code true} if reading responses is currently paused, or
+   *          {@code false} if not.
+   */
+  boolean readingPaused()
+  {
+    return (pauseCount.get() > 0);
+  }
+
+
+
+  /**
+   * Waits until reading is no longer paused or the connection is closed.
+   */
+  private void waitWhilePaused()
+  {
+    synchronized (pauseLock)
+    {
+      while ((pauseCount.get() > 0) && (! closeRequested))
+      {
+        try
+        {
+          pauseLock.wait(100L);
+        }
+        catch (final InterruptedException ie)
+        {
+          Debug.debugException(Level.FINEST, ie);
+          if (closeRequested)
+          {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Closes the connection because the NIO selector thread has encountered the
+   * end of the input stream or an error while reading from the server.  The
+   * disconnect information for the connection should already have been set.
+   *
+   * @param  message  A message with additional information about the reason
+   *                  for the closure, if available.
+   */
+  void nioReadFailed(@Nullable final String message)
+  {
+    closeRequested = true;
+    closeInternal(true, message);
+  }
+
+
+
   /**
    * Reads a response from the server, blocking if necessary until the response
    * has been received.  This should only be used for connections operating in
@@ -648,7 +801,8 @@ final class LDAPConnectionReader
       try
       {
         final LDAPResponse response = LDAPMessage.readLDAPResponseFrom(
-             asn1StreamReader, false, connection.getCachedSchema());
+             asn1StreamReader, false, connection.getCachedSchema(),
+             connection.getConnectionOptions());
         if (response == null)
         {
           return new ConnectionClosedResponse(ResultCode.SERVER_DOWN, null);
@@ -911,52 +1065,7 @@ final class LDAPConnectionReader
          connection.getConnectionOptions();
     if (connection.synchronousMode())
     {
-      try
-      {
-        final int connectTimeout = connectionOptions.getConnectTimeoutMillis();
-        if (connectTimeout > 0)
-        {
-          InternalSDKHelper.setSoTimeout(connection, connectTimeout);
-        }
-        else
-        {
-          InternalSDKHelper.setSoTimeout(connection, 0);
-        }
-
-        final SSLSocket sslSocket;
-        synchronized (sslSocketFactory)
-        {
-          sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
-               connection.getConnectedAddress(), socket.getPort(), true);
-          sslSocket.startHandshake();
-        }
-        connectionOptions.getSSLSocketVerifier().verifySSLSocket(
-             connection.getConnectedAddress(), socket.getPort(), sslSocket);
-        inputStream =
-             new BufferedInputStream(sslSocket.getInputStream(),
-                                     DEFAULT_INPUT_BUFFER_SIZE);
-        asn1StreamReader = new ASN1StreamReader(inputStream,
-             connectionOptions.getMaxMessageSize());
-        startTLSOutputStream = sslSocket.getOutputStream();
-        socket = sslSocket;
-        connection.getConnectionInternals(true).setSocket(sslSocket);
-        final OutputStream outputStream = startTLSOutputStream;
-        startTLSOutputStream = null;
-        return outputStream;
-      }
-      catch (final Exception e)
-      {
-        Debug.debugException(e);
-        connection.setDisconnectInfo(DisconnectType.SECURITY_PROBLEM,
-             StaticUtils.getExceptionMessage(e), e);
-        startTLSException = e;
-        closeRequested = true;
-        closeInternal(true, StaticUtils.getExceptionMessage(e));
-        throw new LDAPException(ResultCode.SERVER_DOWN,
-             ERR_CONNREADER_STARTTLS_FAILED.get(
-                  StaticUtils.getExceptionMessage(e)),
-             e);
-      }
+      return doStartTLSWithoutReaderThread(sslSocketFactory);
     }
     else
     {
@@ -1010,6 +1119,78 @@ final class LDAPConnectionReader
 
 
 
+  /**
+   * Converts the clear-text connection to use TLS on the calling thread,
+   * without involving a reader thread.  This must only be used for connections
+   * that are operating in synchronous mode, or for connections that have just
+   * been switched from a shared NIO selector thread and for which the reader
+   * thread has not yet been started.
+   *
+   * @param  sslSocketFactory  The SSL socket factory to use to convert an
+   *                           insecure connection into a secure connection.
+   *
+   * @return  The output stream that should be used to write to the connection.
+   *
+   * @throws  LDAPException  If a problem occurs while converting the connection
+   *                         to use TLS.
+   */
+  @NotNull()
+  OutputStream doStartTLSWithoutReaderThread(
+                    @NotNull final SSLSocketFactory sslSocketFactory)
+       throws LDAPException
+  {
+    final LDAPConnectionOptions connectionOptions =
+         connection.getConnectionOptions();
+    try
+    {
+      final int connectTimeout = connectionOptions.getConnectTimeoutMillis();
+      if (connectTimeout > 0)
+      {
+        InternalSDKHelper.setSoTimeout(connection, connectTimeout);
+      }
+      else
+      {
+        InternalSDKHelper.setSoTimeout(connection, 0);
+      }
+
+      final SSLSocket sslSocket;
+      synchronized (sslSocketFactory)
+      {
+        sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
+             connection.getConnectedAddress(), socket.getPort(), true);
+      }
+      sslSocket.startHandshake();
+      connectionOptions.getSSLSocketVerifier().verifySSLSocket(
+           connection.getConnectedAddress(), socket.getPort(), sslSocket);
+      inputStream =
+           new BufferedInputStream(sslSocket.getInputStream(),
+                                   DEFAULT_INPUT_BUFFER_SIZE);
+      asn1StreamReader = new ASN1StreamReader(inputStream,
+           connectionOptions.getMaxMessageSize());
+      startTLSOutputStream = sslSocket.getOutputStream();
+      socket = sslSocket;
+      connection.getConnectionInternals(true).setSocket(sslSocket);
+      final OutputStream outputStream = startTLSOutputStream;
+      startTLSOutputStream = null;
+      return outputStream;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      connection.setDisconnectInfo(DisconnectType.SECURITY_PROBLEM,
+           StaticUtils.getExceptionMessage(e), e);
+      startTLSException = e;
+      closeRequested = true;
+      closeInternal(true, StaticUtils.getExceptionMessage(e));
+      throw new LDAPException(ResultCode.SERVER_DOWN,
+           ERR_CONNREADER_STARTTLS_FAILED.get(
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
   /**
    * Updates this connection reader to ensure that any subsequent data read
    * over this connection will be decoded using the provided SASL client.
@@ -41,8 +41,10 @@ import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.unboundid.util.LatencyHistogram;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -65,6 +67,11 @@ import com.unboundid.util.ThreadSafetyLevel;
  *       connection.</LI>
  *   <LI>The average response time (in milliseconds or nanoseconds) for each
  *       type of operation processed on the connection.</LI>
+ *   <LI>A {@link LatencyHistogram} of the response times (in nanoseconds) for
+ *       each type of operation processed on the connection, which may be used
+ *       to obtain percentile response times.</LI>
+ *   <LI>A {@link LatencyHistogram} of the time (in nanoseconds) required to
+ *       establish the connection.</LI>
  * </UL>
  */
 @Mutable()
@@ -174,6 +181,33 @@ public final class LDAPConnectionStatistics
   // The total length of time spent waiting for search done responses.
   @NotNull private final AtomicLong totalSearchResponseTime;
 
+  // A histogram of the times required to establish the connection.
+  @NotNull private final LatencyHistogram connectTimes;
+
+  // A histogram of the response times for add operations.
+  @NotNull private final LatencyHistogram addResponseTimes;
+
+  // A histogram of the response times for bind operations.
+  @NotNull private final LatencyHistogram bindResponseTimes;
+
+  // A histogram of the response times for compare operations.
+  @NotNull private final LatencyHistogram compareResponseTimes;
+
+  // A histogram of the response times for delete operations.
+  @NotNull private final LatencyHistogram deleteResponseTimes;
+
+  // A histogram of the response times for extended operations.
+  @NotNull private final LatencyHistogram extendedResponseTimes;
+
+  // A histogram of the response times for modify operations.
+  @NotNull private final LatencyHistogram modifyResponseTimes;
+
+  // A histogram of the response times for modify DN operations.
+  @NotNull private final LatencyHistogram modifyDNResponseTimes;
+
+  // A histogram of the response times for search operations.
+  @NotNull private final LatencyHistogram searchResponseTimes;
+
 
 
   /**
@@ -212,12 +246,22 @@ public final class LDAPConnectionStatistics
     totalModifyResponseTime     = new AtomicLong(0L);
     totalModifyDNResponseTime   = new AtomicLong(0L);
     totalSearchResponseTime     = new AtomicLong(0L);
+    connectTimes                = new LatencyHistogram();
+    addResponseTimes            = new LatencyHistogram();
+    bindResponseTimes           = new LatencyHistogram();
+    compareResponseTimes        = new LatencyHistogram();
+    deleteResponseTimes         = new LatencyHistogram();
+    extendedResponseTimes       = new LatencyHistogram();
+    modifyResponseTimes         = new LatencyHistogram();
+    modifyDNResponseTimes       = new LatencyHistogram();
+    searchResponseTimes         = new LatencyHistogram();
   }
 
 
 
   /**
-   * Resets all counters back to zero.
+   * Resets all counters back to zero and clears all response time and connect
+   * time histograms.
    */
   public void reset()
   {
@@ -251,6 +295,15 @@ public final class LDAPConnectionStatistics
     totalModifyResponseTime.set(0L);
     totalModifyDNResponseTime.set(0L);
     totalSearchResponseTime.set(0L);
+    connectTimes.reset();
+    addResponseTimes.reset();
+    bindResponseTimes.reset();
+    compareResponseTimes.reset();
+    deleteResponseTimes.reset();
+    extendedResponseTimes.reset();
+    modifyResponseTimes.reset();
+    modifyDNResponseTimes.reset();
+    searchResponseTimes.reset();
   }
 
 
@@ -280,6 +333,79 @@ public final class LDAPConnectionStatistics
 
 
 
+  /**
+   * Records the length of time required to establish the associated
+   * connection.
+   *
+   * @param  connectTime  The length of time in nanoseconds required to
+   *                      establish the connection.
+   */
+  void recordConnectTime(final long connectTime)
+  {
+    connectTimes.recordValue(connectTime);
+  }
+
+
+
+  /**
+   * Retrieves a histogram of the length of time in nanoseconds required to
+   * establish the associated connection.  Only successful connection attempts
+   * will be included.
+   *
+   * @return  A histogram of the length of time in nanoseconds required to
+   *          establish the associated connection.
+   */
+  @NotNull()
+  public LatencyHistogram getConnectTimeHistogram()
+  {
+    return connectTimes;
+  }
+
+
+
+  /**
+   * Retrieves a histogram of the response times in nanoseconds for operations
+   * of the specified type processed on the associated connection.  The
+   * histogram may be used to obtain percentile response times, and the
+   * {@link LatencyHistogram#getIntervalSnapshot} method may be used to obtain
+   * the response times for operations processed since the last interval.
+   *
+   * @param  operationType  The operation type for which to retrieve the
+   *                        histogram.  It must not be {@code null}.
+   *
+   * @return  A histogram of the response times in nanoseconds for operations
+   *          of the specified type, or {@code null} if the specified type of
+   *          operation does not have a response (i.e., abandon and unbind).
+   */
+  @Nullable()
+  public LatencyHistogram getResponseTimeHistogram(
+              @NotNull final OperationType operationType)
+  {
+    switch (operationType)
+    {
+      case ADD:
+        return addResponseTimes;
+      case BIND:
+        return bindResponseTimes;
+      case COMPARE:
+        return compareResponseTimes;
+      case DELETE:
+        return deleteResponseTimes;
+      case EXTENDED:
+        return extendedResponseTimes;
+      case MODIFY:
+        return modifyResponseTimes;
+      case MODIFY_DN:
+        return modifyDNResponseTimes;
+      case SEARCH:
+        return searchResponseTimes;
+      default:
+        return null;
+    }
+  }
+
+
+
   /**
    * Retrieves the number of times the associated connection has been
    * terminated.  Note that this may exceed the number of connection attempts
@@ -377,6 +503,8 @@ public final class LDAPConnectionStatistics
     {
       totalAddResponseTime.addAndGet(responseTime);
     }
+
+    addResponseTimes.recordValue(responseTime);
   }
 
 
@@ -507,6 +635,8 @@ public final class LDAPConnectionStatistics
     {
       totalBindResponseTime.addAndGet(responseTime);
     }
+
+    bindResponseTimes.recordValue(responseTime);
   }
 
 
@@ -640,6 +770,8 @@ public final class LDAPConnectionStatistics
     {
       totalCompareResponseTime.addAndGet(responseTime);
     }
+
+    compareResponseTimes.recordValue(responseTime);
   }
 
 
@@ -773,6 +905,8 @@ public final class LDAPConnectionStatistics
     {
       totalDeleteResponseTime.addAndGet(responseTime);
     }
+
+    deleteResponseTimes.recordValue(responseTime);
   }
 
 
@@ -910,6 +1044,8 @@ public final class LDAPConnectionStatistics
     {
       totalExtendedResponseTime.addAndGet(responseTime);
     }
+
+    extendedResponseTimes.recordValue(responseTime);
   }
 
 
@@ -1043,6 +1179,8 @@ public final class LDAPConnectionStatistics
     {
       totalModifyResponseTime.addAndGet(responseTime);
     }
+
+    modifyResponseTimes.recordValue(responseTime);
   }
 
 
@@ -1181,6 +1319,8 @@ public final class LDAPConnectionStatistics
     {
       totalModifyDNResponseTime.addAndGet(responseTime);
     }
+
+    modifyDNResponseTimes.recordValue(responseTime);
   }
 
 
@@ -1354,6 +1494,8 @@ public final class LDAPConnectionStatistics
     {
       totalSearchResponseTime.addAndGet(responseTime);
     }
+
+    searchResponseTimes.recordValue(responseTime);
   }
 
 
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a mechanism for coalescing the messages written by
+ * multiple threads that are concurrently sending requests over the same
+ * connection, so that they can be written to the output stream and flushed in
+ * batches rather than individually.  It uses a "group commit" approach:  each
+ * sender adds its encoded message to a queue and then acquires a write lock.
+ * The thread holding the lock writes every message that is queued at that time
+ * (up to a maximum batch size) and flushes the output stream once for the
+ * entire batch.  A thread whose message was already written by another thread
+ * will return as soon as it gets the lock, without writing anything.
+ * <BR><BR>
+ * No artificial delay is introduced while waiting for other messages to
+ * arrive, so a message will be written either as part of the batch being
+ * assembled when it is queued, or in the batch immediately after the write
+ * that was in progress at that time.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class LDAPConnectionWriteCoalescer
+{
+  /**
+   * The maximum number of bytes that will be written in a single batch before
+   * the output stream is flushed.
+   */
+  static final int MAX_BATCH_SIZE_BYTES = 65_536;
+
+
+
+  // The number of batches that have been written.
+  @NotNull private final AtomicLong batchesWritten;
+
+  // The number of messages that have been written.
+  @NotNull private final AtomicLong messagesWritten;
+
+  // The messages that have been queued but not yet written.
+  @NotNull private final ConcurrentLinkedQueue<PendingWrite> pendingWrites;
+
+  // The lock that must be held while writing to the output stream.
+  @NotNull private final ReentrantLock writeLock;
+
+  // The write timeout handler for the associated connection, if any.
+  @Nullable private final WriteTimeoutHandler writeTimeoutHandler;
+
+
+
+  /**
+   * Creates a new write coalescer.
+   *
+   * @param  writeTimeoutHandler  The write timeout handler that should be used
+   *                              to ensure that writes do not block for longer
+   *                              than the send timeout.  It may be
+   *                              {@code null} if write timeouts should not be
+   *                              enforced.
+   */
+  LDAPConnectionWriteCoalescer(
+       @Nullable final WriteTimeoutHandler writeTimeoutHandler)
+  {
+    this.writeTimeoutHandler = writeTimeoutHandler;
+
+    batchesWritten = new AtomicLong(0L);
+    messagesWritten = new AtomicLong(0L);
+    pendingWrites = new ConcurrentLinkedQueue<>();
+    writeLock = new ReentrantLock();
+  }
+
+
+
+  /**
+   * Writes the provided encoded message to the given output stream, possibly
+   * along with messages queued by other threads.  This method will not return
+   * until the message has been written and flushed, or until an error has
+   * occurred.
+   *
+   * @param  outputStream       The output stream to which the message should be
+   *                            written.
+   * @param  message            The encoded message to be written.
+   * @param  sendTimeoutMillis  The maximum length of time, in milliseconds, to
+   *                            block while trying to send the message.  If this
+   *                            is less than or equal to zero, then no send
+   *                            timeout will be enforced.
+   * @param  clearAfterWrite    Indicates whether the contents of the message
+   *                            array should be zeroed out once it has been
+   *                            written.
+   *
+   * @throws  IOException  If a problem occurs while writing the batch that
+   *                       contains the message.
+   */
+  void write(@NotNull final OutputStream outputStream,
+             @NotNull final byte[] message, final long sendTimeoutMillis,
+             final boolean clearAfterWrite)
+       throws IOException
+  {
+    final PendingWrite write =
+         new PendingWrite(message, sendTimeoutMillis, clearAfterWrite);
+    pendingWrites.add(write);
+
+    writeLock.lock();
+    try
+    {
+      while (! write.complete)
+      {
+        writeBatch(outputStream);
+      }
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+
+    if (write.failure != null)
+    {
+      throw write.failure;
+    }
+  }
+
+
+
+  /**
+   * Writes a batch of queued messages to the provided output stream and
+   * flushes it.  This must only be called while holding the write lock.
+   *
+   * @param  outputStream  The output stream to which the messages should be
+   *                       written.
+   */
+  private void writeBatch(@NotNull final OutputStream outputStream)
+  {
+    final ArrayList<PendingWrite> batch = new ArrayList<>();
+    long batchTimeoutMillis = 0L;
+    boolean enforceTimeout = true;
+    int batchSize = 0;
+    while (batchSize < MAX_BATCH_SIZE_BYTES)
+    {
+      final PendingWrite w = pendingWrites.poll();
+      if (w == null)
+      {
+        break;
+      }
+
+      batch.add(w);
+      batchSize += w.message.length;
+      if (w.sendTimeoutMillis > 0L)
+      {
+        batchTimeoutMillis = Math.max(batchTimeoutMillis, w.sendTimeoutMillis);
+      }
+      else
+      {
+        enforceTimeout = false;
+      }
+    }
+
+    if (batch.isEmpty())
+    {
+      return;
+    }
+
+    final Long writeID;
+    if (enforceTimeout && (writeTimeoutHandler != null))
+    {
+      writeID = writeTimeoutHandler.beginWrite(batchTimeoutMillis);
+    }
+    else
+    {
+      writeID = null;
+    }
+
+    IOException failure = null;
+    try
+    {
+      for (final PendingWrite w : batch)
+      {
+        outputStream.write(w.message);
+      }
+      outputStream.flush();
+    }
+    catch (final IOException ioe)
+    {
+      failure = ioe;
+    }
+    finally
+    {
+      if (writeID != null)
+      {
+        writeTimeoutHandler.writeCompleted(writeID);
+      }
+    }
+
+    for (final PendingWrite w : batch)
+    {
+      if (w.clearAfterWrite)
+      {
+        Arrays.fill(w.message, (byte) 0x00);
+      }
+
+      w.failure = failure;
+      w.complete = true;
+    }
+
+    batchesWritten.incrementAndGet();
+    messagesWritten.addAndGet(batch.size());
+  }
+
+
+
+  /**
+   * Retrieves the number of batches that have been written.
+   *
+   * @return  The number of batches that have been written.
+   */
+  long getBatchesWritten()
+  {
+    return batchesWritten.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of messages that have been written.
+   *
+   * @return  The number of messages that have been written.
+   */
+  long getMessagesWritten()
+  {
+    return messagesWritten.get();
+  }
+
+
+
+  /**
+   * This class holds information about a message that has been queued to be
+   * written.  All fields other than the message itself will only be accessed
+   * while holding the write lock.
+   */
+  private static final class PendingWrite
+  {
+    // Indicates whether the message array should be zeroed out after it has
+    // been written.
+    private final boolean clearAfterWrite;
+
+    // Indicates whether processing for this write has completed.
+    private boolean complete;
+
+    // The encoded message to be written.
+    @NotNull private final byte[] message;
+
+    // The exception caught while writing the batch containing the message, if
+    // any.
+    @Nullable private IOException failure;
+
+    // The send timeout for the message.
+    private final long sendTimeoutMillis;
+
+
+
+    /**
+     * Creates a new pending write with the provided information.
+     *
+     * @param  message            The encoded message to be written.
+     * @param  sendTimeoutMillis  The send timeout for the message.
+     * @param  clearAfterWrite    Indicates whether the message array should be
+     *                            zeroed out after it has been written.
+     */
+    private PendingWrite(@NotNull final byte[] message,
+                         final long sendTimeoutMillis,
+                         final boolean clearAfterWrite)
+    {
+      this.message = message;
+      this.sendTimeoutMillis = sendTimeoutMillis;
+      this.clearAfterWrite = clearAfterWrite;
+
+      complete = false;
+      failure = null;
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that holds a point-in-time sample of a
+ * single metric collected by an {@link LDAPMetricsRegistry}.  Each metric has
+ * a name, a type, a description, and a set of labels (like the server, the
+ * operation type, or the result code) that distinguish it from other metrics
+ * with the same name.  Counter and gauge metrics have a numeric value, while
+ * histogram metrics have a snapshot of a {@link LatencyHistogram} whose values
+ * are durations in nanoseconds.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPMetric
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 7253802469341118527L;
+
+
+
+  // The value for this metric, if it is a counter or a gauge.
+  private final double value;
+
+  // The histogram for this metric, if it is a histogram.
+  @Nullable private final LatencyHistogram histogram;
+
+  // The type for this metric.
+  @NotNull private final LDAPMetricType type;
+
+  // The labels for this metric, sorted by label name.
+  @NotNull private final Map<String,String> labels;
+
+  // The description for this metric.
+  @NotNull private final String description;
+
+  // The name for this metric.
+  @NotNull private final String name;
+
+
+
+  /**
+   * Creates a new metric with the provided information.
+   *
+   * @param  name         The name for this metric.  It must not be
+   *                      {@code null}.
+   * @param  type         The type for this metric.  It must not be
+   *                      {@code null}.
+   * @param  description  The description for this metric.  It must not be
+   *                      {@code null}.
+   * @param  labels       The labels for this metric.  It must not be
+   *                      {@code null} but may be empty.
+   * @param  value        The value for this metric.  It will be ignored for
+   *                      histogram metrics.
+   * @param  histogram    A snapshot of the histogram for this metric.  It must
+   *                      not be {@code null} for histogram metrics, and will be
+   *                      ignored for other metric types.
+   */
+  LDAPMetric(@NotNull final String name, @NotNull final LDAPMetricType type,
+             @NotNull final String description,
+             @NotNull final Map<String,String> labels, final double value,
+             @Nullable final LatencyHistogram histogram)
+  {
+    this.name = name;
+    this.type = type;
+    this.description = description;
+    this.labels = Collections.unmodifiableMap(new TreeMap<>(labels));
+
+    if (type == LDAPMetricType.HISTOGRAM)
+    {
+      this.value = histogram.getCount();
+      this.histogram = histogram;
+    }
+    else
+    {
+      this.value = value;
+      this.histogram = null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the name for this metric.
+   *
+   * @return  The name for this metric.
+   */
+  @NotNull()
+  public String getName()
+  {
+    return name;
+  }
+
+
+
+  /**
+   * Retrieves the type for this metric.
+   *
+   * @return  The type for this metric.
+   */
+  @NotNull()
+  public LDAPMetricType getType()
+  {
+    return type;
+  }
+
+
+
+  /**
+   * Retrieves the description for this metric.
+   *
+   * @return  The description for this metric.
+   */
+  @NotNull()
+  public String getDescription()
+  {
+    return description;
+  }
+
+
+
+  /**
+   * Retrieves the labels for this metric, sorted by label name.
+   *
+   * @return  The labels for this metric, or an empty map if it does not have
+   *          any labels.
+   */
+  @NotNull()
+  public Map<String,String> getLabels()
+  {
+    return labels;
+  }
+
+
+
+  /**
+   * Retrieves the value for this metric.  For histogram metrics, this will be
+   * the number of values recorded in the histogram.
+   *
+   * @return  The value for this metric.
+   */
+  public double getValue()
+  {
+    return value;
+  }
+
+
+
+  /**
+   * Retrieves a snapshot of the histogram for this metric.
+   *
+   * @return  A snapshot of the histogram for this metric, or {@code null} if
+   *          this is not a histogram metric.
+   */
+  @Nullable()
+  public LatencyHistogram getHistogram()
+  {
+    return histogram;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this metric.
+   *
+   * @return  A string representation of this metric.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this metric to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPMetric(name='");
+    buffer.append(name);
+    buffer.append("', type=");
+    buffer.append(type.name());
+    buffer.append(", labels={");
+
+    final Iterator<Map.Entry<String,String>> iterator =
+         labels.entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      final Map.Entry<String,String> e = iterator.next();
+      buffer.append(e.getKey());
+      buffer.append("='");
+      buffer.append(e.getValue());
+      buffer.append('\'');
+
+      if (iterator.hasNext())
+      {
+        buffer.append(", ");
+      }
+    }
+
+    buffer.append('}');
+
+    if (histogram == null)
+    {
+      buffer.append(", value=");
+      buffer.append(value);
+    }
+    else
+    {
+      buffer.append(", histogram=");
+      histogram.toString(buffer);
+    }
+
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.List;
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class defines an API that may be used to receive periodic snapshots of
+ * the metrics maintained by an {@link LDAPMetricsRegistry}.  Listeners may be
+ * registered with the {@link LDAPMetricsRegistry#addListener} method, and they
+ * will be invoked on a background thread at the requested interval.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+public abstract class LDAPMetricsListener
+{
+  /**
+   * Performs any processing that may be needed for a snapshot of the metrics
+   * maintained by a registry.
+   *
+   * @param  timestamp  The time (in milliseconds since the epoch) at which the
+   *                    metrics were collected.
+   * @param  metrics    The metrics that were collected, sorted by name and
+   *                    labels.  It will not be {@code null} but may be empty.
+   */
+  public abstract void metricsCollected(final long timestamp,
+                            @NotNull final List<LDAPMetric> metrics);
+}
@@ -0,0 +1,1275 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a registry of metrics about LDAP connections and
+ * connection pools that may be exported continuously to a monitoring system.
+ * It maintains three kinds of metrics:
+ * <UL>
+ *   <LI>Counters, gauges, and histograms that are explicitly registered by the
+ *       application using the {@link #registerCounter},
+ *       {@link #registerGauge}, and {@link #registerHistogram} methods.</LI>
+ *   <LI>The number of operations processed and the response times for those
+ *       operations, broken down by server, operation type, and result code,
+ *       for all connections created with a set of
+ *       {@link LDAPConnectionOptions} that reference this registry (see
+ *       {@link LDAPConnectionOptions#setMetricsRegistry}).</LI>
+ *   <LI>The statistics for connection pools and individual connections that
+ *       have been registered with the {@link #registerConnectionPool} and
+ *       {@link #registerConnection} methods, which will be read each time the
+ *       metrics are collected.</LI>
+ * </UL>
+ * A snapshot of all metrics may be obtained at any time with the
+ * {@link #collectMetrics} method, and {@link LDAPMetricsListener} instances
+ * may be registered to receive a snapshot at a regular interval.  The SDK
+ * provides a {@link JSONLDAPMetricsWriter} listener that writes each snapshot
+ * to a file in JSON Lines format, and the {@link PrometheusLDAPMetricsRenderer}
+ * class may be used to render a snapshot in the Prometheus text exposition
+ * format (for example, to serve it from an embedded HTTP endpoint).
+ * <BR><BR>
+ * Metric names must start with an ASCII letter, an underscore, or a colon,
+ * and may contain only ASCII letters, digits, underscores, and colons.  Label
+ * names have the same restrictions except that they may not contain colons.
+ * Histogram metrics hold durations in nanoseconds.
+ * <BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for exporting the metrics
+ * for a connection pool to a JSON Lines file once per minute:
+ * <PRE>
+ * LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+ * LDAPConnectionOptions options = new LDAPConnectionOptions();
+ * options.setMetricsRegistry(registry);
+ *
+ * LDAPConnection connection = new LDAPConnection(options, host, port);
+ * LDAPConnectionPool pool = new LDAPConnectionPool(connection, 10);
+ * registry.registerConnectionPool("example-pool", pool);
+ *
+ * JSONLDAPMetricsWriter writer =
+ *      new JSONLDAPMetricsWriter(new File("metrics.jsonl"), true);
+ * registry.addListener(writer, 60_000L);
+ * </PRE>
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPMetricsRegistry
+       implements Closeable
+{
+  /**
+   * The name of the label that identifies the server (in "host:port" form) for
+   * a metric.
+   */
+  @NotNull public static final String LABEL_SERVER = "server";
+
+
+
+  /**
+   * The name of the label that identifies the operation type for a metric.
+   * Its value will be the lowercase name of the {@link OperationType}.
+   */
+  @NotNull public static final String LABEL_OPERATION = "operation";
+
+
+
+  /**
+   * The name of the label that identifies the result code for a metric.  Its
+   * value will be the name of the {@link ResultCode}.
+   */
+  @NotNull public static final String LABEL_RESULT_CODE = "result_code";
+
+
+
+  /**
+   * The name of the label that identifies the connection pool for a metric.
+   */
+  @NotNull public static final String LABEL_POOL = "pool";
+
+
+
+  /**
+   * The name of the label that identifies the connection for a metric.
+   */
+  @NotNull public static final String LABEL_CONNECTION = "connection";
+
+
+
+  /**
+   * The name of the label that identifies the outcome of a connection pool
+   * checkout or connection attempt.
+   */
+  @NotNull public static final String LABEL_OUTCOME = "outcome";
+
+
+
+  /**
+   * The name of the label that identifies the reason that pooled connections
+   * were closed.
+   */
+  @NotNull public static final String LABEL_REASON = "reason";
+
+
+
+  /**
+   * The name of the counter metric with the number of operations completed on
+   * connections that use this registry, labeled by server, operation type, and
+   * result code.
+   */
+  @NotNull public static final String METRIC_OPERATIONS =
+       "ldap_operations_total";
+
+
+
+  /**
+   * The name of the histogram metric with the response times for operations
+   * completed on connections that use this registry, labeled by server and
+   * operation type.
+   */
+  @NotNull public static final String METRIC_OPERATION_RESPONSE_TIME =
+       "ldap_operation_response_time";
+
+
+
+  /**
+   * The name of the gauge metric with the number of connections currently
+   * available in a registered connection pool.
+   */
+  @NotNull public static final String METRIC_POOL_AVAILABLE_CONNECTIONS =
+       "ldap_pool_available_connections";
+
+
+
+  /**
+   * The name of the gauge metric with the maximum number of connections that
+   * may be available in a registered connection pool.
+   */
+  @NotNull public static final String METRIC_POOL_MAX_AVAILABLE_CONNECTIONS =
+       "ldap_pool_max_available_connections";
+
+
+
+  /**
+   * The name of the counter metric with the number of checkout attempts for a
+   * registered connection pool, labeled by outcome.
+   */
+  @NotNull public static final String METRIC_POOL_CHECKOUTS =
+       "ldap_pool_checkouts_total";
+
+
+
+  /**
+   * The name of the counter metric with the number of attempts to create a
+   * connection for a registered connection pool, labeled by outcome.
+   */
+  @NotNull public static final String METRIC_POOL_CONNECTION_ATTEMPTS =
+       "ldap_pool_connection_attempts_total";
+
+
+
+  /**
+   * The name of the counter metric with the number of connections closed by a
+   * registered connection pool, labeled by reason.
+   */
+  @NotNull public static final String METRIC_POOL_CONNECTIONS_CLOSED =
+       "ldap_pool_connections_closed_total";
+
+
+
+  /**
+   * The name of the counter metric with the number of valid connections
+   * released back to a registered connection pool.
+   */
+  @NotNull public static final String METRIC_POOL_CONNECTIONS_RELEASED =
+       "ldap_pool_connections_released_total";
+
+
+
+  /**
+   * The name of the histogram metric with the time spent checking out
+   * connections from a registered connection pool.
+   */
+  @NotNull public static final String METRIC_POOL_CHECKOUT_WAIT_TIME =
+       "ldap_pool_checkout_wait_time";
+
+
+
+  /**
+   * The name of the histogram metric with the time spent creating connections
+   * for a registered connection pool.
+   */
+  @NotNull public static final String METRIC_POOL_CONNECTION_CREATION_TIME =
+       "ldap_pool_connection_creation_time";
+
+
+
+  /**
+   * The name of the gauge metric with the number of available connections to
+   * each server in a registered connection pool that has a routing policy,
+   * labeled by server.
+   */
+  @NotNull public static final String
+       METRIC_POOL_SERVER_AVAILABLE_CONNECTIONS =
+            "ldap_pool_server_available_connections";
+
+
+
+  /**
+   * The name of the gauge metric with the number of outstanding operations
+   * for each server in a registered connection pool that has a routing policy,
+   * labeled by server.
+   */
+  @NotNull public static final String
+       METRIC_POOL_SERVER_OUTSTANDING_OPERATIONS =
+            "ldap_pool_server_outstanding_operations";
+
+
+
+  /**
+   * The name of the counter metric with the number of times a registered
+   * connection has been established.
+   */
+  @NotNull public static final String METRIC_CONNECTION_CONNECTS =
+       "ldap_connection_connects_total";
+
+
+
+  /**
+   * The name of the counter metric with the number of times a registered
+   * connection has been closed.
+   */
+  @NotNull public static final String METRIC_CONNECTION_DISCONNECTS =
+       "ldap_connection_disconnects_total";
+
+
+
+  /**
+   * The name of the histogram metric with the time required to establish a
+   * registered connection.
+   */
+  @NotNull public static final String METRIC_CONNECTION_CONNECT_TIME =
+       "ldap_connection_connect_time";
+
+
+
+  /**
+   * The name of the histogram metric with the response times for operations
+   * processed on a registered connection, labeled by operation type.
+   */
+  @NotNull public static final String METRIC_CONNECTION_RESPONSE_TIME =
+       "ldap_connection_response_time";
+
+
+
+  // The counters for completed operations, indexed by server, operation type,
+  // and result code.
+  @NotNull private final ConcurrentHashMap<ObjectPair<ObjectPair<String,
+       OperationType>,ResultCode>,AtomicLong> operationCounters;
+
+  // The histograms for completed operations, indexed by server and operation
+  // type.
+  @NotNull private final ConcurrentHashMap<ObjectPair<String,OperationType>,
+       LatencyHistogram> operationHistograms;
+
+  // The connection pools that have been registered, indexed by name.
+  @NotNull private final ConcurrentHashMap<String,AbstractConnectionPool>
+       pools;
+
+  // The connections that have been registered, indexed by name.
+  @NotNull private final ConcurrentHashMap<String,LDAPConnection> connections;
+
+  // The listeners that have been registered, along with the timer tasks used
+  // to notify them.
+  @NotNull private final ConcurrentHashMap<LDAPMetricsListener,
+       LDAPMetricsRegistryTimerTask> listeners;
+
+  // The types of the metrics that have been registered, indexed by name.
+  @NotNull private final ConcurrentHashMap<String,LDAPMetricType> metricTypes;
+
+  // The explicitly-registered metrics, indexed by name and labels.
+  @NotNull private final ConcurrentHashMap<String,RegisteredMetric> metrics;
+
+  // The timer used to notify listeners.
+  @Nullable private Timer timer;
+
+
+
+  /**
+   * Creates a new, empty metrics registry.
+   */
+  public LDAPMetricsRegistry()
+  {
+    operationCounters = new ConcurrentHashMap<>();
+    operationHistograms = new ConcurrentHashMap<>();
+    pools = new ConcurrentHashMap<>();
+    connections = new ConcurrentHashMap<>();
+    listeners = new ConcurrentHashMap<>();
+    metricTypes = new ConcurrentHashMap<>();
+    metrics = new ConcurrentHashMap<>();
+    timer = null;
+  }
+
+
+
+  /**
+   * Retrieves the counter with the provided name and labels, registering it if
+   * it does not already exist.
+   *
+   * @param  name         The name for the counter.  It must not be
+   *                      {@code null} and must be a valid metric name.
+   * @param  description  A description for the counter.  It must not be
+   *                      {@code null}.
+   * @param  labels       The labels for the counter.  It may be {@code null}
+   *                      or empty if the counter does not have any labels.
+   *
+   * @return  The counter with the provided name and labels, which may be
+   *          incremented by the caller.
+   */
+  @NotNull()
+  public AtomicLong registerCounter(@NotNull final String name,
+                                    @NotNull final String description,
+                                    @Nullable final Map<String,String> labels)
+  {
+    return getOrCreateMetric(name, LDAPMetricType.COUNTER, description,
+         labels).counter;
+  }
+
+
+
+  /**
+   * Registers a gauge with the provided name and labels, replacing any
+   * existing gauge with the same name and labels.
+   *
+   * @param  name         The name for the gauge.  It must not be {@code null}
+   *                      and must be a valid metric name.
+   * @param  description  A description for the gauge.  It must not be
+   *                      {@code null}.
+   * @param  labels       The labels for the gauge.  It may be {@code null} or
+   *                      empty if the gauge does not have any labels.
+   * @param  gauge        The object that will provide the value for the gauge.
+   *                      It must not be {@code null}.
+   */
+  public void registerGauge(@NotNull final String name,
+                            @NotNull final String description,
+                            @Nullable final Map<String,String> labels,
+                            @NotNull final LDAPMetricGauge gauge)
+  {
+    Validator.ensureNotNull(gauge);
+    getOrCreateMetric(name, LDAPMetricType.GAUGE, description,
+         labels).gauge = gauge;
+  }
+
+
+
+  /**
+   * Retrieves the histogram with the provided name and labels, registering it
+   * if it does not already exist.
+   *
+   * @param  name         The name for the histogram.  It must not be
+   *                      {@code null} and must be a valid metric name.
+   * @param  description  A description for the histogram.  It must not be
+   *                      {@code null}.
+   * @param  labels       The labels for the histogram.  It may be {@code null}
+   *                      or empty if the histogram does not have any labels.
+   *
+   * @return  The histogram with the provided name and labels, in which the
+   *          caller may record durations in nanoseconds.
+   */
+  @NotNull()
+  public LatencyHistogram registerHistogram(@NotNull final String name,
+              @NotNull final String description,
+              @Nullable final Map<String,String> labels)
+  {
+    return getOrCreateMetric(name, LDAPMetricType.HISTOGRAM, description,
+         labels).histogram;
+  }
+
+
+
+  /**
+   * Removes the metric with the provided name and labels from this registry.
+   * This may only be used for metrics registered with the
+   * {@link #registerCounter}, {@link #registerGauge}, and
+   * {@link #registerHistogram} methods, or for the operation metrics
+   * maintained for connections that use this registry.
+   *
+   * @param  name    The name of the metric to remove.  It must not be
+   *                 {@code null}.
+   * @param  labels  The labels for the metric to remove.  It may be
+   *                 {@code null} or empty if the metric does not have any
+   *                 labels.
+   *
+   * @return  {@code true} if the metric was removed, or {@code false} if it
+   *          was not registered.
+   */
+  public boolean unregister(@NotNull final String name,
+                            @Nullable final Map<String,String> labels)
+  {
+    Validator.ensureNotNull(name);
+
+    final RegisteredMetric m = metrics.remove(getKey(name, labels));
+    if (m == null)
+    {
+      return false;
+    }
+
+    if (name.equals(METRIC_OPERATIONS) ||
+        name.equals(METRIC_OPERATION_RESPONSE_TIME))
+    {
+      final Iterator<AtomicLong> counterIterator =
+           operationCounters.values().iterator();
+      while (counterIterator.hasNext())
+      {
+        if (counterIterator.next() == m.counter)
+        {
+          counterIterator.remove();
+        }
+      }
+
+      final Iterator<LatencyHistogram> histogramIterator =
+           operationHistograms.values().iterator();
+      while (histogramIterator.hasNext())
+      {
+        if (histogramIterator.next() == m.histogram)
+        {
+          histogramIterator.remove();
+        }
+      }
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Registers the provided connection pool so that its statistics will be
+   * included in the metrics collected from this registry.  The metrics for the
+   * pool will have a {@link #LABEL_POOL} label with the provided name.  If a
+   * pool is already registered with the same name, it will be replaced.
+   *
+   * @param  poolName  The name to use for the pool in the metric labels.  It
+   *                   must not be {@code null}.
+   * @param  pool      The connection pool to register.  It must not be
+   *                   {@code null}.
+   */
+  public void registerConnectionPool(@NotNull final String poolName,
+                                     @NotNull final AbstractConnectionPool pool)
+  {
+    Validator.ensureNotNull(poolName, pool);
+    pools.put(poolName, pool);
+  }
+
+
+
+  /**
+   * Removes the connection pool with the provided name from this registry.
+   *
+   * @param  poolName  The name of the pool to remove.  It must not be
+   *                   {@code null}.
+   *
+   * @return  {@code true} if the pool was removed, or {@code false} if no
+   *          pool was registered with the provided name.
+   */
+  public boolean unregisterConnectionPool(@NotNull final String poolName)
+  {
+    Validator.ensureNotNull(poolName);
+    return (pools.remove(poolName) != null);
+  }
+
+
+
+  /**
+   * Registers the provided connection so that its statistics will be included
+   * in the metrics collected from this registry.  The metrics for the
+   * connection will have a {@link #LABEL_CONNECTION} label with the provided
+   * name and a {@link #LABEL_SERVER} label with the server to which it is
+   * established.  If a connection is already registered with the same name,
+   * it will be replaced.
+   *
+   * @param  connectionName  The name to use for the connection in the metric
+   *                         labels.  It must not be {@code null}.
+   * @param  connection      The connection to register.  It must not be
+   *                         {@code null}.
+   */
+  public void registerConnection(@NotNull final String connectionName,
+                                 @NotNull final LDAPConnection connection)
+  {
+    Validator.ensureNotNull(connectionName, connection);
+    connections.put(connectionName, connection);
+  }
+
+
+
+  /**
+   * Removes the connection with the provided name from this registry.
+   *
+   * @param  connectionName  The name of the connection to remove.  It must not
+   *                         be {@code null}.
+   *
+   * @return  {@code true} if the connection was removed, or {@code false} if
+   *          no connection was registered with the provided name.
+   */
+  public boolean unregisterConnection(@NotNull final String connectionName)
+  {
+    Validator.ensureNotNull(connectionName);
+    return (connections.remove(connectionName) != null);
+  }
+
+
+
+  /**
+   * Registers the provided listener to be given a snapshot of the metrics in
+   * this registry at the specified interval.  The listener will be invoked on
+   * a background thread shared by all listeners for this registry.  If the
+   * listener is already registered, its interval will be updated.
+   *
+   * @param  listener        The listener to register.  It must not be
+   *                         {@code null}.
+   * @param  intervalMillis  The interval in milliseconds at which the listener
+   *                         should be notified.  It must be greater than zero.
+   */
+  public synchronized void addListener(
+                                @NotNull final LDAPMetricsListener listener,
+                                final long intervalMillis)
+  {
+    Validator.ensureNotNull(listener);
+    Validator.ensureTrue((intervalMillis > 0L),
+         "LDAPMetricsRegistry.addListener.intervalMillis must be greater " +
+              "than zero.");
+
+    final LDAPMetricsRegistryTimerTask task =
+         new LDAPMetricsRegistryTimerTask(this, listener);
+    final LDAPMetricsRegistryTimerTask previousTask =
+         listeners.put(listener, task);
+    if (previousTask != null)
+    {
+      previousTask.cancel();
+    }
+
+    if (timer == null)
+    {
+      timer = new Timer("LDAPMetricsRegistry Timer", true);
+    }
+
+    timer.scheduleAtFixedRate(task, intervalMillis, intervalMillis);
+  }
+
+
+
+  /**
+   * Removes the provided listener so that it will no longer be notified.
+   *
+   * @param  listener  The listener to remove.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the listener was removed, or {@code false} if it
+   *          was not registered.
+   */
+  public synchronized boolean removeListener(
+                                   @NotNull final LDAPMetricsListener listener)
+  {
+    Validator.ensureNotNull(listener);
+
+    final LDAPMetricsRegistryTimerTask task = listeners.remove(listener);
+    if (task == null)
+    {
+      return false;
+    }
+
+    task.cancel();
+    if (listeners.isEmpty() && (timer != null))
+    {
+      timer.cancel();
+      timer = null;
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Removes all listeners and stops the background thread used to notify
+   * them.  Metrics may still be collected from this registry after it has
+   * been closed, and listeners may be added again if desired.
+   */
+  @Override()
+  public synchronized void close()
+  {
+    for (final LDAPMetricsRegistryTimerTask task : listeners.values())
+    {
+      task.cancel();
+    }
+    listeners.clear();
+
+    if (timer != null)
+    {
+      timer.cancel();
+      timer = null;
+    }
+  }
+
+
+
+  /**
+   * Provides a snapshot of the metrics in this registry to the provided
+   * listener.
+   *
+   * @param  listener  The listener to notify.  It must not be {@code null}.
+   */
+  void notifyListener(@NotNull final LDAPMetricsListener listener)
+  {
+    try
+    {
+      final long timestamp = System.currentTimeMillis();
+      listener.metricsCollected(timestamp, collectMetrics());
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+
+
+
+  /**
+   * Updates the operation metrics for an operation that has completed on a
+   * connection that uses this registry.
+   *
+   * @param  server             The server on which the operation was
+   *                            processed, in "host:port" form.
+   * @param  operationType      The type of operation that completed.
+   * @param  resultCode         The result code for the operation.
+   * @param  responseTimeNanos  The response time for the operation in
+   *                            nanoseconds.
+   */
+  void operationCompleted(@NotNull final String server,
+                          @NotNull final OperationType operationType,
+                          @NotNull final ResultCode resultCode,
+                          final long responseTimeNanos)
+  {
+    final ObjectPair<String,OperationType> serverAndType =
+         new ObjectPair<>(server, operationType);
+    final ObjectPair<ObjectPair<String,OperationType>,ResultCode> counterKey =
+         new ObjectPair<>(serverAndType, resultCode);
+
+    AtomicLong counter = operationCounters.get(counterKey);
+    if (counter == null)
+    {
+      counter = registerCounter(METRIC_OPERATIONS,
+           "The number of LDAP operations completed",
+           createLabels(LABEL_SERVER, server,
+                LABEL_OPERATION, getOperationName(operationType),
+                LABEL_RESULT_CODE, resultCode.getName()));
+      operationCounters.putIfAbsent(counterKey, counter);
+    }
+    counter.incrementAndGet();
+
+    LatencyHistogram histogram = operationHistograms.get(serverAndType);
+    if (histogram == null)
+    {
+      histogram = registerHistogram(METRIC_OPERATION_RESPONSE_TIME,
+           "The response times for completed LDAP operations",
+           createLabels(LABEL_SERVER, server,
+                LABEL_OPERATION, getOperationName(operationType)));
+      operationHistograms.putIfAbsent(serverAndType, histogram);
+    }
+    histogram.recordValue(responseTimeNanos);
+  }
+
+
+
+  /**
+   * Collects a snapshot of all of the metrics in this registry.
+   *
+   * @return  A snapshot of all of the metrics in this registry, sorted by name
+   *          and then by labels.
+   */
+  @NotNull()
+  public List<LDAPMetric> collectMetrics()
+  {
+    final ArrayList<LDAPMetric> metricList = new ArrayList<>(metrics.size());
+    for (final RegisteredMetric m : metrics.values())
+    {
+      switch (m.type)
+      {
+        case COUNTER:
+          metricList.add(new LDAPMetric(m.name, m.type, m.description,
+               m.labels, m.counter.get(), null));
+          break;
+
+        case GAUGE:
+          try
+          {
+            metricList.add(new LDAPMetric(m.name, m.type, m.description,
+                 m.labels, m.gauge.getValue(), null));
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+          }
+          break;
+
+        case HISTOGRAM:
+          metricList.add(new LDAPMetric(m.name, m.type, m.description,
+               m.labels, 0.0d, m.histogram.getSnapshot()));
+          break;
+      }
+    }
+
+    for (final Map.Entry<String,AbstractConnectionPool> e : pools.entrySet())
+    {
+      addPoolMetrics(e.getKey(), e.getValue(), metricList);
+    }
+
+    for (final Map.Entry<String,LDAPConnection> e : connections.entrySet())
+    {
+      addConnectionMetrics(e.getKey(), e.getValue(), metricList);
+    }
+
+    Collections.sort(metricList, new LDAPMetricComparator());
+    return Collections.unmodifiableList(metricList);
+  }
+
+
+
+  /**
+   * Adds the metrics for the provided connection pool to the given list.
+   *
+   * @param  poolName    The name for the connection pool.
+   * @param  pool        The connection pool for which to add the metrics.
+   * @param  metricList  The list to which the metrics should be added.
+   */
+  private static void addPoolMetrics(@NotNull final String poolName,
+                                     @NotNull final AbstractConnectionPool pool,
+                                     @NotNull final List<LDAPMetric> metricList)
+  {
+    final Map<String,String> poolLabels = createLabels(LABEL_POOL, poolName);
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+
+    metricList.add(new LDAPMetric(METRIC_POOL_AVAILABLE_CONNECTIONS,
+         LDAPMetricType.GAUGE,
+         "The number of connections currently available in the pool",
+         poolLabels, pool.getCurrentAvailableConnections(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_MAX_AVAILABLE_CONNECTIONS,
+         LDAPMetricType.GAUGE,
+         "The maximum number of connections that may be available in the pool",
+         poolLabels, pool.getMaximumAvailableConnections(), null));
+
+    final String checkoutsDescription =
+         "The number of attempts to check out a connection from the pool";
+    metricList.add(new LDAPMetric(METRIC_POOL_CHECKOUTS,
+         LDAPMetricType.COUNTER, checkoutsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "without_wait"),
+         stats.getNumSuccessfulCheckoutsWithoutWaiting(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CHECKOUTS,
+         LDAPMetricType.COUNTER, checkoutsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "after_wait"),
+         stats.getNumSuccessfulCheckoutsAfterWaiting(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CHECKOUTS,
+         LDAPMetricType.COUNTER, checkoutsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "new_connection"),
+         stats.getNumSuccessfulCheckoutsNewConnection(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CHECKOUTS,
+         LDAPMetricType.COUNTER, checkoutsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "failed"),
+         stats.getNumFailedCheckouts(), null));
+
+    final String attemptsDescription =
+         "The number of attempts to create a connection for use in the pool";
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTION_ATTEMPTS,
+         LDAPMetricType.COUNTER, attemptsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "successful"),
+         stats.getNumSuccessfulConnectionAttempts(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTION_ATTEMPTS,
+         LDAPMetricType.COUNTER, attemptsDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_OUTCOME, "failed"),
+         stats.getNumFailedConnectionAttempts(), null));
+
+    final String closedDescription =
+         "The number of connections closed by the pool";
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTIONS_CLOSED,
+         LDAPMetricType.COUNTER, closedDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_REASON, "defunct"),
+         stats.getNumConnectionsClosedDefunct(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTIONS_CLOSED,
+         LDAPMetricType.COUNTER, closedDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_REASON, "expired"),
+         stats.getNumConnectionsClosedExpired(), null));
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTIONS_CLOSED,
+         LDAPMetricType.COUNTER, closedDescription,
+         createLabels(LABEL_POOL, poolName, LABEL_REASON, "unneeded"),
+         stats.getNumConnectionsClosedUnneeded(), null));
+
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTIONS_RELEASED,
+         LDAPMetricType.COUNTER,
+         "The number of valid connections released back to the pool",
+         poolLabels, stats.getNumReleasedValid(), null));
+
+    metricList.add(new LDAPMetric(METRIC_POOL_CHECKOUT_WAIT_TIME,
+         LDAPMetricType.HISTOGRAM,
+         "The time spent checking out connections from the pool",
+         poolLabels, 0.0d, stats.getCheckoutWaitTimeHistogram().getSnapshot()));
+    metricList.add(new LDAPMetric(METRIC_POOL_CONNECTION_CREATION_TIME,
+         LDAPMetricType.HISTOGRAM,
+         "The time spent creating connections for use in the pool",
+         poolLabels, 0.0d,
+         stats.getConnectionCreationTimeHistogram().getSnapshot()));
+
+    if (pool instanceof LDAPConnectionPool)
+    {
+      for (final LDAPConnectionPoolServer s :
+           ((LDAPConnectionPool) pool).getPoolServers())
+      {
+        final Map<String,String> serverLabels = createLabels(LABEL_POOL,
+             poolName, LABEL_SERVER, s.getHost() + ':' + s.getPort());
+        metricList.add(new LDAPMetric(METRIC_POOL_SERVER_AVAILABLE_CONNECTIONS,
+             LDAPMetricType.GAUGE,
+             "The number of connections to the server currently available " +
+                  "in the pool",
+             serverLabels, s.getNumAvailableConnections(), null));
+        metricList.add(new LDAPMetric(
+             METRIC_POOL_SERVER_OUTSTANDING_OPERATIONS, LDAPMetricType.GAUGE,
+             "The number of connections to the server currently checked " +
+                  "out of the pool",
+             serverLabels, s.getNumOutstandingOperations(), null));
+      }
+    }
+  }
+
+
+
+  /**
+   * Adds the metrics for the provided connection to the given list.
+   *
+   * @param  connectionName  The name for the connection.
+   * @param  connection      The connection for which to add the metrics.
+   * @param  metricList      The list to which the metrics should be added.
+   */
+  private static void addConnectionMetrics(
+                           @NotNull final String connectionName,
+                           @NotNull final LDAPConnection connection,
+                           @NotNull final List<LDAPMetric> metricList)
+  {
+    final String server = connection.getHostPort();
+    final Map<String,String> connectionLabels = createLabels(LABEL_CONNECTION,
+         connectionName, LABEL_SERVER, server);
+    final LDAPConnectionStatistics stats =
+         connection.getConnectionStatistics();
+
+    metricList.add(new LDAPMetric(METRIC_CONNECTION_CONNECTS,
+         LDAPMetricType.COUNTER,
+         "The number of times the connection has been established",
+         connectionLabels, stats.getNumConnects(), null));
+    metricList.add(new LDAPMetric(METRIC_CONNECTION_DISCONNECTS,
+         LDAPMetricType.COUNTER,
+         "The number of times the connection has been closed",
+         connectionLabels, stats.getNumDisconnects(), null));
+    metricList.add(new LDAPMetric(METRIC_CONNECTION_CONNECT_TIME,
+         LDAPMetricType.HISTOGRAM,
+         "The time required to establish the connection",
+         connectionLabels, 0.0d,
+         stats.getConnectTimeHistogram().getSnapshot()));
+
+    for (final OperationType t : OperationType.values())
+    {
+      final LatencyHistogram h = stats.getResponseTimeHistogram(t);
+      if (h != null)
+      {
+        metricList.add(new LDAPMetric(METRIC_CONNECTION_RESPONSE_TIME,
+             LDAPMetricType.HISTOGRAM,
+             "The response times for operations processed on the connection",
+             createLabels(LABEL_CONNECTION, connectionName, LABEL_SERVER,
+                  server, LABEL_OPERATION, getOperationName(t)),
+             0.0d, h.getSnapshot()));
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the registered metric with the provided name and labels,
+   * creating it if necessary.
+   *
+   * @param  name         The name for the metric.
+   * @param  type         The type for the metric.
+   * @param  description  The description for the metric.
+   * @param  labels       The labels for the metric.
+   *
+   * @return  The registered metric.
+   */
+  @NotNull()
+  private RegisteredMetric getOrCreateMetric(@NotNull final String name,
+               @NotNull final LDAPMetricType type,
+               @NotNull final String description,
+               @Nullable final Map<String,String> labels)
+  {
+    Validator.ensureNotNull(name, description);
+    Validator.ensureTrue(isValidName(name, true),
+         "LDAPMetricsRegistry metric name '" + name + "' is not valid.");
+
+    final Map<String,String> labelMap;
+    if (labels == null)
+    {
+      labelMap = Collections.emptyMap();
+    }
+    else
+    {
+      labelMap = labels;
+      for (final String labelName : labelMap.keySet())
+      {
+        Validator.ensureTrue(isValidName(labelName, false),
+             "LDAPMetricsRegistry label name '" + labelName +
+                  "' is not valid.");
+      }
+    }
+
+    final LDAPMetricType existingType = metricTypes.putIfAbsent(name, type);
+    Validator.ensureTrue(((existingType == null) || (existingType == type)),
+         "LDAPMetricsRegistry metric '" + name + "' is already registered " +
+              "as a " + existingType + " metric.");
+
+    final String key = getKey(name, labelMap);
+    final RegisteredMetric m = metrics.get(key);
+    if (m != null)
+    {
+      return m;
+    }
+
+    final RegisteredMetric newMetric =
+         new RegisteredMetric(name, type, description, labelMap);
+    final RegisteredMetric existingMetric = metrics.putIfAbsent(key, newMetric);
+    if (existingMetric == null)
+    {
+      return newMetric;
+    }
+    else
+    {
+      return existingMetric;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the key that will be used to identify the metric with the
+   * provided name and labels.
+   *
+   * @param  name    The name for the metric.
+   * @param  labels  The labels for the metric.  It may be {@code null}.
+   *
+   * @return  The key for the metric.
+   */
+  @NotNull()
+  private static String getKey(@NotNull final String name,
+                               @Nullable final Map<String,String> labels)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append(name);
+
+    if (labels != null)
+    {
+      for (final Map.Entry<String,String> e :
+           new TreeMap<>(labels).entrySet())
+      {
+        buffer.append('\u0000');
+        buffer.append(e.getKey());
+        buffer.append('\u0000');
+        buffer.append(e.getValue());
+      }
+    }
+
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Indicates whether the provided string is a valid metric or label name.
+   *
+   * @param  name        The name to examine.
+   * @param  allowColon  Indicates whether the name may contain colons.
+   *
+   * @return  {@code true} if the provided string is a valid name, or
+   *          {@code false} if not.
+   */
+  static boolean isValidName(@NotNull final String name,
+                             final boolean allowColon)
+  {
+    if (name.isEmpty())
+    {
+      return false;
+    }
+
+    for (int i=0; i < name.length(); i++)
+    {
+      final char c = name.charAt(i);
+      if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) ||
+          (c == '_') || ((c == ':') && allowColon))
+      {
+        continue;
+      }
+      else if ((c >= '0') && (c <= '9') && (i > 0))
+      {
+        continue;
+      }
+      else
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Retrieves the name that will be used for the provided operation type in
+   * metric labels.
+   *
+   * @param  operationType  The operation type for which to retrieve the name.
+   *
+   * @return  The name that will be used for the provided operation type.
+   */
+  @NotNull()
+  static String getOperationName(@NotNull final OperationType operationType)
+  {
+    return StaticUtils.toLowerCase(operationType.name());
+  }
+
+
+
+  /**
+   * Creates a map of labels from the provided names and values.
+   *
+   * @param  namesAndValues  The label names and values, in alternating order.
+   *
+   * @return  The map of labels.
+   */
+  @NotNull()
+  private static Map<String,String> createLabels(
+                      @NotNull final String... namesAndValues)
+  {
+    final LinkedHashMap<String,String> labels = new LinkedHashMap<>(
+         StaticUtils.computeMapCapacity(namesAndValues.length / 2));
+    for (int i=0; i < namesAndValues.length; i += 2)
+    {
+      labels.put(namesAndValues[i], namesAndValues[i+1]);
+    }
+
+    return labels;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this metrics registry.
+   *
+   * @return  A string representation of this metrics registry.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this metrics registry to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPMetricsRegistry(numRegisteredMetrics=");
+    buffer.append(metrics.size());
+    buffer.append(", registeredPools=");
+    buffer.append(new TreeMap<>(pools).keySet());
+    buffer.append(", registeredConnections=");
+    buffer.append(new TreeMap<>(connections).keySet());
+    buffer.append(", numListeners=");
+    buffer.append(listeners.size());
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class holds information about a metric that has been explicitly
+   * registered.
+   */
+  private static final class RegisteredMetric
+  {
+    // The counter for this metric, if it is a counter.
+    @Nullable private final AtomicLong counter;
+
+    // The histogram for this metric, if it is a histogram.
+    @Nullable private final LatencyHistogram histogram;
+
+    // The gauge for this metric, if it is a gauge.
+    @Nullable private volatile LDAPMetricGauge gauge;
+
+    // The type for this metric.
+    @NotNull private final LDAPMetricType type;
+
+    // The labels for this metric.
+    @NotNull private final Map<String,String> labels;
+
+    // The description for this metric.
+    @NotNull private final String description;
+
+    // The name for this metric.
+    @NotNull private final String name;
+
+
+
+    /**
+     * Creates a new registered metric with the provided information.
+     *
+     * @param  name         The name for the metric.
+     * @param  type         The type for the metric.
+     * @param  description  The description for the metric.
+     * @param  labels       The labels for the metric.
+     */
+    private RegisteredMetric(@NotNull final String name,
+                             @NotNull final LDAPMetricType type,
+                             @NotNull final String description,
+                             @NotNull final Map<String,String> labels)
+    {
+      this.name = name;
+      this.type = type;
+      this.description = description;
+      this.labels = new TreeMap<>(labels);
+
+      gauge = null;
+      if (type == LDAPMetricType.COUNTER)
+      {
+        counter = new AtomicLong(0L);
+      }
+      else
+      {
+        counter = null;
+      }
+
+      if (type == LDAPMetricType.HISTOGRAM)
+      {
+        histogram = new LatencyHistogram();
+      }
+      else
+      {
+        histogram = null;
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a comparator that orders metrics by name and then by
+   * labels, which keeps all of the metrics with the same name together.
+   */
+  private static final class LDAPMetricComparator
+          implements Comparator<LDAPMetric>, Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -6152084390727314601L;
+
+
+
+    /**
+     * Compares the provided metrics.
+     *
+     * @param  m1  The first metric to compare.
+     * @param  m2  The second metric to compare.
+     *
+     * @return  A negative value if the first metric should be ordered before
+     *          the second, a positive value if the first metric should be
+     *          ordered after the second, or zero if they have the same name
+     *          and labels.
+     */
+    @Override()
+    public int compare(@NotNull final LDAPMetric m1,
+                       @NotNull final LDAPMetric m2)
+    {
+      final int nameComparison = m1.getName().compareTo(m2.getName());
+      if (nameComparison != 0)
+      {
+        return nameComparison;
+      }
+
+      return getKey(m1.getName(), m1.getLabels()).compareTo(
+           getKey(m2.getName(), m2.getLabels()));
+    }
+  }
+}
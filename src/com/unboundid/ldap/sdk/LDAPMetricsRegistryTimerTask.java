@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.TimerTask;
+
+import com.unboundid.util.NotNull;
+
+
+
+/**
+ * This class implements a timer task that will be used to periodically provide
+ * a snapshot of the metrics maintained by an {@link LDAPMetricsRegistry} to an
+ * {@link LDAPMetricsListener}.
+ */
+final class LDAPMetricsRegistryTimerTask
+      extends TimerTask
+{
+  // The listener that will be notified.
+  @NotNull private final LDAPMetricsListener listener;
+
+  // The registry with which this timer task is associated.
+  @NotNull private final LDAPMetricsRegistry registry;
+
+
+
+  /**
+   * Creates a new instance of this timer task.
+   *
+   * @param  registry  The registry with which this timer task is associated.
+   *                   It must not be {@code null}.
+   * @param  listener  The listener that will be notified.  It must not be
+   *                   {@code null}.
+   */
+  LDAPMetricsRegistryTimerTask(@NotNull final LDAPMetricsRegistry registry,
+                               @NotNull final LDAPMetricsListener listener)
+  {
+    this.registry = registry;
+    this.listener = listener;
+  }
+
+
+
+  /**
+   * Provides a snapshot of the registry's metrics to the listener.
+   */
+  @Override()
+  public void run()
+  {
+    registry.notifyListener(listener);
+  }
+}
@@ -400,6 +400,7 @@ public final class LDAPThreadLocalConnectionPool
   private LDAPConnection createConnection()
           throws LDAPException
   {
+    final long createStartTime = System.nanoTime();
     final LDAPConnection c;
     try
     {
@@ -609,6 +610,8 @@ public final class LDAPThreadLocalConnectionPool
     // Finish setting up the connection.
     c.setConnectionPoolName(connectionPoolName);
     poolStatistics.incrementNumSuccessfulConnectionAttempts();
+    poolStatistics.recordConnectionCreationTime(
+         System.nanoTime() - createStartTime);
     Debug.debugConnectionPool(Level.INFO, this, c,
          "Successfully created a new pooled connection", null);
 
@@ -880,6 +883,28 @@ public final class LDAPThreadLocalConnectionPool
   @NotNull()
   public LDAPConnection getConnection()
          throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection();
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * Checks out a connection from the pool, creating a new connection or
+   * waiting for one to become available if necessary.
+   *
+   * @return  A connection checked out from the pool.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to obtain a
+   *                         connection.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection()
+          throws LDAPException
   {
     final Thread t = Thread.currentThread();
     LDAPConnection conn = connections.get(t);
@@ -979,6 +1004,29 @@ public final class LDAPThreadLocalConnectionPool
 
 
 
+  /**
+   * Arranges for the provided connection to be released back to this pool once
+   * the associated asynchronous operation has completed.  Because connections
+   * in this pool remain associated with the thread that obtained them and may
+   * be used to process multiple concurrent asynchronous operations, and because
+   * releasing a connection must be done by that thread, no action will be taken
+   * when the operation completes.  The connection will continue to be used by
+   * the thread that obtained it, and will be replaced on the next checkout if
+   * it is no longer connected.
+   *
+   * @param  conn       The connection used to send the request.
+   * @param  requestID  The async request ID for the operation.
+   */
+  @Override()
+  void releaseConnectionOnAsyncCompletion(
+            @NotNull final LDAPConnection conn,
+            @NotNull final AsyncRequestID requestID)
+  {
+    // No implementation is required.
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,1049 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.SocketFactory;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a server set implementation that will establish
+ * connections to the server that is currently responding the fastest.  It
+ * continuously tracks the response times and error rates observed for
+ * operations processed on connections that it has created, using a peak
+ * exponentially-weighted moving average (peak-EWMA) that reacts immediately to
+ * slower responses and gradually forgets them once a server speeds up again.
+ * When a new connection is needed, the cost of each server is computed as its
+ * average response time, inflated by its recent error rate, and multiplied by
+ * one more than the number of connections already established to it by this
+ * server set.  The connection will be established to the server with the
+ * lowest cost, so that new connections are steered toward the fastest healthy
+ * servers while still being spread across servers with comparable performance.
+ * Servers for which no operations have been observed recently will have a low
+ * cost, so that they are periodically tried again.
+ * <BR><BR>
+ * The server set also has a connection replacement threshold, which is
+ * {@link #DEFAULT_CONNECTION_REPLACEMENT_THRESHOLD} unless another value is
+ * provided.  Whenever a connection created by this server set is released back
+ * to an {@link LDAPConnectionPool}, the server set will check whether the
+ * response time for the server to which that connection is established
+ * exceeds the response time for the fastest healthy server by more than that
+ * factor.  If so, the pool will close the connection and replace it with a new
+ * connection, which this server set will establish to a faster server.  This
+ * allows the connections already in a pool, and therefore the operations that
+ * are processed by checking them out, to shift away from a server within
+ * seconds after it slows down.  To avoid excessive connection churn, at most
+ * one connection to each server will be replaced in any interval equal to one
+ * hundredth of the latency decay time, which is 100 milliseconds with the
+ * default decay time.  A threshold that is less than or equal to one disables
+ * connection replacement.
+ * <BR><BR>
+ * Response times are recorded for add, compare, delete, extended, modify,
+ * modify DN, and search operations, including operations for which the
+ * client-side response timeout expired.  Operations that fail with a result
+ * code indicating that the connection may no longer be usable, like
+ * {@link ResultCode#BUSY}, {@link ResultCode#UNAVAILABLE}, or
+ * {@link ResultCode#TIMEOUT}, count as errors, as do failed connection
+ * attempts and connections that are unexpectedly closed.
+ * <BR><BR>
+ * This server set implementation has the ability to maintain a temporary
+ * blacklist of servers that have been recently found to be unavailable or
+ * unsuitable for use.  If an attempt to establish or authenticate a
+ * connection fails, if post-connect processing fails for that connection, or if
+ * health checking indicates that the connection is not suitable, then that
+ * server may be placed on the blacklist so that it will only be tried as a last
+ * resort after all non-blacklisted servers have been attempted.  The blacklist
+ * will be checked at regular intervals to determine whether a server should be
+ * re-instated to availability.
+ * <BR><BR>
+ * Note that this server set implementation is primarily intended for use with
+ * connection pools, but is also suitable for cases in which standalone
+ * connections are created as long as there will not be any attempt to close the
+ * connections when they are re-established.  It is not suitable for use in
+ * connections that may be re-established one or more times after being closed.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating a latency-aware
+ * server set that may be used to establish connections to either of two
+ * servers, and that will replace pooled connections to a server whose response
+ * time is more than twice that of the fastest server.
+ * <PRE>
+ * // Create arrays with the addresses and ports of the directory server
+ * // instances.
+ * String[] addresses =
+ * {
+ *   server1Address,
+ *   server2Address
+ * };
+ * int[] ports =
+ * {
+ *   server1Port,
+ *   server2Port
+ * };
+ *
+ * // Create the server set using the address and port arrays.
+ * LatencyAwareServerSet latencyAwareSet = new LatencyAwareServerSet(
+ *      addresses, ports, null, null, null, null, 30_000L,
+ *      LatencyAwareServerSet.DEFAULT_LATENCY_DECAY_MILLIS, 2.0d);
+ *
+ * // Create a connection pool using the server set.
+ * SimpleBindRequest bindRequest =
+ *      new SimpleBindRequest("uid=pool.user,dc=example,dc=com", "password");
+ * LDAPConnectionPool pool =
+ *      new LDAPConnectionPool(latencyAwareSet, bindRequest, 10);
+ * RootDSE rootDSEFromPool = pool.getRootDSE();
+ * pool.close();
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LatencyAwareServerSet
+       extends ServerSet
+{
+  /**
+   * The default latency decay time, in milliseconds.  Response times observed
+   * this long ago will carry about 37 percent (1/e) of the weight of a new
+   * observation.
+   */
+  public static final long DEFAULT_LATENCY_DECAY_MILLIS = 10_000L;
+
+
+
+  /**
+   * The default connection replacement threshold, which indicates that pooled
+   * connections to a server will be replaced when the response time for that
+   * server is more than twice the response time for the fastest healthy
+   * server.
+   */
+  public static final double DEFAULT_CONNECTION_REPLACEMENT_THRESHOLD = 2.0d;
+
+
+
+  /**
+   * The name of a system property that can be used to override the default
+   * blacklist check interval, in milliseconds.
+   */
+  @NotNull static final String
+       PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS =
+            LatencyAwareServerSet.class.getName() +
+                 ".defaultBlacklistCheckIntervalMillis";
+
+
+
+  // The bind request to use to authenticate connections created by this
+  // server set.
+  @Nullable private final BindRequest bindRequest;
+
+  // The factor by which the response time for a server must exceed that of the
+  // fastest server before pooled connections to it are replaced.
+  private final double connectionReplacementThreshold;
+
+  // The set of connection options to use for new connections.
+  @NotNull private final LDAPConnectionOptions connectionOptions;
+
+  // The latency decay time, in milliseconds.
+  private final long latencyDecayMillis;
+
+  // The minimum length of time, in nanoseconds, between replacements of
+  // connections to the same server.
+  private final long minReplacementIntervalNanos;
+
+  // A map with the time (from System.nanoTime) that this server set most
+  // recently indicated that a pooled connection to each server should be
+  // replaced.
+  @NotNull private final Map<ObjectPair<String,Integer>,AtomicLong>
+       lastReplacementTimesByServer;
+
+  // A map with the number of connections currently established for each server.
+  @NotNull private final Map<ObjectPair<String,Integer>,AtomicLong>
+       connectionCountsByServer;
+
+  // A map with the latency tracker for each server.
+  @NotNull private final Map<ObjectPair<String,Integer>,ServerLatencyTracker>
+       latencyTrackersByServer;
+
+  // The post-connect processor to invoke against connections created by this
+  // server set.
+  @Nullable private final PostConnectProcessor postConnectProcessor;
+
+  // The blacklist manager for this server set.
+  @Nullable private final ServerSetBlacklistManager blacklistManager;
+
+  // The socket factory to use to establish connections.
+  @NotNull private final SocketFactory socketFactory;
+
+
+
+  /**
+   * Creates a new latency-aware server set with the specified set of directory
+   * server addresses and port numbers.  It will use the default socket factory
+   * provided by the JVM to create the underlying sockets, and it will use the
+   * default connection replacement threshold.
+   *
+   * @param  addresses  The addresses of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null} or empty.
+   * @param  ports      The ports of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null}, and it must have the same number of
+   *                    elements as the {@code addresses} array.  The order of
+   *                    elements in the {@code addresses} array must correspond
+   *                    to the order of elements in the {@code ports} array.
+   */
+  public LatencyAwareServerSet(@NotNull final String[] addresses,
+                               @NotNull final int[] ports)
+  {
+    this(addresses, ports, null, null);
+  }
+
+
+
+  /**
+   * Creates a new latency-aware server set with the specified set of directory
+   * server addresses and port numbers.  It will use the provided socket factory
+   * to create the underlying sockets, and it will use the default connection
+   * replacement threshold.
+   *
+   * @param  addresses          The addresses of the directory servers to which
+   *                            the connections should be established.  It must
+   *                            not be {@code null} or empty.
+   * @param  ports              The ports of the directory servers to which the
+   *                            connections should be established.  It must not
+   *                            be {@code null}, and it must have the same
+   *                            number of elements as the {@code addresses}
+   *                            array.  The order of elements in the
+   *                            {@code addresses} array must correspond to the
+   *                            order of elements in the {@code ports} array.
+   * @param  socketFactory      The socket factory to use to create the
+   *                            underlying connections.
+   * @param  connectionOptions  The set of connection options to use for the
+   *                            underlying connections.
+   */
+  public LatencyAwareServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+  {
+    this(addresses, ports, socketFactory, connectionOptions, null, null);
+  }
+
+
+
+  /**
+   * Creates a new latency-aware server set with the specified set of directory
+   * server addresses and port numbers.  It will use the provided socket factory
+   * to create the underlying sockets, and it will use the default connection
+   * replacement threshold.
+   *
+   * @param  addresses             The addresses of the directory servers to
+   *                               which the connections should be established.
+   *                               It must not be {@code null} or empty.
+   * @param  ports                 The ports of the directory servers to which
+   *                               the connections should be established.  It
+   *                               must not be {@code null}, and it must have
+   *                               the same number of elements as the
+   *                               {@code addresses} array.  The order of
+   *                               elements in the {@code addresses} array must
+   *                               correspond to the order of elements in the
+   *                               {@code ports} array.
+   * @param  socketFactory         The socket factory to use to create the
+   *                               underlying connections.
+   * @param  connectionOptions     The set of connection options to use for the
+   *                               underlying connections.
+   * @param  bindRequest           The bind request that should be used to
+   *                               authenticate newly established connections.
+   *                               It may be {@code null} if this server set
+   *                               should not perform any authentication.
+   * @param  postConnectProcessor  The post-connect processor that should be
+   *                               invoked on newly established connections.  It
+   *                               may be {@code null} if this server set should
+   *                               not perform any post-connect processing.
+   */
+  public LatencyAwareServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions,
+              @Nullable final BindRequest bindRequest,
+              @Nullable final PostConnectProcessor postConnectProcessor)
+  {
+    this(addresses, ports, socketFactory, connectionOptions, bindRequest,
+         postConnectProcessor, getDefaultBlacklistCheckIntervalMillis(),
+         DEFAULT_LATENCY_DECAY_MILLIS,
+         DEFAULT_CONNECTION_REPLACEMENT_THRESHOLD);
+  }
+
+
+
+  /**
+   * Creates a new latency-aware server set with the specified set of directory
+   * server addresses and port numbers.  It will use the provided socket factory
+   * to create the underlying sockets.
+   *
+   * @param  addresses                       The addresses of the directory
+   *                                         servers to which the connections
+   *                                         should be established.  It must
+   *                                         not be {@code null} or empty.
+   * @param  ports                           The ports of the directory servers
+   *                                         to which the connections should be
+   *                                         established.  It must not be
+   *                                         {@code null}, and it must have the
+   *                                         same number of elements as the
+   *                                         {@code addresses} array.  The order
+   *                                         of elements in the
+   *                                         {@code addresses} array must
+   *                                         correspond to the order of elements
+   *                                         in the {@code ports} array.
+   * @param  socketFactory                   The socket factory to use to create
+   *                                         the underlying connections.
+   * @param  connectionOptions               The set of connection options to
+   *                                         use for the underlying
+   *                                         connections.
+   * @param  bindRequest                     The bind request that should be
+   *                                         used to authenticate newly
+   *                                         established connections.  It may
+   *                                         be {@code null} if this server set
+   *                                         should not perform any
+   *                                         authentication.
+   * @param  postConnectProcessor            The post-connect processor that
+   *                                         should be invoked on newly
+   *                                         established connections.  It may
+   *                                         be {@code null} if this server set
+   *                                         should not perform any
+   *                                         post-connect processing.
+   * @param  blacklistCheckIntervalMillis    The length of time in milliseconds
+   *                                         between checks of servers on the
+   *                                         blacklist to determine whether they
+   *                                         are once again suitable for use.  A
+   *                                         value that is less than or equal to
+   *                                         zero indicates that no blacklist
+   *                                         should be maintained.
+   * @param  latencyDecayMillis              The time constant, in
+   *                                         milliseconds, used to decay older
+   *                                         response time observations.  A
+   *                                         smaller value allows the server set
+   *                                         to react more quickly to changes in
+   *                                         server performance.  A value that
+   *                                         is less than or equal to zero
+   *                                         indicates that the default decay
+   *                                         time should be used.
+   * @param  connectionReplacementThreshold  The factor by which the response
+   *                                         time for a server must exceed the
+   *                                         response time for the fastest
+   *                                         healthy server before pooled
+   *                                         connections to it are replaced.  A
+   *                                         value that is less than or equal to
+   *                                         one indicates that pooled
+   *                                         connections should not be replaced
+   *                                         based on server response times.
+   *                                         The constructors that do not
+   *                                         take this argument use a threshold
+   *                                         of two.
+   */
+  public LatencyAwareServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions,
+              @Nullable final BindRequest bindRequest,
+              @Nullable final PostConnectProcessor postConnectProcessor,
+              final long blacklistCheckIntervalMillis,
+              final long latencyDecayMillis,
+              final double connectionReplacementThreshold)
+  {
+    Validator.ensureNotNull(addresses, ports);
+    Validator.ensureTrue(addresses.length > 0,
+         "LatencyAwareServerSet.addresses must not be empty.");
+    Validator.ensureTrue(addresses.length == ports.length,
+         "LatencyAwareServerSet addresses and ports arrays must be the same " +
+              "size.");
+
+    if (latencyDecayMillis > 0L)
+    {
+      this.latencyDecayMillis = latencyDecayMillis;
+    }
+    else
+    {
+      this.latencyDecayMillis = DEFAULT_LATENCY_DECAY_MILLIS;
+    }
+
+    if (connectionReplacementThreshold > 1.0d)
+    {
+      this.connectionReplacementThreshold = connectionReplacementThreshold;
+    }
+    else
+    {
+      this.connectionReplacementThreshold = 0.0d;
+    }
+
+    minReplacementIntervalNanos = this.latencyDecayMillis * 10_000L;
+    final long initialReplacementTime =
+         System.nanoTime() - minReplacementIntervalNanos;
+
+    final LinkedHashMap<ObjectPair<String,Integer>,AtomicLong> counts =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(ports.length));
+    final LinkedHashMap<ObjectPair<String,Integer>,ServerLatencyTracker>
+         trackers =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(ports.length));
+    final LinkedHashMap<ObjectPair<String,Integer>,AtomicLong>
+         replacementTimes =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(ports.length));
+    for (int i=0; i < addresses.length; i++)
+    {
+      final ObjectPair<String,Integer> hostPort =
+           new ObjectPair<>(addresses[i], ports[i]);
+      counts.put(hostPort, new AtomicLong(0L));
+      trackers.put(hostPort, new ServerLatencyTracker(this.latencyDecayMillis));
+      replacementTimes.put(hostPort, new AtomicLong(initialReplacementTime));
+    }
+
+    connectionCountsByServer = Collections.unmodifiableMap(counts);
+    latencyTrackersByServer = Collections.unmodifiableMap(trackers);
+    lastReplacementTimesByServer =
+         Collections.unmodifiableMap(replacementTimes);
+
+    this.bindRequest = bindRequest;
+    this.postConnectProcessor = postConnectProcessor;
+
+    if (socketFactory == null)
+    {
+      this.socketFactory = SocketFactory.getDefault();
+    }
+    else
+    {
+      this.socketFactory = socketFactory;
+    }
+
+    if (connectionOptions == null)
+    {
+      this.connectionOptions = new LDAPConnectionOptions();
+    }
+    else
+    {
+      this.connectionOptions = connectionOptions;
+    }
+
+    if (blacklistCheckIntervalMillis > 0L)
+    {
+      blacklistManager = new ServerSetBlacklistManager(this, socketFactory,
+           connectionOptions, bindRequest, postConnectProcessor,
+           blacklistCheckIntervalMillis);
+    }
+    else
+    {
+      blacklistManager = null;
+    }
+  }
+
+
+
+  /**
+   * Attempts to determine the appropriate default blacklist check interval
+   * in milliseconds.
+   *
+   * @return  The appropriate default blacklist check interval in milliseconds.
+   */
+  private static long getDefaultBlacklistCheckIntervalMillis()
+  {
+    final String propertyValue = StaticUtils.getSystemProperty(
+         PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS);
+    if (propertyValue != null)
+    {
+      try
+      {
+        return Long.parseLong(propertyValue);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+
+    return 30_000L;
+  }
+
+
+
+  /**
+   * Retrieves the addresses of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The addresses of the directory servers to which the connections
+   *          should be established.
+   */
+  @NotNull()
+  public String[] getAddresses()
+  {
+    int i = 0;
+    final String[] addresses = new String[connectionCountsByServer.size()];
+    for (final ObjectPair<String,Integer> hostPort :
+         connectionCountsByServer.keySet())
+    {
+      addresses[i++] = hostPort.getFirst();
+    }
+
+    return addresses;
+  }
+
+
+
+  /**
+   * Retrieves the ports of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The ports of the directory servers to which the connections should
+   *          be established.
+   */
+  @NotNull()
+  public int[] getPorts()
+  {
+    int i = 0;
+    final int[] ports = new int[connectionCountsByServer.size()];
+    for (final ObjectPair<String,Integer> hostPort :
+         connectionCountsByServer.keySet())
+    {
+      ports[i++] = hostPort.getSecond();
+    }
+
+    return ports;
+  }
+
+
+
+  /**
+   * Retrieves the socket factory that will be used to establish connections.
+   *
+   * @return  The socket factory that will be used to establish connections.
+   */
+  @NotNull()
+  public SocketFactory getSocketFactory()
+  {
+    return socketFactory;
+  }
+
+
+
+  /**
+   * Retrieves the set of connection options that will be used for underlying
+   * connections.
+   *
+   * @return  The set of connection options that will be used for underlying
+   *          connections.
+   */
+  @NotNull()
+  public LDAPConnectionOptions getConnectionOptions()
+  {
+    return connectionOptions;
+  }
+
+
+
+  /**
+   * Retrieves the time constant, in milliseconds, used to decay older response
+   * time observations.
+   *
+   * @return  The time constant, in milliseconds, used to decay older response
+   *          time observations.
+   */
+  public long getLatencyDecayMillis()
+  {
+    return latencyDecayMillis;
+  }
+
+
+
+  /**
+   * Retrieves the factor by which the response time for a server must exceed
+   * the response time for the fastest healthy server before pooled connections
+   * to it are replaced.
+   *
+   * @return  The connection replacement threshold, or zero if pooled
+   *          connections will not be replaced based on server response times.
+   */
+  public double getConnectionReplacementThreshold()
+  {
+    return connectionReplacementThreshold;
+  }
+
+
+
+  /**
+   * Retrieves the current moving average of the response time for operations
+   * processed by the specified server.
+   *
+   * @param  host  The address of the server for which to retrieve the
+   *               response time.  It must not be {@code null}.
+   * @param  port  The port of the server for which to retrieve the response
+   *               time.
+   *
+   * @return  The current moving average of the response time, in milliseconds,
+   *          for operations processed by the specified server, or -1 if the
+   *          specified server is not part of this server set.
+   */
+  public double getAverageResponseTimeMillis(@NotNull final String host,
+                                             final int port)
+  {
+    final ServerLatencyTracker tracker =
+         latencyTrackersByServer.get(new ObjectPair<>(host, port));
+    if (tracker == null)
+    {
+      return -1.0d;
+    }
+
+    return tracker.getLatencyNanos(System.nanoTime()) / 1_000_000.0d;
+  }
+
+
+
+  /**
+   * Retrieves the current moving average of the error rate for operations
+   * processed by the specified server.
+   *
+   * @param  host  The address of the server for which to retrieve the error
+   *               rate.  It must not be {@code null}.
+   * @param  port  The port of the server for which to retrieve the error rate.
+   *
+   * @return  The current moving average of the error rate, as a value between
+   *          zero and one, for operations processed by the specified server, or
+   *          -1 if the specified server is not part of this server set.
+   */
+  public double getErrorRate(@NotNull final String host, final int port)
+  {
+    final ServerLatencyTracker tracker =
+         latencyTrackersByServer.get(new ObjectPair<>(host, port));
+    if (tracker == null)
+    {
+      return -1.0d;
+    }
+
+    return tracker.getErrorRate(System.nanoTime());
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesAuthentication()
+  {
+    return (bindRequest != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesPostConnectProcessing()
+  {
+    return (postConnectProcessor != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection()
+         throws LDAPException
+  {
+    return getConnection(null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection(
+              @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
+         throws LDAPException
+  {
+    // Order the servers by increasing cost.  Shuffle them first so that
+    // servers with the same cost (for example, because no operations have been
+    // observed for any of them) will be tried in a random order.
+    final long currentTime = System.nanoTime();
+    final List<ObjectPair<String,Integer>> servers =
+         new ArrayList<>(connectionCountsByServer.keySet());
+    Collections.shuffle(servers);
+
+    final Map<ObjectPair<String,Integer>,Double> costs =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(servers.size()));
+    for (final ObjectPair<String,Integer> hostPort : servers)
+    {
+      costs.put(hostPort, latencyTrackersByServer.get(hostPort).getCost(
+           connectionCountsByServer.get(hostPort).get(), currentTime));
+    }
+
+    Collections.sort(servers, new ServerCostComparator(costs));
+
+
+    // Try the servers in order of increasing cost.
+    LDAPException lastException = null;
+    List<ObjectPair<String,Integer>> blacklistedServers = null;
+    for (final ObjectPair<String,Integer> hostPort : servers)
+    {
+      if ((blacklistManager != null) &&
+           blacklistManager.isBlacklisted(hostPort))
+      {
+        if (blacklistedServers == null)
+        {
+          blacklistedServers = new ArrayList<>(servers.size());
+        }
+        blacklistedServers.add(hostPort);
+        continue;
+      }
+
+      try
+      {
+        final LDAPConnection conn = new LDAPConnection(socketFactory,
+             connectionOptions, hostPort.getFirst(), hostPort.getSecond());
+        doBindPostConnectAndHealthCheckProcessing(conn, bindRequest,
+             postConnectProcessor, healthCheck);
+        connectionCountsByServer.get(hostPort).incrementAndGet();
+        associateConnectionWithThisServerSet(conn);
+        return conn;
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        lastException = le;
+        latencyTrackersByServer.get(hostPort).recordError(System.nanoTime());
+        if (blacklistManager != null)
+        {
+          blacklistManager.addToBlacklist(hostPort, healthCheck);
+        }
+      }
+    }
+
+
+    // If we've gotten here, then we couldn't get a connection from a
+    // non-blacklisted server.  If there were any blacklisted servers, then try
+    // them as a last resort.
+    if (blacklistedServers != null)
+    {
+      for (final ObjectPair<String,Integer> hostPort : blacklistedServers)
+      {
+        try
+        {
+          final LDAPConnection c = new LDAPConnection(socketFactory,
+               connectionOptions, hostPort.getFirst(), hostPort.getSecond());
+          doBindPostConnectAndHealthCheckProcessing(c, bindRequest,
+               postConnectProcessor, healthCheck);
+          connectionCountsByServer.get(hostPort).incrementAndGet();
+          associateConnectionWithThisServerSet(c);
+          blacklistManager.removeFromBlacklist(hostPort);
+          return c;
+        }
+        catch (final LDAPException e)
+        {
+          Debug.debugException(e);
+          lastException = e;
+          latencyTrackersByServer.get(hostPort).recordError(System.nanoTime());
+        }
+      }
+    }
+
+
+    // If we've gotten here, then we've tried all servers without any success,
+    // so throw the last exception that was encountered.
+    throw lastException;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  protected void handleConnectionClosed(
+                      @NotNull final LDAPConnection connection,
+                      @NotNull final String host, final int port,
+                      @NotNull final DisconnectType disconnectType,
+                      @Nullable final String message,
+                      @Nullable final Throwable cause)
+  {
+    final ObjectPair<String,Integer> hostPort = new ObjectPair<>(host, port);
+    final AtomicLong counter = connectionCountsByServer.get(hostPort);
+    if (counter != null)
+    {
+      final long remainingCount = counter.decrementAndGet();
+      if (remainingCount < 0L)
+      {
+        // This shouldn't happen.  If it does, reset it back to zero.
+        counter.compareAndSet(remainingCount, 0L);
+      }
+    }
+
+    switch (disconnectType)
+    {
+      case SERVER_CLOSED_WITH_NOTICE:
+      case SERVER_CLOSED_WITHOUT_NOTICE:
+      case IO_ERROR:
+      case DECODE_ERROR:
+        final ServerLatencyTracker tracker =
+             latencyTrackersByServer.get(hostPort);
+        if (tracker != null)
+        {
+          tracker.recordError(System.nanoTime());
+        }
+        break;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  protected void handleOperationCompleted(
+                      @NotNull final LDAPConnection connection,
+                      @NotNull final String host, final int port,
+                      @NotNull final OperationType operationType,
+                      @NotNull final ResultCode resultCode,
+                      final long responseTimeNanos)
+  {
+    final ServerLatencyTracker tracker =
+         latencyTrackersByServer.get(new ObjectPair<>(host, port));
+    if (tracker != null)
+    {
+      tracker.recordOperation(responseTimeNanos,
+           (! ResultCode.isConnectionUsable(resultCode)), System.nanoTime());
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  protected boolean shouldReplaceConnection(
+                         @NotNull final LDAPConnection connection)
+  {
+    if (connectionReplacementThreshold <= 1.0d)
+    {
+      return false;
+    }
+
+    final String host = connection.getConnectedAddress();
+    if (host == null)
+    {
+      return false;
+    }
+
+    final ObjectPair<String,Integer> connectionHostPort =
+         new ObjectPair<>(host, connection.getConnectedPort());
+    final ServerLatencyTracker connectionTracker =
+         latencyTrackersByServer.get(connectionHostPort);
+    if ((connectionTracker == null) ||
+        (connectionTracker.getNumOperations() == 0L))
+    {
+      return false;
+    }
+
+    final long currentTime = System.nanoTime();
+    final double connectionCost = connectionTracker.getCost(0L, currentTime);
+
+
+    // Find the lowest cost for any other non-blacklisted server for which
+    // operations have been observed.
+    double bestCost = Double.MAX_VALUE;
+    for (final Map.Entry<ObjectPair<String,Integer>,ServerLatencyTracker> e :
+         latencyTrackersByServer.entrySet())
+    {
+      final ObjectPair<String,Integer> hostPort = e.getKey();
+      final ServerLatencyTracker tracker = e.getValue();
+      if (hostPort.equals(connectionHostPort) ||
+          (tracker.getNumOperations() == 0L) ||
+          ((blacklistManager != null) &&
+               blacklistManager.isBlacklisted(hostPort)))
+      {
+        continue;
+      }
+
+      bestCost = Math.min(bestCost, tracker.getCost(0L, currentTime));
+    }
+
+    if (connectionCost <= (bestCost * connectionReplacementThreshold))
+    {
+      return false;
+    }
+
+
+    // Limit the rate at which connections to this server are replaced.
+    final AtomicLong lastReplacementTime =
+         lastReplacementTimesByServer.get(connectionHostPort);
+    final long previousReplacementTime = lastReplacementTime.get();
+    if ((currentTime - previousReplacementTime) < minReplacementIntervalNanos)
+    {
+      return false;
+    }
+
+    return lastReplacementTime.compareAndSet(previousReplacementTime,
+         currentTime);
+  }
+
+
+
+  /**
+   * Retrieves the blacklist manager for this server set.
+   *
+   * @return  The blacklist manager for this server set, or {@code null} if no
+   *          blacklist will be maintained.
+   */
+  @Nullable()
+  public ServerSetBlacklistManager getBlacklistManager()
+  {
+    return blacklistManager;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LatencyAwareServerSet(servers={");
+
+    final long currentTime = System.nanoTime();
+    final Iterator<Map.Entry<ObjectPair<String,Integer>,AtomicLong>>
+         cbsIterator = connectionCountsByServer.entrySet().iterator();
+    while (cbsIterator.hasNext())
+    {
+      final Map.Entry<ObjectPair<String,Integer>,AtomicLong> e =
+           cbsIterator.next();
+      final ObjectPair<String,Integer> hostPort = e.getKey();
+
+      buffer.append('\'');
+      buffer.append(hostPort.getFirst());
+      buffer.append(':');
+      buffer.append(hostPort.getSecond());
+      buffer.append("':{numConnections=");
+      buffer.append(e.getValue().get());
+      buffer.append(", ");
+      latencyTrackersByServer.get(hostPort).toString(buffer, currentTime);
+      buffer.append('}');
+
+      if (cbsIterator.hasNext())
+      {
+        buffer.append(", ");
+      }
+    }
+
+    buffer.append("}, latencyDecayMillis=");
+    buffer.append(latencyDecayMillis);
+    buffer.append(", connectionReplacementThreshold=");
+    buffer.append(connectionReplacementThreshold);
+    buffer.append(", includesAuthentication=");
+    buffer.append(bindRequest != null);
+    buffer.append(", includesPostConnectProcessing=");
+    buffer.append(postConnectProcessor != null);
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class provides a comparator that may be used to order servers by
+   * increasing cost.
+   */
+  private static final class ServerCostComparator
+          implements Comparator<ObjectPair<String,Integer>>
+  {
+    // The costs for each server.
+    @NotNull private final Map<ObjectPair<String,Integer>,Double> costs;
+
+
+
+    /**
+     * Creates a new comparator with the provided set of server costs.
+     *
+     * @param  costs  The costs for each server.  It must not be {@code null}.
+     */
+    private ServerCostComparator(
+                 @NotNull final Map<ObjectPair<String,Integer>,Double> costs)
+    {
+      this.costs = costs;
+    }
+
+
+
+    /**
+     * Compares the provided servers by cost.
+     *
+     * @param  s1  The first server to compare.
+     * @param  s2  The second server to compare.
+     *
+     * @return  A negative value if the first server has a lower cost than the
+     *          second, a positive value if the first server has a higher cost
+     *          than the second, or zero if they have the same cost.
+     */
+    @Override()
+    public int compare(@NotNull final ObjectPair<String,Integer> s1,
+                       @NotNull final ObjectPair<String,Integer> s2)
+    {
+      return Double.compare(costs.get(s1), costs.get(s2));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a connection pool routing policy that will select the
+ * server with the fewest outstanding operations, which is the number of
+ * connections to that server that are currently checked out of the pool.  If
+ * multiple servers have the same number of outstanding operations, then the
+ * one with the most available connections will be preferred, and any remaining
+ * ties will be broken in a round-robin manner.
+ * <BR><BR>
+ * This policy is well suited to environments in which the servers have
+ * different or varying response times, since a server that is slow to respond
+ * will accumulate outstanding operations and will therefore receive fewer new
+ * ones.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for configuring a connection
+ * pool to route checkouts to the server with the fewest outstanding
+ * operations:
+ * <PRE>
+ * LDAPConnectionPool pool = new LDAPConnectionPool(serverSet, bindRequest, 10);
+ * pool.setRoutingPolicy(new LeastOutstandingOperationsRoutingPolicy());
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LeastOutstandingOperationsRoutingPolicy
+       extends LDAPConnectionPoolRoutingPolicy
+{
+  // A counter used to break ties between servers in a round-robin manner.
+  @NotNull private final AtomicInteger tieBreakCounter;
+
+
+
+  /**
+   * Creates a new instance of this routing policy.
+   */
+  public LeastOutstandingOperationsRoutingPolicy()
+  {
+    tieBreakCounter = new AtomicInteger(0);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int selectServer(@NotNull final List<LDAPConnectionPoolServer> servers)
+  {
+    final int numServers = servers.size();
+    final int startIndex =
+         (tieBreakCounter.getAndIncrement() & Integer.MAX_VALUE) % numServers;
+
+    int selectedIndex = startIndex;
+    int fewestOutstanding = Integer.MAX_VALUE;
+    int mostAvailable = Integer.MIN_VALUE;
+    for (int i=0; i < numServers; i++)
+    {
+      final int index = (startIndex + i) % numServers;
+      final LDAPConnectionPoolServer server = servers.get(index);
+      final int numOutstanding = server.getNumOutstandingOperations();
+      final int numAvailable = server.getNumAvailableConnections();
+      if ((numOutstanding < fewestOutstanding) ||
+          ((numOutstanding == fewestOutstanding) &&
+               (numAvailable > mostAvailable)))
+      {
+        selectedIndex = index;
+        fewestOutstanding = numOutstanding;
+        mostAvailable = numAvailable;
+      }
+    }
+
+    return selectedIndex;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LeastOutstandingOperationsRoutingPolicy()");
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a connection pool routing policy that will prefer
+ * servers that have the same locality tag as the client.  A locality tag is an
+ * arbitrary string that identifies where a server is located, like the name of
+ * a data center, availability zone, or rack.  Whenever at least one server
+ * with the client's locality tag has an available connection, the connection
+ * will be checked out from one of those servers, and only if none of them have
+ * any available connections will a server in a different location be used.
+ * Another routing policy is used to choose among the servers that are
+ * eligible, which by default is a
+ * {@link LeastOutstandingOperationsRoutingPolicy}.
+ * <BR><BR>
+ * Servers that were not assigned a locality tag when the policy was created
+ * are treated as being in a different location from the client.  Locality tags
+ * are compared in a case-sensitive manner.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for configuring a connection
+ * pool to prefer servers in the "east" data center, falling back to servers in
+ * the "west" data center only when there are no available connections to
+ * servers in the "east" data center:
+ * <PRE>
+ * LocalityRoutingPolicy routingPolicy = new LocalityRoutingPolicy("east",
+ *      new String[] { eastServerAddress, westServerAddress },
+ *      new int[] { eastServerPort, westServerPort },
+ *      new String[] { "east", "west" },
+ *      null);
+ * pool.setRoutingPolicy(routingPolicy);
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LocalityRoutingPolicy
+       extends LDAPConnectionPoolRoutingPolicy
+{
+  // The routing policy used to choose among eligible servers.
+  @NotNull private final LDAPConnectionPoolRoutingPolicy delegatePolicy;
+
+  // The locality tag for each server.
+  @NotNull private final Map<ObjectPair<String,Integer>,String> localityTags;
+
+  // The locality tag for the client.
+  @NotNull private final String localLocalityTag;
+
+
+
+  /**
+   * Creates a new locality routing policy with the provided information.
+   *
+   * @param  localLocalityTag  The locality tag for the client.  It must not be
+   *                           {@code null}.
+   * @param  addresses         The addresses of the servers for which locality
+   *                           tags are provided.  It must not be
+   *                           {@code null}.
+   * @param  ports             The ports of the servers for which locality tags
+   *                           are provided.  It must not be {@code null}, and
+   *                           it must have the same number of elements as the
+   *                           {@code addresses} array.
+   * @param  serverTags        The locality tags for the servers.  It must not
+   *                           be {@code null}, and it must have the same number
+   *                           of elements as the {@code addresses} array.
+   * @param  delegatePolicy    The routing policy that should be used to choose
+   *                           among the servers that are eligible.  It may be
+   *                           {@code null} if a
+   *                           {@link LeastOutstandingOperationsRoutingPolicy}
+   *                           should be used.
+   */
+  public LocalityRoutingPolicy(@NotNull final String localLocalityTag,
+              @NotNull final String[] addresses, @NotNull final int[] ports,
+              @NotNull final String[] serverTags,
+              @Nullable final LDAPConnectionPoolRoutingPolicy delegatePolicy)
+  {
+    Validator.ensureNotNull(localLocalityTag, addresses, ports, serverTags);
+    Validator.ensureTrue((addresses.length == ports.length) &&
+              (addresses.length == serverTags.length),
+         "LocalityRoutingPolicy addresses, ports, and serverTags arrays must " +
+              "be the same size.");
+
+    this.localLocalityTag = localLocalityTag;
+
+    final LinkedHashMap<ObjectPair<String,Integer>,String> tagMap =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(addresses.length));
+    for (int i=0; i < addresses.length; i++)
+    {
+      tagMap.put(new ObjectPair<>(addresses[i], ports[i]), serverTags[i]);
+    }
+    localityTags = Collections.unmodifiableMap(tagMap);
+
+    if (delegatePolicy == null)
+    {
+      this.delegatePolicy = new LeastOutstandingOperationsRoutingPolicy();
+    }
+    else
+    {
+      this.delegatePolicy = delegatePolicy;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the locality tag for the client.
+   *
+   * @return  The locality tag for the client.
+   */
+  @NotNull()
+  public String getLocalLocalityTag()
+  {
+    return localLocalityTag;
+  }
+
+
+
+  /**
+   * Retrieves the locality tag for the specified server.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  The locality tag for the specified server, or {@code null} if no
+   *          locality tag was assigned to it.
+   */
+  @Nullable()
+  public String getLocalityTag(@NotNull final String host, final int port)
+  {
+    return localityTags.get(new ObjectPair<>(host, port));
+  }
+
+
+
+  /**
+   * Retrieves the routing policy that is used to choose among the servers that
+   * are eligible.
+   *
+   * @return  The routing policy that is used to choose among the servers that
+   *          are eligible.
+   */
+  @NotNull()
+  public LDAPConnectionPoolRoutingPolicy getDelegatePolicy()
+  {
+    return delegatePolicy;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int selectServer(@NotNull final List<LDAPConnectionPoolServer> servers)
+  {
+    final int numServers = servers.size();
+    List<LDAPConnectionPoolServer> localServers = null;
+    int[] localIndexes = null;
+    int numLocal = 0;
+    for (int i=0; i < numServers; i++)
+    {
+      final LDAPConnectionPoolServer server = servers.get(i);
+      if (localLocalityTag.equals(
+           getLocalityTag(server.getHost(), server.getPort())))
+      {
+        if (localServers == null)
+        {
+          localServers = new ArrayList<>(numServers);
+          localIndexes = new int[numServers];
+        }
+
+        localServers.add(server);
+        localIndexes[numLocal++] = i;
+      }
+    }
+
+
+    // If there aren't any local servers, or if all of the servers are local,
+    // then let the delegate choose among all of them.
+    if ((localServers == null) || (numLocal == numServers))
+    {
+      return delegatePolicy.selectServer(servers);
+    }
+
+    final int selectedLocalIndex = delegatePolicy.selectServer(localServers);
+    if ((selectedLocalIndex < 0) || (selectedLocalIndex >= numLocal))
+    {
+      return localIndexes[0];
+    }
+    else
+    {
+      return localIndexes[selectedLocalIndex];
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LocalityRoutingPolicy(localLocalityTag='");
+    buffer.append(localLocalityTag);
+    buffer.append("', serverLocalityTags={");
+
+    boolean first = true;
+    for (final Map.Entry<ObjectPair<String,Integer>,String> e :
+         localityTags.entrySet())
+    {
+      if (! first)
+      {
+        buffer.append(", ");
+      }
+      first = false;
+
+      buffer.append('\'');
+      buffer.append(e.getKey().getFirst());
+      buffer.append(':');
+      buffer.append(e.getKey().getSecond());
+      buffer.append("':'");
+      buffer.append(e.getValue());
+      buffer.append('\'');
+    }
+
+    buffer.append("}, delegatePolicy=");
+    delegatePolicy.toString(buffer);
+    buffer.append(')');
+  }
+}
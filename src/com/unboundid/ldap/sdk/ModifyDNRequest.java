@@ -40,7 +40,6 @@ package com.unboundid.ldap.sdk;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -133,9 +132,10 @@ public final class ModifyDNRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server.
+  @NotNull private final ResponseHandoff responseHandoff =
+       new ResponseHandoff();
 
   // Indicates whether to delete the current RDN value from the entry.
   private boolean deleteOldRDN;
@@ -669,11 +669,12 @@ public final class ModifyDNRequest
         final long responseTimeout = getResponseTimeoutMillis(connection);
         if (responseTimeout > 0)
         {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
+          response =
+               responseHandoff.poll(responseTimeout, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -919,8 +920,10 @@ public final class ModifyDNRequest
   {
     if (response == null)
     {
-      final long waitTime =
-           StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      final long waitNanos = System.nanoTime() - requestTime;
+      connection.operationCompleted(OperationType.MODIFY_DN, null, waitNanos);
+
+      final long waitTime = StaticUtils.nanosToMillis(waitNanos);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -931,8 +934,11 @@ public final class ModifyDNRequest
                 connection.getHostPort()));
     }
 
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumModifyDNResponses(
-         System.nanoTime() - requestTime);
+         responseTimeNanos);
+    connection.operationCompleted(OperationType.MODIFY_DN, response,
+         responseTimeNanos);
     if (response instanceof ConnectionClosedResponse)
     {
       // The connection was closed while waiting for the response.
@@ -1117,23 +1123,7 @@ public final class ModifyDNRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)), e);
-    }
+    responseHandoff.offer(response);
   }
 
 
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a set of methods that may be used to render metrics
+ * collected from an {@link LDAPMetricsRegistry} in the Prometheus text
+ * exposition format, so that they may be served from an embedded HTTP endpoint
+ * and scraped by Prometheus or a compatible monitoring system.  The output
+ * should be served with the {@link #CONTENT_TYPE} content type.
+ * <BR><BR>
+ * Counter metrics will be rendered with a "_total" suffix, as required by
+ * Prometheus naming conventions, unless their names already end with it.
+ * Gauge metrics will be rendered with their own names.  Histogram metrics
+ * will be rendered as Prometheus summaries whose names have a "_seconds"
+ * suffix, with quantiles of 0.5, 0.9, 0.99, and 0.999 and with all values
+ * converted from nanoseconds to seconds.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class PrometheusLDAPMetricsRenderer
+{
+  /**
+   * The content type that should be used when serving the rendered metrics
+   * over HTTP.
+   */
+  @NotNull public static final String CONTENT_TYPE =
+       "text/plain; version=0.0.4; charset=utf-8";
+
+
+
+  /**
+   * The quantiles that will be rendered for histogram metrics.
+   */
+  @NotNull private static final double[] QUANTILES =
+  {
+    0.5d, 0.9d, 0.99d, 0.999d
+  };
+
+
+
+  /**
+   * The suffix that will be appended to the names of counter metrics that do
+   * not already end with it.
+   */
+  @NotNull private static final String COUNTER_SUFFIX = "_total";
+
+
+
+  /**
+   * The suffix that will be appended to the names of histogram metrics.
+   */
+  @NotNull private static final String HISTOGRAM_SUFFIX = "_seconds";
+
+
+
+  /**
+   * Prevent this class from being instantiated.
+   */
+  private PrometheusLDAPMetricsRenderer()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Collects the metrics from the provided registry and writes them to the
+   * given output stream in the Prometheus text exposition format.
+   *
+   * @param  registry      The registry from which to collect the metrics.  It
+   *                       must not be {@code null}.
+   * @param  outputStream  The output stream to which the metrics should be
+   *                       written.  It must not be {@code null}, and it will
+   *                       not be closed.
+   *
+   * @throws  IOException  If a problem occurs while writing the metrics.
+   */
+  public static void writeTo(@NotNull final LDAPMetricsRegistry registry,
+                             @NotNull final OutputStream outputStream)
+         throws IOException
+  {
+    outputStream.write(StaticUtils.getBytes(
+         render(registry.collectMetrics())));
+    outputStream.flush();
+  }
+
+
+
+  /**
+   * Renders the provided metrics in the Prometheus text exposition format.
+   *
+   * @param  metrics  The metrics to render.  It must not be {@code null}, and
+   *                  all metrics with the same name must be adjacent, as they
+   *                  are in the lists returned by
+   *                  {@link LDAPMetricsRegistry#collectMetrics}.
+   *
+   * @return  The rendered metrics.
+   */
+  @NotNull()
+  public static String render(@NotNull final List<LDAPMetric> metrics)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    render(metrics, buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Renders the provided metrics in the Prometheus text exposition format and
+   * appends them to the given buffer.
+   *
+   * @param  metrics  The metrics to render.  It must not be {@code null}, and
+   *                  all metrics with the same name must be adjacent, as they
+   *                  are in the lists returned by
+   *                  {@link LDAPMetricsRegistry#collectMetrics}.
+   * @param  buffer   The buffer to which the rendered metrics should be
+   *                  appended.  It must not be {@code null}.
+   */
+  public static void render(@NotNull final List<LDAPMetric> metrics,
+                            @NotNull final StringBuilder buffer)
+  {
+    String previousName = null;
+    for (final LDAPMetric m : metrics)
+    {
+      final LatencyHistogram h = m.getHistogram();
+      final String name;
+      if (h != null)
+      {
+        name = m.getName() + HISTOGRAM_SUFFIX;
+      }
+      else if ((m.getType() == LDAPMetricType.COUNTER) &&
+               (! m.getName().endsWith(COUNTER_SUFFIX)))
+      {
+        name = m.getName() + COUNTER_SUFFIX;
+      }
+      else
+      {
+        name = m.getName();
+      }
+
+      if (! name.equals(previousName))
+      {
+        buffer.append("# HELP ");
+        buffer.append(name);
+        buffer.append(' ');
+        appendEscaped(m.getDescription(), false, buffer);
+        buffer.append('\n');
+
+        buffer.append("# TYPE ");
+        buffer.append(name);
+        switch (m.getType())
+        {
+          case COUNTER:
+            buffer.append(" counter\n");
+            break;
+          case GAUGE:
+            buffer.append(" gauge\n");
+            break;
+          case HISTOGRAM:
+          default:
+            buffer.append(" summary\n");
+            break;
+        }
+
+        previousName = name;
+      }
+
+      if (h == null)
+      {
+        appendSample(name, m.getLabels(), null, null, m.getValue(), buffer);
+      }
+      else
+      {
+        for (final double q : QUANTILES)
+        {
+          appendSample(name, m.getLabels(), "quantile", String.valueOf(q),
+               toSeconds(h.getValueAtPercentile(q * 100.0d)), buffer);
+        }
+
+        appendSample(name + "_sum", m.getLabels(), null, null,
+             toSeconds(h.getTotal()), buffer);
+        appendSample(name + "_count", m.getLabels(), null, null, h.getCount(),
+             buffer);
+      }
+    }
+  }
+
+
+
+  /**
+   * Appends a single sample line to the provided buffer.
+   *
+   * @param  name        The name for the sample.
+   * @param  labels      The labels for the sample.
+   * @param  extraName   The name of an additional label to include, or
+   *                     {@code null} if there is none.
+   * @param  extraValue  The value of an additional label to include, or
+   *                     {@code null} if there is none.
+   * @param  value       The value for the sample.
+   * @param  buffer      The buffer to which the sample should be appended.
+   */
+  private static void appendSample(@NotNull final String name,
+                                   @NotNull final Map<String,String> labels,
+                                   @Nullable final String extraName,
+                                   @Nullable final String extraValue,
+                                   final double value,
+                                   @NotNull final StringBuilder buffer)
+  {
+    buffer.append(name);
+
+    if ((! labels.isEmpty()) || (extraName != null))
+    {
+      buffer.append('{');
+
+      boolean first = true;
+      for (final Map.Entry<String,String> e : labels.entrySet())
+      {
+        if (! first)
+        {
+          buffer.append(',');
+        }
+
+        buffer.append(e.getKey());
+        buffer.append("=\"");
+        appendEscaped(e.getValue(), true, buffer);
+        buffer.append('"');
+        first = false;
+      }
+
+      if (extraName != null)
+      {
+        if (! first)
+        {
+          buffer.append(',');
+        }
+
+        buffer.append(extraName);
+        buffer.append("=\"");
+        buffer.append(extraValue);
+        buffer.append('"');
+      }
+
+      buffer.append('}');
+    }
+
+    buffer.append(' ');
+    appendValue(value, buffer);
+    buffer.append('\n');
+  }
+
+
+
+  /**
+   * Appends the provided value to the buffer using the representation expected
+   * by Prometheus.
+   *
+   * @param  value   The value to append.
+   * @param  buffer  The buffer to which the value should be appended.
+   */
+  private static void appendValue(final double value,
+                                  @NotNull final StringBuilder buffer)
+  {
+    if (Double.isNaN(value))
+    {
+      buffer.append("NaN");
+    }
+    else if (Double.isInfinite(value))
+    {
+      if (value > 0.0d)
+      {
+        buffer.append("+Inf");
+      }
+      else
+      {
+        buffer.append("-Inf");
+      }
+    }
+    else if ((value == Math.rint(value)) && (Math.abs(value) < 1.0E15d))
+    {
+      buffer.append((long) value);
+    }
+    else
+    {
+      buffer.append(value);
+    }
+  }
+
+
+
+  /**
+   * Appends the provided string to the buffer, escaping backslashes and line
+   * breaks, and optionally double quotes.
+   *
+   * @param  s             The string to append.
+   * @param  escapeQuotes  Indicates whether to escape double quotes.
+   * @param  buffer        The buffer to which the string should be appended.
+   */
+  private static void appendEscaped(@NotNull final String s,
+                                    final boolean escapeQuotes,
+                                    @NotNull final StringBuilder buffer)
+  {
+    for (int i=0; i < s.length(); i++)
+    {
+      final char c = s.charAt(i);
+      switch (c)
+      {
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '"':
+          if (escapeQuotes)
+          {
+            buffer.append("\\\"");
+          }
+          else
+          {
+            buffer.append(c);
+          }
+          break;
+        default:
+          buffer.append(c);
+          break;
+      }
+    }
+  }
+
+
+
+  /**
+   * Converts the provided number of nanoseconds to seconds.
+   *
+   * @param  nanos  The number of nanoseconds to convert.
+   *
+   * @return  The corresponding number of seconds.
+   */
+  private static double toSeconds(final long nanos)
+  {
+    return (nanos / 1_000_000_000.0d);
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import com.unboundid.ldap.protocol.LDAPResponse;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a lightweight, single-slot mechanism for handing off a
+ * response from the thread that reads it from the server to a thread that is
+ * waiting for it.  It is intended to be used in place of a general-purpose
+ * blocking queue for operations that expect a single response for each
+ * request, and it uses the object's own monitor for synchronization so that no
+ * additional locks, conditions, or queue nodes need to be allocated.
+ * <BR><BR>
+ * At most one response may be held at any time.  If a response is offered
+ * while another response is already held, then the new response will be
+ * ignored so that the first response will be the one provided to the waiting
+ * thread, which is consistent with the first-in-first-out behavior of a queue.
+ * Retrieving the response clears the slot so that the same instance may be
+ * reused for subsequent requests.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class ResponseHandoff
+      implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 2846316393745408157L;
+
+
+
+  // The response that has been received but not yet retrieved.
+  @Nullable private transient LDAPResponse response;
+
+
+
+  /**
+   * Creates a new, empty response handoff.
+   */
+  ResponseHandoff()
+  {
+    response = null;
+  }
+
+
+
+  /**
+   * Makes the provided response available to a waiting thread, if no other
+   * response is currently held.
+   *
+   * @param  response  The response to make available.  It must not be
+   *                   {@code null}.
+   *
+   * @return  {@code true} if the response was accepted, or {@code false} if
+   *          it was ignored because another response is already held.
+   */
+  synchronized boolean offer(@NotNull final LDAPResponse response)
+  {
+    if (this.response != null)
+    {
+      return false;
+    }
+
+    this.response = response;
+    notifyAll();
+    return true;
+  }
+
+
+
+  /**
+   * Retrieves and clears the response currently held, without waiting.
+   *
+   * @return  The response that was held, or {@code null} if there is none.
+   */
+  @Nullable()
+  synchronized LDAPResponse poll()
+  {
+    final LDAPResponse r = response;
+    response = null;
+    return r;
+  }
+
+
+
+  /**
+   * Retrieves and clears the response, waiting for up to the specified length
+   * of time for it to become available.
+   *
+   * @param  timeout   The maximum length of time to wait for the response.
+   * @param  timeUnit  The time unit for the provided timeout.
+   *
+   * @return  The response, or {@code null} if no response became available
+   *          before the timeout elapsed.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting.
+   */
+  @Nullable()
+  synchronized LDAPResponse poll(final long timeout,
+                                 @NotNull final TimeUnit timeUnit)
+       throws InterruptedException
+  {
+    if (response == null)
+    {
+      final long stopWaitingTime =
+           System.nanoTime() + timeUnit.toNanos(timeout);
+      while (response == null)
+      {
+        final long remainingNanos = stopWaitingTime - System.nanoTime();
+        if (remainingNanos <= 0L)
+        {
+          return null;
+        }
+
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+    }
+
+    final LDAPResponse r = response;
+    response = null;
+    return r;
+  }
+
+
+
+  /**
+   * Retrieves and clears the response, waiting as long as necessary for it to
+   * become available.
+   *
+   * @return  The response.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting.
+   */
+  @NotNull()
+  synchronized LDAPResponse take()
+       throws InterruptedException
+  {
+    while (response == null)
+    {
+      wait();
+    }
+
+    final LDAPResponse r = response;
+    response = null;
+    return r;
+  }
+}
@@ -40,7 +40,6 @@ package com.unboundid.ldap.sdk;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -93,8 +92,8 @@ public abstract class SASLBindRequest
   // The message ID to use for LDAP messages used in bind processing.
   private int messageID;
 
-  // The queue used to receive responses from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue;
+  // The handoff used to receive responses from the server.
+  @NotNull private final ResponseHandoff responseHandoff;
 
 
 
@@ -108,7 +107,7 @@ public abstract class SASLBindRequest
     super(controls);
 
     messageID     = -1;
-    responseQueue = new LinkedBlockingQueue<>();
+    responseHandoff = new ResponseHandoff();
   }
 
 
@@ -237,11 +236,11 @@ public abstract class SASLBindRequest
       {
         if (timeoutMillis > 0)
         {
-          response = responseQueue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+          response = responseHandoff.poll(timeoutMillis, TimeUnit.MILLISECONDS);
         }
         else
         {
-          response = responseQueue.take();
+          response = responseHandoff.take();
         }
       }
       catch (final InterruptedException ie)
@@ -381,24 +380,7 @@ public abstract class SASLBindRequest
   public final void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-    }
+    responseHandoff.offer(response);
   }
 
 
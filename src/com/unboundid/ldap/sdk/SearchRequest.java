@@ -1238,6 +1238,8 @@ public final class SearchRequest
 
         if (response == null)
         {
+          connection.operationCompleted(OperationType.SEARCH, null,
+               (System.nanoTime() - requestTime));
           if (connection.getConnectionOptions().abandonOnTimeout())
           {
             connection.abandon(messageID);
@@ -1349,9 +1351,11 @@ public final class SearchRequest
         }
         else
         {
+          final long responseTimeNanos = System.nanoTime() - requestTime;
           connection.getConnectionStatistics().incrementNumSearchResponses(
-               numEntries, numReferences,
-               (System.nanoTime() - requestTime));
+               numEntries, numReferences, responseTimeNanos);
+          connection.operationCompleted(OperationType.SEARCH, response,
+               responseTimeNanos);
           SearchResult result = (SearchResult) response;
           result.setCounts(numEntries, entryList, numReferences, referenceList);
 
@@ -1593,6 +1597,8 @@ public final class SearchRequest
 
       if (response == null)
       {
+        connection.operationCompleted(OperationType.SEARCH, null,
+             (System.nanoTime() - requestTime));
         if (connection.getConnectionOptions().abandonOnTimeout())
         {
           connection.abandon(messageID);
@@ -1830,9 +1836,11 @@ public final class SearchRequest
                @NotNull final ResultCode intermediateResultCode)
           throws LDAPException
   {
+    final long responseTimeNanos = System.nanoTime() - requestTime;
     connection.getConnectionStatistics().incrementNumSearchResponses(
-         numEntries, numReferences,
-         (System.nanoTime() - requestTime));
+         numEntries, numReferences, responseTimeNanos);
+    connection.operationCompleted(OperationType.SEARCH, response,
+         responseTimeNanos);
     SearchResult result = (SearchResult) response;
     result.setCounts(numEntries, entryList, numReferences, referenceList);
 
@@ -2154,6 +2162,32 @@ public final class SearchRequest
   @Override()
   @NotNull()
   public SearchRequest duplicate(@Nullable final Control[] controls)
+  {
+    return duplicate(searchResultListener, controls);
+  }
+
+
+
+  /**
+   * Creates a new instance of this search request that is an exact copy of
+   * this request, except that it will use the provided search result listener
+   * and set of controls.
+   *
+   * @param  searchResultListener  The search result listener to use for the
+   *                               duplicate request.  It may be {@code null}
+   *                               if entries and references should be
+   *                               collected and returned in the search result.
+   * @param  controls              The set of controls to include in the
+   *                               duplicate request.
+   *
+   * @return  A new instance of this search request that is an exact copy of
+   *          this request, except that it will use the provided search result
+   *          listener and set of controls.
+   */
+  @NotNull()
+  SearchRequest duplicate(
+                     @Nullable final SearchResultListener searchResultListener,
+                     @Nullable final Control[] controls)
   {
     final SearchRequest r = new SearchRequest(searchResultListener, controls,
          baseDN, scope, derefPolicy, sizeLimit, timeLimit, typesOnly, filter,
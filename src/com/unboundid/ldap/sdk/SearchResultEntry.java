@@ -265,16 +265,20 @@ public final class SearchResultEntry
    * Creates a new search result entry object with the protocol op and controls
    * read from the given ASN.1 stream reader.
    *
-   * @param  messageID        The message ID for the LDAP message containing
-   *                          this response.
-   * @param  messageSequence  The ASN.1 stream reader sequence used in the
-   *                          course of reading the LDAP message elements.
-   * @param  reader           The ASN.1 stream reader from which to read the
-   *                          protocol op and controls.
-   * @param  schema           The schema to use to select the appropriate
-   *                          matching rule to use for each attribute.  It may
-   *                          be {@code null} if the default matching rule
-   *                          should always be used.
+   * @param  messageID          The message ID for the LDAP message
+   *                            containing this response.
+   * @param  messageSequence    The ASN.1 stream reader sequence used in the
+   *                            course of reading the LDAP message elements.
+   * @param  reader             The ASN.1 stream reader from which to read the
+   *                            protocol op and controls.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule to use for each attribute.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   * @param  connectionOptions  The connection options that control how the
+   *                            entry should be decoded.  It may be
+   *                            {@code null} if the default decoding behavior
+   *                            should be used.
    *
    * @return  The decoded search result entry object.
    *
@@ -285,19 +289,59 @@ public final class SearchResultEntry
   static SearchResultEntry readSearchEntryFrom(final int messageID,
               @NotNull final ASN1StreamReaderSequence messageSequence,
               @NotNull final ASN1StreamReader reader,
-              @Nullable final Schema schema)
+              @Nullable final Schema schema,
+              @Nullable final LDAPConnectionOptions connectionOptions)
          throws LDAPException
   {
     try
     {
-      reader.beginSequence();
-      final String dn = reader.readString();
-
+      final String dn;
       final ArrayList<Attribute> attrList = new ArrayList<>(10);
-      final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
-      while (attrSequence.hasMoreElements())
+      if ((connectionOptions != null) &&
+          (connectionOptions.useZeroCopySearchEntryDecoding() ||
+           connectionOptions.lazilyDecodeSearchEntryAttributes()))
       {
-        attrList.add(Attribute.readFrom(reader, schema));
+        // Read the entire protocol op into a single array and decode the
+        // entry from it, so that attribute values can reference that array
+        // rather than each being copied into an array of its own.  If lazy
+        // decoding is enabled, then the values will not be decoded at all
+        // until they are needed.
+        final boolean decodeLazily =
+             connectionOptions.lazilyDecodeSearchEntryAttributes();
+        final byte[] protocolOpBytes = reader.readBytes();
+        final ByteArrayBERReader entryReader =
+             new ByteArrayBERReader(protocolOpBytes, 0, protocolOpBytes.length);
+        dn = entryReader.readString();
+
+        // Decode the attributes from a reader that is limited to the attribute
+        // sequence, so that an attribute cannot extend beyond its end, and
+        // make sure that nothing follows it.
+        final int attrSequenceLength = entryReader.readElementHeader();
+        final ByteArrayBERReader attrReader = new ByteArrayBERReader(
+             protocolOpBytes, entryReader.getPosition(), attrSequenceLength);
+        entryReader.skip(attrSequenceLength);
+        if (entryReader.hasMoreData())
+        {
+          throw new LDAPException(ResultCode.DECODING_ERROR,
+               ERR_SEARCH_ENTRY_TRAILING_DATA.get(
+                    protocolOpBytes.length - entryReader.getPosition()));
+        }
+
+        while (attrReader.hasMoreData())
+        {
+          attrList.add(Attribute.readFrom(attrReader, schema, decodeLazily));
+        }
+      }
+      else
+      {
+        reader.beginSequence();
+        dn = reader.readString();
+
+        final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
+        while (attrSequence.hasMoreElements())
+        {
+          attrList.add(Attribute.readFrom(reader, schema));
+        }
       }
 
       Control[] controls = NO_CONTROLS;
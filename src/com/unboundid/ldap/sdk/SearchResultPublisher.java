@@ -0,0 +1,613 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for processing a search operation in which
+ * the rate at which results are read from the server is controlled by the
+ * consumer of those results.  A {@link SearchResultSubscriber} requests the
+ * number of entries and references that it is prepared to handle, and results
+ * are delivered only as they are requested.  If the subscriber falls behind,
+ * then a limited number of results will be buffered, after which the
+ * connection will stop reading from the server until the subscriber requests
+ * more results.  This makes it possible to process searches that return a
+ * very large number of entries without holding them all in memory, and
+ * without blocking the thread that reads responses from the server.
+ * <BR><BR>
+ * The search is processed asynchronously, so the connection must not be
+ * operating in synchronous mode.  Note that while reading is paused, no
+ * responses of any kind will be read from the connection, so responses for any
+ * other operations in progress on the same connection will also be delayed,
+ * and the response timeout for the search request (which will be inherited
+ * from the connection if it is not set on the request) will continue to
+ * elapse.  It is generally best to use a dedicated connection and no response
+ * timeout for long-running searches processed in this manner.
+ * <BR><BR>
+ * Each publisher may only be subscribed to once.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for exporting all entries
+ * below a given base DN, requesting entries in batches of 100:
+ * <PRE>
+ * SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+ *      SearchScope.SUB, Filter.createPresenceFilter("objectClass"));
+ * SearchResultPublisher publisher =
+ *      new SearchResultPublisher(connection, searchRequest);
+ * publisher.subscribe(new SearchResultSubscriber()
+ * {
+ *   private SearchResultSubscription subscription;
+ *   private int remainingInBatch;
+ *
+ *   public void subscriptionStarted(SearchResultSubscription s)
+ *   {
+ *     subscription = s;
+ *     remainingInBatch = 100;
+ *     s.request(100);
+ *   }
+ *
+ *   public void searchEntryReturned(SearchResultEntry searchEntry)
+ *   {
+ *     writeEntry(searchEntry);
+ *     if (--remainingInBatch == 0)
+ *     {
+ *       remainingInBatch = 100;
+ *       subscription.request(100);
+ *     }
+ *   }
+ *
+ *   public void searchReferenceReturned(
+ *        SearchResultReference searchReference)
+ *   {
+ *     if (--remainingInBatch == 0)
+ *     {
+ *       remainingInBatch = 100;
+ *       subscription.request(100);
+ *     }
+ *   }
+ *
+ *   public void searchCompleted(SearchResult searchResult)
+ *   {
+ *     exportComplete(searchResult);
+ *   }
+ * });
+ * </PRE>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class SearchResultPublisher
+       implements AsyncSearchResultListener
+{
+  /**
+   * The default maximum number of results that will be buffered while waiting
+   * for the subscriber to request them.
+   */
+  public static final int DEFAULT_MAX_BUFFERED_RESULTS = 100;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -2744036191658212617L;
+
+
+
+  // Indicates whether the search has been abandoned.
+  @NotNull private final AtomicBoolean abandoned;
+
+  // Indicates whether the subscription has been cancelled.
+  @NotNull private final AtomicBoolean cancelled;
+
+  // Indicates whether the subscriber has been notified that the search has
+  // completed.
+  @NotNull private final AtomicBoolean completionDelivered;
+
+  // Indicates whether this publisher has paused reading on the connection.
+  @NotNull private final AtomicBoolean readerPaused;
+
+  // Indicates whether a subscriber has been provided.
+  @NotNull private final AtomicBoolean subscribed;
+
+  // The number of results currently held in the buffer.
+  @NotNull private final AtomicInteger bufferedCount;
+
+  // The number of outstanding requests to deliver buffered results.  Only the
+  // thread that increments this from zero will deliver results, which ensures
+  // that the subscriber is never invoked concurrently.
+  @NotNull private final AtomicInteger deliveryRequests;
+
+  // The number of results that have been requested by the subscriber but not
+  // yet delivered.
+  @NotNull private final AtomicLong demand;
+
+  // The result of the search operation, once it has been received.
+  @NotNull private final AtomicReference<SearchResult> searchResult;
+
+  // The async request ID for the search operation, once it has been sent.
+  @Nullable private volatile AsyncRequestID asyncRequestID;
+
+  // The buffer of entries and references that have not yet been delivered.
+  @NotNull private final ConcurrentLinkedQueue<Object> buffer;
+
+  // The maximum number of results to buffer before pausing the reader.
+  private final int maxBufferedResults;
+
+  // The number of buffered results below which a paused reader will be
+  // resumed.
+  private final int resumeThreshold;
+
+  // The connection that will be used to process the search.
+  @NotNull private final LDAPConnection connection;
+
+  // The connection reader that has been paused, if any.
+  @Nullable private volatile LDAPConnectionReader connectionReader;
+
+  // The search request that will be sent to the server.
+  @NotNull private final SearchRequest searchRequest;
+
+  // The subscriber to which results will be delivered.
+  @Nullable private volatile SearchResultSubscriber subscriber;
+
+
+
+  /**
+   * Creates a new search result publisher that will process the provided
+   * search request on the given connection, buffering up to
+   * {@link #DEFAULT_MAX_BUFFERED_RESULTS} results while waiting for the
+   * subscriber to request them.  The search request will not be sent until a
+   * subscriber is provided.
+   *
+   * @param  connection     The connection to use to process the search.  It
+   *                        must not be {@code null}, and it must not be
+   *                        operating in synchronous mode.
+   * @param  searchRequest  The search request to process.  It must not be
+   *                        {@code null}, and it must not have a search result
+   *                        listener.
+   *
+   * @throws  LDAPException  If the provided search request has a search result
+   *                         listener.
+   */
+  public SearchResultPublisher(@NotNull final LDAPConnection connection,
+                               @NotNull final SearchRequest searchRequest)
+         throws LDAPException
+  {
+    this(connection, searchRequest, DEFAULT_MAX_BUFFERED_RESULTS);
+  }
+
+
+
+  /**
+   * Creates a new search result publisher that will process the provided
+   * search request on the given connection.  The search request will not be
+   * sent until a subscriber is provided.
+   *
+   * @param  connection          The connection to use to process the search.
+   *                             It must not be {@code null}, and it must not
+   *                             be operating in synchronous mode.
+   * @param  searchRequest       The search request to process.  It must not be
+   *                             {@code null}, and it must not have a search
+   *                             result listener.
+   * @param  maxBufferedResults  The maximum number of entries and references
+   *                             to buffer while waiting for the subscriber to
+   *                             request them before reading from the
+   *                             connection is paused.  It must be greater than
+   *                             zero.
+   *
+   * @throws  LDAPException  If the provided search request has a search result
+   *                         listener.
+   */
+  public SearchResultPublisher(@NotNull final LDAPConnection connection,
+                               @NotNull final SearchRequest searchRequest,
+                               final int maxBufferedResults)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(connection, searchRequest);
+    Validator.ensureTrue(maxBufferedResults > 0,
+         "SearchResultPublisher.maxBufferedResults must be greater than 0.");
+
+    if (searchRequest.getSearchResultListener() != null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_SEARCH_RESULT_PUBLISHER_REQUEST_HAS_LISTENER.get());
+    }
+
+    this.connection = connection;
+    this.maxBufferedResults = maxBufferedResults;
+
+    resumeThreshold = maxBufferedResults / 2;
+
+    abandoned           = new AtomicBoolean(false);
+    cancelled           = new AtomicBoolean(false);
+    completionDelivered = new AtomicBoolean(false);
+    readerPaused        = new AtomicBoolean(false);
+    subscribed          = new AtomicBoolean(false);
+    bufferedCount       = new AtomicInteger(0);
+    deliveryRequests    = new AtomicInteger(0);
+    demand              = new AtomicLong(0L);
+    searchResult        = new AtomicReference<>();
+    buffer              = new ConcurrentLinkedQueue<>();
+    asyncRequestID      = null;
+    connectionReader    = null;
+    subscriber          = null;
+
+    this.searchRequest =
+         searchRequest.duplicate(this, searchRequest.getControls());
+    this.searchRequest.setIntermediateResponseListener(
+         searchRequest.getIntermediateResponseListener());
+  }
+
+
+
+  /**
+   * Provides the subscriber to which search results should be delivered and
+   * sends the search request to the server.  The subscriber's
+   * {@link SearchResultSubscriber#subscriptionStarted} method will be invoked
+   * before the request is sent.
+   *
+   * @param  subscriber  The subscriber to which search results should be
+   *                     delivered.  It must not be {@code null}.
+   *
+   * @throws  LDAPException  If this publisher already has a subscriber, or if
+   *                         a problem occurs while sending the search request.
+   *                         The subscriber will not be notified of a failure
+   *                         to send the request.
+   */
+  public void subscribe(@NotNull final SearchResultSubscriber subscriber)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(subscriber);
+
+    if (! subscribed.compareAndSet(false, true))
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_SEARCH_RESULT_PUBLISHER_ALREADY_SUBSCRIBED.get());
+    }
+
+    connectionReader =
+         connection.getConnectionInternals(true).getConnectionReader();
+    this.subscriber = subscriber;
+    subscriber.subscriptionStarted(new Subscription());
+    if (cancelled.get())
+    {
+      return;
+    }
+
+    asyncRequestID = connection.asyncSearch(searchRequest);
+    if (cancelled.get())
+    {
+      abandonSearch();
+    }
+  }
+
+
+
+  /**
+   * Indicates that the provided search result entry has been returned by the
+   * server.  This method is for internal use only and must not be called by
+   * third-party code.
+   *
+   * @param  searchEntry  The search result entry that has been returned by the
+   *                      server.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchEntryReturned(@NotNull final SearchResultEntry searchEntry)
+  {
+    resultReturned(searchEntry);
+  }
+
+
+
+  /**
+   * Indicates that the provided search result reference has been returned by
+   * the server.  This method is for internal use only and must not be called
+   * by third-party code.
+   *
+   * @param  searchReference  The search result reference that has been returned
+   *                          by the server.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchReferenceReturned(
+                   @NotNull final SearchResultReference searchReference)
+  {
+    resultReturned(searchReference);
+  }
+
+
+
+  /**
+   * Indicates that the provided search result has been received in response to
+   * the search operation.  This method is for internal use only and must not
+   * be called by third-party code.
+   *
+   * @param  requestID  The async request ID of the request for which the
+   *                    response was received.
+   * @param  searchResult  The search result that has been received.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                   @NotNull final SearchResult searchResult)
+  {
+    this.searchResult.compareAndSet(null, searchResult);
+    deliverResults();
+  }
+
+
+
+  /**
+   * Adds the provided entry or reference to the buffer and delivers as many
+   * buffered results as the subscriber has requested.  If the buffer is then
+   * full, reading from the connection will be paused.  This will be invoked by
+   * the thread that is reading responses from the connection.
+   *
+   * @param  result  The entry or reference that has been returned.
+   */
+  private void resultReturned(@NotNull final Object result)
+  {
+    if (cancelled.get())
+    {
+      return;
+    }
+
+    buffer.add(result);
+    bufferedCount.incrementAndGet();
+    deliverResults();
+
+    if ((bufferedCount.get() >= maxBufferedResults) && (! cancelled.get()))
+    {
+      final LDAPConnectionReader reader = connectionReader;
+      if ((reader != null) && readerPaused.compareAndSet(false, true))
+      {
+        reader.pauseReading();
+
+        // The subscriber may have requested more results while the reader was
+        // being paused, so make sure that it gets resumed if appropriate.
+        deliverResults();
+      }
+    }
+  }
+
+
+
+  /**
+   * Delivers as many buffered results as the subscriber has requested, along
+   * with the search result if the search has completed and all entries and
+   * references have been delivered.  If another thread is already delivering
+   * results, then it will be made to check again rather than having this
+   * thread deliver them concurrently.
+   */
+  private void deliverResults()
+  {
+    if (deliveryRequests.getAndIncrement() != 0)
+    {
+      return;
+    }
+
+    int requests = 1;
+    while (true)
+    {
+      deliverBufferedResults();
+
+      requests = deliveryRequests.addAndGet(-requests);
+      if (requests == 0)
+      {
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Delivers as many buffered results as the subscriber has requested, and
+   * resumes reading from the connection if it had been paused and enough of
+   * the buffer has been drained.  This must only be invoked by the thread that
+   * has exclusive responsibility for delivering results.
+   */
+  private void deliverBufferedResults()
+  {
+    final SearchResultSubscriber s = subscriber;
+    while ((! cancelled.get()) && (demand.get() > 0L))
+    {
+      final Object result = buffer.poll();
+      if (result == null)
+      {
+        break;
+      }
+
+      bufferedCount.decrementAndGet();
+      if (demand.get() != Long.MAX_VALUE)
+      {
+        demand.decrementAndGet();
+      }
+
+      try
+      {
+        if (result instanceof SearchResultEntry)
+        {
+          s.searchEntryReturned((SearchResultEntry) result);
+        }
+        else
+        {
+          s.searchReferenceReturned((SearchResultReference) result);
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        cancel();
+      }
+    }
+
+    if (cancelled.get())
+    {
+      buffer.clear();
+      bufferedCount.set(0);
+    }
+    else
+    {
+      final SearchResult result = searchResult.get();
+      if ((result != null) && buffer.isEmpty() &&
+          completionDelivered.compareAndSet(false, true))
+      {
+        try
+        {
+          s.searchCompleted(result);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+    }
+
+    if (readerPaused.get() &&
+        (cancelled.get() || (searchResult.get() != null) ||
+         (bufferedCount.get() <= resumeThreshold)) &&
+        readerPaused.compareAndSet(true, false))
+    {
+      connectionReader.resumeReading();
+    }
+  }
+
+
+
+  /**
+   * Cancels the subscription, abandoning the search if it is still in
+   * progress.
+   */
+  private void cancel()
+  {
+    if (cancelled.compareAndSet(false, true))
+    {
+      abandonSearch();
+      deliverResults();
+    }
+  }
+
+
+
+  /**
+   * Abandons the search operation if it has been sent and has not yet
+   * completed.
+   */
+  private void abandonSearch()
+  {
+    final AsyncRequestID requestID = asyncRequestID;
+    if ((requestID != null) && (searchResult.get() == null) &&
+        abandoned.compareAndSet(false, true))
+    {
+      try
+      {
+        connection.abandon(requestID);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides the subscription that will be provided to the
+   * subscriber.
+   */
+  private final class Subscription
+          implements SearchResultSubscription
+  {
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void request(final long numResults)
+    {
+      Validator.ensureTrue(numResults > 0L,
+           "SearchResultSubscription.request.numResults must be greater " +
+                "than 0.");
+
+      while (true)
+      {
+        final long current = demand.get();
+        long updated = current + numResults;
+        if (updated < 0L)
+        {
+          updated = Long.MAX_VALUE;
+        }
+
+        if (demand.compareAndSet(current, updated))
+        {
+          break;
+        }
+      }
+
+      deliverResults();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void cancel()
+    {
+      SearchResultPublisher.this.cancel();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a set of methods that may be used to consume the
+ * results of a search operation processed through a
+ * {@link SearchResultPublisher}.  Unlike a {@link SearchResultListener}, which
+ * is provided with each entry as soon as it is read from the server, a
+ * subscriber controls the rate at which results are delivered by requesting
+ * them through the {@link SearchResultSubscription} that is provided when the
+ * subscription begins.
+ * <BR><BR>
+ * The methods in this interface will never be invoked concurrently for the
+ * same subscription, but they may be invoked by different threads over the
+ * life of the subscription.  Implementations should not throw exceptions;  if
+ * an exception is thrown while delivering a result, then the subscription
+ * will be cancelled.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_NOT_THREADSAFE)
+public interface SearchResultSubscriber
+{
+  /**
+   * Indicates that the subscription has begun.  This will be invoked exactly
+   * once, before the search request is sent to the server and before any other
+   * method is invoked on this subscriber.  No results will be delivered until
+   * they are requested through the provided subscription.
+   *
+   * @param  subscription  The subscription that may be used to request results
+   *                       or to cancel the search.
+   */
+  void subscriptionStarted(@NotNull SearchResultSubscription subscription);
+
+
+
+  /**
+   * Indicates that the provided search result entry has been returned by the
+   * server and may be processed by this subscriber.
+   *
+   * @param  searchEntry  The search result entry that has been returned by the
+   *                      server.
+   */
+  void searchEntryReturned(@NotNull SearchResultEntry searchEntry);
+
+
+
+  /**
+   * Indicates that the provided search result reference has been returned by
+   * the server and may be processed by this subscriber.
+   *
+   * @param  searchReference  The search result reference that has been returned
+   *                          by the server.
+   */
+  void searchReferenceReturned(@NotNull SearchResultReference searchReference);
+
+
+
+  /**
+   * Indicates that the search operation has completed and that all entries and
+   * references returned by the server have been delivered.  This will be
+   * invoked regardless of whether the search completed successfully, and it
+   * will not count against the number of results requested by the subscriber.
+   * It will not be invoked if the subscription is cancelled.
+   *
+   * @param  searchResult  The result of the search operation.  It will
+   *                       include the number of entries and references
+   *                       returned, but not the entries and references
+   *                       themselves.
+   */
+  void searchCompleted(@NotNull SearchResult searchResult);
+}
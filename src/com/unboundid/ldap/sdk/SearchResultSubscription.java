@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.NotExtensible;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a set of methods that may be used by a
+ * {@link SearchResultSubscriber} to control the delivery of search results
+ * from a {@link SearchResultPublisher}.  The subscriber must request the
+ * number of entries and references that it is prepared to receive, and no more
+ * than that number will be delivered to it.  While the subscriber has not
+ * requested any more results, the publisher will buffer a limited number of
+ * results and will then stop reading from the connection until more are
+ * requested.
+ * <BR><BR>
+ * Methods in this interface may be invoked by any thread, including from
+ * within the subscriber methods that deliver results.
+ */
+@NotExtensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+public interface SearchResultSubscription
+{
+  /**
+   * Requests that up to the specified number of additional search result
+   * entries and references be delivered to the subscriber.  Requests are
+   * cumulative, and a request for {@code Long.MAX_VALUE} results will be
+   * treated as a request for an unbounded number of results.
+   *
+   * @param  numResults  The number of additional results that the subscriber
+   *                     is prepared to receive.  It must be greater than zero.
+   */
+  void request(long numResults);
+
+
+
+  /**
+   * Indicates that the subscriber does not want to receive any more results.
+   * The search operation will be abandoned if it is still in progress, and no
+   * further methods will be invoked on the subscriber (although a method that
+   * is already in progress in another thread will be allowed to complete).
+   */
+  void cancel();
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that may be used to track the observed
+ * response time and error rate for operations processed by a single directory
+ * server.  The response time is tracked as a peak exponentially-weighted moving
+ * average (peak-EWMA), in which a response time that is larger than the
+ * current average immediately replaces it, while smaller response times are
+ * blended in with a weight that depends on how much time has passed since the
+ * previous observation.  The error rate is tracked as an exponentially-weighted
+ * moving average in the same way, except that each new observation is given at
+ * least a minimum weight so that a burst of failures is reflected right away
+ * even if they all occur in quick succession.  Both values decay toward zero as
+ * time passes without any new observations, so that a server that has not been
+ * used for a while will eventually be tried again.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class ServerLatencyTracker
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -3958227108537624806L;
+
+
+
+  /**
+   * The factor by which the error rate (a value between zero and one) will be
+   * scaled when it is used to inflate the cost of a server.  With a value of
+   * ten, a server for which every recent operation has failed will be treated
+   * as if its response time were eleven times larger than it has actually been.
+   */
+  private static final double ERROR_COST_FACTOR = 10.0d;
+
+
+
+  /**
+   * The smallest response time, in nanoseconds, that will be used when
+   * computing the cost of a server.  This ensures that the number of
+   * connections still has an effect on the cost of servers for which no
+   * operations have been observed.
+   */
+  private static final double MINIMUM_COST_LATENCY_NANOS = 1_000.0d;
+
+
+
+  /**
+   * The minimum weight that a new observation will be given when updating the
+   * error rate.
+   */
+  private static final double MINIMUM_ERROR_OBSERVATION_WEIGHT = 0.1d;
+
+
+
+  // The time constant, in nanoseconds, used to decay older observations.
+  private final double decayNanos;
+
+  // The current (undecayed) moving average of the error rate.
+  private double errorRate;
+
+  // The current (undecayed) peak moving average of the response time, in
+  // nanoseconds.
+  private double latencyNanos;
+
+  // The value of System.nanoTime when the averages were last updated.
+  private long lastUpdateTime;
+
+  // The total number of errors that have been recorded.
+  private long numErrors;
+
+  // The total number of operations that have been recorded.
+  private long numOperations;
+
+
+
+  /**
+   * Creates a new server latency tracker with the provided decay time.
+   *
+   * @param  decayMillis  The time constant, in milliseconds, used to decay
+   *                      older observations.  An observation made this long
+   *                      ago will carry about 37 percent (1/e) of the weight of
+   *                      a new one.  It must be greater than zero.
+   */
+  ServerLatencyTracker(final long decayMillis)
+  {
+    decayNanos = decayMillis * 1_000_000.0d;
+
+    errorRate = 0.0d;
+    latencyNanos = 0.0d;
+    lastUpdateTime = System.nanoTime();
+    numErrors = 0L;
+    numOperations = 0L;
+  }
+
+
+
+  /**
+   * Records the outcome of an operation processed by the server.
+   *
+   * @param  responseTimeNanos  The response time for the operation, in
+   *                            nanoseconds.
+   * @param  error              Indicates whether the operation failed in a
+   *                            way that reflects poorly on the health of the
+   *                            server.
+   * @param  currentTime        The current value of {@code System.nanoTime}.
+   */
+  synchronized void recordOperation(final long responseTimeNanos,
+                                    final boolean error,
+                                    final long currentTime)
+  {
+    final double weight = getDecayWeight(currentTime);
+    final double responseTime = Math.max(0L, responseTimeNanos);
+    if (responseTime > latencyNanos)
+    {
+      latencyNanos = responseTime;
+    }
+    else
+    {
+      latencyNanos =
+           (latencyNanos * weight) + (responseTime * (1.0d - weight));
+    }
+
+    updateErrorRate(weight, error);
+    lastUpdateTime = Math.max(lastUpdateTime, currentTime);
+
+    numOperations++;
+    if (error)
+    {
+      numErrors++;
+    }
+  }
+
+
+
+  /**
+   * Records an error that was not associated with any particular operation,
+   * like a connection that was unexpectedly closed.
+   *
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   */
+  synchronized void recordError(final long currentTime)
+  {
+    final double weight = getDecayWeight(currentTime);
+    latencyNanos *= weight;
+    updateErrorRate(weight, true);
+    lastUpdateTime = Math.max(lastUpdateTime, currentTime);
+    numErrors++;
+  }
+
+
+
+  /**
+   * Updates the error rate moving average with a new observation.
+   *
+   * @param  weight  The weight that the current average should have relative
+   *                 to the new observation, based on the time that has passed
+   *                 since the previous observation.
+   * @param  error   Indicates whether the new observation is an error.
+   */
+  private void updateErrorRate(final double weight, final boolean error)
+  {
+    final double observationWeight =
+         Math.max((1.0d - weight), MINIMUM_ERROR_OBSERVATION_WEIGHT);
+    errorRate = (errorRate * (1.0d - observationWeight)) +
+         (error ? observationWeight : 0.0d);
+  }
+
+
+
+  /**
+   * Retrieves the weight that the current averages should have relative to a
+   * new observation made at the provided time.
+   *
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   *
+   * @return  The weight that the current averages should have, which will be
+   *          between zero and one.
+   */
+  private double getDecayWeight(final long currentTime)
+  {
+    final long elapsedNanos = Math.max(0L, currentTime - lastUpdateTime);
+    return Math.exp(-elapsedNanos / decayNanos);
+  }
+
+
+
+  /**
+   * Retrieves the moving average of the response time for the server, decayed
+   * to reflect the time that has passed since the last observation.
+   *
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   *
+   * @return  The moving average of the response time for the server, in
+   *          nanoseconds.
+   */
+  synchronized double getLatencyNanos(final long currentTime)
+  {
+    return latencyNanos * getDecayWeight(currentTime);
+  }
+
+
+
+  /**
+   * Retrieves the moving average of the error rate for the server, decayed to
+   * reflect the time that has passed since the last observation.
+   *
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   *
+   * @return  The moving average of the error rate for the server, which will
+   *          be between zero and one.
+   */
+  synchronized double getErrorRate(final long currentTime)
+  {
+    return errorRate * getDecayWeight(currentTime);
+  }
+
+
+
+  /**
+   * Retrieves the cost of using the server for one more unit of load, based on
+   * its response time, its error rate, and the provided measure of the load
+   * it is already handling.  Servers with lower costs should be preferred.
+   *
+   * @param  currentLoad  A measure of the load that the server is already
+   *                      handling, like the number of connections established
+   *                      to it.
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   *
+   * @return  The cost of using the server for one more unit of load.
+   */
+  synchronized double getCost(final long currentLoad, final long currentTime)
+  {
+    final double weight = getDecayWeight(currentTime);
+    final double latency =
+         Math.max(MINIMUM_COST_LATENCY_NANOS, (latencyNanos * weight));
+    final double errors = errorRate * weight;
+    return latency * (1.0d + (ERROR_COST_FACTOR * errors)) *
+         (Math.max(0L, currentLoad) + 1L);
+  }
+
+
+
+  /**
+   * Retrieves the total number of operations that have been recorded.
+   *
+   * @return  The total number of operations that have been recorded.
+   */
+  synchronized long getNumOperations()
+  {
+    return numOperations;
+  }
+
+
+
+  /**
+   * Retrieves the total number of errors that have been recorded.
+   *
+   * @return  The total number of errors that have been recorded.
+   */
+  synchronized long getNumErrors()
+  {
+    return numErrors;
+  }
+
+
+
+  /**
+   * Appends a string representation of this tracker to the provided buffer.
+   *
+   * @param  buffer       The buffer to which the information should be
+   *                      appended.
+   * @param  currentTime  The current value of {@code System.nanoTime}.
+   */
+  synchronized void toString(@NotNull final StringBuilder buffer,
+                             final long currentTime)
+  {
+    final double weight = getDecayWeight(currentTime);
+    buffer.append("latencyMillis=");
+    buffer.append((latencyNanos * weight) / 1_000_000.0d);
+    buffer.append(", errorRate=");
+    buffer.append(errorRate * weight);
+    buffer.append(", numOperations=");
+    buffer.append(numOperations);
+    buffer.append(", numErrors=");
+    buffer.append(numErrors);
+  }
+}
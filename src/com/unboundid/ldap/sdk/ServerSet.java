@@ -353,6 +353,66 @@ public abstract class ServerSet
 
 
 
+  /**
+   * Performs any processing that may be required when an operation processed
+   * on a connection created by this server set has completed.  This will be
+   * invoked for add, compare, delete, extended, modify, modify DN, and search
+   * operations whose final response has been received, or for which the
+   * client-side response timeout has expired, but only for connections on
+   * which the {@link #associateConnectionWithThisServerSet} method was called
+   * when they were created by this server set.  It will be invoked by the
+   * thread that processed the response, so it must be quick and must not
+   * block.
+   *
+   * @param  connection         The connection on which the operation was
+   *                            processed.
+   * @param  host               The address of the server to which the
+   *                            connection is established.
+   * @param  port               The port of the server to which the connection
+   *                            is established.
+   * @param  operationType      The type of operation that completed.
+   * @param  resultCode         The result code for the operation.  It will be
+   *                            {@link ResultCode#TIMEOUT} if the client-side
+   *                            response timeout expired before the response
+   *                            was received.
+   * @param  responseTimeNanos  The length of time in nanoseconds between
+   *                            sending the request and receiving the final
+   *                            response or giving up on it.
+   */
+  protected void handleOperationCompleted(
+                      @NotNull final LDAPConnection connection,
+                      @NotNull final String host, final int port,
+                      @NotNull final OperationType operationType,
+                      @NotNull final ResultCode resultCode,
+                      final long responseTimeNanos)
+  {
+    // No action is taken by default.
+  }
+
+
+
+  /**
+   * Indicates whether the provided connection, which was created by this
+   * server set and is being released back to a connection pool, should be
+   * closed and replaced with a newly-created connection.  This may be used by
+   * server sets that track the health or performance of the servers to move
+   * pooled connections away from servers that are performing worse than the
+   * others.  It will be invoked each time a connection is released, so it must
+   * be quick and must not block.
+   *
+   * @param  connection  The connection being released back to the pool.
+   *
+   * @return  {@code true} if the connection should be replaced, or
+   *          {@code false} if it may continue to be used.
+   */
+  protected boolean shouldReplaceConnection(
+                         @NotNull final LDAPConnection connection)
+  {
+    return false;
+  }
+
+
+
   /**
    * Retrieves a string representation of this server set.
    *
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadLocalRandom;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a connection pool routing policy that will distribute
+ * checkouts across servers in proportion to a weight assigned to each server.
+ * For example, if one server has a weight of three and another has a weight
+ * of one, then the first server will be selected for three out of every four
+ * checkouts as long as both servers have connections available.  Selections
+ * are interleaved rather than grouped, so that with those weights the servers
+ * will be selected in an order like "A, A, B, A" rather than "A, A, A, B".
+ * <BR><BR>
+ * Servers that were not assigned a weight when the policy was created will be
+ * given a weight of one.  A server with a weight of zero will only be selected
+ * if no server with a positive weight has any available connections.  Weights
+ * are only applied among the servers that have available connections at the
+ * time of the checkout, so a server whose connections are all in use will not
+ * delay checkouts from other servers.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for configuring a connection
+ * pool to send three times as many operations to the first server as to the
+ * second:
+ * <PRE>
+ * WeightedRoundRobinRoutingPolicy routingPolicy =
+ *      new WeightedRoundRobinRoutingPolicy(
+ *           new String[] { server1Address, server2Address },
+ *           new int[] { server1Port, server2Port },
+ *           new int[] { 3, 1 });
+ * pool.setRoutingPolicy(routingPolicy);
+ * </PRE>
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class WeightedRoundRobinRoutingPolicy
+       extends LDAPConnectionPoolRoutingPolicy
+{
+  /**
+   * The weight that will be used for servers that were not assigned a weight.
+   */
+  public static final int DEFAULT_WEIGHT = 1;
+
+
+
+  // The running weights used to interleave selections.  All access to this map
+  // must be synchronized on it.
+  @NotNull private final Map<ObjectPair<String,Integer>,Long> currentWeights;
+
+  // The configured weight for each server.
+  @NotNull private final Map<ObjectPair<String,Integer>,Integer> weights;
+
+
+
+  /**
+   * Creates a new weighted round-robin routing policy with the provided
+   * weights.
+   *
+   * @param  addresses  The addresses of the servers for which weights are
+   *                    provided.  It must not be {@code null}.
+   * @param  ports      The ports of the servers for which weights are
+   *                    provided.  It must not be {@code null}, and it must have
+   *                    the same number of elements as the {@code addresses}
+   *                    array.
+   * @param  weights    The weights for the servers.  It must not be
+   *                    {@code null}, it must have the same number of elements
+   *                    as the {@code addresses} array, and none of the weights
+   *                    may be negative.
+   */
+  public WeightedRoundRobinRoutingPolicy(@NotNull final String[] addresses,
+                                         @NotNull final int[] ports,
+                                         @NotNull final int[] weights)
+  {
+    Validator.ensureNotNull(addresses, ports, weights);
+    Validator.ensureTrue((addresses.length == ports.length) &&
+              (addresses.length == weights.length),
+         "WeightedRoundRobinRoutingPolicy addresses, ports, and weights " +
+              "arrays must be the same size.");
+
+    final LinkedHashMap<ObjectPair<String,Integer>,Integer> weightMap =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(addresses.length));
+    for (int i=0; i < addresses.length; i++)
+    {
+      Validator.ensureTrue((weights[i] >= 0),
+           "WeightedRoundRobinRoutingPolicy weights must not be negative.");
+      weightMap.put(new ObjectPair<>(addresses[i], ports[i]), weights[i]);
+    }
+
+    this.weights = Collections.unmodifiableMap(weightMap);
+    currentWeights = new HashMap<>(
+         StaticUtils.computeMapCapacity(addresses.length));
+  }
+
+
+
+  /**
+   * Retrieves the weight that will be used for the specified server.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  The weight that will be used for the specified server.
+   */
+  public int getWeight(@NotNull final String host, final int port)
+  {
+    final Integer weight = weights.get(new ObjectPair<>(host, port));
+    if (weight == null)
+    {
+      return DEFAULT_WEIGHT;
+    }
+    else
+    {
+      return weight;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int selectServer(@NotNull final List<LDAPConnectionPoolServer> servers)
+  {
+    final int numServers = servers.size();
+    final int[] serverWeights = new int[numServers];
+    final List<ObjectPair<String,Integer>> keys = new ArrayList<>(numServers);
+    long totalWeight = 0L;
+    for (int i=0; i < numServers; i++)
+    {
+      final LDAPConnectionPoolServer server = servers.get(i);
+      serverWeights[i] = getWeight(server.getHost(), server.getPort());
+      keys.add(new ObjectPair<>(server.getHost(), server.getPort()));
+      totalWeight += serverWeights[i];
+    }
+
+    synchronized (currentWeights)
+    {
+      // Use smooth weighted round-robin selection.  Each server's running
+      // weight is increased by its configured weight, the server with the
+      // highest running weight is selected, and the selected server's running
+      // weight is reduced by the total weight.
+      int selectedIndex = -1;
+      long selectedWeight = Long.MIN_VALUE;
+      for (int i=0; i < numServers; i++)
+      {
+        final ObjectPair<String,Integer> key = keys.get(i);
+        final Long current = currentWeights.get(key);
+        final long updated =
+             ((current == null) ? 0L : current) + serverWeights[i];
+        currentWeights.put(key, updated);
+
+        if ((serverWeights[i] > 0) && (updated > selectedWeight))
+        {
+          selectedIndex = i;
+          selectedWeight = updated;
+        }
+      }
+
+      if (selectedIndex < 0)
+      {
+        // None of the servers has a positive weight, so just pick one at
+        // random.
+        return ThreadLocalRandom.get().nextInt(numServers);
+      }
+
+      currentWeights.put(keys.get(selectedIndex), selectedWeight - totalWeight);
+      return selectedIndex;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("WeightedRoundRobinRoutingPolicy(weights={");
+
+    boolean first = true;
+    for (final Map.Entry<ObjectPair<String,Integer>,Integer> e :
+         weights.entrySet())
+    {
+      if (! first)
+      {
+        buffer.append(", ");
+      }
+      first = false;
+
+      buffer.append('\'');
+      buffer.append(e.getKey().getFirst());
+      buffer.append(':');
+      buffer.append(e.getKey().getSecond());
+      buffer.append("':");
+      buffer.append(e.getValue());
+    }
+
+    buffer.append("}, defaultWeight=");
+    buffer.append(DEFAULT_WEIGHT);
+    buffer.append(')');
+  }
+}
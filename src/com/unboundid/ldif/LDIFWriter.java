@@ -51,6 +51,7 @@ import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.util.Base64;
 import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.ByteStringBufferPool;
 import com.unboundid.util.Debug;
 import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.NotNull;
@@ -133,9 +134,9 @@ public final class LDIFWriter
   // The writer that will be used to actually write the data.
   @NotNull private final BufferedOutputStream writer;
 
-  // The byte string buffer that will be used to convert LDIF records to LDIF.
-  // It will only be used when operating synchronously.
-  @NotNull private final ByteStringBuffer buffer;
+  // The pool from which to obtain the buffers that will be used to convert
+  // LDIF records to LDIF.
+  @NotNull private final ByteStringBufferPool bufferPool;
 
   // The translator to use for change records to be written, if any.
   @Nullable private final LDIFWriterChangeRecordTranslator
@@ -317,7 +318,7 @@ public final class LDIFWriter
 
     this.entryTranslator = entryTranslator;
     this.changeRecordTranslator = changeRecordTranslator;
-    buffer = new ByteStringBuffer();
+    bufferPool = ByteStringBufferPool.getDefaultInstance();
 
     if (outputStream instanceof BufferedOutputStream)
     {
@@ -367,7 +368,7 @@ public final class LDIFWriter
                  r = input;
                }
 
-               final ByteStringBuffer b = new ByteStringBuffer(200);
+               final ByteStringBuffer b = bufferPool.acquire();
                r.toLDIF(b, wrapColumn);
                return b;
              }
@@ -731,8 +732,15 @@ public final class LDIFWriter
         final ByteStringBuffer encodedBytes = result.getOutput();
         if (encodedBytes != null)
         {
-          encodedBytes.write(writer);
-          writer.write(StaticUtils.EOL_BYTES);
+          try
+          {
+            encodedBytes.write(writer);
+            writer.write(StaticUtils.EOL_BYTES);
+          }
+          finally
+          {
+            bufferPool.release(encodedBytes);
+          }
         }
       }
     }
@@ -819,7 +827,7 @@ public final class LDIFWriter
       commentWrapMinusTwo = wrapColumnMinusTwo;
     }
 
-    buffer.clear();
+    final ByteStringBuffer buffer = bufferPool.acquire();
     final int length = comment.length();
     if (length <= commentWrapMinusTwo)
     {
@@ -895,7 +903,14 @@ public final class LDIFWriter
       }
     }
 
-    buffer.write(writer);
+    try
+    {
+      buffer.write(writer);
+    }
+    finally
+    {
+      bufferPool.release(buffer);
+    }
   }
 
 
@@ -911,10 +926,17 @@ public final class LDIFWriter
   private void writeLDIF(@NotNull final LDIFRecord record)
           throws IOException
   {
-    buffer.clear();
-    record.toLDIF(buffer, wrapColumn);
-    buffer.append(StaticUtils.EOL_BYTES);
-    buffer.write(writer);
+    final ByteStringBuffer buffer = bufferPool.acquire();
+    try
+    {
+      record.toLDIF(buffer, wrapColumn);
+      buffer.append(StaticUtils.EOL_BYTES);
+      buffer.write(writer);
+    }
+    finally
+    {
+      bufferPool.release(buffer);
+    }
   }
 
 
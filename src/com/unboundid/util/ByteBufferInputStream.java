@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.unboundid.util.UtilityMessages.*;
+
+
+
+/**
+ * This class provides an input stream that may be used to read data from a
+ * {@code ByteBuffer}, which may be either a heap buffer or a direct buffer.
+ * Data will be read from the buffer's current position up to its limit, and
+ * reading from this stream will advance the position of the buffer, so that
+ * when the caller is done with the stream, the buffer's position will reflect
+ * the amount of data consumed.  No data is copied out of the buffer except as
+ * needed to satisfy each read.
+ * <BR><BR>
+ * This input stream supports the {@code mark} and {@code reset} methods, and
+ * closing it will have no effect.  The buffer must not be accessed by anything
+ * else while this stream is in use.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+public final class ByteBufferInputStream
+       extends InputStream
+{
+  // The buffer from which data will be read.
+  @NotNull private final ByteBuffer buffer;
+
+  // The buffer position at which the stream was most recently marked.
+  private int markPosition;
+
+
+
+  /**
+   * Creates a new input stream that will read from the provided buffer.
+   *
+   * @param  buffer  The buffer from which data will be read.  It must not be
+   *                 {@code null}.
+   */
+  public ByteBufferInputStream(@NotNull final ByteBuffer buffer)
+  {
+    Validator.ensureNotNull(buffer);
+
+    this.buffer = buffer;
+
+    markPosition = buffer.position();
+  }
+
+
+
+  /**
+   * Reads a single byte from the buffer.
+   *
+   * @return  The byte that was read, or -1 if the end of the buffer has been
+   *          reached.
+   */
+  @Override()
+  public int read()
+  {
+    if (buffer.hasRemaining())
+    {
+      return (buffer.get() & 0xFF);
+    }
+    else
+    {
+      return -1;
+    }
+  }
+
+
+
+  /**
+   * Reads data from the buffer into the provided array.
+   *
+   * @param  b  The array into which the data should be read.  It must not be
+   *            {@code null}.
+   *
+   * @return  The number of bytes read, or -1 if the end of the buffer has been
+   *          reached.
+   */
+  @Override()
+  public int read(@NotNull final byte[] b)
+  {
+    return read(b, 0, b.length);
+  }
+
+
+
+  /**
+   * Reads data from the buffer into the specified portion of the provided
+   * array.
+   *
+   * @param  b    The array into which the data should be read.  It must not be
+   *              {@code null}.
+   * @param  off  The position in the array at which to start storing data.
+   * @param  len  The maximum number of bytes to read.
+   *
+   * @return  The number of bytes read, or -1 if the end of the buffer has been
+   *          reached.
+   */
+  @Override()
+  public int read(@NotNull final byte[] b, final int off, final int len)
+  {
+    if ((off < 0) || (len < 0) || (len > (b.length - off)))
+    {
+      throw new IndexOutOfBoundsException();
+    }
+
+    if (len == 0)
+    {
+      return 0;
+    }
+
+    final int remaining = buffer.remaining();
+    if (remaining == 0)
+    {
+      return -1;
+    }
+
+    final int bytesToRead = Math.min(len, remaining);
+    buffer.get(b, off, bytesToRead);
+    return bytesToRead;
+  }
+
+
+
+  /**
+   * Skips over up to the specified number of bytes in the buffer.
+   *
+   * @param  n  The maximum number of bytes to skip.
+   *
+   * @return  The number of bytes actually skipped.
+   */
+  @Override()
+  public long skip(final long n)
+  {
+    if (n <= 0L)
+    {
+      return 0L;
+    }
+
+    final int bytesToSkip = (int) Math.min(n, buffer.remaining());
+    buffer.position(buffer.position() + bytesToSkip);
+    return bytesToSkip;
+  }
+
+
+
+  /**
+   * Retrieves the number of bytes remaining in the buffer.
+   *
+   * @return  The number of bytes remaining in the buffer.
+   */
+  @Override()
+  public int available()
+  {
+    return buffer.remaining();
+  }
+
+
+
+  /**
+   * Indicates whether this input stream supports the use of the {@code mark}
+   * and {@code reset} methods.
+   *
+   * @return  {@code true}, since this input stream supports marking.
+   */
+  @Override()
+  public boolean markSupported()
+  {
+    return true;
+  }
+
+
+
+  /**
+   * Marks the current position in the buffer so that it may be returned to by
+   * a subsequent call to the {@link #reset} method.
+   *
+   * @param  readLimit  The maximum number of bytes that may be read before the
+   *                    mark is invalidated.  It will be ignored, since the mark
+   *                    will remain valid for the life of the stream.
+   */
+  @Override()
+  public void mark(final int readLimit)
+  {
+    markPosition = buffer.position();
+  }
+
+
+
+  /**
+   * Returns to the position in the buffer that was most recently marked, or to
+   * the position the buffer had when this stream was created if it has not
+   * been marked.
+   *
+   * @throws  IOException  If the marked position is no longer within the
+   *                       bounds of the buffer.
+   */
+  @Override()
+  public void reset()
+         throws IOException
+  {
+    if (markPosition > buffer.limit())
+    {
+      throw new IOException(ERR_BYTE_BUFFER_INPUT_STREAM_INVALID_MARK.get(
+           markPosition, buffer.limit()));
+    }
+
+    buffer.position(markPosition);
+  }
+
+
+
+  /**
+   * Closes this input stream.  This will have no effect.
+   */
+  @Override()
+  public void close()
+  {
+    // No implementation is required.
+  }
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+
+/**
+ * This class provides a thread-safe pool of {@link ByteStringBuffer} objects
+ * that may be shared across threads in order to reduce the number of buffers
+ * that need to be allocated and grown.  Pooled buffers are grouped into size
+ * classes based on their capacity, where each size class holds buffers whose
+ * capacity is at least a given power of two, so that a request for a buffer
+ * of a given minimum capacity can be satisfied without needing to grow it.
+ * <BR><BR>
+ * The pool places limits on the amount of memory that it will retain.  Each
+ * shared size class will hold at most a fixed number of buffers, and any buffer
+ * whose capacity exceeds the maximum retained capacity will be discarded
+ * rather than returned to the pool.  This ensures that an occasional very
+ * large buffer will not continue to consume memory after it is no longer
+ * needed.  The {@link #trim} method may be used to discard all buffers held in
+ * the pool.
+ * <BR><BR>
+ * In order to avoid contention when the pool is heavily used by many threads,
+ * each size class is fronted by a small striped cache that holds one buffer
+ * per stripe, and threads are spread across the stripes based on their thread
+ * IDs.  A buffer is only placed in or taken from the shared size class when
+ * the corresponding slot in the caller's stripe is full or empty, so each
+ * size class may retain up to one buffer per stripe in addition to its
+ * configured maximum.
+ * <BR><BR>
+ * The content of each buffer is overwritten with zeros when it is released,
+ * so that any sensitive information it held (for example, the contents of a
+ * file or an encoded request) does not linger in memory while the buffer sits
+ * in the pool.  A buffer obtained from the pool must not be accessed after it
+ * has been released back to it, and it must not be released more than once.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ByteStringBufferPool
+       implements Serializable
+{
+  /**
+   * The default maximum number of buffers that will be retained in each size
+   * class.
+   */
+  public static final int DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS = 32;
+
+
+
+  /**
+   * The default maximum capacity of a buffer that may be retained in the
+   * pool.
+   */
+  public static final int DEFAULT_MAX_RETAINED_CAPACITY = 1_048_576;
+
+
+
+  /**
+   * The base-two logarithm of the capacity of the smallest size class.
+   */
+  private static final int MIN_SIZE_CLASS_SHIFT = 8;
+
+
+
+  /**
+   * The capacity of buffers in the smallest size class.
+   */
+  private static final int MIN_SIZE_CLASS_CAPACITY = 1 << MIN_SIZE_CLASS_SHIFT;
+
+
+
+  /**
+   * The number of stripes in the front cache for each size class.  It will be a
+   * power of two so that a thread ID can be mapped to a stripe with a mask.
+   */
+  static final int NUM_STRIPES = Integer.highestOneBit(Math.max(1,
+       Math.min(64, 2 * Runtime.getRuntime().availableProcessors()) - 1)) << 1;
+
+
+
+  /**
+   * The default pool instance that will be shared throughout the LDAP SDK.
+   */
+  @NotNull private static final ByteStringBufferPool DEFAULT_INSTANCE =
+       new ByteStringBufferPool(DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS,
+            DEFAULT_MAX_RETAINED_CAPACITY);
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -2470915539273064117L;
+
+
+
+  // The number of buffers that have been allocated because no suitable pooled
+  // buffer was available.
+  @NotNull private final AtomicLong buffersAllocated;
+
+  // The number of buffers that were discarded rather than being returned to
+  // the pool.
+  @NotNull private final AtomicLong buffersDiscarded;
+
+  // The number of requests that were satisfied with a pooled buffer.
+  @NotNull private final AtomicLong buffersReused;
+
+  // The striped front cache, which holds at most one buffer for each
+  // combination of stripe and size class.  The slot for a given stripe and
+  // size class is at index (stripe * sizeClasses.length) + sizeClass.
+  @NotNull private final AtomicReferenceArray<ByteStringBuffer> frontCache;
+
+  // The queues holding the pooled buffers for each size class.
+  @NotNull private final ArrayBlockingQueue<ByteStringBuffer>[] sizeClasses;
+
+  // The maximum number of buffers that will be retained in each size class.
+  private final int maxBuffersPerSizeClass;
+
+  // The maximum capacity of a buffer that may be retained in the pool.
+  private final int maxRetainedCapacity;
+
+
+
+  /**
+   * Creates a new byte string buffer pool with the provided settings.
+   *
+   * @param  maxBuffersPerSizeClass  The maximum number of buffers that will be
+   *                                 retained in each size class.  It must be
+   *                                 greater than zero.
+   * @param  maxRetainedCapacity     The maximum capacity of a buffer that may
+   *                                 be retained in the pool.  It must be
+   *                                 greater than or equal to the capacity of
+   *                                 the smallest size class, which is 256
+   *                                 bytes.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public ByteStringBufferPool(final int maxBuffersPerSizeClass,
+                              final int maxRetainedCapacity)
+  {
+    Validator.ensureTrue((maxBuffersPerSizeClass > 0),
+         "ByteStringBufferPool.maxBuffersPerSizeClass must be greater than " +
+              "zero.");
+    Validator.ensureTrue((maxRetainedCapacity >= MIN_SIZE_CLASS_CAPACITY),
+         "ByteStringBufferPool.maxRetainedCapacity must be at least " +
+              MIN_SIZE_CLASS_CAPACITY + '.');
+
+    this.maxBuffersPerSizeClass = maxBuffersPerSizeClass;
+    this.maxRetainedCapacity = maxRetainedCapacity;
+
+    sizeClasses = new ArrayBlockingQueue[getSizeClass(maxRetainedCapacity) + 1];
+    for (int i=0; i < sizeClasses.length; i++)
+    {
+      sizeClasses[i] = new ArrayBlockingQueue<>(maxBuffersPerSizeClass);
+    }
+
+    frontCache = new AtomicReferenceArray<>(NUM_STRIPES * sizeClasses.length);
+
+    buffersAllocated = new AtomicLong(0L);
+    buffersDiscarded = new AtomicLong(0L);
+    buffersReused = new AtomicLong(0L);
+  }
+
+
+
+  /**
+   * Retrieves the default pool instance that is shared throughout the LDAP
+   * SDK.
+   *
+   * @return  The default pool instance that is shared throughout the LDAP SDK.
+   */
+  @NotNull()
+  public static ByteStringBufferPool getDefaultInstance()
+  {
+    return DEFAULT_INSTANCE;
+  }
+
+
+
+  /**
+   * Retrieves an empty buffer from this pool, allocating a new one if no
+   * pooled buffer is available.  When it is no longer needed, the buffer
+   * should be returned to the pool with the {@link #release} method.
+   *
+   * @return  An empty buffer from this pool.
+   */
+  @NotNull()
+  public ByteStringBuffer acquire()
+  {
+    return acquire(0);
+  }
+
+
+
+  /**
+   * Retrieves an empty buffer with at least the specified capacity from this
+   * pool, allocating a new one if no suitable pooled buffer is available.
+   * When it is no longer needed, the buffer should be returned to the pool
+   * with the {@link #release} method.
+   *
+   * @param  minimumCapacity  The minimum capacity that the buffer should have.
+   *
+   * @return  An empty buffer with at least the specified capacity.
+   */
+  @NotNull()
+  public ByteStringBuffer acquire(final int minimumCapacity)
+  {
+    if (minimumCapacity <= maxRetainedCapacity)
+    {
+      // Any buffer in a size class at least as large as the one that would
+      // hold a buffer of exactly the requested capacity is large enough,
+      // unless the requested capacity is not a power of two, in which case we
+      // need to start with the next larger size class.
+      int sizeClass = getSizeClass(minimumCapacity);
+      if ((minimumCapacity > MIN_SIZE_CLASS_CAPACITY) &&
+          (Integer.bitCount(minimumCapacity) != 1))
+      {
+        sizeClass++;
+      }
+
+      final int stripeOffset = getStripeOffset();
+      for (int i=sizeClass; i < sizeClasses.length; i++)
+      {
+        final ByteStringBuffer buffer = frontCache.get(stripeOffset + i);
+        if ((buffer != null) &&
+            frontCache.compareAndSet((stripeOffset + i), buffer, null))
+        {
+          buffersReused.incrementAndGet();
+          return buffer;
+        }
+      }
+
+      for (int i=sizeClass; i < sizeClasses.length; i++)
+      {
+        final ByteStringBuffer buffer = sizeClasses[i].poll();
+        if (buffer != null)
+        {
+          buffersReused.incrementAndGet();
+          return buffer;
+        }
+      }
+    }
+
+    buffersAllocated.incrementAndGet();
+    return new ByteStringBuffer(
+         Math.max(minimumCapacity, MIN_SIZE_CLASS_CAPACITY));
+  }
+
+
+
+  /**
+   * Returns the provided buffer to this pool.  The buffer will be cleared and
+   * its content overwritten with zeros, and it will be discarded rather than
+   * retained if its capacity exceeds the maximum retained capacity or if its
+   * size class is already full.  The buffer must not be accessed by the caller
+   * after it has been released.
+   *
+   * @param  buffer  The buffer to return to the pool.  It may be {@code null},
+   *                 in which case no action will be taken.
+   */
+  public void release(@Nullable final ByteStringBuffer buffer)
+  {
+    if (buffer == null)
+    {
+      return;
+    }
+
+    final int capacity = buffer.capacity();
+    if ((capacity < MIN_SIZE_CLASS_CAPACITY) ||
+        (capacity > maxRetainedCapacity))
+    {
+      buffersDiscarded.incrementAndGet();
+      return;
+    }
+
+    buffer.clear(true);
+
+    final int sizeClass = getSizeClass(capacity);
+    if (frontCache.compareAndSet((getStripeOffset() + sizeClass), null,
+         buffer))
+    {
+      return;
+    }
+
+    if (! sizeClasses[sizeClass].offer(buffer))
+    {
+      buffersDiscarded.incrementAndGet();
+    }
+  }
+
+
+
+  /**
+   * Discards all of the buffers currently held in this pool so that the memory
+   * they consume may be reclaimed.  The pool will remain usable.
+   */
+  public void trim()
+  {
+    for (int i=0; i < frontCache.length(); i++)
+    {
+      frontCache.set(i, null);
+    }
+
+    for (final ArrayBlockingQueue<ByteStringBuffer> sizeClass : sizeClasses)
+    {
+      sizeClass.clear();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of buffers that will be retained in each size
+   * class.
+   *
+   * @return  The maximum number of buffers that will be retained in each size
+   *          class.
+   */
+  public int getMaxBuffersPerSizeClass()
+  {
+    return maxBuffersPerSizeClass;
+  }
+
+
+
+  /**
+   * Retrieves the maximum capacity of a buffer that may be retained in the
+   * pool.
+   *
+   * @return  The maximum capacity of a buffer that may be retained in the
+   *          pool.
+   */
+  public int getMaxRetainedCapacity()
+  {
+    return maxRetainedCapacity;
+  }
+
+
+
+  /**
+   * Retrieves the number of buffers currently held in this pool.
+   *
+   * @return  The number of buffers currently held in this pool.
+   */
+  public int getPooledBufferCount()
+  {
+    int count = 0;
+    for (int i=0; i < frontCache.length(); i++)
+    {
+      if (frontCache.get(i) != null)
+      {
+        count++;
+      }
+    }
+
+    for (final ArrayBlockingQueue<ByteStringBuffer> sizeClass : sizeClasses)
+    {
+      count += sizeClass.size();
+    }
+
+    return count;
+  }
+
+
+
+  /**
+   * Retrieves the number of buffers that have been allocated by this pool
+   * because no suitable pooled buffer was available.
+   *
+   * @return  The number of buffers that have been allocated by this pool.
+   */
+  public long getBuffersAllocated()
+  {
+    return buffersAllocated.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of requests that have been satisfied with a pooled
+   * buffer.
+   *
+   * @return  The number of requests that have been satisfied with a pooled
+   *          buffer.
+   */
+  public long getBuffersReused()
+  {
+    return buffersReused.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of released buffers that were discarded rather than
+   * retained, either because they were too large or because their size class
+   * was already full.
+   *
+   * @return  The number of released buffers that were discarded.
+   */
+  public long getBuffersDiscarded()
+  {
+    return buffersDiscarded.get();
+  }
+
+
+
+  /**
+   * Retrieves the index of the first front cache slot in the stripe assigned to
+   * the current thread.
+   *
+   * @return  The index of the first front cache slot in the stripe assigned to
+   *          the current thread.
+   */
+  private int getStripeOffset()
+  {
+    final int stripe =
+         ((int) Thread.currentThread().getId()) & (NUM_STRIPES - 1);
+    return stripe * sizeClasses.length;
+  }
+
+
+
+  /**
+   * Retrieves the index of the size class that would hold a buffer with the
+   * specified capacity.
+   *
+   * @param  capacity  The capacity for which to make the determination.
+   *
+   * @return  The index of the size class that would hold a buffer with the
+   *          specified capacity.
+   */
+  private static int getSizeClass(final int capacity)
+  {
+    if (capacity <= MIN_SIZE_CLASS_CAPACITY)
+    {
+      return 0;
+    }
+
+    return (31 - Integer.numberOfLeadingZeros(capacity)) - MIN_SIZE_CLASS_SHIFT;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this buffer pool.
+   *
+   * @return  A string representation of this buffer pool.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this buffer pool to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("ByteStringBufferPool(maxBuffersPerSizeClass=");
+    buffer.append(maxBuffersPerSizeClass);
+    buffer.append(", maxRetainedCapacity=");
+    buffer.append(maxRetainedCapacity);
+    buffer.append(", pooledBufferCount=");
+    buffer.append(getPooledBufferCount());
+    buffer.append(", buffersAllocated=");
+    buffer.append(buffersAllocated.get());
+    buffer.append(", buffersReused=");
+    buffer.append(buffersReused.get());
+    buffer.append(", buffersDiscarded=");
+    buffer.append(buffersDiscarded.get());
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,705 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+
+/**
+ * This class provides a histogram that may be used to record the distribution
+ * of latency values (typically durations in nanoseconds) with low overhead and
+ * without locking, and to query that distribution for percentile values like
+ * the 99th or 99.9th percentile that averages would otherwise hide.
+ * <BR><BR>
+ * Values are counted in log-linear buckets in the style of HdrHistogram.
+ * Values less than 128 are counted exactly, and larger values are grouped into
+ * 64 equal-width buckets for each power of two, so the value reported for any
+ * percentile will be within about 1.6% of the actual recorded value.  Bucket
+ * storage for each power of two is allocated only when a value in that range
+ * is first recorded, so a histogram that only sees values within a few orders
+ * of magnitude of each other stays small.
+ * <BR><BR>
+ * Recording a value only involves atomic updates to a handful of counters, so
+ * it is safe (and cheap) to record values from any number of threads
+ * concurrently.  Queries made while values are being recorded will reflect a
+ * point-in-time view that may not include the values that are in the process
+ * of being recorded.  The {@link #getSnapshot} method may be used to obtain a
+ * stable copy of the histogram, and the {@link #getIntervalSnapshot} method
+ * may be used to obtain a histogram with only the values recorded since the
+ * last time that method was called, which is useful for periodic reporting.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LatencyHistogram
+       implements Serializable
+{
+  /**
+   * The number of bits used to identify a bucket within a single power of two.
+   */
+  private static final int SUB_BUCKET_BITS = 6;
+
+
+
+  /**
+   * The number of buckets used for each power of two above the range of values
+   * that are counted exactly.
+   */
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+
+
+  /**
+   * The number of buckets used for the range of values that are counted
+   * exactly.
+   */
+  private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT << 1;
+
+
+
+  /**
+   * The number of octaves needed to cover all non-negative long values.
+   */
+  private static final int NUM_OCTAVES = 64 - SUB_BUCKET_BITS - 1;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 4390285714702542153L;
+
+
+
+  // The total number of values that have been recorded.
+  @NotNull private final AtomicLong count;
+
+  // The largest value that has been recorded.
+  @NotNull private final AtomicLong max;
+
+  // The smallest value that has been recorded.
+  @NotNull private final AtomicLong min;
+
+  // The sum of all values that have been recorded.
+  @NotNull private final AtomicLong total;
+
+  // The bucket counts for each octave, allocated as they are first needed.
+  @NotNull private final AtomicReferenceArray<AtomicLongArray> octaves;
+
+  // A snapshot of this histogram as of the last call to getIntervalSnapshot.
+  @Nullable private LatencyHistogram intervalBaseline;
+
+
+
+  /**
+   * Creates a new, empty latency histogram.
+   */
+  public LatencyHistogram()
+  {
+    count = new AtomicLong(0L);
+    max = new AtomicLong(Long.MIN_VALUE);
+    min = new AtomicLong(Long.MAX_VALUE);
+    total = new AtomicLong(0L);
+    octaves = new AtomicReferenceArray<>(NUM_OCTAVES);
+    intervalBaseline = null;
+  }
+
+
+
+  /**
+   * Records the provided value in this histogram.
+   *
+   * @param  value  The value to record.  Negative values (which may occur for
+   *                durations computed across clock adjustments) will be
+   *                recorded as zero.
+   */
+  public void recordValue(final long value)
+  {
+    final long v = Math.max(value, 0L);
+    final int octave = getOctave(v);
+    getOctaveCounts(octave, true).incrementAndGet(getSubBucket(v, octave));
+
+    count.incrementAndGet();
+    total.addAndGet(v);
+
+    long currentMin = min.get();
+    while ((v < currentMin) && (! min.compareAndSet(currentMin, v)))
+    {
+      currentMin = min.get();
+    }
+
+    long currentMax = max.get();
+    while ((v > currentMax) && (! max.compareAndSet(currentMax, v)))
+    {
+      currentMax = max.get();
+    }
+  }
+
+
+
+  /**
+   * Adds all of the values recorded in the provided histogram to this
+   * histogram.  This may be used to aggregate the histograms for a number of
+   * connections.
+   *
+   * @param  histogram  The histogram whose values should be added to this
+   *                    histogram.  It must not be {@code null}.
+   */
+  public void add(@NotNull final LatencyHistogram histogram)
+  {
+    final LatencyHistogram snapshot = histogram.getSnapshot();
+    if (snapshot.count.get() == 0L)
+    {
+      return;
+    }
+
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      final AtomicLongArray source = snapshot.octaves.get(o);
+      if (source != null)
+      {
+        final AtomicLongArray target = getOctaveCounts(o, true);
+        for (int i=0; i < source.length(); i++)
+        {
+          final long c = source.get(i);
+          if (c != 0L)
+          {
+            target.addAndGet(i, c);
+          }
+        }
+      }
+    }
+
+    count.addAndGet(snapshot.count.get());
+    total.addAndGet(snapshot.total.get());
+
+    final long v = snapshot.min.get();
+    long currentMin = min.get();
+    while ((v < currentMin) && (! min.compareAndSet(currentMin, v)))
+    {
+      currentMin = min.get();
+    }
+
+    final long m = snapshot.max.get();
+    long currentMax = max.get();
+    while ((m > currentMax) && (! max.compareAndSet(currentMax, m)))
+    {
+      currentMax = max.get();
+    }
+  }
+
+
+
+  /**
+   * Clears all values recorded in this histogram.  Values recorded while the
+   * reset is in progress may or may not be retained.
+   */
+  public synchronized void reset()
+  {
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      octaves.set(o, null);
+    }
+
+    count.set(0L);
+    total.set(0L);
+    min.set(Long.MAX_VALUE);
+    max.set(Long.MIN_VALUE);
+    intervalBaseline = null;
+  }
+
+
+
+  /**
+   * Retrieves the number of values that have been recorded in this histogram.
+   *
+   * @return  The number of values that have been recorded in this histogram.
+   */
+  public long getCount()
+  {
+    return count.get();
+  }
+
+
+
+  /**
+   * Retrieves the sum of all values that have been recorded in this
+   * histogram.
+   *
+   * @return  The sum of all values that have been recorded in this histogram.
+   */
+  public long getTotal()
+  {
+    return total.get();
+  }
+
+
+
+  /**
+   * Retrieves the smallest value that has been recorded in this histogram.
+   *
+   * @return  The smallest value that has been recorded in this histogram, or
+   *          zero if no values have been recorded.
+   */
+  public long getMin()
+  {
+    final long m = min.get();
+    if (m == Long.MAX_VALUE)
+    {
+      return 0L;
+    }
+    else
+    {
+      return m;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the largest value that has been recorded in this histogram.
+   *
+   * @return  The largest value that has been recorded in this histogram, or
+   *          zero if no values have been recorded.
+   */
+  public long getMax()
+  {
+    final long m = max.get();
+    if (m == Long.MIN_VALUE)
+    {
+      return 0L;
+    }
+    else
+    {
+      return m;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the mean of all values that have been recorded in this
+   * histogram.
+   *
+   * @return  The mean of all values that have been recorded in this histogram,
+   *          or {@code Double.NaN} if no values have been recorded.
+   */
+  public double getMean()
+  {
+    final long c = count.get();
+    if (c == 0L)
+    {
+      return Double.NaN;
+    }
+    else
+    {
+      return (1.0d * total.get() / c);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the value at the specified percentile, which is the smallest
+   * value for which at least the given percentage of all recorded values are
+   * less than or equal to it.  The value returned will be the largest value
+   * that could have been counted in the same bucket (but not larger than the
+   * largest recorded value), so it will not understate the actual value.
+   *
+   * @param  percentile  The percentile for which to retrieve the value.  It
+   *                     must be between 0.0 and 100.0, inclusive.
+   *
+   * @return  The value at the specified percentile, or zero if no values have
+   *          been recorded.
+   */
+  public long getValueAtPercentile(final double percentile)
+  {
+    Validator.ensureTrue(((percentile >= 0.0d) && (percentile <= 100.0d)),
+         "LatencyHistogram.getValueAtPercentile.percentile must be between " +
+              "0.0 and 100.0, inclusive.");
+
+    long bucketTotal = 0L;
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      final AtomicLongArray counts = octaves.get(o);
+      if (counts != null)
+      {
+        for (int i=0; i < counts.length(); i++)
+        {
+          bucketTotal += counts.get(i);
+        }
+      }
+    }
+
+    if (bucketTotal == 0L)
+    {
+      return 0L;
+    }
+
+    final long target =
+         Math.max(1L, (long) Math.ceil(percentile * bucketTotal / 100.0d));
+    long cumulative = 0L;
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      final AtomicLongArray counts = octaves.get(o);
+      if (counts != null)
+      {
+        for (int i=0; i < counts.length(); i++)
+        {
+          cumulative += counts.get(i);
+          if (cumulative >= target)
+          {
+            return Math.min(getBucketUpperBound(o, i), getMax());
+          }
+        }
+      }
+    }
+
+    return getMax();
+  }
+
+
+
+  /**
+   * Retrieves a copy of this histogram as it exists at the time this method
+   * is called.  The copy will not be altered by subsequent updates to this
+   * histogram.
+   *
+   * @return  A copy of this histogram.
+   */
+  @NotNull()
+  public LatencyHistogram getSnapshot()
+  {
+    final LatencyHistogram snapshot = new LatencyHistogram();
+    snapshot.min.set(min.get());
+    snapshot.max.set(max.get());
+    snapshot.total.set(total.get());
+
+    long bucketTotal = 0L;
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      final AtomicLongArray counts = octaves.get(o);
+      if (counts != null)
+      {
+        final AtomicLongArray copy = new AtomicLongArray(counts.length());
+        for (int i=0; i < counts.length(); i++)
+        {
+          final long c = counts.get(i);
+          copy.set(i, c);
+          bucketTotal += c;
+        }
+
+        snapshot.octaves.set(o, copy);
+      }
+    }
+
+    // Use the bucket counts rather than the count field so that the snapshot
+    // is internally consistent even if values were recorded during the copy.
+    snapshot.count.set(bucketTotal);
+    return snapshot;
+  }
+
+
+
+  /**
+   * Retrieves a histogram containing only the values that have been recorded
+   * since the last time this method was called (or since the histogram was
+   * created or reset, if this method has not yet been called).  The minimum
+   * and maximum values for the interval histogram will be derived from the
+   * bucket boundaries, so they will be subject to the same precision as
+   * percentile values.
+   *
+   * @return  A histogram containing only the values that have been recorded
+   *          since the last time this method was called.
+   */
+  @NotNull()
+  public synchronized LatencyHistogram getIntervalSnapshot()
+  {
+    final LatencyHistogram current = getSnapshot();
+    final LatencyHistogram previous = intervalBaseline;
+    intervalBaseline = current;
+
+    if (previous == null)
+    {
+      return current.getSnapshot();
+    }
+
+    return current.getDifference(previous);
+  }
+
+
+
+  /**
+   * Retrieves a histogram containing the values in this histogram that are not
+   * in the provided earlier snapshot of it.  This may be used by callers that
+   * need to track their own intervals without affecting the interval used by
+   * the {@link #getIntervalSnapshot} method.  The minimum and maximum values
+   * for the resulting histogram will be derived from the bucket boundaries, so
+   * they will be subject to the same precision as percentile values.
+   *
+   * @param  earlierSnapshot  A snapshot of this histogram that was obtained
+   *                          with the {@link #getSnapshot} method at the start
+   *                          of the interval.  It must not be {@code null}.
+   *
+   * @return  A histogram containing the values in this histogram that are not
+   *          in the provided earlier snapshot.
+   */
+  @NotNull()
+  public LatencyHistogram getDifference(
+              @NotNull final LatencyHistogram earlierSnapshot)
+  {
+    final LatencyHistogram current = getSnapshot();
+    final LatencyHistogram previous = earlierSnapshot.getSnapshot();
+
+    final LatencyHistogram difference = new LatencyHistogram();
+    long differenceCount = 0L;
+    long differenceMin = Long.MAX_VALUE;
+    long differenceMax = Long.MIN_VALUE;
+    for (int o=0; o < NUM_OCTAVES; o++)
+    {
+      final AtomicLongArray currentCounts = current.octaves.get(o);
+      if (currentCounts == null)
+      {
+        continue;
+      }
+
+      final AtomicLongArray previousCounts = previous.octaves.get(o);
+      final AtomicLongArray differenceCounts =
+           new AtomicLongArray(currentCounts.length());
+      for (int i=0; i < currentCounts.length(); i++)
+      {
+        long c = currentCounts.get(i);
+        if (previousCounts != null)
+        {
+          c = Math.max(0L, (c - previousCounts.get(i)));
+        }
+
+        if (c > 0L)
+        {
+          differenceCounts.set(i, c);
+          differenceCount += c;
+          differenceMin = Math.min(differenceMin, getBucketLowerBound(o, i));
+          differenceMax = Math.max(differenceMax, getBucketUpperBound(o, i));
+        }
+      }
+
+      difference.octaves.set(o, differenceCounts);
+    }
+
+    if (differenceCount > 0L)
+    {
+      difference.count.set(differenceCount);
+      difference.total.set(
+           Math.max(0L, (current.total.get() - previous.total.get())));
+      difference.min.set(Math.max(differenceMin, current.getMin()));
+      difference.max.set(Math.min(differenceMax, current.getMax()));
+    }
+
+    return difference;
+  }
+
+
+
+  /**
+   * Retrieves the counts for the specified octave, optionally creating them if
+   * they have not yet been allocated.
+   *
+   * @param  octave  The octave for which to retrieve the counts.
+   * @param  create  Indicates whether to allocate the counts if necessary.
+   *
+   * @return  The counts for the specified octave, or {@code null} if they have
+   *          not been allocated and {@code create} is {@code false}.
+   */
+  @Nullable()
+  private AtomicLongArray getOctaveCounts(final int octave,
+                                          final boolean create)
+  {
+    while (true)
+    {
+      final AtomicLongArray counts = octaves.get(octave);
+      if ((counts != null) || (! create))
+      {
+        return counts;
+      }
+
+      final int size;
+      if (octave == 0)
+      {
+        size = LINEAR_BUCKET_COUNT;
+      }
+      else
+      {
+        size = SUB_BUCKET_COUNT;
+      }
+
+      // If another thread installs the counts first, then loop back around
+      // to use them instead.
+      final AtomicLongArray newCounts = new AtomicLongArray(size);
+      if (octaves.compareAndSet(octave, null, newCounts))
+      {
+        return newCounts;
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the octave in which the provided non-negative value falls.
+   *
+   * @param  value  The value for which to retrieve the octave.
+   *
+   * @return  The octave in which the provided value falls.
+   */
+  static int getOctave(final long value)
+  {
+    if (value < LINEAR_BUCKET_COUNT)
+    {
+      return 0;
+    }
+    else
+    {
+      return (63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the index of the bucket within the given octave in which the
+   * provided non-negative value falls.
+   *
+   * @param  value   The value for which to retrieve the bucket index.
+   * @param  octave  The octave in which the value falls.
+   *
+   * @return  The index of the bucket in which the provided value falls.
+   */
+  static int getSubBucket(final long value, final int octave)
+  {
+    if (octave == 0)
+    {
+      return (int) value;
+    }
+    else
+    {
+      return (int) ((value >>> octave) - SUB_BUCKET_COUNT);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the smallest value that may be counted in the specified bucket.
+   *
+   * @param  octave     The octave for the bucket.
+   * @param  subBucket  The index of the bucket within the octave.
+   *
+   * @return  The smallest value that may be counted in the specified bucket.
+   */
+  static long getBucketLowerBound(final int octave, final int subBucket)
+  {
+    if (octave == 0)
+    {
+      return subBucket;
+    }
+    else
+    {
+      return ((long) (subBucket + SUB_BUCKET_COUNT)) << octave;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the largest value that may be counted in the specified bucket.
+   *
+   * @param  octave     The octave for the bucket.
+   * @param  subBucket  The index of the bucket within the octave.
+   *
+   * @return  The largest value that may be counted in the specified bucket.
+   */
+  static long getBucketUpperBound(final int octave, final int subBucket)
+  {
+    return getBucketLowerBound(octave, subBucket) + (1L << octave) - 1L;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this histogram.
+   *
+   * @return  A string representation of this histogram.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this histogram to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    final LatencyHistogram snapshot = getSnapshot();
+    buffer.append("LatencyHistogram(count=");
+    buffer.append(snapshot.getCount());
+    buffer.append(", min=");
+    buffer.append(snapshot.getMin());
+    buffer.append(", max=");
+    buffer.append(snapshot.getMax());
+    buffer.append(", p50=");
+    buffer.append(snapshot.getValueAtPercentile(50.0d));
+    buffer.append(", p99=");
+    buffer.append(snapshot.getValueAtPercentile(99.0d));
+    buffer.append(", p99.9=");
+    buffer.append(snapshot.getValueAtPercentile(99.9d));
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import static com.unboundid.util.UtilityMessages.*;
+
+
+
+/**
+ * This class provides an output stream that may be used to write data to a
+ * non-blocking socket channel.  Writes will block until all of the data has
+ * been accepted by the channel, using a private selector to wait for the
+ * channel to become writable if necessary, so that the channel may continue to
+ * be registered with an NIO selector thread for reads.  A write timeout may be
+ * configured so that a peer that stops reading cannot block the writing
+ * thread indefinitely.  If the channel does not accept any data within that
+ * length of time, then the write will fail with a
+ * {@code SocketTimeoutException}, and the caller should close the connection
+ * because a partial message may have been written.
+ * <BR><BR>
+ * Each call to one of the {@code write} methods is atomic with respect to
+ * other writes, so that data written by one thread will not be interleaved
+ * with data written by another thread in the course of the same call.
+ * <BR><BR>
+ * This class is intended for use by the LDAP SDK and its listener framework,
+ * and must not be used by third-party code.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class SocketChannelOutputStream
+      extends OutputStream
+{
+  // The selector used to wait for the channel to become writable.  It will
+  // only be created if a write cannot be completed immediately.
+  @Nullable private Selector writeSelector;
+
+  // The maximum length of time in milliseconds to wait for the channel to
+  // accept more data, or zero if there is no limit.
+  private final long writeTimeoutMillis;
+
+  // The socket channel to which data will be written.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new output stream that will write to the provided channel
+   * without any write timeout.
+   *
+   * @param  channel  The socket channel to which data will be written.  It
+   *                  must not be {@code null}, and it must be configured in
+   *                  non-blocking mode.
+   */
+  public SocketChannelOutputStream(@NotNull final SocketChannel channel)
+  {
+    this(channel, 0L);
+  }
+
+
+
+  /**
+   * Creates a new output stream that will write to the provided channel.
+   *
+   * @param  channel             The socket channel to which data will be
+   *                             written.  It must not be {@code null}, and it
+   *                             must be configured in non-blocking mode.
+   * @param  writeTimeoutMillis  The maximum length of time in milliseconds to
+   *                             wait for the channel to accept more data
+   *                             before failing the write.  A value that is
+   *                             less than or equal to zero indicates that
+   *                             there should be no limit.
+   */
+  public SocketChannelOutputStream(@NotNull final SocketChannel channel,
+                                   final long writeTimeoutMillis)
+  {
+    this.channel = channel;
+    this.writeTimeoutMillis = Math.max(0L, writeTimeoutMillis);
+
+    writeSelector = null;
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds to wait for the
+   * channel to accept more data.
+   *
+   * @return  The maximum length of time in milliseconds to wait for the
+   *          channel to accept more data, or zero if there is no limit.
+   */
+  public long getWriteTimeoutMillis()
+  {
+    return writeTimeoutMillis;
+  }
+
+
+
+  /**
+   * Writes the provided byte to the channel.
+   *
+   * @param  b  The byte to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing to the channel.
+   */
+  @Override()
+  public synchronized void write(final int b)
+         throws IOException
+  {
+    write(new byte[] { (byte) (b & 0xFF) }, 0, 1);
+  }
+
+
+
+  /**
+   * Writes the specified portion of the provided array to the channel.  This
+   * method will not return until all of the data has been written, or until
+   * the write timeout has elapsed without the channel accepting any more data.
+   *
+   * @param  b    The array containing the data to be written.
+   * @param  off  The position in the array at which to start writing data.
+   * @param  len  The number of bytes to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing to the channel,
+   *                       including a {@code SocketTimeoutException} if the
+   *                       write timeout elapsed.
+   */
+  @Override()
+  public synchronized void write(@NotNull final byte[] b, final int off,
+                                 final int len)
+         throws IOException
+  {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    long stallStartTime = 0L;
+    while (buffer.hasRemaining())
+    {
+      if (channel.write(buffer) > 0)
+      {
+        stallStartTime = 0L;
+        continue;
+      }
+
+      long waitMillis = 1000L;
+      if (writeTimeoutMillis > 0L)
+      {
+        final long currentTime = System.nanoTime();
+        if (stallStartTime == 0L)
+        {
+          stallStartTime = currentTime;
+        }
+
+        final long remainingMillis = writeTimeoutMillis -
+             TimeUnit.NANOSECONDS.toMillis(currentTime - stallStartTime);
+        if (remainingMillis <= 0L)
+        {
+          throw new SocketTimeoutException(
+               ERR_SOCKET_CHANNEL_OUTPUT_STREAM_WRITE_TIMEOUT.get(
+                    writeTimeoutMillis));
+        }
+
+        waitMillis = Math.min(waitMillis, remainingMillis);
+      }
+
+      awaitWritable(waitMillis);
+    }
+  }
+
+
+
+  /**
+   * Waits for the channel to become writable.
+   *
+   * @param  waitMillis  The maximum length of time in milliseconds to wait.
+   *
+   * @throws  IOException  If a problem occurs while waiting.
+   */
+  private void awaitWritable(final long waitMillis)
+          throws IOException
+  {
+    if (writeSelector == null)
+    {
+      writeSelector = Selector.open();
+      channel.register(writeSelector, SelectionKey.OP_WRITE);
+    }
+
+    writeSelector.select(waitMillis);
+    writeSelector.selectedKeys().clear();
+  }
+
+
+
+  /**
+   * Closes the selector used by this output stream, if one has been created.
+   * The underlying channel will not be closed.
+   */
+  @Override()
+  public synchronized void close()
+  {
+    if (writeSelector != null)
+    {
+      try
+      {
+        writeSelector.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      writeSelector = null;
+    }
+  }
+}
@@ -5358,9 +5358,18 @@ public final class StaticUtils
   public static byte[] readFileBytes(@NotNull final File file)
          throws IOException
   {
-    final ByteStringBuffer buffer = new ByteStringBuffer((int) file.length());
-    buffer.readFrom(file);
-    return buffer.toByteArray();
+    final ByteStringBufferPool bufferPool =
+         ByteStringBufferPool.getDefaultInstance();
+    final ByteStringBuffer buffer = bufferPool.acquire((int) file.length());
+    try
+    {
+      buffer.readFrom(file);
+      return buffer.toByteArray();
+    }
+    finally
+    {
+      bufferPool.release(buffer);
+    }
   }
 
 
@@ -5406,22 +5415,31 @@ public final class StaticUtils
                                         final boolean includeFinalLineBreak)
          throws IOException
   {
-    final ByteStringBuffer buffer = new ByteStringBuffer((int) file.length());
-    buffer.readFrom(file);
-
-    if (! includeFinalLineBreak)
+    final ByteStringBufferPool bufferPool =
+         ByteStringBufferPool.getDefaultInstance();
+    final ByteStringBuffer buffer = bufferPool.acquire((int) file.length());
+    try
     {
-      if (buffer.endsWith(EOL_BYTES_CR_LF))
-      {
-        buffer.setLength(buffer.length() - EOL_BYTES_CR_LF.length);
-      }
-      else if (buffer.endsWith(EOL_BYTES_LF))
+      buffer.readFrom(file);
+
+      if (! includeFinalLineBreak)
       {
-        buffer.setLength(buffer.length() - EOL_BYTES_LF.length);
+        if (buffer.endsWith(EOL_BYTES_CR_LF))
+        {
+          buffer.setLength(buffer.length() - EOL_BYTES_CR_LF.length);
+        }
+        else if (buffer.endsWith(EOL_BYTES_LF))
+        {
+          buffer.setLength(buffer.length() - EOL_BYTES_LF.length);
+        }
       }
-    }
 
-    return buffer.toString();
+      return buffer.toString();
+    }
+    finally
+    {
+      bufferPool.release(buffer);
+    }
   }
 
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.lang.reflect.Method;
+
+
+
+/**
+ * This class provides a mechanism for running code in a virtual thread when
+ * the JVM supports it (Java 21 and later, or earlier versions with preview
+ * features enabled).  Because the LDAP SDK must still be usable on older JVMs,
+ * virtual thread support is accessed through reflection, and callers should be
+ * prepared to fall back to using a platform thread if virtual threads are not
+ * available.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class VirtualThreadSupport
+{
+  /**
+   * The {@code Thread.ofVirtual} method, or {@code null} if virtual threads
+   * are not supported.
+   */
+  @Nullable private static final Method OF_VIRTUAL_METHOD;
+
+
+
+  /**
+   * The {@code Thread.Builder.name(String)} method, or {@code null} if virtual
+   * threads are not supported.
+   */
+  @Nullable private static final Method BUILDER_NAME_METHOD;
+
+
+
+  /**
+   * The {@code Thread.Builder.start(Runnable)} method, or {@code null} if
+   * virtual threads are not supported.
+   */
+  @Nullable private static final Method BUILDER_START_METHOD;
+
+
+
+  static
+  {
+    Method ofVirtualMethod = null;
+    Method builderNameMethod = null;
+    Method builderStartMethod = null;
+
+    try
+    {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      builderNameMethod = builderClass.getMethod("name", String.class);
+      builderStartMethod = builderClass.getMethod("start", Runnable.class);
+
+      // On JVMs in which virtual threads are a preview feature, this will
+      // throw an exception if preview features are not enabled.
+      ofVirtualMethod.invoke(null);
+    }
+    catch (final Throwable t)
+    {
+      // This is fine.  It just means that the JVM doesn't support virtual
+      // threads.
+      Debug.debugException(t);
+      ofVirtualMethod = null;
+      builderNameMethod = null;
+      builderStartMethod = null;
+    }
+
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    BUILDER_NAME_METHOD = builderNameMethod;
+    BUILDER_START_METHOD = builderStartMethod;
+  }
+
+
+
+  /**
+   * Prevents this utility class from being instantiated.
+   */
+  private VirtualThreadSupport()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Indicates whether the JVM supports virtual threads.
+   *
+   * @return  {@code true} if the JVM supports virtual threads, or
+   *          {@code false} if not.
+   */
+  public static boolean isSupported()
+  {
+    return (OF_VIRTUAL_METHOD != null);
+  }
+
+
+
+  /**
+   * Attempts to create and start a virtual thread with the provided name that
+   * will invoke the {@code run} method of the given {@code Runnable} object.
+   * Note that if the provided object is itself a {@code Thread}, then that
+   * thread will not be started, and methods like {@code Thread.isAlive} and
+   * {@code Thread.join} invoked on it will not reflect the state of the
+   * virtual thread that is actually running it.
+   *
+   * @param  name      The name to use for the virtual thread.  It must not be
+   *                   {@code null}.
+   * @param  runnable  The {@code Runnable} object to be invoked in the virtual
+   *                   thread.  It must not be {@code null}.
+   *
+   * @return  The virtual thread that was started, or {@code null} if the JVM
+   *          does not support virtual threads or if a problem prevented the
+   *          virtual thread from being started.
+   */
+  @Nullable()
+  public static Thread startVirtualThread(@NotNull final String name,
+                                          @NotNull final Runnable runnable)
+  {
+    if (OF_VIRTUAL_METHOD == null)
+    {
+      return null;
+    }
+
+    try
+    {
+      final Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      BUILDER_NAME_METHOD.invoke(builder, name);
+      return (Thread) BUILDER_START_METHOD.invoke(builder, runnable);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      return null;
+    }
+  }
+}
@@ -39,7 +39,10 @@ package com.unboundid.asn1;
 
 import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -48,6 +51,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.ByteStringBuffer;
 
 
 
@@ -1026,4 +1030,122 @@ public class ASN1BufferTestCase
     assertEquals(b.length(), elementBytes.length);
     assertTrue(Arrays.equals(b.toByteArray(), elementBytes));
   }
+
+
+
+  /**
+   * Tests the behavior when writing to an ASN.1 buffer that wraps a
+   * caller-provided byte string buffer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testProvidedByteStringBuffer()
+         throws Exception
+  {
+    final ByteStringBuffer byteStringBuffer = new ByteStringBuffer(10);
+    final ASN1Buffer b = new ASN1Buffer(byteStringBuffer);
+    assertEquals(b.length(), 0);
+
+    final ASN1BufferSequence sequence = b.beginSequence();
+    b.addOctetString(new byte[2000]);
+    sequence.end();
+
+    final byte[] elementBytes =
+         new ASN1Sequence(new ASN1OctetString(new byte[2000])).encode();
+    assertEquals(b.toByteArray(), elementBytes);
+    assertEquals(byteStringBuffer.toByteArray(), elementBytes);
+
+    // Clearing the buffer must not shrink the provided buffer, since the
+    // caller is responsible for managing its size.
+    final int capacity = byteStringBuffer.capacity();
+    b.setZeroBufferOnClear();
+    b.clear();
+    assertEquals(b.length(), 0);
+    assertEquals(byteStringBuffer.length(), 0);
+    assertEquals(byteStringBuffer.capacity(), capacity);
+    assertEquals(byteStringBuffer.getBackingArray()[10], (byte) 0x00);
+  }
+
+
+
+  /**
+   * Tests the ability to write the contents of an ASN.1 buffer to heap and
+   * direct byte buffers and to a channel.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteToByteBufferAndChannel()
+         throws Exception
+  {
+    final ASN1Buffer asn1Buffer = new ASN1Buffer();
+    asn1Buffer.addOctetString(new byte[5000]);
+    final byte[] encoded = asn1Buffer.toByteArray();
+
+    final ByteBuffer[] buffers =
+    {
+      ByteBuffer.allocate(encoded.length + 2),
+      ByteBuffer.allocateDirect(encoded.length + 2)
+    };
+
+    for (final ByteBuffer buffer : buffers)
+    {
+      buffer.put((byte) 0x01);
+      asn1Buffer.writeTo(buffer);
+      assertEquals(buffer.position(), encoded.length + 1);
+      assertEquals(buffer.limit(), encoded.length + 2);
+
+      try
+      {
+        asn1Buffer.writeTo(buffer);
+        fail("Expected a buffer overflow exception");
+      }
+      catch (final BufferOverflowException e)
+      {
+        // This was expected.
+      }
+
+      assertEquals(buffer.position(), encoded.length + 1);
+
+      buffer.flip();
+      assertEquals(buffer.get(), (byte) 0x01);
+
+      final byte[] written = new byte[encoded.length];
+      buffer.get(written);
+      assertEquals(written, encoded);
+    }
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    asn1Buffer.writeTo(Channels.newChannel(outputStream));
+    assertEquals(outputStream.toByteArray(), encoded);
+  }
+
+
+
+  /**
+   * Tests to ensure that an attempt to write the contents of a buffer to a
+   * channel in non-blocking mode is rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IllegalArgumentException.class })
+  public void testWriteToNonBlockingChannel()
+         throws Exception
+  {
+    final ASN1Buffer asn1Buffer = new ASN1Buffer();
+    asn1Buffer.addOctetString("foo");
+
+    final Pipe pipe = Pipe.open();
+    try
+    {
+      pipe.sink().configureBlocking(false);
+      asn1Buffer.writeTo(pipe.sink());
+    }
+    finally
+    {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
 }
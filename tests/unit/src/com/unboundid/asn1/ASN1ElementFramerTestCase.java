@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.ByteStringBuffer;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code ASN1ElementFramer}
+ * class.
+ */
+public final class ASN1ElementFramerTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Provides test coverage for the method used to determine the length of a
+   * BER element.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetElementLength()
+         throws Exception
+  {
+    final byte[] b = { 0x30, 0x03, 0x02, 0x01, 0x01 };
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(b, 0, 0), Integer.MAX_VALUE), -1);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(b, 0, 4), Integer.MAX_VALUE), -1);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(b, 0, 5), Integer.MAX_VALUE), 5);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(b, 2, 3), Integer.MAX_VALUE), 3);
+
+    final byte[] multiByteLength = { 0x30, (byte) 0x82, 0x01, 0x00 };
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(multiByteLength, 0, 3), Integer.MAX_VALUE), -1);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(multiByteLength, 0, 4), Integer.MAX_VALUE), -1);
+    final byte[] completeMultiByteLength = new byte[260];
+    System.arraycopy(multiByteLength, 0, completeMultiByteLength, 0, 4);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(completeMultiByteLength, 0, 259), Integer.MAX_VALUE),
+         -1);
+    assertEquals(ASN1ElementFramer.getElementLength(
+         ByteBuffer.wrap(completeMultiByteLength), Integer.MAX_VALUE), 260);
+
+    try
+    {
+      ASN1ElementFramer.getElementLength(
+           ByteBuffer.wrap(new byte[] { 0x30, (byte) 0x80 }),
+           Integer.MAX_VALUE);
+      fail("Expected an exception for an indefinite length");
+    }
+    catch (final ASN1Exception ae)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      ASN1ElementFramer.getElementLength(
+           ByteBuffer.wrap(new byte[] { 0x30, (byte) 0x84, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF }),
+           Integer.MAX_VALUE);
+      fail("Expected an exception for an overly large length");
+    }
+    catch (final ASN1Exception ae)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      ASN1ElementFramer.getElementLength(
+           ByteBuffer.wrap(completeMultiByteLength), 255);
+      fail("Expected an exception for a length exceeding the maximum");
+    }
+    catch (final ASN1Exception ae)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when framing elements that span multiple reads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFraming()
+         throws Exception
+  {
+    final ByteStringBuffer encoded = new ByteStringBuffer();
+    new ASN1OctetString("first").encodeTo(encoded);
+    new ASN1Integer(12345).encodeTo(encoded);
+    new ASN1OctetString(new byte[1000]).encodeTo(encoded);
+    final byte[] data = encoded.toByteArray();
+
+    final ASN1ElementFramer framer = new ASN1ElementFramer(0);
+    assertEquals(framer.getBufferedLength(), 0);
+    assertFalse(framer.getBufferedData().hasRemaining());
+
+    // The first read will hold the first element and the start of the second.
+    final ByteBuffer firstRead = ByteBuffer.wrap(data, 0, 9);
+    ByteBuffer element = framer.nextElement(firstRead);
+    assertNotNull(element);
+    assertEquals(ASN1Element.decode(toArray(element)),
+         new ASN1OctetString("first"));
+    assertNull(framer.nextElement(firstRead));
+    assertEquals(firstRead.remaining(), 2);
+    framer.append(firstRead);
+    assertFalse(firstRead.hasRemaining());
+    assertEquals(framer.getBufferedLength(), 2);
+
+    // The second read will complete the second element and start the third.
+    framer.append(ByteBuffer.wrap(data, 9, 100));
+    ByteBuffer buffered = framer.getBufferedData();
+    element = framer.nextElement(buffered);
+    assertNotNull(element);
+    assertEquals(ASN1Element.decode(toArray(element)).decodeAsInteger().
+         intValue(), 12345);
+    assertNull(framer.nextElement(buffered));
+    framer.compact(buffered.position());
+    assertEquals(framer.getBufferedLength(), 98);
+
+    // The last read will complete the third element.
+    framer.append(ByteBuffer.wrap(data, 109, data.length - 109));
+    buffered = framer.getBufferedData();
+    element = framer.nextElement(buffered);
+    assertNotNull(element);
+    assertEquals(ASN1Element.decode(toArray(element)),
+         new ASN1OctetString(new byte[1000]));
+    assertFalse(buffered.hasRemaining());
+    framer.compact(buffered.position());
+    assertEquals(framer.getBufferedLength(), 0);
+
+    framer.append(ByteBuffer.wrap(data, 0, 3));
+    assertEquals(framer.getBufferedLength(), 3);
+    framer.clear();
+    assertEquals(framer.getBufferedLength(), 0);
+  }
+
+
+
+  /**
+   * Tests to ensure that the framer enforces its maximum element size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { ASN1Exception.class })
+  public void testMaxElementSize()
+         throws Exception
+  {
+    final ASN1ElementFramer framer = new ASN1ElementFramer(10);
+    framer.nextElement(ByteBuffer.wrap(
+         new ASN1OctetString(new byte[11]).encode()));
+  }
+
+
+
+  /**
+   * Retrieves the remaining contents of the provided buffer as a byte array.
+   *
+   * @param  buffer  The buffer whose contents should be retrieved.
+   *
+   * @return  The remaining contents of the provided buffer.
+   */
+  private static byte[] toArray(final ByteBuffer buffer)
+  {
+    final byte[] b = new byte[buffer.remaining()];
+    buffer.duplicate().get(b);
+    return b;
+  }
+}
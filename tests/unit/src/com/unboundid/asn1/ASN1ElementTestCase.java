@@ -41,6 +41,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.GregorianCalendar;
 
@@ -882,4 +883,91 @@ public class ASN1ElementTestCase
     assertTrue(new ASN1Set(new ASN1OctetString("foo"),
          new ASN1OctetString("bar")).isConstructed());
   }
+
+
+
+  /**
+   * Tests the ability to decode elements from heap and direct byte buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDecodeByteBuffer()
+         throws Exception
+  {
+    final ASN1Element small = new ASN1OctetString("foo");
+    final ASN1Element large = new ASN1Element((byte) 0x04, new byte[70000]);
+
+    final ByteStringBuffer encoded = new ByteStringBuffer();
+    small.encodeTo(encoded);
+    large.encodeTo(encoded);
+    encoded.append((byte) 0x05);
+
+    final ByteBuffer heapBuffer = ByteBuffer.wrap(encoded.toByteArray());
+    final ByteBuffer directBuffer =
+         ByteBuffer.allocateDirect(encoded.length());
+    directBuffer.put(encoded.toByteArray());
+    directBuffer.flip();
+
+    for (final ByteBuffer buffer :
+         new ByteBuffer[] { heapBuffer, directBuffer })
+    {
+      assertEquals(ASN1Element.decode(buffer), small);
+      assertEquals(buffer.position(), small.encode().length);
+
+      assertEquals(ASN1Element.decode(buffer), large);
+      assertEquals(buffer.remaining(), 1);
+
+      try
+      {
+        ASN1Element.decode(buffer);
+        fail("Expected an exception when decoding an incomplete element");
+      }
+      catch (final ASN1Exception e)
+      {
+        // This was expected.
+      }
+
+      assertEquals(buffer.remaining(), 1);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to decode malformed elements from a byte
+   * buffer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDecodeByteBufferMalformed()
+         throws Exception
+  {
+    final byte[][] malformedElements =
+    {
+      new byte[] { 0x04, 0x05, 0x61 },
+      new byte[] { 0x04, (byte) 0x80 },
+      new byte[] { 0x04, (byte) 0x85, 0x00, 0x00, 0x00, 0x00, 0x01, 0x61 },
+      new byte[] { 0x04, (byte) 0x84, (byte) 0x80, 0x00, 0x00, 0x00 },
+      new byte[] { 0x04, (byte) 0x82, 0x00 }
+    };
+
+    for (final byte[] b : malformedElements)
+    {
+      final ByteBuffer buffer = ByteBuffer.wrap(b);
+      try
+      {
+        ASN1Element.decode(buffer);
+        fail("Expected an exception when decoding malformed element " +
+             StaticUtils.toHex(b));
+      }
+      catch (final ASN1Exception e)
+      {
+        // This was expected.
+      }
+
+      assertEquals(buffer.position(), 0);
+    }
+  }
 }
@@ -43,6 +43,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -1600,4 +1601,67 @@ public class ASN1StreamReaderTestCase
 
     reader.readUTCTime();
   }
+
+
+
+  /**
+   * Tests the ability to read elements from heap and direct byte buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadFromByteBuffer()
+         throws Exception
+  {
+    final ASN1Buffer asn1Buffer = new ASN1Buffer();
+    final ASN1BufferSequence sequence = asn1Buffer.beginSequence();
+    asn1Buffer.addInteger(1234);
+    asn1Buffer.addOctetString("foo");
+    sequence.end();
+    asn1Buffer.addBoolean(true);
+    final byte[] encoded = asn1Buffer.toByteArray();
+
+    final ByteBuffer heapBuffer = ByteBuffer.wrap(encoded);
+    final ByteBuffer directBuffer = ByteBuffer.allocateDirect(encoded.length);
+    directBuffer.put(encoded);
+    directBuffer.flip();
+
+    for (final ByteBuffer buffer :
+         new ByteBuffer[] { heapBuffer, directBuffer })
+    {
+      final ASN1StreamReader reader = new ASN1StreamReader(buffer);
+
+      final ASN1StreamReaderSequence s = reader.beginSequence();
+      assertTrue(s.hasMoreElements());
+      assertEquals(reader.readInteger().intValue(), 1234);
+      assertEquals(reader.readString(), "foo");
+      assertFalse(s.hasMoreElements());
+
+      assertTrue(reader.readBoolean());
+      assertEquals(buffer.remaining(), 0);
+      assertNull(reader.readElement());
+      assertEquals(reader.getTotalBytesRead(), encoded.length);
+
+      reader.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when reading from a byte buffer with a maximum element
+   * size that is smaller than the element to read.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IOException.class })
+  public void testReadFromByteBufferExceedsMaxElementSize()
+         throws Exception
+  {
+    final ByteBuffer buffer =
+         ByteBuffer.wrap(new ASN1OctetString(new byte[100]).encode());
+
+    final ASN1StreamReader reader = new ASN1StreamReader(buffer, 10);
+    reader.readElement();
+  }
 }
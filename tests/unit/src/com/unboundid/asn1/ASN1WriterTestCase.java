@@ -40,6 +40,8 @@ package com.unboundid.asn1;
 import java.io.ByteArrayOutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
 import java.util.Arrays;
 
 import org.testng.annotations.Test;
@@ -195,4 +197,47 @@ public class ASN1WriterTestCase
       // This is expected
     }
   }
+
+
+
+  /**
+   * Tests the ability to write an element to a channel.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteElementToChannel()
+         throws Exception
+  {
+    final ASN1Element element = new ASN1Element((byte) 0x04, new byte[70000]);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ASN1Writer.writeElement(element, Channels.newChannel(outputStream));
+    assertTrue(Arrays.equals(outputStream.toByteArray(), element.encode()));
+  }
+
+
+
+  /**
+   * Tests to ensure that an attempt to write an element to a channel in
+   * non-blocking mode is rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IllegalArgumentException.class })
+  public void testWriteElementToNonBlockingChannel()
+         throws Exception
+  {
+    final Pipe pipe = Pipe.open();
+    try
+    {
+      pipe.sink().configureBlocking(false);
+      ASN1Writer.writeElement(new ASN1OctetString("foo"), pipe.sink());
+    }
+    finally
+    {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases that cover the ability of the
+ * in-memory directory server to process operations concurrently.
+ */
+public final class InMemoryDirectoryServerConcurrencyTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that read operations can be processed concurrently.  A
+   * processing delay is used so that each search takes a known minimum length
+   * of time, and the searches should complete in much less time than it would
+   * take to process them one at a time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentReads()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.startListening();
+    ds.setProcessingDelayMillis(1000L);
+
+    final int numThreads = 5;
+    final List<LDAPConnection> conns = new ArrayList<>(numThreads);
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    try
+    {
+      for (int i=0; i < numThreads; i++)
+      {
+        final LDAPConnection conn = ds.getConnection();
+        conns.add(conn);
+        threads.add(new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              conn.search("dc=example,dc=com", SearchScope.SUB,
+                   "(objectClass=*)");
+              conn.compare("dc=example,dc=com", "dc", "example");
+            }
+            catch (final Throwable t)
+            {
+              failure.compareAndSet(null, t);
+            }
+          }
+        });
+      }
+
+      final long startTime = System.currentTimeMillis();
+      for (final Thread t : threads)
+      {
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+      final long elapsedTime = System.currentTimeMillis() - startTime;
+
+      assertNull(failure.get());
+      assertTrue(elapsedTime < (numThreads * 2_000L),
+           "Concurrent reads took " + elapsedTime + "ms");
+    }
+    finally
+    {
+      for (final LDAPConnection conn : conns)
+      {
+        conn.close();
+      }
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the server remains consistent when a mix of read and
+   * write operations are processed concurrently.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentReadsAndWrites()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.startListening();
+
+    final int numThreads = 8;
+    final int entriesPerThread = 50;
+    final List<LDAPConnection> conns = new ArrayList<>(numThreads);
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    try
+    {
+      for (int i=0; i < numThreads; i++)
+      {
+        final LDAPConnection conn = ds.getConnection();
+        conns.add(conn);
+
+        final String ou = "thread" + i;
+        final String ouDN = "ou=" + ou + ",dc=example,dc=com";
+        threads.add(new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              conn.add(generateOrgUnitEntry(ou, "dc=example,dc=com"));
+              for (int j=0; j < entriesPerThread; j++)
+              {
+                conn.add(generateUserEntry("user." + j, ouDN, "User", "Test",
+                     "password"));
+                conn.modify(
+                     "dn: uid=user." + j + ',' + ouDN,
+                     "changetype: modify",
+                     "replace: description",
+                     "description: " + j);
+                assertEquals(conn.search(ouDN, SearchScope.ONE,
+                     "(objectClass=*)").getEntryCount(), (j + 1));
+              }
+
+              for (int j=0; j < entriesPerThread; j += 2)
+              {
+                conn.delete("uid=user." + j + ',' + ouDN);
+              }
+            }
+            catch (final Throwable t)
+            {
+              failure.compareAndSet(null, t);
+            }
+          }
+        });
+      }
+
+      for (final Thread t : threads)
+      {
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertNull(failure.get());
+      assertEquals(ds.countEntries(),
+           1 + (numThreads * (1 + (entriesPerThread / 2))));
+    }
+    finally
+    {
+      for (final LDAPConnection conn : conns)
+      {
+        conn.close();
+      }
+      ds.shutDown(true);
+    }
+  }
+}
@@ -1011,6 +1011,69 @@ public final class InMemoryDirectoryServerConfigTestCase
 
 
 
+  /**
+   * Tests the behavior of the methods for configuring incremental snapshots.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUseIncrementalSnapshots()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertFalse(cfg.useIncrementalSnapshots());
+    assertTrue(cfg.toString().contains("useIncrementalSnapshots=false"));
+
+    cfg.setUseIncrementalSnapshots(true);
+    assertTrue(cfg.useIncrementalSnapshots());
+    assertTrue(cfg.toString().contains("useIncrementalSnapshots=true"));
+    assertTrue(
+         new InMemoryDirectoryServerConfig(cfg).useIncrementalSnapshots());
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+    ds.clear();
+    ds.restoreSnapshot(snapshot);
+    assertEquals(ds.countEntries(), 1);
+
+    cfg.setUseIncrementalSnapshots(false);
+    assertFalse(cfg.useIncrementalSnapshots());
+  }
+
+
+
+  /**
+   * Tests the behavior of the methods for configuring a persistence directory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistenceDirectory()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertNull(cfg.getPersistenceDirectory());
+    assertFalse(cfg.toString().contains("persistenceDirectory="));
+
+    final File persistenceDirectory = createTempDir();
+    cfg.setPersistenceDirectory(persistenceDirectory);
+    assertEquals(cfg.getPersistenceDirectory(), persistenceDirectory);
+    assertTrue(cfg.toString().contains("persistenceDirectory="));
+    assertEquals(
+         new InMemoryDirectoryServerConfig(cfg).getPersistenceDirectory(),
+         persistenceDirectory);
+
+    cfg.setPersistenceDirectory(null);
+    assertNull(cfg.getPersistenceDirectory());
+  }
+
+
+
   /**
    * Tests the behavior of the methods for limiting the number of connections
    * that may be established.
@@ -1093,6 +1156,151 @@ public final class InMemoryDirectoryServerConfigTestCase
 
 
 
+  /**
+   * Tests the behavior of the methods for interacting with the ordering index
+   * attributes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOrderingIndexAttributes()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertNotNull(cfg.getOrderingIndexAttributes());
+    assertTrue(cfg.getOrderingIndexAttributes().isEmpty());
+
+    assertNotNull(cfg.toString());
+
+    cfg.setOrderingIndexAttributes("createTimestamp");
+    assertEquals(cfg.getOrderingIndexAttributes().size(), 1);
+    assertTrue(cfg.getOrderingIndexAttributes().contains("createTimestamp"));
+    assertTrue(cfg.toString().contains(
+         "orderingIndexAttributes={'createTimestamp'}"));
+
+    cfg.setOrderingIndexAttributes((String[]) null);
+    assertNotNull(cfg.getOrderingIndexAttributes());
+    assertTrue(cfg.getOrderingIndexAttributes().isEmpty());
+
+    cfg.setOrderingIndexAttributes(
+         Arrays.asList("createTimestamp", "employeeNumber"));
+    assertEquals(cfg.getOrderingIndexAttributes().size(), 2);
+    assertTrue(cfg.getOrderingIndexAttributes().contains("createTimestamp"));
+    assertTrue(cfg.getOrderingIndexAttributes().contains("employeeNumber"));
+
+    final InMemoryDirectoryServerConfig copy =
+         new InMemoryDirectoryServerConfig(cfg);
+    assertEquals(copy.getOrderingIndexAttributes(),
+         cfg.getOrderingIndexAttributes());
+
+    cfg.setOrderingIndexAttributes();
+    assertNotNull(cfg.getOrderingIndexAttributes());
+    assertTrue(cfg.getOrderingIndexAttributes().isEmpty());
+    assertEquals(copy.getOrderingIndexAttributes().size(), 2);
+
+    assertNotNull(cfg.toString());
+  }
+
+
+
+  /**
+   * Tests the behavior of the methods for interacting with the substring index
+   * attributes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSubstringIndexAttributes()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertNotNull(cfg.getSubstringIndexAttributes());
+    assertTrue(cfg.getSubstringIndexAttributes().isEmpty());
+
+    assertNotNull(cfg.toString());
+
+    cfg.setSubstringIndexAttributes("cn");
+    assertEquals(cfg.getSubstringIndexAttributes().size(), 1);
+    assertTrue(cfg.getSubstringIndexAttributes().contains("cn"));
+    assertTrue(cfg.toString().contains("substringIndexAttributes={'cn'}"));
+
+    cfg.setSubstringIndexAttributes((String[]) null);
+    assertNotNull(cfg.getSubstringIndexAttributes());
+    assertTrue(cfg.getSubstringIndexAttributes().isEmpty());
+
+    cfg.setSubstringIndexAttributes(Arrays.asList("cn", "mail"));
+    assertEquals(cfg.getSubstringIndexAttributes().size(), 2);
+    assertTrue(cfg.getSubstringIndexAttributes().contains("cn"));
+    assertTrue(cfg.getSubstringIndexAttributes().contains("mail"));
+
+    final InMemoryDirectoryServerConfig copy =
+         new InMemoryDirectoryServerConfig(cfg);
+    assertEquals(copy.getSubstringIndexAttributes(),
+         cfg.getSubstringIndexAttributes());
+
+    cfg.setSubstringIndexAttributes();
+    assertNotNull(cfg.getSubstringIndexAttributes());
+    assertTrue(cfg.getSubstringIndexAttributes().isEmpty());
+    assertEquals(copy.getSubstringIndexAttributes().size(), 2);
+
+    assertNotNull(cfg.toString());
+  }
+
+
+
+  /**
+   * Tests the behavior of the methods for interacting with the presence index
+   * attributes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPresenceIndexAttributes()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertNotNull(cfg.getPresenceIndexAttributes());
+    assertTrue(cfg.getPresenceIndexAttributes().isEmpty());
+
+    assertNotNull(cfg.toString());
+
+    cfg.setPresenceIndexAttributes("description");
+    assertEquals(cfg.getPresenceIndexAttributes().size(), 1);
+    assertTrue(cfg.getPresenceIndexAttributes().contains("description"));
+    assertTrue(cfg.toString().contains(
+         "presenceIndexAttributes={'description'}"));
+
+    cfg.setPresenceIndexAttributes((String[]) null);
+    assertNotNull(cfg.getPresenceIndexAttributes());
+    assertTrue(cfg.getPresenceIndexAttributes().isEmpty());
+
+    cfg.setPresenceIndexAttributes(
+         Arrays.asList("description", "telephoneNumber"));
+    assertEquals(cfg.getPresenceIndexAttributes().size(), 2);
+    assertTrue(cfg.getPresenceIndexAttributes().contains("description"));
+    assertTrue(cfg.getPresenceIndexAttributes().contains("telephoneNumber"));
+
+    final InMemoryDirectoryServerConfig copy =
+         new InMemoryDirectoryServerConfig(cfg);
+    assertEquals(copy.getPresenceIndexAttributes(),
+         cfg.getPresenceIndexAttributes());
+
+    cfg.setPresenceIndexAttributes();
+    assertNotNull(cfg.getPresenceIndexAttributes());
+    assertTrue(cfg.getPresenceIndexAttributes().isEmpty());
+    assertEquals(copy.getPresenceIndexAttributes().size(), 2);
+
+    assertNotNull(cfg.toString());
+  }
+
+
+
   /**
    * Tests the behavior of the methods for interacting with the referential
    * integrity attributes.
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.DeleteRequest;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.controls.SubtreeDeleteRequestControl;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerHierarchyIndex class.
+ */
+public final class InMemoryDirectoryServerHierarchyIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the index for a simple hierarchy in which every
+   * entry other than the top entry has a parent in the index.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSimpleHierarchy()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+    final DN groups = new DN("ou=Groups,dc=example,dc=com");
+    final DN user1 = new DN("uid=user.1,ou=People,dc=example,dc=com");
+    final DN user2 = new DN("uid=user.2,ou=People,dc=example,dc=com");
+
+    index.add(user2);
+    index.add(people);
+    index.add(base);
+    index.add(groups);
+    index.add(user1);
+    index.add(user1);
+
+    assertTrue(index.contains(base));
+    assertTrue(index.contains(user1));
+    assertFalse(index.contains(new DN("dc=com")));
+    assertFalse(index.contains(DN.NULL_DN));
+
+    assertEquals(index.getChildDNs(base).size(), 2);
+    assertTrue(index.getChildDNs(base).contains(people));
+    assertTrue(index.getChildDNs(base).contains(groups));
+    assertEquals(index.getChildDNs(people).size(), 2);
+    assertTrue(index.getChildDNs(groups).isEmpty());
+    assertTrue(index.getChildDNs(user1).isEmpty());
+
+    assertEquals(index.getSubordinateDNs(base, false),
+         Arrays.asList(groups, people, user1, user2));
+    assertEquals(index.getSubordinateDNs(base, true),
+         Arrays.asList(base, groups, people, user1, user2));
+    assertEquals(index.getSubordinateDNs(people, true),
+         Arrays.asList(people, user1, user2));
+    assertEquals(index.getSubordinateDNs(new DN("dc=com"), false),
+         Arrays.asList(base, groups, people, user1, user2));
+    assertEquals(index.getSubordinateDNs(DN.NULL_DN, true),
+         Arrays.asList(base, groups, people, user1, user2));
+    assertTrue(index.getSubordinateDNs(user1, false).isEmpty());
+    assertTrue(
+         index.getSubordinateDNs(new DN("dc=example,dc=org"), true).isEmpty());
+
+    index.remove(user1);
+    assertFalse(index.contains(user1));
+    assertEquals(index.getSubordinateDNs(people, false),
+         Collections.singletonList(user2));
+
+    // Removing an entry that still has subordinates should leave the
+    // subordinates reachable from its ancestors.
+    index.remove(people);
+    assertFalse(index.contains(people));
+    assertEquals(index.getChildDNs(people), Collections.singleton(user2));
+    assertEquals(index.getSubordinateDNs(base, false),
+         Arrays.asList(groups, user2));
+
+    index.add(people);
+    assertEquals(index.getSubordinateDNs(base, false),
+         Arrays.asList(groups, people, user2));
+
+    index.remove(new DN("uid=nonexistent,dc=example,dc=com"));
+    index.remove(DN.NULL_DN);
+
+    index.clear();
+    assertFalse(index.contains(base));
+    assertTrue(index.getSubordinateDNs(DN.NULL_DN, true).isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior of the index for entries whose parent entries are not
+   * present in the index.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMissingParents()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final DN com = new DN("dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+    final DN user = new DN("uid=test.user,ou=People,dc=example,dc=com");
+    final DN other = new DN("o=other");
+
+    index.add(com);
+    index.add(people);
+    index.add(user);
+    index.add(other);
+
+    assertEquals(index.getChildDNs(DN.NULL_DN).size(), 2);
+    assertTrue(index.getChildDNs(com).isEmpty());
+
+    assertEquals(index.getSubordinateDNs(com, true),
+         Arrays.asList(com, people, user));
+    assertEquals(index.getSubordinateDNs(new DN("dc=example,dc=com"), false),
+         Arrays.asList(people, user));
+
+    final List<DN> allDNs = index.getSubordinateDNs(DN.NULL_DN, false);
+    assertEquals(allDNs.size(), 4);
+    assertTrue(allDNs.indexOf(com) < allDNs.indexOf(people));
+    assertTrue(allDNs.indexOf(people) < allDNs.indexOf(user));
+
+    // Adding the missing parent should link the subtree beneath it.
+    final DN example = new DN("dc=example,dc=com");
+    index.add(example);
+    assertEquals(index.getChildDNs(com), Collections.singleton(example));
+    assertEquals(index.getSubordinateDNs(com, false),
+         Arrays.asList(example, people, user));
+
+    index.remove(example);
+    assertEquals(index.getSubordinateDNs(com, false),
+         Arrays.asList(people, user));
+
+    index.remove(user);
+    index.remove(people);
+    assertTrue(index.getSubordinateDNs(com, false).isEmpty());
+    assertEquals(index.getSubordinateDNs(DN.NULL_DN, false),
+         Arrays.asList(com, other));
+  }
+
+
+
+  /**
+   * Tests scoped search, subtree delete, and modify DN processing in an
+   * in-memory directory server with multiple base DNs, including one that is
+   * subordinate to another.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testServerOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=com",
+              "ou=Tenants,dc=example,dc=com");
+    config.setSchema(null);
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.startListening();
+
+    try
+    {
+      ds.add(
+           "dn: dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: com");
+      ds.add(
+           "dn: ou=Tenants,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: Tenants");
+      for (int t=0; t < 5; t++)
+      {
+        final String tenantDN =
+             "ou=tenant" + t + ",ou=Tenants,dc=example,dc=com";
+        ds.add(
+             "dn: " + tenantDN,
+             "objectClass: top",
+             "objectClass: organizationalUnit",
+             "ou: tenant" + t);
+        for (int u=0; u < 10; u++)
+        {
+          ds.add(
+               "dn: uid=user." + u + ',' + tenantDN,
+               "objectClass: top",
+               "objectClass: person",
+               "uid: user." + u,
+               "cn: User " + u,
+               "sn: " + u);
+        }
+      }
+
+      assertEquals(ds.countEntries(), 57);
+      assertEquals(ds.countEntriesBelow("dc=com"), 57);
+      assertEquals(ds.countEntriesBelow("dc=example,dc=com"), 56);
+      assertEquals(
+           ds.countEntriesBelow("ou=tenant3,ou=Tenants,dc=example,dc=com"),
+           11);
+      assertEquals(ds.countEntriesBelow(""), 57);
+
+      // One-level searches.
+      SearchResult result = ds.search("ou=Tenants,dc=example,dc=com",
+           SearchScope.ONE, "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 5);
+      assertEquals(result.getSearchEntries().get(0).getParsedDN(),
+           new DN("ou=tenant0,ou=Tenants,dc=example,dc=com"));
+
+      result = ds.search("dc=com", SearchScope.ONE, "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 0);
+
+      result = ds.search("ou=tenant2,ou=Tenants,dc=example,dc=com",
+           SearchScope.ONE, "(uid=user.4)");
+      assertEquals(result.getEntryCount(), 1);
+
+      // Subtree and subordinate subtree searches.
+      result = ds.search("dc=com", SearchScope.SUB, "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 57);
+      final List<SearchResultEntry> entries = result.getSearchEntries();
+      for (int i=1; i < entries.size(); i++)
+      {
+        assertTrue(entries.get(i-1).getParsedDN().compareTo(
+             entries.get(i).getParsedDN()) < 0);
+      }
+
+      result = ds.search("ou=tenant1,ou=Tenants,dc=example,dc=com",
+           SearchScope.SUB, "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 11);
+
+      result = ds.search("ou=tenant1,ou=Tenants,dc=example,dc=com",
+           SearchScope.SUBORDINATE_SUBTREE, "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 10);
+
+      result = ds.search("", SearchScope.SUB, "(uid=user.0)");
+      assertEquals(result.getEntryCount(), 5);
+
+      // Rename a tenant and make sure that its subordinates are moved with it.
+      ds.modifyDN("ou=tenant0,ou=Tenants,dc=example,dc=com", "ou=renamed",
+           true);
+      assertEquals(
+           ds.countEntriesBelow("ou=renamed,ou=Tenants,dc=example,dc=com"),
+           11);
+      assertEquals(
+           ds.countEntriesBelow("ou=tenant0,ou=Tenants,dc=example,dc=com"),
+           0);
+      assertEntryExists(ds,
+           "uid=user.9,ou=renamed,ou=Tenants,dc=example,dc=com");
+      result = ds.search("ou=Tenants,dc=example,dc=com", SearchScope.ONE,
+           "(ou=renamed)");
+      assertEquals(result.getEntryCount(), 1);
+
+      // Use a subtree delete to remove a tenant.
+      ds.delete(new DeleteRequest("ou=tenant1,ou=Tenants,dc=example,dc=com",
+           new Control[] { new SubtreeDeleteRequestControl() }));
+      assertEquals(ds.countEntries(), 46);
+      assertEquals(
+           ds.countEntriesBelow("ou=tenant1,ou=Tenants,dc=example,dc=com"),
+           0);
+
+      // Use the deleteSubtree method to remove another tenant.
+      assertEquals(ds.deleteSubtree("ou=tenant2,ou=Tenants,dc=example,dc=com"),
+           11);
+      assertEquals(ds.countEntries(), 35);
+      result = ds.search("ou=Tenants,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=*)");
+      assertEquals(result.getEntryCount(), 3);
+
+      // Removing everything below dc=com should also remove the base entry
+      // that is subordinate to it even though there is a missing entry in
+      // between.
+      assertEquals(ds.deleteSubtree("dc=com"), 35);
+      assertEquals(ds.countEntries(), 0);
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+}
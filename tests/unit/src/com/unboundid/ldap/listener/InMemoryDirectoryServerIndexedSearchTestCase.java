@@ -0,0 +1,350 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases that ensure that searches processed
+ * with the assistance of ordering, substring, and presence indexes return the
+ * same results as searches processed without any indexes.
+ */
+public final class InMemoryDirectoryServerIndexedSearchTestCase
+       extends LDAPSDKTestCase
+{
+  // An in-memory directory server instance without any indexes.
+  private InMemoryDirectoryServer unindexedDS;
+
+  // An in-memory directory server instance with a variety of indexes.
+  private InMemoryDirectoryServer indexedDS;
+
+
+
+  /**
+   * Creates the directory server instances and populates them with data.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig unindexedConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    unindexedDS = new InMemoryDirectoryServer(unindexedConfig);
+
+    final InMemoryDirectoryServerConfig indexedConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    indexedConfig.setEqualityIndexAttributes("uid");
+    indexedConfig.setOrderingIndexAttributes("changeNumber", "sn");
+    indexedConfig.setSubstringIndexAttributes("cn", "mail");
+    indexedConfig.setPresenceIndexAttributes("description", "mail");
+    indexedDS = new InMemoryDirectoryServer(indexedConfig);
+
+    final String[] lastNames =
+    {
+      "Adams", "Brown", "Carter", "Doe", "Evans", "Fox", "Green"
+    };
+
+    final Entry[] entries = new Entry[102];
+    entries[0] = new Entry(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    entries[1] = new Entry(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+    for (int i=0; i < 100; i++)
+    {
+      final String sn = lastNames[i % lastNames.length];
+      final Entry e = new Entry(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "objectClass: extensibleObject",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + sn,
+           "cn: User " + i + ' ' + sn,
+           "changeNumber: " + i);
+      if ((i % 3) == 0)
+      {
+        e.addAttribute("mail", "user." + i + "@example.com");
+      }
+      if ((i % 5) == 0)
+      {
+        e.addAttribute("description", "Entry number " + i);
+      }
+
+      entries[i+2] = e;
+    }
+
+    unindexedDS.addEntries(entries);
+    indexedDS.addEntries(entries);
+  }
+
+
+
+  /**
+   * Shuts down the directory server instances.
+   */
+  @AfterClass()
+  public void cleanUp()
+  {
+    if (unindexedDS != null)
+    {
+      unindexedDS.shutDown(true);
+    }
+
+    if (indexedDS != null)
+    {
+      indexedDS.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a set of filters to use for testing.
+   *
+   * @return  A set of filters to use for testing.
+   */
+  @DataProvider(name = "testFilters")
+  public Object[][] getTestFilters()
+  {
+    return new Object[][]
+    {
+      new Object[] { "(changeNumber>=90)" },
+      new Object[] { "(changeNumber<=9)" },
+      new Object[] { "(changeNumber>=1000)" },
+      new Object[] { "(sn>=e)" },
+      new Object[] { "(sn<=carter)" },
+      new Object[] { "(cn=user 1*)" },
+      new Object[] { "(cn=*Doe)" },
+      new Object[] { "(cn=*er 4*n)" },
+      new Object[] { "(cn=u*2*s)" },
+      new Object[] { "(cn=*nonexistent*)" },
+      new Object[] { "(mail=*@example.com)" },
+      new Object[] { "(description=*)" },
+      new Object[] { "(mail=*)" },
+      new Object[] { "(&(changeNumber>=20)(changeNumber<=40))" },
+      new Object[] { "(&(description=*)(mail=*))" },
+      new Object[] { "(&(changeNumber>=50)(cn=*Green)(description=*))" },
+      new Object[] { "(&(changeNumber>=50)(changeNumber<=10))" },
+      new Object[] { "(&(changeNumber>=50)(givenName=User))" },
+      new Object[] { "(|(changeNumber<=5)(changeNumber>=95))" },
+      new Object[] { "(|(description=*)(mail=*))" },
+      new Object[] { "(|(uid=user.42)(cn=*Adams))" },
+      new Object[] { "(|(changeNumber<=5)(givenName=User))" },
+      new Object[] { "(!(changeNumber>=50))" },
+      new Object[] { "(|(&(changeNumber>=10)(changeNumber<=19))(sn<=b))" },
+    };
+  }
+
+
+
+  /**
+   * Ensures that the indexed server returns the same set of entries as the
+   * unindexed server for the provided filter.
+   *
+   * @param  filter  The filter to use for the search.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider = "testFilters")
+  public void testSearchResultsMatch(final String filter)
+         throws Exception
+  {
+    final Set<DN> unindexedDNs = getDNs(unindexedDS.search("dc=example,dc=com",
+         SearchScope.SUB, filter).getSearchEntries());
+    final Set<DN> indexedDNs = getDNs(indexedDS.search("dc=example,dc=com",
+         SearchScope.SUB, filter).getSearchEntries());
+    assertEquals(indexedDNs, unindexedDNs);
+  }
+
+
+
+  /**
+   * Ensures that indexes are properly maintained when entries are modified,
+   * renamed, and deleted.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIndexMaintenance()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setOrderingIndexAttributes("changeNumber");
+    config.setSubstringIndexAttributes("cn");
+    config.setPresenceIndexAttributes("description");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    ds.add(
+         "dn: uid=test.user,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "objectClass: organizationalPerson",
+         "objectClass: inetOrgPerson",
+         "objectClass: extensibleObject",
+         "uid: test.user",
+         "givenName: Test",
+         "sn: User",
+         "cn: Test User",
+         "changeNumber: 10");
+
+    assertEntriesReturned(ds, "(changeNumber>=10)", 1);
+    assertEntriesReturned(ds, "(cn=*st us*)", 1);
+    assertEntriesReturned(ds, "(description=*)", 0);
+
+    ds.modify(
+         "dn: uid=test.user,dc=example,dc=com",
+         "changetype: modify",
+         "replace: changeNumber",
+         "changeNumber: 5",
+         "-",
+         "replace: cn",
+         "cn: Renamed Person",
+         "-",
+         "add: description",
+         "description: foo");
+
+    assertEntriesReturned(ds, "(changeNumber>=10)", 0);
+    assertEntriesReturned(ds, "(changeNumber<=5)", 1);
+    assertEntriesReturned(ds, "(cn=*st us*)", 0);
+    assertEntriesReturned(ds, "(cn=*med per*)", 1);
+    assertEntriesReturned(ds, "(description=*)", 1);
+
+    final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+
+    ds.modifyDN("uid=test.user,dc=example,dc=com", "uid=renamed.user", true);
+    assertEntriesReturned(ds, "(changeNumber<=5)", 1);
+    assertNotNull(ds.getEntry("uid=renamed.user,dc=example,dc=com"));
+
+    ds.delete("uid=renamed.user,dc=example,dc=com");
+    assertEntriesReturned(ds, "(changeNumber<=5)", 0);
+    assertEntriesReturned(ds, "(cn=*med per*)", 0);
+    assertEntriesReturned(ds, "(description=*)", 0);
+
+    ds.restoreSnapshot(snapshot);
+    assertEntriesReturned(ds, "(changeNumber<=5)", 1);
+    assertEntriesReturned(ds, "(cn=*med per*)", 1);
+    assertEntriesReturned(ds, "(description=*)", 1);
+
+    ds.clear();
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    assertEntriesReturned(ds, "(changeNumber<=5)", 0);
+    assertEntriesReturned(ds, "(cn=*med per*)", 0);
+    assertEntriesReturned(ds, "(description=*)", 0);
+  }
+
+
+
+  /**
+   * Ensures that a subtree search with the provided filter returns the
+   * expected number of entries.
+   *
+   * @param  ds        The directory server instance to search.
+   * @param  filter    The filter to use for the search.
+   * @param  expected  The expected number of matching entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertEntriesReturned(
+                           final InMemoryDirectoryServer ds,
+                           final String filter, final int expected)
+          throws Exception
+  {
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              filter).getEntryCount(),
+         expected);
+  }
+
+
+
+  /**
+   * Retrieves the set of DNs for the provided list of entries.
+   *
+   * @param  entries  The entries for which to obtain the DNs.
+   *
+   * @return  The set of DNs for the provided list of entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static Set<DN> getDNs(final List<? extends Entry> entries)
+          throws Exception
+  {
+    final Set<DN> dns = new HashSet<>(entries.size());
+    for (final Entry e : entries)
+    {
+      dns.add(e.getParsedDN());
+    }
+
+    return dns;
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerOrderingAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerOrderingAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerOrderingAttributeIndex("uid", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerOrderingAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests the behavior of an ordering index for an attribute with integer
+   * syntax, for which values must be ordered numerically rather than
+   * lexicographically.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIntegerOrdering()
+         throws Exception
+  {
+    final InMemoryDirectoryServerOrderingAttributeIndex index =
+         new InMemoryDirectoryServerOrderingAttributeIndex("changeNumber",
+              Schema.getDefaultStandardSchema());
+
+    final ArrayList<Entry> entryList = new ArrayList<>(20);
+    for (int i=1; i <= 20; i++)
+    {
+      entryList.add(new Entry(
+           "dn: uid=user." + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: extensibleObject",
+           "uid: user." + i,
+           "cn: User " + i,
+           "changeNumber: " + i));
+    }
+
+    entryList.add(new Entry(
+         "dn: ou=No UID Number,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: No UID Number"));
+
+    for (final Entry e : entryList)
+    {
+      index.processAdd(e);
+    }
+    assertEquals(index.getNumValues(), 20);
+
+    Set<DN> dns =
+         index.getEntriesGreaterThanOrEqualTo(new ASN1OctetString("15"));
+    assertEquals(dns.size(), 6);
+    for (int i=15; i <= 20; i++)
+    {
+      assertTrue(dns.contains(new DN("uid=user." + i + ",dc=example,dc=com")));
+    }
+
+    dns = index.getEntriesLessThanOrEqualTo(new ASN1OctetString("9"));
+    assertEquals(dns.size(), 9);
+    for (int i=1; i <= 9; i++)
+    {
+      assertTrue(dns.contains(new DN("uid=user." + i + ",dc=example,dc=com")));
+    }
+
+    assertEquals(
+         index.getEntriesGreaterThanOrEqualTo(
+              new ASN1OctetString("20")).size(),
+         1);
+    assertTrue(index.getEntriesGreaterThanOrEqualTo(
+         new ASN1OctetString("21")).isEmpty());
+    assertTrue(index.getEntriesLessThanOrEqualTo(
+         new ASN1OctetString("0")).isEmpty());
+
+    try
+    {
+      index.getEntriesGreaterThanOrEqualTo(
+           new ASN1OctetString("not a number"));
+      fail("Expected an exception for a malformed assertion value");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    for (final Entry e : entryList)
+    {
+      index.processDelete(e);
+    }
+    assertEquals(index.getNumValues(), 0);
+    assertTrue(index.getEntriesLessThanOrEqualTo(
+         new ASN1OctetString("20")).isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior of an ordering index for entries with multiple values
+   * for the indexed attribute, including values that are shared by multiple
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMultipleValues()
+         throws Exception
+  {
+    final InMemoryDirectoryServerOrderingAttributeIndex index =
+         new InMemoryDirectoryServerOrderingAttributeIndex("description",
+              Schema.getDefaultStandardSchema());
+
+    final Entry e1 = new Entry(
+         "dn: ou=1,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: 1",
+         "description: apple",
+         "description: Mango");
+    final Entry e2 = new Entry(
+         "dn: ou=2,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: 2",
+         "description: APPLE",
+         "description: zucchini");
+
+    index.processAdd(e1);
+    index.processAdd(e2);
+    assertEquals(index.getNumValues(), 3);
+
+    assertEquals(
+         index.getEntriesLessThanOrEqualTo(new ASN1OctetString("b")).size(),
+         2);
+    assertEquals(
+         index.getEntriesGreaterThanOrEqualTo(new ASN1OctetString("n")),
+         Collections.singleton(new DN("ou=2,dc=example,dc=com")));
+    assertEquals(
+         index.getEntriesGreaterThanOrEqualTo(new ASN1OctetString("m")).size(),
+         2);
+
+    index.processDelete(e2);
+    assertEquals(index.getNumValues(), 2);
+    assertTrue(index.getEntriesGreaterThanOrEqualTo(
+         new ASN1OctetString("n")).isEmpty());
+    assertEquals(
+         index.getEntriesLessThanOrEqualTo(new ASN1OctetString("b")),
+         Collections.singleton(new DN("ou=1,dc=example,dc=com")));
+
+    index.clear();
+    assertEquals(index.getNumValues(), 0);
+  }
+}
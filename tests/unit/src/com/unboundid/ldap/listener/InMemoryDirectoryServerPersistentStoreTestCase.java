@@ -0,0 +1,512 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for the in-memory directory server
+ * persistent store.
+ */
+public final class InMemoryDirectoryServerPersistentStoreTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the ability to persist changes made through a variety of operations
+   * and reload them in a new server instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistAndReload()
+         throws Exception
+  {
+    final File persistenceDirectory =
+         new File(createTempDir(), "persistence");
+    final File snapshotFile = new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.SNAPSHOT_FILE_NAME);
+    final File logFile = new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+    assertFalse(InMemoryDirectoryServerPersistentStore.containsPersistedData(
+         persistenceDirectory));
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setMaxChangeLogEntries(100);
+    config.setEqualityIndexAttributes("uid");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    assertTrue(persistenceDirectory.isDirectory());
+    assertTrue(snapshotFile.exists());
+    assertTrue(InMemoryDirectoryServerPersistentStore.containsPersistedData(
+         persistenceDirectory));
+    assertEquals(ds.countEntries(), 0);
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=0; i < 10; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password"));
+    }
+
+    ds.delete("uid=user.0,ou=People,dc=example,dc=com");
+    ds.modify(
+         "dn: uid=user.1,ou=People,dc=example,dc=com",
+         "changetype: modify",
+         "replace: description",
+         "description: modified");
+    ds.modifyDN("uid=user.2,ou=People,dc=example,dc=com", "uid=renamed",
+         true);
+    assertTrue(logFile.length() > 0L);
+
+    final Entry modifiedEntry =
+         ds.getEntry("uid=user.1,ou=People,dc=example,dc=com");
+    final int numEntries = ds.countEntries(true);
+    final long lastChangeNumber = ds.getEntry(
+         "changeNumber=15,cn=changelog").getAttributeValueAsLong(
+              "changeNumber");
+
+
+    // Create a new server instance with the same configuration and make sure
+    // that it has the same content.
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(true), numEntries);
+    assertEquals(ds.countEntries(), 11);
+    ds.assertEntryExists("dc=example,dc=com");
+    ds.assertEntryMissing("uid=user.0,ou=People,dc=example,dc=com");
+    ds.assertEntryMissing("uid=user.2,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=renamed,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("changeNumber=1,cn=changelog");
+    assertEquals(ds.getEntry("uid=user.1,ou=People,dc=example,dc=com"),
+         modifiedEntry);
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              "(uid=user.5)").getEntryCount(),
+         1);
+    assertEquals(
+         ds.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+              "(objectClass=*)").getEntryCount(),
+         9);
+
+    // Make sure that the changelog picks up where it left off.
+    ds.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+    ds.assertEntryExists("changeNumber=" + (lastChangeNumber + 1L) +
+         ",cn=changelog");
+
+
+    // Clear the server and make sure that a new instance is also empty.
+    ds.clear();
+    assertEquals(logFile.length(), 0L);
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 0);
+    ds.assertEntryExists("cn=changelog");
+  }
+
+
+
+  /**
+   * Tests the behavior when importing data from LDIF, which should cause a
+   * snapshot to be written rather than recording each entry in the log.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testImportFromLDIF()
+         throws Exception
+  {
+    final File persistenceDirectory = createTempDir();
+    final File logFile = new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    final File ldifFile = createTempFile(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example",
+         "",
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.importFromLDIF(true, ldifFile), 2);
+    assertEquals(logFile.length(), 0L);
+
+    // A failed import should leave the persisted data unchanged.
+    final File malformedLDIFFile = createTempFile(
+         "dn: ou=Groups,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: Groups",
+         "",
+         "dn: ou=missing parent,ou=undefined,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: missing parent");
+
+    try
+    {
+      ds.importFromLDIF(false, malformedLDIFFile);
+      fail("Expected an exception when importing an entry without a parent");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 2);
+    ds.assertEntryExists("ou=People,dc=example,dc=com");
+    ds.assertEntryMissing("ou=Groups,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Tests the behavior when the log ends with an incomplete record, as would
+   * happen if the server were terminated while writing it.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIncompleteLogRecord()
+         throws Exception
+  {
+    final File persistenceDirectory = createTempDir();
+    final File logFile = new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+
+    final long validLength = logFile.length();
+    assertTrue(validLength > 0L);
+
+    try (FileOutputStream outputStream = new FileOutputStream(logFile, true))
+    {
+      outputStream.write(new byte[] { (byte) 0xA0, 0x7F, 0x04, 0x10, 'o' });
+    }
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 2);
+    ds.assertEntryExists("ou=People,dc=example,dc=com");
+    assertEquals(logFile.length(), validLength);
+
+    // Make sure that changes made after recovering are also persisted.
+    ds.delete("ou=People,dc=example,dc=com");
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 1);
+    ds.assertEntryMissing("ou=People,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Tests to ensure that a new snapshot is written and the log is truncated
+   * once the log grows large enough.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompaction()
+         throws Exception
+  {
+    final File persistenceDirectory = createTempDir();
+    final File logFile = new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+
+    final StringBuilder description = new StringBuilder(10_000);
+    for (int i=0; i < 10_000; i++)
+    {
+      description.append('x');
+    }
+
+    long maxLogLength = 0L;
+    for (int i=0; i < 200; i++)
+    {
+      ds.modify(
+           "dn: dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: " + i + description);
+      maxLogLength = Math.max(maxLogLength, logFile.length());
+    }
+
+    assertTrue(maxLogLength > 0L);
+    assertTrue(maxLogLength <= (1024L * 1024L) + 20_000L);
+    assertTrue(logFile.length() < maxLogLength);
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 1);
+    ds.assertValueExists("dc=example,dc=com", "description",
+         "199" + description);
+  }
+
+
+
+  /**
+   * Tests the behavior when the configured persistence directory exists but
+   * is not a directory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistenceDirectoryIsFile()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(createTempFile());
+
+    try
+    {
+      new InMemoryDirectoryServer(config);
+      fail("Expected an exception with a persistence directory that is a " +
+           "file");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.LOCAL_ERROR);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that persisted entries outside of the configured base DNs
+   * are ignored.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEntriesOutsideBaseDNs()
+         throws Exception
+  {
+    final File persistenceDirectory = createTempDir();
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com", "o=test");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add("dn: o=test",
+         "objectClass: top",
+         "objectClass: organization",
+         "o: test");
+
+    config.setBaseDNs("dc=example,dc=com");
+    config.setMaxChangeLogEntries(10);
+
+    ds = new InMemoryDirectoryServer(config);
+    assertEquals(ds.countEntries(), 1);
+    assertTrue(ds.entryExists("dc=example,dc=com"));
+    ds.assertEntryExists("cn=changelog");
+    assertEquals(ds.getBaseDNs().size(), 2);
+    assertFalse(ds.getBaseDNs().contains(new DN("o=test")));
+  }
+
+
+
+  /**
+   * Tests to ensure that a failure to persist changes is surfaced, and that
+   * changes are rejected until the problem has been resolved.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistenceFailure()
+         throws Exception
+  {
+    final File persistenceDirectory =
+         new File(createTempDir(), "persistence");
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    assertNull(ds.getPersistenceFailureMessage());
+
+    final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+
+    // Replace the persistence directory with a file so that a new snapshot
+    // cannot be written, and then restore the snapshot, which requires one.
+    for (final File f : persistenceDirectory.listFiles())
+    {
+      assertTrue(f.delete());
+    }
+    assertTrue(persistenceDirectory.delete());
+    assertTrue(persistenceDirectory.createNewFile());
+
+    ds.restoreSnapshot(snapshot);
+    assertNotNull(ds.getPersistenceFailureMessage());
+
+    try
+    {
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      fail("Expected an exception when changes cannot be persisted");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.UNAVAILABLE);
+    }
+    ds.assertEntryMissing("ou=People,dc=example,dc=com");
+
+    // Restore the persistence directory and make sure that changes are
+    // accepted again.
+    assertTrue(persistenceDirectory.delete());
+    assertTrue(persistenceDirectory.mkdir());
+    assertNull(ds.getPersistenceFailureMessage());
+    assertTrue(new File(persistenceDirectory,
+         InMemoryDirectoryServerPersistentStore.SNAPSHOT_FILE_NAME).exists());
+
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    ds.assertEntryExists("ou=People,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Tests to ensure that a write operation whose changes cannot be persisted is
+   * reverted and rejected rather than acknowledged.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOperationRevertedWhenNotPersisted()
+         throws Exception
+  {
+    final File persistenceDirectory =
+         new File(createTempDir(), "persistence");
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setPersistenceDirectory(persistenceDirectory);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    assertNull(ds.getPersistenceFailureMessage());
+
+    // Replace the persistence directory with a file so that a new snapshot
+    // cannot be written.  No failure will be detected until the server needs
+    // to write a snapshot, which it will do when the log grows large enough.
+    for (final File f : persistenceDirectory.listFiles())
+    {
+      assertTrue(f.delete());
+    }
+    assertTrue(persistenceDirectory.delete());
+    assertTrue(persistenceDirectory.createNewFile());
+    assertNull(ds.getPersistenceFailureMessage());
+
+    final StringBuilder description = new StringBuilder();
+    for (int i=0; i < 2_000_000; i++)
+    {
+      description.append((char) ('a' + (i % 26)));
+    }
+
+    try
+    {
+      ds.add(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People",
+           "description: " + description);
+      fail("Expected an exception when changes cannot be persisted");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.UNAVAILABLE);
+    }
+
+    ds.assertEntryMissing("ou=People,dc=example,dc=com");
+    assertEquals(ds.countEntries(), 1);
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(ou=People)").getEntryCount(), 0);
+
+    // Restore the persistence directory and make sure that changes are
+    // accepted again, and that the persisted data does not include the change
+    // that was reverted.
+    assertTrue(persistenceDirectory.delete());
+    assertTrue(persistenceDirectory.mkdir());
+    assertNull(ds.getPersistenceFailureMessage());
+
+    ds.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+
+    final InMemoryDirectoryServer reloadedDS =
+         new InMemoryDirectoryServer(config);
+    assertEquals(reloadedDS.countEntries(), 2);
+    reloadedDS.assertEntryExists("ou=Groups,dc=example,dc=com");
+    reloadedDS.assertEntryMissing("ou=People,dc=example,dc=com");
+  }
+}
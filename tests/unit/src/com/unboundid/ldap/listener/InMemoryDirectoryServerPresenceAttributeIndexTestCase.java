@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerPresenceAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerPresenceAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerPresenceAttributeIndex("description", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerPresenceAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests the process of adding entries to and removing entries from the
+   * index.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAddAndDelete()
+         throws Exception
+  {
+    final InMemoryDirectoryServerPresenceAttributeIndex index =
+         new InMemoryDirectoryServerPresenceAttributeIndex("description",
+              Schema.getDefaultStandardSchema());
+    assertTrue(index.getMatchingEntries().isEmpty());
+
+    final Entry withDescription = new Entry(
+         "dn: ou=With,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: With",
+         "description: first",
+         "description: second");
+    final Entry withoutDescription = new Entry(
+         "dn: ou=Without,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: Without");
+
+    index.processAdd(withDescription);
+    index.processAdd(withoutDescription);
+    assertEquals(index.getMatchingEntries().size(), 1);
+    assertTrue(index.getMatchingEntries().contains(
+         new DN("ou=With,dc=example,dc=com")));
+
+    index.processDelete(withoutDescription);
+    assertEquals(index.getMatchingEntries().size(), 1);
+
+    index.processDelete(withDescription);
+    assertTrue(index.getMatchingEntries().isEmpty());
+
+    index.processAdd(withDescription);
+    assertEquals(index.getMatchingEntries().size(), 1);
+    index.clear();
+    assertTrue(index.getMatchingEntries().isEmpty());
+  }
+}
@@ -37,11 +37,25 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.util.CloseableReadWriteLock;
 
 
 
@@ -52,18 +66,42 @@ import com.unboundid.ldap.sdk.LDAPSDKTestCase;
 public final class InMemoryDirectoryServerSnapshotTestCase
        extends LDAPSDKTestCase
 {
+  /**
+   * Retrieves the values to use for the useIncrementalSnapshots configuration
+   * property.
+   *
+   * @return  The values to use for the useIncrementalSnapshots configuration
+   *          property.
+   */
+  @DataProvider(name = "useIncrementalSnapshots")
+  public Object[][] getUseIncrementalSnapshotsValues()
+  {
+    return new Object[][]
+    {
+      new Object[] { false },
+      new Object[] { true }
+    };
+  }
+
+
+
   /**
    * Provides test coverage for snapshot-related functionality in a server
    * without a changelog configured.
    *
+   * @param  useIncrementalSnapshots  Indicates whether the server should use
+   *                                  incremental snapshots.
+   *
    * @throws  Exception  If an unexpected problem occurs.
    */
-  @Test()
-  public void testSnapshotWithoutChangelog()
+  @Test(dataProvider = "useIncrementalSnapshots")
+  public void testSnapshotWithoutChangelog(
+                   final boolean useIncrementalSnapshots)
          throws Exception
   {
     final InMemoryDirectoryServerConfig config =
          new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setUseIncrementalSnapshots(useIncrementalSnapshots);
     final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
 
     ds.startListening();
@@ -204,15 +242,19 @@ public final class InMemoryDirectoryServerSnapshotTestCase
    * Provides test coverage for snapshot-related functionality in a server with
    * a changelog configured.
    *
+   * @param  useIncrementalSnapshots  Indicates whether the server should use
+   *                                  incremental snapshots.
+   *
    * @throws  Exception  If an unexpected problem occurs.
    */
-  @Test()
-  public void testSnapshotWithChangelog()
+  @Test(dataProvider = "useIncrementalSnapshots")
+  public void testSnapshotWithChangelog(final boolean useIncrementalSnapshots)
          throws Exception
   {
     final InMemoryDirectoryServerConfig config =
          new InMemoryDirectoryServerConfig("dc=example,dc=com");
     config.setMaxChangeLogEntries(100);
+    config.setUseIncrementalSnapshots(useIncrementalSnapshots);
     final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
 
     ds.startListening();
@@ -346,4 +388,341 @@ public final class InMemoryDirectoryServerSnapshotTestCase
       ds.shutDown(true);
     }
   }
+
+
+
+  /**
+   * Tests the behavior of incremental snapshots when restoring snapshots in a
+   * variety of orders, and ensures that indexes are properly maintained.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIncrementalSnapshotRestoreOrder()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setUseIncrementalSnapshots(true);
+    config.setEqualityIndexAttributes("uid");
+    config.setSubstringIndexAttributes("cn");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=0; i < 100; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password"));
+    }
+
+    final InMemoryDirectoryServerSnapshot s1 = ds.createSnapshot();
+    assertNull(s1.getExistingEntryMap());
+
+    // A snapshot created without any intervening changes should share the
+    // same generation.
+    final InMemoryDirectoryServerSnapshot s1a = ds.createSnapshot();
+    assertSame(s1a.getGeneration(), s1.getGeneration());
+
+    ds.delete("uid=user.0,ou=People,dc=example,dc=com");
+    ds.modify(
+         "dn: uid=user.1,ou=People,dc=example,dc=com",
+         "changetype: modify",
+         "replace: description",
+         "description: modified");
+    ds.modifyDN("uid=user.2,ou=People,dc=example,dc=com", "uid=renamed",
+         true);
+    ds.add(generateUserEntry("new.user", "ou=People,dc=example,dc=com",
+         "New", "User", "password"));
+
+    final InMemoryDirectoryServerSnapshot s2 = ds.createSnapshot();
+    assertNotSame(s2.getGeneration(), s1.getGeneration());
+
+    ds.deleteSubtree("ou=People,dc=example,dc=com");
+    assertEquals(ds.countEntries(), 1);
+
+    final InMemoryDirectoryServerSnapshot s3 = ds.createSnapshot();
+
+    // Restore the most recent snapshot, which should leave the others intact.
+    ds.restoreSnapshot(s3);
+    assertEquals(ds.countEntries(), 1);
+
+    // Restore the second snapshot.
+    ds.restoreSnapshot(s2);
+    assertEquals(ds.countEntries(), 102);
+    ds.assertEntryMissing("uid=user.0,ou=People,dc=example,dc=com");
+    ds.assertValueExists("uid=user.1,ou=People,dc=example,dc=com",
+         "description", "modified");
+    ds.assertEntryMissing("uid=user.2,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=renamed,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=new.user,ou=People,dc=example,dc=com");
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              "(uid=user.50)").getEntryCount(),
+         1);
+
+    // The third snapshot can no longer be restored incrementally, so it should
+    // have been given a complete copy of its entries.
+    assertNotNull(s3.getExistingEntryMap());
+    assertEquals(s3.getEntryMap().size(), 1);
+
+    // Restore the first snapshot.
+    ds.restoreSnapshot(s1);
+    assertEquals(ds.countEntries(), 102);
+    ds.assertEntryExists("uid=user.0,ou=People,dc=example,dc=com");
+    ds.assertAttributeMissing("uid=user.1,ou=People,dc=example,dc=com",
+         "description");
+    ds.assertEntryExists("uid=user.2,ou=People,dc=example,dc=com");
+    ds.assertEntryMissing("uid=renamed,ou=People,dc=example,dc=com");
+    ds.assertEntryMissing("uid=new.user,ou=People,dc=example,dc=com");
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              "(uid=user.0)").getEntryCount(),
+         1);
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              "(uid=new.user)").getEntryCount(),
+         0);
+    assertEquals(
+         ds.search("dc=example,dc=com", SearchScope.SUB,
+              "(cn=*renamed*)").getEntryCount(),
+         0);
+    assertEquals(
+         ds.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+              "(objectClass=*)").getEntryCount(),
+         100);
+
+    // Restore the third snapshot, which will require a complete restore, and
+    // then restore the first snapshot again, which should still be possible
+    // incrementally.
+    ds.restoreSnapshot(s3);
+    assertEquals(ds.countEntries(), 1);
+    ds.restoreSnapshot(s1a);
+    assertEquals(ds.countEntries(), 102);
+    ds.assertEntryExists("uid=user.0,ou=People,dc=example,dc=com");
+    assertNull(s1.getExistingEntryMap());
+
+    // Make sure that clearing the server and restoring the first snapshot
+    // works as expected.
+    ds.clear();
+    assertEquals(ds.countEntries(), 0);
+    ds.restoreSnapshot(s1);
+    assertEquals(ds.countEntries(), 102);
+  }
+
+
+
+  /**
+   * Tests the ability to use incremental snapshots with servers other than the
+   * one that created them, and to serialize incremental snapshots.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIncrementalSnapshotsAcrossServers()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig incrementalConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    incrementalConfig.setUseIncrementalSnapshots(true);
+    final InMemoryDirectoryServer incrementalDS =
+         new InMemoryDirectoryServer(incrementalConfig);
+
+    final InMemoryDirectoryServer fullDS = new InMemoryDirectoryServer(
+         new InMemoryDirectoryServerConfig("dc=example,dc=com"));
+
+    incrementalDS.add(generateDomainEntry("example", "dc=com"));
+    incrementalDS.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    final InMemoryDirectoryServerSnapshot incrementalSnapshot =
+         incrementalDS.createSnapshot();
+
+    fullDS.add(generateDomainEntry("example", "dc=com"));
+    final InMemoryDirectoryServerSnapshot fullSnapshot =
+         fullDS.createSnapshot();
+
+    // Make a change to the incremental server after its snapshot was created.
+    incrementalDS.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+
+    // Restore the incremental snapshot into the other server.
+    fullDS.restoreSnapshot(incrementalSnapshot);
+    assertEquals(fullDS.countEntries(), 2);
+    fullDS.assertEntryExists("ou=People,dc=example,dc=com");
+    fullDS.assertEntryMissing("ou=Groups,dc=example,dc=com");
+
+    // Restore the full snapshot into the incremental server, and then restore
+    // the incremental snapshot into that same server.
+    incrementalDS.restoreSnapshot(fullSnapshot);
+    assertEquals(incrementalDS.countEntries(), 1);
+    incrementalDS.restoreSnapshot(incrementalSnapshot);
+    assertEquals(incrementalDS.countEntries(), 2);
+    incrementalDS.assertEntryExists("ou=People,dc=example,dc=com");
+    incrementalDS.assertEntryMissing("ou=Groups,dc=example,dc=com");
+
+    // Serialize and deserialize the incremental snapshot.
+    incrementalDS.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+
+    final ByteArrayOutputStream byteArrayOutputStream =
+         new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream =
+              new ObjectOutputStream(byteArrayOutputStream))
+    {
+      objectOutputStream.writeObject(incrementalSnapshot);
+    }
+
+    final InMemoryDirectoryServerSnapshot deserializedSnapshot;
+    try (ObjectInputStream objectInputStream = new ObjectInputStream(
+              new ByteArrayInputStream(byteArrayOutputStream.toByteArray())))
+    {
+      deserializedSnapshot =
+           (InMemoryDirectoryServerSnapshot) objectInputStream.readObject();
+    }
+
+    assertNull(deserializedSnapshot.getGeneration());
+    final Map<DN,ReadOnlyEntry> entryMap = deserializedSnapshot.getEntryMap();
+    assertEquals(entryMap.size(), 2);
+    assertTrue(entryMap.containsKey(new DN("ou=People,dc=example,dc=com")));
+
+    fullDS.clear();
+    fullDS.restoreSnapshot(deserializedSnapshot);
+    assertEquals(fullDS.countEntries(), 2);
+  }
+
+
+
+  /**
+   * Tests to ensure that the snapshot journal does not record changes when
+   * there are no snapshots in use, and that it discards the changes it has
+   * recorded once all snapshots have been released.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testJournalWithoutSnapshots()
+         throws Exception
+  {
+    final InMemoryDirectoryServerSnapshotJournal journal =
+         new InMemoryDirectoryServerSnapshotJournal(
+              new TreeMap<DN,ReadOnlyEntry>(), new CloseableReadWriteLock());
+
+    final DN dn = new DN("dc=example,dc=com");
+    final ReadOnlyEntry entry = new ReadOnlyEntry(
+         generateDomainEntry("example", "dc=com"));
+
+    for (int i=0; i < 10; i++)
+    {
+      journal.recordChange(new DN("ou=" + i + ",dc=example,dc=com"), null);
+    }
+    assertEquals(journal.getNumRecordedChanges(), 0);
+
+    InMemoryDirectoryServerSnapshot snapshot = journal.createSnapshot(0L, 0L);
+    journal.recordChange(dn, entry);
+    journal.recordChange(dn, null);
+    assertEquals(journal.getNumRecordedChanges(), 1);
+
+    InMemoryDirectoryServerSnapshot secondSnapshot =
+         journal.createSnapshot(0L, 0L);
+    journal.recordChange(new DN("ou=test,dc=example,dc=com"), null);
+    assertEquals(journal.getNumRecordedChanges(), 2);
+
+    // Release the first snapshot.  The second snapshot is still in use, so
+    // changes must still be recorded.
+    final WeakReference<InMemoryDirectoryServerSnapshot> firstRef =
+         new WeakReference<>(snapshot);
+    snapshot = null;
+    waitForGarbageCollection(firstRef);
+
+    journal.recordChange(new DN("ou=another,dc=example,dc=com"), null);
+    assertTrue(journal.getNumRecordedChanges() >= 2);
+    assertTrue(journal.canRestore(secondSnapshot));
+
+    // Release the second snapshot, after which the journal should discard
+    // everything it has recorded.
+    final WeakReference<InMemoryDirectoryServerSnapshot> secondRef =
+         new WeakReference<>(secondSnapshot);
+    secondSnapshot = null;
+    if (waitForGarbageCollection(secondRef))
+    {
+      journal.recordChange(dn, entry);
+      assertEquals(journal.getNumRecordedChanges(), 0);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a server configured to use incremental snapshots does
+   * not record any changes in its journal when no snapshots have been created,
+   * no matter how many changes are made.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHandlerJournalWithoutSnapshots()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setUseIncrementalSnapshots(true);
+    config.setMaxChangeLogEntries(100);
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+
+    final InMemoryDirectoryServerSnapshotJournal journal =
+         ds.getInMemoryRequestHandler().getSnapshotJournal();
+    assertNotNull(journal);
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    for (int i=0; i < 1000; i++)
+    {
+      final String dn = "ou=" + i + ",dc=example,dc=com";
+      ds.add(generateOrgUnitEntry(String.valueOf(i), "dc=example,dc=com"));
+      ds.modify(dn, new Modification(ModificationType.REPLACE, "description",
+           "foo"));
+      ds.delete(dn);
+    }
+
+    assertEquals(journal.getNumRecordedChanges(), 0);
+
+    // Make sure that the server can still be cleared back to its initial
+    // content, and that snapshots still work as expected.
+    ds.clear();
+    assertEquals(ds.countEntries(), 0);
+    assertEquals(journal.getNumRecordedChanges(), 0);
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    final InMemoryDirectoryServerSnapshot snapshot = ds.createSnapshot();
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    assertTrue(journal.getNumRecordedChanges() > 0);
+
+    ds.restoreSnapshot(snapshot);
+    assertEquals(ds.countEntries(), 1);
+    ds.assertEntryMissing("ou=People,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Waits for the object referenced by the provided weak reference to be
+   * garbage collected.
+   *
+   * @param  ref  The weak reference to examine.
+   *
+   * @return  {@code true} if the referenced object was garbage collected, or
+   *          {@code false} if it was still reachable after ten seconds.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static boolean waitForGarbageCollection(
+                              final WeakReference<?> ref)
+          throws Exception
+  {
+    final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+    while ((ref.get() != null) &&
+         (System.currentTimeMillis() < stopWaitingTime))
+    {
+      System.gc();
+      Thread.sleep(10L);
+    }
+
+    return (ref.get() == null);
+  }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerSubstringAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerSubstringAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerSubstringAttributeIndex("cn", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerSubstringAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests the process of adding entries to and removing entries from the
+   * index, and of retrieving candidate entries for substring assertions.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAddAndDelete()
+         throws Exception
+  {
+    final InMemoryDirectoryServerSubstringAttributeIndex index =
+         new InMemoryDirectoryServerSubstringAttributeIndex("cn",
+              Schema.getDefaultStandardSchema());
+
+    final DN jdoeDN = new DN("uid=jdoe,dc=example,dc=com");
+    final Entry jdoe = new Entry(
+         "dn: uid=jdoe,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "uid: jdoe",
+         "sn: Doe",
+         "cn: John Doe",
+         "cn: Johnny");
+
+    final DN asmithDN = new DN("uid=asmith,dc=example,dc=com");
+    final Entry asmith = new Entry(
+         "dn: uid=asmith,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "uid: asmith",
+         "sn: Smith",
+         "cn: Alice Smith");
+
+    final Entry noCN = new Entry(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    assertEquals(index.getNumKeys(), 0);
+
+    index.processAdd(jdoe);
+    index.processAdd(asmith);
+    index.processAdd(noCN);
+    assertTrue(index.getNumKeys() > 0);
+
+    // A component that matches one entry, with differing capitalization.
+    Set<DN> candidates = index.getCandidateEntries(new ASN1OctetString("JOHN"),
+         null, null);
+    assertNotNull(candidates);
+    assertEquals(candidates.size(), 1);
+    assertTrue(candidates.contains(jdoeDN));
+
+    // A subFinal component that matches the other entry.
+    candidates = index.getCandidateEntries(null, null,
+         new ASN1OctetString("smith"));
+    assertNotNull(candidates);
+    assertEquals(candidates.size(), 1);
+    assertTrue(candidates.contains(asmithDN));
+
+    // A subAny component that is present in both entries.
+    candidates = index.getCandidateEntries(null,
+         new ASN1OctetString[] { new ASN1OctetString("ith") }, null);
+    assertNotNull(candidates);
+    assertEquals(candidates.size(), 1);
+    assertTrue(candidates.contains(asmithDN));
+
+    candidates = index.getCandidateEntries(null,
+         new ASN1OctetString[] { new ASN1OctetString(" "),
+              new ASN1OctetString("oe") }, new ASN1OctetString("Doe"));
+    assertNotNull(candidates);
+    assertEquals(candidates.size(), 1);
+    assertTrue(candidates.contains(jdoeDN));
+
+    // A component that does not appear in any entry.
+    candidates = index.getCandidateEntries(new ASN1OctetString("xyz"), null,
+         null);
+    assertNotNull(candidates);
+    assertTrue(candidates.isEmpty());
+
+    // Components that are too short to be used with the index.
+    assertNull(index.getCandidateEntries(new ASN1OctetString("jo"),
+         new ASN1OctetString[] { new ASN1OctetString("d") }, null));
+
+    index.processDelete(jdoe);
+    candidates = index.getCandidateEntries(new ASN1OctetString("john"),
+         null, null);
+    assertNotNull(candidates);
+    assertTrue(candidates.isEmpty());
+
+    candidates = index.getCandidateEntries(new ASN1OctetString("alice"),
+         null, null);
+    assertNotNull(candidates);
+    assertEquals(candidates.size(), 1);
+
+    index.processDelete(asmith);
+    index.processDelete(noCN);
+    assertEquals(index.getNumKeys(), 0);
+
+    index.processAdd(jdoe);
+    assertTrue(index.getNumKeys() > 0);
+    index.clear();
+    assertEquals(index.getNumKeys(), 0);
+  }
+}
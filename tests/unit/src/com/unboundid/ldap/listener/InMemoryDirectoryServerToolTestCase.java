@@ -787,4 +787,63 @@ public final class InMemoryDirectoryServerToolTestCase
       System.setOut(originalSystemOut);
     }
   }
+
+
+
+  /**
+   * Tests the behavior of the tool when it is configured with a persistence
+   * directory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistenceDirectory()
+         throws Exception
+  {
+    final File persistenceDirectory =
+         new File(createTempDir(), "persistence");
+
+    final File ldifFile = createTempFile(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    InMemoryDirectoryServerTool tool =
+         new InMemoryDirectoryServerTool(null, null);
+    assertEquals(
+         tool.runTool(
+              "--baseDN", "dc=example,dc=com",
+              "--ldifFile", ldifFile.getAbsolutePath(),
+              "--persistenceDirectory", persistenceDirectory.getAbsolutePath(),
+              "--dontStart"),
+         ResultCode.SUCCESS);
+
+    InMemoryDirectoryServer ds = tool.getDirectoryServer();
+    assertNotNull(ds);
+    assertEquals(ds.countEntries(), 1);
+
+    ds.add(
+         "dn: ou=test,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: test");
+
+
+    // Run the tool again with the same arguments.  The LDIF file should be
+    // ignored because the persistence directory already holds data.
+    tool = new InMemoryDirectoryServerTool(null, null);
+    assertEquals(
+         tool.runTool(
+              "--baseDN", "dc=example,dc=com",
+              "--ldifFile", ldifFile.getAbsolutePath(),
+              "--persistenceDirectory", persistenceDirectory.getAbsolutePath(),
+              "--dontStart"),
+         ResultCode.SUCCESS);
+
+    ds = tool.getDirectoryServer();
+    assertNotNull(ds);
+    assertEquals(ds.countEntries(), 2);
+    ds.assertEntryExists("ou=test,dc=example,dc=com");
+  }
 }
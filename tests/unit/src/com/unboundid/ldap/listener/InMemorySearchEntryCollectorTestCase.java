@@ -0,0 +1,637 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchEntry;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.LDAPSearchException;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchResultListener;
+import com.unboundid.ldap.sdk.SearchResultReference;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.controls.ServerSideSortRequestControl;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+import com.unboundid.ldap.sdk.controls.SortKey;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemorySearchEntryCollector class and for searches that return entries to
+ * the client as they are found.
+ */
+public final class InMemorySearchEntryCollectorTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a collector that does not need to materialize
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCollectEntries()
+         throws Exception
+  {
+    final List<Entry> materializedEntries = new ArrayList<>(10);
+    final List<SearchResultEntry> entryList = new ArrayList<>(10);
+    final List<Control> responseControls = new ArrayList<>(1);
+
+    final InMemorySearchEntryCollector collector =
+         new InMemorySearchEntryCollector(1,
+              new SearchEntryParer(Collections.singletonList("cn"), null),
+              null, false, 2, 0L, false, materializedEntries, entryList,
+              responseControls);
+    assertNull(collector.getStopMessage());
+
+    assertTrue(collector.entryFound(generateUserEntry("user.1",
+         "ou=People,dc=example,dc=com", "User", "1", "password")));
+    assertTrue(collector.entryFound(generateUserEntry("user.2",
+         "ou=People,dc=example,dc=com", "User", "2", "password")));
+    assertNull(collector.getStopMessage());
+
+    assertTrue(materializedEntries.isEmpty());
+    assertEquals(entryList.size(), 2);
+    assertEquals(entryList.get(0).getDN(),
+         "uid=user.1,ou=People,dc=example,dc=com");
+    assertTrue(entryList.get(0).hasAttribute("cn"));
+    assertFalse(entryList.get(0).hasAttribute("sn"));
+    assertEquals(entryList.get(1).getDN(),
+         "uid=user.2,ou=People,dc=example,dc=com");
+
+    assertFalse(collector.entryFound(generateUserEntry("user.3",
+         "ou=People,dc=example,dc=com", "User", "3", "password")));
+    assertEquals(entryList.size(), 2);
+
+    final LDAPMessage stopMessage = collector.getStopMessage();
+    assertNotNull(stopMessage);
+    assertEquals(stopMessage.getMessageID(), 1);
+    assertEquals(stopMessage.getSearchResultDoneProtocolOp().getResultCode(),
+         ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE);
+  }
+
+
+
+  /**
+   * Tests the behavior of a collector that needs to materialize entries so
+   * that they can be sorted or paged.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaterializeEntries()
+         throws Exception
+  {
+    final List<Entry> materializedEntries = new ArrayList<>(10);
+    final List<SearchResultEntry> entryList = new ArrayList<>(10);
+    final List<Control> responseControls = new ArrayList<>(1);
+
+    final InMemorySearchEntryCollector collector =
+         new InMemorySearchEntryCollector(2,
+              new SearchEntryParer(Collections.<String>emptyList(), null),
+              null, true, 1, 0L, true, materializedEntries, entryList,
+              responseControls);
+
+    final Entry e1 = generateUserEntry("user.1", "ou=People,dc=example,dc=com",
+         "User", "1", "password");
+    final Entry e2 = generateUserEntry("user.2", "ou=People,dc=example,dc=com",
+         "User", "2", "password");
+    assertTrue(collector.entryFound(e1));
+    assertTrue(collector.entryFound(e2));
+    assertNull(collector.getStopMessage());
+
+    assertEquals(materializedEntries, Arrays.asList(e1, e2));
+    assertTrue(entryList.isEmpty());
+
+    assertTrue(collector.returnEntry(e2));
+    assertEquals(entryList.size(), 1);
+    assertEquals(entryList.get(0).getDN(), e2.getDN());
+    assertTrue(entryList.get(0).hasAttribute("cn"));
+    assertFalse(entryList.get(0).getAttribute("cn").hasValue());
+
+    assertFalse(collector.returnEntry(e1));
+    assertEquals(collector.getStopMessage().getSearchResultDoneProtocolOp().
+         getResultCode(), ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE);
+  }
+
+
+
+  /**
+   * Tests the behavior of a collector that only returns the entries in a
+   * single page of results without materializing them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPagedEntries()
+         throws Exception
+  {
+    final List<Entry> materializedEntries = new ArrayList<>(10);
+    final List<SearchResultEntry> entryList = new ArrayList<>(10);
+
+    final InMemorySearchEntryCollector collector =
+         new InMemorySearchEntryCollector(4,
+              new SearchEntryParer(Collections.<String>emptyList(), null),
+              null, false, Integer.MAX_VALUE, 0L, false, materializedEntries,
+              entryList, new ArrayList<Control>(1));
+    collector.setPage(2, 3);
+
+    for (int i=0; i < 10; i++)
+    {
+      assertTrue(collector.entryFound(generateUserEntry("user." + i,
+           "ou=People,dc=example,dc=com", "User", String.valueOf(i),
+           "password")));
+    }
+
+    assertNull(collector.getStopMessage());
+    assertEquals(collector.getMatchingEntryCount(), 10);
+    assertTrue(materializedEntries.isEmpty());
+    assertEquals(entryList.size(), 3);
+    assertEquals(entryList.get(0).getDN(),
+         "uid=user.2,ou=People,dc=example,dc=com");
+    assertEquals(entryList.get(2).getDN(),
+         "uid=user.4,ou=People,dc=example,dc=com");
+  }
+
+
+
+  /**
+   * Tests the behavior of a collector when the time limit has already expired.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testTimeLimitExceeded()
+         throws Exception
+  {
+    final InMemorySearchEntryCollector collector =
+         new InMemorySearchEntryCollector(3,
+              new SearchEntryParer(Collections.<String>emptyList(), null),
+              null, false, Integer.MAX_VALUE,
+              (System.currentTimeMillis() - 1L), false,
+              new ArrayList<Entry>(10), new ArrayList<SearchResultEntry>(10),
+              new ArrayList<Control>(1));
+
+    assertFalse(collector.entryFound(generateDomainEntry("example", "dc=com")));
+    assertEquals(collector.getStopMessage().getSearchResultDoneProtocolOp().
+         getResultCode(), ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE);
+  }
+
+
+
+  /**
+   * Tests the behavior of subtree searches in which entries are returned to
+   * the client as they are found.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStreamedSearches()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(200);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResult allEntriesResult = conn.search("dc=example,dc=com",
+           SearchScope.SUB, "(objectClass=*)");
+      assertEquals(allEntriesResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(allEntriesResult.getEntryCount(), 202);
+
+      final SearchResult usersResult = conn.search(
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=person)", "sn");
+      assertEquals(usersResult.getEntryCount(), 200);
+      for (final SearchResultEntry e : usersResult.getSearchEntries())
+      {
+        assertTrue(e.hasAttribute("sn"));
+        assertFalse(e.hasAttribute("cn"));
+      }
+
+      final SearchRequest typesOnlyRequest = new SearchRequest(
+           "ou=People,dc=example,dc=com", SearchScope.ONE, "(uid=user.1*)");
+      typesOnlyRequest.setTypesOnly(true);
+      final SearchResult typesOnlyResult = conn.search(typesOnlyRequest);
+      assertEquals(typesOnlyResult.getEntryCount(), 111);
+      for (final SearchResultEntry e : typesOnlyResult.getSearchEntries())
+      {
+        assertTrue(e.hasAttribute("uid"));
+        assertFalse(e.getAttribute("uid").hasValue());
+      }
+
+      try
+      {
+        final SearchRequest sizeLimitRequest = new SearchRequest(
+             "dc=example,dc=com", SearchScope.SUB, "(objectClass=person)");
+        sizeLimitRequest.setSizeLimit(10);
+        conn.search(sizeLimitRequest);
+        fail("Expected a size limit exceeded result");
+      }
+      catch (final LDAPSearchException lse)
+      {
+        assertEquals(lse.getResultCode(), ResultCode.SIZE_LIMIT_EXCEEDED);
+        assertEquals(lse.getEntryCount(), 10);
+      }
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of searches that need to identify all matching entries
+   * before any of them can be returned.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaterializedSearches()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(50);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchRequest sortRequest = new SearchRequest(
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=person)");
+      sortRequest.addControl(
+           new ServerSideSortRequestControl(new SortKey("uid", true)));
+      final SearchResult sortResult = conn.search(sortRequest);
+      assertEquals(sortResult.getEntryCount(), 50);
+      assertEquals(sortResult.getSearchEntries().get(0).getDN(),
+           "uid=user.9,ou=People,dc=example,dc=com");
+      assertEquals(sortResult.getSearchEntries().get(49).getDN(),
+           "uid=user.0,ou=People,dc=example,dc=com");
+
+      final SearchRequest pagedRequest = new SearchRequest(
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=person)");
+      pagedRequest.addControl(new SimplePagedResultsControl(20));
+      final SearchResult pagedResult = conn.search(pagedRequest);
+      assertEquals(pagedResult.getEntryCount(), 20);
+
+      final SimplePagedResultsControl responseControl =
+           SimplePagedResultsControl.get(pagedResult);
+      assertNotNull(responseControl);
+      assertTrue(responseControl.moreResultsToReturn());
+      assertEquals(responseControl.getSize(), 50);
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a write operation can complete while a client is
+   * still processing the results of a search that is returning entries as they
+   * are found.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteDuringStreamedSearch()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(500);
+    try (LDAPConnection searchConn = ds.getConnection();
+         LDAPConnection modifyConn = ds.getConnection())
+    {
+      final AtomicInteger entryCount = new AtomicInteger(0);
+      final AtomicReference<ResultCode> modifyResultCode =
+           new AtomicReference<>();
+      final SearchResultListener listener = new SearchResultListener()
+      {
+        private static final long serialVersionUID = 1L;
+
+        @Override()
+        public void searchEntryReturned(final SearchResultEntry searchEntry)
+        {
+          if (entryCount.incrementAndGet() != 1)
+          {
+            return;
+          }
+
+          // Perform a modify while the search is still in progress.  It must
+          // be able to complete without waiting for this client to read the
+          // remaining entries.
+          final Thread modifyThread = new Thread()
+          {
+            @Override()
+            public void run()
+            {
+              try
+              {
+                modifyResultCode.set(modifyConn.modify(
+                     "uid=user.0,ou=People,dc=example,dc=com",
+                     new Modification(ModificationType.REPLACE, "description",
+                          "modified")).getResultCode());
+              }
+              catch (final Exception e)
+              {
+                modifyResultCode.set(ResultCode.OTHER);
+              }
+            }
+          };
+          modifyThread.start();
+
+          try
+          {
+            modifyThread.join(30_000L);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override()
+        public void searchReferenceReturned(
+                         final SearchResultReference searchReference)
+        {
+          // No implementation required.
+        }
+      };
+
+      final SearchResult searchResult = searchConn.search(new SearchRequest(
+           listener, "dc=example,dc=com", SearchScope.SUB,
+           "(objectClass=*)"));
+      assertEquals(searchResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(searchResult.getEntryCount(), 502);
+      assertEquals(entryCount.get(), 502);
+      assertEquals(modifyResultCode.get(), ResultCode.SUCCESS);
+
+      ds.assertValueExists("uid=user.0,ou=People,dc=example,dc=com",
+           "description", "modified");
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of paged searches that do not require entries to be
+   * sorted, and therefore do not need to materialize them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStreamedPagedSearches()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(50);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final List<String> dns = new ArrayList<>(50);
+      ASN1OctetString cookie = null;
+      int numPages = 0;
+      while (true)
+      {
+        final SearchRequest pagedRequest = new SearchRequest(
+             "ou=People,dc=example,dc=com", SearchScope.ONE,
+             "(objectClass=person)");
+        pagedRequest.addControl(new SimplePagedResultsControl(20, cookie));
+        final SearchResult pagedResult = conn.search(pagedRequest);
+        numPages++;
+
+        for (final SearchResultEntry e : pagedResult.getSearchEntries())
+        {
+          dns.add(e.getDN());
+        }
+
+        final SimplePagedResultsControl responseControl =
+             SimplePagedResultsControl.get(pagedResult);
+        assertNotNull(responseControl);
+        assertEquals(responseControl.getSize(), 50);
+        if (! responseControl.moreResultsToReturn())
+        {
+          assertEquals(pagedResult.getEntryCount(), 10);
+          break;
+        }
+
+        assertEquals(pagedResult.getEntryCount(), 20);
+        cookie = responseControl.getCookie();
+      }
+
+      assertEquals(numPages, 3);
+      assertEquals(dns.size(), 50);
+      assertEquals(new HashSet<>(dns).size(), 50);
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a search which returns entries in batches releases
+   * the read lock between those batches, so that a write operation performed
+   * while the results are still being returned is reflected in entries that
+   * had not yet been examined.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLockReleasedBetweenBatches()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    final AtomicReference<InMemoryDirectoryServer> dsRef =
+         new AtomicReference<>();
+    final AtomicReference<String> lastDN = new AtomicReference<>();
+    final AtomicReference<ResultCode> modifyResultCode =
+         new AtomicReference<>();
+    final AtomicReference<String> lastDescription = new AtomicReference<>();
+    cfg.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor()
+    {
+      @Override()
+      public void processSearchEntry(final InMemoryInterceptedSearchEntry entry)
+      {
+        final SearchResultEntry searchEntry = entry.getSearchEntry();
+        if ((lastDN.get() == null) || (searchEntry == null))
+        {
+          return;
+        }
+
+        if (searchEntry.getDN().equals(lastDN.get()))
+        {
+          lastDescription.set(searchEntry.getAttributeValue("description"));
+        }
+
+        if (modifyResultCode.get() != null)
+        {
+          return;
+        }
+
+        // Perform the modification in a separate thread so that the test
+        // fails rather than hangs if the lock is still held.
+        final Thread modifyThread = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              modifyResultCode.set(dsRef.get().modify(lastDN.get(),
+                   new Modification(ModificationType.REPLACE, "description",
+                        "modified")).getResultCode());
+            }
+            catch (final Exception e)
+            {
+              modifyResultCode.set(ResultCode.OTHER);
+            }
+          }
+        };
+        modifyThread.start();
+
+        try
+        {
+          modifyThread.join(10_000L);
+        }
+        catch (final InterruptedException e)
+        {
+          Thread.currentThread().interrupt();
+        }
+
+        if (modifyResultCode.get() == null)
+        {
+          modifyResultCode.set(ResultCode.TIMEOUT);
+        }
+      }
+    });
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    dsRef.set(ds);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=0; i < 500; i++)
+    {
+      ds.add(
+           "dn: ou=" + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: " + i,
+           "description: original");
+    }
+    ds.startListening();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      // Figure out which entry will be returned last.
+      final List<SearchResultEntry> initialEntries = conn.search(
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=*)", "ou").getSearchEntries();
+      assertEquals(initialEntries.size(), 500);
+      lastDN.set(initialEntries.get(499).getDN());
+
+      // Perform the search again.  The interceptor will modify the last entry
+      // while the first entry is being returned.
+      final SearchResult searchResult = conn.search(
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=*)");
+      assertEquals(searchResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(searchResult.getEntryCount(), 500);
+      assertEquals(modifyResultCode.get(), ResultCode.SUCCESS);
+      assertEquals(lastDescription.get(), "modified");
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Creates and starts an in-memory directory server instance populated with
+   * the specified number of user entries below "ou=People,dc=example,dc=com".
+   *
+   * @param  numUsers  The number of user entries to create.
+   *
+   * @return  The in-memory directory server instance that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServer createServer(final int numUsers)
+          throws Exception
+  {
+    final InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=0; i < numUsers; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password"));
+    }
+
+    ds.startListening();
+    return ds;
+  }
+}
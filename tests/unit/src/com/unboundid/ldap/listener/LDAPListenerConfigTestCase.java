@@ -449,6 +449,111 @@ public final class LDAPListenerConfigTestCase
 
 
 
+  /**
+   * Provides test coverage for the NIO selector and worker thread
+   * configuration.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIOThreads()
+         throws Exception
+  {
+    LDAPListenerConfig c = new LDAPListenerConfig(1234,
+         new CannedResponseRequestHandler());
+    assertEquals(c.getNIOSelectorThreads(), 0);
+    assertEquals(c.getNIOWorkerThreads(), 0);
+    c = c.duplicate();
+    assertEquals(c.getNIOSelectorThreads(), 0);
+    assertEquals(c.getNIOWorkerThreads(), 0);
+
+    assertNotNull(c.toString());
+
+    c.setNIOSelectorThreads(2);
+    c.setNIOWorkerThreads(8);
+    assertEquals(c.getNIOSelectorThreads(), 2);
+    assertEquals(c.getNIOWorkerThreads(), 8);
+    c = c.duplicate();
+    assertEquals(c.getNIOSelectorThreads(), 2);
+    assertEquals(c.getNIOWorkerThreads(), 8);
+
+    assertNotNull(c.toString());
+    assertTrue(c.toString().contains("nioSelectorThreads=2"));
+
+    c.setNIOSelectorThreads(-1);
+    c.setNIOWorkerThreads(-1);
+    assertEquals(c.getNIOSelectorThreads(), 0);
+    assertEquals(c.getNIOWorkerThreads(), 0);
+    c = c.duplicate();
+    assertEquals(c.getNIOSelectorThreads(), 0);
+    assertEquals(c.getNIOWorkerThreads(), 0);
+
+    assertNotNull(c.toString());
+  }
+
+
+
+  /**
+   * Provides test coverage for the maximum concurrent requests per connection
+   * configuration.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxConcurrentRequestsPerConnection()
+         throws Exception
+  {
+    LDAPListenerConfig c = new LDAPListenerConfig(1234,
+         new CannedResponseRequestHandler());
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 1);
+    c = c.duplicate();
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 1);
+    assertTrue(c.toString().contains("maxConcurrentRequestsPerConnection=1"));
+
+    c.setMaxConcurrentRequestsPerConnection(16);
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 16);
+    c = c.duplicate();
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 16);
+    assertTrue(c.toString().contains("maxConcurrentRequestsPerConnection=16"));
+
+    c.setMaxConcurrentRequestsPerConnection(0);
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 1);
+    c = c.duplicate();
+    assertEquals(c.getMaxConcurrentRequestsPerConnection(), 1);
+  }
+
+
+
+  /**
+   * Provides test coverage for the use virtual threads configuration.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUseVirtualThreads()
+         throws Exception
+  {
+    LDAPListenerConfig c = new LDAPListenerConfig(1234,
+         new CannedResponseRequestHandler());
+    assertFalse(c.useVirtualThreads());
+    c = c.duplicate();
+    assertFalse(c.useVirtualThreads());
+    assertTrue(c.toString().contains("useVirtualThreads=false"));
+
+    c.setUseVirtualThreads(true);
+    assertTrue(c.useVirtualThreads());
+    c = c.duplicate();
+    assertTrue(c.useVirtualThreads());
+    assertTrue(c.toString().contains("useVirtualThreads=true"));
+
+    c.setUseVirtualThreads(false);
+    assertFalse(c.useVirtualThreads());
+    c = c.duplicate();
+    assertFalse(c.useVirtualThreads());
+  }
+
+
+
   /**
    * Provides test coverage for the receive buffer size configuration.
    *
@@ -37,13 +37,36 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.unboundid.asn1.ASN1ElementFramer;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchRequestProtocolOp;
+import com.unboundid.ldap.sdk.AsyncRequestID;
+import com.unboundid.ldap.sdk.BasicAsyncSearchResultListener;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.Filter;
 import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchScope;
 import com.unboundid.util.ThrowsOnAcceptServerSocketFactory;
 import com.unboundid.util.ThrowsOnCreateServerSocketFactory;
 
@@ -158,4 +181,461 @@ public final class LDAPListenerTestCase
 
     listener.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the behavior of a listener that is configured to use NIO selector
+   * threads with an in-memory request handler, including concurrent
+   * connections, pipelined asynchronous requests, and requests that are too
+   * large to be read in a single pass.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIOListener()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig dsCfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    dsCfg.setSchema(null);
+
+    final LDAPListenerConfig config =
+         new LDAPListenerConfig(0, new InMemoryRequestHandler(dsCfg));
+    config.setNIOSelectorThreads(2);
+    config.setNIOWorkerThreads(3);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    final int listenPort = listener.getListenPort();
+    assertTrue(listenPort > 0);
+
+    final LDAPConnection conn = new LDAPConnection("localhost", listenPort);
+    conn.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    // Add an entry that is much larger than the selector thread read buffer.
+    final StringBuilder description = new StringBuilder();
+    for (int i=0; i < 200_000; i++)
+    {
+      description.append((char) ('a' + (i % 26)));
+    }
+
+    conn.add(new Entry(
+         "dn: ou=Large,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: Large",
+         "description: " + description));
+    assertEquals(conn.getEntry("ou=Large,dc=example,dc=com").
+         getAttributeValue("description"), description.toString());
+
+    // Use a number of connections concurrently.
+    final List<LDAPConnection> conns = new ArrayList<>(20);
+    for (int i=0; i < 20; i++)
+    {
+      final LDAPConnection c = new LDAPConnection("localhost", listenPort);
+      c.add(
+           "dn: ou=" + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: " + i);
+      conns.add(c);
+    }
+
+    for (final LDAPConnection c : conns)
+    {
+      assertEquals(c.search("dc=example,dc=com", SearchScope.ONE,
+           Filter.createPresenceFilter("objectClass")).getEntryCount(), 21);
+    }
+
+    // Pipeline a number of asynchronous searches on a single connection so
+    // that the selector thread will need to suspend reading.
+    final List<AsyncRequestID> requestIDs = new ArrayList<>(100);
+    final List<BasicAsyncSearchResultListener> listeners =
+         new ArrayList<>(100);
+    for (int i=0; i < 100; i++)
+    {
+      final BasicAsyncSearchResultListener l =
+           new BasicAsyncSearchResultListener();
+      listeners.add(l);
+      requestIDs.add(conn.asyncSearch(new SearchRequest(l,
+           "ou=" + (i % 20) + ",dc=example,dc=com", SearchScope.BASE,
+           Filter.createPresenceFilter("objectClass"))));
+    }
+
+    for (int i=0; i < 100; i++)
+    {
+      final SearchResult result = (SearchResult) requestIDs.get(i).get();
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(result.getEntryCount(), 1);
+    }
+
+    for (final LDAPConnection c : conns)
+    {
+      c.close();
+    }
+
+    conn.close();
+    listener.shutDown(true);
+    assertEquals(listener.getListenPort(), -1);
+  }
+
+
+
+  /**
+   * Tests the behavior of an NIO listener when a client sends requests but
+   * never reads any of the responses.  The worker thread should give up once
+   * the write timeout has elapsed and close the connection so that it remains
+   * available to other clients.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIOClientThatNeverReads()
+         throws Exception
+  {
+    final StringBuilder description = new StringBuilder();
+    for (int i=0; i < 100_000; i++)
+    {
+      description.append((char) ('a' + (i % 26)));
+    }
+
+    final Entry entry = new Entry(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example",
+         "description: " + description);
+    final CannedResponseRequestHandler requestHandler =
+         new CannedResponseRequestHandler(ResultCode.SUCCESS, null, null,
+              null, Collections.singletonList(entry), null);
+
+    final LDAPListenerConfig config =
+         new LDAPListenerConfig(0, requestHandler);
+    config.setNIOSelectorThreads(1);
+    config.setNIOWorkerThreads(1);
+    config.setNIOWriteTimeoutMillis(500L);
+    config.setSendBufferSize(8192);
+    assertEquals(config.getNIOWriteTimeoutMillis(), 500L);
+    assertEquals(config.duplicate().getNIOWriteTimeoutMillis(), 500L);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    final int listenPort = listener.getListenPort();
+    assertTrue(listenPort > 0);
+
+    // Send a large number of searches without ever reading the responses.
+    final Socket socket = new Socket();
+    socket.setReceiveBufferSize(8192);
+    socket.connect(new InetSocketAddress("localhost", listenPort));
+    try
+    {
+      final OutputStream outputStream = socket.getOutputStream();
+      for (int i=1; i <= 200; i++)
+      {
+        final LDAPMessage message = new LDAPMessage(i,
+             new SearchRequestProtocolOp(new SearchRequest(
+                  "dc=example,dc=com", SearchScope.BASE,
+                  Filter.createPresenceFilter("objectClass"))));
+        outputStream.write(message.encode().encode());
+      }
+      outputStream.flush();
+
+      // Even though the only worker thread was blocked writing to the
+      // unresponsive client, it should be freed once the write timeout
+      // elapses and other clients should be able to use the listener.
+      final LDAPConnection conn = new LDAPConnection("localhost", listenPort);
+      assertEquals(conn.search("dc=example,dc=com", SearchScope.BASE,
+           Filter.createPresenceFilter("objectClass")).getEntryCount(), 1);
+      conn.close();
+
+      // The unresponsive client's connection should have been closed, so
+      // draining it should eventually reach the end of the stream.  If the
+      // server closed the connection with unread requests still pending, then
+      // the connection may be reset instead.
+      socket.setSoTimeout(30_000);
+      final InputStream inputStream = socket.getInputStream();
+      final byte[] buffer = new byte[65_536];
+      long totalBytesRead = 0L;
+      while (true)
+      {
+        final int bytesRead;
+        try
+        {
+          bytesRead = inputStream.read(buffer);
+        }
+        catch (final SocketException e)
+        {
+          break;
+        }
+
+        if (bytesRead < 0)
+        {
+          break;
+        }
+
+        totalBytesRead += bytesRead;
+      }
+
+      assertTrue(totalBytesRead < (200L * description.length()));
+    }
+    finally
+    {
+      socket.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a set of data that may be used to test listeners with and without
+   * NIO selector threads.
+   *
+   * @return  A set of data that may be used to test listeners with and without
+   *          NIO selector threads.
+   */
+  @DataProvider(name="nioSelectorThreads")
+  public Object[][] getNIOSelectorThreads()
+  {
+    return new Object[][]
+    {
+      new Object[] { 0 },
+      new Object[] { 1 }
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior of a listener that is configured to allow multiple
+   * requests from the same connection to be processed concurrently.
+   *
+   * @param  nioSelectorThreads  The number of NIO selector threads that the
+   *                             listener should use.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="nioSelectorThreads")
+  public void testConcurrentRequestsPerConnection(final int nioSelectorThreads)
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig dsCfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    dsCfg.addAdditionalBindCredentials("cn=Directory Manager", "password");
+    final InMemoryRequestHandler requestHandler =
+         new InMemoryRequestHandler(dsCfg);
+
+    final LDAPListenerConfig config =
+         new LDAPListenerConfig(0, requestHandler);
+    config.setNIOSelectorThreads(nioSelectorThreads);
+    config.setMaxConcurrentRequestsPerConnection(4);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    assertNotNull(listener.getConcurrentRequestPool());
+
+    final LDAPConnection conn =
+         new LDAPConnection("localhost", listener.getListenPort());
+    conn.add(generateDomainEntry("example", "dc=com"));
+
+    // With a processing delay for each request, eight searches that are
+    // processed four at a time should take at least two delay periods, but
+    // considerably less than the eight periods that they would take if they
+    // were processed one at a time.
+    requestHandler.setProcessingDelayMillis(500L);
+    final long startTime = System.currentTimeMillis();
+    final List<AsyncRequestID> requestIDs = new ArrayList<>(8);
+    for (int i=0; i < 8; i++)
+    {
+      requestIDs.add(conn.asyncSearch(new SearchRequest(
+           new BasicAsyncSearchResultListener(), "dc=example,dc=com",
+           SearchScope.BASE, Filter.createPresenceFilter("objectClass"))));
+    }
+
+    // The bind must not be processed until all of the searches have completed.
+    assertEquals(conn.bind("cn=Directory Manager", "password").getResultCode(),
+         ResultCode.SUCCESS);
+    for (final AsyncRequestID requestID : requestIDs)
+    {
+      assertTrue(requestID.isDone());
+      final SearchResult result = (SearchResult) requestID.get();
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(result.getEntryCount(), 1);
+    }
+
+    final long elapsedTime = System.currentTimeMillis() - startTime;
+    assertTrue(elapsedTime >= 1_000L);
+    assertTrue(elapsedTime < 4_000L);
+
+    requestHandler.setProcessingDelayMillis(0L);
+    assertEquals(conn.getEntry("dc=example,dc=com").getDN(),
+         "dc=example,dc=com");
+
+    conn.close();
+    listener.shutDown(true);
+    assertEquals(listener.getListenPort(), -1);
+  }
+
+
+
+  /**
+   * Tests the behavior of a listener and client connections that are
+   * configured to use virtual threads.  If the JVM does not support virtual
+   * threads, then this will verify that platform threads are used instead.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testVirtualThreads()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setUseVirtualThreads(true);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    final int listenPort = listener.getListenPort();
+    assertTrue(listenPort > 0);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseVirtualThreads(true);
+
+    final List<LDAPConnection> conns = new ArrayList<>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final LDAPConnection c =
+           new LDAPConnection(options, "localhost", listenPort);
+      assertEquals(c.search("dc=example,dc=com", SearchScope.BASE,
+           Filter.createPresenceFilter("objectClass")).getResultCode(),
+           ResultCode.SUCCESS);
+      conns.add(c);
+    }
+
+    for (final LDAPConnection c : conns)
+    {
+      final BasicAsyncSearchResultListener l =
+           new BasicAsyncSearchResultListener();
+      final AsyncRequestID requestID = c.asyncSearch(new SearchRequest(l,
+           "dc=example,dc=com", SearchScope.BASE,
+           Filter.createPresenceFilter("objectClass")));
+      assertEquals(((SearchResult) requestID.get()).getResultCode(),
+           ResultCode.SUCCESS);
+      c.close();
+    }
+
+    listener.shutDown(true);
+    assertEquals(listener.getListenPort(), -1);
+  }
+
+
+
+  /**
+   * Tests to ensure that existing connections to an NIO-based listener remain
+   * usable after the listener is shut down without closing them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIOListenerShutDownWithoutClosingExisting()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setNIOSelectorThreads(1);
+    config.setNIOWorkerThreads(1);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+
+    final LDAPConnection conn =
+         new LDAPConnection("localhost", listener.getListenPort());
+    assertNull(conn.getEntry(""));
+
+    listener.shutDown(false);
+    assertEquals(listener.getListenPort(), -1);
+
+    assertNull(conn.getEntry(""));
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that a listener configured to use NIO selector threads
+   * will reject an attempt to use a custom server socket factory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IOException.class })
+  public void testNIOListenerWithCustomServerSocketFactory()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setNIOSelectorThreads(1);
+    config.setServerSocketFactory(
+         new ThrowsOnCreateServerSocketFactory(new IOException("foo")));
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    listener.shutDown(true);
+  }
+
+
+
+  /**
+   * Provides test coverage for the framing used to determine the length of a
+   * BER element read by an NIO selector thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIOGetElementLength()
+         throws Exception
+  {
+    // The listener's NIO connection handler does not limit the element size.
+    final ASN1ElementFramer framer = new ASN1ElementFramer(0);
+
+    final byte[] b = { 0x30, 0x03, 0x02, 0x01, 0x01 };
+    assertNull(framer.nextElement(ByteBuffer.wrap(b, 0, 0)));
+    assertNull(framer.nextElement(ByteBuffer.wrap(b, 0, 4)));
+    assertEquals(framer.nextElement(ByteBuffer.wrap(b, 0, 5)).remaining(), 5);
+
+    final byte[] multiByteLength = { 0x30, (byte) 0x82, 0x01, 0x00 };
+    assertNull(framer.nextElement(ByteBuffer.wrap(multiByteLength, 0, 3)));
+    assertNull(framer.nextElement(ByteBuffer.wrap(multiByteLength, 0, 4)));
+    final byte[] completeMultiByteLength = new byte[260];
+    System.arraycopy(multiByteLength, 0, completeMultiByteLength, 0, 4);
+    assertNull(framer.nextElement(
+         ByteBuffer.wrap(completeMultiByteLength, 0, 259)));
+    assertEquals(framer.nextElement(
+         ByteBuffer.wrap(completeMultiByteLength, 0, 260)).remaining(), 260);
+
+    try
+    {
+      framer.nextElement(ByteBuffer.wrap(new byte[] { 0x30, (byte) 0x80 }));
+      fail("Expected an exception for an indefinite length");
+    }
+    catch (final ASN1Exception ae)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      framer.nextElement(ByteBuffer.wrap(new byte[] { 0x30, (byte) 0x84,
+           (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF }));
+      fail("Expected an exception for an overly large length");
+    }
+    catch (final ASN1Exception ae)
+    {
+      // This was expected.
+    }
+  }
 }
@@ -448,6 +448,36 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     }
 
 
+    // Test methods related to incremental snapshots.
+    assertFalse(readOnlyConfig.useIncrementalSnapshots());
+
+    try
+    {
+      readOnlyConfig.setUseIncrementalSnapshots(true);
+      fail("Expected an exception when trying to call " +
+           "setUseIncrementalSnapshots");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
+    // Test methods related to the persistence directory.
+    assertNull(readOnlyConfig.getPersistenceDirectory());
+
+    try
+    {
+      readOnlyConfig.setPersistenceDirectory(createTempDir());
+      fail("Expected an exception when trying to call " +
+           "setPersistenceDirectory");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
     // Test methods related to equality index attributes.
     assertNotNull(readOnlyConfig.getEqualityIndexAttributes());
     assertTrue(readOnlyConfig.getEqualityIndexAttributes().isEmpty());
@@ -476,6 +506,89 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     }
 
 
+    // Test methods related to ordering index attributes.
+    assertNotNull(readOnlyConfig.getOrderingIndexAttributes());
+    assertTrue(readOnlyConfig.getOrderingIndexAttributes().isEmpty());
+
+    try
+    {
+      readOnlyConfig.setOrderingIndexAttributes("createTimestamp");
+      fail("Expected an exception when trying to call " +
+           "setOrderingIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+    try
+    {
+      readOnlyConfig.setOrderingIndexAttributes(
+           Arrays.asList("createTimestamp", "uid"));
+      fail("Expected an exception when trying to call " +
+           "setOrderingIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+
+    // Test methods related to substring index attributes.
+    assertNotNull(readOnlyConfig.getSubstringIndexAttributes());
+    assertTrue(readOnlyConfig.getSubstringIndexAttributes().isEmpty());
+
+    try
+    {
+      readOnlyConfig.setSubstringIndexAttributes("cn");
+      fail("Expected an exception when trying to call " +
+           "setSubstringIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+    try
+    {
+      readOnlyConfig.setSubstringIndexAttributes(Arrays.asList("cn", "uid"));
+      fail("Expected an exception when trying to call " +
+           "setSubstringIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+
+    // Test methods related to presence index attributes.
+    assertNotNull(readOnlyConfig.getPresenceIndexAttributes());
+    assertTrue(readOnlyConfig.getPresenceIndexAttributes().isEmpty());
+
+    try
+    {
+      readOnlyConfig.setPresenceIndexAttributes("description");
+      fail("Expected an exception when trying to call " +
+           "setPresenceIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+    try
+    {
+      readOnlyConfig.setPresenceIndexAttributes(
+           Arrays.asList("description", "uid"));
+      fail("Expected an exception when trying to call " +
+           "setPresenceIndexAttributes");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected
+    }
+
+
     // Test methods related to referential integrity attributes.
     assertNotNull(readOnlyConfig.getReferentialIntegrityAttributes());
     assertTrue(readOnlyConfig.getReferentialIntegrityAttributes().isEmpty());
@@ -577,7 +690,12 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     config.addSASLBindHandler(new TestSASLBindHandler());
     config.setGenerateOperationalAttributes(false);
     config.setMaxChangeLogEntries(100);
+    config.setUseIncrementalSnapshots(true);
+    config.setPersistenceDirectory(createTempDir());
     config.setEqualityIndexAttributes("uid", "cn");
+    config.setOrderingIndexAttributes("createTimestamp");
+    config.setSubstringIndexAttributes("cn", "mail");
+    config.setPresenceIndexAttributes("description");
     config.setReferentialIntegrityAttributes("member", "uniqueMember", "owner",
          "seeAlso");
 
@@ -963,6 +1081,36 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     }
 
 
+    // Test methods related to incremental snapshots.
+    assertTrue(readOnlyConfig.useIncrementalSnapshots());
+
+    try
+    {
+      readOnlyConfig.setUseIncrementalSnapshots(false);
+      fail("Expected an exception when trying to call " +
+           "setUseIncrementalSnapshots");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
+    // Test methods related to the persistence directory.
+    assertNotNull(readOnlyConfig.getPersistenceDirectory());
+
+    try
+    {
+      readOnlyConfig.setPersistenceDirectory(null);
+      fail("Expected an exception when trying to call " +
+           "setPersistenceDirectory");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+
     // Test methods related to equality index attributes.
     assertNotNull(readOnlyConfig.getEqualityIndexAttributes());
     assertFalse(readOnlyConfig.getEqualityIndexAttributes().isEmpty());
@@ -971,6 +1119,19 @@ public final class ReadOnlyInMemoryDirectoryServerConfigTestCase
     assertTrue(readOnlyConfig.getEqualityIndexAttributes().contains("cn"));
 
 
+    // Test methods related to ordering, substring, and presence index
+    // attributes.
+    assertEquals(readOnlyConfig.getOrderingIndexAttributes().size(), 1);
+    assertTrue(readOnlyConfig.getOrderingIndexAttributes().contains(
+         "createTimestamp"));
+    assertEquals(readOnlyConfig.getSubstringIndexAttributes().size(), 2);
+    assertTrue(readOnlyConfig.getSubstringIndexAttributes().contains("cn"));
+    assertTrue(readOnlyConfig.getSubstringIndexAttributes().contains("mail"));
+    assertEquals(readOnlyConfig.getPresenceIndexAttributes().size(), 1);
+    assertTrue(readOnlyConfig.getPresenceIndexAttributes().contains(
+         "description"));
+
+
     // Test methods related to referential integrity attributes.
     assertNotNull(readOnlyConfig.getReferentialIntegrityAttributes());
     assertFalse(readOnlyConfig.getReferentialIntegrityAttributes().isEmpty());
@@ -64,6 +64,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.unboundid.asn1.ASN1ElementFramer;
 import com.unboundid.ldap.sdk.unboundidds.MoveSubtree;
 import com.unboundid.util.Extensible;
 import com.unboundid.util.InternalUseOnly;
@@ -880,6 +881,8 @@ public class APITestCase
       // Check known exemptions that are acceptable to not be serializable.
       final Class<?>[] exemptions =
       {
+        ASN1ElementFramer.class,
+        ByteArrayBERReader.class,
         MoveSubtree.class
       };
 
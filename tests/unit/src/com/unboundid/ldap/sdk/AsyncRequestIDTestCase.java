@@ -37,6 +37,10 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.testng.annotations.Test;
 
 
@@ -84,4 +88,134 @@ public class AsyncRequestIDTestCase
     assertTrue(requestID.equals(new AsyncRequestID(1234, null)));
     assertFalse(requestID.equals(new AsyncRequestID(5678, null)));
   }
+
+
+
+  /**
+   * Tests the behavior of completion listeners registered before and after the
+   * result has been set.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompletionListeners()
+         throws Exception
+  {
+    final AsyncRequestID requestID = new AsyncRequestID(1234, null);
+    final CompletionCollector before = new CompletionCollector();
+    final CompletionCollector failing = new CompletionCollector(true);
+    requestID.addCompletionListener(before);
+    requestID.addCompletionListener(failing);
+    assertTrue(before.results.isEmpty());
+
+    final LDAPResult result = new LDAPResult(1234, ResultCode.SUCCESS);
+    requestID.setResult(result);
+    assertEquals(before.results.size(), 1);
+    assertSame(before.results.get(0), result);
+    assertSame(before.requestIDs.get(0), requestID);
+    assertEquals(failing.results.size(), 1);
+
+    // Setting another result should not cause the listeners to be notified
+    // again.
+    requestID.setResult(new LDAPResult(1234, ResultCode.OTHER));
+    assertEquals(before.results.size(), 1);
+
+    // A listener registered after completion should be notified immediately
+    // with the original result.
+    final CompletionCollector after = new CompletionCollector();
+    requestID.addCompletionListener(after);
+    assertEquals(after.results.size(), 1);
+    assertSame(after.results.get(0), result);
+
+    assertTrue(requestID.isDone());
+    assertSame(requestID.get(1L, TimeUnit.SECONDS), result);
+  }
+
+
+
+  /**
+   * Tests to ensure that completion listeners are notified when the operation
+   * is canceled.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompletionListenerOnCancel()
+         throws Exception
+  {
+    final AsyncRequestID requestID = new AsyncRequestID(1234, null);
+    final CompletionCollector listener = new CompletionCollector();
+    requestID.addCompletionListener(listener);
+
+    assertTrue(requestID.cancel(true));
+    assertTrue(requestID.isCancelled());
+    assertEquals(listener.results.size(), 1);
+    assertEquals(listener.results.get(0).getResultCode(),
+         ResultCode.USER_CANCELED);
+
+    // A result that arrives after cancellation should not cause the listener
+    // to be notified again.
+    requestID.setResult(new LDAPResult(1234, ResultCode.SUCCESS));
+    assertEquals(listener.results.size(), 1);
+  }
+
+
+
+  /**
+   * An async result listener that collects the results it receives.
+   */
+  private static final class CompletionCollector
+          implements AsyncResultListener
+  {
+    // Indicates whether to throw an exception after collecting a result.
+    private final boolean throwException;
+
+    // The request IDs provided to this listener.
+    private final List<AsyncRequestID> requestIDs = new ArrayList<>();
+
+    // The results provided to this listener.
+    private final List<LDAPResult> results = new ArrayList<>();
+
+
+
+    /**
+     * Creates a new instance of this listener that will not throw an
+     * exception.
+     */
+    private CompletionCollector()
+    {
+      this(false);
+    }
+
+
+
+    /**
+     * Creates a new instance of this listener.
+     *
+     * @param  throwException  Indicates whether to throw an exception after
+     *                         collecting a result.
+     */
+    private CompletionCollector(final boolean throwException)
+    {
+      this.throwException = throwException;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void ldapResultReceived(final AsyncRequestID requestID,
+                                   final LDAPResult result)
+    {
+      requestIDs.add(requestID);
+      results.add(result);
+
+      if (throwException)
+      {
+        throw new RuntimeException("Intentionally thrown");
+      }
+    }
+  }
 }
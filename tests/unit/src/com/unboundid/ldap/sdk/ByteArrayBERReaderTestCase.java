@@ -0,0 +1,241 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+
+
+
+/**
+ * This class provides a set of test cases for the ByteArrayBERReader class.
+ */
+public class ByteArrayBERReaderTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests reading a sequence of elements that use the short length form.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadShortLengthElements()
+         throws Exception
+  {
+    final byte[] encoded = new ASN1Sequence(
+         new ASN1OctetString("foo"),
+         new ASN1OctetString((byte) 0x80, "bar"),
+         new ASN1OctetString(),
+         new ASN1OctetString("baz")).encode();
+
+    final ByteArrayBERReader reader =
+         new ByteArrayBERReader(encoded, 0, encoded.length);
+    assertTrue(reader.hasMoreData());
+    assertEquals(reader.getPosition(), 0);
+    assertSame(reader.getBuffer(), encoded);
+
+    assertEquals(reader.readElementHeader(), encoded.length - 2);
+    assertEquals(reader.getPosition(), 2);
+
+    final ASN1OctetString foo = reader.readOctetString();
+    assertEquals(foo.stringValue(), "foo");
+    assertEquals(foo.getType(), (byte) 0x04);
+
+    assertEquals(reader.readString(), "bar");
+    assertEquals(reader.readOctetString().getValueLength(), 0);
+
+    assertTrue(reader.hasMoreData());
+    assertEquals(reader.readElementHeader(), 3);
+    reader.skip(3);
+    assertFalse(reader.hasMoreData());
+    assertEquals(reader.getPosition(), encoded.length);
+  }
+
+
+
+  /**
+   * Tests reading an element that uses the long length form.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadLongLengthElement()
+         throws Exception
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (int i=0; i < 1000; i++)
+    {
+      buffer.append('x');
+    }
+
+    final byte[] encoded = new ASN1OctetString(buffer.toString()).encode();
+    assertEquals(encoded[1], (byte) 0x82);
+
+    final ByteArrayBERReader reader =
+         new ByteArrayBERReader(encoded, 0, encoded.length);
+    assertEquals(reader.readString(), buffer.toString());
+    assertFalse(reader.hasMoreData());
+  }
+
+
+
+  /**
+   * Tests reading from a portion of a larger array, making sure that the
+   * resulting octet string references only the appropriate portion.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadFromArrayRegion()
+         throws Exception
+  {
+    final byte[] element = new ASN1OctetString("value").encode();
+    final byte[] encoded = new byte[element.length + 4];
+    System.arraycopy(element, 0, encoded, 2, element.length);
+
+    final ByteArrayBERReader reader =
+         new ByteArrayBERReader(encoded, 2, element.length);
+    assertEquals(reader.getPosition(), 2);
+
+    final ASN1OctetString s = reader.readOctetString();
+    assertEquals(s.stringValue(), "value");
+    assertEquals(s.getValue(), "value".getBytes("UTF-8"));
+    assertFalse(reader.hasMoreData());
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read from an empty region.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadNoData()
+         throws Exception
+  {
+    final ByteArrayBERReader reader =
+         new ByteArrayBERReader(new byte[] { 0x04, 0x00 }, 0, 0);
+    assertFalse(reader.hasMoreData());
+    reader.readElementHeader();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an element in which the number of
+   * length bytes extends beyond the end of the data.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadTruncatedLength()
+         throws Exception
+  {
+    final byte[] encoded = { 0x04, (byte) 0x82, 0x01 };
+    new ByteArrayBERReader(encoded, 0, encoded.length).readElementHeader();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an element that uses the
+   * indefinite length form.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadIndefiniteLength()
+         throws Exception
+  {
+    final byte[] encoded = { 0x30, (byte) 0x80, 0x00, 0x00 };
+    new ByteArrayBERReader(encoded, 0, encoded.length).readElementHeader();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an element with too many length
+   * bytes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadTooManyLengthBytes()
+         throws Exception
+  {
+    final byte[] encoded = { 0x04, (byte) 0x85, 0x00, 0x00, 0x00, 0x00, 0x01,
+         0x00 };
+    new ByteArrayBERReader(encoded, 0, encoded.length).readElementHeader();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an element whose value extends
+   * beyond the end of the data.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadValueTooLong()
+         throws Exception
+  {
+    final byte[] encoded = { 0x04, 0x05, 'a', 'b', 'c' };
+    new ByteArrayBERReader(encoded, 0, encoded.length).readOctetString();
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to read an element whose long-form length
+   * extends beyond the end of the data.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadLongFormValueTooLong()
+         throws Exception
+  {
+    final byte[] encoded = { 0x04, (byte) 0x84, 0x7F, (byte) 0xFF,
+         (byte) 0xFF, (byte) 0xFF, 'a' };
+    new ByteArrayBERReader(encoded, 0, encoded.length).readOctetString();
+  }
+}
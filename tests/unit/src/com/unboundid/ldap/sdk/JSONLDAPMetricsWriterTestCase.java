@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.json.JSONObject;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code JSONLDAPMetricsWriter} class.
+ */
+public final class JSONLDAPMetricsWriterTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when writing metrics to an output stream.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteToOutputStream()
+         throws Exception
+  {
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    registry.registerCounter("test_counter", "A test counter",
+         Collections.singletonMap("server", "ds.example.com:389")).
+         addAndGet(3L);
+    registry.registerGauge("test_gauge", "A test gauge", null,
+         new LDAPMetricGauge()
+         {
+           @Override()
+           public double getValue()
+           {
+             return 0.25d;
+           }
+         });
+    registry.registerGauge("test_nan_gauge", "A test gauge", null,
+         new LDAPMetricGauge()
+         {
+           @Override()
+           public double getValue()
+           {
+             return Double.NaN;
+           }
+         });
+
+    final LatencyHistogram histogram =
+         registry.registerHistogram("test_histogram", "A test histogram",
+              null);
+    for (int i=1; i <= 100; i++)
+    {
+      histogram.recordValue(i);
+    }
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final JSONLDAPMetricsWriter writer =
+         new JSONLDAPMetricsWriter(outputStream);
+    writer.metricsCollected(1_234_567_890_123L, registry.collectMetrics());
+    writer.close();
+
+    final String output = StaticUtils.toUTF8String(outputStream.toByteArray());
+    final String[] lines = output.split("\n");
+    assertEquals(lines.length, 4);
+    assertTrue(output.endsWith("\n"));
+
+    final JSONObject counter = new JSONObject(lines[0]);
+    assertEquals(counter.getFieldAsString("timestamp"),
+         StaticUtils.encodeRFC3339Time(1_234_567_890_123L));
+    assertEquals(counter.getFieldAsString("name"), "test_counter");
+    assertEquals(counter.getFieldAsString("type"), "counter");
+    assertEquals(counter.getFieldAsObject("labels").getFieldAsString(
+         "server"), "ds.example.com:389");
+    assertEquals(counter.getFieldAsLong("value"), Long.valueOf(3L));
+
+    final JSONObject gauge = new JSONObject(lines[1]);
+    assertEquals(gauge.getFieldAsString("name"), "test_gauge");
+    assertEquals(gauge.getFieldAsString("type"), "gauge");
+    assertEquals(gauge.getFieldAsBigDecimal("value").doubleValue(), 0.25d);
+
+    final JSONObject histogramObject = new JSONObject(lines[2]);
+    assertEquals(histogramObject.getFieldAsString("name"), "test_histogram");
+    assertEquals(histogramObject.getFieldAsString("type"), "histogram");
+    assertEquals(histogramObject.getFieldAsLong("count"), Long.valueOf(100L));
+    assertEquals(histogramObject.getFieldAsLong("sum-nanos"),
+         Long.valueOf(5050L));
+    assertEquals(histogramObject.getFieldAsLong("min-nanos"),
+         Long.valueOf(1L));
+    assertEquals(histogramObject.getFieldAsLong("max-nanos"),
+         Long.valueOf(100L));
+    assertEquals(histogramObject.getFieldAsLong("p50-nanos"),
+         Long.valueOf(50L));
+    assertEquals(histogramObject.getFieldAsLong("p99-nanos"),
+         Long.valueOf(99L));
+    assertNull(histogramObject.getField("value"));
+
+    final JSONObject nanGauge = new JSONObject(lines[3]);
+    assertEquals(nanGauge.getFieldAsString("name"), "test_nan_gauge");
+    assertNotNull(nanGauge.getField("value"));
+    assertNull(nanGauge.getFieldAsLong("value"));
+  }
+
+
+
+  /**
+   * Tests the behavior when appending metrics to a file as a registry
+   * listener.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAppendToFile()
+         throws Exception
+  {
+    final File file = createTempFile();
+
+    final List<LDAPMetric> metrics = Collections.singletonList(
+         new LDAPMetric("test_counter", LDAPMetricType.COUNTER,
+              "A test counter", Collections.<String,String>emptyMap(), 1.0d,
+              null));
+
+    JSONLDAPMetricsWriter writer = new JSONLDAPMetricsWriter(file, true);
+    writer.writeMetrics(System.currentTimeMillis(), metrics);
+    writer.close();
+
+    writer = new JSONLDAPMetricsWriter(file, true);
+    writer.writeMetrics(System.currentTimeMillis(), metrics);
+    writer.close();
+
+    final String output = StaticUtils.toUTF8String(
+         StaticUtils.readFileBytes(file));
+    assertEquals(output.split("\n").length, 2);
+
+    writer = new JSONLDAPMetricsWriter(file, false);
+    writer.writeMetrics(System.currentTimeMillis(), metrics);
+    writer.close();
+
+    assertEquals(StaticUtils.toUTF8String(
+         StaticUtils.readFileBytes(file)).split("\n").length, 1);
+  }
+}
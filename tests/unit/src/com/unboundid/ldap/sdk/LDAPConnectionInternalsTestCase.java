@@ -0,0 +1,396 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.SocketFactory;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code LDAPConnectionInternals} class.
+ */
+public class LDAPConnectionInternalsTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that the SO_TIMEOUT socket option is only changed when
+   * the timeout to use for an operation differs from the value that is already
+   * in effect.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSoTimeoutOnlySetWhenChanged()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final CountingSocketFactory socketFactory = new CountingSocketFactory();
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setResponseTimeoutMillis(30_000L);
+
+    try (LDAPConnection conn = new LDAPConnection(socketFactory, options,
+              "localhost", ds.getListenPort()))
+    {
+      assertEquals(socketFactory.getSoTimeoutCalls(), 1);
+      assertEquals(InternalSDKHelper.getSoTimeout(conn), 30_000);
+
+      for (int i=0; i < 100; i++)
+      {
+        assertTrue(conn.compare("dc=example,dc=com", "dc", "example").
+             compareMatched());
+      }
+      assertEquals(socketFactory.getSoTimeoutCalls(), 1);
+
+      final CompareRequest compareRequest =
+           new CompareRequest("dc=example,dc=com", "dc", "example");
+      compareRequest.setResponseTimeoutMillis(10_000L);
+      for (int i=0; i < 100; i++)
+      {
+        assertTrue(conn.compare(compareRequest).compareMatched());
+      }
+      assertEquals(socketFactory.getSoTimeoutCalls(), 2);
+      assertEquals(InternalSDKHelper.getSoTimeout(conn), 10_000);
+
+      InternalSDKHelper.setSoTimeout(conn, 10_000);
+      assertEquals(socketFactory.getSoTimeoutCalls(), 2);
+
+      InternalSDKHelper.setSoTimeout(conn, 5_000);
+      assertEquals(socketFactory.getSoTimeoutCalls(), 3);
+      assertEquals(InternalSDKHelper.getSoTimeout(conn), 5_000);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the cached SO_TIMEOUT value always matches the value
+   * that is actually set on the socket, even when multiple threads attempt to
+   * change it concurrently.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCachedSoTimeoutMatchesSocket()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = new LDAPConnection("localhost",
+              ds.getListenPort()))
+    {
+      final LDAPConnectionInternals internals =
+           conn.getConnectionInternals(true);
+      final Socket socket = internals.getSocket();
+
+      internals.setSoTimeout(1_234);
+      assertEquals(internals.getCachedSoTimeout(), 1_234);
+      assertEquals(socket.getSoTimeout(), 1_234);
+
+      final AtomicInteger failures = new AtomicInteger(0);
+      final Thread[] threads = new Thread[4];
+      for (int i=0; i < threads.length; i++)
+      {
+        final int soTimeout = (i + 1) * 1_000;
+        threads[i] = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              for (int j=0; j < 1_000; j++)
+              {
+                internals.setSoTimeout(soTimeout);
+              }
+            }
+            catch (final Exception e)
+            {
+              failures.incrementAndGet();
+            }
+          }
+        };
+      }
+
+      for (final Thread t : threads)
+      {
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertEquals(failures.get(), 0);
+      assertEquals(internals.getCachedSoTimeout(), socket.getSoTimeout());
+
+      conn.compare("dc=example,dc=com", "dc", "example");
+      assertEquals(internals.getCachedSoTimeout(), socket.getSoTimeout());
+    }
+  }
+
+
+
+  /**
+   * Provides a simple benchmark that compares the average per-operation
+   * latency when every operation uses the same response timeout, so that the
+   * SO_TIMEOUT socket option does not need to be changed, with the latency when
+   * alternating operations use different timeouts, so that the socket option
+   * must be changed for every request, as was previously done regardless of
+   * the timeout.  The latencies are only reported, since they depend on the
+   * platform, but the number of times the socket option is changed is
+   * verified.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSoTimeoutLatencyBenchmark()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final CompareRequest[] requests =
+    {
+      new CompareRequest("dc=example,dc=com", "dc", "example"),
+      new CompareRequest("dc=example,dc=com", "dc", "example")
+    };
+
+    final int iterations = 5_000;
+    final CountingSocketFactory socketFactory = new CountingSocketFactory();
+    try (LDAPConnection conn = new LDAPConnection(socketFactory, "localhost",
+              ds.getListenPort()))
+    {
+      // Warm up the code paths so that the measurements are not skewed by
+      // class loading or interpretation.
+      requests[0].setResponseTimeoutMillis(10_000L);
+      requests[1].setResponseTimeoutMillis(20_000L);
+      runCompares(conn, requests, iterations);
+
+      requests[1].setResponseTimeoutMillis(10_000L);
+      runCompares(conn, requests, 1);
+      int startCalls = socketFactory.getSoTimeoutCalls();
+      final long unchangedNanos = runCompares(conn, requests, iterations);
+      assertEquals(socketFactory.getSoTimeoutCalls(), startCalls);
+
+      requests[1].setResponseTimeoutMillis(20_000L);
+      startCalls = socketFactory.getSoTimeoutCalls();
+      final long changedNanos = runCompares(conn, requests, iterations);
+      // The first request uses the timeout that is already in effect, but
+      // every subsequent request needs the socket option to be changed.
+      assertEquals(socketFactory.getSoTimeoutCalls() - startCalls,
+           (iterations - 1));
+
+      final String message = "Average latency with an unchanged SO_TIMEOUT:  " +
+           (unchangedNanos / iterations) + "ns" + StaticUtils.EOL +
+           "Average latency when changing SO_TIMEOUT for each operation:  " +
+           (changedNanos / iterations) + "ns";
+      assertTrue((unchangedNanos > 0L) && (changedNanos > 0L), message);
+    }
+  }
+
+
+
+  /**
+   * Processes the provided compare requests in alternating order.
+   *
+   * @param  conn        The connection to use to process the requests.
+   * @param  requests    The requests to process.
+   * @param  iterations  The total number of requests to process.
+   *
+   * @return  The total time in nanoseconds required to process the requests.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static long runCompares(final LDAPConnection conn,
+                                  final CompareRequest[] requests,
+                                  final int iterations)
+          throws Exception
+  {
+    final long startTime = System.nanoTime();
+    for (int i=0; i < iterations; i++)
+    {
+      assertTrue(conn.compare(requests[i % requests.length]).compareMatched());
+    }
+    return System.nanoTime() - startTime;
+  }
+
+
+
+  /**
+   * A socket factory that creates sockets that count the number of times the
+   * SO_TIMEOUT socket option is set.
+   */
+  private static final class CountingSocketFactory
+          extends SocketFactory
+  {
+    // The number of times the SO_TIMEOUT socket option has been set on sockets
+    // created by this factory.
+    private final AtomicInteger soTimeoutCalls = new AtomicInteger(0);
+
+
+
+    /**
+     * Retrieves the number of times the SO_TIMEOUT socket option has been set
+     * on sockets created by this factory.
+     *
+     * @return  The number of times the SO_TIMEOUT socket option has been set.
+     */
+    int getSoTimeoutCalls()
+    {
+      return soTimeoutCalls.get();
+    }
+
+
+
+    /**
+     * Creates a new unconnected socket.
+     *
+     * @return  The socket that was created.
+     */
+    @Override()
+    public Socket createSocket()
+    {
+      return new Socket()
+      {
+        @Override()
+        public void setSoTimeout(final int timeout)
+               throws SocketException
+        {
+          soTimeoutCalls.incrementAndGet();
+          super.setSoTimeout(timeout);
+        }
+      };
+    }
+
+
+
+    /**
+     * Creates a new socket connected to the specified server.
+     *
+     * @param  host  The address of the server.
+     * @param  port  The port of the server.
+     *
+     * @return  The socket that was created.
+     *
+     * @throws  IOException  If the socket cannot be created.
+     */
+    @Override()
+    public Socket createSocket(final String host, final int port)
+           throws IOException
+    {
+      throw new IOException("Not supported");
+    }
+
+
+
+    /**
+     * Creates a new socket connected to the specified server.
+     *
+     * @param  host       The address of the server.
+     * @param  port       The port of the server.
+     * @param  localHost  The local address to use.
+     * @param  localPort  The local port to use.
+     *
+     * @return  The socket that was created.
+     *
+     * @throws  IOException  If the socket cannot be created.
+     */
+    @Override()
+    public Socket createSocket(final String host, final int port,
+                               final InetAddress localHost,
+                               final int localPort)
+           throws IOException
+    {
+      throw new IOException("Not supported");
+    }
+
+
+
+    /**
+     * Creates a new socket connected to the specified server.
+     *
+     * @param  host  The address of the server.
+     * @param  port  The port of the server.
+     *
+     * @return  The socket that was created.
+     *
+     * @throws  IOException  If the socket cannot be created.
+     */
+    @Override()
+    public Socket createSocket(final InetAddress host, final int port)
+           throws IOException
+    {
+      throw new IOException("Not supported");
+    }
+
+
+
+    /**
+     * Creates a new socket connected to the specified server.
+     *
+     * @param  host          The address of the server.
+     * @param  port          The port of the server.
+     * @param  localAddress  The local address to use.
+     * @param  localPort     The local port to use.
+     *
+     * @return  The socket that was created.
+     *
+     * @throws  IOException  If the socket cannot be created.
+     */
+    @Override()
+    public Socket createSocket(final InetAddress host, final int port,
+                               final InetAddress localAddress,
+                               final int localPort)
+           throws IOException
+    {
+      throw new IOException("Not supported");
+    }
+  }
+}
@@ -0,0 +1,766 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.SocketFactory;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.util.ssl.KeyStoreKeyManager;
+import com.unboundid.util.ssl.SSLUtil;
+import com.unboundid.util.ssl.TrustAllTrustManager;
+
+
+
+/**
+ * This class provides a set of test cases for connections that use a shared
+ * NIO selector thread rather than a dedicated connection reader thread.
+ */
+public final class LDAPConnectionNIOHandlerTestCase
+       extends LDAPSDKTestCase
+{
+  // The in-memory directory server instance that will be used for testing.
+  private InMemoryDirectoryServer ds = null;
+
+
+
+  /**
+   * Sets up an in-memory directory server instance for testing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    final File resourceDir = new File(System.getProperty("unit.resource.dir"));
+    final File serverKeyStore = new File(resourceDir, "server.keystore");
+    final SSLUtil serverSSLUtil = new SSLUtil(
+         new KeyStoreKeyManager(serverKeyStore, "password".toCharArray(),
+              "JKS", "server-cert"),
+         new TrustAllTrustManager());
+
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addAdditionalBindCredentials("cn=Directory Manager", "password");
+    cfg.setListenerConfigs(
+         InMemoryListenerConfig.createLDAPConfig("LDAP", null, 0,
+              serverSSLUtil.createSSLSocketFactory()));
+
+    ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=0; i < 100; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password"));
+    }
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+         throws Exception
+  {
+    ds.shutDown(true);
+  }
+
+
+
+  /**
+   * Creates a set of connection options that will use NIO.
+   *
+   * @return  The connection options that were created.
+   */
+  private static LDAPConnectionOptions nioOptions()
+  {
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseNIO(true);
+    return options;
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a variety of synchronous operations
+   * over a connection that uses NIO.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSynchronousOperations()
+         throws Exception
+  {
+    final LDAPConnection conn = new LDAPConnection(nioOptions(), "localhost",
+         ds.getListenPort());
+    try
+    {
+      final LDAPConnectionInternals internals =
+           conn.getConnectionInternals(true);
+      assertTrue(internals.usingNIO());
+      assertFalse(internals.getConnectionReader().isAlive());
+
+      assertEquals(conn.bind("cn=Directory Manager", "password").
+           getResultCode(), ResultCode.SUCCESS);
+
+      assertNotNull(conn.getRootDSE());
+
+      conn.add(generateUserEntry("nio.user", "ou=People,dc=example,dc=com",
+           "NIO", "User", "password"));
+
+      assertEquals(
+           conn.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+                "(objectClass=person)").getEntryCount(),
+           101);
+
+      conn.modify("uid=nio.user,ou=People,dc=example,dc=com",
+           new Modification(ModificationType.REPLACE, "description", "foo"));
+      assertTrue(conn.compare("uid=nio.user,ou=People,dc=example,dc=com",
+           "description", "foo").compareMatched());
+
+      conn.delete("uid=nio.user,ou=People,dc=example,dc=com");
+      assertNull(conn.getEntry("uid=nio.user,ou=People,dc=example,dc=com"));
+
+      assertEquals(conn.getActiveOperationCount(), 0);
+      assertTrue(internals.usingNIO());
+    }
+    finally
+    {
+      conn.close();
+    }
+
+    assertFalse(conn.isConnected());
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a number of concurrent asynchronous
+   * searches over a single connection that uses NIO, with entries large enough
+   * that they will often span multiple reads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentAsynchronousSearches()
+         throws Exception
+  {
+    final char[] largeValueChars = new char[10_000];
+    Arrays.fill(largeValueChars, 'x');
+    final String largeValue = new String(largeValueChars);
+
+    final LDAPConnection conn = new LDAPConnection(nioOptions(), "localhost",
+         ds.getListenPort());
+    try
+    {
+      conn.bind("cn=Directory Manager", "password");
+      conn.add(generateOrgUnitEntry("Large", "dc=example,dc=com"));
+      for (int i=0; i < 50; i++)
+      {
+        final Entry e = generateUserEntry("large." + i,
+             "ou=Large,dc=example,dc=com", "Large", String.valueOf(i),
+             "password");
+        e.addAttribute("description", largeValue);
+        conn.add(e);
+      }
+
+      final List<AsyncRequestID> requestIDs = new ArrayList<>(10);
+      final List<TestAsyncSearchListener> listeners = new ArrayList<>(10);
+      for (int i=0; i < 10; i++)
+      {
+        final TestAsyncSearchListener listener =
+             new TestAsyncSearchListener(largeValue);
+        listeners.add(listener);
+        requestIDs.add(conn.asyncSearch(new SearchRequest(listener,
+             "ou=Large,dc=example,dc=com", SearchScope.ONE,
+             Filter.createPresenceFilter("uid"), "description")));
+      }
+
+      for (int i=0; i < 10; i++)
+      {
+        final LDAPResult result = requestIDs.get(i).get();
+        assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+        assertEquals(((SearchResult) result).getEntryCount(), 50);
+        assertEquals(listeners.get(i).matchingEntries.get(), 50);
+      }
+
+      conn.asyncSearch(new SearchRequest(listeners.get(0),
+           "ou=Large,dc=example,dc=com", SearchScope.SUB,
+           Filter.createPresenceFilter("objectClass"))).get();
+      for (int i=0; i < 50; i++)
+      {
+        conn.delete("uid=large." + i + ",ou=Large,dc=example,dc=com");
+      }
+      conn.delete("ou=Large,dc=example,dc=com");
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when a large number of connections use NIO at the same
+   * time.  They should all be served by the shared group of selector threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testManyConnections()
+         throws Exception
+  {
+    final int numConnections = 200;
+    final List<LDAPConnection> connections = new ArrayList<>(numConnections);
+    try
+    {
+      for (int i=0; i < numConnections; i++)
+      {
+        connections.add(new LDAPConnection(nioOptions(), "localhost",
+             ds.getListenPort()));
+      }
+
+      final List<AsyncRequestID> requestIDs = new ArrayList<>(numConnections);
+      for (final LDAPConnection conn : connections)
+      {
+        requestIDs.add(conn.asyncSearch(new SearchRequest(
+             new TestAsyncSearchListener("unused"),
+             "ou=People,dc=example,dc=com", SearchScope.ONE,
+             Filter.createEqualityFilter("uid", "user.1"))));
+      }
+
+      for (final AsyncRequestID requestID : requestIDs)
+      {
+        final SearchResult result = (SearchResult) requestID.get();
+        assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+        assertEquals(result.getEntryCount(), 1);
+      }
+
+      int numSelectorThreads = 0;
+      int numReaderThreads = 0;
+      for (final Thread t : Thread.getAllStackTraces().keySet())
+      {
+        if (t.getName().startsWith("LDAP SDK NIO Selector Thread "))
+        {
+          numSelectorThreads++;
+        }
+        else if (t.getName().startsWith("Connection reader for connection ") &&
+             (t.getName().indexOf("localhost:" + ds.getListenPort()) >= 0))
+        {
+          numReaderThreads++;
+        }
+      }
+
+      assertTrue(numSelectorThreads >= 1);
+      assertTrue(numSelectorThreads <=
+           LDAPConnectionNIOSelectorThread.NUM_SELECTOR_THREADS);
+      assertEquals(numReaderThreads, 0);
+    }
+    finally
+    {
+      for (final LDAPConnection conn : connections)
+      {
+        conn.close();
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a search result listener that blocks will not prevent
+   * responses from being delivered for other connections, even those served by
+   * the same selector thread, and that a listener may process a synchronous
+   * operation on another connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBlockingListener()
+         throws Exception
+  {
+    // Create one more connection than there are selector threads, so that at
+    // least one selector thread will serve a blocked connection as well as the
+    // connection that is used for the synchronous operations.
+    final int numBlockedConnections =
+         LDAPConnectionNIOSelectorThread.NUM_SELECTOR_THREADS;
+    final List<LDAPConnection> connections =
+         new ArrayList<>(numBlockedConnections + 1);
+    final CountDownLatch releaseLatch = new CountDownLatch(1);
+    try
+    {
+      for (int i=0; i <= numBlockedConnections; i++)
+      {
+        connections.add(new LDAPConnection(nioOptions(), "localhost",
+             ds.getListenPort()));
+      }
+
+      final LDAPConnection unblockedConnection =
+           connections.get(numBlockedConnections);
+      final List<AsyncRequestID> requestIDs =
+           new ArrayList<>(numBlockedConnections);
+      final List<BlockingSearchListener> listeners =
+           new ArrayList<>(numBlockedConnections);
+      for (int i=0; i < numBlockedConnections; i++)
+      {
+        final BlockingSearchListener listener =
+             new BlockingSearchListener(releaseLatch, unblockedConnection);
+        listeners.add(listener);
+        requestIDs.add(connections.get(i).asyncSearch(new SearchRequest(
+             listener, "ou=People,dc=example,dc=com", SearchScope.ONE,
+             Filter.createPresenceFilter("uid"))));
+      }
+
+      for (final BlockingSearchListener listener : listeners)
+      {
+        assertTrue(listener.blockedLatch.await(30L, TimeUnit.SECONDS));
+      }
+
+      for (int i=0; i < 10; i++)
+      {
+        assertEquals(
+             unblockedConnection.search("ou=People,dc=example,dc=com",
+                  SearchScope.ONE, "(uid=user.1)").getEntryCount(),
+             1);
+      }
+
+      releaseLatch.countDown();
+      for (int i=0; i < numBlockedConnections; i++)
+      {
+        final SearchResult result = (SearchResult) requestIDs.get(i).get();
+        assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+        assertEquals(result.getEntryCount(), 100);
+        assertFalse(listeners.get(i).timedOut.get());
+        assertEquals(listeners.get(i).nestedSearchEntryCount.get(), 1);
+      }
+    }
+    finally
+    {
+      releaseLatch.countDown();
+      for (final LDAPConnection conn : connections)
+      {
+        conn.close();
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the server closes a connection that uses NIO while
+   * an operation is in progress.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testServerClosesConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer closingDS = new InMemoryDirectoryServer(
+         new InMemoryDirectoryServerConfig("dc=example,dc=com"));
+    closingDS.startListening();
+
+    final LDAPConnection conn = new LDAPConnection(nioOptions(), "localhost",
+         closingDS.getListenPort());
+    try
+    {
+      assertNotNull(conn.getRootDSE());
+
+      closingDS.setProcessingDelayMillis(5_000L);
+      final AsyncRequestID requestID = conn.asyncSearch(new SearchRequest(
+           new TestAsyncSearchListener("unused"), "", SearchScope.BASE,
+           Filter.createPresenceFilter("objectClass")));
+
+      closingDS.shutDown(true);
+
+      final LDAPResult result = requestID.get();
+      assertEquals(result.getResultCode(), ResultCode.SERVER_DOWN);
+
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while (conn.isConnected() &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+
+      assertFalse(conn.isConnected());
+      assertNotNull(conn.getDisconnectType());
+    }
+    finally
+    {
+      conn.close();
+      closingDS.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when a connection that uses NIO is secured with
+   * StartTLS, which should cause it to switch to a dedicated reader thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStartTLS()
+         throws Exception
+  {
+    final LDAPConnection conn = new LDAPConnection(nioOptions(), "localhost",
+         ds.getListenPort());
+    try
+    {
+      final LDAPConnectionInternals originalInternals =
+           conn.getConnectionInternals(true);
+      assertTrue(originalInternals.usingNIO());
+      assertNotNull(conn.getRootDSE());
+
+      final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+      assertEquals(
+           conn.processExtendedOperation(new StartTLSExtendedRequest(
+                sslUtil.createSSLSocketFactory())).getResultCode(),
+           ResultCode.SUCCESS);
+
+      final LDAPConnectionInternals internals =
+           conn.getConnectionInternals(true);
+      assertFalse(internals.usingNIO());
+
+      assertEquals(conn.bind("cn=Directory Manager", "password").
+           getResultCode(), ResultCode.SUCCESS);
+      assertEquals(
+           conn.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+                "(uid=user.*)").getEntryCount(),
+           100);
+      assertTrue(internals.getConnectionReader().isAlive());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that NIO will not be used for connections operating in
+   * synchronous mode or that use a custom socket factory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNIONotUsed()
+         throws Exception
+  {
+    final LDAPConnectionOptions synchronousOptions = nioOptions();
+    synchronousOptions.setUseSynchronousMode(true);
+
+    LDAPConnection conn = new LDAPConnection(synchronousOptions, "localhost",
+         ds.getListenPort());
+    try
+    {
+      assertFalse(conn.getConnectionInternals(true).usingNIO());
+      assertNotNull(conn.getRootDSE());
+    }
+    finally
+    {
+      conn.close();
+    }
+
+    final SocketFactory socketFactory = new SocketFactory()
+    {
+      @Override()
+      public java.net.Socket createSocket()
+      {
+        return new java.net.Socket();
+      }
+
+      @Override()
+      public java.net.Socket createSocket(final String host, final int port)
+             throws java.io.IOException
+      {
+        return new java.net.Socket(host, port);
+      }
+
+      @Override()
+      public java.net.Socket createSocket(final String host, final int port,
+                                          final java.net.InetAddress localHost,
+                                          final int localPort)
+             throws java.io.IOException
+      {
+        return new java.net.Socket(host, port, localHost, localPort);
+      }
+
+      @Override()
+      public java.net.Socket createSocket(final java.net.InetAddress host,
+                                          final int port)
+             throws java.io.IOException
+      {
+        return new java.net.Socket(host, port);
+      }
+
+      @Override()
+      public java.net.Socket createSocket(final java.net.InetAddress address,
+                                          final int port,
+                                          final java.net.InetAddress localHost,
+                                          final int localPort)
+             throws java.io.IOException
+      {
+        return new java.net.Socket(address, port, localHost, localPort);
+      }
+    };
+
+    conn = new LDAPConnection(socketFactory, nioOptions(), "localhost",
+         ds.getListenPort());
+    try
+    {
+      assertFalse(conn.getConnectionInternals(true).usingNIO());
+      assertTrue(conn.getConnectionInternals(true).getConnectionReader().
+           isAlive());
+      assertNotNull(conn.getRootDSE());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * An asynchronous search result listener that counts the entries that have
+   * a description value matching a given string.
+   */
+  private static final class TestAsyncSearchListener
+          implements AsyncSearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 1L;
+
+
+
+    // The number of entries returned with the expected description value.
+    private final AtomicInteger matchingEntries;
+
+    // The description value to look for.
+    private final String description;
+
+
+
+    /**
+     * Creates a new listener that will look for the given description.
+     *
+     * @param  description  The description value to look for.
+     */
+    private TestAsyncSearchListener(final String description)
+    {
+      this.description = description;
+      matchingEntries = new AtomicInteger(0);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      if (searchEntry.hasAttributeValue("description", description))
+      {
+        matchingEntries.incrementAndGet();
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      // No implementation required.
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchResultReceived(final AsyncRequestID requestID,
+                                     final SearchResult searchResult)
+    {
+      // No implementation required.
+    }
+  }
+
+
+
+  /**
+   * This class provides a search result listener that will block when it
+   * receives the first entry until it is released, and will then process a
+   * synchronous search over another connection.
+   */
+  private static final class BlockingSearchListener
+          implements AsyncSearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 1L;
+
+
+
+    // Indicates whether the listener timed out while waiting to be released.
+    private final AtomicBoolean timedOut;
+
+    // The number of entries returned by the nested search.
+    private final AtomicInteger nestedSearchEntryCount;
+
+    // The latch that will be released once the listener has blocked.
+    private final CountDownLatch blockedLatch;
+
+    // The latch that will be released when the listener should stop blocking.
+    private final CountDownLatch releaseLatch;
+
+    // The connection to use for the nested search.
+    private final LDAPConnection nestedSearchConnection;
+
+
+
+    /**
+     * Creates a new listener with the provided information.
+     *
+     * @param  releaseLatch            The latch that will be released when the
+     *                                 listener should stop blocking.
+     * @param  nestedSearchConnection  The connection to use for the nested
+     *                                 search.
+     */
+    private BlockingSearchListener(final CountDownLatch releaseLatch,
+                 final LDAPConnection nestedSearchConnection)
+    {
+      this.releaseLatch = releaseLatch;
+      this.nestedSearchConnection = nestedSearchConnection;
+
+      timedOut = new AtomicBoolean(false);
+      nestedSearchEntryCount = new AtomicInteger(-1);
+      blockedLatch = new CountDownLatch(1);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      if (blockedLatch.getCount() == 0L)
+      {
+        return;
+      }
+
+      blockedLatch.countDown();
+      try
+      {
+        if (! releaseLatch.await(30L, TimeUnit.SECONDS))
+        {
+          timedOut.set(true);
+        }
+
+        nestedSearchEntryCount.set(nestedSearchConnection.search(
+             "ou=People,dc=example,dc=com", SearchScope.ONE,
+             "(uid=user.2)").getEntryCount());
+      }
+      catch (final Exception e)
+      {
+        throw new RuntimeException(e);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      // No implementation required.
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchResultReceived(final AsyncRequestID requestID,
+                                     final SearchResult searchResult)
+    {
+      // No implementation required.
+    }
+  }
+}
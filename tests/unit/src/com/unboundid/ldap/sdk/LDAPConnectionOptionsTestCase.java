@@ -112,6 +112,11 @@ public class LDAPConnectionOptionsTestCase
     assertTrue(opts.useReuseAddress());
     assertFalse(opts.useSynchronousMode());
     assertTrue(opts.useTCPNoDelay());
+    assertFalse(opts.useVirtualThreads());
+    assertFalse(opts.useNIO());
+    assertFalse(opts.coalesceWrites());
+    assertFalse(opts.useZeroCopySearchEntryDecoding());
+    assertFalse(opts.lazilyDecodeSearchEntryAttributes());
     assertEquals(opts.getConnectTimeoutMillis(), 10_000L);
     assertEquals(opts.getResponseTimeoutMillis(), 300_000L);
     assertFalse(opts.abandonOnTimeout());
@@ -211,6 +216,11 @@ public class LDAPConnectionOptionsTestCase
     opts.setReceiveBufferSize(1234);
     opts.setSendBufferSize(1234);
     opts.setUseSynchronousMode(true);
+    opts.setUseVirtualThreads(true);
+    opts.setUseNIO(true);
+    opts.setCoalesceWrites(true);
+    opts.setUseZeroCopySearchEntryDecoding(true);
+    opts.setLazilyDecodeSearchEntryAttributes(true);
     opts.setUseSchema(true);
     opts.setAllowConcurrentSocketFactoryUse(false);
     opts.setSSLSocketVerifier(new HostNameSSLSocketVerifier(true));
@@ -242,6 +252,13 @@ public class LDAPConnectionOptionsTestCase
     assertEquals(dup.getReceiveBufferSize(), 1234);
     assertEquals(dup.getSendBufferSize(), 1234);
     assertEquals(dup.useSynchronousMode(), opts.useSynchronousMode());
+    assertEquals(dup.useVirtualThreads(), opts.useVirtualThreads());
+    assertEquals(dup.useNIO(), opts.useNIO());
+    assertEquals(dup.coalesceWrites(), opts.coalesceWrites());
+    assertEquals(dup.useZeroCopySearchEntryDecoding(),
+         opts.useZeroCopySearchEntryDecoding());
+    assertEquals(dup.lazilyDecodeSearchEntryAttributes(),
+         opts.lazilyDecodeSearchEntryAttributes());
     assertEquals(dup.useSchema(), opts.useSchema());
     assertEquals(dup.usePooledSchema(), opts.usePooledSchema());
     assertEquals(dup.allowConcurrentSocketFactoryUse(),
@@ -910,6 +927,30 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests metrics registry functionality.
+   */
+  @Test()
+  public void testMetricsRegistry()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertNull(opts.getMetricsRegistry());
+    assertNotNull(opts.toString());
+
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    opts.setMetricsRegistry(registry);
+    assertSame(opts.getMetricsRegistry(), registry);
+    assertSame(opts.duplicate().getMetricsRegistry(), registry);
+    assertNotNull(opts.toString());
+
+    opts.setMetricsRegistry(null);
+    assertNull(opts.getMetricsRegistry());
+    assertNotNull(opts.toString());
+  }
+
+
+
   /**
    * Tests disconnect handler functionality.
    */
@@ -1016,6 +1057,125 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests the ability to get and set the flag that controls whether to use
+   * virtual threads for reading responses from the server.
+   */
+  @Test()
+  public void testUseVirtualThreads()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useVirtualThreads());
+    assertTrue(opts.toString().contains("useVirtualThreads=false"));
+
+    opts.setUseVirtualThreads(true);
+    assertTrue(opts.useVirtualThreads());
+    assertTrue(opts.toString().contains("useVirtualThreads=true"));
+
+    opts.setUseVirtualThreads(false);
+    assertFalse(opts.useVirtualThreads());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to use
+   * shared NIO selector threads for reading responses from the server.
+   */
+  @Test()
+  public void testUseNIO()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useNIO());
+    assertTrue(opts.toString().contains("useNIO=false"));
+
+    opts.setUseNIO(true);
+    assertTrue(opts.useNIO());
+    assertTrue(opts.toString().contains("useNIO=true"));
+
+    opts.setUseNIO(false);
+    assertFalse(opts.useNIO());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to
+   * coalesce writes for requests sent concurrently over the same connection.
+   */
+  @Test()
+  public void testCoalesceWrites()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.coalesceWrites());
+    assertTrue(opts.toString().contains("coalesceWrites=false"));
+
+    opts.setCoalesceWrites(true);
+    assertTrue(opts.coalesceWrites());
+    assertTrue(opts.toString().contains("coalesceWrites=true"));
+
+    opts.setCoalesceWrites(false);
+    assertFalse(opts.coalesceWrites());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to use
+   * zero-copy decoding for search result entries.
+   */
+  @Test()
+  public void testUseZeroCopySearchEntryDecoding()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useZeroCopySearchEntryDecoding());
+    assertTrue(opts.toString().contains(
+         "useZeroCopySearchEntryDecoding=false"));
+
+    opts.setUseZeroCopySearchEntryDecoding(true);
+    assertTrue(opts.useZeroCopySearchEntryDecoding());
+    assertTrue(opts.toString().contains(
+         "useZeroCopySearchEntryDecoding=true"));
+
+    opts.setUseZeroCopySearchEntryDecoding(false);
+    assertFalse(opts.useZeroCopySearchEntryDecoding());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to defer
+   * decoding the values of attributes in search result entries.
+   */
+  @Test()
+  public void testLazilyDecodeSearchEntryAttributes()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.lazilyDecodeSearchEntryAttributes());
+    assertTrue(opts.toString().contains(
+         "lazilyDecodeSearchEntryAttributes=false"));
+
+    opts.setLazilyDecodeSearchEntryAttributes(true);
+    assertTrue(opts.lazilyDecodeSearchEntryAttributes());
+    assertTrue(opts.toString().contains(
+         "lazilyDecodeSearchEntryAttributes=true"));
+
+    opts.setLazilyDecodeSearchEntryAttributes(false);
+    assertFalse(opts.lazilyDecodeSearchEntryAttributes());
+    assertNotNull(opts.toString());
+  }
+
+
+
   /**
    * Tests the ability to get and set the flag that controls whether to use
    * schema information when reading data from the server.
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * LDAPConnectionPoolAvailableConnections class.
+ */
+public final class LDAPConnectionPoolAvailableConnectionsTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior when used by a single thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSingleThread()
+         throws Exception
+  {
+    final LDAPConnectionPoolAvailableConnections available =
+         new LDAPConnectionPoolAvailableConnections(3);
+    assertEquals(available.size(), 0);
+    assertEquals(available.remainingCapacity(), 3);
+    assertNull(available.poll());
+    assertNull(available.poll(10L, TimeUnit.MILLISECONDS));
+    assertFalse(available.iterator().hasNext());
+
+    final LDAPConnection c1 = new LDAPConnection();
+    final LDAPConnection c2 = new LDAPConnection();
+    final LDAPConnection c3 = new LDAPConnection();
+    final LDAPConnection c4 = new LDAPConnection();
+
+    assertTrue(available.addAll(Arrays.asList(c1, c2)));
+    assertTrue(available.offer(c3));
+    assertFalse(available.offer(c4));
+    assertEquals(available.size(), 3);
+    assertEquals(available.remainingCapacity(), 0);
+
+    final Set<LDAPConnection> iteratedConnections = new HashSet<>(3);
+    for (final LDAPConnection c : available)
+    {
+      iteratedConnections.add(c);
+    }
+    assertEquals(iteratedConnections.size(), 3);
+    assertTrue(iteratedConnections.containsAll(Arrays.asList(c1, c2, c3)));
+    assertEquals(available.size(), 3);
+
+    // A single thread should get connections back in the order in which it
+    // released them.
+    assertSame(available.poll(), c1);
+    assertSame(available.poll(10L, TimeUnit.MILLISECONDS), c2);
+    assertEquals(available.size(), 1);
+    assertEquals(available.remainingCapacity(), 2);
+
+    assertTrue(available.offer(c1));
+    assertSame(available.poll(), c3);
+    assertSame(available.poll(), c1);
+    assertNull(available.poll());
+
+    assertTrue(available.addAll(Arrays.asList(c1, c2, c3, c4)));
+    final List<LDAPConnection> drained = new ArrayList<>(3);
+    assertEquals(available.drainTo(drained), 3);
+    assertEquals(drained, Arrays.asList(c1, c2, c3));
+    assertEquals(available.size(), 0);
+    assertEquals(available.remainingCapacity(), 3);
+  }
+
+
+
+  /**
+   * Tests to ensure that a thread waiting for a connection will get one that
+   * is released by another thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWaitForConnection()
+         throws Exception
+  {
+    final LDAPConnectionPoolAvailableConnections available =
+         new LDAPConnectionPoolAvailableConnections(1);
+    final LDAPConnection conn = new LDAPConnection();
+
+    final CountDownLatch waitingLatch = new CountDownLatch(1);
+    final AtomicReference<LDAPConnection> connRef = new AtomicReference<>();
+    final Thread t = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          waitingLatch.countDown();
+          connRef.set(available.poll(30L, TimeUnit.SECONDS));
+        }
+        catch (final InterruptedException e)
+        {
+          // This should not happen.
+        }
+      }
+    };
+    t.start();
+
+    waitingLatch.await();
+    assertTrue(available.offer(conn));
+    t.join(30_000L);
+    assertSame(connRef.get(), conn);
+    assertEquals(available.size(), 0);
+  }
+
+
+
+  /**
+   * Tests to ensure that connections are neither lost nor duplicated when many
+   * threads concurrently check out and release them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentCheckoutAndRelease()
+         throws Exception
+  {
+    final int numConnections = 8;
+    final LDAPConnectionPoolAvailableConnections available =
+         new LDAPConnectionPoolAvailableConnections(numConnections);
+    final List<LDAPConnection> connections = new ArrayList<>(numConnections);
+    for (int i=0; i < numConnections; i++)
+    {
+      final LDAPConnection c = new LDAPConnection();
+      connections.add(c);
+      assertTrue(available.offer(c));
+    }
+
+    final ConcurrentHashMap<LDAPConnection,Boolean> checkedOut =
+         new ConcurrentHashMap<>(numConnections);
+    final AtomicReference<String> failure = new AtomicReference<>();
+    final List<Thread> threads = new ArrayList<>(16);
+    for (int i=0; i < 16; i++)
+    {
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            for (int j=0; j < 10_000; j++)
+            {
+              final LDAPConnection c = available.poll(30L, TimeUnit.SECONDS);
+              if (c == null)
+              {
+                failure.set("Timed out waiting for a connection");
+                return;
+              }
+
+              if (checkedOut.putIfAbsent(c, Boolean.TRUE) != null)
+              {
+                failure.set("A connection was checked out twice");
+                return;
+              }
+
+              checkedOut.remove(c);
+              if (! available.offer(c))
+              {
+                failure.set("Unable to release a connection");
+                return;
+              }
+            }
+          }
+          catch (final InterruptedException e)
+          {
+            failure.set(String.valueOf(e));
+          }
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertNull(failure.get());
+    assertEquals(available.size(), numConnections);
+
+    final List<LDAPConnection> drained = new ArrayList<>(numConnections);
+    assertEquals(available.drainTo(drained), numConnections);
+    assertEquals(new HashSet<>(drained).size(), numConnections);
+    assertTrue(drained.containsAll(connections));
+  }
+
+
+
+  /**
+   * Tests the behavior when a routing policy is configured, so that
+   * connections are held in per-server sub-pools, including when many threads
+   * concurrently check out and release connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRoutingPolicy()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds1 = getTestDS();
+    final InMemoryDirectoryServer ds2 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+
+    final int numConnections = 8;
+    final List<LDAPConnection> connections = new ArrayList<>(numConnections);
+    try
+    {
+      final LDAPConnectionPoolAvailableConnections available =
+           new LDAPConnectionPoolAvailableConnections(numConnections);
+      assertNull(available.getRoutingPolicy());
+      assertTrue(available.getServers().isEmpty());
+
+      // Add half of the connections before setting the routing policy, so
+      // that they will be held in the stripes.
+      for (int i=0; i < numConnections; i++)
+      {
+        final InMemoryDirectoryServer ds = ((i % 2) == 0) ? ds1 : ds2;
+        final LDAPConnection c = ds.getConnection();
+        connections.add(c);
+
+        if (i == (numConnections / 2))
+        {
+          available.setRoutingPolicy(
+               new LeastOutstandingOperationsRoutingPolicy());
+        }
+
+        assertTrue(available.offer(c));
+      }
+
+      assertNotNull(available.getRoutingPolicy());
+      assertEquals(available.size(), numConnections);
+      assertEquals(available.getServers().size(), 2);
+
+      final Set<LDAPConnection> iteratedConnections = new HashSet<>(8);
+      for (final LDAPConnection c : available)
+      {
+        iteratedConnections.add(c);
+      }
+      assertEquals(iteratedConnections.size(), numConnections);
+
+
+      // Make sure that connections can be retrieved for a specific server.
+      final String ds2Address = connections.get(1).getConnectedAddress();
+      final LDAPConnection c2 =
+           available.poll(ds2Address, ds2.getListenPort());
+      assertNotNull(c2);
+      assertEquals(c2.getConnectedPort(), ds2.getListenPort());
+      assertNull(available.poll(ds2Address, 1));
+      assertTrue(available.offer(c2));
+
+
+      // Make sure that connections are neither lost nor duplicated under
+      // concurrent access.
+      final ConcurrentHashMap<LDAPConnection,Boolean> checkedOut =
+           new ConcurrentHashMap<>(numConnections);
+      final AtomicReference<String> failure = new AtomicReference<>();
+      final List<Thread> threads = new ArrayList<>(16);
+      for (int i=0; i < 16; i++)
+      {
+        final Thread t = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              for (int j=0; j < 2_000; j++)
+              {
+                final LDAPConnection c =
+                     available.poll(30L, TimeUnit.SECONDS);
+                if (c == null)
+                {
+                  failure.set("Timed out waiting for a connection");
+                  return;
+                }
+
+                if (checkedOut.putIfAbsent(c, Boolean.TRUE) != null)
+                {
+                  failure.set("A connection was checked out twice");
+                  return;
+                }
+
+                checkedOut.remove(c);
+                if (! available.offer(c))
+                {
+                  failure.set("Unable to release a connection");
+                  return;
+                }
+              }
+            }
+            catch (final InterruptedException e)
+            {
+              failure.set(String.valueOf(e));
+            }
+          }
+        };
+        threads.add(t);
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertNull(failure.get());
+      assertEquals(available.size(), numConnections);
+
+      for (final LDAPConnectionPoolServer server : available.getServers())
+      {
+        assertEquals(server.getNumOutstandingOperations(), 0);
+      }
+
+      final List<LDAPConnection> drained = new ArrayList<>(numConnections);
+      assertEquals(available.drainTo(drained), numConnections);
+      assertEquals(new HashSet<>(drained).size(), numConnections);
+      assertTrue(drained.containsAll(connections));
+    }
+    finally
+    {
+      for (final LDAPConnection c : connections)
+      {
+        c.close();
+      }
+
+      ds2.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when pruning per-server sub-pools that no longer have
+   * any connections, including when connections are concurrently checked out
+   * and released.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPruneServers()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds1 = getTestDS();
+    final InMemoryDirectoryServer ds2 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+
+    final List<LDAPConnection> connections = new ArrayList<>(3);
+    try
+    {
+      final LDAPConnectionPoolAvailableConnections available =
+           new LDAPConnectionPoolAvailableConnections(2);
+      available.setRoutingPolicy(new LeastOutstandingOperationsRoutingPolicy());
+
+      final LDAPConnection c1 = ds1.getConnection();
+      connections.add(c1);
+      assertTrue(available.offer(c1));
+
+      final LDAPConnection c2 = ds2.getConnection();
+      connections.add(c2);
+      assertTrue(available.offer(c2));
+
+      assertEquals(available.getServers().size(), 2);
+      assertEquals(available.pruneServers(), 0);
+
+
+      // A sub-pool whose only connection is checked out should not be pruned.
+      final String ds2Address = c2.getConnectedAddress();
+      assertSame(available.poll(ds2Address, ds2.getListenPort()), c2);
+      assertEquals(available.pruneServers(), 0);
+      assertEquals(available.getServers().size(), 2);
+
+
+      // Once that connection has been closed, the sub-pool should be pruned.
+      c2.close();
+      assertEquals(available.pruneServers(), 1);
+      assertEquals(available.getServers().size(), 1);
+      assertEquals(available.getServers().get(0).getPort(),
+           ds1.getListenPort());
+      assertNull(available.poll(ds2Address, ds2.getListenPort()));
+
+
+      // A new sub-pool should be created if a connection to that server is
+      // added later.
+      final LDAPConnection newC2 = ds2.getConnection();
+      connections.add(newC2);
+      assertTrue(available.offer(newC2));
+      assertEquals(available.getServers().size(), 2);
+      assertEquals(available.size(), 2);
+
+
+      // Make sure that no connections are lost when sub-pools are pruned while
+      // connections are being checked out and released.
+      final AtomicReference<String> failure = new AtomicReference<>();
+      final CountDownLatch doneLatch = new CountDownLatch(4);
+      final List<Thread> threads = new ArrayList<>(5);
+      for (int i=0; i < 4; i++)
+      {
+        final Thread t = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              for (int j=0; j < 2_000; j++)
+              {
+                final LDAPConnection c =
+                     available.poll(30L, TimeUnit.SECONDS);
+                if (c == null)
+                {
+                  failure.set("Timed out waiting for a connection");
+                  return;
+                }
+
+                if (! available.offer(c))
+                {
+                  failure.set("Unable to release a connection");
+                  return;
+                }
+              }
+            }
+            catch (final InterruptedException e)
+            {
+              failure.set(String.valueOf(e));
+            }
+            finally
+            {
+              doneLatch.countDown();
+            }
+          }
+        };
+        threads.add(t);
+      }
+
+      threads.add(new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          while (doneLatch.getCount() > 0L)
+          {
+            available.pruneServers();
+          }
+        }
+      });
+
+      for (final Thread t : threads)
+      {
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertNull(failure.get());
+      assertEquals(available.size(), 2);
+
+      final List<LDAPConnection> drained = new ArrayList<>(2);
+      assertEquals(available.drainTo(drained), 2);
+      assertTrue(drained.contains(c1));
+      assertTrue(drained.contains(newC2));
+    }
+    finally
+    {
+      for (final LDAPConnection c : connections)
+      {
+        c.close();
+      }
+
+      ds2.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the list of candidate servers provided to a routing
+   * policy cannot be altered by that policy.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRoutingPolicyCannotAlterCandidates()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+
+    final AtomicReference<String> failure = new AtomicReference<>();
+    final LDAPConnectionPoolRoutingPolicy policy =
+         new LDAPConnectionPoolRoutingPolicy()
+         {
+           @Override()
+           public int selectServer(final List<LDAPConnectionPoolServer> servers)
+           {
+             try
+             {
+               servers.clear();
+               failure.set("The candidate list could be altered");
+             }
+             catch (final UnsupportedOperationException e)
+             {
+               // This was expected.
+             }
+
+             return 0;
+           }
+
+           @Override()
+           public void toString(final StringBuilder buffer)
+           {
+             buffer.append("TestRoutingPolicy()");
+           }
+         };
+
+    try (LDAPConnection c = ds.getConnection())
+    {
+      final LDAPConnectionPoolAvailableConnections available =
+           new LDAPConnectionPoolAvailableConnections(1);
+      available.setRoutingPolicy(policy);
+      assertTrue(available.offer(c));
+
+      for (int i=0; i < 3; i++)
+      {
+        assertSame(available.poll(), c);
+        assertNull(failure.get());
+        assertTrue(available.offer(c));
+      }
+    }
+  }
+}
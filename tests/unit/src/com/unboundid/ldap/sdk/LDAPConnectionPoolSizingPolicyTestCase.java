@@ -0,0 +1,226 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the connection pool sizing
+ * policy.
+ */
+public final class LDAPConnectionPoolSizingPolicyTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a policy created with default settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultSettings()
+         throws Exception
+  {
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(3);
+
+    assertEquals(policy.getMinAvailableConnections(), 3);
+    assertEquals(policy.getMaxParallelConnects(),
+         LDAPConnectionPoolSizingPolicy.DEFAULT_MAX_PARALLEL_CONNECTS);
+    assertEquals(policy.getIntervalMillis(),
+         LDAPConnectionPoolSizingPolicy.DEFAULT_INTERVAL_MILLIS);
+    assertEquals(policy.getMaxCheckoutWaitMillis(),
+         LDAPConnectionPoolSizingPolicy.DEFAULT_MAX_CHECKOUT_WAIT_MILLIS);
+    assertEquals(policy.getIdleIntervalsBeforeRetire(),
+         LDAPConnectionPoolSizingPolicy.DEFAULT_IDLE_INTERVALS_BEFORE_RETIRE);
+
+    assertNotNull(policy.toString());
+    assertTrue(policy.toString().contains("minAvailableConnections=3"));
+  }
+
+
+
+  /**
+   * Tests the behavior of a policy created with non-default settings,
+   * including values that will be normalized.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNonDefaultSettings()
+         throws Exception
+  {
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(0, 8, 250L, -1L, -5);
+
+    assertEquals(policy.getMinAvailableConnections(), 0);
+    assertEquals(policy.getMaxParallelConnects(), 8);
+    assertEquals(policy.getIntervalMillis(), 250L);
+    assertEquals(policy.getMaxCheckoutWaitMillis(), 0L);
+    assertEquals(policy.getIdleIntervalsBeforeRetire(), 0);
+  }
+
+
+
+  /**
+   * Tests that invalid settings will be rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testNegativeMinimum()
+         throws Exception
+  {
+    new LDAPConnectionPoolSizingPolicy(-1);
+  }
+
+
+
+  /**
+   * Tests that invalid settings will be rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMaxParallelConnects()
+         throws Exception
+  {
+    new LDAPConnectionPoolSizingPolicy(1, 0, 1_000L, 10L, 30);
+  }
+
+
+
+  /**
+   * Tests that invalid settings will be rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidInterval()
+         throws Exception
+  {
+    new LDAPConnectionPoolSizingPolicy(1, 4, 0L, 10L, 30);
+  }
+
+
+
+  /**
+   * Tests the adjustments made when the pool is under pressure.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGrowUnderPressure()
+         throws Exception
+  {
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(5, 4, 1_000L, 10L, 3);
+
+    // Below the minimum, so grow to reach it.
+    assertEquals(policy.getAdjustment(2, 8, 0L, 0L, 0L, -1.0d, 0), 3);
+
+    // Growth is capped by the remaining capacity.
+    assertEquals(policy.getAdjustment(2, 1, 0L, 0L, 0L, -1.0d, 0), 1);
+    assertEquals(policy.getAdjustment(2, 0, 0L, 0L, 0L, -1.0d, 0), 0);
+
+    // Delayed checkouts cause growth by at least that many connections.
+    assertEquals(policy.getAdjustment(6, 10, 20L, 7L, 0L, 20.0d, 0), 7);
+
+    // A slow 99th percentile wait time causes growth by one connection.
+    assertEquals(
+         policy.getAdjustment(6, 10, 20L, 0L, 50_000_000L, 20.0d, 0), 1);
+    assertEquals(
+         policy.getAdjustment(6, 10, 20L, 0L, 5_000_000L, 20.0d, 0), 0);
+  }
+
+
+
+  /**
+   * Tests the adjustments made when demand is increasing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPredictiveGrowth()
+         throws Exception
+  {
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(0, 4, 1_000L, 0L, 0);
+
+    // No average yet, so no predictive growth.
+    assertEquals(policy.getAdjustment(1, 10, 100L, 0L, 0L, -1.0d, 0), 0);
+
+    // Checkouts doubled relative to the average, so expect 10 more than
+    // before and open enough to cover that beyond what is available.
+    assertEquals(policy.getAdjustment(4, 10, 20L, 0L, 0L, 10.0d, 0), 6);
+    assertEquals(policy.getAdjustment(4, 3, 20L, 0L, 0L, 10.0d, 0), 3);
+
+    // Already enough available connections to absorb the increase.
+    assertEquals(policy.getAdjustment(12, 10, 20L, 0L, 0L, 10.0d, 0), 0);
+
+    // A modest increase does not trigger growth.
+    assertEquals(policy.getAdjustment(1, 10, 14L, 0L, 0L, 10.0d, 0), 0);
+  }
+
+
+
+  /**
+   * Tests the adjustments made when the pool is idle.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRetireWhenIdle()
+         throws Exception
+  {
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(2, 4, 1_000L, 10L, 3);
+
+    assertEquals(policy.getAdjustment(5, 5, 1L, 0L, 0L, 1.0d, 2), 0);
+    assertEquals(policy.getAdjustment(5, 5, 1L, 0L, 0L, 1.0d, 3), -1);
+    assertEquals(policy.getAdjustment(3, 7, 1L, 0L, 0L, 1.0d, 10), -1);
+    assertEquals(policy.getAdjustment(2, 8, 1L, 0L, 0L, 1.0d, 10), 0);
+
+    final LDAPConnectionPoolSizingPolicy neverRetire =
+         new LDAPConnectionPoolSizingPolicy(2, 4, 1_000L, 10L, 0);
+    assertEquals(neverRetire.getAdjustment(5, 5, 1L, 0L, 0L, 1.0d, 100), 0);
+  }
+}
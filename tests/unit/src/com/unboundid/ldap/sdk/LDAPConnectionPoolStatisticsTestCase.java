@@ -37,10 +37,16 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LatencyHistogram;
+
 
 
 /**
@@ -291,4 +297,62 @@ public class LDAPConnectionPoolStatisticsTestCase
 
     assertNotNull(stats.toString());
   }
+
+
+
+  /**
+   * Tests to ensure that the checkout wait time and connection creation time
+   * histograms are properly maintained.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLatencyHistograms()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 2, 4);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+
+    final LatencyHistogram creationTimes =
+         stats.getConnectionCreationTimeHistogram();
+    assertEquals(creationTimes.getCount(), 2L);
+    assertTrue(creationTimes.getMin() > 0L);
+
+    final LatencyHistogram waitTimes = stats.getCheckoutWaitTimeHistogram();
+    assertEquals(waitTimes.getCount(), 0L);
+
+    final List<LDAPConnection> connections = new ArrayList<>();
+    for (int i=0; i < 3; i++)
+    {
+      connections.add(pool.getConnection());
+    }
+
+    assertEquals(waitTimes.getCount(), 3L);
+    assertEquals(waitTimes.getCount(), stats.getNumSuccessfulCheckouts());
+    assertEquals(creationTimes.getCount(), 3L);
+    assertTrue(waitTimes.getValueAtPercentile(100.0d) >=
+         waitTimes.getValueAtPercentile(50.0d));
+
+    final LatencyHistogram interval = waitTimes.getIntervalSnapshot();
+    assertEquals(interval.getCount(), 3L);
+
+    for (final LDAPConnection c : connections)
+    {
+      pool.releaseConnection(c);
+    }
+
+    pool.getRootDSE();
+    assertEquals(waitTimes.getCount(), 4L);
+    assertEquals(waitTimes.getIntervalSnapshot().getCount(), 1L);
+
+    stats.reset();
+    assertEquals(waitTimes.getCount(), 0L);
+    assertEquals(creationTimes.getCount(), 0L);
+
+    pool.close();
+  }
 }
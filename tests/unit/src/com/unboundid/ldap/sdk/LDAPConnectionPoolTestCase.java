@@ -40,6 +40,7 @@ package com.unboundid.ldap.sdk;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -3091,6 +3092,120 @@ public class LDAPConnectionPoolTestCase
 
 
 
+  /**
+   * Tests the behavior of a pool with a sizing policy that should cause it to
+   * proactively open connections up to the minimum and then retire connections
+   * in excess of the minimum once the pool is idle.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSizingPolicy()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+
+    final SingleServerSet serverSet =
+         new SingleServerSet("localhost", ds.getListenPort());
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(serverSet, null, 1, 10);
+    assertNull(pool.getSizingPolicy());
+    assertEquals(pool.getCurrentAvailableConnections(), 1);
+    assertEquals(pool.getRemainingAvailableCapacity(), 9);
+
+    final LDAPConnectionPoolSizingPolicy policy =
+         new LDAPConnectionPoolSizingPolicy(4, 4, 10L, 10L, 2);
+    pool.setSizingPolicy(policy);
+    assertNotNull(pool.getSizingPolicy());
+    assertEquals(pool.getSizingPolicy(), policy);
+    assertTrue(pool.toString().contains("sizingPolicy="));
+
+    long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+    while ((pool.getCurrentAvailableConnections() < 4) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(10L);
+    }
+    assertTrue(pool.getCurrentAvailableConnections() >= 4);
+
+    final LDAPConnection conn = pool.getConnection();
+    assertNotNull(conn.getRootDSE());
+    pool.releaseConnection(conn);
+
+    assertTrue(pool.growAvailableConnections(3, 3) > 0);
+
+    stopWaitingTime = System.currentTimeMillis() + 10_000L;
+    while ((pool.getCurrentAvailableConnections() > 4) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(10L);
+    }
+    assertEquals(pool.getCurrentAvailableConnections(), 4);
+
+    pool.setSizingPolicy(null);
+    assertNull(pool.getSizingPolicy());
+    assertFalse(pool.toString().contains("sizingPolicy="));
+
+    assertEquals(pool.retireAvailableConnections(2), 2);
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+    assertEquals(pool.growAvailableConnections(9, 4), 8);
+    assertEquals(pool.getCurrentAvailableConnections(), 10);
+    assertEquals(pool.growAvailableConnections(1, 1), 0);
+    assertEquals(pool.retireAvailableConnections(20), 10);
+
+    pool.setSizingPolicy(policy);
+    pool.close();
+    assertEquals(pool.growAvailableConnections(1, 1), 0);
+
+    pool.setSizingPolicy(policy);
+    assertNull(pool.getSizingPolicy());
+  }
+
+
+
+  /**
+   * Tests that a pool with a sizing policy will open additional connections
+   * after checkouts have had to create new connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSizingPolicyGrowsAfterDelayedCheckouts()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+
+    final SingleServerSet serverSet =
+         new SingleServerSet("localhost", ds.getListenPort());
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(serverSet, null, 1, 10);
+    pool.setCreateIfNecessary(true);
+    pool.setSizingPolicy(new LDAPConnectionPoolSizingPolicy(0, 2, 10L, 0L, 0));
+
+    final List<LDAPConnection> conns = new ArrayList<>(3);
+    for (int i=0; i < 3; i++)
+    {
+      conns.add(pool.getConnection());
+    }
+
+    for (final LDAPConnection c : conns)
+    {
+      pool.releaseConnection(c);
+    }
+
+    final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+    while ((pool.getCurrentAvailableConnections() < 5) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(10L);
+    }
+    assertTrue(pool.getCurrentAvailableConnections() >= 5);
+
+    pool.close();
+  }
+
+
+
   /**
    * Tests the behavior of the connection pool when using a health check that
    * may throw an exception in the
@@ -3277,4 +3392,528 @@ public class LDAPConnectionPoolTestCase
     pool.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the methods used to process asynchronous operations using
+   * connections from the pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPoolAsyncOperationMethods()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    final LDAPConnectionPool pool =
+         ds.getConnectionPool(null, null, 2, 2);
+
+    try
+    {
+      final TestAsyncListener listener = new TestAsyncListener();
+      final CountingCompletionListener completionListener =
+           new CountingCompletionListener();
+
+      AsyncRequestID requestID = pool.asyncAdd(
+           new AddRequest(
+                "dn: ou=People,dc=example,dc=com",
+                "objectClass: top",
+                "objectClass: organizationalUnit",
+                "ou: People"),
+           listener);
+      requestID.addCompletionListener(completionListener);
+      assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+
+      requestID = pool.asyncCompare(
+           new CompareRequest("ou=People,dc=example,dc=com", "ou", "People"),
+           listener);
+      requestID.addCompletionListener(completionListener);
+      assertTrue(((CompareResult) requestID.get()).compareMatched());
+
+      requestID = pool.asyncModify(
+           new ModifyRequest(
+                "dn: ou=People,dc=example,dc=com",
+                "changetype: modify",
+                "replace: description",
+                "description: foo"),
+           null);
+      requestID.addCompletionListener(completionListener);
+      assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+
+      requestID = pool.asyncModifyDN(
+           new ModifyDNRequest("ou=People,dc=example,dc=com", "ou=Users",
+                true),
+           listener);
+      requestID.addCompletionListener(completionListener);
+      assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+
+      requestID = pool.asyncSearch(new SearchRequest(listener,
+           "dc=example,dc=com", SearchScope.SUB, "(ou=Users)"));
+      requestID.addCompletionListener(completionListener);
+      final SearchResult searchResult = (SearchResult) requestID.get();
+      assertEquals(searchResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(searchResult.getEntryCount(), 1);
+
+      requestID = pool.asyncDelete(
+           new DeleteRequest("ou=Users,dc=example,dc=com"), listener);
+      requestID.addCompletionListener(completionListener);
+      assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+
+      requestID = pool.asyncDelete(
+           new DeleteRequest("ou=Users,dc=example,dc=com"), null);
+      requestID.addCompletionListener(completionListener);
+      assertEquals(requestID.get().getResultCode(), ResultCode.NO_SUCH_OBJECT);
+
+      completionListener.waitForCompletions(7);
+      waitForAvailableConnections(pool, 2);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+           0L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the ability to use the pool to issue a large number of concurrent
+   * asynchronous operations from a single thread, using completion listeners
+   * to be notified as they complete.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsyncFanOut()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         ds.getConnectionPool(null, null, 5, 5);
+
+    try
+    {
+      final int numSearches = 200;
+      final CountingCompletionListener completionListener =
+           new CountingCompletionListener();
+      final TestAsyncListener searchListener = new TestAsyncListener();
+      for (int i=0; i < numSearches; i++)
+      {
+        final AsyncRequestID requestID = pool.asyncSearch(
+             new SearchRequest(searchListener,
+                  "uid=test.user,ou=People,dc=example,dc=com",
+                  SearchScope.BASE, "(objectClass=*)"));
+        requestID.addCompletionListener(completionListener);
+      }
+
+      completionListener.waitForCompletions(numSearches);
+      assertEquals(completionListener.getSuccessCount(), numSearches);
+      assertEquals(searchListener.getSearchEntries(), numSearches);
+      waitForAvailableConnections(pool, 5);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to process asynchronous operations with a
+   * pool whose connections operate in synchronous mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsyncOperationsInSynchronousMode()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(true);
+
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new LDAPConnection(options, "localhost", ds.getListenPort()), 1, 1);
+
+    try
+    {
+      pool.asyncModify(
+           new ModifyRequest(
+                "dn: dc=example,dc=com",
+                "changetype: modify",
+                "replace: description",
+                "description: foo"),
+           null);
+      fail("Expected an exception for an async operation in synchronous mode");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.NOT_SUPPORTED);
+    }
+
+    try
+    {
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that connections used for asynchronous operations are
+   * released by a thread that may perform operations on them, so that a health
+   * check that is invoked on release can be used.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsyncOperationsWithReleaseHealthCheck()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool =
+         ds.getConnectionPool(null, null, 2, 2);
+    pool.setHealthCheck(new GetEntryLDAPConnectionPoolHealthCheck("", 10_000L,
+         false, false, true, false, false));
+
+    try
+    {
+      final int numSearches = 20;
+      final CountingCompletionListener completionListener =
+           new CountingCompletionListener();
+      final TestAsyncListener searchListener = new TestAsyncListener();
+      for (int i=0; i < numSearches; i++)
+      {
+        final AsyncRequestID requestID = pool.asyncSearch(
+             new SearchRequest(searchListener,
+                  "uid=test.user,ou=People,dc=example,dc=com",
+                  SearchScope.BASE, "(objectClass=*)"));
+        requestID.addCompletionListener(completionListener);
+      }
+
+      completionListener.waitForCompletions(numSearches);
+      assertEquals(completionListener.getSuccessCount(), numSearches);
+      waitForAvailableConnections(pool, 2);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+           0L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Waits for the provided pool to have the specified number of available
+   * connections, for up to 30 seconds.
+   *
+   * @param  pool                  The pool to examine.
+   * @param  expectedAvailableConns  The expected number of available
+   *                                 connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForAvailableConnections(
+                           final LDAPConnectionPool pool,
+                           final int expectedAvailableConns)
+          throws Exception
+  {
+    final long stopWaitingTime = System.currentTimeMillis() + 30_000L;
+    while ((pool.getCurrentAvailableConnections() != expectedAvailableConns) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+    {
+      Thread.sleep(1L);
+    }
+
+    assertEquals(pool.getCurrentAvailableConnections(), expectedAvailableConns);
+  }
+
+
+
+  /**
+   * Tests the behavior of a connection pool that has been configured with a
+   * routing policy, so that connections are held in per-server sub-pools.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRoutingPolicy()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds1 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds1.startListening();
+    final int port1 = ds1.getListenPort();
+
+    final InMemoryDirectoryServer ds2 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+    final int port2 = ds2.getListenPort();
+
+    final RoundRobinServerSet roundRobinSet = new RoundRobinServerSet(
+         new String[] { "localhost", "localhost" },
+         new int[] { port1, port2 });
+
+    try (LDAPConnectionPool pool =
+              new LDAPConnectionPool(roundRobinSet, null, 10, 10))
+    {
+      assertNull(pool.getRoutingPolicy());
+      assertTrue(pool.getPoolServers().isEmpty());
+
+      // Send three times as many checkouts to the first server as to the
+      // second.  Connections that were made available before the policy was
+      // set will be moved into sub-pools as they are released.
+      final WeightedRoundRobinRoutingPolicy routingPolicy =
+           new WeightedRoundRobinRoutingPolicy(
+                new String[] { "localhost", "localhost" },
+                new int[] { port1, port2 },
+                new int[] { 3, 1 });
+      pool.setRoutingPolicy(routingPolicy);
+      assertSame(pool.getRoutingPolicy(), routingPolicy);
+      assertTrue(pool.toString().contains("routingPolicy="));
+
+      final List<LDAPConnection> initialConnections = new ArrayList<>(10);
+      for (int i=0; i < 10; i++)
+      {
+        initialConnections.add(pool.getConnection());
+      }
+
+      for (final LDAPConnection c : initialConnections)
+      {
+        pool.releaseConnection(c);
+      }
+
+      assertEquals(pool.getPoolServers().size(), 2);
+      assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+      int count1 = 0;
+      int count2 = 0;
+      for (int i=0; i < 8; i++)
+      {
+        final LDAPConnection conn = pool.getConnection();
+        if (conn.getConnectedPort() == port1)
+        {
+          count1++;
+        }
+        else
+        {
+          count2++;
+        }
+        pool.releaseConnection(conn);
+      }
+
+      assertEquals(count1, 6);
+      assertEquals(count2, 2);
+
+
+      // Check out a connection to a specific server, and make sure that it is
+      // reflected in the number of outstanding operations for that server.
+      final LDAPConnection conn = pool.getConnection("localhost", port2);
+      assertNotNull(conn);
+      assertEquals(conn.getConnectedPort(), port2);
+
+      for (final LDAPConnectionPoolServer server : pool.getPoolServers())
+      {
+        assertNotNull(server.toString());
+        assertEquals(server.getNumConnections(), 5);
+        if (server.getPort() == port2)
+        {
+          assertEquals(server.getNumOutstandingOperations(), 1);
+          assertEquals(server.getNumAvailableConnections(), 4);
+        }
+        else
+        {
+          assertEquals(server.getNumOutstandingOperations(), 0);
+          assertEquals(server.getNumAvailableConnections(), 5);
+        }
+      }
+
+
+      // Release the connection as defunct, and make sure that it is no longer
+      // counted as outstanding.
+      pool.releaseDefunctConnection(conn);
+      int numOutstanding = 0;
+      for (final LDAPConnectionPoolServer server : pool.getPoolServers())
+      {
+        numOutstanding += server.getNumOutstandingOperations();
+      }
+      assertEquals(numOutstanding, 0);
+      assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+
+      // Clearing the routing policy should leave all connections available.
+      pool.setRoutingPolicy(null);
+      assertNull(pool.getRoutingPolicy());
+      final List<LDAPConnection> connections = new ArrayList<>(10);
+      for (int i=0; i < 10; i++)
+      {
+        connections.add(pool.getConnection());
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 0);
+
+      for (final LDAPConnection c : connections)
+      {
+        pool.releaseConnection(c);
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 10);
+    }
+    finally
+    {
+      ds1.shutDown(true);
+      ds2.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the connection pool when rebalancing connections
+   * after a new server becomes available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRebalanceConnections()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds1 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds1.startListening();
+    final int port1 = ds1.getListenPort();
+
+    final InMemoryDirectoryServer ds2 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+    final int port2 = ds2.getListenPort();
+
+    try (LDAPConnectionPool pool = new LDAPConnectionPool(
+              new SingleServerSet("localhost", port1), null, 4, 4))
+    {
+      // Without a routing policy, rebalancing should have no effect.
+      assertEquals(pool.rebalanceConnections(), 0);
+
+      pool.setRoutingPolicy(new LeastOutstandingOperationsRoutingPolicy());
+      final List<LDAPConnection> initialConnections = new ArrayList<>(4);
+      for (int i=0; i < 4; i++)
+      {
+        initialConnections.add(pool.getConnection());
+      }
+
+      for (final LDAPConnection c : initialConnections)
+      {
+        pool.releaseConnection(c);
+      }
+
+      assertEquals(pool.getPoolServers().size(), 1);
+      assertEquals(pool.getPoolServers().get(0).getNumConnections(), 4);
+
+      // With only one server, there is nothing to rebalance.
+      assertEquals(pool.rebalanceConnections(), 0);
+      assertEquals(pool.getPoolServers().get(0).getNumConnections(), 4);
+
+
+      // Switch to a server set that will establish connections to the second
+      // server, and make sure that half of the connections are moved to it.
+      pool.setServerSet(new SingleServerSet("localhost", port2));
+      assertEquals(pool.rebalanceConnections(), 2);
+
+      assertEquals(pool.getPoolServers().size(), 2);
+      for (final LDAPConnectionPoolServer server : pool.getPoolServers())
+      {
+        assertEquals(server.getNumConnections(), 2);
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 4);
+
+      // The pool is now balanced, so there should be nothing more to do.
+      assertEquals(pool.rebalanceConnections(), 0);
+      assertEquals(pool.getCurrentAvailableConnections(), 4);
+
+      assertTrue(pool.getConnectionPoolStatistics().
+           getNumConnectionsClosedUnneeded() >= 3L);
+    }
+    finally
+    {
+      ds1.shutDown(true);
+      ds2.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * An async result listener that counts the results it receives.
+   */
+  private static final class CountingCompletionListener
+          implements AsyncResultListener
+  {
+    // The number of results received.
+    private final AtomicInteger completionCount = new AtomicInteger(0);
+
+    // The number of successful results received.
+    private final AtomicInteger successCount = new AtomicInteger(0);
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void ldapResultReceived(final AsyncRequestID requestID,
+                                   final LDAPResult result)
+    {
+      if (result.getResultCode() == ResultCode.SUCCESS)
+      {
+        successCount.incrementAndGet();
+      }
+
+      completionCount.incrementAndGet();
+    }
+
+
+
+    /**
+     * Waits for the specified number of results to have been received, for up
+     * to 30 seconds.
+     *
+     * @param  expectedCount  The number of results expected.
+     *
+     * @throws  Exception  If an unexpected problem occurs.
+     */
+    private void waitForCompletions(final int expectedCount)
+            throws Exception
+    {
+      final long stopWaitingTime = System.currentTimeMillis() + 30_000L;
+      while ((completionCount.get() < expectedCount) &&
+             (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(1L);
+      }
+
+      assertEquals(completionCount.get(), expectedCount);
+    }
+
+
+
+    /**
+     * Retrieves the number of successful results received.
+     *
+     * @return  The number of successful results received.
+     */
+    private int getSuccessCount()
+    {
+      return successCount.get();
+    }
+  }
 }
@@ -41,6 +41,9 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LatencyHistogram;
+
 
 
 /**
@@ -845,4 +848,70 @@ public class LDAPConnectionStatisticsTestCase
 
     conn.close();
   }
+
+
+
+  /**
+   * Tests to ensure that the response time and connect time histograms are
+   * properly maintained.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLatencyHistograms()
+         throws Exception
+  {
+    final LDAPConnectionStatistics standaloneStats =
+         new LDAPConnectionStatistics();
+    assertEquals(standaloneStats.getConnectTimeHistogram().getCount(), 0L);
+    for (final OperationType t : OperationType.values())
+    {
+      if ((t == OperationType.ABANDON) || (t == OperationType.UNBIND))
+      {
+        assertNull(standaloneStats.getResponseTimeHistogram(t));
+      }
+      else
+      {
+        assertNotNull(standaloneStats.getResponseTimeHistogram(t));
+        assertEquals(standaloneStats.getResponseTimeHistogram(t).getCount(),
+             0L);
+      }
+    }
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+    final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+
+    final LatencyHistogram connectTimes = stats.getConnectTimeHistogram();
+    assertEquals(connectTimes.getCount(), 1L);
+    assertTrue(connectTimes.getMax() > 0L);
+
+    conn.bind("cn=Directory Manager", "password");
+    for (int i=0; i < 10; i++)
+    {
+      assertNotNull(conn.getRootDSE());
+    }
+
+    final LatencyHistogram bindTimes =
+         stats.getResponseTimeHistogram(OperationType.BIND);
+    assertEquals(bindTimes.getCount(), 1L);
+
+    final LatencyHistogram searchTimes =
+         stats.getResponseTimeHistogram(OperationType.SEARCH);
+    assertEquals(searchTimes.getCount(), stats.getNumSearchDoneResponses());
+    assertTrue(searchTimes.getCount() >= 10L);
+    assertTrue(searchTimes.getValueAtPercentile(99.0d) > 0L);
+    assertTrue(searchTimes.getValueAtPercentile(99.0d) <=
+         searchTimes.getMax());
+
+    assertEquals(stats.getResponseTimeHistogram(OperationType.ADD).getCount(),
+         0L);
+
+    stats.reset();
+    assertEquals(connectTimes.getCount(), 0L);
+    assertEquals(bindTimes.getCount(), 0L);
+    assertEquals(searchTimes.getCount(), 0L);
+
+    conn.close();
+  }
 }
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code LDAPConnectionWriteCoalescer} class.
+ */
+public final class LDAPConnectionWriteCoalescerTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when writing a single message with no contention.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSingleWrite()
+         throws Exception
+  {
+    final LDAPConnectionWriteCoalescer coalescer =
+         new LDAPConnectionWriteCoalescer(null);
+    final FlushCountingOutputStream outputStream =
+         new FlushCountingOutputStream(0L);
+
+    final byte[] message = { 0x01, 0x02, 0x03, 0x04 };
+    coalescer.write(outputStream, message, 0L, false);
+
+    assertEquals(outputStream.toByteArray(), new byte[] { 1, 2, 3, 4 });
+    assertEquals(outputStream.getFlushCount(), 1);
+    assertEquals(message, new byte[] { 1, 2, 3, 4 });
+    assertEquals(coalescer.getBatchesWritten(), 1L);
+    assertEquals(coalescer.getMessagesWritten(), 1L);
+
+    coalescer.write(outputStream, message, 1234L, true);
+
+    assertEquals(outputStream.toByteArray(),
+         new byte[] { 1, 2, 3, 4, 1, 2, 3, 4 });
+    assertEquals(outputStream.getFlushCount(), 2);
+    assertEquals(message, new byte[4]);
+    assertEquals(coalescer.getBatchesWritten(), 2L);
+    assertEquals(coalescer.getMessagesWritten(), 2L);
+  }
+
+
+
+  /**
+   * Tests the behavior when many threads concurrently write messages to a
+   * slow output stream, which should cause messages to be written in batches
+   * without any message being lost or interleaved with another.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentWrites()
+         throws Exception
+  {
+    final LDAPConnectionWriteCoalescer coalescer =
+         new LDAPConnectionWriteCoalescer(null);
+    final FlushCountingOutputStream outputStream =
+         new FlushCountingOutputStream(2L);
+
+    final int numThreads = 10;
+    final int writesPerThread = 20;
+    final int messageSize = 16;
+    final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    for (int i=0; i < numThreads; i++)
+    {
+      final byte threadByte = (byte) i;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            barrier.await();
+            for (int j=0; j < writesPerThread; j++)
+            {
+              final byte[] message = new byte[messageSize];
+              Arrays.fill(message, threadByte);
+              coalescer.write(outputStream, message, 60_000L, false);
+            }
+          }
+          catch (final Throwable t)
+          {
+            failure.compareAndSet(null, t);
+          }
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertNull(failure.get());
+
+    final int totalMessages = numThreads * writesPerThread;
+    assertEquals(coalescer.getMessagesWritten(), (long) totalMessages);
+    assertTrue(coalescer.getBatchesWritten() <= totalMessages);
+    assertEquals(outputStream.getFlushCount(),
+         (int) coalescer.getBatchesWritten());
+
+    final byte[] written = outputStream.toByteArray();
+    assertEquals(written.length, totalMessages * messageSize);
+
+    final int[] countsPerThread = new int[numThreads];
+    for (int i=0; i < written.length; i += messageSize)
+    {
+      final byte threadByte = written[i];
+      for (int j=1; j < messageSize; j++)
+      {
+        assertEquals(written[i+j], threadByte);
+      }
+      countsPerThread[threadByte]++;
+    }
+
+    for (final int count : countsPerThread)
+    {
+      assertEquals(count, writesPerThread);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when an error occurs while writing a batch.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteFailure()
+         throws Exception
+  {
+    final LDAPConnectionWriteCoalescer coalescer =
+         new LDAPConnectionWriteCoalescer(null);
+    final OutputStream outputStream = new OutputStream()
+    {
+      @Override()
+      public void write(final int b)
+             throws IOException
+      {
+        throw new IOException("write failed");
+      }
+    };
+
+    final byte[] message = { 0x01, 0x02 };
+    try
+    {
+      coalescer.write(outputStream, message, 0L, true);
+      fail("Expected an IOException");
+    }
+    catch (final IOException e)
+    {
+      // This was expected.
+    }
+
+    assertEquals(message, new byte[2]);
+    assertEquals(coalescer.getBatchesWritten(), 1L);
+  }
+
+
+
+  /**
+   * Tests the behavior when many threads concurrently process operations over
+   * a single connection with write coalescing enabled.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentOperationsOverConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setCoalesceWrites(true);
+
+    final LDAPConnection conn = new LDAPConnection(options, "localhost",
+         ds.getListenPort());
+    try
+    {
+      final int numThreads = 8;
+      final int opsPerThread = 25;
+      final CountDownLatch startLatch = new CountDownLatch(1);
+      final AtomicInteger successCount = new AtomicInteger(0);
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+      final List<Thread> threads = new ArrayList<>(numThreads);
+      for (int i=0; i < numThreads; i++)
+      {
+        final String value = "thread-" + i;
+        final Thread t = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              startLatch.await();
+              for (int j=0; j < opsPerThread; j++)
+              {
+                conn.modify("uid=test.user,ou=People,dc=example,dc=com",
+                     new Modification(ModificationType.REPLACE,
+                          "description", value + '-' + j));
+
+                final SearchResultEntry e = conn.getEntry(
+                     "uid=test.user,ou=People,dc=example,dc=com");
+                assertNotNull(e);
+                successCount.incrementAndGet();
+              }
+            }
+            catch (final Throwable t)
+            {
+              failure.compareAndSet(null, t);
+            }
+          }
+        };
+        threads.add(t);
+        t.start();
+      }
+
+      startLatch.countDown();
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertNull(failure.get());
+      assertEquals(successCount.get(), numThreads * opsPerThread);
+      assertTrue(conn.isConnected());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * An output stream that captures the data written to it and keeps track of
+   * the number of times it has been flushed.  It may optionally sleep each
+   * time it is flushed to simulate a slow network.
+   */
+  private static final class FlushCountingOutputStream
+          extends OutputStream
+  {
+    // The stream that will hold the data that has been written.
+    private final ByteArrayOutputStream buffer;
+
+    // The number of times the stream has been flushed.
+    private final AtomicInteger flushCount;
+
+    // The length of time to sleep when flushing.
+    private final long flushDelayMillis;
+
+
+
+    /**
+     * Creates a new instance of this output stream.
+     *
+     * @param  flushDelayMillis  The length of time in milliseconds to sleep
+     *                           each time the stream is flushed.
+     */
+    private FlushCountingOutputStream(final long flushDelayMillis)
+    {
+      this.flushDelayMillis = flushDelayMillis;
+
+      buffer = new ByteArrayOutputStream();
+      flushCount = new AtomicInteger(0);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public synchronized void write(final int b)
+    {
+      buffer.write(b);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public synchronized void write(final byte[] b, final int off,
+                                   final int len)
+    {
+      buffer.write(b, off, len);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void flush()
+           throws IOException
+    {
+      flushCount.incrementAndGet();
+      if (flushDelayMillis > 0L)
+      {
+        try
+        {
+          Thread.sleep(flushDelayMillis);
+        }
+        catch (final InterruptedException e)
+        {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+    }
+
+
+
+    /**
+     * Retrieves the data that has been written to this stream.
+     *
+     * @return  The data that has been written to this stream.
+     */
+    private synchronized byte[] toByteArray()
+    {
+      return buffer.toByteArray();
+    }
+
+
+
+    /**
+     * Retrieves the number of times this stream has been flushed.
+     *
+     * @return  The number of times this stream has been flushed.
+     */
+    private int getFlushCount()
+    {
+      return flushCount.get();
+    }
+  }
+}
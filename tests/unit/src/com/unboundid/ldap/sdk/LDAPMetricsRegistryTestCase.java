@@ -0,0 +1,393 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.LatencyHistogram;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code LDAPMetricsRegistry}
+ * class.
+ */
+public final class LDAPMetricsRegistryTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of metrics that are explicitly registered.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRegisteredMetrics()
+         throws Exception
+  {
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    assertTrue(registry.collectMetrics().isEmpty());
+    assertNotNull(registry.toString());
+
+    final Map<String,String> labels = new LinkedHashMap<>();
+    labels.put("b", "2");
+    labels.put("a", "1");
+
+    final AtomicLong counter =
+         registry.registerCounter("test_counter", "A test counter", labels);
+    counter.addAndGet(5L);
+    assertSame(registry.registerCounter("test_counter", "A test counter",
+         Collections.singletonMap("a", "1")), registry.registerCounter(
+         "test_counter", "A test counter",
+         Collections.singletonMap("a", "1")));
+    assertSame(registry.registerCounter("test_counter", "A test counter",
+         labels), counter);
+
+    registry.registerGauge("test_gauge", "A test gauge", null,
+         new LDAPMetricGauge()
+         {
+           @Override()
+           public double getValue()
+           {
+             return 1.5d;
+           }
+         });
+
+    final LatencyHistogram histogram =
+         registry.registerHistogram("test_histogram", "A test histogram",
+              null);
+    histogram.recordValue(1_000L);
+    histogram.recordValue(2_000L);
+
+    final List<LDAPMetric> metrics = registry.collectMetrics();
+    assertEquals(metrics.size(), 4);
+
+    assertEquals(metrics.get(0).getName(), "test_counter");
+    assertEquals(metrics.get(0).getLabels(),
+         Collections.singletonMap("a", "1"));
+    assertEquals(metrics.get(0).getValue(), 0.0d);
+
+    assertEquals(metrics.get(1).getName(), "test_counter");
+    assertEquals(metrics.get(1).getType(), LDAPMetricType.COUNTER);
+    assertEquals(metrics.get(1).getDescription(), "A test counter");
+    assertEquals(new ArrayList<>(metrics.get(1).getLabels().keySet()),
+         Arrays.asList("a", "b"));
+    assertEquals(metrics.get(1).getValue(), 5.0d);
+    assertNull(metrics.get(1).getHistogram());
+    assertNotNull(metrics.get(1).toString());
+
+    assertEquals(metrics.get(2).getName(), "test_gauge");
+    assertEquals(metrics.get(2).getType(), LDAPMetricType.GAUGE);
+    assertTrue(metrics.get(2).getLabels().isEmpty());
+    assertEquals(metrics.get(2).getValue(), 1.5d);
+
+    assertEquals(metrics.get(3).getName(), "test_histogram");
+    assertEquals(metrics.get(3).getType(), LDAPMetricType.HISTOGRAM);
+    assertEquals(metrics.get(3).getValue(), 2.0d);
+    assertNotNull(metrics.get(3).getHistogram());
+    assertEquals(metrics.get(3).getHistogram().getMax(), 2_000L);
+    assertNotNull(metrics.get(3).toString());
+
+    // Make sure that the collected histogram is a snapshot.
+    histogram.recordValue(3_000L);
+    assertEquals(metrics.get(3).getHistogram().getCount(), 2L);
+
+    assertTrue(registry.unregister("test_counter", labels));
+    assertFalse(registry.unregister("test_counter", labels));
+    assertEquals(registry.collectMetrics().size(), 3);
+  }
+
+
+
+  /**
+   * Tests that invalid metric names are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMetricName()
+         throws Exception
+  {
+    new LDAPMetricsRegistry().registerCounter("1invalid", "Invalid", null);
+  }
+
+
+
+  /**
+   * Tests that invalid label names are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidLabelName()
+         throws Exception
+  {
+    new LDAPMetricsRegistry().registerCounter("valid", "Valid",
+         Collections.singletonMap("not:valid", "value"));
+  }
+
+
+
+  /**
+   * Tests that attempts to register a metric with a different type than an
+   * existing metric with the same name are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testConflictingMetricType()
+         throws Exception
+  {
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    registry.registerCounter("test_metric", "Counter", null);
+    registry.registerHistogram("test_metric", "Histogram",
+         Collections.singletonMap("a", "b"));
+  }
+
+
+
+  /**
+   * Tests the operation metrics maintained for connections that use a
+   * registry, along with the metrics for registered connections and
+   * connection pools.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionAndPoolMetrics()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setMetricsRegistry(registry);
+
+    final LDAPConnection conn =
+         new LDAPConnection(options, "localhost", ds.getListenPort());
+    final String server = conn.getHostPort();
+    registry.registerConnection("test-connection", conn);
+
+    for (int i=0; i < 3; i++)
+    {
+      assertNotNull(conn.getRootDSE());
+    }
+
+    try
+    {
+      conn.delete("ou=missing,dc=example,dc=com");
+      fail("Expected an exception when deleting a missing entry");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+    }
+
+    final LDAPConnectionPool pool = new LDAPConnectionPool(conn, 1);
+    registry.registerConnectionPool("test-pool", pool);
+    assertNotNull(pool.getRootDSE());
+
+    final List<LDAPMetric> metrics = registry.collectMetrics();
+
+    final Map<String,String> searchSuccessLabels = new LinkedHashMap<>();
+    searchSuccessLabels.put(LDAPMetricsRegistry.LABEL_SERVER, server);
+    searchSuccessLabels.put(LDAPMetricsRegistry.LABEL_OPERATION, "search");
+    searchSuccessLabels.put(LDAPMetricsRegistry.LABEL_RESULT_CODE,
+         ResultCode.SUCCESS.getName());
+    final LDAPMetric searchSuccess = findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_OPERATIONS, searchSuccessLabels);
+    assertEquals(searchSuccess.getValue(), 4.0d);
+
+    final Map<String,String> deleteLabels = new LinkedHashMap<>();
+    deleteLabels.put(LDAPMetricsRegistry.LABEL_SERVER, server);
+    deleteLabels.put(LDAPMetricsRegistry.LABEL_OPERATION, "delete");
+    deleteLabels.put(LDAPMetricsRegistry.LABEL_RESULT_CODE,
+         ResultCode.NO_SUCH_OBJECT.getName());
+    assertEquals(findMetric(metrics, LDAPMetricsRegistry.METRIC_OPERATIONS,
+         deleteLabels).getValue(), 1.0d);
+
+    final Map<String,String> searchTimeLabels = new LinkedHashMap<>();
+    searchTimeLabels.put(LDAPMetricsRegistry.LABEL_SERVER, server);
+    searchTimeLabels.put(LDAPMetricsRegistry.LABEL_OPERATION, "search");
+    final LDAPMetric searchTime = findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_OPERATION_RESPONSE_TIME, searchTimeLabels);
+    assertEquals(searchTime.getType(), LDAPMetricType.HISTOGRAM);
+    assertEquals(searchTime.getHistogram().getCount(), 4L);
+
+    final Map<String,String> poolLabels = Collections.singletonMap(
+         LDAPMetricsRegistry.LABEL_POOL, "test-pool");
+    assertEquals(findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_POOL_AVAILABLE_CONNECTIONS,
+         poolLabels).getValue(), 1.0d);
+    assertEquals(findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_POOL_CHECKOUT_WAIT_TIME,
+         poolLabels).getHistogram().getCount(), 1L);
+
+    final Map<String,String> checkoutLabels = new LinkedHashMap<>();
+    checkoutLabels.put(LDAPMetricsRegistry.LABEL_POOL, "test-pool");
+    checkoutLabels.put(LDAPMetricsRegistry.LABEL_OUTCOME, "without_wait");
+    assertEquals(findMetric(metrics, LDAPMetricsRegistry.METRIC_POOL_CHECKOUTS,
+         checkoutLabels).getValue(), 1.0d);
+
+    final Map<String,String> connectionLabels = new LinkedHashMap<>();
+    connectionLabels.put(LDAPMetricsRegistry.LABEL_CONNECTION,
+         "test-connection");
+    connectionLabels.put(LDAPMetricsRegistry.LABEL_SERVER, server);
+    assertEquals(findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_CONNECTION_CONNECTS,
+         connectionLabels).getValue(), 1.0d);
+
+    connectionLabels.put(LDAPMetricsRegistry.LABEL_OPERATION, "search");
+    assertEquals(findMetric(metrics,
+         LDAPMetricsRegistry.METRIC_CONNECTION_RESPONSE_TIME,
+         connectionLabels).getHistogram().getCount(), 4L);
+
+    // Make sure that the metrics are sorted by name.
+    for (int i=1; i < metrics.size(); i++)
+    {
+      assertTrue(metrics.get(i-1).getName().compareTo(
+           metrics.get(i).getName()) <= 0);
+    }
+
+    assertTrue(registry.unregisterConnectionPool("test-pool"));
+    assertFalse(registry.unregisterConnectionPool("test-pool"));
+    assertTrue(registry.unregisterConnection("test-connection"));
+    assertFalse(registry.unregisterConnection("test-connection"));
+    assertTrue(registry.unregister(LDAPMetricsRegistry.METRIC_OPERATIONS,
+         deleteLabels));
+
+    for (final LDAPMetric m : registry.collectMetrics())
+    {
+      assertFalse(m.getLabels().containsKey(LDAPMetricsRegistry.LABEL_POOL));
+      assertFalse(m.getLabels().containsKey(
+           LDAPMetricsRegistry.LABEL_CONNECTION));
+      assertFalse(m.getLabels().equals(deleteLabels));
+    }
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests the behavior of listeners that are notified periodically.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testListeners()
+         throws Exception
+  {
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    registry.registerCounter("test_counter", "A test counter", null).
+         incrementAndGet();
+
+    final CountDownLatch latch = new CountDownLatch(2);
+    final List<List<LDAPMetric>> snapshots =
+         Collections.synchronizedList(new ArrayList<List<LDAPMetric>>());
+    final LDAPMetricsListener listener = new LDAPMetricsListener()
+    {
+      @Override()
+      public void metricsCollected(final long timestamp,
+                                   final List<LDAPMetric> metrics)
+      {
+        snapshots.add(metrics);
+        latch.countDown();
+      }
+    };
+
+    registry.addListener(listener, 10L);
+    assertTrue(latch.await(30L, TimeUnit.SECONDS));
+    assertTrue(registry.removeListener(listener));
+    assertFalse(registry.removeListener(listener));
+
+    synchronized (snapshots)
+    {
+      for (final List<LDAPMetric> metrics : snapshots)
+      {
+        assertEquals(metrics.size(), 1);
+        assertEquals(metrics.get(0).getValue(), 1.0d);
+      }
+    }
+
+    registry.addListener(listener, 60_000L);
+    assertNotNull(registry.toString());
+    registry.close();
+    assertFalse(registry.removeListener(listener));
+  }
+
+
+
+  /**
+   * Retrieves the metric with the specified name and labels from the provided
+   * list, failing if it is not present.
+   *
+   * @param  metrics  The list of metrics to search.
+   * @param  name     The name of the metric to retrieve.
+   * @param  labels   The labels for the metric to retrieve.
+   *
+   * @return  The requested metric.
+   */
+  private static LDAPMetric findMetric(final List<LDAPMetric> metrics,
+                                       final String name,
+                                       final Map<String,String> labels)
+  {
+    for (final LDAPMetric m : metrics)
+    {
+      if (m.getName().equals(name) && m.getLabels().equals(labels))
+      {
+        return m;
+      }
+    }
+
+    fail("No metric with name " + name + " and labels " + labels +
+         " in " + metrics);
+    return null;
+  }
+}
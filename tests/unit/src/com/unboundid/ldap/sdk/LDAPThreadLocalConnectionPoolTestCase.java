@@ -37,6 +37,8 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.net.ssl.SSLContext;
 
 import org.testng.annotations.Test;
@@ -1143,4 +1145,58 @@ public class LDAPThreadLocalConnectionPoolTestCase
     pool.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the methods used to process asynchronous operations using the
+   * connection associated with the current thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsyncOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPThreadLocalConnectionPool pool =
+         new LDAPThreadLocalConnectionPool(
+              new SingleServerSet("127.0.0.1", ds.getListenPort()), null);
+
+    try
+    {
+      final LDAPConnection conn = pool.getConnection();
+      pool.releaseConnection(conn);
+
+      final TestAsyncListener listener = new TestAsyncListener();
+      final List<AsyncRequestID> requestIDs = new ArrayList<>(10);
+      for (int i=0; i < 10; i++)
+      {
+        requestIDs.add(pool.asyncModify(
+             new ModifyRequest(
+                  "dn: uid=test.user,ou=People,dc=example,dc=com",
+                  "changetype: modify",
+                  "replace: description",
+                  "description: " + i),
+             listener));
+      }
+
+      requestIDs.add(pool.asyncSearch(new SearchRequest(listener,
+           "uid=test.user,ou=People,dc=example,dc=com", SearchScope.BASE,
+           "(objectClass=*)")));
+
+      for (final AsyncRequestID requestID : requestIDs)
+      {
+        assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+      }
+
+      // The connection should remain associated with this thread.
+      assertSame(pool.getConnection(), conn);
+      pool.releaseConnection(conn);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.ssl.SSLUtil;
+import com.unboundid.util.ssl.TrustAllTrustManager;
+
+
+
+/**
+ * This class provides a set of test cases for the latency-aware server set.
+ */
+public final class LatencyAwareServerSetTestCase
+       extends LDAPSDKTestCase
+{
+  // The first directory server instance that will be used for testing.
+  private InMemoryDirectoryServer ds1 = null;
+
+  // The second directory server instance that will be used for testing.
+  private InMemoryDirectoryServer ds2 = null;
+
+  // The ports of the directory server instances.
+  private final int[] ports = new int[2];
+
+  // The addresses of the directory server instances.
+  private final String[] addresses = new String[2];
+
+
+
+  /**
+   * Prepares a couple of directory server instances to use in the testing.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+       throws Exception
+  {
+    ds1 = new InMemoryDirectoryServer("dc=example,dc=com");
+    ds1.startListening();
+
+    ds2 = new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+
+    addresses[0] = "localhost";
+    addresses[1] = "localhost";
+
+    ports[0] = ds1.getListenPort();
+    ports[1] = ds2.getListenPort();
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+       throws Exception
+  {
+    ds1.shutDown(true);
+    ds2.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior of the server set when created with the default
+   * settings.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultSettings()
+       throws Exception
+  {
+    final LatencyAwareServerSet set =
+         new LatencyAwareServerSet(addresses, ports);
+    assertNotNull(set.getBlacklistManager());
+
+    assertTrue(Arrays.equals(set.getAddresses(), addresses));
+    assertTrue(Arrays.equals(set.getPorts(), ports));
+
+    assertNotNull(set.getSocketFactory());
+    assertNotNull(set.getConnectionOptions());
+
+    assertEquals(set.getLatencyDecayMillis(),
+         LatencyAwareServerSet.DEFAULT_LATENCY_DECAY_MILLIS);
+    assertEquals(set.getConnectionReplacementThreshold(),
+         LatencyAwareServerSet.DEFAULT_CONNECTION_REPLACEMENT_THRESHOLD);
+
+    assertFalse(set.includesAuthentication());
+    assertFalse(set.includesPostConnectProcessing());
+
+    assertEquals(set.getAverageResponseTimeMillis("localhost", ports[0]),
+         0.0d);
+    assertEquals(set.getErrorRate("localhost", ports[0]), 0.0d);
+    assertEquals(set.getAverageResponseTimeMillis("undefined", 389), -1.0d);
+    assertEquals(set.getErrorRate("undefined", 389), -1.0d);
+
+    assertNotNull(set.toString());
+
+    final LDAPConnection conn = set.getConnection();
+    assertNotNull(conn.getRootDSE());
+    assertFalse(set.shouldReplaceConnection(conn));
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior of the server set when created with all settings
+   * explicitly provided.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAllSettings()
+       throws Exception
+  {
+    final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+    final LatencyAwareServerSet set = new LatencyAwareServerSet(addresses,
+         ports, null, new LDAPConnectionOptions(),
+         new SimpleBindRequest("cn=Directory Manager", "password"),
+         new StartTLSPostConnectProcessor(sslUtil.createSSLContext()), 0L,
+         1234L, 1.5d);
+    assertNull(set.getBlacklistManager());
+    assertEquals(set.getLatencyDecayMillis(), 1234L);
+    assertEquals(set.getConnectionReplacementThreshold(), 1.5d);
+    assertTrue(set.includesAuthentication());
+    assertTrue(set.includesPostConnectProcessing());
+    assertNotNull(set.toString());
+
+
+    // An invalid decay value should be replaced with the default, and a
+    // threshold that is not greater than one should disable replacement.
+    final LatencyAwareServerSet defaultsSet = new LatencyAwareServerSet(
+         addresses, ports, null, null, null, null, 0L, -1L, 0.5d);
+    assertEquals(defaultsSet.getLatencyDecayMillis(),
+         LatencyAwareServerSet.DEFAULT_LATENCY_DECAY_MILLIS);
+    assertEquals(defaultsSet.getConnectionReplacementThreshold(), 0.0d);
+  }
+
+
+
+  /**
+   * Tests to ensure that response times for operations processed on
+   * connections created by the server set are recorded.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testResponseTimesRecorded()
+       throws Exception
+  {
+    final LatencyAwareServerSet set = new LatencyAwareServerSet(addresses,
+         ports, null, null, null, null, 0L, 60_000L, 0.0d);
+
+    try (LDAPConnection conn = set.getConnection())
+    {
+      final int port = conn.getConnectedPort();
+      assertEquals(set.getAverageResponseTimeMillis("localhost", port), 0.0d);
+
+      assertNotNull(conn.getRootDSE());
+      assertTrue(set.getAverageResponseTimeMillis("localhost", port) > 0.0d);
+      assertEquals(set.getErrorRate("localhost", port), 0.0d);
+
+      // A no such object result does not reflect on the server's health.
+      try
+      {
+        conn.delete("dc=example,dc=com");
+        fail("Expected an exception when deleting a nonexistent entry");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+      }
+
+      assertEquals(set.getErrorRate("localhost", port), 0.0d);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that new connections are established to the server with
+   * the lowest response time.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionsPreferFasterServer()
+       throws Exception
+  {
+    final LatencyAwareServerSet set = new LatencyAwareServerSet(addresses,
+         ports, null, null, null, null, 0L, 60_000L, 0.0d);
+
+    final LDAPConnection[] conns = new LDAPConnection[5];
+    try
+    {
+      conns[0] = set.getConnection();
+      for (int i=0; i < 10; i++)
+      {
+        set.handleOperationCompleted(conns[0], "localhost", ports[0],
+             OperationType.SEARCH, ResultCode.SUCCESS, 100_000_000L);
+        set.handleOperationCompleted(conns[0], "localhost", ports[1],
+             OperationType.SEARCH, ResultCode.SUCCESS, 1_000_000L);
+      }
+
+      assertTrue(set.getAverageResponseTimeMillis("localhost", ports[0]) >
+           set.getAverageResponseTimeMillis("localhost", ports[1]));
+
+      for (int i=1; i < conns.length; i++)
+      {
+        conns[i] = set.getConnection();
+        assertEquals(conns[i].getConnectedPort(), ports[1]);
+      }
+
+
+      // If the faster server starts reporting errors, then new connections
+      // should shift to the other server.
+      for (int i=0; i < 10; i++)
+      {
+        set.handleOperationCompleted(conns[0], "localhost", ports[1],
+             OperationType.SEARCH, ResultCode.UNAVAILABLE, 500_000_000L);
+      }
+
+      assertTrue(set.getErrorRate("localhost", ports[1]) > 0.5d);
+
+      final LDAPConnection conn = set.getConnection();
+      assertEquals(conn.getConnectedPort(), ports[0]);
+      conn.close();
+    }
+    finally
+    {
+      for (final LDAPConnection c : conns)
+      {
+        if (c != null)
+        {
+          c.close();
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a connection pool will replace a connection to a
+   * slow server with a connection to a faster server when the connection is
+   * released.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPooledConnectionReplacement()
+       throws Exception
+  {
+    final LatencyAwareServerSet set = new LatencyAwareServerSet(addresses,
+         ports, null, null, null, null, 0L, 60_000L, 2.0d);
+
+    try (LDAPConnectionPool pool = new LDAPConnectionPool(set, null, 1))
+    {
+      LDAPConnection conn = pool.getConnection();
+      final int slowPort = conn.getConnectedPort();
+      final int fastPort = (slowPort == ports[0]) ? ports[1] : ports[0];
+
+      // With no information about the other server, the connection should not
+      // be replaced.
+      set.handleOperationCompleted(conn, "localhost", slowPort,
+           OperationType.SEARCH, ResultCode.SUCCESS, 100_000_000L);
+      assertFalse(set.shouldReplaceConnection(conn));
+
+      // If the other server is only slightly faster, then the connection
+      // should not be replaced.
+      set.handleOperationCompleted(conn, "localhost", fastPort,
+           OperationType.SEARCH, ResultCode.SUCCESS, 75_000_000L);
+      assertFalse(set.shouldReplaceConnection(conn));
+      pool.releaseConnection(conn);
+
+      conn = pool.getConnection();
+      assertEquals(conn.getConnectedPort(), slowPort);
+
+      // If the server to which the connection is established becomes much
+      // slower than the other server, then the connection should be replaced
+      // when it is released.
+      set.handleOperationCompleted(conn, "localhost", slowPort,
+           OperationType.SEARCH, ResultCode.SUCCESS, 1_000_000_000L);
+
+      pool.releaseConnection(conn);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedExpired(),
+           1L);
+
+      conn = pool.getConnection();
+      assertEquals(conn.getConnectedPort(), fastPort);
+
+      // Replacements of connections to the same server are rate limited, so
+      // another connection to the slow server should not be immediately
+      // replaced.
+      try (LDAPConnection slowConn =
+                new LDAPConnection("localhost", slowPort))
+      {
+        assertFalse(set.shouldReplaceConnection(slowConn));
+      }
+
+      // The rate limit applies to each server separately, so if the new server
+      // becomes much slower, then a connection to it can be replaced right
+      // away, but not a second one.
+      set.handleOperationCompleted(conn, "localhost", fastPort,
+           OperationType.SEARCH, ResultCode.SUCCESS, 10_000_000_000L);
+
+      assertTrue(set.shouldReplaceConnection(conn));
+      assertFalse(set.shouldReplaceConnection(conn));
+      pool.releaseConnection(conn);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the least outstanding operations
+ * connection pool routing policy.
+ */
+public final class LeastOutstandingOperationsRoutingPolicyTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that the server with the fewest outstanding operations is
+   * selected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSelectFewestOutstanding()
+         throws Exception
+  {
+    final LeastOutstandingOperationsRoutingPolicy policy =
+         new LeastOutstandingOperationsRoutingPolicy();
+    assertNotNull(policy.toString());
+
+    final LDAPConnectionPoolServer server1 =
+         new LDAPConnectionPoolServer("server1", 389);
+    final LDAPConnectionPoolServer server2 =
+         new LDAPConnectionPoolServer("server2", 389);
+    for (int i=0; i < 3; i++)
+    {
+      server1.offer(new LDAPConnection());
+      server2.offer(new LDAPConnection());
+    }
+
+    // Check out two connections from the first server and one from the
+    // second.
+    assertNotNull(server1.poll());
+    final LDAPConnection conn = server1.poll();
+    assertNotNull(conn);
+    assertNotNull(server2.poll());
+    assertEquals(server1.getNumOutstandingOperations(), 2);
+    assertEquals(server2.getNumOutstandingOperations(), 1);
+
+    final List<LDAPConnectionPoolServer> servers =
+         Arrays.asList(server1, server2);
+    for (int i=0; i < 5; i++)
+    {
+      assertEquals(policy.selectServer(servers), 1);
+    }
+
+    // Return one of the connections to the first server and add a new one,
+    // which will give it the same number of outstanding operations as the
+    // second server but more available connections.
+    server1.offer(conn);
+    server1.offer(new LDAPConnection());
+    assertEquals(server1.getNumOutstandingOperations(), 1);
+    assertEquals(server1.getNumAvailableConnections(), 3);
+    assertEquals(server2.getNumAvailableConnections(), 2);
+    for (int i=0; i < 5; i++)
+    {
+      assertEquals(policy.selectServer(servers), 0);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that ties are broken in a round-robin manner.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testTieBreaking()
+         throws Exception
+  {
+    final LeastOutstandingOperationsRoutingPolicy policy =
+         new LeastOutstandingOperationsRoutingPolicy();
+
+    final List<LDAPConnectionPoolServer> servers = Arrays.asList(
+         new LDAPConnectionPoolServer("server1", 389),
+         new LDAPConnectionPoolServer("server2", 389),
+         new LDAPConnectionPoolServer("server3", 389));
+
+    final Set<Integer> selected = new HashSet<>(3);
+    for (int i=0; i < 3; i++)
+    {
+      selected.add(policy.selectServer(servers));
+    }
+    assertEquals(selected.size(), 3);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the locality connection pool
+ * routing policy.
+ */
+public final class LocalityRoutingPolicyTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that local servers are preferred when they are available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPreferLocalServers()
+         throws Exception
+  {
+    final LocalityRoutingPolicy policy = new LocalityRoutingPolicy("east",
+         new String[] { "west1", "east1", "east2" },
+         new int[] { 389, 389, 389 },
+         new String[] { "west", "east", "east" },
+         null);
+    assertEquals(policy.getLocalLocalityTag(), "east");
+    assertEquals(policy.getLocalityTag("west1", 389), "west");
+    assertEquals(policy.getLocalityTag("east2", 389), "east");
+    assertNull(policy.getLocalityTag("unknown", 389));
+    assertTrue(policy.getDelegatePolicy() instanceof
+         LeastOutstandingOperationsRoutingPolicy);
+    assertNotNull(policy.toString());
+
+    final LDAPConnectionPoolServer west1 =
+         new LDAPConnectionPoolServer("west1", 389);
+    final LDAPConnectionPoolServer east1 =
+         new LDAPConnectionPoolServer("east1", 389);
+    final LDAPConnectionPoolServer east2 =
+         new LDAPConnectionPoolServer("east2", 389);
+    final LDAPConnectionPoolServer unknown =
+         new LDAPConnectionPoolServer("unknown", 389);
+
+    final List<LDAPConnectionPoolServer> all =
+         Arrays.asList(west1, east1, unknown, east2);
+    for (int i=0; i < 10; i++)
+    {
+      final int index = policy.selectServer(all);
+      assertTrue(((index == 1) || (index == 3)), "Unexpected index " + index);
+    }
+
+    // If there are no local servers, then any server may be selected.
+    final List<LDAPConnectionPoolServer> remote =
+         Arrays.asList(west1, unknown);
+    for (int i=0; i < 10; i++)
+    {
+      final int index = policy.selectServer(remote);
+      assertTrue(((index == 0) || (index == 1)), "Unexpected index " + index);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the delegate policy is used to choose among the local
+   * servers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDelegatePolicy()
+         throws Exception
+  {
+    final WeightedRoundRobinRoutingPolicy delegate =
+         new WeightedRoundRobinRoutingPolicy(
+              new String[] { "east1", "east2" },
+              new int[] { 389, 389 },
+              new int[] { 0, 1 });
+    final LocalityRoutingPolicy policy = new LocalityRoutingPolicy("east",
+         new String[] { "west1", "east1", "east2" },
+         new int[] { 389, 389, 389 },
+         new String[] { "west", "east", "east" },
+         delegate);
+    assertSame(policy.getDelegatePolicy(), delegate);
+
+    final List<LDAPConnectionPoolServer> all = Arrays.asList(
+         new LDAPConnectionPoolServer("east1", 389),
+         new LDAPConnectionPoolServer("west1", 389),
+         new LDAPConnectionPoolServer("east2", 389));
+    for (int i=0; i < 5; i++)
+    {
+      assertEquals(policy.selectServer(all), 2);
+    }
+  }
+}
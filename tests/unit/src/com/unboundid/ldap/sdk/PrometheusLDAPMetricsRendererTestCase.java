@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.util.LatencyHistogram;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code PrometheusLDAPMetricsRenderer} class.
+ */
+public final class PrometheusLDAPMetricsRendererTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the rendering of counter, gauge, and histogram metrics.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRender()
+         throws Exception
+  {
+    final LDAPMetricsRegistry registry = new LDAPMetricsRegistry();
+    assertEquals(PrometheusLDAPMetricsRenderer.render(
+         registry.collectMetrics()), "");
+
+    final Map<String,String> labels = new LinkedHashMap<>();
+    labels.put("server", "ds.example.com:389");
+    labels.put("operation", "search");
+    registry.registerCounter("ldap_test_total", "A test\\counter\nfor tests",
+         labels).addAndGet(42L);
+
+    labels.put("operation", "add \"quoted\"");
+    registry.registerCounter("ldap_test_total", "A test\\counter\nfor tests",
+         labels).addAndGet(7L);
+
+    // A counter whose name does not end with "_total" should have that suffix
+    // added.
+    registry.registerCounter("ldap_test_requests", "A test request counter",
+         null).addAndGet(3L);
+
+    registry.registerGauge("ldap_test_gauge", "A test gauge", null,
+         new LDAPMetricGauge()
+         {
+           @Override()
+           public double getValue()
+           {
+             return 2.5d;
+           }
+         });
+
+    final LatencyHistogram histogram = registry.registerHistogram(
+         "ldap_test_time", "A test histogram", null);
+    histogram.recordValue(1_000_000L);
+    histogram.recordValue(1_000_000L);
+
+    final String expected =
+         "# HELP ldap_test_gauge A test gauge\n" +
+         "# TYPE ldap_test_gauge gauge\n" +
+         "ldap_test_gauge 2.5\n" +
+         "# HELP ldap_test_requests_total A test request counter\n" +
+         "# TYPE ldap_test_requests_total counter\n" +
+         "ldap_test_requests_total 3\n" +
+         "# HELP ldap_test_time_seconds A test histogram\n" +
+         "# TYPE ldap_test_time_seconds summary\n" +
+         "ldap_test_time_seconds{quantile=\"0.5\"} 0.001\n" +
+         "ldap_test_time_seconds{quantile=\"0.9\"} 0.001\n" +
+         "ldap_test_time_seconds{quantile=\"0.99\"} 0.001\n" +
+         "ldap_test_time_seconds{quantile=\"0.999\"} 0.001\n" +
+         "ldap_test_time_seconds_sum 0.002\n" +
+         "ldap_test_time_seconds_count 2\n" +
+         "# HELP ldap_test_total A test\\\\counter\\nfor tests\n" +
+         "# TYPE ldap_test_total counter\n" +
+         "ldap_test_total{operation=\"add \\\"quoted\\\"\"," +
+              "server=\"ds.example.com:389\"} 7\n" +
+         "ldap_test_total{operation=\"search\"," +
+              "server=\"ds.example.com:389\"} 42\n";
+
+    assertEquals(PrometheusLDAPMetricsRenderer.render(
+         registry.collectMetrics()), expected);
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    PrometheusLDAPMetricsRenderer.writeTo(registry, outputStream);
+    assertEquals(StaticUtils.toUTF8String(outputStream.toByteArray()),
+         expected);
+
+    assertTrue(PrometheusLDAPMetricsRenderer.CONTENT_TYPE.startsWith(
+         "text/plain"));
+  }
+}
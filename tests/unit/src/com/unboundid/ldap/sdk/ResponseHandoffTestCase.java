@@ -0,0 +1,281 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.protocol.LDAPResponse;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code ResponseHandoff}
+ * class.
+ */
+public final class ResponseHandoffTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of offering and retrieving responses without
+   * waiting.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOfferAndPoll()
+         throws Exception
+  {
+    final ResponseHandoff handoff = new ResponseHandoff();
+    assertNull(handoff.poll());
+    assertNull(handoff.poll(10L, TimeUnit.MILLISECONDS));
+
+    final LDAPResult first = new LDAPResult(1, ResultCode.SUCCESS);
+    final LDAPResult second = new LDAPResult(1, ResultCode.OTHER);
+
+    assertTrue(handoff.offer(first));
+    assertFalse(handoff.offer(second));
+
+    assertSame(handoff.poll(), first);
+    assertNull(handoff.poll());
+
+    assertTrue(handoff.offer(second));
+    assertSame(handoff.take(), second);
+    assertNull(handoff.poll(0L, TimeUnit.MILLISECONDS));
+
+    assertTrue(handoff.offer(first));
+    assertSame(handoff.poll(10L, TimeUnit.MILLISECONDS), first);
+  }
+
+
+
+  /**
+   * Tests the behavior when a thread is waiting for a response that is
+   * provided by another thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWaitForResponse()
+         throws Exception
+  {
+    final ResponseHandoff handoff = new ResponseHandoff();
+    final LDAPResult result = new LDAPResult(1, ResultCode.SUCCESS);
+    final CountDownLatch waiting = new CountDownLatch(2);
+    final AtomicReference<LDAPResponse> fromTake = new AtomicReference<>();
+    final AtomicReference<LDAPResponse> fromPoll = new AtomicReference<>();
+
+    final Thread takeThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          waiting.countDown();
+          fromTake.set(handoff.take());
+        }
+        catch (final InterruptedException e)
+        {
+          // This will cause the test to fail.
+        }
+      }
+    };
+
+    final Thread pollThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          waiting.countDown();
+          fromPoll.set(handoff.poll(60L, TimeUnit.SECONDS));
+        }
+        catch (final InterruptedException e)
+        {
+          // This will cause the test to fail.
+        }
+      }
+    };
+
+    takeThread.start();
+    pollThread.start();
+    waiting.await();
+    Thread.sleep(50L);
+
+    // Only one of the waiting threads will get the first response, so offer a
+    // second response once the first one has been consumed.
+    assertTrue(handoff.offer(result));
+    while ((fromTake.get() == null) && (fromPoll.get() == null))
+    {
+      Thread.sleep(1L);
+    }
+    assertTrue(handoff.offer(result));
+
+    takeThread.join(60_000L);
+    pollThread.join(60_000L);
+
+    assertSame(fromTake.get(), result);
+    assertSame(fromPoll.get(), result);
+  }
+
+
+
+  /**
+   * Tests the behavior when a thread is interrupted while waiting for a
+   * response.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInterruptWhileWaiting()
+         throws Exception
+  {
+    final ResponseHandoff handoff = new ResponseHandoff();
+    Thread.currentThread().interrupt();
+    try
+    {
+      handoff.take();
+      fail("Expected an InterruptedException");
+    }
+    catch (final InterruptedException e)
+    {
+      // This was expected.
+    }
+
+    Thread.currentThread().interrupt();
+    try
+    {
+      handoff.poll(60L, TimeUnit.SECONDS);
+      fail("Expected an InterruptedException");
+    }
+    catch (final InterruptedException e)
+    {
+      // This was expected.
+    }
+
+    assertFalse(Thread.interrupted());
+  }
+
+
+
+  /**
+   * Provides a simple benchmark that compares the number of bytes allocated
+   * when creating a response handoff and using it to deliver a response with
+   * the number allocated when using a {@code LinkedBlockingQueue} for the same
+   * purpose, as was previously done for every request.  The allocation figures
+   * are only reported, since they depend on the JVM and on how the code has
+   * been compiled, but each handoff is verified to deliver the response that
+   * was offered to it exactly once.  This is only performed on JVMs that
+   * support measuring per-thread allocation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAllocationComparedWithLinkedBlockingQueue()
+         throws Exception
+  {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (! (threadMXBean instanceof com.sun.management.ThreadMXBean))
+    {
+      return;
+    }
+
+    final com.sun.management.ThreadMXBean allocationBean =
+         (com.sun.management.ThreadMXBean) threadMXBean;
+    if (! (allocationBean.isThreadAllocatedMemorySupported() &&
+           allocationBean.isThreadAllocatedMemoryEnabled()))
+    {
+      return;
+    }
+
+    final LDAPResult result = new LDAPResult(1, ResultCode.SUCCESS);
+    final int iterations = 100_000;
+    final long threadID = Thread.currentThread().getId();
+
+    // Warm up both code paths so that the measurements are not skewed by
+    // class loading or interpretation.
+    for (int i=0; i < iterations; i++)
+    {
+      final ResponseHandoff handoff = new ResponseHandoff();
+      handoff.offer(result);
+      assertNotNull(handoff.poll(1L, TimeUnit.SECONDS));
+
+      final LinkedBlockingQueue<LDAPResponse> queue =
+           new LinkedBlockingQueue<>();
+      queue.put(result);
+      assertNotNull(queue.poll(1L, TimeUnit.SECONDS));
+    }
+
+    long startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      final ResponseHandoff handoff = new ResponseHandoff();
+      handoff.offer(result);
+      assertSame(handoff.poll(1L, TimeUnit.SECONDS), result);
+      assertNull(handoff.poll());
+    }
+    final long handoffBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      final LinkedBlockingQueue<LDAPResponse> queue =
+           new LinkedBlockingQueue<>();
+      queue.put(result);
+      assertNotNull(queue.poll(1L, TimeUnit.SECONDS));
+    }
+    final long queueBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    final String message = "Bytes allocated for " + iterations +
+         " response handoffs:  " + handoffBytes + StaticUtils.EOL +
+         "Bytes allocated for " + iterations + " LinkedBlockingQueues:  " +
+         queueBytes;
+    assertTrue((handoffBytes >= 0L) && (queueBytes >= 0L), message);
+  }
+}
@@ -1450,6 +1450,49 @@ public class SearchRequestTestCase
 
 
 
+  /**
+   * Tests the behavior when duplicating a search request with a different
+   * search result listener.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDuplicateWithListener()
+         throws Exception
+  {
+    final SearchRequest r = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(uid=test.user)", "cn");
+    r.setFollowReferrals(true);
+    final TestReferralConnector referralConnector =
+         new TestReferralConnector();
+    r.setReferralConnector(referralConnector);
+    r.setResponseTimeoutMillis(1234L);
+
+    final BasicAsyncSearchResultListener listener =
+         new BasicAsyncSearchResultListener();
+    final Control[] controls =
+    {
+      new Control("1.2.3.4")
+    };
+
+    final SearchRequest duplicate = r.duplicate(listener, controls);
+    assertSame(duplicate.getSearchResultListener(), listener);
+    assertEquals(duplicate.getControls().length, 1);
+    assertEquals(duplicate.getBaseDN(), "dc=example,dc=com");
+    assertEquals(duplicate.getScope(), SearchScope.SUB);
+    assertEquals(duplicate.getFilter(),
+         Filter.createEqualityFilter("uid", "test.user"));
+    assertEquals(duplicate.getAttributeList(), r.getAttributeList());
+    assertEquals(duplicate.followReferralsInternal(), Boolean.TRUE);
+    assertSame(duplicate.getReferralConnectorInternal(), referralConnector);
+    assertEquals(duplicate.getResponseTimeoutMillis(null), 1234L);
+
+    assertNull(r.getSearchResultListener());
+    assertEquals(r.getControls().length, 0);
+  }
+
+
+
   /**
    * Tests to ensure that the encoding for the provided search request is
    * identical when using the stream-based and non-stream-based ASN.1 encoding
@@ -38,14 +38,29 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.asn1.ASN1BufferSet;
+import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
 import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchResultEntryProtocolOp;
+import com.unboundid.ldap.sdk.controls.ManageDsaITRequestControl;
+import com.unboundid.util.StaticUtils;
 
 
 
@@ -933,4 +948,664 @@ public class SearchResultEntryTestCase
 
     LDAPMessage.readLDAPResponseFrom(reader, true);
   }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when zero-copy decoding is
+   * enabled, making sure that the resulting entry matches the one obtained
+   * using the default decoding behavior.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadSearchEntryZeroCopy()
+         throws Exception
+  {
+    final String[] memberValues = new String[1000];
+    for (int i=0; i < memberValues.length; i++)
+    {
+      memberValues[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    final Entry entry = new Entry(
+         "cn=Test Group,ou=Groups,dc=example,dc=com",
+         new Attribute("objectClass", "top", "groupOfNames"),
+         new Attribute("cn", "Test Group"),
+         new Attribute("description", ""),
+         new Attribute("member", memberValues),
+         new Attribute("userCertificate;binary",
+              new byte[] { 0x00, 0x01, (byte) 0xFF }));
+    final byte[] encodedMessage = encodeSearchEntry(entry,
+         new ManageDsaITRequestControl());
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    final SearchResultEntry defaultEntry =
+         decodeSearchEntry(encodedMessage, options);
+
+    options.setUseZeroCopySearchEntryDecoding(true);
+    final SearchResultEntry zeroCopyEntry =
+         decodeSearchEntry(encodedMessage, options);
+
+    assertEquals(zeroCopyEntry, defaultEntry);
+    assertEquals(zeroCopyEntry, entry);
+    assertEquals(zeroCopyEntry.getMessageID(), 1);
+    assertEquals(zeroCopyEntry.getControls().length, 1);
+    assertEquals(zeroCopyEntry.getControls()[0].getOID(),
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID);
+
+    assertEquals(zeroCopyEntry.getAttributeValues("member"), memberValues);
+    assertEquals(zeroCopyEntry.getAttributeValue("description"), "");
+    assertEquals(zeroCopyEntry.getAttributeValueBytes(
+         "userCertificate;binary"),
+         new byte[] { 0x00, 0x01, (byte) 0xFF });
+    assertEquals(zeroCopyEntry.toLDIFString(), defaultEntry.toLDIFString());
+  }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when zero-copy decoding is
+   * enabled with an element containing a response sequence that is too short.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadSearchEntryZeroCopyTooShort()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+
+    final ASN1BufferSequence msgSequence = b.beginSequence();
+    b.addInteger(1);
+
+    final ASN1BufferSequence opSequence =
+         b.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY);
+    b.addOctetString("dc=example,dc=com");
+    opSequence.end();
+    msgSequence.end();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseZeroCopySearchEntryDecoding(true);
+    decodeSearchEntry(b.toByteArray(), options);
+  }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when zero-copy decoding is
+   * enabled with an element containing a response sequence with a malformed
+   * attribute.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadSearchEntryZeroCopyMalformedAttribute()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+
+    final ASN1BufferSequence msgSequence = b.beginSequence();
+    b.addInteger(1);
+
+    final ASN1BufferSequence opSequence =
+         b.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY);
+    b.addOctetString("dc=example,dc=com");
+
+    final ASN1BufferSequence attrListSequence = b.beginSequence();
+    final ASN1BufferSequence attrSequence = b.beginSequence();
+    b.addOctetString("description");
+    b.addEnumerated(1);
+    b.addEnumerated(2);
+    attrSequence.end();
+    attrListSequence.end();
+
+    opSequence.end();
+    msgSequence.end();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseZeroCopySearchEntryDecoding(true);
+    decodeSearchEntry(b.toByteArray(), options);
+  }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when zero-copy decoding is
+   * enabled with an element containing a response sequence with unexpected
+   * data after the attribute sequence.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadSearchEntryZeroCopyTrailingData()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+
+    final ASN1BufferSequence msgSequence = b.beginSequence();
+    b.addInteger(1);
+
+    final ASN1BufferSequence opSequence =
+         b.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY);
+    b.addOctetString("dc=example,dc=com");
+
+    final ASN1BufferSequence attrListSequence = b.beginSequence();
+    final ASN1BufferSequence attrSequence = b.beginSequence();
+    b.addOctetString("objectClass");
+    final ASN1BufferSet valueSet = b.beginSet();
+    b.addOctetString("top");
+    valueSet.end();
+    attrSequence.end();
+    attrListSequence.end();
+
+    // Add a well-formed attribute after the end of the attribute sequence.
+    final ASN1BufferSequence trailingAttrSequence = b.beginSequence();
+    b.addOctetString("description");
+    final ASN1BufferSet trailingValueSet = b.beginSet();
+    b.addOctetString("unexpected");
+    trailingValueSet.end();
+    trailingAttrSequence.end();
+
+    opSequence.end();
+    msgSequence.end();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseZeroCopySearchEntryDecoding(true);
+    decodeSearchEntry(b.toByteArray(), options);
+  }
+
+
+
+  /**
+   * Provides a rough benchmark demonstrating that zero-copy decoding
+   * allocates substantially less memory than the default decoding behavior
+   * when reading an entry with a large number of values.  The test will be
+   * skipped if the JVM does not support measuring per-thread allocation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testZeroCopyDecodingAllocation()
+         throws Exception
+  {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (! (threadMXBean instanceof com.sun.management.ThreadMXBean))
+    {
+      return;
+    }
+
+    final com.sun.management.ThreadMXBean allocationBean =
+         (com.sun.management.ThreadMXBean) threadMXBean;
+    if (! (allocationBean.isThreadAllocatedMemorySupported() &&
+           allocationBean.isThreadAllocatedMemoryEnabled()))
+    {
+      return;
+    }
+
+    final String[] memberValues = new String[10_000];
+    for (int i=0; i < memberValues.length; i++)
+    {
+      memberValues[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    final byte[] encodedMessage = encodeSearchEntry(new Entry(
+         "cn=Test Group,ou=Groups,dc=example,dc=com",
+         new Attribute("objectClass", "top", "groupOfNames"),
+         new Attribute("cn", "Test Group"),
+         new Attribute("member", memberValues)));
+
+    final LDAPConnectionOptions defaultOptions = new LDAPConnectionOptions();
+    final LDAPConnectionOptions zeroCopyOptions = new LDAPConnectionOptions();
+    zeroCopyOptions.setUseZeroCopySearchEntryDecoding(true);
+
+    // Warm up both code paths before measuring.
+    final long threadID = Thread.currentThread().getId();
+    for (int i=0; i < 20; i++)
+    {
+      decodeSearchEntry(encodedMessage, defaultOptions);
+      decodeSearchEntry(encodedMessage, zeroCopyOptions);
+    }
+
+    final int iterations = 20;
+    long startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      assertNotNull(decodeSearchEntry(encodedMessage, zeroCopyOptions));
+    }
+    final long zeroCopyBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      assertNotNull(decodeSearchEntry(encodedMessage, defaultOptions));
+    }
+    final long defaultBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    final String message = "Bytes allocated for " + iterations +
+         " zero-copy decodes:  " + zeroCopyBytes + StaticUtils.EOL +
+         "Bytes allocated for " + iterations + " default decodes:  " +
+         defaultBytes;
+    assertTrue(zeroCopyBytes < defaultBytes, message);
+  }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when lazy attribute decoding
+   * is enabled, making sure that the resulting entry matches the one obtained
+   * using the default decoding behavior.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadSearchEntryLazy()
+         throws Exception
+  {
+    final String[] memberValues = new String[100];
+    for (int i=0; i < memberValues.length; i++)
+    {
+      memberValues[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    final Entry entry = new Entry(
+         "cn=Test Group,ou=Groups,dc=example,dc=com",
+         new Attribute("objectClass", "top", "groupOfNames"),
+         new Attribute("cn", "Test Group"),
+         new Attribute("description"),
+         new Attribute("member", memberValues),
+         new Attribute("userCertificate;binary",
+              new byte[] { 0x00, 0x01, (byte) 0xFF }));
+    final byte[] encodedMessage = encodeSearchEntry(entry,
+         new ManageDsaITRequestControl());
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setLazilyDecodeSearchEntryAttributes(true);
+
+    // Examine the attributes in a way that does not require their values to
+    // be decoded.
+    SearchResultEntry lazyEntry = decodeSearchEntry(encodedMessage, options);
+    assertEquals(lazyEntry.getDN(), entry.getDN());
+    assertEquals(lazyEntry.getAttributes().size(), 5);
+    assertTrue(lazyEntry.hasAttribute("member"));
+    assertEquals(lazyEntry.getAttribute("member").size(), 100);
+    assertTrue(lazyEntry.getAttribute("cn").hasValue());
+    assertFalse(lazyEntry.getAttribute("description").hasValue());
+    assertEquals(lazyEntry.getControls().length, 1);
+
+    assertEquals(lazyEntry.getAttributeValue("cn"), "Test Group");
+    assertEquals(lazyEntry.getAttributeValues("member"), memberValues);
+    assertEquals(lazyEntry.getAttributeValueBytes("userCertificate;binary"),
+         new byte[] { 0x00, 0x01, (byte) 0xFF });
+    assertTrue(lazyEntry.hasAttributeValue("objectClass", "groupOfNames"));
+
+    // Subsequent requests for the values should return the cached values.
+    final Attribute memberAttr = lazyEntry.getAttribute("member");
+    assertSame(memberAttr.getRawValues(), memberAttr.getRawValues());
+
+    // Make sure that a newly decoded entry is equal to the default decoding.
+    lazyEntry = decodeSearchEntry(encodedMessage, options);
+    final SearchResultEntry defaultEntry =
+         decodeSearchEntry(encodedMessage, new LDAPConnectionOptions());
+    assertEquals(lazyEntry, defaultEntry);
+    assertEquals(defaultEntry, decodeSearchEntry(encodedMessage, options));
+    assertEquals(lazyEntry.hashCode(), defaultEntry.hashCode());
+    assertEquals(decodeSearchEntry(encodedMessage, options).toLDIFString(),
+         defaultEntry.toLDIFString());
+    assertEquals(decodeSearchEntry(encodedMessage, options).toString(),
+         defaultEntry.toString());
+  }
+
+
+
+  /**
+   * Tests the behavior when serializing a search result entry whose
+   * attributes were decoded lazily before their values have been accessed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSerializeLazilyDecodedAttribute()
+         throws Exception
+  {
+    final byte[] encodedMessage = encodeSearchEntry(new Entry(
+         "dc=example,dc=com",
+         new Attribute("objectClass", "top", "domain"),
+         new Attribute("dc", "example")));
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setLazilyDecodeSearchEntryAttributes(true);
+    final SearchResultEntry lazyEntry =
+         decodeSearchEntry(encodedMessage, options);
+
+    final ByteArrayOutputStream byteArrayOutputStream =
+         new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream =
+              new ObjectOutputStream(byteArrayOutputStream))
+    {
+      objectOutputStream.writeObject(lazyEntry.getAttribute("objectClass"));
+    }
+
+    final Attribute deserializedAttribute;
+    try (ObjectInputStream objectInputStream = new ObjectInputStream(
+              new ByteArrayInputStream(byteArrayOutputStream.toByteArray())))
+    {
+      deserializedAttribute = (Attribute) objectInputStream.readObject();
+    }
+
+    assertEquals(deserializedAttribute,
+         new Attribute("objectClass", "top", "domain"));
+    assertEquals(deserializedAttribute.size(), 2);
+    assertEquals(deserializedAttribute.getValues(),
+         new String[] { "top", "domain" });
+  }
+
+
+
+  /**
+   * Tests the behavior when multiple threads concurrently access the values of
+   * a lazily decoded attribute for the first time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentLazyDecoding()
+         throws Exception
+  {
+    final String[] memberValues = new String[1000];
+    for (int i=0; i < memberValues.length; i++)
+    {
+      memberValues[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    final byte[] encodedMessage = encodeSearchEntry(new Entry(
+         "cn=Test Group,ou=Groups,dc=example,dc=com",
+         new Attribute("objectClass", "top", "groupOfNames"),
+         new Attribute("member", memberValues)));
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setLazilyDecodeSearchEntryAttributes(true);
+    final Attribute memberAttr =
+         decodeSearchEntry(encodedMessage, options).getAttribute("member");
+
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>(10);
+    final ASN1OctetString[][] results = new ASN1OctetString[10][];
+    for (int i=0; i < 10; i++)
+    {
+      final int threadIndex = i;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (final InterruptedException e)
+          {
+            return;
+          }
+
+          results[threadIndex] = memberAttr.getRawValues();
+        }
+      };
+
+      threads.add(t);
+      t.start();
+    }
+
+    startLatch.countDown();
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    for (final ASN1OctetString[] result : results)
+    {
+      assertSame(result, results[0]);
+    }
+
+    assertEquals(memberAttr.getValues(), memberValues);
+  }
+
+
+
+  /**
+   * Tests the {@code readSearchEntryFrom} method when lazy attribute decoding
+   * is enabled with an attribute whose value set contains a malformed value.
+   * The problem must be detected when the entry is read rather than when the
+   * value is accessed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testReadSearchEntryLazyMalformedValue()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+
+    final ASN1BufferSequence msgSequence = b.beginSequence();
+    b.addInteger(1);
+
+    final ASN1BufferSequence opSequence =
+         b.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY);
+    b.addOctetString("dc=example,dc=com");
+
+    final ASN1BufferSequence attrListSequence = b.beginSequence();
+    final ASN1BufferSequence attrSequence = b.beginSequence();
+    b.addOctetString("description");
+    b.addOctetString(new byte[] { 0x04, 0x05, 0x61 });
+    attrSequence.end();
+    attrListSequence.end();
+
+    opSequence.end();
+    msgSequence.end();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setLazilyDecodeSearchEntryAttributes(true);
+    decodeSearchEntry(b.toByteArray(), options);
+  }
+
+
+
+  /**
+   * Provides a rough benchmark demonstrating that lazy attribute decoding
+   * allocates substantially less memory than eager zero-copy decoding when an
+   * entry has many values that are never accessed.  The test will be skipped
+   * if the JVM does not support measuring per-thread allocation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLazyDecodingAllocation()
+         throws Exception
+  {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (! (threadMXBean instanceof com.sun.management.ThreadMXBean))
+    {
+      return;
+    }
+
+    final com.sun.management.ThreadMXBean allocationBean =
+         (com.sun.management.ThreadMXBean) threadMXBean;
+    if (! (allocationBean.isThreadAllocatedMemorySupported() &&
+           allocationBean.isThreadAllocatedMemoryEnabled()))
+    {
+      return;
+    }
+
+    final String[] memberValues = new String[10_000];
+    for (int i=0; i < memberValues.length; i++)
+    {
+      memberValues[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    final byte[] encodedMessage = encodeSearchEntry(new Entry(
+         "cn=Test Group,ou=Groups,dc=example,dc=com",
+         new Attribute("objectClass", "top", "groupOfNames"),
+         new Attribute("cn", "Test Group"),
+         new Attribute("member", memberValues)));
+
+    final LDAPConnectionOptions zeroCopyOptions = new LDAPConnectionOptions();
+    zeroCopyOptions.setUseZeroCopySearchEntryDecoding(true);
+    final LDAPConnectionOptions lazyOptions = new LDAPConnectionOptions();
+    lazyOptions.setLazilyDecodeSearchEntryAttributes(true);
+
+    // Warm up both code paths before measuring.  Only the cn attribute is
+    // accessed, as would be the case for an application that requests all
+    // attributes but only examines a few of them.
+    final long threadID = Thread.currentThread().getId();
+    for (int i=0; i < 20; i++)
+    {
+      decodeSearchEntry(encodedMessage, zeroCopyOptions).getAttributeValue(
+           "cn");
+      decodeSearchEntry(encodedMessage, lazyOptions).getAttributeValue("cn");
+    }
+
+    final int iterations = 20;
+    long startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      assertEquals(decodeSearchEntry(encodedMessage,
+           lazyOptions).getAttributeValue("cn"), "Test Group");
+    }
+    final long lazyBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    startBytes = allocationBean.getThreadAllocatedBytes(threadID);
+    for (int i=0; i < iterations; i++)
+    {
+      assertEquals(decodeSearchEntry(encodedMessage,
+           zeroCopyOptions).getAttributeValue("cn"), "Test Group");
+    }
+    final long zeroCopyBytes =
+         allocationBean.getThreadAllocatedBytes(threadID) - startBytes;
+
+    final String message = "Bytes allocated for " + iterations +
+         " lazy decodes:  " + lazyBytes + StaticUtils.EOL +
+         "Bytes allocated for " + iterations + " zero-copy decodes:  " +
+         zeroCopyBytes;
+    assertTrue(lazyBytes < zeroCopyBytes, message);
+  }
+
+
+
+  /**
+   * Retrieves a set of connection options to use when testing zero-copy
+   * decoding over a connection.
+   *
+   * @return  A set of connection options to use when testing zero-copy
+   *          decoding over a connection.
+   */
+  @DataProvider(name="zeroCopyConnectionOptions")
+  public Object[][] getZeroCopyConnectionOptions()
+  {
+    final LDAPConnectionOptions threadOptions = new LDAPConnectionOptions();
+    threadOptions.setUseZeroCopySearchEntryDecoding(true);
+
+    final LDAPConnectionOptions nioOptions = threadOptions.duplicate();
+    nioOptions.setUseNIO(true);
+
+    final LDAPConnectionOptions synchronousOptions = threadOptions.duplicate();
+    synchronousOptions.setUseSynchronousMode(true);
+
+    final LDAPConnectionOptions lazyOptions = new LDAPConnectionOptions();
+    lazyOptions.setLazilyDecodeSearchEntryAttributes(true);
+
+    final LDAPConnectionOptions lazyNIOOptions = lazyOptions.duplicate();
+    lazyNIOOptions.setUseNIO(true);
+
+    return new Object[][]
+    {
+      new Object[] { threadOptions },
+      new Object[] { nioOptions },
+      new Object[] { synchronousOptions },
+      new Object[] { lazyOptions },
+      new Object[] { lazyNIOOptions }
+    };
+  }
+
+
+
+  /**
+   * Tests searching over a connection that uses zero-copy decoding.
+   *
+   * @param  options  The connection options to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="zeroCopyConnectionOptions")
+  public void testZeroCopyDecodingOverConnection(
+                   final LDAPConnectionOptions options)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnection defaultConn = ds.getConnection();
+         LDAPConnection zeroCopyConn =
+              new LDAPConnection(options, "localhost", ds.getListenPort()))
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB,
+           Filter.createPresenceFilter("objectClass"), "*", "+");
+
+      final SearchResult defaultResult = defaultConn.search(searchRequest);
+      final SearchResult zeroCopyResult = zeroCopyConn.search(searchRequest);
+
+      assertEquals(zeroCopyResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(zeroCopyResult.getEntryCount(),
+           defaultResult.getEntryCount());
+      for (final SearchResultEntry e : defaultResult.getSearchEntries())
+      {
+        assertEquals(zeroCopyResult.getSearchEntry(e.getDN()), e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided entry as an LDAP message containing a search result
+   * entry protocol op.
+   *
+   * @param  entry     The entry to encode.
+   * @param  controls  The controls to include in the message.
+   *
+   * @return  The encoded LDAP message.
+   */
+  private static byte[] encodeSearchEntry(final Entry entry,
+                                          final Control... controls)
+  {
+    final ASN1Buffer buffer = new ASN1Buffer();
+    new LDAPMessage(1, new SearchResultEntryProtocolOp(entry),
+         controls).writeTo(buffer);
+    return buffer.toByteArray();
+  }
+
+
+
+  /**
+   * Decodes the provided encoded LDAP message as a search result entry.
+   *
+   * @param  encodedMessage  The encoded LDAP message to decode.
+   * @param  options         The connection options to use when decoding.
+   *
+   * @return  The decoded search result entry.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static SearchResultEntry decodeSearchEntry(
+                                        final byte[] encodedMessage,
+                                        final LDAPConnectionOptions options)
+          throws Exception
+  {
+    final ASN1StreamReader reader =
+         new ASN1StreamReader(new ByteArrayInputStream(encodedMessage));
+    return (SearchResultEntry)
+         LDAPMessage.readLDAPResponseFrom(reader, true, null, options);
+  }
 }
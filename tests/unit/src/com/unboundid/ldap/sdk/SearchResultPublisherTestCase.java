@@ -0,0 +1,448 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the SearchResultPublisher class.
+ */
+public class SearchResultPublisherTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves a set of connection options to use for testing.
+   *
+   * @return  A set of connection options to use for testing.
+   */
+  @DataProvider(name="connectionOptions")
+  public Object[][] getConnectionOptions()
+  {
+    final LDAPConnectionOptions nioOptions = new LDAPConnectionOptions();
+    nioOptions.setUseNIO(true);
+
+    return new Object[][]
+    {
+      new Object[] { new LDAPConnectionOptions() },
+      new Object[] { nioOptions }
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscriber requests results a few at a time,
+   * which will require the connection reader to be paused and resumed.
+   *
+   * @param  options  The connection options to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="connectionOptions")
+  public void testDemandControlsDelivery(
+                   final LDAPConnectionOptions options)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createTestEntries(300);
+
+    try (LDAPConnection conn =
+              new LDAPConnection(options, "localhost", ds.getListenPort()))
+    {
+      final SearchResultPublisher publisher = new SearchResultPublisher(conn,
+           new SearchRequest("ou=People,dc=example,dc=com", SearchScope.ONE,
+                Filter.createPresenceFilter("objectClass")),
+           10);
+
+      final TestSubscriber subscriber = new TestSubscriber(-1);
+      publisher.subscribe(subscriber);
+      assertNotNull(subscriber.subscription);
+
+      // Since nothing has been requested, the reader should get paused once
+      // the buffer is full, and no entries should be delivered.
+      final LDAPConnectionReader reader =
+           conn.getConnectionInternals(true).getConnectionReader();
+      waitForReaderPaused(reader, true);
+      assertTrue(subscriber.entries.isEmpty());
+
+      subscriber.subscription.request(3L);
+      assertEquals(subscriber.entries.size(), 3);
+      assertTrue(reader.readingPaused());
+
+      // Draining the buffer below half of its capacity should resume reading,
+      // but it will get paused again as soon as the buffer fills back up.
+      subscriber.subscription.request(5L);
+      assertEquals(subscriber.entries.size(), 8);
+      waitForReaderPaused(reader, true);
+      assertEquals(subscriber.entries.size(), 8);
+
+      subscriber.subscription.request(Long.MAX_VALUE);
+      assertTrue(subscriber.completionLatch.await(30L, TimeUnit.SECONDS));
+      assertEquals(subscriber.entries.size(), 300);
+      assertNotNull(subscriber.searchResult);
+      assertEquals(subscriber.searchResult.getResultCode(),
+           ResultCode.SUCCESS);
+      assertEquals(subscriber.searchResult.getEntryCount(), 300);
+      assertFalse(reader.readingPaused());
+
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscription is cancelled while the connection
+   * reader is paused.
+   *
+   * @param  options  The connection options to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="connectionOptions")
+  public void testCancel(final LDAPConnectionOptions options)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createTestEntries(100);
+
+    try (LDAPConnection conn =
+              new LDAPConnection(options, "localhost", ds.getListenPort()))
+    {
+      final SearchResultPublisher publisher = new SearchResultPublisher(conn,
+           new SearchRequest("ou=People,dc=example,dc=com", SearchScope.ONE,
+                Filter.createPresenceFilter("objectClass")),
+           5);
+
+      final TestSubscriber subscriber = new TestSubscriber(-1);
+      publisher.subscribe(subscriber);
+
+      final LDAPConnectionReader reader =
+           conn.getConnectionInternals(true).getConnectionReader();
+      waitForReaderPaused(reader, true);
+
+      subscriber.subscription.request(2L);
+      subscriber.subscription.cancel();
+      assertFalse(reader.readingPaused());
+
+      subscriber.subscription.request(10L);
+      assertEquals(subscriber.entries.size(), 2);
+      assertFalse(subscriber.completionLatch.await(100L,
+           TimeUnit.MILLISECONDS));
+
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscriber throws an exception while
+   * processing an entry.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSubscriberException()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createTestEntries(50);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultPublisher publisher = new SearchResultPublisher(conn,
+           new SearchRequest("ou=People,dc=example,dc=com", SearchScope.ONE,
+                Filter.createPresenceFilter("objectClass")),
+           5);
+
+      final TestSubscriber subscriber = new TestSubscriber(3);
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(Long.MAX_VALUE);
+
+      final long stopWaitingTime = System.currentTimeMillis() + 30_000L;
+      while ((subscriber.entries.size() < 3) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(1L);
+      }
+
+      assertEquals(subscriber.entries.size(), 3);
+      assertFalse(subscriber.completionLatch.await(100L,
+           TimeUnit.MILLISECONDS));
+      assertEquals(subscriber.entries.size(), 3);
+      assertFalse(conn.getConnectionInternals(true).getConnectionReader().
+           readingPaused());
+
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior with invalid uses of the search result publisher.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidUses()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      try
+      {
+        new SearchResultPublisher(conn,
+             new SearchRequest(new TestAsyncListener(), "dc=example,dc=com",
+                  SearchScope.BASE,
+                  Filter.createPresenceFilter("objectClass")));
+        fail("Expected an exception when the request has a listener");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.PARAM_ERROR);
+      }
+
+      final SearchResultPublisher publisher = new SearchResultPublisher(conn,
+           new SearchRequest("dc=example,dc=com", SearchScope.BASE,
+                Filter.createPresenceFilter("objectClass")));
+
+      final TestSubscriber subscriber = new TestSubscriber(-1);
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(1L);
+      assertTrue(subscriber.completionLatch.await(30L, TimeUnit.SECONDS));
+      assertEquals(subscriber.entries.size(), 1);
+
+      try
+      {
+        publisher.subscribe(new TestSubscriber(-1));
+        fail("Expected an exception when subscribing twice");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.PARAM_ERROR);
+      }
+    }
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(true);
+    try (LDAPConnection conn =
+              new LDAPConnection(options, "localhost", ds.getListenPort()))
+    {
+      final SearchResultPublisher publisher = new SearchResultPublisher(conn,
+           new SearchRequest("dc=example,dc=com", SearchScope.BASE,
+                Filter.createPresenceFilter("objectClass")));
+      try
+      {
+        publisher.subscribe(new TestSubscriber(-1));
+        fail("Expected an exception for a synchronous mode connection");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NOT_SUPPORTED);
+      }
+    }
+  }
+
+
+
+  /**
+   * Populates the test directory server with the specified number of entries
+   * below ou=People,dc=example,dc=com.
+   *
+   * @param  numEntries  The number of entries to create.
+   *
+   * @return  The test directory server instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServer createTestEntries(
+                                              final int numEntries)
+          throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    ds.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    for (int i=0; i < numEntries; i++)
+    {
+      ds.add(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + i,
+           "cn: User " + i);
+    }
+
+    return ds;
+  }
+
+
+
+  /**
+   * Waits for the provided connection reader to reach the given paused state.
+   *
+   * @param  reader  The connection reader to examine.
+   * @param  paused  The paused state to wait for.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForReaderPaused(final LDAPConnectionReader reader,
+                                          final boolean paused)
+          throws Exception
+  {
+    final long stopWaitingTime = System.currentTimeMillis() + 30_000L;
+    while (reader.readingPaused() != paused)
+    {
+      if (System.currentTimeMillis() > stopWaitingTime)
+      {
+        fail("Timed out waiting for the reader paused state to be " + paused);
+      }
+
+      Thread.sleep(1L);
+    }
+  }
+
+
+
+  /**
+   * A search result subscriber that collects the results it receives.
+   */
+  private static final class TestSubscriber
+          implements SearchResultSubscriber
+  {
+    // A latch that will be released when the search completes.
+    private final CountDownLatch completionLatch;
+
+    // The entry number after which to throw an exception, or -1 to not throw.
+    private final int throwAfterEntry;
+
+    // The entries that have been received.
+    private final List<SearchResultEntry> entries;
+
+    // The search result, once it has been received.
+    private volatile SearchResult searchResult;
+
+    // The subscription provided to this subscriber.
+    private volatile SearchResultSubscription subscription;
+
+
+
+    /**
+     * Creates a new test subscriber.
+     *
+     * @param  throwAfterEntry  The number of entries after which to throw an
+     *                          exception, or -1 to not throw.
+     */
+    private TestSubscriber(final int throwAfterEntry)
+    {
+      this.throwAfterEntry = throwAfterEntry;
+
+      completionLatch = new CountDownLatch(1);
+      entries = new ArrayList<>();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void subscriptionStarted(
+                     final SearchResultSubscription subscription)
+    {
+      this.subscription = subscription;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      entries.add(searchEntry);
+      if (entries.size() == throwAfterEntry)
+      {
+        throw new RuntimeException("Subscriber failure");
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      fail("Unexpected search result reference " + searchReference);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchCompleted(final SearchResult searchResult)
+    {
+      this.searchResult = searchResult;
+      completionLatch.countDown();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the server latency tracker.
+ */
+public final class ServerLatencyTrackerTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a newly created tracker.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNewTracker()
+       throws Exception
+  {
+    final ServerLatencyTracker tracker = new ServerLatencyTracker(1000L);
+    final long now = System.nanoTime();
+
+    assertEquals(tracker.getLatencyNanos(now), 0.0d);
+    assertEquals(tracker.getErrorRate(now), 0.0d);
+    assertEquals(tracker.getNumOperations(), 0L);
+    assertEquals(tracker.getNumErrors(), 0L);
+
+    // The cost should still reflect the current load.
+    assertTrue(tracker.getCost(1L, now) > tracker.getCost(0L, now));
+
+    final StringBuilder buffer = new StringBuilder();
+    tracker.toString(buffer, now);
+    assertTrue(buffer.toString().contains("numOperations=0"));
+  }
+
+
+
+  /**
+   * Tests the peak behavior of the response time average, in which larger
+   * response times take effect immediately while smaller ones are blended in
+   * over time.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPeakLatency()
+       throws Exception
+  {
+    final ServerLatencyTracker tracker = new ServerLatencyTracker(1000L);
+    final long start = System.nanoTime();
+
+    tracker.recordOperation(10_000_000L, false, start);
+    assertClose(tracker.getLatencyNanos(start), 10_000_000.0d);
+
+    tracker.recordOperation(50_000_000L, false, start);
+    assertClose(tracker.getLatencyNanos(start), 50_000_000.0d);
+
+    // A smaller response time observed without any elapsed time should have
+    // no effect.
+    tracker.recordOperation(1_000_000L, false, start);
+    assertClose(tracker.getLatencyNanos(start), 50_000_000.0d);
+
+    // A smaller response time observed one decay period later should be
+    // blended in with a weight of about 63 percent.
+    final long oneSecondLater = start + 1_000_000_000L;
+    tracker.recordOperation(1_000_000L, false, oneSecondLater);
+    final double expected = (50_000_000.0d * Math.exp(-1.0d)) +
+         (1_000_000.0d * (1.0d - Math.exp(-1.0d)));
+    assertClose(tracker.getLatencyNanos(oneSecondLater), expected);
+
+    // Without any new observations, the average should decay toward zero.
+    final long muchLater = oneSecondLater + 60_000_000_000L;
+    assertTrue(tracker.getLatencyNanos(muchLater) < 1.0d);
+
+    assertEquals(tracker.getNumOperations(), 4L);
+    assertEquals(tracker.getNumErrors(), 0L);
+  }
+
+
+
+  /**
+   * Tests the behavior of the error rate average.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testErrorRate()
+       throws Exception
+  {
+    final ServerLatencyTracker tracker = new ServerLatencyTracker(1000L);
+    final long start = System.nanoTime();
+
+    // A burst of errors should be reflected right away.
+    for (int i=0; i < 10; i++)
+    {
+      tracker.recordOperation(1_000_000L, true, start);
+    }
+
+    final double burstErrorRate = tracker.getErrorRate(start);
+    assertClose(burstErrorRate, 1.0d - Math.pow(0.9d, 10));
+    assertEquals(tracker.getNumErrors(), 10L);
+
+    // Errors should make the server more costly than one with the same
+    // response time but no errors.
+    final ServerLatencyTracker healthyTracker = new ServerLatencyTracker(1000L);
+    healthyTracker.recordOperation(1_000_000L, false, start);
+    assertTrue(tracker.getCost(0L, start) >
+         (5.0d * healthyTracker.getCost(0L, start)));
+
+    // Successful operations should reduce the error rate.
+    tracker.recordOperation(1_000_000L, false, start);
+    assertTrue(tracker.getErrorRate(start) < burstErrorRate);
+
+    // An error not associated with an operation should increase it again
+    // without affecting the number of operations.
+    tracker.recordError(start);
+    assertTrue(tracker.getErrorRate(start) > 0.0d);
+    assertEquals(tracker.getNumOperations(), 11L);
+    assertEquals(tracker.getNumErrors(), 11L);
+
+    // The error rate should decay over time.
+    assertTrue(tracker.getErrorRate(start + 60_000_000_000L) < 0.000001d);
+  }
+
+
+
+  /**
+   * Ensures that the provided values are equal within a small tolerance.
+   *
+   * @param  actual    The actual value.
+   * @param  expected  The expected value.
+   */
+  private static void assertClose(final double actual, final double expected)
+  {
+    assertTrue((Math.abs(actual - expected) <= (Math.abs(expected) * 1.0e-6d)),
+         "Expected " + expected + " but got " + actual);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the weighted round-robin
+ * connection pool routing policy.
+ */
+public final class WeightedRoundRobinRoutingPolicyTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that servers are selected in proportion to their weights,
+   * and that selections are interleaved.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWeightedSelection()
+         throws Exception
+  {
+    final WeightedRoundRobinRoutingPolicy policy =
+         new WeightedRoundRobinRoutingPolicy(
+              new String[] { "server1", "server2" },
+              new int[] { 389, 389 },
+              new int[] { 3, 1 });
+    assertEquals(policy.getWeight("server1", 389), 3);
+    assertEquals(policy.getWeight("server2", 389), 1);
+    assertEquals(policy.getWeight("server3", 389),
+         WeightedRoundRobinRoutingPolicy.DEFAULT_WEIGHT);
+    assertNotNull(policy.toString());
+
+    final List<LDAPConnectionPoolServer> servers = Arrays.asList(
+         new LDAPConnectionPoolServer("server1", 389),
+         new LDAPConnectionPoolServer("server2", 389));
+
+    final StringBuilder selections = new StringBuilder();
+    for (int i=0; i < 8; i++)
+    {
+      selections.append(policy.selectServer(servers));
+    }
+    assertEquals(selections.toString(), "00100010");
+
+
+    // If only the second server is available, then it should be selected
+    // every time.
+    final List<LDAPConnectionPoolServer> secondOnly =
+         Arrays.asList(servers.get(1));
+    for (int i=0; i < 3; i++)
+    {
+      assertEquals(policy.selectServer(secondOnly), 0);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior for servers with a weight of zero and servers that were
+   * not assigned a weight.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testZeroAndDefaultWeights()
+         throws Exception
+  {
+    final WeightedRoundRobinRoutingPolicy policy =
+         new WeightedRoundRobinRoutingPolicy(
+              new String[] { "server1" },
+              new int[] { 389 },
+              new int[] { 0 });
+
+    final LDAPConnectionPoolServer zeroWeightServer =
+         new LDAPConnectionPoolServer("server1", 389);
+    final LDAPConnectionPoolServer defaultWeightServer =
+         new LDAPConnectionPoolServer("server2", 389);
+
+    // The server with the default weight should always be preferred.
+    final List<LDAPConnectionPoolServer> servers =
+         Arrays.asList(zeroWeightServer, defaultWeightServer);
+    for (int i=0; i < 5; i++)
+    {
+      assertEquals(policy.selectServer(servers), 1);
+    }
+
+    // The zero-weight server should still be used if it is the only one.
+    assertEquals(policy.selectServer(Arrays.asList(zeroWeightServer)), 0);
+  }
+
+
+
+  /**
+   * Tests to ensure that the constructor rejects invalid arguments.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testNegativeWeight()
+         throws Exception
+  {
+    new WeightedRoundRobinRoutingPolicy(new String[] { "server1" },
+         new int[] { 389 }, new int[] { -1 });
+  }
+
+
+
+  /**
+   * Tests to ensure that the constructor rejects arrays of different sizes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testMismatchedArrays()
+         throws Exception
+  {
+    new WeightedRoundRobinRoutingPolicy(new String[] { "server1" },
+         new int[] { 389, 636 }, new int[] { 1 });
+  }
+}
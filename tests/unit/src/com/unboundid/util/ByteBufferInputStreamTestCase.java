@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code ByteBufferInputStream} class.
+ */
+public class ByteBufferInputStreamTestCase
+       extends UtilTestCase
+{
+  /**
+   * Retrieves buffers containing the bytes 0 through 9, for use in testing.
+   *
+   * @return  Buffers containing the bytes 0 through 9.
+   */
+  @DataProvider(name="buffers")
+  public Object[][] getBuffers()
+  {
+    final byte[] data = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+
+    final ByteBuffer heapBuffer = ByteBuffer.wrap(data);
+
+    final ByteBuffer directBuffer = ByteBuffer.allocateDirect(data.length);
+    directBuffer.put(data);
+    directBuffer.flip();
+
+    return new Object[][]
+    {
+      new Object[] { heapBuffer },
+      new Object[] { directBuffer }
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior when reading one byte at a time.
+   *
+   * @param  buffer  The buffer to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="buffers")
+  public void testReadSingleBytes(final ByteBuffer buffer)
+         throws Exception
+  {
+    final ByteBufferInputStream inputStream =
+         new ByteBufferInputStream(buffer);
+    assertTrue(inputStream.markSupported());
+    assertEquals(inputStream.available(), 10);
+
+    for (int i=0; i < 10; i++)
+    {
+      assertEquals(inputStream.read(), i);
+      assertEquals(buffer.position(), (i+1));
+    }
+
+    assertEquals(inputStream.available(), 0);
+    assertEquals(inputStream.read(), -1);
+
+    inputStream.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when reading into arrays.
+   *
+   * @param  buffer  The buffer to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="buffers")
+  public void testReadArrays(final ByteBuffer buffer)
+         throws Exception
+  {
+    final ByteBufferInputStream inputStream =
+         new ByteBufferInputStream(buffer);
+
+    final byte[] b = new byte[4];
+    assertEquals(inputStream.read(b), 4);
+    assertEquals(b, new byte[] { 0, 1, 2, 3 });
+
+    assertEquals(inputStream.read(b, 1, 0), 0);
+
+    assertEquals(inputStream.read(b, 1, 3), 3);
+    assertEquals(b, new byte[] { 0, 4, 5, 6 });
+
+    assertEquals(inputStream.read(b), 3);
+    assertEquals(b, new byte[] { 7, 8, 9, 6 });
+
+    assertEquals(inputStream.read(b), -1);
+
+    try
+    {
+      inputStream.read(b, 2, 3);
+      fail("Expected an exception when reading beyond the end of the array");
+    }
+    catch (final IndexOutOfBoundsException e)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the skip, mark, and reset methods.
+   *
+   * @param  buffer  The buffer to use for the test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="buffers")
+  public void testSkipMarkAndReset(final ByteBuffer buffer)
+         throws Exception
+  {
+    final ByteBufferInputStream inputStream =
+         new ByteBufferInputStream(buffer);
+
+    assertEquals(inputStream.skip(0L), 0L);
+    assertEquals(inputStream.skip(-1L), 0L);
+    assertEquals(inputStream.skip(2L), 2L);
+    assertEquals(inputStream.read(), 2);
+
+    inputStream.reset();
+    assertEquals(inputStream.read(), 0);
+
+    inputStream.mark(1);
+    assertEquals(inputStream.skip(100L), 9L);
+    assertEquals(inputStream.read(), -1);
+
+    inputStream.reset();
+    assertEquals(inputStream.read(), 1);
+
+    buffer.limit(0);
+    try
+    {
+      inputStream.reset();
+      fail("Expected an exception when resetting beyond the buffer limit");
+    }
+    catch (final IOException e)
+    {
+      // This was expected.
+    }
+  }
+}
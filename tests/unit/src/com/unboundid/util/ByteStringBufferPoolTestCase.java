@@ -0,0 +1,372 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code ByteStringBufferPool} class.
+ */
+public class ByteStringBufferPoolTestCase
+       extends UtilTestCase
+{
+  /**
+   * Tests the default pool instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultInstance()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = ByteStringBufferPool.getDefaultInstance();
+    assertNotNull(pool);
+    assertSame(ByteStringBufferPool.getDefaultInstance(), pool);
+
+    assertEquals(pool.getMaxBuffersPerSizeClass(),
+         ByteStringBufferPool.DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS);
+    assertEquals(pool.getMaxRetainedCapacity(),
+         ByteStringBufferPool.DEFAULT_MAX_RETAINED_CAPACITY);
+
+    final ByteStringBuffer buffer = pool.acquire();
+    assertNotNull(buffer);
+    assertEquals(buffer.length(), 0);
+    buffer.append("foo");
+    pool.release(buffer);
+
+    assertNotNull(pool.toString());
+  }
+
+
+
+  /**
+   * Tests the basic process of acquiring and releasing buffers, including
+   * making sure that released buffers are reused and cleared.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAcquireAndRelease()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(4, 65_536);
+    assertEquals(pool.getPooledBufferCount(), 0);
+
+    final ByteStringBuffer buffer = pool.acquire();
+    assertEquals(buffer.length(), 0);
+    assertTrue(buffer.capacity() >= 256);
+    assertEquals(pool.getBuffersAllocated(), 1L);
+    assertEquals(pool.getBuffersReused(), 0L);
+
+    buffer.append("This is some data");
+    pool.release(buffer);
+    assertEquals(pool.getPooledBufferCount(), 1);
+
+    final ByteStringBuffer reusedBuffer = pool.acquire();
+    assertSame(reusedBuffer, buffer);
+    assertEquals(reusedBuffer.length(), 0);
+    assertEquals(pool.getBuffersAllocated(), 1L);
+    assertEquals(pool.getBuffersReused(), 1L);
+    assertEquals(pool.getPooledBufferCount(), 0);
+
+    // Releasing a null buffer should have no effect.
+    pool.release(null);
+    assertEquals(pool.getPooledBufferCount(), 0);
+    assertEquals(pool.getBuffersDiscarded(), 0L);
+
+    assertTrue(pool.toString().contains("buffersReused=1"));
+  }
+
+
+
+  /**
+   * Tests the behavior when acquiring buffers with a minimum capacity, making
+   * sure that an acquired buffer always has at least that capacity.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAcquireWithMinimumCapacity()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(4, 65_536);
+
+    final ByteStringBuffer smallBuffer = pool.acquire(100);
+    assertEquals(smallBuffer.capacity(), 256);
+
+    final ByteStringBuffer mediumBuffer = pool.acquire(5000);
+    assertEquals(mediumBuffer.capacity(), 5000);
+
+    pool.release(smallBuffer);
+    pool.release(mediumBuffer);
+    assertEquals(pool.getPooledBufferCount(), 2);
+
+    // A buffer with a capacity of 5000 is in the size class for capacities
+    // from 4096 to 8191, so it can't be used to satisfy a request for 6000
+    // bytes, but it can be used for a request of 4096 bytes.
+    final ByteStringBuffer largerBuffer = pool.acquire(6000);
+    assertNotSame(largerBuffer, mediumBuffer);
+    assertTrue(largerBuffer.capacity() >= 6000);
+
+    assertSame(pool.acquire(4096), mediumBuffer);
+
+    // A request for a small buffer may be satisfied by any pooled buffer.
+    assertSame(pool.acquire(10), smallBuffer);
+
+    for (int i=1; i <= 65_536; i++)
+    {
+      final ByteStringBuffer b = pool.acquire(i);
+      assertTrue(b.capacity() >= i);
+      pool.release(b);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that buffers larger than the maximum retained capacity are
+   * discarded rather than pooled.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOversizedBuffersDiscarded()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(4, 4096);
+
+    final ByteStringBuffer buffer = pool.acquire();
+    buffer.append(new byte[100_000]);
+    assertTrue(buffer.capacity() > 4096);
+
+    pool.release(buffer);
+    assertEquals(pool.getPooledBufferCount(), 0);
+    assertEquals(pool.getBuffersDiscarded(), 1L);
+
+    final ByteStringBuffer largeBuffer = pool.acquire(10_000);
+    assertTrue(largeBuffer.capacity() >= 10_000);
+    pool.release(largeBuffer);
+    assertEquals(pool.getPooledBufferCount(), 0);
+    assertEquals(pool.getBuffersDiscarded(), 2L);
+
+    // Buffers with less than the minimum size class capacity will also be
+    // discarded.
+    pool.release(new ByteStringBuffer(10));
+    assertEquals(pool.getPooledBufferCount(), 0);
+    assertEquals(pool.getBuffersDiscarded(), 3L);
+
+    final ByteStringBuffer maxSizeBuffer = pool.acquire(4096);
+    pool.release(maxSizeBuffer);
+    assertEquals(pool.getPooledBufferCount(), 1);
+  }
+
+
+
+  /**
+   * Tests to ensure that each size class holds no more than the configured
+   * number of buffers, in addition to the one held in the front cache for the
+   * current thread's stripe, and that the pool can be trimmed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSizeClassLimitAndTrim()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(2, 65_536);
+
+    final List<ByteStringBuffer> buffers = new ArrayList<>(5);
+    for (int i=0; i < 5; i++)
+    {
+      buffers.add(pool.acquire());
+    }
+
+    for (final ByteStringBuffer b : buffers)
+    {
+      pool.release(b);
+    }
+
+    assertEquals(pool.getPooledBufferCount(), 3);
+    assertEquals(pool.getBuffersDiscarded(), 2L);
+
+    pool.release(pool.acquire(1000));
+    assertEquals(pool.getPooledBufferCount(), 4);
+
+    pool.trim();
+    assertEquals(pool.getPooledBufferCount(), 0);
+
+    // The pool should still be usable after it has been trimmed.
+    final ByteStringBuffer b = pool.acquire();
+    pool.release(b);
+    assertEquals(pool.getPooledBufferCount(), 1);
+  }
+
+
+
+  /**
+   * Tests the behavior when the pool is accessed concurrently by multiple
+   * threads, making sure that a buffer is never handed to more than one
+   * thread at a time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentAccess()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(4, 65_536);
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>(8);
+    final List<String> failures =
+         Collections.synchronizedList(new ArrayList<String>(1));
+
+    for (int i=0; i < 8; i++)
+    {
+      final String value = "Thread " + i;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (final InterruptedException e)
+          {
+            return;
+          }
+
+          for (int j=0; j < 10_000; j++)
+          {
+            final ByteStringBuffer b = pool.acquire(j % 1000);
+            if (b.length() != 0)
+            {
+              failures.add("Acquired a non-empty buffer");
+            }
+
+            b.append(value);
+            Thread.yield();
+            if (! b.toString().equals(value))
+            {
+              failures.add("Buffer was shared between threads");
+            }
+
+            pool.release(b);
+          }
+        }
+      };
+
+      threads.add(t);
+      t.start();
+    }
+
+    startLatch.countDown();
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertTrue(failures.isEmpty(), String.valueOf(failures));
+    assertTrue(pool.getPooledBufferCount() <=
+         ((4 + ByteStringBufferPool.NUM_STRIPES) * 9));
+  }
+
+
+
+  /**
+   * Tests to ensure that the content of a buffer is overwritten with zeros
+   * when it is released to the pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReleasedBuffersZeroed()
+         throws Exception
+  {
+    final ByteStringBufferPool pool = new ByteStringBufferPool(4, 65_536);
+
+    final ByteStringBuffer buffer = pool.acquire();
+    buffer.append("This is some sensitive data");
+    final byte[] backingArray = buffer.getBackingArray();
+    pool.release(buffer);
+
+    for (final byte b : backingArray)
+    {
+      assertEquals(b, (byte) 0x00);
+    }
+
+    assertSame(pool.acquire(), buffer);
+  }
+
+
+
+  /**
+   * Tests to ensure that the methods in {@code StaticUtils} that read files
+   * into pooled buffers continue to behave as expected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStaticUtilsReadFile()
+         throws Exception
+  {
+    final File f = createTempFile("line 1", "line 2");
+
+    final ByteStringBufferPool pool = ByteStringBufferPool.getDefaultInstance();
+    for (int i=0; i < 3; i++)
+    {
+      assertEquals(StaticUtils.readFileAsString(f, false),
+           "line 1" + StaticUtils.EOL + "line 2");
+      assertEquals(StaticUtils.readFileBytes(f),
+           StaticUtils.getBytes("line 1" + StaticUtils.EOL + "line 2" +
+                StaticUtils.EOL));
+    }
+
+    assertTrue(pool.getBuffersReused() > 0L);
+  }
+}
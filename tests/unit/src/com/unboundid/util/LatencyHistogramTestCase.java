@@ -0,0 +1,322 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code LatencyHistogram}
+ * class.
+ */
+public class LatencyHistogramTestCase
+       extends UtilTestCase
+{
+  /**
+   * Tests the behavior of an empty histogram.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyHistogram()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+
+    assertEquals(h.getCount(), 0L);
+    assertEquals(h.getTotal(), 0L);
+    assertEquals(h.getMin(), 0L);
+    assertEquals(h.getMax(), 0L);
+    assertTrue(Double.isNaN(h.getMean()));
+    assertEquals(h.getValueAtPercentile(50.0d), 0L);
+    assertEquals(h.getValueAtPercentile(100.0d), 0L);
+    assertEquals(h.getSnapshot().getCount(), 0L);
+    assertEquals(h.getIntervalSnapshot().getCount(), 0L);
+    assertNotNull(h.toString());
+  }
+
+
+
+  /**
+   * Tests that small values are counted exactly and that percentile values
+   * are computed correctly for them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testExactValues()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    for (int i=1; i <= 100; i++)
+    {
+      h.recordValue(i);
+    }
+
+    assertEquals(h.getCount(), 100L);
+    assertEquals(h.getTotal(), 5050L);
+    assertEquals(h.getMin(), 1L);
+    assertEquals(h.getMax(), 100L);
+    assertEquals(h.getMean(), 50.5d);
+
+    assertEquals(h.getValueAtPercentile(0.0d), 1L);
+    assertEquals(h.getValueAtPercentile(50.0d), 50L);
+    assertEquals(h.getValueAtPercentile(90.0d), 90L);
+    assertEquals(h.getValueAtPercentile(99.0d), 99L);
+    assertEquals(h.getValueAtPercentile(99.9d), 100L);
+    assertEquals(h.getValueAtPercentile(100.0d), 100L);
+
+    h.recordValue(-5L);
+    assertEquals(h.getCount(), 101L);
+    assertEquals(h.getMin(), 0L);
+  }
+
+
+
+  /**
+   * Tests that large values are reported within the expected precision.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPrecision()
+         throws Exception
+  {
+    final long[] values =
+    {
+      128L, 129L, 1_000L, 12_345L, 1_000_000L, 987_654_321L,
+      Long.MAX_VALUE / 3L, Long.MAX_VALUE
+    };
+
+    for (final long v : values)
+    {
+      final int octave = LatencyHistogram.getOctave(v);
+      final int subBucket = LatencyHistogram.getSubBucket(v, octave);
+      final long lower =
+           LatencyHistogram.getBucketLowerBound(octave, subBucket);
+      final long upper =
+           LatencyHistogram.getBucketUpperBound(octave, subBucket);
+      assertTrue((lower <= v) && (v <= upper),
+           "Value " + v + " not in [" + lower + ", " + upper + ']');
+      assertTrue(((upper - lower) * 64L) <= lower,
+           "Bucket [" + lower + ", " + upper + "] is too wide");
+    }
+
+    final LatencyHistogram h = new LatencyHistogram();
+    for (int i=0; i < 990; i++)
+    {
+      h.recordValue(1_000_000L);
+    }
+    for (int i=0; i < 10; i++)
+    {
+      h.recordValue(50_000_000L);
+    }
+
+    final long p50 = h.getValueAtPercentile(50.0d);
+    assertTrue((p50 >= 1_000_000L) && (p50 <= 1_016_000L), "p50=" + p50);
+
+    final long p99 = h.getValueAtPercentile(99.0d);
+    assertTrue((p99 >= 1_000_000L) && (p99 <= 1_016_000L), "p99=" + p99);
+
+    assertEquals(h.getValueAtPercentile(99.9d), 50_000_000L);
+    assertEquals(h.getValueAtPercentile(100.0d), 50_000_000L);
+  }
+
+
+
+  /**
+   * Tests the behavior of snapshots, interval snapshots, merging, and
+   * resetting.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSnapshots()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    for (int i=0; i < 10; i++)
+    {
+      h.recordValue(10L);
+    }
+
+    final LatencyHistogram snapshot = h.getSnapshot();
+    final LatencyHistogram firstInterval = h.getIntervalSnapshot();
+    assertEquals(firstInterval.getCount(), 10L);
+
+    for (int i=0; i < 5; i++)
+    {
+      h.recordValue(1_000L);
+    }
+
+    assertEquals(snapshot.getCount(), 10L);
+    assertEquals(snapshot.getMax(), 10L);
+    assertEquals(h.getCount(), 15L);
+
+    final LatencyHistogram secondInterval = h.getIntervalSnapshot();
+    assertEquals(secondInterval.getCount(), 5L);
+    assertEquals(secondInterval.getTotal(), 5_000L);
+    assertEquals(secondInterval.getMin(), 1_000L);
+    assertEquals(secondInterval.getMax(), 1_000L);
+    assertEquals(secondInterval.getValueAtPercentile(1.0d), 1_000L);
+
+    assertEquals(h.getIntervalSnapshot().getCount(), 0L);
+
+    final LatencyHistogram merged = new LatencyHistogram();
+    merged.recordValue(5L);
+    merged.add(h);
+    merged.add(new LatencyHistogram());
+    assertEquals(merged.getCount(), 16L);
+    assertEquals(merged.getTotal(), 5_105L);
+    assertEquals(merged.getMin(), 5L);
+    assertEquals(merged.getMax(), 1_000L);
+
+    h.reset();
+    assertEquals(h.getCount(), 0L);
+    assertEquals(h.getMax(), 0L);
+    assertEquals(h.getValueAtPercentile(99.0d), 0L);
+    assertEquals(merged.getCount(), 16L);
+
+    h.recordValue(20L);
+    assertEquals(h.getIntervalSnapshot().getCount(), 1L);
+  }
+
+
+
+  /**
+   * Tests the behavior of the method used to compute the difference between a
+   * histogram and an earlier snapshot of it.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetDifference()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    h.recordValue(10L);
+    h.recordValue(20L);
+
+    final LatencyHistogram start = h.getSnapshot();
+    assertEquals(h.getDifference(start).getCount(), 0L);
+    assertEquals(h.getDifference(start).getMax(), 0L);
+
+    h.recordValue(500L);
+    h.recordValue(600L);
+
+    final LatencyHistogram difference = h.getDifference(start);
+    assertEquals(difference.getCount(), 2L);
+    assertEquals(difference.getTotal(), 1_100L);
+    assertTrue(difference.getMin() >= 496L);
+    assertTrue(difference.getMin() <= 500L);
+    assertEquals(difference.getMax(), 600L);
+    assertEquals(difference.getValueAtPercentile(100.0d), 600L);
+
+    // Computing a difference must not affect interval snapshots.
+    assertEquals(h.getIntervalSnapshot().getCount(), 4L);
+
+    final LatencyHistogram fromEmpty =
+         h.getDifference(new LatencyHistogram());
+    assertEquals(fromEmpty.getCount(), 4L);
+    assertEquals(fromEmpty.getTotal(), 1_130L);
+
+    h.reset();
+    assertEquals(h.getDifference(start).getCount(), 0L);
+  }
+
+
+
+  /**
+   * Tests that values may be recorded concurrently from multiple threads
+   * without losing any of them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentRecording()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    final List<Thread> threads = new ArrayList<>();
+    for (int i=0; i < 4; i++)
+    {
+      final long base = (i + 1) * 1_000L;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          for (int j=0; j < 10_000; j++)
+          {
+            h.recordValue(base + (j % 100));
+          }
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertEquals(h.getCount(), 40_000L);
+    assertEquals(h.getSnapshot().getCount(), 40_000L);
+    assertEquals(h.getMin(), 1_000L);
+    assertEquals(h.getMax(), 4_099L);
+  }
+
+
+
+  /**
+   * Tests that invalid percentile values are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidPercentile()
+         throws Exception
+  {
+    new LatencyHistogram().getValueAtPercentile(100.1d);
+  }
+}
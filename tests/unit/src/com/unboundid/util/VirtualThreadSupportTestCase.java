@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2020 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2020 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the VirtualThreadSupport class.
+ */
+public class VirtualThreadSupportTestCase
+       extends UtilTestCase
+{
+  /**
+   * Tests the behavior when attempting to start a virtual thread.  If the JVM
+   * supports virtual threads, then the provided task should be run in a new
+   * thread with the given name.  Otherwise, no thread should be created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStartVirtualThread()
+         throws Exception
+  {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final Thread t = VirtualThreadSupport.startVirtualThread("Test Thread",
+         new Runnable()
+         {
+           @Override()
+           public void run()
+           {
+             latch.countDown();
+           }
+         });
+
+    if (VirtualThreadSupport.isSupported())
+    {
+      assertNotNull(t);
+      assertEquals(t.getName(), "Test Thread");
+      assertTrue(latch.await(30L, TimeUnit.SECONDS));
+      t.join();
+    }
+    else
+    {
+      assertNull(t);
+      assertEquals(latch.getCount(), 1L);
+    }
+  }
+}